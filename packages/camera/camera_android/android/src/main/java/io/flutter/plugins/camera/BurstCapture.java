@@ -0,0 +1,255 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tracks the pictures of a burst captured with a single {@code captureBurst} request.
+ *
+ * <p>Images arrive on the camera background thread and are saved on the {@link
+ * ImageSaverExecutor} thread while the remaining images of the burst are still being captured.
+ * Once every picture has been saved, the callback receives the file paths along with the timing of
+ * each frame. Once the burst has completed or failed and none of its pictures is still being saved,
+ * the settled listener is run, after which no more images are accepted. The files of a failed burst
+ * are deleted once it has settled, since their paths are never reported.
+ */
+class BurstCapture {
+  /** The outcome of a burst, with per-frame timings measured from the burst submission. */
+  static class Result {
+    @NonNull private final List<String> paths;
+    @NonNull private final long[] sensorTimestampsNanos;
+    @NonNull private final long[] arrivalNanos;
+    @NonNull private final long[] savedNanos;
+
+    Result(
+        @NonNull List<String> paths,
+        @NonNull long[] sensorTimestampsNanos,
+        @NonNull long[] arrivalNanos,
+        @NonNull long[] savedNanos) {
+      this.paths = paths;
+      this.sensorTimestampsNanos = sensorTimestampsNanos;
+      this.arrivalNanos = arrivalNanos;
+      this.savedNanos = savedNanos;
+    }
+
+    /** Returns the paths of the saved pictures, in capture order. */
+    @NonNull
+    List<String> getPaths() {
+      return paths;
+    }
+
+    /** Returns the sensor timestamp of each frame, in nanoseconds. */
+    @NonNull
+    long[] getSensorTimestampsNanos() {
+      return sensorTimestampsNanos;
+    }
+
+    /** Returns the time at which each image became available, since the burst was submitted. */
+    @NonNull
+    long[] getArrivalNanos() {
+      return arrivalNanos;
+    }
+
+    /** Returns the time at which each picture was saved, since the burst was submitted. */
+    @NonNull
+    long[] getSavedNanos() {
+      return savedNanos;
+    }
+
+    /** Returns the rate at which the sensor captured the frames of the burst. */
+    double getShotsPerSecond() {
+      int count = sensorTimestampsNanos.length;
+      if (count < 2) {
+        return 0;
+      }
+      long duration = sensorTimestampsNanos[count - 1] - sensorTimestampsNanos[0];
+      return duration <= 0 ? 0 : (count - 1) * 1e9 / duration;
+    }
+  }
+
+  /** Receives the outcome of a burst. Called once, on the thread that completes the burst. */
+  interface Callback {
+    void onComplete(@NonNull Result result);
+
+    void onError(@NonNull String errorCode, @NonNull String errorMessage);
+  }
+
+  @NonNull private final List<File> files;
+  @NonNull private final Callback callback;
+  @Nullable private Runnable onSettledListener;
+
+  private final long[] sensorTimestampsNanos;
+  private final long[] arrivalNanos;
+  private final long[] savedNanos;
+  private final String[] paths;
+
+  private long submittedNanos;
+  private int arrivedCount;
+  private int savedCount;
+  private int pendingSaveCount;
+  private boolean finished;
+  private boolean failed;
+  private boolean settled;
+
+  /**
+   * Creates a new instance of the {@link BurstCapture}.
+   *
+   * @param files is the file each picture is saved into, in capture order.
+   * @param callback receives the outcome of the burst.
+   */
+  BurstCapture(@NonNull List<File> files, @NonNull Callback callback) {
+    this.files = files;
+    this.callback = callback;
+    int count = files.size();
+    sensorTimestampsNanos = new long[count];
+    arrivalNanos = new long[count];
+    savedNanos = new long[count];
+    paths = new String[count];
+  }
+
+  /** Returns the number of pictures in the burst. */
+  int getCount() {
+    return files.size();
+  }
+
+  /**
+   * Sets the action to run once the burst has completed or failed and no picture is still being
+   * saved, for instance to release the resources held for the burst.
+   */
+  void setOnSettledListener(@Nullable Runnable onSettledListener) {
+    this.onSettledListener = onSettledListener;
+  }
+
+  /** Marks the moment the burst request was submitted, from which frame timings are measured. */
+  synchronized void onSubmitted() {
+    submittedNanos = System.nanoTime();
+  }
+
+  /**
+   * Records the arrival of the next image of the burst.
+   *
+   * <p>The image must then be saved with the callback returned by {@link #createSaveCallback}.
+   *
+   * @param sensorTimestampNanos is the timestamp of the image.
+   * @return the index of the image in the burst, or -1 if every image has already arrived or the
+   *     burst has failed.
+   */
+  synchronized int onImageArrived(long sensorTimestampNanos) {
+    if (finished || arrivedCount >= files.size()) {
+      return -1;
+    }
+    pendingSaveCount++;
+    int index = arrivedCount++;
+    sensorTimestampsNanos[index] = sensorTimestampNanos;
+    arrivalNanos[index] = System.nanoTime() - submittedNanos;
+    return index;
+  }
+
+  /** Returns the number of images of the burst that have not arrived. */
+  synchronized int getMissingImageCount() {
+    return files.size() - arrivedCount;
+  }
+
+  /** Returns the file the picture at the given index is saved into. */
+  @NonNull
+  File getFile(int index) {
+    return files.get(index);
+  }
+
+  /**
+   * Returns the callback to report the save of the picture at the given index to. Only the first
+   * outcome reported to the callback is taken into account.
+   */
+  @NonNull
+  ImageSaver.Callback createSaveCallback(int index) {
+    return new ImageSaver.Callback() {
+      private boolean reported;
+
+      @Override
+      public void onComplete(@NonNull String absolutePath) {
+        if (!reported) {
+          reported = true;
+          onPictureSaved(index, absolutePath);
+          onSaveSettled();
+        }
+      }
+
+      @Override
+      public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+        if (!reported) {
+          reported = true;
+          fail(errorCode, errorMessage);
+          onSaveSettled();
+        }
+      }
+    };
+  }
+
+  private void onPictureSaved(int index, @NonNull String absolutePath) {
+    Result result = null;
+    synchronized (this) {
+      if (finished) {
+        return;
+      }
+      paths[index] = absolutePath;
+      savedNanos[index] = System.nanoTime() - submittedNanos;
+      savedCount++;
+      if (savedCount == files.size()) {
+        finished = true;
+        List<String> pathList = new ArrayList<>(paths.length);
+        Collections.addAll(pathList, paths);
+        result = new Result(pathList, sensorTimestampsNanos, arrivalNanos, savedNanos);
+      }
+    }
+    if (result != null) {
+      callback.onComplete(result);
+    }
+  }
+
+  /** Fails the burst, unless it has already completed or failed. */
+  void fail(@NonNull String errorCode, @Nullable String errorMessage) {
+    synchronized (this) {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      failed = true;
+    }
+    callback.onError(errorCode, errorMessage == null ? "" : errorMessage);
+    runOnSettledListenerIfSettled();
+  }
+
+  private void onSaveSettled() {
+    synchronized (this) {
+      pendingSaveCount--;
+    }
+    runOnSettledListenerIfSettled();
+  }
+
+  private void runOnSettledListenerIfSettled() {
+    final Runnable listener;
+    synchronized (this) {
+      if (settled || !finished || pendingSaveCount > 0) {
+        return;
+      }
+      settled = true;
+      listener = onSettledListener;
+    }
+    if (failed) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    if (listener != null) {
+      listener.run();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import android.hardware.camera2.CameraCaptureSession;
 import android.hardware.camera2.CameraDevice;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
+import android.hardware.camera2.CaptureFailure;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.TotalCaptureResult;
 import android.hardware.camera2.params.OutputConfiguration;
@@ -57,6 +58,8 @@ import io.flutter.plugins.camera.features.resolution.ResolutionFeature;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamCrop;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
@@ -94,6 +97,23 @@ class Camera
    */
   @VisibleForTesting VideoRenderer videoRenderer;
 
+  /** A renderer kept warm after a recording, reused by the next recording of the same size. */
+  @VisibleForTesting @Nullable VideoRenderer idleVideoRenderer;
+
+  /** How long {@link #idleVideoRenderer} is kept warm before its GL pipeline is released. */
+  @VisibleForTesting static final long IDLE_VIDEO_RENDERER_TIMEOUT_MS = 10000;
+
+  /** Runs {@link #idleVideoRendererTimeout} on the platform thread, created when first needed. */
+  @Nullable private Handler idleVideoRendererHandler;
+
+  private final Runnable idleVideoRendererTimeout = this::closeIdleRenderer;
+
+  /**
+   * The time to the first encoded frame of the last recording routed through a {@link
+   * VideoRenderer}, in nanoseconds, or -1 if unknown.
+   */
+  private long lastTimeToFirstEncodedFrameNanos = -1;
+
   /**
    * Whether or not the camera aligns with the initial way the camera was facing if the camera was
    * flipped.
@@ -115,6 +135,9 @@ class Camera
   /** An additional thread for running tasks that shouldn't block the UI. */
   private HandlerThread backgroundHandlerThread;
 
+  /** Saves still captures off the background thread, so capture callbacks are never delayed. */
+  @VisibleForTesting ImageSaverExecutor imageSaverExecutor;
+
   CameraDeviceWrapper cameraDevice;
   CameraCaptureSession captureSession;
   @VisibleForTesting ImageReader pictureImageReader;
@@ -128,12 +151,50 @@ class Camera
   /** True when the preview is paused. */
   @VisibleForTesting boolean pausedPreview;
 
-  private File captureFile;
+  @VisibleForTesting File captureFile;
+
+  /** Latencies of opening the camera and of switching its capture session. */
+  private final CameraTimings timings = new CameraTimings();
+
+  // The preview starts once the camera device is opened and the image readers are allocated,
+  // which happen concurrently. Guarded by openLock.
+  private final Object openLock = new Object();
+  private boolean isDeviceOpened;
+  private boolean areSurfacesReady;
+  /** Whether the camera device was requested to open, by {@link #open} or {@link #prewarm}. */
+  private boolean isDeviceOpenRequested;
+
+  /**
+   * Whether an image stream was started, after which the image stream surface is kept in the
+   * capture sessions whose stream combination allows it.
+   */
+  @VisibleForTesting boolean hasStartedImageStream;
+  /** Whether the current capture session was configured with the image stream surface. */
+  private boolean sessionKeepsImageStreamSurface;
+  /** The surfaces the current capture session was configured with. */
+  private final List<Surface> sessionSurfaces = new ArrayList<>();
+
+  /** The maximum number of pictures in a burst. */
+  static final int MAX_BURST_SIZE = 8;
+
+  /** The burst being captured, or null when capturing single pictures. */
+  @VisibleForTesting @Nullable BurstCapture burstCapture;
+
+  /** Whether the image stream recycles frame buffers. */
+  private boolean imageStreamFramePoolingEnabled;
+  /** Limits the image stream frames waiting for delivery, or null to not limit them. */
+  @Nullable private ImageStreamDeliveryPolicy imageStreamDeliveryPolicy;
+  /** The region of interest of image stream frames, or null to stream full frames. */
+  @Nullable private ImageStreamCrop imageStreamCrop;
+
+  private int imageStreamConversionThreadCount = 1;
 
   /** Holds the current capture timeouts */
   private CaptureTimeoutsWrapper captureTimeouts;
   /** Holds the last known capture properties */
   private CameraCaptureProperties captureProps;
+  /** Streams the metadata of every frame to Dart while it is listened to. */
+  @VisibleForTesting @Nullable CaptureMetadataStream captureMetadataStream;
 
   Messages.Result<String> flutterResult;
 
@@ -230,10 +291,17 @@ class Camera
     captureTimeouts = new CaptureTimeoutsWrapper(3000, 3000);
     captureProps = new CameraCaptureProperties();
     cameraCaptureCallback = CameraCaptureCallback.create(this, captureTimeouts, captureProps);
+    imageSaverExecutor = createImageSaverExecutor();
 
     startBackgroundThread();
   }
 
+  @NonNull
+  private static ImageSaverExecutor createImageSaverExecutor() {
+    // Leave room for a whole burst while single pictures are still being saved.
+    return ImageSaverExecutor.create(ImageSaverExecutor.DEFAULT_MAX_QUEUED_SAVES + MAX_BURST_SIZE);
+  }
+
   @Override
   public void onConverged() {
     takePictureAfterPrecapture();
@@ -265,6 +333,7 @@ class Camera
       mediaRecorder.release();
     }
     closeRenderer();
+    lastTimeToFirstEncodedFrameNanos = -1;
 
     final PlatformChannel.DeviceOrientation lockedOrientation =
         cameraFeatures.getSensorOrientation().getLockedCaptureOrientation();
@@ -349,13 +418,20 @@ class Camera
       return;
     }
 
-    // Always capture using JPEG format.
-    pictureImageReader =
-        ImageReader.newInstance(
-            resolutionFeature.getCaptureSize().getWidth(),
-            resolutionFeature.getCaptureSize().getHeight(),
-            ImageFormat.JPEG,
-            1);
+    // Closing the camera stops the background thread and the picture saver, so start them again
+    // before the device callbacks and the preview need them.
+    startBackgroundThread();
+    if (imageSaverExecutor.isShutdown()) {
+      imageSaverExecutor = createImageSaverExecutor();
+    }
+
+    // Open the camera first, so the camera service opens the device while the image readers are
+    // being allocated. The preview starts once both are ready.
+    if (!isDeviceOpenRequested) {
+      openCameraDevice(false);
+    }
+
+    allocatePictureImageReader();
 
     imageStreamReader =
         new ImageStreamReader(
@@ -363,8 +439,60 @@ class Camera
             resolutionFeature.getPreviewSize().getHeight(),
             this.imageFormatGroup,
             1);
+    applyImageStreamOptions(imageStreamReader);
+
+    timings.onSurfacesReady();
+    synchronized (openLock) {
+      areSurfacesReady = true;
+    }
+    // The device may already be open, for instance by prewarm. Start the preview on the background
+    // thread like when the device opens, rather than on the platform thread.
+    backgroundHandler.post(this::startPreviewOnceOpened);
+  }
+
+  /**
+   * Opens the camera device and allocates the still capture surface ahead of {@link #open}, while
+   * Dart waits for the camera to be created before initializing it.
+   *
+   * <p>{@link #open} then only needs to allocate the image stream surface before starting the
+   * preview. The latencies of both steps are reported by {@link #getTimings()}.
+   */
+  public void prewarm() throws CameraAccessException {
+    if (isDeviceOpenRequested || !cameraFeatures.getResolution().checkIsSupported()) {
+      return;
+    }
+    openCameraDevice(true);
+    allocatePictureImageReader();
+  }
+
+  /** Returns the latencies of opening this camera and of switching its capture session. */
+  @NonNull
+  public CameraTimings getTimings() {
+    return timings;
+  }
+
+  private void allocatePictureImageReader() {
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    final int width = resolutionFeature.getCaptureSize().getWidth();
+    final int height = resolutionFeature.getCaptureSize().getHeight();
+    if (pictureImageReader != null
+        && pictureImageReader.getWidth() == width
+        && pictureImageReader.getHeight() == height) {
+      return;
+    }
+    if (pictureImageReader != null) {
+      pictureImageReader.close();
+    }
+
+    // Always capture using JPEG format, with room for every picture of a burst, so that bursts are
+    // captured in the current session while the previous pictures are still being saved.
+    pictureImageReader = ImageReader.newInstance(width, height, ImageFormat.JPEG, MAX_BURST_SIZE);
+  }
+
+  private void openCameraDevice(boolean isPrewarm) throws CameraAccessException {
+    isDeviceOpenRequested = true;
+    timings.onOpenRequested(isPrewarm);
 
-    // Open the camera.
     CameraManager cameraManager = CameraUtils.getCameraManager(activity);
     cameraManager.openCamera(
         cameraProperties.getCameraName(),
@@ -372,31 +500,11 @@ class Camera
           @Override
           public void onOpened(@NonNull CameraDevice device) {
             cameraDevice = new DefaultCameraDeviceWrapper(device);
-            try {
-              // only send initialization if we werent already recording and switching cameras
-              Runnable onSuccess =
-                  recordingVideo
-                      ? null
-                      : () ->
-                          dartMessenger.sendCameraInitializedEvent(
-                              resolutionFeature.getPreviewSize().getWidth(),
-                              resolutionFeature.getPreviewSize().getHeight(),
-                              cameraFeatures.getExposureLock().getValue(),
-                              cameraFeatures.getAutoFocus().getValue(),
-                              cameraFeatures.getExposurePoint().checkIsSupported(),
-                              cameraFeatures.getFocusPoint().checkIsSupported());
-              startPreview(onSuccess);
-            } catch (Exception e) {
-              String message =
-                  (e.getMessage() == null)
-                      ? (e.getClass().getName() + " occurred while opening camera.")
-                      : e.getMessage();
-              if (BuildConfig.DEBUG) {
-                Log.i(TAG, "open | onOpened error: " + message);
-              }
-              dartMessenger.sendCameraErrorEvent(message);
-              close();
+            timings.onDeviceOpened();
+            synchronized (openLock) {
+              isDeviceOpened = true;
             }
+            startPreviewOnceOpened();
           }
 
           @Override
@@ -449,6 +557,45 @@ class Camera
         backgroundHandler);
   }
 
+  /** Starts the preview once both the camera device and the image readers are ready. */
+  private void startPreviewOnceOpened() {
+    synchronized (openLock) {
+      if (!isDeviceOpened || !areSurfacesReady) {
+        return;
+      }
+      areSurfacesReady = false;
+    }
+
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    try {
+      // only send initialization if we werent already recording and switching cameras
+      Runnable onSuccess =
+          recordingVideo
+              ? timings::onPreviewStarted
+              : () -> {
+                timings.onPreviewStarted();
+                dartMessenger.sendCameraInitializedEvent(
+                    resolutionFeature.getPreviewSize().getWidth(),
+                    resolutionFeature.getPreviewSize().getHeight(),
+                    cameraFeatures.getExposureLock().getValue(),
+                    cameraFeatures.getAutoFocus().getValue(),
+                    cameraFeatures.getExposurePoint().checkIsSupported(),
+                    cameraFeatures.getFocusPoint().checkIsSupported());
+              };
+      startPreview(onSuccess);
+    } catch (Exception e) {
+      String message =
+          (e.getMessage() == null)
+              ? (e.getClass().getName() + " occurred while opening camera.")
+              : e.getMessage();
+      if (BuildConfig.DEBUG) {
+        Log.i(TAG, "open | onOpened error: " + message);
+      }
+      dartMessenger.sendCameraErrorEvent(message);
+      close();
+    }
+  }
+
   @VisibleForTesting
   void createCaptureSession(int templateType, Surface... surfaces) throws CameraAccessException {
     createCaptureSession(templateType, null, surfaces);
@@ -457,8 +604,17 @@ class Camera
   private void createCaptureSession(
       int templateType, Runnable onSuccessCallback, Surface... surfaces)
       throws CameraAccessException {
+    final long switchStartNanos = System.nanoTime();
+    List<Surface> remainingSurfaces = Arrays.asList(surfaces);
+    if (canReuseCaptureSession(remainingSurfaces)) {
+      reuseCaptureSession(templateType, onSuccessCallback, remainingSurfaces, switchStartNanos);
+      return;
+    }
+
     // Close any existing capture session.
     captureSession = null;
+    sessionSurfaces.clear();
+    sessionKeepsImageStreamSurface = false;
 
     // Create a new capture builder.
     previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
@@ -470,27 +626,16 @@ class Camera
         resolutionFeature.getPreviewSize().getWidth(),
         resolutionFeature.getPreviewSize().getHeight());
     Surface flutterSurface = new Surface(surfaceTexture);
-    previewRequestBuilder.addTarget(flutterSurface);
-
-    List<Surface> remainingSurfaces = Arrays.asList(surfaces);
-    if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
-      // If it is not preview mode, add all surfaces as targets
-      // except the surface used for still capture as this should
-      // not be part of a repeating request.
-      Surface pictureImageReaderSurface = pictureImageReader.getSurface();
-      for (Surface surface : remainingSurfaces) {
-        if (surface == pictureImageReaderSurface) {
-          continue;
-        }
-        previewRequestBuilder.addTarget(surface);
-      }
-    }
-
-    // Update camera regions.
-    Size cameraBoundaries =
-        CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
-    cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
-    cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
+    addCaptureTargets(templateType, flutterSurface, remainingSurfaces);
+
+    // Report the switch once the new session sends its first request.
+    final Runnable timedOnSuccessCallback =
+        () -> {
+          timings.onSessionSwitched(switchStartNanos, false);
+          if (onSuccessCallback != null) {
+            onSuccessCallback.run();
+          }
+        };
 
     // Prepare the callback.
     CameraCaptureSession.StateCallback callback =
@@ -511,7 +656,8 @@ class Camera
             updateBuilderSettings(previewRequestBuilder);
 
             refreshPreviewCaptureSession(
-                onSuccessCallback, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+                timedOnSuccessCallback,
+                (code, message) -> dartMessenger.sendCameraErrorEvent(message));
           }
 
           @Override
@@ -530,11 +676,23 @@ class Camera
     // Start the session.
     if (SdkCapabilityChecker.supportsSessionConfiguration()) {
       // Collect all surfaces to render to.
+      List<Surface> outputSurfaces = new ArrayList<>();
+      outputSurfaces.add(flutterSurface);
+      outputSurfaces.addAll(remainingSurfaces);
+      // Keep the image stream surface in the session, without targeting it, so the image stream
+      // can later be started and stopped without re-creating the session.
+      if (canKeepImageStreamSurface(remainingSurfaces)) {
+        Surface imageStreamSurface = imageStreamReader.getSurface();
+        if (!containsSurface(remainingSurfaces, imageStreamSurface)) {
+          outputSurfaces.add(imageStreamSurface);
+        }
+        sessionKeepsImageStreamSurface = true;
+      }
       List<OutputConfiguration> configs = new ArrayList<>();
-      configs.add(new OutputConfiguration(flutterSurface));
-      for (Surface surface : remainingSurfaces) {
+      for (Surface surface : outputSurfaces) {
         configs.add(new OutputConfiguration(surface));
       }
+      sessionSurfaces.addAll(outputSurfaces);
       createCaptureSessionWithSessionConfig(configs, callback);
     } else {
       // Collect all surfaces to render to.
@@ -545,6 +703,107 @@ class Camera
     }
   }
 
+  /**
+   * Adds the Flutter surface and, unless previewing, all other surfaces except the still capture
+   * one as targets of {@link #previewRequestBuilder}, and updates the camera regions.
+   */
+  private void addCaptureTargets(
+      int templateType, @NonNull Surface flutterSurface, @NonNull List<Surface> surfaces) {
+    previewRequestBuilder.addTarget(flutterSurface);
+
+    if (templateType != CameraDevice.TEMPLATE_PREVIEW) {
+      // If it is not preview mode, add all surfaces as targets
+      // except the surface used for still capture as this should
+      // not be part of a repeating request.
+      Surface pictureImageReaderSurface = pictureImageReader.getSurface();
+      for (Surface surface : surfaces) {
+        if (surface == pictureImageReaderSurface) {
+          continue;
+        }
+        previewRequestBuilder.addTarget(surface);
+      }
+    }
+
+    // Update camera regions.
+    Size cameraBoundaries =
+        CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
+    cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
+    cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
+  }
+
+  /**
+   * Returns whether the image stream surface can be kept in a session with the given surfaces,
+   * besides the Flutter surface.
+   *
+   * <p>Only sessions with at most the still capture and image stream surfaces keep it. A preview, a
+   * YUV stream of at most the preview size and a JPEG still capture form a stream combination that
+   * every hardware level guarantees, while a recording surface or a second JPEG stream would
+   * exceed what LIMITED devices support. LEGACY devices, which emulate sessions on top of the
+   * deprecated camera API, always re-create their sessions.
+   */
+  private boolean canKeepImageStreamSurface(@NonNull List<Surface> surfaces) {
+    if (!hasStartedImageStream
+        || imageStreamReader == null
+        || imageFormatGroup == ImageFormat.JPEG
+        || cameraProperties.getHardwareLevel()
+            == CameraMetadata.INFO_SUPPORTED_HARDWARE_LEVEL_LEGACY) {
+      return false;
+    }
+    Surface imageStreamSurface = imageStreamReader.getSurface();
+    Surface pictureSurface = pictureImageReader == null ? null : pictureImageReader.getSurface();
+    for (Surface surface : surfaces) {
+      if (surface != imageStreamSurface && surface != pictureSurface) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns whether the current session was configured with all the given surfaces. */
+  private boolean canReuseCaptureSession(@NonNull List<Surface> surfaces) {
+    if (!sessionKeepsImageStreamSurface || captureSession == null || sessionSurfaces.isEmpty()) {
+      return false;
+    }
+    for (Surface surface : surfaces) {
+      if (!containsSurface(sessionSurfaces, surface)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Switches the current session to new targets by only replacing its repeating request. */
+  private void reuseCaptureSession(
+      int templateType,
+      @Nullable Runnable onSuccessCallback,
+      @NonNull List<Surface> surfaces,
+      long switchStartNanos)
+      throws CameraAccessException {
+    Log.i(TAG, "Reusing CameraCaptureSession");
+    previewRequestBuilder = cameraDevice.createCaptureRequest(templateType);
+    // The Flutter surface is always the first surface of the session.
+    addCaptureTargets(templateType, sessionSurfaces.get(0), surfaces);
+    updateBuilderSettings(previewRequestBuilder);
+
+    refreshPreviewCaptureSession(
+        () -> {
+          timings.onSessionSwitched(switchStartNanos, true);
+          if (onSuccessCallback != null) {
+            onSuccessCallback.run();
+          }
+        },
+        (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+  }
+
+  private static boolean containsSurface(@NonNull List<Surface> surfaces, Surface surface) {
+    for (Surface candidate : surfaces) {
+      if (candidate == surface) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @SuppressLint("UseRequiresApi")
   @TargetApi(VERSION_CODES.P)
   private void createCaptureSessionWithSessionConfig(
@@ -638,6 +897,91 @@ class Camera
     // Listen for picture being taken.
     pictureImageReader.setOnImageAvailableListener(this, backgroundHandler);
 
+    runStillCaptureSequence();
+  }
+
+  /**
+   * Captures a burst of still pictures with a single precapture sequence.
+   *
+   * <p>All pictures are requested at once through {@link CameraCaptureSession#captureBurst} on the
+   * still capture surface of the current session, and each one is saved while the remaining ones
+   * are still being captured. Room is reserved in the save queue for the whole burst up front. If
+   * the burst fails, the pictures already saved are deleted.
+   *
+   * @param count is the number of pictures, between 1 and {@link #MAX_BURST_SIZE}.
+   * @param result receives the paths of the pictures and the timing of each frame.
+   */
+  public void takePictureBurst(
+      int count, @NonNull final Messages.Result<Messages.PlatformBurstCaptureResult> result) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
+      result.error(
+          new Messages.FlutterError(
+              "captureAlreadyActive", "Picture is currently already being captured", null));
+      return;
+    }
+    if (count < 1 || count > MAX_BURST_SIZE) {
+      result.error(
+          new Messages.FlutterError(
+              "invalidBurstSize",
+              String.format(
+                  Locale.ENGLISH, "Burst size should be between 1 and %d.", MAX_BURST_SIZE),
+              null));
+      return;
+    }
+    if (!imageSaverExecutor.reserve(count)) {
+      result.error(
+          new Messages.FlutterError(
+              "saveQueueFull", "Too many pictures are waiting to be saved.", null));
+      return;
+    }
+
+    // Create temporary files.
+    final File outputDir = applicationContext.getCacheDir();
+    final List<File> files = new ArrayList<>();
+    try {
+      for (int i = 0; i < count; i++) {
+        files.add(File.createTempFile("CAP", ".jpg", outputDir));
+      }
+      captureTimeouts.reset();
+    } catch (IOException | SecurityException e) {
+      for (File file : files) {
+        file.delete();
+      }
+      imageSaverExecutor.release(count);
+      dartMessenger.error(result, "cannotCreateFile", e.getMessage(), null);
+      return;
+    }
+
+    final BurstCapture burst =
+        new BurstCapture(
+            files,
+            new BurstCapture.Callback() {
+              @Override
+              public void onComplete(@NonNull BurstCapture.Result burstResult) {
+                if (BuildConfig.DEBUG) {
+                  Log.d(TAG, "Burst captured at " + burstResult.getShotsPerSecond() + " shots/s");
+                }
+                dartMessenger.finish(result, CameraUtils.burstCaptureResultToPigeon(burstResult));
+              }
+
+              @Override
+              public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+                dartMessenger.error(result, errorCode, errorMessage, null);
+              }
+            });
+    // Give back the saves of the pictures that never arrived once the burst has settled.
+    burst.setOnSettledListener(() -> imageSaverExecutor.release(burst.getMissingImageCount()));
+    burstCapture = burst;
+
+    // Listen for the pictures of the burst being taken.
+    pictureImageReader.setOnImageAvailableListener(
+        imageReader -> onBurstImageAvailable(imageReader, burst), backgroundHandler);
+
+    runStillCaptureSequence();
+  }
+
+  /** Runs autofocus, if needed, and the precapture sequence before capturing still pictures. */
+  private void runStillCaptureSequence() {
     final AutoFocusFeature autoFocusFeature = cameraFeatures.getAutoFocus();
     final boolean isAutoFocusSupported = autoFocusFeature.checkIsSupported();
     if (isAutoFocusSupported && autoFocusFeature.getValue() == FocusMode.auto) {
@@ -647,6 +991,17 @@ class Camera
     }
   }
 
+  /** Reports a still capture error to the pending burst, or to the pending picture. */
+  private void sendStillCaptureError(@NonNull String errorCode, @Nullable String errorMessage) {
+    final BurstCapture burst = burstCapture;
+    if (burst != null) {
+      burst.fail(errorCode, errorMessage);
+      finishBurst(burst);
+    } else {
+      dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+    }
+  }
+
   /**
    * Run the precapture sequence for capturing a still image. This method should be called when a
    * response is received in {@link #cameraCaptureCallback} from lockFocus().
@@ -664,7 +1019,7 @@ class Camera
       // Repeating request to refresh preview session.
       refreshPreviewCaptureSession(
           null,
-          (code, message) -> dartMessenger.error(flutterResult, "cameraAccess", message, null));
+          (code, message) -> sendStillCaptureError("cameraAccess", message));
 
       // Start precapture.
       cameraCaptureCallback.setCameraState(CameraState.STATE_WAITING_PRECAPTURE_START);
@@ -698,9 +1053,10 @@ class Camera
     try {
       stillBuilder = cameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
     } catch (CameraAccessException e) {
-      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+      sendStillCaptureError("cameraAccess", e.getMessage());
       return;
     }
+    final BurstCapture burst = burstCapture;
     stillBuilder.addTarget(pictureImageReader.getSurface());
 
     // Zoom.
@@ -720,6 +1076,11 @@ class Camera
             ? getDeviceOrientationManager().getPhotoOrientation()
             : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation));
 
+    if (burst != null) {
+      captureBurst(stillBuilder.build(), burst);
+      return;
+    }
+
     CameraCaptureSession.CaptureCallback captureCallback =
         new CameraCaptureSession.CaptureCallback() {
           @Override
@@ -739,6 +1100,62 @@ class Camera
     }
   }
 
+  /** Submits every picture of a burst in a single request, reusing the precapture results. */
+  private void captureBurst(@NonNull CaptureRequest stillRequest, @NonNull BurstCapture burst) {
+    List<CaptureRequest> requests = new ArrayList<>();
+    for (int i = 0; i < burst.getCount(); i++) {
+      requests.add(stillRequest);
+    }
+
+    CameraCaptureSession.CaptureCallback captureCallback =
+        new CameraCaptureSession.CaptureCallback() {
+          @Override
+          public void onCaptureFailed(
+              @NonNull CameraCaptureSession session,
+              @NonNull CaptureRequest request,
+              @NonNull CaptureFailure failure) {
+            // The remaining pictures of the sequence are still captured, so the burst only finishes
+            // with the sequence.
+            burst.fail(
+                "captureFailure",
+                "A picture of the burst failed with reason " + failure.getReason() + ".");
+          }
+
+          @Override
+          public void onCaptureSequenceCompleted(
+              @NonNull CameraCaptureSession session, int sequenceId, long frameNumber) {
+            finishBurst(burst);
+          }
+
+          @Override
+          public void onCaptureSequenceAborted(
+              @NonNull CameraCaptureSession session, int sequenceId) {
+            sendStillCaptureError("captureAborted", "The burst capture was aborted.");
+          }
+        };
+
+    try {
+      Log.i(TAG, "sending burst capture request");
+      burst.onSubmitted();
+      captureSession.captureBurst(requests, captureCallback, backgroundHandler);
+    } catch (CameraAccessException e) {
+      sendStillCaptureError("cameraAccess", e.getMessage());
+    }
+  }
+
+  /**
+   * Accepts new pictures once the capture sequence of a burst has ended. Images of the burst still
+   * arriving are saved meanwhile.
+   */
+  private void finishBurst(@NonNull BurstCapture burst) {
+    if (burstCapture != burst) {
+      return;
+    }
+    burstCapture = null;
+    unlockAutoFocus();
+    cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
+  }
+
   @SuppressWarnings("deprecation")
   private Display getDefaultDisplay() {
     return activity.getWindowManager().getDefaultDisplay();
@@ -850,11 +1267,45 @@ class Camera
 
   private void closeRenderer() {
     if (videoRenderer != null) {
-      videoRenderer.close();
+      lastTimeToFirstEncodedFrameNanos = videoRenderer.getTimeToFirstEncodedFrameNanos();
+      // Keep the GL pipeline warm for the next recording for a while. The render thread releases
+      // the encoder surface before rendering another frame, so there is no need to wait for it.
+      closeIdleRenderer();
+      idleVideoRenderer = videoRenderer;
+      getIdleVideoRendererHandler()
+          .postDelayed(idleVideoRendererTimeout, IDLE_VIDEO_RENDERER_TIMEOUT_MS);
+      videoRenderer.detachOutputSurface(
+          () -> {
+            if (BuildConfig.DEBUG) {
+              Log.d(TAG, "Video renderer released the encoder surface");
+            }
+          });
       videoRenderer = null;
     }
   }
 
+  @NonNull
+  private Handler getIdleVideoRendererHandler() {
+    if (idleVideoRendererHandler == null) {
+      idleVideoRendererHandler = HandlerFactory.create(Looper.getMainLooper());
+    }
+    return idleVideoRendererHandler;
+  }
+
+  private void cancelIdleVideoRendererTimeout() {
+    if (idleVideoRendererHandler != null) {
+      idleVideoRendererHandler.removeCallbacks(idleVideoRendererTimeout);
+    }
+  }
+
+  private void closeIdleRenderer() {
+    cancelIdleVideoRendererTimeout();
+    if (idleVideoRenderer != null) {
+      idleVideoRenderer.close();
+      idleVideoRenderer = null;
+    }
+  }
+
   public String stopVideoRecording() {
     if (!recordingVideo) {
       return "";
@@ -1068,6 +1519,12 @@ class Camera
                     "setExposureOffsetFailed", "Could not set exposure offset.", null)));
   }
 
+  /** Returns the queue depth and latency statistics of the pictures saved by this camera. */
+  @NonNull
+  public Messages.PlatformPictureSaveStatistics getPictureSaveStatistics() {
+    return imageSaverExecutor.getStatistics();
+  }
+
   public float getMaxZoomLevel() {
     return cameraFeatures.getZoomLevel().getMaximumZoomLevel();
   }
@@ -1221,6 +1678,7 @@ class Camera
     setStreamHandler(imageStreamChannel);
 
     startCapture(false, true);
+    hasStartedImageStream = true;
     Log.i(TAG, "startPreviewWithImageStream");
   }
 
@@ -1232,30 +1690,47 @@ class Camera
   public void onImageAvailable(ImageReader reader) {
     Log.i(TAG, "onImageAvailable");
 
-    // Use acquireNextImage since image reader is only for one image.
+    // Use acquireNextImage since each callback is for a single new image.
     Image image = reader.acquireNextImage();
     if (image == null) {
       return;
     }
 
-    backgroundHandler.post(
-        new ImageSaver(
-            image,
-            captureFile,
-            new ImageSaver.Callback() {
-              @Override
-              public void onComplete(@NonNull String absolutePath) {
-                dartMessenger.finish(flutterResult, absolutePath);
-              }
+    // The next picture may be taken before this one is saved, so keep hold of its result.
+    final Messages.Result<String> pictureResult = flutterResult;
+    imageSaverExecutor.submit(
+        image,
+        captureFile,
+        new ImageSaver.Callback() {
+          @Override
+          public void onComplete(@NonNull String absolutePath) {
+            dartMessenger.finish(pictureResult, absolutePath);
+          }
 
-              @Override
-              public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
-                dartMessenger.error(flutterResult, errorCode, errorMessage, null);
-              }
-            }));
+          @Override
+          public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+            dartMessenger.error(pictureResult, errorCode, errorMessage, null);
+          }
+        });
     cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
+  /** Saves an image of a burst, in one of the saves reserved for the burst. */
+  private void onBurstImageAvailable(@NonNull ImageReader reader, @NonNull BurstCapture burst) {
+    Image image = reader.acquireNextImage();
+    if (image == null) {
+      return;
+    }
+
+    int index = burst.onImageArrived(image.getTimestamp());
+    if (index < 0) {
+      image.close();
+      return;
+    }
+    imageSaverExecutor.submitReserved(
+        image, burst.getFile(index), burst.createSaveCallback(index));
+  }
+
   @VisibleForTesting
   void prepareRecording() {
     final File outputDir = applicationContext.getCacheDir();
@@ -1278,6 +1753,43 @@ class Camera
     setFpsCameraFeatureForRecording(cameraProperties);
   }
 
+  /**
+   * Sets how frames are streamed to Dart by the image stream.
+   *
+   * <p>The options apply to the current image stream reader and to the readers created when the
+   * camera is opened again.
+   */
+  public void setImageStreamOptions(@NonNull Messages.PlatformImageStreamOptions options) {
+    final ImageStreamDeliveryPolicy deliveryPolicy;
+    final ImageStreamCrop crop;
+    final int conversionThreadCount;
+    try {
+      deliveryPolicy =
+          CameraUtils.imageStreamDeliveryPolicyFromPigeon(options.getMaxFramesInFlight());
+      final Messages.PlatformImageStreamCrop pigeonCrop = options.getCrop();
+      crop = pigeonCrop == null ? null : CameraUtils.imageStreamCropFromPigeon(pigeonCrop);
+      conversionThreadCount =
+          CameraUtils.imageStreamConversionThreadCountFromPigeon(
+              options.getConversionThreadCount());
+    } catch (IllegalArgumentException e) {
+      throw new Messages.FlutterError("invalidImageStreamOptions", e.getMessage(), null);
+    }
+    imageStreamFramePoolingEnabled = options.getEnableFramePooling();
+    imageStreamDeliveryPolicy = deliveryPolicy;
+    imageStreamCrop = crop;
+    imageStreamConversionThreadCount = conversionThreadCount;
+    if (imageStreamReader != null) {
+      applyImageStreamOptions(imageStreamReader);
+    }
+  }
+
+  private void applyImageStreamOptions(@NonNull ImageStreamReader reader) {
+    reader.setFramePoolingEnabled(imageStreamFramePoolingEnabled);
+    reader.setDeliveryPolicy(imageStreamDeliveryPolicy);
+    reader.setCrop(imageStreamCrop);
+    reader.setConversionThreadCount(imageStreamConversionThreadCount);
+  }
+
   private void setStreamHandler(EventChannel imageStreamChannel) {
     imageStreamChannel.setStreamHandler(
         new EventChannel.StreamHandler() {
@@ -1297,6 +1809,45 @@ class Camera
         });
   }
 
+  /**
+   * Sends the metadata of every captured frame to Dart until {@link #stopCaptureMetadataStream} is
+   * called.
+   *
+   * @param flushIntervalMillis is the interval between two batches of metadata.
+   */
+  public void startCaptureMetadataStream(long flushIntervalMillis) {
+    stopCaptureMetadataStream();
+    // Keep the results of the highest frame rate the camera can stream between two batches.
+    int capacity = CaptureMetadataStream.capacityFor(flushIntervalMillis, getMaxTargetFps());
+    captureMetadataStream =
+        new CaptureMetadataStream(
+            new Handler(Looper.getMainLooper()), flushIntervalMillis, capacity);
+    captureMetadataStream.start(dartMessenger);
+    cameraCaptureCallback.setCaptureMetadataStream(captureMetadataStream);
+  }
+
+  private int getMaxTargetFps() {
+    final Range<Integer>[] ranges =
+        cameraProperties.getControlAutoExposureAvailableTargetFpsRanges();
+    int maxFps = 0;
+    if (ranges != null) {
+      for (Range<Integer> range : ranges) {
+        maxFps = Math.max(maxFps, range.getUpper());
+      }
+    }
+    return maxFps;
+  }
+
+  /** Stops sending capture metadata to Dart. */
+  public void stopCaptureMetadataStream() {
+    if (captureMetadataStream == null) {
+      return;
+    }
+    cameraCaptureCallback.setCaptureMetadataStream(null);
+    captureMetadataStream.stop();
+    captureMetadataStream = null;
+  }
+
   void setImageStreamImageAvailableListener(final EventChannel.EventSink imageStreamSink) {
     if (imageStreamReader == null) {
       return;
@@ -1317,6 +1868,8 @@ class Camera
   public void close() {
     Log.i(TAG, "close");
 
+    // The stream holds the event sink of this camera, which is replaced when a camera is created.
+    stopCaptureMetadataStream();
     stopAndReleaseCamera();
 
     if (pictureImageReader != null) {
@@ -1332,11 +1885,22 @@ class Camera
       mediaRecorder.release();
       mediaRecorder = null;
     }
+    closeIdleRenderer();
+    if (burstCapture != null) {
+      burstCapture.fail("cameraClosed", "The camera was closed during a burst capture.");
+      burstCapture = null;
+    }
 
+    imageSaverExecutor.shutdown();
     stopBackgroundThread();
   }
 
   private void stopAndReleaseCamera() {
+    synchronized (openLock) {
+      isDeviceOpened = false;
+      areSurfacesReady = false;
+    }
+    isDeviceOpenRequested = false;
     if (cameraDevice != null) {
       cameraDevice.close();
       cameraDevice = null;
@@ -1364,12 +1928,36 @@ class Camera
           }
         };
 
+    final int width = resolutionFeature.getCaptureSize().getWidth();
+    final int height = resolutionFeature.getCaptureSize().getHeight();
+    final VideoRenderer idleRenderer = idleVideoRenderer;
+    idleVideoRenderer = null;
+    if (idleRenderer != null) {
+      cancelIdleVideoRendererTimeout();
+      // A renderer that has not released the previous encoder surface yet may be stuck.
+      if (idleRenderer.hasRecordingSize(width, height)
+          && !idleRenderer.isOutputSurfaceSwapPending()) {
+        idleRenderer.attachOutputSurface(mediaRecorder.getSurface(), null);
+        videoRenderer = idleRenderer;
+        return;
+      }
+      idleRenderer.close();
+    }
+
     videoRenderer =
         new VideoRenderer(
-            mediaRecorder.getSurface(),
-            resolutionFeature.getCaptureSize().getWidth(),
-            resolutionFeature.getCaptureSize().getHeight(),
-            videoRendererUncaughtExceptionHandler);
+            mediaRecorder.getSurface(), width, height, videoRendererUncaughtExceptionHandler);
+  }
+
+  /**
+   * Returns the time it took for the first frame of the current or last recording routed through a
+   * {@link VideoRenderer} to be rendered onto the encoder surface, in nanoseconds, or -1 if
+   * unknown.
+   */
+  public long getTimeToFirstEncodedFrameNanos() {
+    return videoRenderer != null
+        ? videoRenderer.getTimeToFirstEncodedFrameNanos()
+        : lastTimeToFirstEncodedFrameNanos;
   }
 
   public void setDescriptionWhileRecording(CameraProperties properties) {
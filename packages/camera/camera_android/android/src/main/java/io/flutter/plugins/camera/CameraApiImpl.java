@@ -64,7 +64,7 @@ final class CameraApiImpl implements Messages.CameraApi {
             new Messages.CameraGlobalEventApi(messenger),
             new Messages.CameraEventApi(messenger, String.valueOf(cameraId)));
     CameraProperties cameraProperties =
-        new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity));
+        CameraUtils.getCameraCharacteristicsCache(activity).getCameraProperties(cameraName);
     Integer fps = (settings.getFps() == null) ? null : settings.getFps().intValue();
     Integer videoBitrate =
         (settings.getVideoBitrate() == null) ? null : settings.getVideoBitrate().intValue();
@@ -82,6 +82,8 @@ final class CameraApiImpl implements Messages.CameraApi {
             cameraProperties,
             new Camera.VideoCaptureSettings(
                 resolutionPreset, settings.getEnableAudio(), fps, videoBitrate, audioBitrate));
+    // Open the camera device while Dart waits for the camera to be created before initializing it.
+    camera.prewarm();
 
     return flutterSurfaceTexture.id();
   }
@@ -172,6 +174,12 @@ final class CameraApiImpl implements Messages.CameraApi {
     camera.takePicture(result);
   }
 
+  @Override
+  public void takePictureBurst(
+      @NonNull Long count, @NonNull Messages.Result<Messages.PlatformBurstCaptureResult> result) {
+    camera.takePictureBurst(count.intValue(), result);
+  }
+
   @Override
   public void startVideoRecording(@NonNull Boolean enableStream) {
     camera.startVideoRecording(enableStream ? imageStreamChannel : null);
@@ -183,6 +191,13 @@ final class CameraApiImpl implements Messages.CameraApi {
     return camera.stopVideoRecording();
   }
 
+  @Nullable
+  @Override
+  public Long getTimeToFirstEncodedFrameMicros() {
+    long timeToFirstEncodedFrameNanos = camera.getTimeToFirstEncodedFrameNanos();
+    return timeToFirstEncodedFrameNanos < 0 ? null : timeToFirstEncodedFrameNanos / 1000;
+  }
+
   @Override
   public void pauseVideoRecording() {
     camera.pauseVideoRecording();
@@ -286,6 +301,11 @@ final class CameraApiImpl implements Messages.CameraApi {
     }
   }
 
+  @Override
+  public void setImageStreamOptions(@NonNull Messages.PlatformImageStreamOptions options) {
+    camera.setImageStreamOptions(options);
+  }
+
   @NonNull
   @Override
   public Double getMaxZoomLevel() {
@@ -335,12 +355,38 @@ final class CameraApiImpl implements Messages.CameraApi {
   public void setDescriptionWhileRecording(@NonNull String cameraName) {
     try {
       camera.setDescriptionWhileRecording(
-          new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity)));
+          CameraUtils.getCameraCharacteristicsCache(activity).getCameraProperties(cameraName));
     } catch (CameraAccessException e) {
       throw new Messages.FlutterError("CameraAccessException", e.getMessage(), null);
     }
   }
 
+  @NonNull
+  @Override
+  public Messages.PlatformPictureSaveStatistics getPictureSaveStatistics() {
+    assert camera != null;
+    return camera.getPictureSaveStatistics();
+  }
+
+  @NonNull
+  @Override
+  public Messages.PlatformCameraTimings getCameraTimings() {
+    assert camera != null;
+    return CameraUtils.cameraTimingsToPigeon(camera.getTimings());
+  }
+
+  @Override
+  public void startCaptureMetadataStream(@NonNull Long flushIntervalMillis) {
+    assert camera != null;
+    camera.startCaptureMetadataStream(flushIntervalMillis);
+  }
+
+  @Override
+  public void stopCaptureMetadataStream() {
+    assert camera != null;
+    camera.stopCaptureMetadataStream();
+  }
+
   @Override
   public void dispose() {
     if (camera != null) {
@@ -11,6 +11,7 @@ import android.hardware.camera2.CaptureResult;
 import android.hardware.camera2.TotalCaptureResult;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
@@ -25,6 +26,7 @@ class CameraCaptureCallback extends CaptureCallback {
   private CameraState cameraState;
   private final CaptureTimeoutsWrapper captureTimeouts;
   private final CameraCaptureProperties captureProps;
+  @Nullable private volatile CaptureMetadataStream captureMetadataStream;
 
   // Lookup keys for state; overrideable for unit tests since Mockito can't mock them.
   @VisibleForTesting @NonNull
@@ -76,6 +78,15 @@ class CameraCaptureCallback extends CaptureCallback {
     cameraState = state;
   }
 
+  /**
+   * Sets the stream that receives the metadata of every completed capture.
+   *
+   * @param captureMetadataStream the stream to record results into, or null to stop recording.
+   */
+  public void setCaptureMetadataStream(@Nullable CaptureMetadataStream captureMetadataStream) {
+    this.captureMetadataStream = captureMetadataStream;
+  }
+
   private void process(CaptureResult result) {
     Integer aeState = result.get(aeStateKey);
     Integer afState = result.get(afStateKey);
@@ -174,6 +185,10 @@ class CameraCaptureCallback extends CaptureCallback {
       @NonNull CameraCaptureSession session,
       @NonNull CaptureRequest request,
       @NonNull TotalCaptureResult result) {
+    final CaptureMetadataStream metadataStream = captureMetadataStream;
+    if (metadataStream != null) {
+      metadataStream.record(result);
+    }
     process(result);
   }
 
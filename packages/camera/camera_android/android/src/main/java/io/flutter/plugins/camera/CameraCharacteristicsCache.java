@@ -0,0 +1,156 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.content.Context;
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A process-wide cache of the camera id list and of the {@link CameraPropertiesImpl} of each
+ * camera.
+ *
+ * <p>Fetching characteristics from the {@link CameraManager} is a binder call to the camera
+ * service, which adds up to tens of milliseconds on the platform thread on devices with many
+ * cameras. Characteristics never change for a given camera id, so they are fetched once, and the
+ * values derived from them are memoized by {@link CameraPropertiesImpl} for the lifetime of the
+ * process.
+ *
+ * <p>The cache is invalidated by {@link CameraManager.AvailabilityCallback} events that can change
+ * the set of cameras: a camera id that was not known before becoming available, or an external
+ * camera becoming unavailable.
+ */
+final class CameraCharacteristicsCache {
+  @Nullable private static CameraCharacteristicsCache instance;
+
+  @NonNull private final CameraManager cameraManager;
+  @NonNull private final Map<String, CameraPropertiesImpl> properties = new HashMap<>();
+  @Nullable private String[] cameraIdList;
+  private long characteristicsFetchCount;
+
+  @VisibleForTesting
+  final CameraManager.AvailabilityCallback availabilityCallback =
+      new CameraManager.AvailabilityCallback() {
+        @Override
+        public void onCameraAvailable(@NonNull String cameraId) {
+          onCameraAvailabilityChanged(cameraId, true);
+        }
+
+        @Override
+        public void onCameraUnavailable(@NonNull String cameraId) {
+          onCameraAvailabilityChanged(cameraId, false);
+        }
+      };
+
+  @VisibleForTesting
+  CameraCharacteristicsCache(@NonNull CameraManager cameraManager) {
+    this.cameraManager = cameraManager;
+  }
+
+  /**
+   * Gets the process-wide cache.
+   *
+   * <p>The cache is created with the {@link CameraManager} of the application context, so that it
+   * does not keep an activity alive and is not rebuilt when the activity is recreated.
+   */
+  @NonNull
+  static synchronized CameraCharacteristicsCache getInstance(@NonNull Context context) {
+    if (instance == null) {
+      CameraManager cameraManager = CameraUtils.getCameraManager(context.getApplicationContext());
+      instance = new CameraCharacteristicsCache(cameraManager);
+      cameraManager.registerAvailabilityCallback(
+          instance.availabilityCallback, new Handler(Looper.getMainLooper()));
+    }
+    return instance;
+  }
+
+  /** Drops the process-wide cache. */
+  @VisibleForTesting
+  static synchronized void resetInstance() {
+    if (instance != null) {
+      instance.cameraManager.unregisterAvailabilityCallback(instance.availabilityCallback);
+      instance = null;
+    }
+  }
+
+  /**
+   * Gets the ids of the cameras of the device.
+   *
+   * @throws CameraAccessException when the camera service could not be accessed.
+   */
+  @NonNull
+  synchronized String[] getCameraIdList() throws CameraAccessException {
+    if (cameraIdList == null) {
+      cameraIdList = cameraManager.getCameraIdList();
+    }
+    return cameraIdList.clone();
+  }
+
+  /**
+   * Gets the properties of a camera, fetching its characteristics on first use.
+   *
+   * @param cameraName is the id of the camera.
+   * @throws CameraAccessException when the characteristics could not be fetched.
+   */
+  @NonNull
+  synchronized CameraPropertiesImpl getCameraProperties(@NonNull String cameraName)
+      throws CameraAccessException {
+    CameraPropertiesImpl cameraProperties = properties.get(cameraName);
+    if (cameraProperties == null) {
+      characteristicsFetchCount++;
+      cameraProperties =
+          new CameraPropertiesImpl(cameraName, cameraManager.getCameraCharacteristics(cameraName));
+      properties.put(cameraName, cameraProperties);
+    }
+    return cameraProperties;
+  }
+
+  /** Returns how many times characteristics were fetched from the camera service. */
+  synchronized long getCharacteristicsFetchCount() {
+    return characteristicsFetchCount;
+  }
+
+  /** Drops all cached ids and characteristics. */
+  synchronized void invalidate() {
+    cameraIdList = null;
+    properties.clear();
+  }
+
+  private synchronized void onCameraAvailabilityChanged(
+      @NonNull String cameraId, boolean isAvailable) {
+    // Cameras become (un)available every time any app opens or closes them, which does not change
+    // their characteristics. Only react to events that can change the set of cameras.
+    if (isAvailable) {
+      if (cameraIdList != null && !contains(cameraIdList, cameraId)) {
+        cameraIdList = null;
+      }
+      return;
+    }
+
+    CameraPropertiesImpl cameraProperties = properties.get(cameraId);
+    if (cameraProperties != null
+        && cameraProperties.getLensFacing() == CameraMetadata.LENS_FACING_EXTERNAL) {
+      properties.remove(cameraId);
+      cameraIdList = null;
+    }
+  }
+
+  private static boolean contains(@NonNull String[] values, @NonNull String value) {
+    for (String candidate : values) {
+      if (candidate.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -15,19 +15,53 @@ import android.util.Size;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the @see CameraProperties interface using the @see
  * android.hardware.camera2.CameraCharacteristics class to access the different characteristics.
+ *
+ * <p>Values that features query repeatedly, such as the fps ranges, the zoom range and the auto
+ * exposure ranges, are read from the characteristics once and then memoized. Instances are shared
+ * by every camera opened with the same id through {@link CameraCharacteristicsCache}.
  */
 public class CameraPropertiesImpl implements CameraProperties {
+  /** A value read from the characteristics on first use, and then kept. */
+  private static final class MemoizedValue<T> {
+    private boolean isRead;
+    @Nullable private T value;
+
+    @Nullable
+    synchronized T get(@NonNull Supplier<T> reader) {
+      if (!isRead) {
+        value = reader.get();
+        isRead = true;
+      }
+      return value;
+    }
+  }
+
   private final CameraCharacteristics cameraCharacteristics;
   private final String cameraName;
 
+  private final MemoizedValue<Range<Integer>[]> targetFpsRanges = new MemoizedValue<>();
+  private final MemoizedValue<Range<Integer>> exposureCompensationRange = new MemoizedValue<>();
+  private final MemoizedValue<Double> exposureCompensationStep = new MemoizedValue<>();
+  private final MemoizedValue<Float> maxDigitalZoom = new MemoizedValue<>();
+  private final MemoizedValue<Range<Float>> zoomRatioRange = new MemoizedValue<>();
+  private final MemoizedValue<Integer> lensFacing = new MemoizedValue<>();
+  private final MemoizedValue<Integer> sensorOrientation = new MemoizedValue<>();
+  private final MemoizedValue<Rect> activeArraySize = new MemoizedValue<>();
+
   public CameraPropertiesImpl(@NonNull String cameraName, @NonNull CameraManager cameraManager)
       throws CameraAccessException {
+    this(cameraName, cameraManager.getCameraCharacteristics(cameraName));
+  }
+
+  CameraPropertiesImpl(
+      @NonNull String cameraName, @NonNull CameraCharacteristics cameraCharacteristics) {
     this.cameraName = cameraName;
-    this.cameraCharacteristics = cameraManager.getCameraCharacteristics(cameraName);
+    this.cameraCharacteristics = cameraCharacteristics;
   }
 
   @NonNull
@@ -39,21 +73,28 @@ public class CameraPropertiesImpl implements CameraProperties {
   @NonNull
   @Override
   public Range<Integer>[] getControlAutoExposureAvailableTargetFpsRanges() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES);
+    return targetFpsRanges.get(
+        () ->
+            cameraCharacteristics.get(
+                CameraCharacteristics.CONTROL_AE_AVAILABLE_TARGET_FPS_RANGES));
   }
 
   @NonNull
   @Override
   public Range<Integer> getControlAutoExposureCompensationRange() {
-    return cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_RANGE);
+    return exposureCompensationRange.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_RANGE));
   }
 
   @Override
   public double getControlAutoExposureCompensationStep() {
-    Rational rational =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_STEP);
+    return exposureCompensationStep.get(
+        () -> {
+          Rational rational =
+              cameraCharacteristics.get(CameraCharacteristics.CONTROL_AE_COMPENSATION_STEP);
 
-    return rational == null ? 0.0 : rational.doubleValue();
+          return rational == null ? 0.0 : rational.doubleValue();
+        });
   }
 
   @NonNull
@@ -89,7 +130,7 @@ public class CameraPropertiesImpl implements CameraProperties {
 
   @Override
   public int getLensFacing() {
-    return cameraCharacteristics.get(CameraCharacteristics.LENS_FACING);
+    return lensFacing.get(() -> cameraCharacteristics.get(CameraCharacteristics.LENS_FACING));
   }
 
   @Nullable
@@ -101,15 +142,15 @@ public class CameraPropertiesImpl implements CameraProperties {
   @NonNull
   @Override
   public Float getScalerAvailableMaxDigitalZoom() {
-    return cameraCharacteristics.get(CameraCharacteristics.SCALER_AVAILABLE_MAX_DIGITAL_ZOOM);
+    return maxDigitalZoom.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.SCALER_AVAILABLE_MAX_DIGITAL_ZOOM));
   }
 
   @RequiresApi(api = VERSION_CODES.R)
   @Nullable
   @Override
   public Float getScalerMaxZoomRatio() {
-    final Range<Float> range =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_ZOOM_RATIO_RANGE);
+    final Range<Float> range = getZoomRatioRange();
     if (range != null) {
       return range.getUpper();
     }
@@ -120,18 +161,25 @@ public class CameraPropertiesImpl implements CameraProperties {
   @Nullable
   @Override
   public Float getScalerMinZoomRatio() {
-    final Range<Float> range =
-        cameraCharacteristics.get(CameraCharacteristics.CONTROL_ZOOM_RATIO_RANGE);
+    final Range<Float> range = getZoomRatioRange();
     if (range != null) {
       return range.getLower();
     }
     return null;
   }
 
+  @RequiresApi(api = VERSION_CODES.R)
+  @Nullable
+  private Range<Float> getZoomRatioRange() {
+    return zoomRatioRange.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.CONTROL_ZOOM_RATIO_RANGE));
+  }
+
   @NonNull
   @Override
   public Rect getSensorInfoActiveArraySize() {
-    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_ACTIVE_ARRAY_SIZE);
+    return activeArraySize.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.SENSOR_INFO_ACTIVE_ARRAY_SIZE));
   }
 
   @NonNull
@@ -149,7 +197,8 @@ public class CameraPropertiesImpl implements CameraProperties {
 
   @Override
   public int getSensorOrientation() {
-    return cameraCharacteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
+    return sensorOrientation.get(
+        () -> cameraCharacteristics.get(CameraCharacteristics.SENSOR_ORIENTATION));
   }
 
   @Override
@@ -0,0 +1,112 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+/**
+ * Latencies of opening a camera and of switching its capture session between preview, image
+ * stream and recording.
+ *
+ * <p>Events are reported from both the platform thread and the camera background thread, so all
+ * methods are synchronized. Durations are in nanoseconds, or -1 until the events they span have
+ * happened.
+ */
+public class CameraTimings {
+  private long openRequestedNanos = -1;
+  private long deviceOpenedNanos = -1;
+  private long surfacesReadyNanos = -1;
+  private long previewStartedNanos = -1;
+  private boolean wasPrewarmed;
+
+  private long lastSessionSwitchNanos = -1;
+  private boolean lastSessionSwitchReused;
+  private long sessionCreationCount;
+  private long sessionReuseCount;
+
+  /** Marks the moment the camera device was requested to open. */
+  synchronized void onOpenRequested(boolean isPrewarm) {
+    openRequestedNanos = System.nanoTime();
+    deviceOpenedNanos = -1;
+    surfacesReadyNanos = -1;
+    previewStartedNanos = -1;
+    wasPrewarmed = isPrewarm;
+  }
+
+  /** Marks the moment the camera device was opened. */
+  synchronized void onDeviceOpened() {
+    deviceOpenedNanos = System.nanoTime();
+  }
+
+  /** Marks the moment the image readers of the camera were allocated. */
+  synchronized void onSurfacesReady() {
+    surfacesReadyNanos = System.nanoTime();
+  }
+
+  /** Marks the moment the first preview request was submitted after opening the camera. */
+  synchronized void onPreviewStarted() {
+    if (previewStartedNanos < 0) {
+      previewStartedNanos = System.nanoTime();
+    }
+  }
+
+  /**
+   * Records the duration of a switch of the capture session.
+   *
+   * @param startNanos is the moment the switch was requested.
+   * @param reusedSession is whether the existing session was reused instead of re-created.
+   */
+  synchronized void onSessionSwitched(long startNanos, boolean reusedSession) {
+    lastSessionSwitchNanos = System.nanoTime() - startNanos;
+    lastSessionSwitchReused = reusedSession;
+    if (reusedSession) {
+      sessionReuseCount++;
+    } else {
+      sessionCreationCount++;
+    }
+  }
+
+  /** Returns the time it took for the camera device to open. */
+  public synchronized long getDeviceOpenNanos() {
+    return span(openRequestedNanos, deviceOpenedNanos);
+  }
+
+  /** Returns the time between requesting the camera device and its image readers being ready. */
+  public synchronized long getSurfacesReadyNanos() {
+    return span(openRequestedNanos, surfacesReadyNanos);
+  }
+
+  /** Returns the time between requesting the camera device and the preview being started. */
+  public synchronized long getOpenToPreviewNanos() {
+    return span(openRequestedNanos, previewStartedNanos);
+  }
+
+  /** Returns whether the camera device was opened ahead of initialization by a prewarm. */
+  public synchronized boolean wasPrewarmed() {
+    return wasPrewarmed;
+  }
+
+  /** Returns the duration of the last switch of the capture session. */
+  public synchronized long getLastSessionSwitchNanos() {
+    return lastSessionSwitchNanos;
+  }
+
+  /** Returns whether the last switch of the capture session reused the existing session. */
+  public synchronized boolean wasLastSessionSwitchReused() {
+    return lastSessionSwitchReused;
+  }
+
+  /** Returns the number of capture sessions that were created. */
+  public synchronized long getSessionCreationCount() {
+    return sessionCreationCount;
+  }
+
+  /** Returns the number of session switches that reused the existing capture session. */
+  public synchronized long getSessionReuseCount() {
+    return sessionReuseCount;
+  }
+
+  private static long span(long startNanos, long endNanos) {
+    return startNanos < 0 || endNanos < 0 ? -1 : endNanos - startNanos;
+  }
+}
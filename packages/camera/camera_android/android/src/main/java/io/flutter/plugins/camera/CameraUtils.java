@@ -8,15 +8,17 @@ import android.app.Activity;
 import android.content.Context;
 import android.graphics.ImageFormat;
 import android.hardware.camera2.CameraAccessException;
-import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamCrop;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,6 +37,16 @@ public final class CameraUtils {
     return (CameraManager) context.getSystemService(Context.CAMERA_SERVICE);
   }
 
+  /**
+   * Gets the process-wide cache of camera characteristics.
+   *
+   * @param context Any context of the application.
+   * @return The cache of the characteristics of the cameras of the device.
+   */
+  static CameraCharacteristicsCache getCameraCharacteristicsCache(Context context) {
+    return CameraCharacteristicsCache.getInstance(context);
+  }
+
   /**
    * Converts a raw integer to a PlatformCameraLensDirection enum.
    *
@@ -66,8 +78,8 @@ public final class CameraUtils {
   @NonNull
   public static List<Messages.PlatformCameraDescription> getAvailableCameras(
       @NonNull Activity activity) throws CameraAccessException {
-    CameraManager cameraManager = (CameraManager) activity.getSystemService(Context.CAMERA_SERVICE);
-    String[] cameraNames = cameraManager.getCameraIdList();
+    CameraCharacteristicsCache cache = getCameraCharacteristicsCache(activity);
+    String[] cameraNames = cache.getCameraIdList();
     List<Messages.PlatformCameraDescription> cameras = new ArrayList<>();
     for (String cameraName : cameraNames) {
       int cameraId;
@@ -80,10 +92,10 @@ public final class CameraUtils {
         continue;
       }
 
-      CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
-      int sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
+      CameraProperties cameraProperties = cache.getCameraProperties(cameraName);
+      int sensorOrientation = cameraProperties.getSensorOrientation();
 
-      int lensFacing = characteristics.get(CameraCharacteristics.LENS_FACING);
+      int lensFacing = cameraProperties.getLensFacing();
       Messages.PlatformCameraLensDirection lensDirection = lensDirectionFromInteger(lensFacing);
       Messages.PlatformCameraDescription details =
           new Messages.PlatformCameraDescription.Builder()
@@ -96,6 +108,57 @@ public final class CameraUtils {
     return cameras;
   }
 
+  /**
+   * Converts the outcome of a burst to a PlatformBurstCaptureResult from Pigeon.
+   *
+   * @param result The outcome of a burst.
+   * @return The corresponding PlatformBurstCaptureResult, with frame timings in microseconds.
+   */
+  @NonNull
+  public static Messages.PlatformBurstCaptureResult burstCaptureResultToPigeon(
+      @NonNull BurstCapture.Result result) {
+    return new Messages.PlatformBurstCaptureResult.Builder()
+        .setPaths(result.getPaths())
+        .setSensorTimestampsNanos(toList(result.getSensorTimestampsNanos(), 1))
+        .setArrivalMicros(toList(result.getArrivalNanos(), 1000))
+        .setSavedMicros(toList(result.getSavedNanos(), 1000))
+        .build();
+  }
+
+  /**
+   * Converts the latencies of a camera to a PlatformCameraTimings from Pigeon.
+   *
+   * @param timings The latencies of opening a camera and of switching its capture session.
+   * @return The corresponding PlatformCameraTimings, with durations in microseconds.
+   */
+  @NonNull
+  public static Messages.PlatformCameraTimings cameraTimingsToPigeon(
+      @NonNull CameraTimings timings) {
+    return new Messages.PlatformCameraTimings.Builder()
+        .setDeviceOpenMicros(toMicros(timings.getDeviceOpenNanos()))
+        .setSurfacesReadyMicros(toMicros(timings.getSurfacesReadyNanos()))
+        .setOpenToPreviewMicros(toMicros(timings.getOpenToPreviewNanos()))
+        .setWasPrewarmed(timings.wasPrewarmed())
+        .setLastSessionSwitchMicros(toMicros(timings.getLastSessionSwitchNanos()))
+        .setLastSessionSwitchReused(timings.wasLastSessionSwitchReused())
+        .setSessionCreationCount(timings.getSessionCreationCount())
+        .setSessionReuseCount(timings.getSessionReuseCount())
+        .build();
+  }
+
+  @Nullable
+  private static Long toMicros(long nanos) {
+    return nanos < 0 ? null : nanos / 1000;
+  }
+
+  private static List<Long> toList(@NonNull long[] values, long divisor) {
+    List<Long> list = new ArrayList<>(values.length);
+    for (long value : values) {
+      list.add(value / divisor);
+    }
+    return list;
+  }
+
   /**
    * Converts a DeviceOrientation from the systemchannels package to a PlatformDeviceOrientation
    * from Pigeon.
@@ -257,6 +320,60 @@ public final class CameraUtils {
     throw new IllegalStateException("Unreachable code");
   }
 
+  /**
+   * Converts the maximum number of image stream frames in flight from Pigeon to an
+   * ImageStreamDeliveryPolicy.
+   *
+   * @param maxFramesInFlight The maximum number of frames in flight, or null to not limit them.
+   * @return The corresponding ImageStreamDeliveryPolicy, or null to not limit frames.
+   * @throws IllegalArgumentException if the maximum is less than 1.
+   */
+  @Nullable
+  public static ImageStreamDeliveryPolicy imageStreamDeliveryPolicyFromPigeon(
+      @Nullable Long maxFramesInFlight) {
+    if (maxFramesInFlight == null) {
+      return null;
+    }
+    return ImageStreamDeliveryPolicy.boundedQueue(clampToInt(maxFramesInFlight));
+  }
+
+  /**
+   * Converts a PlatformImageStreamCrop from Pigeon to an ImageStreamCrop.
+   *
+   * @param crop A PlatformImageStreamCrop.
+   * @return The corresponding ImageStreamCrop.
+   * @throws IllegalArgumentException if the region is empty or the subsampling factor is less than
+   *     1.
+   */
+  @NonNull
+  public static ImageStreamCrop imageStreamCropFromPigeon(
+      @NonNull Messages.PlatformImageStreamCrop crop) {
+    return new ImageStreamCrop(
+        clampToInt(crop.getLeft()),
+        clampToInt(crop.getTop()),
+        clampToInt(crop.getWidth()),
+        clampToInt(crop.getHeight()),
+        clampToInt(crop.getSubsampleFactor()));
+  }
+
+  /**
+   * Converts the number of image stream conversion threads from Pigeon.
+   *
+   * @param conversionThreadCount The number of threads converting NV21 frames.
+   * @return The number of threads as an int.
+   * @throws IllegalArgumentException if the number is less than 1.
+   */
+  public static int imageStreamConversionThreadCountFromPigeon(long conversionThreadCount) {
+    if (conversionThreadCount < 1) {
+      throw new IllegalArgumentException("conversionThreadCount must be at least 1.");
+    }
+    return clampToInt(conversionThreadCount);
+  }
+
+  private static int clampToInt(long value) {
+    return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+  }
+
   /**
    * Converts a PlatformFlashMode from Pigeon to a FlashMode from the flash package.
    *
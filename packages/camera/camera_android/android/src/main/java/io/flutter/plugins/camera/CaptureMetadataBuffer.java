@@ -0,0 +1,138 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A ring buffer of per-frame capture metadata, stored in primitive arrays.
+ *
+ * <p>Results are recorded on the camera background thread at the full frame rate, and drained in
+ * batches on the platform thread, so recording never allocates. When the buffer is full, the oldest
+ * results are overwritten and counted as dropped.
+ *
+ * <p>Values missing from a capture result are recorded as -1, or NaN for floating point values.
+ */
+class CaptureMetadataBuffer {
+  private final long[] frameNumbers;
+  private final long[] sensorTimestampsNanos;
+  private final long[] exposureTimesNanos;
+  private final int[] sensitivities;
+  private final double[] focusDistances;
+  private final int[] lensStates;
+  private final double[] apertures;
+
+  private int start;
+  private int size;
+  private long droppedCount;
+
+  /**
+   * Creates a new instance of the {@link CaptureMetadataBuffer}.
+   *
+   * @param capacity is the maximum number of results kept between two drains.
+   */
+  CaptureMetadataBuffer(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1.");
+    }
+    frameNumbers = new long[capacity];
+    sensorTimestampsNanos = new long[capacity];
+    exposureTimesNanos = new long[capacity];
+    sensitivities = new int[capacity];
+    focusDistances = new double[capacity];
+    lensStates = new int[capacity];
+    apertures = new double[capacity];
+  }
+
+  /** Returns the maximum number of results kept between two drains. */
+  int getCapacity() {
+    return frameNumbers.length;
+  }
+
+  /** Returns the number of results waiting to be drained. */
+  synchronized int size() {
+    return size;
+  }
+
+  /** Records the metadata of a frame, overwriting the oldest frame if the buffer is full. */
+  synchronized void record(
+      long frameNumber,
+      long sensorTimestampNanos,
+      long exposureTimeNanos,
+      int sensitivity,
+      double focusDistance,
+      int lensState,
+      double aperture) {
+    int capacity = frameNumbers.length;
+    int index;
+    if (size == capacity) {
+      index = start;
+      start = (start + 1) % capacity;
+      droppedCount++;
+    } else {
+      index = (start + size) % capacity;
+      size++;
+    }
+    frameNumbers[index] = frameNumber;
+    sensorTimestampsNanos[index] = sensorTimestampNanos;
+    exposureTimesNanos[index] = exposureTimeNanos;
+    sensitivities[index] = sensitivity;
+    focusDistances[index] = focusDistance;
+    lensStates[index] = lensState;
+    apertures[index] = aperture;
+  }
+
+  /**
+   * Removes all recorded results and returns them as a batch for Dart, in recording order.
+   *
+   * <p>Each value is sent as a typed array with one entry per frame. The batch also contains the
+   * number of results dropped since the previous drain.
+   */
+  @NonNull
+  synchronized Messages.PlatformCaptureMetadataBatch drain() {
+    Messages.PlatformCaptureMetadataBatch batch =
+        new Messages.PlatformCaptureMetadataBatch.Builder()
+            .setFrameNumbers(copy(frameNumbers))
+            .setSensorTimestampsNanos(copy(sensorTimestampsNanos))
+            .setExposureTimesNanos(copy(exposureTimesNanos))
+            .setSensitivities(copy(sensitivities))
+            .setFocusDistances(copy(focusDistances))
+            .setLensStates(copy(lensStates))
+            .setApertures(copy(apertures))
+            .setDroppedCount(droppedCount)
+            .build();
+    start = 0;
+    size = 0;
+    droppedCount = 0;
+    return batch;
+  }
+
+  // The copies below unroll the ring buffer, which wraps around at most once.
+
+  private long[] copy(long[] values) {
+    long[] out = new long[size];
+    int firstPart = Math.min(size, values.length - start);
+    System.arraycopy(values, start, out, 0, firstPart);
+    System.arraycopy(values, 0, out, firstPart, size - firstPart);
+    return out;
+  }
+
+  private long[] copy(int[] values) {
+    // Widened to the 64-bit lists of the batch.
+    long[] out = new long[size];
+    for (int i = 0; i < size; i++) {
+      out[i] = values[(start + i) % values.length];
+    }
+    return out;
+  }
+
+  private double[] copy(double[] values) {
+    double[] out = new double[size];
+    int firstPart = Math.min(size, values.length - start);
+    System.arraycopy(values, start, out, 0, firstPart);
+    System.arraycopy(values, 0, out, firstPart, size - firstPart);
+    return out;
+  }
+}
@@ -0,0 +1,138 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CaptureResult;
+import android.hardware.camera2.TotalCaptureResult;
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Streams per-frame capture metadata to Dart in batches.
+ *
+ * <p>Every completed capture result is recorded into a {@link CaptureMetadataBuffer} on the camera
+ * background thread. The buffer is flushed to Dart through the {@link DartMessenger} on the
+ * platform thread at a fixed interval, so Dart receives the metadata of every frame with a single
+ * platform message per interval.
+ */
+class CaptureMetadataStream {
+  /** The default interval between two batches. */
+  static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+
+  /** The number of results kept between two batches, enough for 120 fps at the default interval. */
+  static final int DEFAULT_CAPACITY = 16;
+
+  /** The frame rate assumed when the camera does not report its target frame rates. */
+  static final int DEFAULT_MAX_FPS = 30;
+
+  @NonNull private final CaptureMetadataBuffer buffer;
+  @NonNull private final Handler platformHandler;
+  private final long flushIntervalMillis;
+  @Nullable private volatile DartMessenger dartMessenger;
+
+  @VisibleForTesting @NonNull
+  CaptureResult.Key<Long> sensorTimestampKey = CaptureResult.SENSOR_TIMESTAMP;
+
+  @VisibleForTesting @NonNull
+  CaptureResult.Key<Long> exposureTimeKey = CaptureResult.SENSOR_EXPOSURE_TIME;
+
+  @VisibleForTesting @NonNull
+  CaptureResult.Key<Integer> sensitivityKey = CaptureResult.SENSOR_SENSITIVITY;
+
+  @VisibleForTesting @NonNull
+  CaptureResult.Key<Float> focusDistanceKey = CaptureResult.LENS_FOCUS_DISTANCE;
+
+  @VisibleForTesting @NonNull
+  CaptureResult.Key<Integer> lensStateKey = CaptureResult.LENS_STATE;
+
+  @VisibleForTesting @NonNull
+  CaptureResult.Key<Float> apertureKey = CaptureResult.LENS_APERTURE;
+
+  private final Runnable flushRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          flush();
+          if (dartMessenger != null) {
+            platformHandler.postDelayed(this, flushIntervalMillis);
+          }
+        }
+      };
+
+  /**
+   * Creates a new instance of the {@link CaptureMetadataStream}.
+   *
+   * @param platformHandler is the handler of the thread batches are sent on.
+   * @param flushIntervalMillis is the interval between two batches.
+   * @param capacity is the number of results kept between two batches. Older results are dropped.
+   */
+  CaptureMetadataStream(@NonNull Handler platformHandler, long flushIntervalMillis, int capacity) {
+    this.platformHandler = platformHandler;
+    this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+    this.buffer = new CaptureMetadataBuffer(capacity);
+  }
+
+  /** Starts sending batches to Dart. Must be called on the platform thread. */
+  void start(@NonNull DartMessenger dartMessenger) {
+    this.dartMessenger = dartMessenger;
+    platformHandler.removeCallbacks(flushRunnable);
+    platformHandler.postDelayed(flushRunnable, flushIntervalMillis);
+  }
+
+  /** Stops sending batches. Can be called on any thread. */
+  void stop() {
+    dartMessenger = null;
+    platformHandler.removeCallbacks(flushRunnable);
+  }
+
+  /** Records the metadata of a completed capture. Called on the camera background thread. */
+  void record(@NonNull TotalCaptureResult result) {
+    buffer.record(
+        result.getFrameNumber(),
+        orDefault(result.get(sensorTimestampKey)),
+        orDefault(result.get(exposureTimeKey)),
+        orDefault(result.get(sensitivityKey)),
+        orDefault(result.get(focusDistanceKey)),
+        orDefault(result.get(lensStateKey)),
+        orDefault(result.get(apertureKey)));
+  }
+
+  /** Sends the recorded results to Dart, if there are any. */
+  @VisibleForTesting
+  void flush() {
+    final DartMessenger messenger = dartMessenger;
+    if (messenger == null || buffer.size() == 0) {
+      return;
+    }
+    messenger.sendCaptureMetadataEvent(buffer.drain());
+  }
+
+  /**
+   * Returns the number of results to keep between two batches, so that no result is dropped at the
+   * given frame rate, and never less than {@link #DEFAULT_CAPACITY}.
+   *
+   * @param flushIntervalMillis is the interval between two batches.
+   * @param maxFps is the highest frame rate of the camera, or 0 if it is unknown.
+   */
+  static int capacityFor(long flushIntervalMillis, int maxFps) {
+    final int fps = maxFps > 0 ? maxFps : DEFAULT_MAX_FPS;
+    final long capacity = Math.max(1, flushIntervalMillis) * fps / 1000 + 1;
+    return (int) Math.max(DEFAULT_CAPACITY, Math.min(capacity, Integer.MAX_VALUE));
+  }
+
+  private static long orDefault(@Nullable Long value) {
+    return value == null ? -1 : value;
+  }
+
+  private static int orDefault(@Nullable Integer value) {
+    return value == null ? -1 : value;
+  }
+
+  private static double orDefault(@Nullable Float value) {
+    return value == null ? Double.NaN : value;
+  }
+}
@@ -105,6 +105,15 @@ public class DartMessenger {
     handler.post(() -> eventApi.error(description, new NoOpVoidResult()));
   }
 
+  /**
+   * Sends a batch of per-frame capture metadata to the Flutter client.
+   *
+   * @param batch contains the metadata of the frames completed since the previous batch.
+   */
+  void sendCaptureMetadataEvent(@NonNull Messages.PlatformCaptureMetadataBatch batch) {
+    handler.post(() -> eventApi.captureMetadata(batch, new NoOpVoidResult()));
+  }
+
   /**
    * Send a success payload to a {@link MethodChannel.Result} on the main thread.
    *
@@ -0,0 +1,174 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.media.Image;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.BuildConfig;
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists still captures on a dedicated thread with a bounded queue.
+ *
+ * <p>Saving runs off the camera background thread, so slow storage never delays the capture
+ * callbacks that drive the focus and exposure state machines. The number of saves waiting or in
+ * progress is limited, and pictures submitted while the queue is full are rejected with an error
+ * instead of piling up in memory.
+ */
+class ImageSaverExecutor {
+  private static final String TAG = "ImageSaverExecutor";
+
+  /** The default maximum number of saves waiting or in progress. */
+  static final int DEFAULT_MAX_QUEUED_SAVES = 4;
+
+  private final ExecutorService executor;
+  private final int maxQueuedSaves;
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger maxObservedQueueDepth = new AtomicInteger();
+  private final AtomicLong completedSaveCount = new AtomicLong();
+  private final AtomicLong lastSaveLatencyNanos = new AtomicLong();
+  private final AtomicLong totalSaveLatencyNanos = new AtomicLong();
+
+  /**
+   * Creates a new instance of the {@link ImageSaverExecutor}.
+   *
+   * @param executor runs the saves, in submission order.
+   * @param maxQueuedSaves is the maximum number of saves waiting or in progress.
+   */
+  @VisibleForTesting
+  ImageSaverExecutor(@NonNull ExecutorService executor, int maxQueuedSaves) {
+    this.executor = executor;
+    this.maxQueuedSaves = maxQueuedSaves;
+  }
+
+  /** Creates an {@link ImageSaverExecutor} running on its own thread. */
+  @NonNull
+  static ImageSaverExecutor create(int maxQueuedSaves) {
+    return new ImageSaverExecutor(
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "CameraImageSaver")),
+        maxQueuedSaves);
+  }
+
+  /**
+   * Queues an image to be saved into a file.
+   *
+   * <p>If the queue is full, the image is closed and the callback immediately receives an error.
+   *
+   * @param image is the JPEG image to save.
+   * @param file is the file to save the image into.
+   * @param callback is run on the saver thread once the image has been saved or has failed.
+   */
+  void submit(@NonNull Image image, @NonNull File file, @NonNull ImageSaver.Callback callback) {
+    if (!reserve(1)) {
+      image.close();
+      callback.onError("saveQueueFull", "Too many pictures are waiting to be saved.");
+      return;
+    }
+    submitReserved(image, file, callback);
+  }
+
+  /**
+   * Reserves room in the queue for a number of saves, so that they can all be queued later.
+   *
+   * <p>Each reserved save must either be queued with {@link #submitReserved} or given back with
+   * {@link #release}.
+   *
+   * @return whether the queue had room for all of the saves. Nothing is reserved otherwise.
+   */
+  boolean reserve(int count) {
+    while (true) {
+      int depth = queueDepth.get();
+      if (depth + count > maxQueuedSaves) {
+        return false;
+      }
+      if (queueDepth.compareAndSet(depth, depth + count)) {
+        maxObservedQueueDepth.accumulateAndGet(depth + count, Math::max);
+        return true;
+      }
+    }
+  }
+
+  /** Gives back saves reserved with {@link #reserve} that will not be queued. */
+  void release(int count) {
+    queueDepth.addAndGet(-count);
+  }
+
+  /**
+   * Queues an image to be saved into a file, in a save reserved with {@link #reserve}.
+   *
+   * @param image is the JPEG image to save.
+   * @param file is the file to save the image into.
+   * @param callback is run on the saver thread once the image has been saved or has failed.
+   */
+  void submitReserved(
+      @NonNull Image image, @NonNull File file, @NonNull ImageSaver.Callback callback) {
+    final long submitTime = System.nanoTime();
+    final ImageSaver imageSaver = new ImageSaver(image, file, callback);
+    try {
+      executor.execute(
+          () -> {
+            try {
+              imageSaver.run();
+            } finally {
+              recordSave(submitTime);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      queueDepth.decrementAndGet();
+      image.close();
+      callback.onError("cameraAccess", "The camera was closed before the picture was saved.");
+    }
+  }
+
+  private void recordSave(long submitTime) {
+    long latency = System.nanoTime() - submitTime;
+    // The latency is recorded before the save leaves the queue, so that statistics reporting an
+    // empty queue always include it.
+    lastSaveLatencyNanos.set(latency);
+    totalSaveLatencyNanos.addAndGet(latency);
+    completedSaveCount.incrementAndGet();
+    queueDepth.decrementAndGet();
+    if (BuildConfig.DEBUG) {
+      Log.d(TAG, "Saved picture in " + latency / 1000000 + " ms, queue depth " + queueDepth.get());
+    }
+  }
+
+  /**
+   * Returns the queue depth and latency statistics of the saves.
+   *
+   * <p>The latency of a save is the time between submitting and completing it, including the time
+   * it waited in the queue.
+   */
+  @NonNull
+  Messages.PlatformPictureSaveStatistics getStatistics() {
+    long count = completedSaveCount.get();
+    long averageLatencyNanos = count == 0 ? 0 : totalSaveLatencyNanos.get() / count;
+    return new Messages.PlatformPictureSaveStatistics.Builder()
+        .setQueueDepth((long) queueDepth.get())
+        .setMaxObservedQueueDepth((long) maxObservedQueueDepth.get())
+        .setCompletedSaveCount(count)
+        .setLastSaveLatencyMicros(lastSaveLatencyNanos.get() / 1000)
+        .setAverageSaveLatencyMicros(averageLatencyNanos / 1000)
+        .build();
+  }
+
+  /** Stops accepting saves, letting the queued ones finish. */
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  /** Returns whether {@link #shutdown()} was called. */
+  boolean isShutdown() {
+    return executor.isShutdown();
+  }
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -824,6 +825,1168 @@ public class Messages {
     }
   }
 
+  /**
+   * Pigeon equivalent of [AndroidCameraImageStreamOptions].
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformImageStreamOptions {
+    private @NonNull Boolean enableFramePooling;
+
+    public @NonNull Boolean getEnableFramePooling() {
+      return enableFramePooling;
+    }
+
+    public void setEnableFramePooling(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"enableFramePooling\" is null.");
+      }
+      this.enableFramePooling = setterArg;
+    }
+
+    private @Nullable Long maxFramesInFlight;
+
+    public @Nullable Long getMaxFramesInFlight() {
+      return maxFramesInFlight;
+    }
+
+    public void setMaxFramesInFlight(@Nullable Long setterArg) {
+      this.maxFramesInFlight = setterArg;
+    }
+
+    private @Nullable PlatformImageStreamCrop crop;
+
+    public @Nullable PlatformImageStreamCrop getCrop() {
+      return crop;
+    }
+
+    public void setCrop(@Nullable PlatformImageStreamCrop setterArg) {
+      this.crop = setterArg;
+    }
+
+    private @NonNull Long conversionThreadCount;
+
+    public @NonNull Long getConversionThreadCount() {
+      return conversionThreadCount;
+    }
+
+    public void setConversionThreadCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"conversionThreadCount\" is null.");
+      }
+      this.conversionThreadCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformImageStreamOptions() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformImageStreamOptions that = (PlatformImageStreamOptions) o;
+      return enableFramePooling.equals(that.enableFramePooling)
+          && Objects.equals(maxFramesInFlight, that.maxFramesInFlight)
+          && Objects.equals(crop, that.crop)
+          && conversionThreadCount.equals(that.conversionThreadCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(enableFramePooling, maxFramesInFlight, crop, conversionThreadCount);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Boolean enableFramePooling;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setEnableFramePooling(@NonNull Boolean setterArg) {
+        this.enableFramePooling = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxFramesInFlight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxFramesInFlight(@Nullable Long setterArg) {
+        this.maxFramesInFlight = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformImageStreamCrop crop;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCrop(@Nullable PlatformImageStreamCrop setterArg) {
+        this.crop = setterArg;
+        return this;
+      }
+
+      private @Nullable Long conversionThreadCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setConversionThreadCount(@NonNull Long setterArg) {
+        this.conversionThreadCount = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformImageStreamOptions build() {
+        PlatformImageStreamOptions pigeonReturn = new PlatformImageStreamOptions();
+        pigeonReturn.setEnableFramePooling(enableFramePooling);
+        pigeonReturn.setMaxFramesInFlight(maxFramesInFlight);
+        pigeonReturn.setCrop(crop);
+        pigeonReturn.setConversionThreadCount(conversionThreadCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(enableFramePooling);
+      toListResult.add(maxFramesInFlight);
+      toListResult.add(crop);
+      toListResult.add(conversionThreadCount);
+      return toListResult;
+    }
+
+    static @NonNull PlatformImageStreamOptions fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformImageStreamOptions pigeonResult = new PlatformImageStreamOptions();
+      Object enableFramePooling = pigeonVar_list.get(0);
+      pigeonResult.setEnableFramePooling((Boolean) enableFramePooling);
+      Object maxFramesInFlight = pigeonVar_list.get(1);
+      pigeonResult.setMaxFramesInFlight((Long) maxFramesInFlight);
+      Object crop = pigeonVar_list.get(2);
+      pigeonResult.setCrop((PlatformImageStreamCrop) crop);
+      Object conversionThreadCount = pigeonVar_list.get(3);
+      pigeonResult.setConversionThreadCount((Long) conversionThreadCount);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Pigeon equivalent of the crop of [AndroidCameraImageStreamOptions].
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformImageStreamCrop {
+    private @NonNull Long left;
+
+    public @NonNull Long getLeft() {
+      return left;
+    }
+
+    public void setLeft(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"left\" is null.");
+      }
+      this.left = setterArg;
+    }
+
+    private @NonNull Long top;
+
+    public @NonNull Long getTop() {
+      return top;
+    }
+
+    public void setTop(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"top\" is null.");
+      }
+      this.top = setterArg;
+    }
+
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Long subsampleFactor;
+
+    public @NonNull Long getSubsampleFactor() {
+      return subsampleFactor;
+    }
+
+    public void setSubsampleFactor(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"subsampleFactor\" is null.");
+      }
+      this.subsampleFactor = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformImageStreamCrop() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformImageStreamCrop that = (PlatformImageStreamCrop) o;
+      return left.equals(that.left)
+          && top.equals(that.top)
+          && width.equals(that.width)
+          && height.equals(that.height)
+          && subsampleFactor.equals(that.subsampleFactor);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(left, top, width, height, subsampleFactor);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long left;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLeft(@NonNull Long setterArg) {
+        this.left = setterArg;
+        return this;
+      }
+
+      private @Nullable Long top;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTop(@NonNull Long setterArg) {
+        this.top = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Long subsampleFactor;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSubsampleFactor(@NonNull Long setterArg) {
+        this.subsampleFactor = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformImageStreamCrop build() {
+        PlatformImageStreamCrop pigeonReturn = new PlatformImageStreamCrop();
+        pigeonReturn.setLeft(left);
+        pigeonReturn.setTop(top);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setSubsampleFactor(subsampleFactor);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(left);
+      toListResult.add(top);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(subsampleFactor);
+      return toListResult;
+    }
+
+    static @NonNull PlatformImageStreamCrop fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformImageStreamCrop pigeonResult = new PlatformImageStreamCrop();
+      Object left = pigeonVar_list.get(0);
+      pigeonResult.setLeft((Long) left);
+      Object top = pigeonVar_list.get(1);
+      pigeonResult.setTop((Long) top);
+      Object width = pigeonVar_list.get(2);
+      pigeonResult.setWidth((Long) width);
+      Object height = pigeonVar_list.get(3);
+      pigeonResult.setHeight((Long) height);
+      Object subsampleFactor = pigeonVar_list.get(4);
+      pigeonResult.setSubsampleFactor((Long) subsampleFactor);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Statistics of the pictures saved by a camera.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformPictureSaveStatistics {
+    private @NonNull Long queueDepth;
+
+    public @NonNull Long getQueueDepth() {
+      return queueDepth;
+    }
+
+    public void setQueueDepth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"queueDepth\" is null.");
+      }
+      this.queueDepth = setterArg;
+    }
+
+    private @NonNull Long maxObservedQueueDepth;
+
+    public @NonNull Long getMaxObservedQueueDepth() {
+      return maxObservedQueueDepth;
+    }
+
+    public void setMaxObservedQueueDepth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxObservedQueueDepth\" is null.");
+      }
+      this.maxObservedQueueDepth = setterArg;
+    }
+
+    private @NonNull Long completedSaveCount;
+
+    public @NonNull Long getCompletedSaveCount() {
+      return completedSaveCount;
+    }
+
+    public void setCompletedSaveCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"completedSaveCount\" is null.");
+      }
+      this.completedSaveCount = setterArg;
+    }
+
+    private @NonNull Long lastSaveLatencyMicros;
+
+    public @NonNull Long getLastSaveLatencyMicros() {
+      return lastSaveLatencyMicros;
+    }
+
+    public void setLastSaveLatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lastSaveLatencyMicros\" is null.");
+      }
+      this.lastSaveLatencyMicros = setterArg;
+    }
+
+    private @NonNull Long averageSaveLatencyMicros;
+
+    public @NonNull Long getAverageSaveLatencyMicros() {
+      return averageSaveLatencyMicros;
+    }
+
+    public void setAverageSaveLatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageSaveLatencyMicros\" is null.");
+      }
+      this.averageSaveLatencyMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformPictureSaveStatistics() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformPictureSaveStatistics that = (PlatformPictureSaveStatistics) o;
+      return queueDepth.equals(that.queueDepth)
+          && maxObservedQueueDepth.equals(that.maxObservedQueueDepth)
+          && completedSaveCount.equals(that.completedSaveCount)
+          && lastSaveLatencyMicros.equals(that.lastSaveLatencyMicros)
+          && averageSaveLatencyMicros.equals(that.averageSaveLatencyMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          queueDepth,
+          maxObservedQueueDepth,
+          completedSaveCount,
+          lastSaveLatencyMicros,
+          averageSaveLatencyMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long queueDepth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQueueDepth(@NonNull Long setterArg) {
+        this.queueDepth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxObservedQueueDepth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxObservedQueueDepth(@NonNull Long setterArg) {
+        this.maxObservedQueueDepth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long completedSaveCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCompletedSaveCount(@NonNull Long setterArg) {
+        this.completedSaveCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lastSaveLatencyMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLastSaveLatencyMicros(@NonNull Long setterArg) {
+        this.lastSaveLatencyMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageSaveLatencyMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAverageSaveLatencyMicros(@NonNull Long setterArg) {
+        this.averageSaveLatencyMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformPictureSaveStatistics build() {
+        PlatformPictureSaveStatistics pigeonReturn = new PlatformPictureSaveStatistics();
+        pigeonReturn.setQueueDepth(queueDepth);
+        pigeonReturn.setMaxObservedQueueDepth(maxObservedQueueDepth);
+        pigeonReturn.setCompletedSaveCount(completedSaveCount);
+        pigeonReturn.setLastSaveLatencyMicros(lastSaveLatencyMicros);
+        pigeonReturn.setAverageSaveLatencyMicros(averageSaveLatencyMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(queueDepth);
+      toListResult.add(maxObservedQueueDepth);
+      toListResult.add(completedSaveCount);
+      toListResult.add(lastSaveLatencyMicros);
+      toListResult.add(averageSaveLatencyMicros);
+      return toListResult;
+    }
+
+    static @NonNull PlatformPictureSaveStatistics fromList(
+        @NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformPictureSaveStatistics pigeonResult = new PlatformPictureSaveStatistics();
+      Object queueDepth = pigeonVar_list.get(0);
+      pigeonResult.setQueueDepth((Long) queueDepth);
+      Object maxObservedQueueDepth = pigeonVar_list.get(1);
+      pigeonResult.setMaxObservedQueueDepth((Long) maxObservedQueueDepth);
+      Object completedSaveCount = pigeonVar_list.get(2);
+      pigeonResult.setCompletedSaveCount((Long) completedSaveCount);
+      Object lastSaveLatencyMicros = pigeonVar_list.get(3);
+      pigeonResult.setLastSaveLatencyMicros((Long) lastSaveLatencyMicros);
+      Object averageSaveLatencyMicros = pigeonVar_list.get(4);
+      pigeonResult.setAverageSaveLatencyMicros((Long) averageSaveLatencyMicros);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The pictures of a burst, with the timing of each frame.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformBurstCaptureResult {
+    private @NonNull List<String> paths;
+
+    public @NonNull List<String> getPaths() {
+      return paths;
+    }
+
+    public void setPaths(@NonNull List<String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"paths\" is null.");
+      }
+      this.paths = setterArg;
+    }
+
+    private @NonNull List<Long> sensorTimestampsNanos;
+
+    public @NonNull List<Long> getSensorTimestampsNanos() {
+      return sensorTimestampsNanos;
+    }
+
+    public void setSensorTimestampsNanos(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sensorTimestampsNanos\" is null.");
+      }
+      this.sensorTimestampsNanos = setterArg;
+    }
+
+    private @NonNull List<Long> arrivalMicros;
+
+    public @NonNull List<Long> getArrivalMicros() {
+      return arrivalMicros;
+    }
+
+    public void setArrivalMicros(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"arrivalMicros\" is null.");
+      }
+      this.arrivalMicros = setterArg;
+    }
+
+    private @NonNull List<Long> savedMicros;
+
+    public @NonNull List<Long> getSavedMicros() {
+      return savedMicros;
+    }
+
+    public void setSavedMicros(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"savedMicros\" is null.");
+      }
+      this.savedMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformBurstCaptureResult() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformBurstCaptureResult that = (PlatformBurstCaptureResult) o;
+      return paths.equals(that.paths)
+          && sensorTimestampsNanos.equals(that.sensorTimestampsNanos)
+          && arrivalMicros.equals(that.arrivalMicros)
+          && savedMicros.equals(that.savedMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(paths, sensorTimestampsNanos, arrivalMicros, savedMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable List<String> paths;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPaths(@NonNull List<String> setterArg) {
+        this.paths = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> sensorTimestampsNanos;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSensorTimestampsNanos(@NonNull List<Long> setterArg) {
+        this.sensorTimestampsNanos = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> arrivalMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setArrivalMicros(@NonNull List<Long> setterArg) {
+        this.arrivalMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> savedMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSavedMicros(@NonNull List<Long> setterArg) {
+        this.savedMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformBurstCaptureResult build() {
+        PlatformBurstCaptureResult pigeonReturn = new PlatformBurstCaptureResult();
+        pigeonReturn.setPaths(paths);
+        pigeonReturn.setSensorTimestampsNanos(sensorTimestampsNanos);
+        pigeonReturn.setArrivalMicros(arrivalMicros);
+        pigeonReturn.setSavedMicros(savedMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(paths);
+      toListResult.add(sensorTimestampsNanos);
+      toListResult.add(arrivalMicros);
+      toListResult.add(savedMicros);
+      return toListResult;
+    }
+
+    static @NonNull PlatformBurstCaptureResult fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformBurstCaptureResult pigeonResult = new PlatformBurstCaptureResult();
+      Object paths = pigeonVar_list.get(0);
+      pigeonResult.setPaths((List<String>) paths);
+      Object sensorTimestampsNanos = pigeonVar_list.get(1);
+      pigeonResult.setSensorTimestampsNanos((List<Long>) sensorTimestampsNanos);
+      Object arrivalMicros = pigeonVar_list.get(2);
+      pigeonResult.setArrivalMicros((List<Long>) arrivalMicros);
+      Object savedMicros = pigeonVar_list.get(3);
+      pigeonResult.setSavedMicros((List<Long>) savedMicros);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Latencies of opening a camera and of switching its capture session, or null until the events
+   * they span have happened.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformCameraTimings {
+    private @Nullable Long deviceOpenMicros;
+
+    public @Nullable Long getDeviceOpenMicros() {
+      return deviceOpenMicros;
+    }
+
+    public void setDeviceOpenMicros(@Nullable Long setterArg) {
+      this.deviceOpenMicros = setterArg;
+    }
+
+    private @Nullable Long surfacesReadyMicros;
+
+    public @Nullable Long getSurfacesReadyMicros() {
+      return surfacesReadyMicros;
+    }
+
+    public void setSurfacesReadyMicros(@Nullable Long setterArg) {
+      this.surfacesReadyMicros = setterArg;
+    }
+
+    private @Nullable Long openToPreviewMicros;
+
+    public @Nullable Long getOpenToPreviewMicros() {
+      return openToPreviewMicros;
+    }
+
+    public void setOpenToPreviewMicros(@Nullable Long setterArg) {
+      this.openToPreviewMicros = setterArg;
+    }
+
+    private @NonNull Boolean wasPrewarmed;
+
+    public @NonNull Boolean getWasPrewarmed() {
+      return wasPrewarmed;
+    }
+
+    public void setWasPrewarmed(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"wasPrewarmed\" is null.");
+      }
+      this.wasPrewarmed = setterArg;
+    }
+
+    private @Nullable Long lastSessionSwitchMicros;
+
+    public @Nullable Long getLastSessionSwitchMicros() {
+      return lastSessionSwitchMicros;
+    }
+
+    public void setLastSessionSwitchMicros(@Nullable Long setterArg) {
+      this.lastSessionSwitchMicros = setterArg;
+    }
+
+    private @NonNull Boolean lastSessionSwitchReused;
+
+    public @NonNull Boolean getLastSessionSwitchReused() {
+      return lastSessionSwitchReused;
+    }
+
+    public void setLastSessionSwitchReused(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lastSessionSwitchReused\" is null.");
+      }
+      this.lastSessionSwitchReused = setterArg;
+    }
+
+    private @NonNull Long sessionCreationCount;
+
+    public @NonNull Long getSessionCreationCount() {
+      return sessionCreationCount;
+    }
+
+    public void setSessionCreationCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sessionCreationCount\" is null.");
+      }
+      this.sessionCreationCount = setterArg;
+    }
+
+    private @NonNull Long sessionReuseCount;
+
+    public @NonNull Long getSessionReuseCount() {
+      return sessionReuseCount;
+    }
+
+    public void setSessionReuseCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sessionReuseCount\" is null.");
+      }
+      this.sessionReuseCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformCameraTimings() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformCameraTimings that = (PlatformCameraTimings) o;
+      return Objects.equals(deviceOpenMicros, that.deviceOpenMicros)
+          && Objects.equals(surfacesReadyMicros, that.surfacesReadyMicros)
+          && Objects.equals(openToPreviewMicros, that.openToPreviewMicros)
+          && wasPrewarmed.equals(that.wasPrewarmed)
+          && Objects.equals(lastSessionSwitchMicros, that.lastSessionSwitchMicros)
+          && lastSessionSwitchReused.equals(that.lastSessionSwitchReused)
+          && sessionCreationCount.equals(that.sessionCreationCount)
+          && sessionReuseCount.equals(that.sessionReuseCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          deviceOpenMicros,
+          surfacesReadyMicros,
+          openToPreviewMicros,
+          wasPrewarmed,
+          lastSessionSwitchMicros,
+          lastSessionSwitchReused,
+          sessionCreationCount,
+          sessionReuseCount);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long deviceOpenMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDeviceOpenMicros(@Nullable Long setterArg) {
+        this.deviceOpenMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long surfacesReadyMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSurfacesReadyMicros(@Nullable Long setterArg) {
+        this.surfacesReadyMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long openToPreviewMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setOpenToPreviewMicros(@Nullable Long setterArg) {
+        this.openToPreviewMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean wasPrewarmed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWasPrewarmed(@NonNull Boolean setterArg) {
+        this.wasPrewarmed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long lastSessionSwitchMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLastSessionSwitchMicros(@Nullable Long setterArg) {
+        this.lastSessionSwitchMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean lastSessionSwitchReused;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLastSessionSwitchReused(@NonNull Boolean setterArg) {
+        this.lastSessionSwitchReused = setterArg;
+        return this;
+      }
+
+      private @Nullable Long sessionCreationCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSessionCreationCount(@NonNull Long setterArg) {
+        this.sessionCreationCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long sessionReuseCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSessionReuseCount(@NonNull Long setterArg) {
+        this.sessionReuseCount = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformCameraTimings build() {
+        PlatformCameraTimings pigeonReturn = new PlatformCameraTimings();
+        pigeonReturn.setDeviceOpenMicros(deviceOpenMicros);
+        pigeonReturn.setSurfacesReadyMicros(surfacesReadyMicros);
+        pigeonReturn.setOpenToPreviewMicros(openToPreviewMicros);
+        pigeonReturn.setWasPrewarmed(wasPrewarmed);
+        pigeonReturn.setLastSessionSwitchMicros(lastSessionSwitchMicros);
+        pigeonReturn.setLastSessionSwitchReused(lastSessionSwitchReused);
+        pigeonReturn.setSessionCreationCount(sessionCreationCount);
+        pigeonReturn.setSessionReuseCount(sessionReuseCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(8);
+      toListResult.add(deviceOpenMicros);
+      toListResult.add(surfacesReadyMicros);
+      toListResult.add(openToPreviewMicros);
+      toListResult.add(wasPrewarmed);
+      toListResult.add(lastSessionSwitchMicros);
+      toListResult.add(lastSessionSwitchReused);
+      toListResult.add(sessionCreationCount);
+      toListResult.add(sessionReuseCount);
+      return toListResult;
+    }
+
+    static @NonNull PlatformCameraTimings fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformCameraTimings pigeonResult = new PlatformCameraTimings();
+      Object deviceOpenMicros = pigeonVar_list.get(0);
+      pigeonResult.setDeviceOpenMicros((Long) deviceOpenMicros);
+      Object surfacesReadyMicros = pigeonVar_list.get(1);
+      pigeonResult.setSurfacesReadyMicros((Long) surfacesReadyMicros);
+      Object openToPreviewMicros = pigeonVar_list.get(2);
+      pigeonResult.setOpenToPreviewMicros((Long) openToPreviewMicros);
+      Object wasPrewarmed = pigeonVar_list.get(3);
+      pigeonResult.setWasPrewarmed((Boolean) wasPrewarmed);
+      Object lastSessionSwitchMicros = pigeonVar_list.get(4);
+      pigeonResult.setLastSessionSwitchMicros((Long) lastSessionSwitchMicros);
+      Object lastSessionSwitchReused = pigeonVar_list.get(5);
+      pigeonResult.setLastSessionSwitchReused((Boolean) lastSessionSwitchReused);
+      Object sessionCreationCount = pigeonVar_list.get(6);
+      pigeonResult.setSessionCreationCount((Long) sessionCreationCount);
+      Object sessionReuseCount = pigeonVar_list.get(7);
+      pigeonResult.setSessionReuseCount((Long) sessionReuseCount);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The capture metadata of the frames completed since the previous batch, with one entry per frame
+   * in each list.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformCaptureMetadataBatch {
+    private @NonNull long[] frameNumbers;
+
+    public @NonNull long[] getFrameNumbers() {
+      return frameNumbers;
+    }
+
+    public void setFrameNumbers(@NonNull long[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"frameNumbers\" is null.");
+      }
+      this.frameNumbers = setterArg;
+    }
+
+    private @NonNull long[] sensorTimestampsNanos;
+
+    public @NonNull long[] getSensorTimestampsNanos() {
+      return sensorTimestampsNanos;
+    }
+
+    public void setSensorTimestampsNanos(@NonNull long[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sensorTimestampsNanos\" is null.");
+      }
+      this.sensorTimestampsNanos = setterArg;
+    }
+
+    private @NonNull long[] exposureTimesNanos;
+
+    public @NonNull long[] getExposureTimesNanos() {
+      return exposureTimesNanos;
+    }
+
+    public void setExposureTimesNanos(@NonNull long[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"exposureTimesNanos\" is null.");
+      }
+      this.exposureTimesNanos = setterArg;
+    }
+
+    private @NonNull long[] sensitivities;
+
+    public @NonNull long[] getSensitivities() {
+      return sensitivities;
+    }
+
+    public void setSensitivities(@NonNull long[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sensitivities\" is null.");
+      }
+      this.sensitivities = setterArg;
+    }
+
+    private @NonNull double[] focusDistances;
+
+    public @NonNull double[] getFocusDistances() {
+      return focusDistances;
+    }
+
+    public void setFocusDistances(@NonNull double[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"focusDistances\" is null.");
+      }
+      this.focusDistances = setterArg;
+    }
+
+    private @NonNull long[] lensStates;
+
+    public @NonNull long[] getLensStates() {
+      return lensStates;
+    }
+
+    public void setLensStates(@NonNull long[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"lensStates\" is null.");
+      }
+      this.lensStates = setterArg;
+    }
+
+    private @NonNull double[] apertures;
+
+    public @NonNull double[] getApertures() {
+      return apertures;
+    }
+
+    public void setApertures(@NonNull double[] setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"apertures\" is null.");
+      }
+      this.apertures = setterArg;
+    }
+
+    /** The number of frames dropped since the previous batch because the batch was full. */
+    private @NonNull Long droppedCount;
+
+    public @NonNull Long getDroppedCount() {
+      return droppedCount;
+    }
+
+    public void setDroppedCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"droppedCount\" is null.");
+      }
+      this.droppedCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformCaptureMetadataBatch() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformCaptureMetadataBatch that = (PlatformCaptureMetadataBatch) o;
+      return Arrays.equals(frameNumbers, that.frameNumbers)
+          && Arrays.equals(sensorTimestampsNanos, that.sensorTimestampsNanos)
+          && Arrays.equals(exposureTimesNanos, that.exposureTimesNanos)
+          && Arrays.equals(sensitivities, that.sensitivities)
+          && Arrays.equals(focusDistances, that.focusDistances)
+          && Arrays.equals(lensStates, that.lensStates)
+          && Arrays.equals(apertures, that.apertures)
+          && droppedCount.equals(that.droppedCount);
+    }
+
+    @Override
+    public int hashCode() {
+      int pigeonVar_result = Objects.hash(droppedCount);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(frameNumbers);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(sensorTimestampsNanos);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(exposureTimesNanos);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(sensitivities);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(focusDistances);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(lensStates);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(apertures);
+      return pigeonVar_result;
+    }
+
+    public static final class Builder {
+
+      private @Nullable long[] frameNumbers;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFrameNumbers(@NonNull long[] setterArg) {
+        this.frameNumbers = setterArg;
+        return this;
+      }
+
+      private @Nullable long[] sensorTimestampsNanos;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSensorTimestampsNanos(@NonNull long[] setterArg) {
+        this.sensorTimestampsNanos = setterArg;
+        return this;
+      }
+
+      private @Nullable long[] exposureTimesNanos;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setExposureTimesNanos(@NonNull long[] setterArg) {
+        this.exposureTimesNanos = setterArg;
+        return this;
+      }
+
+      private @Nullable long[] sensitivities;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSensitivities(@NonNull long[] setterArg) {
+        this.sensitivities = setterArg;
+        return this;
+      }
+
+      private @Nullable double[] focusDistances;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFocusDistances(@NonNull double[] setterArg) {
+        this.focusDistances = setterArg;
+        return this;
+      }
+
+      private @Nullable long[] lensStates;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLensStates(@NonNull long[] setterArg) {
+        this.lensStates = setterArg;
+        return this;
+      }
+
+      private @Nullable double[] apertures;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setApertures(@NonNull double[] setterArg) {
+        this.apertures = setterArg;
+        return this;
+      }
+
+      private @Nullable Long droppedCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDroppedCount(@NonNull Long setterArg) {
+        this.droppedCount = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformCaptureMetadataBatch build() {
+        PlatformCaptureMetadataBatch pigeonReturn = new PlatformCaptureMetadataBatch();
+        pigeonReturn.setFrameNumbers(frameNumbers);
+        pigeonReturn.setSensorTimestampsNanos(sensorTimestampsNanos);
+        pigeonReturn.setExposureTimesNanos(exposureTimesNanos);
+        pigeonReturn.setSensitivities(sensitivities);
+        pigeonReturn.setFocusDistances(focusDistances);
+        pigeonReturn.setLensStates(lensStates);
+        pigeonReturn.setApertures(apertures);
+        pigeonReturn.setDroppedCount(droppedCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(8);
+      toListResult.add(frameNumbers);
+      toListResult.add(sensorTimestampsNanos);
+      toListResult.add(exposureTimesNanos);
+      toListResult.add(sensitivities);
+      toListResult.add(focusDistances);
+      toListResult.add(lensStates);
+      toListResult.add(apertures);
+      toListResult.add(droppedCount);
+      return toListResult;
+    }
+
+    static @NonNull PlatformCaptureMetadataBatch fromList(
+        @NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformCaptureMetadataBatch pigeonResult = new PlatformCaptureMetadataBatch();
+      Object frameNumbers = pigeonVar_list.get(0);
+      pigeonResult.setFrameNumbers((long[]) frameNumbers);
+      Object sensorTimestampsNanos = pigeonVar_list.get(1);
+      pigeonResult.setSensorTimestampsNanos((long[]) sensorTimestampsNanos);
+      Object exposureTimesNanos = pigeonVar_list.get(2);
+      pigeonResult.setExposureTimesNanos((long[]) exposureTimesNanos);
+      Object sensitivities = pigeonVar_list.get(3);
+      pigeonResult.setSensitivities((long[]) sensitivities);
+      Object focusDistances = pigeonVar_list.get(4);
+      pigeonResult.setFocusDistances((double[]) focusDistances);
+      Object lensStates = pigeonVar_list.get(5);
+      pigeonResult.setLensStates((long[]) lensStates);
+      Object apertures = pigeonVar_list.get(6);
+      pigeonResult.setApertures((double[]) apertures);
+      Object droppedCount = pigeonVar_list.get(7);
+      pigeonResult.setDroppedCount((Long) droppedCount);
+      return pigeonResult;
+    }
+  }
+
   private static class PigeonCodec extends StandardMessageCodec {
     public static final PigeonCodec INSTANCE = new PigeonCodec();
 
@@ -885,6 +2048,18 @@ public class Messages {
           return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 140:
           return PlatformMediaSettings.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return PlatformImageStreamOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return PlatformImageStreamCrop.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return PlatformPictureSaveStatistics.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return PlatformBurstCaptureResult.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return PlatformCameraTimings.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return PlatformCaptureMetadataBatch.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -928,6 +2103,24 @@ public class Messages {
       } else if (value instanceof PlatformMediaSettings) {
         stream.write(140);
         writeValue(stream, ((PlatformMediaSettings) value).toList());
+      } else if (value instanceof PlatformImageStreamOptions) {
+        stream.write(141);
+        writeValue(stream, ((PlatformImageStreamOptions) value).toList());
+      } else if (value instanceof PlatformImageStreamCrop) {
+        stream.write(142);
+        writeValue(stream, ((PlatformImageStreamCrop) value).toList());
+      } else if (value instanceof PlatformPictureSaveStatistics) {
+        stream.write(143);
+        writeValue(stream, ((PlatformPictureSaveStatistics) value).toList());
+      } else if (value instanceof PlatformBurstCaptureResult) {
+        stream.write(144);
+        writeValue(stream, ((PlatformBurstCaptureResult) value).toList());
+      } else if (value instanceof PlatformCameraTimings) {
+        stream.write(145);
+        writeValue(stream, ((PlatformCameraTimings) value).toList());
+      } else if (value instanceof PlatformCaptureMetadataBatch) {
+        stream.write(146);
+        writeValue(stream, ((PlatformCaptureMetadataBatch) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -982,6 +2175,11 @@ public class Messages {
     void unlockCaptureOrientation();
     /** Takes a picture on the camera with the given ID and returns a path to the resulting file. */
     void takePicture(@NonNull Result<String> result);
+    /**
+     * Takes a burst of pictures on the camera with the given ID and returns the paths to the
+     * resulting files, along with the timing of each frame.
+     */
+    void takePictureBurst(@NonNull Long count, @NonNull Result<PlatformBurstCaptureResult> result);
     /** Starts recording a video on the camera with the given ID. */
     void startVideoRecording(@NonNull Boolean enableStream);
     /**
@@ -990,6 +2188,13 @@ public class Messages {
      */
     @NonNull
     String stopVideoRecording();
+    /**
+     * Returns the time between attaching the encoder surface of the current or last recording
+     * routed through the video renderer and the first frame being rendered onto it, or null if
+     * unknown.
+     */
+    @Nullable
+    Long getTimeToFirstEncodedFrameMicros();
     /** Pauses video recording on the camera with the given ID. */
     void pauseVideoRecording();
     /** Resumes previously paused video recording on the camera with the given ID. */
@@ -998,6 +2203,8 @@ public class Messages {
     void startImageStream();
     /** Stops streaming frames from the camera. */
     void stopImageStream();
+    /** Sets how frames are streamed from the camera by subsequent image streams. */
+    void setImageStreamOptions(@NonNull PlatformImageStreamOptions options);
     /** Sets the flash mode of the camera with the given ID. */
     void setFlashMode(@NonNull PlatformFlashMode flashMode, @NonNull VoidResult result);
     /** Sets the exposure mode of the camera with the given ID. */
@@ -1048,6 +2255,19 @@ public class Messages {
      * <p>This should be called only while video recording is active.
      */
     void setDescriptionWhileRecording(@NonNull String description);
+    /** Returns statistics of the pictures saved by the camera. */
+    @NonNull
+    PlatformPictureSaveStatistics getPictureSaveStatistics();
+    /** Returns the latencies of opening the camera and of switching its capture session. */
+    @NonNull
+    PlatformCameraTimings getCameraTimings();
+    /**
+     * Starts sending the capture metadata of every frame to Dart, in batches sent at the given
+     * interval.
+     */
+    void startCaptureMetadataStream(@NonNull Long flushIntervalMillis);
+    /** Stops sending capture metadata to Dart. */
+    void stopCaptureMetadataStream();
 
     /** The codec used by CameraApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -1241,6 +2461,38 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.takePictureBurst"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long countArg = (Long) args.get(0);
+                Result<PlatformBurstCaptureResult> resultCallback =
+                    new Result<PlatformBurstCaptureResult>() {
+                      public void success(PlatformBurstCaptureResult result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.takePictureBurst(countArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -1289,6 +2541,29 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.getTimeToFirstEncodedFrameMicros"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  Long output = api.getTimeToFirstEncodedFrameMicros();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -1381,6 +2656,31 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.setImageStreamOptions"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlatformImageStreamOptions optionsArg = (PlatformImageStreamOptions) args.get(0);
+                try {
+                  api.setImageStreamOptions(optionsArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -1778,6 +3078,100 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.getPictureSaveStatistics"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  PlatformPictureSaveStatistics output = api.getPictureSaveStatistics();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.getCameraTimings"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  PlatformCameraTimings output = api.getCameraTimings();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.startCaptureMetadataStream"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long flushIntervalMillisArg = (Long) args.get(0);
+                try {
+                  api.startCaptureMetadataStream(flushIntervalMillisArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.stopCaptureMetadataStream"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.stopCaptureMetadataStream();
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -1922,5 +3316,29 @@ public class Messages {
             }
           });
     }
+    /** Called with the capture metadata of the frames completed since the previous batch. */
+    public void captureMetadata(
+        @NonNull PlatformCaptureMetadataBatch batchArg, @NonNull VoidResult result) {
+      final String channelName =
+          "dev.flutter.pigeon.camera_android.CameraEventApi.captureMetadata" + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Collections.singletonList(batchArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(
+                    new FlutterError(
+                        (String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            } else {
+              result.error(createConnectionError(channelName));
+            }
+          });
+    }
   }
 }
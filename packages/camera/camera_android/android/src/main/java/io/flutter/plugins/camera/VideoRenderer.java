@@ -22,8 +22,11 @@ import android.os.HandlerThread;
 import android.util.Log;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Renders video onto texture after performing a matrix rotation on each frame.
@@ -38,6 +41,14 @@ import java.nio.ByteOrder;
  * <p>This leaves the solution to be routing the recording through a surface texture and performing
  * a matrix transformation on it manually to get the correct orientation. This only happens when
  * setDescription is called mid video recording.
+ *
+ * <p>Once created, the GL pipeline (context, program, buffers, texture, input surface and frame
+ * handler thread) stays warm between recordings of the same size: {@link
+ * #detachOutputSurface(Runnable)} releases the encoder surface of a finished recording, and {@link
+ * #attachOutputSurface(Surface, Runnable)} only needs to create a window surface for the encoder of
+ * the next one. Both only request the swap, which the render thread applies before rendering the
+ * next frame, so callers never wait for it. The time between attaching an encoder surface and the
+ * first frame being rendered onto it is reported by {@link #getTimeToFirstEncodedFrameNanos()}.
  */
 public class VideoRenderer {
 
@@ -90,8 +101,9 @@ public class VideoRenderer {
   EGLDisplay display;
   EGLContext context;
   EGLSurface surface;
+  private EGLConfig config;
   private Thread thread;
-  private final Surface outputSurface;
+  @Nullable private Surface outputSurface;
   SurfaceTexture inputSurfaceTexture;
   private Surface inputSurface;
 
@@ -105,6 +117,17 @@ public class VideoRenderer {
 
   private final Object lock = new Object();
 
+  // Output surface swaps requested by other threads, applied on the render thread. Guarded by
+  // surfaceTextureAvailableFrameLock.
+  private boolean outputSurfaceChangePending = false;
+  @Nullable private Surface pendingOutputSurface;
+  private final List<Runnable> pendingOutputSurfaceCallbacks = new ArrayList<>();
+
+  // Guarded by surfaceTextureAvailableFrameLock.
+  private long outputSurfaceRequestedNanos;
+  private boolean awaitingFirstEncodedFrame;
+  private volatile long timeToFirstEncodedFrameNanos = -1;
+
   private final Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
 
   /** Gets surface for input. Blocks until surface is ready. */
@@ -127,6 +150,8 @@ public class VideoRenderer {
     this.recordingHeight = recordingHeight;
     this.recordingWidth = recordingWidth;
     this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+    this.outputSurfaceRequestedNanos = System.nanoTime();
+    this.awaitingFirstEncodedFrame = true;
     startOpenGL();
     Log.d(TAG, "VideoRenderer setup complete");
   }
@@ -143,10 +168,123 @@ public class VideoRenderer {
     GLES20.glDeleteBuffers(2, bufferHandles, 0);
     GLES20.glDeleteTextures(1, textureHandles, 0);
     EGL14.eglDestroyContext(display, context);
-    EGL14.eglDestroySurface(display, surface);
+    if (surface != null && surface != EGL14.EGL_NO_SURFACE) {
+      EGL14.eglDestroySurface(display, surface);
+    }
     GLES20.glDeleteProgram(program);
   }
 
+  /** Returns whether this renderer renders frames of the given size. */
+  public boolean hasRecordingSize(int width, int height) {
+    return recordingWidth == width && recordingHeight == height;
+  }
+
+  /**
+   * Renders subsequent frames onto the given encoder surface, keeping the rest of the GL pipeline.
+   *
+   * @param outputSurface is the encoder surface to render onto.
+   * @param onSwapped is run on the render thread once it renders onto the new surface.
+   */
+  public void attachOutputSurface(@NonNull Surface outputSurface, @Nullable Runnable onSwapped) {
+    requestOutputSurface(outputSurface, onSwapped);
+  }
+
+  /**
+   * Releases the encoder surface of a finished recording and stops rendering frames, while keeping
+   * the rest of the GL pipeline warm for the next recording.
+   *
+   * @param onSwapped is run on the render thread once the surface has been released.
+   */
+  public void detachOutputSurface(@Nullable Runnable onSwapped) {
+    requestOutputSurface(null, onSwapped);
+  }
+
+  /**
+   * Returns whether the render thread has not applied the last output surface swap yet, for
+   * instance because it is stuck.
+   */
+  public boolean isOutputSurfaceSwapPending() {
+    synchronized (surfaceTextureAvailableFrameLock) {
+      return outputSurfaceChangePending;
+    }
+  }
+
+  /**
+   * Returns the time between the last encoder surface being attached and the first frame being
+   * rendered onto it, in nanoseconds, or -1 if no frame has been rendered onto it yet.
+   */
+  public long getTimeToFirstEncodedFrameNanos() {
+    return timeToFirstEncodedFrameNanos;
+  }
+
+  private void requestOutputSurface(@Nullable Surface outputSurface, @Nullable Runnable onSwapped) {
+    synchronized (surfaceTextureAvailableFrameLock) {
+      pendingOutputSurface = outputSurface;
+      outputSurfaceChangePending = true;
+      if (outputSurface != null) {
+        outputSurfaceRequestedNanos = System.nanoTime();
+        awaitingFirstEncodedFrame = true;
+        timeToFirstEncodedFrameNanos = -1;
+      }
+      // Callbacks of superseded swaps run once the last one is applied.
+      if (onSwapped != null) {
+        pendingOutputSurfaceCallbacks.add(onSwapped);
+      }
+      surfaceTextureAvailableFrameLock.notifyAll();
+    }
+  }
+
+  /** Applies a pending output surface swap. Must be called on the render thread. */
+  private void applyPendingOutputSurface() {
+    Surface newOutputSurface;
+    synchronized (surfaceTextureAvailableFrameLock) {
+      if (!outputSurfaceChangePending) {
+        return;
+      }
+      newOutputSurface = pendingOutputSurface;
+    }
+
+    if (surface != null && surface != EGL14.EGL_NO_SURFACE) {
+      EGL14.eglMakeCurrent(
+          display, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
+      EGL14.eglDestroySurface(display, surface);
+      surface = EGL14.EGL_NO_SURFACE;
+    }
+    outputSurface = newOutputSurface;
+    if (newOutputSurface != null) {
+      makeOutputSurfaceCurrent();
+    }
+
+    final List<Runnable> callbacks;
+    synchronized (surfaceTextureAvailableFrameLock) {
+      if (newOutputSurface != null) {
+        // Consume any frame that was queued while no surface was attached.
+        surfaceTextureFrameAvailable = true;
+      }
+      pendingOutputSurface = null;
+      outputSurfaceChangePending = false;
+      callbacks = new ArrayList<>(pendingOutputSurfaceCallbacks);
+      pendingOutputSurfaceCallbacks.clear();
+    }
+    for (Runnable callback : callbacks) {
+      callback.run();
+    }
+  }
+
+  /** Creates a window surface for the output surface and makes it current. */
+  private void makeOutputSurfaceCurrent() {
+    int[] surfaceAttribs = new int[] {EGL14.EGL_NONE};
+
+    surface = EGL14.eglCreateWindowSurface(display, config, outputSurface, surfaceAttribs, 0);
+
+    int err = EGL14.eglGetError();
+    if (err != EGL14.EGL_SUCCESS) throw new RuntimeException(GLUtils.getEGLErrorString(err));
+
+    if (!EGL14.eglMakeCurrent(display, surface, surface, context))
+      throw new RuntimeException(
+          "eglMakeCurrent(): " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
+  }
+
   /** Configures openGL. Must be called in same thread as draw is called. */
   void configureOpenGL() {
     synchronized (lock) {
@@ -198,22 +336,14 @@ public class VideoRenderer {
       int err = EGL14.eglGetError();
       if (err != EGL14.EGL_SUCCESS) throw new RuntimeException(GLUtils.getEGLErrorString(err));
 
+      config = configs[0];
       int[] ctxAttribs = new int[] {EGL14.EGL_CONTEXT_CLIENT_VERSION, 2, EGL14.EGL_NONE};
-      context = EGL14.eglCreateContext(display, configs[0], EGL14.EGL_NO_CONTEXT, ctxAttribs, 0);
+      context = EGL14.eglCreateContext(display, config, EGL14.EGL_NO_CONTEXT, ctxAttribs, 0);
 
       err = EGL14.eglGetError();
       if (err != EGL14.EGL_SUCCESS) throw new RuntimeException(GLUtils.getEGLErrorString(err));
 
-      int[] surfaceAttribs = new int[] {EGL14.EGL_NONE};
-
-      surface = EGL14.eglCreateWindowSurface(display, configs[0], outputSurface, surfaceAttribs, 0);
-
-      err = EGL14.eglGetError();
-      if (err != EGL14.EGL_SUCCESS) throw new RuntimeException(GLUtils.getEGLErrorString(err));
-
-      if (!EGL14.eglMakeCurrent(display, surface, surface, context))
-        throw new RuntimeException(
-            "eglMakeCurrent(): " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
+      makeOutputSurfaceCurrent();
 
       ByteBuffer vertexBuffer = ByteBuffer.allocateDirect(vertices.length * 4);
       vertexBuffer.order(ByteOrder.nativeOrder());
@@ -295,13 +425,21 @@ public class VideoRenderer {
               // to correct rotation.
               while (!Thread.interrupted()) {
 
+                boolean frameAvailable;
                 synchronized (surfaceTextureAvailableFrameLock) {
-                  while (!surfaceTextureFrameAvailable) {
+                  while (!surfaceTextureFrameAvailable && !outputSurfaceChangePending) {
                     surfaceTextureAvailableFrameLock.wait(500);
                   }
+                  frameAvailable = surfaceTextureFrameAvailable;
                   surfaceTextureFrameAvailable = false;
                 }
 
+                applyPendingOutputSurface();
+                // Frames are left in the input surface texture while no recording is attached.
+                if (!frameAvailable || outputSurface == null) {
+                  continue;
+                }
+
                 inputSurfaceTexture.updateTexImage();
 
                 float[] surfaceTextureMatrix = new float[16];
@@ -375,6 +513,19 @@ public class VideoRenderer {
     EGLExt.eglPresentationTimeANDROID(display, surface, uptimeMillis() * 1000000);
     if (!EGL14.eglSwapBuffers(display, surface)) {
       Log.w(TAG, "eglSwapBuffers() " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
+    } else {
+      recordFirstEncodedFrame();
+    }
+  }
+
+  private void recordFirstEncodedFrame() {
+    synchronized (surfaceTextureAvailableFrameLock) {
+      if (!awaitingFirstEncodedFrame) {
+        return;
+      }
+      awaitingFirstEncodedFrame = false;
+      timeToFirstEncodedFrameNanos = System.nanoTime() - outputSurfaceRequestedNanos;
     }
+    Log.d(TAG, "First frame encoded after " + timeToFirstEncodedFrameNanos / 1000000 + "ms");
   }
 }
@@ -0,0 +1,139 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A region of interest and subsampling factor applied to YUV image stream frames before they are
+ * sent to Dart.
+ *
+ * <p>The region is expressed in pixels of the full resolution image. Every {@code subsampleFactor}
+ * th pixel of every {@code subsampleFactor}th row of the region is kept, so the frame sent to Dart
+ * is {@code width / subsampleFactor} by {@code height / subsampleFactor} pixels.
+ *
+ * <p>Since U and V are subsampled by a factor of 2 in YUV_420_888, {@link #resolve} aligns the
+ * region to even pixel coordinates and to output dimensions that are a multiple of 2.
+ */
+public class ImageStreamCrop {
+  private final int left;
+  private final int top;
+  private final int width;
+  private final int height;
+  private final int subsampleFactor;
+
+  /**
+   * Creates a new instance of the {@link ImageStreamCrop}.
+   *
+   * @param left is the left edge of the region, in pixels.
+   * @param top is the top edge of the region, in pixels.
+   * @param width is the width of the region, in pixels.
+   * @param height is the height of the region, in pixels.
+   * @param subsampleFactor is the distance between two kept pixels, at least 1.
+   */
+  public ImageStreamCrop(int left, int top, int width, int height, int subsampleFactor) {
+    if (left < 0 || top < 0 || width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("The region of interest must be a non-empty rectangle.");
+    }
+    if (subsampleFactor < 1) {
+      throw new IllegalArgumentException("subsampleFactor must be at least 1.");
+    }
+    this.left = left;
+    this.top = top;
+    this.width = width;
+    this.height = height;
+    this.subsampleFactor = subsampleFactor;
+  }
+
+  /**
+   * Returns a crop of the given region that is subsampled down to at least the target size.
+   *
+   * <p>The largest subsampling factor that keeps both dimensions at or above the target size is
+   * used, so the frame sent to Dart never needs upscaling.
+   */
+  @NonNull
+  public static ImageStreamCrop forTargetSize(
+      int left, int top, int width, int height, int targetWidth, int targetHeight) {
+    int subsampleFactor =
+        Math.max(1, Math.min(width / Math.max(1, targetWidth), height / Math.max(1, targetHeight)));
+    return new ImageStreamCrop(left, top, width, height, subsampleFactor);
+  }
+
+  /** Returns a crop of the given size centered in an image of the given size. */
+  @NonNull
+  public static ImageStreamCrop centered(
+      int imageWidth, int imageHeight, int width, int height, int subsampleFactor) {
+    return new ImageStreamCrop(
+        Math.max(0, (imageWidth - width) / 2),
+        Math.max(0, (imageHeight - height) / 2),
+        width,
+        height,
+        subsampleFactor);
+  }
+
+  /**
+   * Clamps the region to an image of the given size and aligns it so that the chroma planes can be
+   * cropped with it.
+   *
+   * <p>The subsample factor is reduced if a single subsampled chroma pixel would not fit in the
+   * image, and the region is moved towards the origin if it would not fit between its edge and the
+   * edge of the image, so the returned crop never extends past the image.
+   *
+   * @return the aligned crop, or this crop if it is already aligned.
+   */
+  @NonNull
+  public ImageStreamCrop resolve(int imageWidth, int imageHeight) {
+    int alignedFactor =
+        Math.max(1, Math.min(subsampleFactor, Math.min(imageWidth, imageHeight) / 2));
+    int step = 2 * alignedFactor;
+    int alignedLeft = Math.max(0, Math.min(left, imageWidth - step)) & ~1;
+    int alignedTop = Math.max(0, Math.min(top, imageHeight - step)) & ~1;
+    int alignedWidth = Math.max(step, Math.min(width, imageWidth - alignedLeft) / step * step);
+    int alignedHeight = Math.max(step, Math.min(height, imageHeight - alignedTop) / step * step);
+    if (alignedLeft == left
+        && alignedTop == top
+        && alignedWidth == width
+        && alignedHeight == height
+        && alignedFactor == subsampleFactor) {
+      return this;
+    }
+    return new ImageStreamCrop(alignedLeft, alignedTop, alignedWidth, alignedHeight, alignedFactor);
+  }
+
+  /** Returns the left edge of the region, in pixels. */
+  public int getLeft() {
+    return left;
+  }
+
+  /** Returns the top edge of the region, in pixels. */
+  public int getTop() {
+    return top;
+  }
+
+  /** Returns the width of the region, in pixels. */
+  public int getWidth() {
+    return width;
+  }
+
+  /** Returns the height of the region, in pixels. */
+  public int getHeight() {
+    return height;
+  }
+
+  /** Returns the distance between two kept pixels. */
+  public int getSubsampleFactor() {
+    return subsampleFactor;
+  }
+
+  /** Returns the width of the frame sent to Dart. */
+  public int getOutputWidth() {
+    return width / subsampleFactor;
+  }
+
+  /** Returns the height of the frame sent to Dart. */
+  public int getOutputHeight() {
+    return height / subsampleFactor;
+  }
+}
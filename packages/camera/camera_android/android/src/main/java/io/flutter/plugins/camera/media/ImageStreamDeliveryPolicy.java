@@ -0,0 +1,62 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Describes how an {@link ImageStreamReader} delivers frames to Dart when frames arrive faster than
+ * they are consumed.
+ *
+ * <p>A frame is in flight from the moment it is accepted for conversion until it has been handed to
+ * the event sink on the main thread. Dart does not acknowledge frames, so a frame that has been
+ * sent no longer counts against the limit even if Dart is still processing it. Frames arriving
+ * while the maximum number of frames is in flight are closed without being converted and counted
+ * as dropped.
+ */
+public class ImageStreamDeliveryPolicy {
+  private final int maxFramesInFlight;
+
+  private ImageStreamDeliveryPolicy(int maxFramesInFlight) {
+    this.maxFramesInFlight = maxFramesInFlight;
+  }
+
+  /**
+   * Returns a policy that only converts a new frame once the previous frame has been handed to the
+   * event sink.
+   *
+   * <p>Frames produced while a frame is in flight are dropped, so the frame Dart receives is the
+   * first one produced after the previous frame was sent, which may no longer be the most recent
+   * one.
+   */
+  @NonNull
+  public static ImageStreamDeliveryPolicy latestFrameWins() {
+    return new ImageStreamDeliveryPolicy(1);
+  }
+
+  /**
+   * Returns a policy that allows up to {@code maxFramesInFlight} frames to wait for delivery.
+   *
+   * @param maxFramesInFlight is the maximum number of frames in flight, which must be positive.
+   */
+  @NonNull
+  public static ImageStreamDeliveryPolicy boundedQueue(int maxFramesInFlight) {
+    if (maxFramesInFlight < 1) {
+      throw new IllegalArgumentException("maxFramesInFlight must be at least 1.");
+    }
+    return new ImageStreamDeliveryPolicy(maxFramesInFlight);
+  }
+
+  /** Returns a policy that delivers every frame, however far behind the main thread is. */
+  @NonNull
+  public static ImageStreamDeliveryPolicy everyFrame() {
+    return new ImageStreamDeliveryPolicy(Integer.MAX_VALUE);
+  }
+
+  /** Returns the maximum number of frames that may be in flight at once. */
+  public int getMaxFramesInFlight() {
+    return maxFramesInFlight;
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of recycled image stream frames.
+ *
+ * <p>Each {@link Frame} owns the message map, the plane maps and the plane byte arrays that are
+ * sent to Dart for a single image. The standard message codec copies the frame into the platform
+ * message while the event sink is invoked, so a frame can be released back into the pool as soon as
+ * it has been sent. Because the geometry of an {@link android.media.ImageReader} never changes,
+ * the plane buffers of a released frame always fit the next image and a stream reaches a steady
+ * state where no memory is allocated per frame.
+ *
+ * <p>The pool is accessed from both the camera background thread, which fills frames, and the main
+ * thread, which sends and releases them, so all methods are synchronized.
+ */
+public class ImageStreamFramePool {
+  /** The frame payload sent to Dart, along with the buffers backing it. */
+  public static class Frame {
+    @NonNull final Map<String, Object> message = new HashMap<>();
+    @NonNull final List<Map<String, Object>> planes = new ArrayList<>();
+    @NonNull final List<byte[]> planeBytes = new ArrayList<>();
+
+    Frame() {
+      message.put("planes", planes);
+    }
+
+    /** Returns the message map that is sent to Dart for this frame. */
+    @NonNull
+    public Map<String, Object> getMessage() {
+      return message;
+    }
+  }
+
+  private final int maxPooledFrames;
+  private final ArrayDeque<Frame> freeFrames = new ArrayDeque<>();
+
+  private long allocationCount;
+  private long acquiredFrameCount;
+
+  /**
+   * Creates a new instance of the {@link ImageStreamFramePool}.
+   *
+   * @param maxPooledFrames is the maximum number of released frames kept for reuse.
+   */
+  public ImageStreamFramePool(int maxPooledFrames) {
+    this.maxPooledFrames = maxPooledFrames;
+  }
+
+  /** Returns a recycled frame if one is available, or allocates a new one. */
+  @NonNull
+  public synchronized Frame acquire() {
+    acquiredFrameCount++;
+    Frame frame = freeFrames.poll();
+    if (frame == null) {
+      allocationCount++;
+      frame = new Frame();
+    }
+    return frame;
+  }
+
+  /**
+   * Resizes the plane list of the frame to the given plane count, reusing existing plane maps.
+   *
+   * @param frame is the frame to prepare.
+   * @param planeCount is the number of planes the frame should describe.
+   */
+  public synchronized void setPlaneCount(@NonNull Frame frame, int planeCount) {
+    while (frame.planes.size() > planeCount) {
+      frame.planes.remove(frame.planes.size() - 1);
+      frame.planeBytes.remove(frame.planeBytes.size() - 1);
+    }
+    while (frame.planes.size() < planeCount) {
+      allocationCount++;
+      frame.planes.add(new HashMap<>());
+      frame.planeBytes.add(null);
+    }
+  }
+
+  /**
+   * Returns the map describing a plane of the frame.
+   *
+   * @param frame is the frame owning the plane.
+   * @param planeIndex is the index of the plane, which must be less than the plane count.
+   */
+  @NonNull
+  public Map<String, Object> getPlane(@NonNull Frame frame, int planeIndex) {
+    return frame.planes.get(planeIndex);
+  }
+
+  /**
+   * Returns a byte array of exactly the given size backing a plane of the frame.
+   *
+   * <p>The array of the previous use of the frame is returned when its size matches; otherwise a
+   * new array is allocated and counted.
+   *
+   * @param frame is the frame owning the plane.
+   * @param planeIndex is the index of the plane, which must be less than the plane count.
+   * @param size is the number of bytes needed for the plane.
+   */
+  @NonNull
+  public synchronized byte[] getPlaneBytes(@NonNull Frame frame, int planeIndex, int size) {
+    byte[] bytes = frame.planeBytes.get(planeIndex);
+    if (bytes == null || bytes.length != size) {
+      allocationCount++;
+      bytes = new byte[size];
+      frame.planeBytes.set(planeIndex, bytes);
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns a frame to the pool once it has been sent to Dart.
+   *
+   * <p>Frames released while the pool is full are left to the garbage collector.
+   */
+  public synchronized void release(@NonNull Frame frame) {
+    if (freeFrames.size() < maxPooledFrames) {
+      freeFrames.push(frame);
+    }
+  }
+
+  /** Drops all pooled frames so their buffers can be garbage collected. */
+  public synchronized void clear() {
+    freeFrames.clear();
+  }
+
+  /**
+   * Returns the number of frames, plane maps and plane buffers allocated by this pool.
+   *
+   * <p>Once a stream reaches steady state, this value stops increasing.
+   */
+  public synchronized long getAllocationCount() {
+    return allocationCount;
+  }
+
+  /** Returns the number of frames that have been acquired from this pool. */
+  public synchronized long getAcquiredFrameCount() {
+    return acquiredFrameCount;
+  }
+}
@@ -22,6 +22,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 // Wraps an ImageReader to allow for testing of the image handler.
 public class ImageStreamReader {
@@ -47,6 +51,51 @@ public class ImageStreamReader {
    */
   private Map<String, Object> latestImageBufferHardReference = null;
 
+  /** The number of released frames kept for reuse when frame pooling is enabled. */
+  private static final int FRAME_POOL_SIZE = 3;
+
+  /**
+   * The minimum number of pixels of a plane for it to be converted in parallel, which is the size
+   * of the chroma planes of a 1080p frame.
+   */
+  private static final int MIN_PARALLEL_CONVERSION_PIXELS = 960 * 540;
+
+  /** Recycles frame buffers across images when frame pooling is enabled, null otherwise. */
+  @Nullable private volatile ImageStreamFramePool framePool;
+
+  /**
+   * Limits the number of frames waiting for delivery to Dart, or null to post every frame and let
+   * the garbage collector drop frames under memory pressure.
+   */
+  @Nullable private volatile ImageStreamDeliveryPolicy deliveryPolicy;
+
+  /** The region of interest of YUV and NV21 frames, or null to send full frames. */
+  @Nullable private volatile ImageStreamCrop crop;
+
+  /**
+   * The last crop resolved against the size of the images, which never changes for an image reader,
+   * along with the crop it was resolved from.
+   */
+  @Nullable private ImageStreamCrop resolvedCrop;
+
+  @Nullable private ImageStreamCrop resolvedCropSource;
+
+  /**
+   * The number of threads converting NV21 frames. It is set on the platform thread, and applied to
+   * {@link #imageStreamReaderUtils} on the camera background thread before the next conversion.
+   */
+  private volatile int conversionThreadCount = 1;
+
+  private int appliedConversionThreadCount = 1;
+
+  /** Runs the bands of rows of large planes when more than one conversion thread is set. */
+  @Nullable private volatile ExecutorService conversionExecutor;
+
+  private final AtomicInteger framesInFlight = new AtomicInteger();
+  private final AtomicLong deliveredFrameCount = new AtomicLong();
+  private final AtomicLong droppedFrameCount = new AtomicLong();
+  private final AtomicLong discardedFrameCount = new AtomicLong();
+
   /**
    * Creates a new instance of the {@link ImageStreamReader}.
    *
@@ -109,13 +158,30 @@ public class ImageStreamReader {
       @NonNull Image image,
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink) {
+    if (!tryAcceptFrame()) {
+      // Dart has not caught up with the frames in flight, so skip converting this one.
+      droppedFrameCount.incrementAndGet();
+      image.close();
+      return;
+    }
+    applyConversionThreadCount();
+
+    final ImageStreamFramePool framePool = this.framePool;
+    if (framePool != null) {
+      onImageAvailableWithFramePool(image, captureProps, imageStreamSink, framePool);
+      return;
+    }
+
     Map<String, Object> imageBuffer = new HashMap<>();
+    final ImageStreamCrop crop = resolveCrop(image);
 
-    imageBuffer.put("width", image.getWidth());
-    imageBuffer.put("height", image.getHeight());
+    imageBuffer.put("width", crop != null ? crop.getOutputWidth() : image.getWidth());
+    imageBuffer.put("height", crop != null ? crop.getOutputHeight() : image.getHeight());
     try {
       // Get plane data ready
-      if (dartImageFormat == ImageFormat.NV21) {
+      if (crop != null) {
+        imageBuffer.put("planes", fillCroppedPlanes(image, crop, null, null));
+      } else if (dartImageFormat == ImageFormat.NV21) {
         imageBuffer.put("planes", parsePlanesForNv21(image));
       } else {
         imageBuffer.put("planes", parsePlanesForYuvOrJpeg(image));
@@ -145,6 +211,11 @@ public class ImageStreamReader {
     final Handler handler =
         this.handler != null ? this.handler : new Handler(Looper.getMainLooper());
 
+    if (deliveryPolicy != null) {
+      postFrame(handler, imageBuffer, imageStreamSink, null);
+      return;
+    }
+
     // Keep a hard reference to the latest frame, so it isn't dropped before it reaches the main
     // looper
     latestImageBufferHardReference = imageBuffer;
@@ -161,17 +232,250 @@ public class ImageStreamReader {
 
               @Override
               public void run() {
+                framesInFlight.decrementAndGet();
                 final Map<String, Object> imageBuffer = weakImageBuffer.get();
                 if (imageBuffer == null) {
                   // The memory was freed by the runtime, most likely due to a memory build-up
                   // while the main thread was lagging. Frames are silently dropped in this
                   // case.
                   Log.d(TAG, "Image buffer was dropped by garbage collector.");
+                  discardedFrameCount.incrementAndGet();
                   return;
                 }
-                imageStreamSink.success(imageBuffer);
+                deliverFrame(imageBuffer, imageStreamSink);
               }
             }.withImageBuffer(imageBuffer));
+    if (!postResult) {
+      framesInFlight.decrementAndGet();
+      discardedFrameCount.incrementAndGet();
+    }
+  }
+
+  /**
+   * Reserves a slot for a new frame according to the delivery policy.
+   *
+   * @return false if the maximum number of frames is already in flight.
+   */
+  private boolean tryAcceptFrame() {
+    final ImageStreamDeliveryPolicy policy = deliveryPolicy;
+    if (policy == null) {
+      framesInFlight.incrementAndGet();
+      return true;
+    }
+    while (true) {
+      int current = framesInFlight.get();
+      if (current >= policy.getMaxFramesInFlight()) {
+        return false;
+      }
+      if (framesInFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Posts a converted frame to the main thread, holding it strongly until it has been delivered.
+   *
+   * @param onSent is run once the frame has been sent or discarded, to recycle its buffers.
+   */
+  private void postFrame(
+      @NonNull Handler handler,
+      @NonNull Map<String, Object> imageBuffer,
+      @NonNull EventChannel.EventSink imageStreamSink,
+      @Nullable Runnable onSent) {
+    boolean postResult =
+        handler.post(
+            () -> {
+              framesInFlight.decrementAndGet();
+              try {
+                deliverFrame(imageBuffer, imageStreamSink);
+              } finally {
+                if (onSent != null) {
+                  onSent.run();
+                }
+              }
+            });
+    if (!postResult) {
+      framesInFlight.decrementAndGet();
+      discardedFrameCount.incrementAndGet();
+      if (onSent != null) {
+        onSent.run();
+      }
+    }
+  }
+
+  /** Attaches the stream counters to a frame and sends it to Dart. Runs on the main thread. */
+  private void deliverFrame(
+      @NonNull Map<String, Object> imageBuffer, @NonNull EventChannel.EventSink imageStreamSink) {
+    imageBuffer.put("deliveredFrameCount", deliveredFrameCount.incrementAndGet());
+    imageBuffer.put("droppedFrameCount", droppedFrameCount.get());
+    imageBuffer.put("discardedFrameCount", discardedFrameCount.get());
+    imageStreamSink.success(imageBuffer);
+  }
+
+  /**
+   * Processes a new frame (image) into a recycled frame from the frame pool and sends it to Dart.
+   *
+   * <p>The frame is held strongly until it has been sent, after which it is released back into the
+   * pool.
+   */
+  private void onImageAvailableWithFramePool(
+      @NonNull Image image,
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink,
+      @NonNull ImageStreamFramePool framePool) {
+    final Handler handler =
+        this.handler != null ? this.handler : new Handler(Looper.getMainLooper());
+    final ImageStreamFramePool.Frame frame = framePool.acquire();
+    final Map<String, Object> imageBuffer = frame.getMessage();
+    final ImageStreamCrop crop = resolveCrop(image);
+
+    imageBuffer.put("width", crop != null ? crop.getOutputWidth() : image.getWidth());
+    imageBuffer.put("height", crop != null ? crop.getOutputHeight() : image.getHeight());
+    try {
+      if (crop != null) {
+        fillCroppedPlanes(image, crop, frame, framePool);
+      } else if (dartImageFormat == ImageFormat.NV21) {
+        fillPlanesForNv21(image, frame, framePool);
+      } else {
+        fillPlanesForYuvOrJpeg(image, frame, framePool);
+      }
+    } catch (IllegalStateException e) {
+      framesInFlight.decrementAndGet();
+      discardedFrameCount.incrementAndGet();
+      framePool.release(frame);
+      handler.post(
+          () ->
+              imageStreamSink.error(
+                  "IllegalStateException",
+                  "Caught IllegalStateException: " + e.getMessage(),
+                  null));
+      return;
+    } finally {
+      image.close();
+    }
+
+    imageBuffer.put("format", dartImageFormat);
+    imageBuffer.put("lensAperture", captureProps.getLastLensAperture());
+    imageBuffer.put("sensorExposureTime", captureProps.getLastSensorExposureTime());
+    Integer sensorSensitivity = captureProps.getLastSensorSensitivity();
+    imageBuffer.put(
+        "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
+
+    // The frame is copied into the platform message when it is sent, so it can be reused after.
+    postFrame(handler, imageBuffer, imageStreamSink, () -> framePool.release(frame));
+  }
+
+  /** Copies each plane of a Yuv / Jpeg image as-is into the pooled buffers of the frame. */
+  private void fillPlanesForYuvOrJpeg(
+      @NonNull Image image,
+      @NonNull ImageStreamFramePool.Frame frame,
+      @NonNull ImageStreamFramePool framePool) {
+    Image.Plane[] imagePlanes = image.getPlanes();
+    framePool.setPlaneCount(frame, imagePlanes.length);
+    for (int i = 0; i < imagePlanes.length; i++) {
+      Image.Plane plane = imagePlanes[i];
+      ByteBuffer buffer = plane.getBuffer();
+
+      byte[] bytes = framePool.getPlaneBytes(frame, i, buffer.remaining());
+      buffer.get(bytes, 0, bytes.length);
+
+      Map<String, Object> planeBuffer = framePool.getPlane(frame, i);
+      planeBuffer.put("bytesPerRow", plane.getRowStride());
+      planeBuffer.put("bytesPerPixel", plane.getPixelStride());
+      planeBuffer.put("bytes", bytes);
+    }
+  }
+
+  /** Converts a YUV420 image into a single NV21 plane backed by the pooled buffer of the frame. */
+  private void fillPlanesForNv21(
+      @NonNull Image image,
+      @NonNull ImageStreamFramePool.Frame frame,
+      @NonNull ImageStreamFramePool framePool) {
+    framePool.setPlaneCount(frame, 1);
+    byte[] bytes =
+        framePool.getPlaneBytes(
+            frame, 0, ImageStreamReaderUtils.getNV21Size(image.getWidth(), image.getHeight()));
+    imageStreamReaderUtils.yuv420ThreePlanesToNV21(
+        image.getPlanes(), image.getWidth(), image.getHeight(), bytes);
+
+    Map<String, Object> planeBuffer = framePool.getPlane(frame, 0);
+    planeBuffer.put("bytesPerRow", image.getWidth());
+    planeBuffer.put("bytesPerPixel", 1);
+    planeBuffer.put("bytes", bytes);
+  }
+
+  /**
+   * Returns the crop to apply to the image, resolved against its size, or null if the full image
+   * should be sent. Crops only apply to YUV and NV21 streams, since JPEG planes cannot be cropped.
+   */
+  @Nullable
+  private ImageStreamCrop resolveCrop(@NonNull Image image) {
+    final ImageStreamCrop crop = this.crop;
+    if (crop == null || dartImageFormat == ImageFormat.JPEG) {
+      return null;
+    }
+    if (resolvedCropSource != crop) {
+      resolvedCrop = crop.resolve(image.getWidth(), image.getHeight());
+      resolvedCropSource = crop;
+    }
+    return resolvedCrop;
+  }
+
+  /**
+   * Copies the region of interest of the image into planes without row padding.
+   *
+   * <p>NV21 frames are sent as a single interleaved plane, and YUV frames as three planes with a
+   * pixel stride of 1.
+   *
+   * @param frame is the pooled frame to fill, or null to allocate new planes.
+   * @param framePool is the pool owning the frame, or null to allocate new planes.
+   * @return the list of maps describing the planes.
+   */
+  @NonNull
+  private List<Map<String, Object>> fillCroppedPlanes(
+      @NonNull Image image,
+      @NonNull ImageStreamCrop crop,
+      @Nullable ImageStreamFramePool.Frame frame,
+      @Nullable ImageStreamFramePool framePool) {
+    final int outputWidth = crop.getOutputWidth();
+    final int outputHeight = crop.getOutputHeight();
+    final int planeCount = dartImageFormat == ImageFormat.NV21 ? 1 : 3;
+
+    List<Map<String, Object>> planes;
+    if (frame != null && framePool != null) {
+      framePool.setPlaneCount(frame, planeCount);
+      planes = frame.planes;
+    } else {
+      planes = new ArrayList<>();
+      for (int i = 0; i < planeCount; i++) {
+        planes.add(new HashMap<>());
+      }
+    }
+
+    for (int i = 0; i < planeCount; i++) {
+      int planeWidth = i == 0 ? outputWidth : outputWidth / 2;
+      int size =
+          dartImageFormat == ImageFormat.NV21
+              ? ImageStreamReaderUtils.getNV21Size(outputWidth, outputHeight)
+              : planeWidth * (i == 0 ? outputHeight : outputHeight / 2);
+      byte[] bytes =
+          frame != null && framePool != null
+              ? framePool.getPlaneBytes(frame, i, size)
+              : new byte[size];
+
+      if (dartImageFormat == ImageFormat.NV21) {
+        imageStreamReaderUtils.yuv420ThreePlanesToCroppedNV21(image.getPlanes(), crop, bytes);
+      } else {
+        imageStreamReaderUtils.cropYuv420Plane(image.getPlanes()[i], i, crop, bytes);
+      }
+
+      Map<String, Object> planeBuffer = planes.get(i);
+      planeBuffer.put("bytesPerRow", planeWidth);
+      planeBuffer.put("bytesPerPixel", 1);
+      planeBuffer.put("bytes", bytes);
+    }
+    return planes;
   }
 
   /**
@@ -227,6 +531,96 @@ public class ImageStreamReader {
     return planes;
   }
 
+  /**
+   * Enables or disables recycling of frame buffers across images.
+   *
+   * <p>When enabled, plane buffers and the maps describing them are taken from an {@link
+   * ImageStreamFramePool} sized to the geometry of the image reader, and returned to it once each
+   * frame has been sent to Dart.
+   *
+   * @param enabled whether frame buffers should be pooled.
+   */
+  public void setFramePoolingEnabled(boolean enabled) {
+    if (enabled && framePool == null) {
+      framePool = new ImageStreamFramePool(FRAME_POOL_SIZE);
+    } else if (!enabled && framePool != null) {
+      framePool.clear();
+      framePool = null;
+    }
+  }
+
+  /** Returns the frame pool when frame pooling is enabled, or null otherwise. */
+  @Nullable
+  public ImageStreamFramePool getFramePool() {
+    return framePool;
+  }
+
+  /**
+   * Sets how frames are delivered when Dart falls behind the camera.
+   *
+   * @param deliveryPolicy is the policy to apply, or null to post every frame and let the garbage
+   *     collector drop frames that are not delivered in time.
+   */
+  public void setDeliveryPolicy(@Nullable ImageStreamDeliveryPolicy deliveryPolicy) {
+    this.deliveryPolicy = deliveryPolicy;
+  }
+
+  /** Returns the number of frames that have been sent to Dart. */
+  public long getDeliveredFrameCount() {
+    return deliveredFrameCount.get();
+  }
+
+  /** Returns the number of frames closed without conversion due to the delivery policy. */
+  public long getDroppedFrameCount() {
+    return droppedFrameCount.get();
+  }
+
+  /** Returns the number of frames that were converted but never reached Dart. */
+  public long getDiscardedFrameCount() {
+    return discardedFrameCount.get();
+  }
+
+  /**
+   * Sets the region of interest and subsampling applied to YUV and NV21 frames before they are
+   * sent to Dart, so that only the reduced planes cross the platform channel.
+   *
+   * @param crop is the crop to apply, or null to send full frames.
+   */
+  public void setCrop(@Nullable ImageStreamCrop crop) {
+    this.crop = crop;
+  }
+
+  /**
+   * Sets the number of threads converting YUV frames to NV21.
+   *
+   * <p>With more than one thread, frames whose UV values are not already interleaved have their
+   * planes from the size of the chroma planes of a 1080p frame on split into that many bands of
+   * rows, which are converted in parallel.
+   *
+   * @param threadCount is the number of threads, or 1 to convert on the camera background thread.
+   */
+  public void setConversionThreadCount(int threadCount) {
+    this.conversionThreadCount = Math.max(1, threadCount);
+  }
+
+  /** Replaces the conversion threads if their number changed. Runs on the background thread. */
+  private void applyConversionThreadCount() {
+    final int threadCount = conversionThreadCount;
+    if (threadCount == appliedConversionThreadCount) {
+      return;
+    }
+    appliedConversionThreadCount = threadCount;
+    if (conversionExecutor != null) {
+      conversionExecutor.shutdown();
+      conversionExecutor = null;
+    }
+    if (threadCount > 1) {
+      conversionExecutor = Executors.newFixedThreadPool(threadCount);
+    }
+    imageStreamReaderUtils.setParallelConversion(
+        conversionExecutor, threadCount, MIN_PARALLEL_CONVERSION_PIXELS);
+  }
+
   /** Returns the image reader surface. */
   @NonNull
   public Surface getSurface() {
@@ -266,6 +660,14 @@ public class ImageStreamReader {
 
   /** Closes the image reader. */
   public void close() {
+    if (framePool != null) {
+      framePool.clear();
+    }
+    // Frames still being converted unpack their remaining bands on the background thread.
+    final ExecutorService conversionExecutor = this.conversionExecutor;
+    if (conversionExecutor != null) {
+      conversionExecutor.shutdown();
+    }
     imageReader.close();
   }
 }
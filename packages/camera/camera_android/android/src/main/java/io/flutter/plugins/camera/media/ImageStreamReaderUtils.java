@@ -6,9 +6,26 @@ package io.flutter.plugins.camera.media;
 
 import android.media.Image;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
 
 public class ImageStreamReaderUtils {
+  private final YuvPlaneUnpacker planeUnpacker = new YuvPlaneUnpacker();
+
+  /**
+   * Unpacks the planes of large images in parallel when their UV planes are not already in the
+   * NV21 layout.
+   *
+   * @param executor is the executor running the bands of rows, or null to disable parallelism.
+   * @param bandCount is the number of bands of rows a plane is split into.
+   * @param minParallelPixels is the minimum number of pixels of a plane for it to be split.
+   */
+  public void setParallelConversion(
+      @Nullable ExecutorService executor, int bandCount, int minParallelPixels) {
+    planeUnpacker.setParallelism(executor, bandCount, minParallelPixels);
+  }
+
   /**
    * Converts YUV_420_888 to NV21 bytebuffer.
    *
@@ -29,8 +46,23 @@ public class ImageStreamReaderUtils {
   @NonNull
   public ByteBuffer yuv420ThreePlanesToNV21(
       @NonNull Image.Plane[] yuv420888planes, int width, int height) {
+    byte[] out = new byte[getNV21Size(width, height)];
+    return yuv420ThreePlanesToNV21(yuv420888planes, width, height, out);
+  }
+
+  /**
+   * Converts YUV_420_888 to NV21 into a caller provided array.
+   *
+   * <p>This behaves like {@link #yuv420ThreePlanesToNV21(Image.Plane[], int, int)}, but writes into
+   * {@code out} so that callers can reuse the array across frames.
+   *
+   * @param out is the destination array, which must hold at least {@link #getNV21Size} bytes.
+   * @return a {@link ByteBuffer} wrapping {@code out}.
+   */
+  @NonNull
+  public ByteBuffer yuv420ThreePlanesToNV21(
+      @NonNull Image.Plane[] yuv420888planes, int width, int height, @NonNull byte[] out) {
     int imageSize = width * height;
-    byte[] out = new byte[imageSize + 2 * (imageSize / 4)];
 
     if (areUVPlanesNV21(yuv420888planes, width, height)) {
       // Copy the Y values.
@@ -43,7 +75,7 @@ public class ImageStreamReaderUtils {
       // Copy the first U value and the remaining VU values from the U buffer.
       uBuffer.get(out, imageSize + 1, 2 * imageSize / 4 - 1);
     } else {
-      // Fallback to copying the UV values one by one, which is slower but also works.
+      // Fallback to unpacking the planes row by row, which is slower but also works.
       // Unpack Y.
       unpackPlane(yuv420888planes[0], width, height, out, 0, 1);
       // Unpack U.
@@ -55,6 +87,71 @@ public class ImageStreamReaderUtils {
     return ByteBuffer.wrap(out);
   }
 
+  /**
+   * Converts the region of interest of a YUV_420_888 image to NV21.
+   *
+   * <p>The region is subsampled as described by {@link ImageStreamCrop}, so {@code out} only needs
+   * to hold {@link #getNV21Size} bytes of the output size of the crop.
+   *
+   * @param crop is a crop that was resolved against the size of the image.
+   * @param out is the destination array.
+   */
+  public void yuv420ThreePlanesToCroppedNV21(
+      @NonNull Image.Plane[] yuv420888planes, @NonNull ImageStreamCrop crop, @NonNull byte[] out) {
+    int outputSize = crop.getOutputWidth() * crop.getOutputHeight();
+    cropPlane(yuv420888planes[0], 1, crop, out, 0, 1);
+    // V and U are interleaved after the Y values, starting with V.
+    cropPlane(yuv420888planes[2], 2, crop, out, outputSize, 2);
+    cropPlane(yuv420888planes[1], 2, crop, out, outputSize + 1, 2);
+  }
+
+  /**
+   * Copies the region of interest of one plane of a YUV_420_888 image without row padding.
+   *
+   * @param plane is the Y, U or V plane.
+   * @param planeIndex is the index of the plane, where 0 is the Y plane.
+   * @param crop is a crop that was resolved against the size of the image.
+   * @param out is the destination array, which must hold the output size of the crop for the Y
+   *     plane, or a quarter of it for the U and V planes.
+   */
+  public void cropYuv420Plane(
+      @NonNull Image.Plane plane,
+      int planeIndex,
+      @NonNull ImageStreamCrop crop,
+      @NonNull byte[] out) {
+    cropPlane(plane, planeIndex == 0 ? 1 : 2, crop, out, 0, 1);
+  }
+
+  /**
+   * Copies the region of interest of a plane subsampled by {@code planeScale} in both dimensions.
+   */
+  private void cropPlane(
+      @NonNull Image.Plane plane,
+      int planeScale,
+      @NonNull ImageStreamCrop crop,
+      @NonNull byte[] out,
+      int offset,
+      int outPixelStride) {
+    planeUnpacker.cropPlane(
+        plane.getBuffer(),
+        plane.getRowStride(),
+        plane.getPixelStride(),
+        crop.getLeft() / planeScale,
+        crop.getTop() / planeScale,
+        crop.getOutputWidth() / planeScale,
+        crop.getOutputHeight() / planeScale,
+        crop.getSubsampleFactor(),
+        out,
+        offset,
+        outPixelStride);
+  }
+
+  /** Returns the number of bytes of an NV21 image of the given size. */
+  public static int getNV21Size(int width, int height) {
+    int imageSize = width * height;
+    return imageSize + 2 * (imageSize / 4);
+  }
+
   /** Checks if the UV plane buffers of a YUV_420_888 image are in the NV21 format. */
   private static boolean areUVPlanesNV21(@NonNull Image.Plane[] planes, int width, int height) {
     int imageSize = width * height;
@@ -88,32 +185,17 @@ public class ImageStreamReaderUtils {
    * <p>The input plane data will be copied in 'out', starting at 'offset' and every pixel will be
    * spaced by 'pixelStride'. Note that there is no row padding on the output.
    */
-  private static void unpackPlane(
+  private void unpackPlane(
       @NonNull Image.Plane plane, int width, int height, byte[] out, int offset, int pixelStride)
       throws IllegalStateException {
-    ByteBuffer buffer = plane.getBuffer();
-    buffer.rewind();
-
-    // Compute the size of the current plane.
-    // We assume that it has the aspect ratio as the original image.
-    int numRow = (buffer.limit() + plane.getRowStride() - 1) / plane.getRowStride();
-    if (numRow == 0) {
-      return;
-    }
-    int scaleFactor = height / numRow;
-    int numCol = width / scaleFactor;
-
-    // Extract the data in the output buffer.
-    int outputPos = offset;
-    int rowStart = 0;
-    for (int row = 0; row < numRow; row++) {
-      int inputPos = rowStart;
-      for (int col = 0; col < numCol; col++) {
-        out[outputPos] = buffer.get(inputPos);
-        outputPos += pixelStride;
-        inputPos += plane.getPixelStride();
-      }
-      rowStart += plane.getRowStride();
-    }
+    planeUnpacker.unpackPlane(
+        plane.getBuffer(),
+        plane.getRowStride(),
+        plane.getPixelStride(),
+        width,
+        height,
+        out,
+        offset,
+        pixelStride);
   }
 }
@@ -0,0 +1,266 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Unpacks YUV image planes with arbitrary row and pixel strides into a tightly packed byte array.
+ *
+ * <p>Rows are read from the plane with bulk copies. When neither the plane nor the output is
+ * strided, a row is copied straight into the output; otherwise it is copied into a scratch row that
+ * is reused across frames and then scattered into the output.
+ *
+ * <p>Large planes can optionally be split into bands of rows that are unpacked in parallel on an
+ * {@link ExecutorService}. Instances are not thread safe and are expected to be used from a single
+ * thread, such as the camera background thread.
+ */
+public class YuvPlaneUnpacker {
+  /** Scratch rows used to read strided planes, one per band of rows. */
+  private final List<byte[]> scratchRows = new ArrayList<>();
+
+  @Nullable private ExecutorService executor;
+  private int bandCount = 1;
+  private int minParallelPixels = Integer.MAX_VALUE;
+
+  /**
+   * Unpacks planes of at least {@code minParallelPixels} pixels in {@code bandCount} bands of rows
+   * on the given executor.
+   *
+   * @param executor is the executor running the bands, or null to always unpack on the caller
+   *     thread.
+   * @param bandCount is the number of bands a large plane is split into.
+   * @param minParallelPixels is the minimum number of pixels of a plane for it to be split.
+   */
+  public void setParallelism(
+      @Nullable ExecutorService executor, int bandCount, int minParallelPixels) {
+    this.executor = executor;
+    this.bandCount = Math.max(1, bandCount);
+    this.minParallelPixels = minParallelPixels;
+  }
+
+  /**
+   * Unpack an image plane into a byte array.
+   *
+   * <p>The input plane data will be copied in 'out', starting at 'offset' and every pixel will be
+   * spaced by 'outPixelStride'. Note that there is no row padding on the output.
+   *
+   * <p>The size of the plane is derived from the size of its buffer, assuming that it has the same
+   * aspect ratio as the original image.
+   *
+   * @param buffer is the plane buffer. Its position is left unchanged.
+   * @param rowStride is the distance between the start of two consecutive rows of the plane.
+   * @param pixelStride is the distance between two consecutive pixels of a row of the plane.
+   * @param width is the width of the original image.
+   * @param height is the height of the original image.
+   * @param out is the output array.
+   * @param offset is the position in the output array of the first pixel.
+   * @param outPixelStride is the distance between two consecutive pixels in the output array.
+   */
+  public void unpackPlane(
+      @NonNull ByteBuffer buffer,
+      int rowStride,
+      int pixelStride,
+      int width,
+      int height,
+      @NonNull byte[] out,
+      int offset,
+      int outPixelStride) {
+    int numRow = (buffer.limit() + rowStride - 1) / rowStride;
+    if (numRow == 0) {
+      return;
+    }
+    int scaleFactor = height / numRow;
+    int numCol = width / scaleFactor;
+    int maxRowLength = (numCol - 1) * pixelStride + 1;
+
+    int bands = bandCount;
+    if (executor == null || bands < 2 || numRow * numCol < minParallelPixels) {
+      unpackRows(
+          buffer.duplicate(),
+          0,
+          numRow,
+          numCol,
+          rowStride,
+          pixelStride,
+          out,
+          offset,
+          outPixelStride,
+          getScratchRow(0, maxRowLength));
+      return;
+    }
+
+    bands = Math.min(bands, numRow);
+    int rowsPerBand = (numRow + bands - 1) / bands;
+    List<Future<?>> futures = new ArrayList<>();
+    for (int band = 0; band < bands; band++) {
+      final int startRow = band * rowsPerBand;
+      final int endRow = Math.min(numRow, startRow + rowsPerBand);
+      if (startRow >= endRow) {
+        break;
+      }
+      // Each band reads through its own duplicate, since buffer positions are not thread safe.
+      final ByteBuffer bandBuffer = buffer.duplicate();
+      final byte[] scratchRow = getScratchRow(band, maxRowLength);
+      final int columns = numCol;
+      final Runnable unpackBand =
+          () ->
+              unpackRows(
+                  bandBuffer,
+                  startRow,
+                  endRow,
+                  columns,
+                  rowStride,
+                  pixelStride,
+                  out,
+                  offset,
+                  outPixelStride,
+                  scratchRow);
+      try {
+        futures.add(executor.submit(unpackBand));
+      } catch (RejectedExecutionException e) {
+        // The executor was shut down while the stream was closing, so unpack the band here.
+        unpackBand.run();
+      }
+    }
+
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while unpacking image plane.", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Copies a subsampled region of an image plane into a byte array.
+   *
+   * <p>Every {@code step}th pixel of every {@code step}th row of the region is copied in 'out',
+   * starting at 'offset' and spaced by 'outPixelStride'. Note that there is no row padding on the
+   * output.
+   *
+   * @param buffer is the plane buffer. Its position is left unchanged.
+   * @param rowStride is the distance between the start of two consecutive rows of the plane.
+   * @param pixelStride is the distance between two consecutive pixels of a row of the plane.
+   * @param left is the left edge of the region, in pixels of the plane.
+   * @param top is the top edge of the region, in rows of the plane.
+   * @param outWidth is the number of pixels copied from each row.
+   * @param outHeight is the number of rows copied.
+   * @param step is the distance between two copied pixels, and between two copied rows.
+   * @param out is the output array.
+   * @param offset is the position in the output array of the first pixel.
+   * @param outPixelStride is the distance between two consecutive pixels in the output array.
+   */
+  public void cropPlane(
+      @NonNull ByteBuffer buffer,
+      int rowStride,
+      int pixelStride,
+      int left,
+      int top,
+      int outWidth,
+      int outHeight,
+      int step,
+      @NonNull byte[] out,
+      int offset,
+      int outPixelStride) {
+    ByteBuffer source = buffer.duplicate();
+    int columnStride = pixelStride * step;
+    int maxRowLength = (outWidth - 1) * columnStride + 1;
+    byte[] scratchRow = getScratchRow(0, maxRowLength);
+
+    int outputPos = offset;
+    for (int row = 0; row < outHeight; row++) {
+      int rowStart = (top + row * step) * rowStride + left * pixelStride;
+      source.position(rowStart);
+
+      if (columnStride == 1 && outPixelStride == 1) {
+        source.get(out, outputPos, outWidth);
+        outputPos += outWidth;
+        continue;
+      }
+
+      // The last row of a plane is usually not padded, so only read the bytes that exist.
+      int rowLength = Math.min(maxRowLength, source.limit() - rowStart);
+      int cols = Math.min(outWidth, (rowLength - 1) / columnStride + 1);
+      source.get(scratchRow, 0, rowLength);
+      int outPos = outputPos;
+      int inputPos = 0;
+      for (int col = 0; col < cols; col++) {
+        out[outPos] = scratchRow[inputPos];
+        outPos += outPixelStride;
+        inputPos += columnStride;
+      }
+      outputPos += outWidth * outPixelStride;
+    }
+  }
+
+  /** Unpacks the rows in [startRow, endRow) of a plane. */
+  private static void unpackRows(
+      @NonNull ByteBuffer buffer,
+      int startRow,
+      int endRow,
+      int numCol,
+      int rowStride,
+      int pixelStride,
+      @NonNull byte[] out,
+      int offset,
+      int outPixelStride,
+      @NonNull byte[] scratchRow) {
+    int outputPos = offset + startRow * numCol * outPixelStride;
+    for (int row = startRow; row < endRow; row++) {
+      int rowStart = row * rowStride;
+      // The last row of a plane is usually not padded, so only read the bytes that exist.
+      int rowLength = Math.min((numCol - 1) * pixelStride + 1, buffer.limit() - rowStart);
+      int cols = Math.min(numCol, (rowLength - 1) / pixelStride + 1);
+      buffer.position(rowStart);
+
+      if (pixelStride == 1 && outPixelStride == 1) {
+        buffer.get(out, outputPos, cols);
+        outputPos += numCol;
+        continue;
+      }
+
+      buffer.get(scratchRow, 0, rowLength);
+      int outPos = outputPos;
+      int inputPos = 0;
+      for (int col = 0; col < cols; col++) {
+        out[outPos] = scratchRow[inputPos];
+        outPos += outPixelStride;
+        inputPos += pixelStride;
+      }
+      outputPos += numCol * outPixelStride;
+    }
+  }
+
+  /** Returns the scratch row of a band, growing it to at least {@code minLength} bytes. */
+  @NonNull
+  private byte[] getScratchRow(int band, int minLength) {
+    while (scratchRows.size() <= band) {
+      scratchRows.add(new byte[0]);
+    }
+    byte[] scratchRow = scratchRows.get(band);
+    if (scratchRow.length < minLength) {
+      scratchRow = new byte[minLength];
+      scratchRows.set(band, scratchRow);
+    }
+    return scratchRow;
+  }
+}
@@ -0,0 +1,199 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BurstCaptureTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private BurstCapture.Result completedResult;
+  private String errorCode;
+  private int callbackCount;
+  private BurstCapture burstCapture;
+
+  @Before
+  public void setUp() {
+    List<File> files = Arrays.asList(new File("a.jpg"), new File("b.jpg"), new File("c.jpg"));
+    burstCapture =
+        new BurstCapture(
+            files,
+            new BurstCapture.Callback() {
+              @Override
+              public void onComplete(@NonNull BurstCapture.Result result) {
+                completedResult = result;
+                callbackCount++;
+              }
+
+              @Override
+              public void onError(@NonNull String code, @NonNull String message) {
+                errorCode = code;
+                callbackCount++;
+              }
+            });
+    burstCapture.onSubmitted();
+  }
+
+  @Test
+  public void onImageArrived_assignsImagesInCaptureOrder() {
+    assertEquals(0, burstCapture.onImageArrived(100L));
+    assertEquals(1, burstCapture.onImageArrived(200L));
+    assertEquals(1, burstCapture.getMissingImageCount());
+    assertEquals(2, burstCapture.onImageArrived(300L));
+    assertEquals(0, burstCapture.getMissingImageCount());
+
+    assertEquals(-1, burstCapture.onImageArrived(400L));
+    assertEquals(new File("c.jpg"), burstCapture.getFile(2));
+  }
+
+  @Test
+  public void createSaveCallback_completesOnceAllPicturesAreSaved() {
+    burstCapture.onImageArrived(0L);
+    burstCapture.onImageArrived(100_000_000L);
+    burstCapture.onImageArrived(200_000_000L);
+
+    // Saves can complete out of order; paths are still reported in capture order.
+    burstCapture.createSaveCallback(1).onComplete("/b.jpg");
+    burstCapture.createSaveCallback(2).onComplete("/c.jpg");
+    assertNull(completedResult);
+    burstCapture.createSaveCallback(0).onComplete("/a.jpg");
+
+    assertEquals(1, callbackCount);
+    assertEquals(Arrays.asList("/a.jpg", "/b.jpg", "/c.jpg"), completedResult.getPaths());
+    assertArrayEquals(
+        new long[] {0L, 100_000_000L, 200_000_000L}, completedResult.getSensorTimestampsNanos());
+    assertEquals(10.0, completedResult.getShotsPerSecond(), 1e-9);
+    for (int i = 0; i < 3; i++) {
+      assertTrue(completedResult.getSavedNanos()[i] >= completedResult.getArrivalNanos()[i]);
+    }
+  }
+
+  @Test
+  public void createSaveCallback_failsBurstOnlyOnce() {
+    burstCapture.onImageArrived(0L);
+    burstCapture.onImageArrived(1L);
+    burstCapture.onImageArrived(2L);
+
+    burstCapture.createSaveCallback(0).onError("IOError", "Disk full");
+    burstCapture.createSaveCallback(1).onError("IOError", "Disk full");
+    burstCapture.createSaveCallback(2).onComplete("/c.jpg");
+
+    assertEquals(1, callbackCount);
+    assertEquals("IOError", errorCode);
+    assertNull(completedResult);
+  }
+
+  @Test
+  public void fail_isIgnoredOnceBurstHasCompleted() {
+    for (int i = 0; i < 3; i++) {
+      burstCapture.onImageArrived(i);
+      burstCapture.createSaveCallback(i).onComplete("/" + i + ".jpg");
+    }
+
+    burstCapture.fail("cameraClosed", null);
+
+    assertEquals(1, callbackCount);
+    assertNull(errorCode);
+  }
+
+  @Test
+  public void onImageArrived_rejectsImagesOnceBurstHasFailed() {
+    burstCapture.onImageArrived(0L);
+    burstCapture.fail("captureFailure", "Frame dropped");
+
+    assertEquals(-1, burstCapture.onImageArrived(1L));
+    assertEquals(2, burstCapture.getMissingImageCount());
+  }
+
+  @Test
+  public void setOnSettledListener_runsOnceFailedBurstHasNoPendingSave() {
+    int[] settledCount = new int[1];
+    burstCapture.setOnSettledListener(() -> settledCount[0]++);
+    burstCapture.onImageArrived(0L);
+    ImageSaver.Callback saveCallback = burstCapture.createSaveCallback(0);
+
+    burstCapture.fail("captureAborted", "Aborted");
+    assertEquals(0, settledCount[0]);
+    saveCallback.onComplete("/a.jpg");
+    saveCallback.onError("cameraAccess", "Closed");
+
+    assertEquals(1, settledCount[0]);
+    assertEquals(1, callbackCount);
+    assertEquals("captureAborted", errorCode);
+  }
+
+  @Test
+  public void setOnSettledListener_runsOnceAllPicturesAreSaved() {
+    int[] settledCount = new int[1];
+    burstCapture.setOnSettledListener(() -> settledCount[0]++);
+    for (int i = 0; i < 3; i++) {
+      burstCapture.onImageArrived(i);
+      burstCapture.createSaveCallback(i).onComplete("/" + i + ".jpg");
+    }
+
+    assertEquals(1, settledCount[0]);
+    assertEquals(1, callbackCount);
+  }
+
+  @Test
+  public void setOnSettledListener_deletesFilesOfFailedBurst() throws IOException {
+    List<File> files = Arrays.asList(temporaryFolder.newFile(), temporaryFolder.newFile());
+    BurstCapture failedBurst =
+        new BurstCapture(
+            files,
+            new BurstCapture.Callback() {
+              @Override
+              public void onComplete(@NonNull BurstCapture.Result result) {}
+
+              @Override
+              public void onError(@NonNull String code, @NonNull String message) {}
+            });
+    failedBurst.onImageArrived(0L);
+    ImageSaver.Callback saveCallback = failedBurst.createSaveCallback(0);
+
+    failedBurst.fail("captureFailure", "Frame dropped");
+    assertTrue(files.get(0).exists());
+    saveCallback.onComplete(files.get(0).getAbsolutePath());
+
+    assertFalse(files.get(0).exists());
+    assertFalse(files.get(1).exists());
+  }
+
+  @Test
+  public void setOnSettledListener_keepsFilesOfCompletedBurst() throws IOException {
+    List<File> files = Arrays.asList(temporaryFolder.newFile(), temporaryFolder.newFile());
+    BurstCapture completedBurst =
+        new BurstCapture(
+            files,
+            new BurstCapture.Callback() {
+              @Override
+              public void onComplete(@NonNull BurstCapture.Result result) {}
+
+              @Override
+              public void onError(@NonNull String code, @NonNull String message) {}
+            });
+    for (int i = 0; i < 2; i++) {
+      completedBurst.onImageArrived(i);
+      completedBurst.createSaveCallback(i).onComplete(files.get(i).getAbsolutePath());
+    }
+
+    assertTrue(files.get(0).exists());
+    assertTrue(files.get(1).exists());
+  }
+}
@@ -4,12 +4,15 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.app.Activity;
 import android.hardware.camera2.CameraAccessException;
@@ -68,4 +71,32 @@ public class CameraApiImplTest {
 
     verify(mockCamera, times(1)).resumePreview();
   }
+
+  @Test
+  public void getTimeToFirstEncodedFrameMicros_convertsNanosToMicros() {
+    when(mockCamera.getTimeToFirstEncodedFrameNanos()).thenReturn(42000000L);
+
+    assertEquals(Long.valueOf(42000L), handler.getTimeToFirstEncodedFrameMicros());
+  }
+
+  @Test
+  public void getTimeToFirstEncodedFrameMicros_returnsNullWhenUnknown() {
+    when(mockCamera.getTimeToFirstEncodedFrameNanos()).thenReturn(-1L);
+
+    assertNull(handler.getTimeToFirstEncodedFrameMicros());
+  }
+
+  @Test
+  public void startCaptureMetadataStream_startsCameraStream() {
+    handler.startCaptureMetadataStream(50L);
+
+    verify(mockCamera).startCaptureMetadataStream(50);
+  }
+
+  @Test
+  public void stopCaptureMetadataStream_stopsCameraStream() {
+    handler.stopCaptureMetadataStream();
+
+    verify(mockCamera).stopCaptureMetadataStream();
+  }
 }
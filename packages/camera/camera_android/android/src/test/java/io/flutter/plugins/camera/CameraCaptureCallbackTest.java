@@ -70,6 +70,21 @@ public class CameraCaptureCallbackTest {
     verify(mockCaptureProps, times(1)).setLastSensorSensitivity(3);
   }
 
+  @Test
+  public void onCaptureCompleted_recordsResultIntoCaptureMetadataStream() {
+    CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
+    CaptureRequest mockRequest = mock(CaptureRequest.class);
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+    CaptureMetadataStream mockStream = mock(CaptureMetadataStream.class);
+
+    cameraCaptureCallback.setCaptureMetadataStream(mockStream);
+    cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+    cameraCaptureCallback.setCaptureMetadataStream(null);
+    cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+
+    verify(mockStream, times(1)).record(mockResult);
+  }
+
   @Test
   public void onCaptureCompleted_checksBothAutoFocusAndAutoExposure() {
     CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraCharacteristicsCacheTest {
+  private final CameraManager mockCameraManager = mock(CameraManager.class);
+  private final CameraCharacteristics mockCharacteristics = mock(CameraCharacteristics.class);
+  private CameraCharacteristicsCache cache;
+
+  @Before
+  public void before() throws CameraAccessException {
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0", "1"});
+    when(mockCameraManager.getCameraCharacteristics(anyString())).thenReturn(mockCharacteristics);
+    cache = new CameraCharacteristicsCache(mockCameraManager);
+  }
+
+  @After
+  public void after() {
+    CameraCharacteristicsCache.resetInstance();
+  }
+
+  @Test
+  public void getInstance_usesManagerOfApplicationContext() {
+    Context mockActivity = mock(Context.class);
+    Context mockApplicationContext = mock(Context.class);
+    when(mockActivity.getApplicationContext()).thenReturn(mockApplicationContext);
+    when(mockApplicationContext.getSystemService(Context.CAMERA_SERVICE))
+        .thenReturn(mockCameraManager);
+    Context mockRecreatedActivity = mock(Context.class);
+    when(mockRecreatedActivity.getApplicationContext()).thenReturn(mockApplicationContext);
+
+    CameraCharacteristicsCache instance = CameraCharacteristicsCache.getInstance(mockActivity);
+
+    assertSame(instance, CameraCharacteristicsCache.getInstance(mockRecreatedActivity));
+    verify(mockActivity, never()).getSystemService(anyString());
+    verify(mockCameraManager).registerAvailabilityCallback(any(), any());
+  }
+
+  @Test
+  public void getCameraProperties_fetchesCharacteristicsOncePerCamera()
+      throws CameraAccessException {
+    CameraPropertiesImpl properties = cache.getCameraProperties("0");
+
+    assertSame(properties, cache.getCameraProperties("0"));
+    cache.getCameraProperties("1");
+
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("1");
+    assertEquals(2, cache.getCharacteristicsFetchCount());
+  }
+
+  @Test
+  public void getCameraProperties_memoizesDerivedValues() throws CameraAccessException {
+    when(mockCharacteristics.get(any())).thenReturn(90);
+    CameraPropertiesImpl properties = cache.getCameraProperties("0");
+
+    assertEquals(90, properties.getSensorOrientation());
+    assertEquals(90, properties.getSensorOrientation());
+
+    verify(mockCharacteristics, times(1)).get(any());
+  }
+
+  @Test
+  public void getCameraIdList_fetchesIdsOnce() throws CameraAccessException {
+    assertArrayEquals(new String[] {"0", "1"}, cache.getCameraIdList());
+    cache.getCameraIdList();
+
+    verify(mockCameraManager, times(1)).getCameraIdList();
+  }
+
+  @Test
+  public void onCameraAvailable_refetchesIdsOnlyForNewCameras() throws CameraAccessException {
+    cache.getCameraIdList();
+
+    cache.availabilityCallback.onCameraAvailable("1");
+    cache.getCameraIdList();
+    verify(mockCameraManager, times(1)).getCameraIdList();
+
+    cache.availabilityCallback.onCameraAvailable("2");
+    cache.getCameraIdList();
+    verify(mockCameraManager, times(2)).getCameraIdList();
+  }
+
+  @Test
+  public void onCameraUnavailable_keepsCharacteristicsOfBuiltInCameras()
+      throws CameraAccessException {
+    when(mockCharacteristics.get(any())).thenReturn(CameraMetadata.LENS_FACING_BACK);
+    CameraPropertiesImpl properties = cache.getCameraProperties("0");
+
+    cache.availabilityCallback.onCameraUnavailable("0");
+
+    assertSame(properties, cache.getCameraProperties("0"));
+  }
+
+  @Test
+  public void onCameraUnavailable_dropsCharacteristicsOfExternalCameras()
+      throws CameraAccessException {
+    when(mockCharacteristics.get(any())).thenReturn(CameraMetadata.LENS_FACING_EXTERNAL);
+    cache.getCameraIdList();
+    CameraPropertiesImpl properties = cache.getCameraProperties("1");
+
+    cache.availabilityCallback.onCameraUnavailable("1");
+
+    assertNotSame(properties, cache.getCameraProperties("1"));
+    cache.getCameraIdList();
+    verify(mockCameraManager, times(2)).getCameraIdList();
+  }
+}
@@ -7,7 +7,9 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -51,6 +53,8 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamCrop;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.view.TextureRegistry;
 import java.io.Closeable;
@@ -64,6 +68,7 @@ import java.util.Objects;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.InOrder;
 import org.mockito.MockedConstruction;
@@ -266,6 +271,14 @@ public class CameraTest {
     when(resolutionFeature.getPreviewSize()).thenReturn(mockSize);
     when(resolutionFeature.getCaptureSize()).thenReturn(mockSize);
 
+    // Run the preview start posted to the background thread right away.
+    when(mockHandler.post(any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+
     // Actual test that opens the camera, that mimics the camera initialize call.
     camera.open(ImageFormat.JPEG);
 
@@ -277,6 +290,40 @@ public class CameraTest {
         .sendCameraInitializedEvent(any(), any(), any(), any(), any(), any());
   }
 
+  @Test
+  public void open_afterClose_restartsBackgroundThreadAndImageSaver()
+      throws CameraAccessException {
+    final CameraManager mockCameraManager = mock(CameraManager.class);
+    when(mockActivity.getSystemService(Context.CAMERA_SERVICE)).thenReturn(mockCameraManager);
+    ResolutionFeature resolutionFeature = mockCameraFeatureFactory.mockResolutionFeature;
+    when(resolutionFeature.checkIsSupported()).thenReturn(true);
+    final Size mockSize = mock(Size.class);
+    when(resolutionFeature.getPreviewSize()).thenReturn(mockSize);
+    when(resolutionFeature.getCaptureSize()).thenReturn(mockSize);
+
+    camera.close();
+    camera.open(ImageFormat.JPEG);
+
+    // The device callbacks must not fall back to the platform thread.
+    verify(mockCameraManager).openCamera(eq("1"), any(), eq(mockHandler));
+    assertFalse(camera.imageSaverExecutor.isShutdown());
+  }
+
+  @Test
+  public void prewarm_opensCameraDeviceOnlyOnce() throws CameraAccessException {
+    final CameraManager mockCameraManager = mock(CameraManager.class);
+    when(mockActivity.getSystemService(Context.CAMERA_SERVICE)).thenReturn(mockCameraManager);
+    ResolutionFeature resolutionFeature = mockCameraFeatureFactory.mockResolutionFeature;
+    when(resolutionFeature.checkIsSupported()).thenReturn(true);
+    when(resolutionFeature.getCaptureSize()).thenReturn(mock(Size.class));
+
+    camera.prewarm();
+    camera.prewarm();
+
+    verify(mockCameraManager, times(1)).openCamera(eq("1"), any(), any(Handler.class));
+    assertTrue(camera.getTimings().wasPrewarmed());
+  }
+
   @Test
   public void shouldNotImplementLifecycleObserverInterface() {
     Class<Camera> cameraClass = Camera.class;
@@ -384,6 +431,23 @@ public class CameraTest {
     assertEquals(expectedMinOffset, actualMinOffset, 0);
   }
 
+  @Test
+  public void getPictureSaveStatistics_returnsImageSaverStatistics() {
+    ImageSaverExecutor mockImageSaverExecutor = mock(ImageSaverExecutor.class);
+    Messages.PlatformPictureSaveStatistics statistics =
+        new Messages.PlatformPictureSaveStatistics.Builder()
+            .setQueueDepth(1L)
+            .setMaxObservedQueueDepth(3L)
+            .setCompletedSaveCount(5L)
+            .setLastSaveLatencyMicros(1200L)
+            .setAverageSaveLatencyMicros(1500L)
+            .build();
+    when(mockImageSaverExecutor.getStatistics()).thenReturn(statistics);
+    camera.imageSaverExecutor = mockImageSaverExecutor;
+
+    assertEquals(statistics, camera.getPictureSaveStatistics());
+  }
+
   @Test
   public void getMaxZoomLevel() {
     ZoomLevelFeature mockZoomLevelFeature =
@@ -739,6 +803,66 @@ public class CameraTest {
     camera.setDescriptionWhileRecording(newCameraProperties);
   }
 
+  @Test
+  public void setDescriptionWhileRecording_reusesIdleVideoRendererOfSameSize() {
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    Surface mockRecorderSurface = mock(Surface.class);
+    VideoRenderer mockIdleVideoRenderer = mock(VideoRenderer.class);
+    Size mockSize = mock(Size.class);
+    when(mockSize.getWidth()).thenReturn(1280);
+    when(mockSize.getHeight()).thenReturn(720);
+    when(mockCameraFeatureFactory.mockResolutionFeature.getCaptureSize()).thenReturn(mockSize);
+    when(mockMediaRecorder.getSurface()).thenReturn(mockRecorderSurface);
+    when(mockIdleVideoRenderer.hasRecordingSize(1280, 720)).thenReturn(true);
+    camera.mediaRecorder = mockMediaRecorder;
+    camera.recordingVideo = true;
+    camera.idleVideoRenderer = mockIdleVideoRenderer;
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.O;
+
+    final CameraProperties newCameraProperties = mock(CameraProperties.class);
+    camera.setDescriptionWhileRecording(newCameraProperties);
+
+    assertEquals(mockIdleVideoRenderer, camera.videoRenderer);
+    assertNull(camera.idleVideoRenderer);
+    verify(mockIdleVideoRenderer).attachOutputSurface(mockRecorderSurface, null);
+    verify(mockIdleVideoRenderer, never()).close();
+  }
+
+  @Test
+  public void stopVideoRecording_keepsVideoRendererIdleUntilTimeout()
+      throws InterruptedException, CameraAccessException {
+    MediaRecorder mockMediaRecorder = mock(MediaRecorder.class);
+    VideoRenderer mockVideoRenderer = mock(VideoRenderer.class);
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    ImageReader mockImageReader = mock(ImageReader.class);
+    when(mockVideoRenderer.getTimeToFirstEncodedFrameNanos()).thenReturn(5000000L);
+    when(camera.flutterTexture.surfaceTexture()).thenReturn(mock(SurfaceTexture.class));
+    when(mockCameraFeatureFactory.mockResolutionFeature.getPreviewSize())
+        .thenReturn(mock(Size.class));
+    when(mockImageReader.getSurface()).thenReturn(mock(Surface.class));
+    camera.mediaRecorder = mockMediaRecorder;
+    camera.recordingVideo = true;
+    camera.videoRenderer = mockVideoRenderer;
+    camera.pictureImageReader = mockImageReader;
+    camera.cameraDevice = new FakeCameraDeviceWrapper(mockRequestBuilders);
+    camera.captureFile = new File("/test/path.mp4");
+
+    camera.stopVideoRecording();
+
+    assertEquals(mockVideoRenderer, camera.idleVideoRenderer);
+    assertEquals(5000000L, camera.getTimeToFirstEncodedFrameNanos());
+    ArgumentCaptor<Runnable> timeoutCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler)
+        .postDelayed(timeoutCaptor.capture(), eq(Camera.IDLE_VIDEO_RENDERER_TIMEOUT_MS));
+    verify(mockVideoRenderer, never()).close();
+
+    timeoutCaptor.getValue().run();
+
+    verify(mockVideoRenderer).close();
+    assertNull(camera.idleVideoRenderer);
+  }
+
   @Test
   public void startPreview_shouldPullStreamFromVideoRenderer()
       throws InterruptedException, CameraAccessException {
@@ -846,6 +970,104 @@ public class CameraTest {
         .getSurface(); // stream pulled from regular imageReader's surface.
   }
 
+  @Test
+  public void setImageStreamOptions_shouldApplyOptionsToImageStreamReader() {
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    camera.imageStreamReader = mockImageStreamReader;
+
+    camera.setImageStreamOptions(
+        new Messages.PlatformImageStreamOptions.Builder()
+            .setEnableFramePooling(true)
+            .setConversionThreadCount(1L)
+            .build());
+
+    verify(mockImageStreamReader, times(1)).setFramePoolingEnabled(true);
+    verify(mockImageStreamReader, times(1)).setDeliveryPolicy(null);
+    verify(mockImageStreamReader, times(1)).setCrop(null);
+  }
+
+  @Test
+  public void setImageStreamOptions_shouldLimitFramesInFlight() {
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    camera.imageStreamReader = mockImageStreamReader;
+
+    camera.setImageStreamOptions(
+        new Messages.PlatformImageStreamOptions.Builder()
+            .setEnableFramePooling(false)
+            .setMaxFramesInFlight(2L)
+            .setConversionThreadCount(1L)
+            .build());
+
+    ArgumentCaptor<ImageStreamDeliveryPolicy> policyCaptor =
+        ArgumentCaptor.forClass(ImageStreamDeliveryPolicy.class);
+    verify(mockImageStreamReader, times(1)).setDeliveryPolicy(policyCaptor.capture());
+    assertEquals(2, policyCaptor.getValue().getMaxFramesInFlight());
+  }
+
+  @Test
+  public void setImageStreamOptions_shouldCropFrames() {
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    camera.imageStreamReader = mockImageStreamReader;
+
+    camera.setImageStreamOptions(
+        new Messages.PlatformImageStreamOptions.Builder()
+            .setEnableFramePooling(false)
+            .setCrop(
+                new Messages.PlatformImageStreamCrop.Builder()
+                    .setLeft(0L)
+                    .setTop(0L)
+                    .setWidth(320L)
+                    .setHeight(240L)
+                    .setSubsampleFactor(2L)
+                    .build())
+            .setConversionThreadCount(1L)
+            .build());
+
+    ArgumentCaptor<ImageStreamCrop> cropCaptor = ArgumentCaptor.forClass(ImageStreamCrop.class);
+    verify(mockImageStreamReader, times(1)).setCrop(cropCaptor.capture());
+    assertEquals(160, cropCaptor.getValue().getOutputWidth());
+    assertEquals(120, cropCaptor.getValue().getOutputHeight());
+  }
+
+  @Test
+  public void setImageStreamOptions_shouldRejectNonPositiveMaxFramesInFlight() {
+    assertThrows(
+        Messages.FlutterError.class,
+        () ->
+            camera.setImageStreamOptions(
+                new Messages.PlatformImageStreamOptions.Builder()
+                    .setEnableFramePooling(false)
+                    .setMaxFramesInFlight(0L)
+                    .setConversionThreadCount(1L)
+                    .build()));
+  }
+
+  @Test
+  public void setImageStreamOptions_shouldSetConversionThreadCount() {
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    camera.imageStreamReader = mockImageStreamReader;
+
+    camera.setImageStreamOptions(
+        new Messages.PlatformImageStreamOptions.Builder()
+            .setEnableFramePooling(false)
+            .setConversionThreadCount(4L)
+            .build());
+
+    verify(mockImageStreamReader, times(1)).setConversionThreadCount(4);
+  }
+
+  @Test
+  public void setImageStreamOptions_shouldRejectNonPositiveConversionThreadCount() {
+    assertThrows(
+        Messages.FlutterError.class,
+        () ->
+            camera.setImageStreamOptions(
+                new Messages.PlatformImageStreamOptions.Builder()
+                    .setEnableFramePooling(false)
+                    .setConversionThreadCount(0L)
+                    .build()));
+  }
+
   @Test
   public void setDescriptionWhileRecording_shouldErrorWhenNotRecording() {
     camera.recordingVideo = false;
@@ -1154,6 +1376,71 @@ public class CameraTest {
     verify(mockCaptureSession, never()).close();
   }
 
+  @Test
+  public void createCaptureSession_reusesSessionContainingImageStreamSurface()
+      throws CameraAccessException {
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.P;
+    Surface mockPictureSurface = mock(Surface.class);
+    Surface mockImageStreamSurface = mock(Surface.class);
+    ImageReader mockPictureImageReader = mock(ImageReader.class);
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    CaptureRequest.Builder mockStreamRequestBuilder = mock(CaptureRequest.Builder.class);
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    mockRequestBuilders.add(mockStreamRequestBuilder);
+    CameraDeviceWrapper fakeCamera = spy(new FakeCameraDeviceWrapper(mockRequestBuilders));
+    when(mockPictureImageReader.getSurface()).thenReturn(mockPictureSurface);
+    when(mockImageStreamReader.getSurface()).thenReturn(mockImageStreamSurface);
+    when(mockCameraFeatureFactory.mockResolutionFeature.getPreviewSize())
+        .thenReturn(mock(Size.class));
+    camera.cameraDevice = fakeCamera;
+    camera.pictureImageReader = mockPictureImageReader;
+    camera.imageStreamReader = mockImageStreamReader;
+    camera.hasStartedImageStream = true;
+
+    camera.createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, mockPictureSurface);
+    // Simulate the session being configured.
+    camera.captureSession = mockCaptureSession;
+    camera.createCaptureSession(
+        CameraDevice.TEMPLATE_RECORD, mockImageStreamSurface, mockPictureSurface);
+
+    verify(fakeCamera, times(1)).createCaptureSession(any(SessionConfiguration.class));
+    verify(mockStreamRequestBuilder).addTarget(mockImageStreamSurface);
+    verify(mockStreamRequestBuilder, never()).addTarget(mockPictureSurface);
+    verify(mockCaptureSession).setRepeatingRequest(any(), any(), any());
+    assertEquals(1, camera.getTimings().getSessionReuseCount());
+    assertTrue(camera.getTimings().wasLastSessionSwitchReused());
+  }
+
+  @Test
+  public void createCaptureSession_doesNotKeepImageStreamSurfaceOnLegacyDevices()
+      throws CameraAccessException {
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.P;
+    Surface mockPictureSurface = mock(Surface.class);
+    ImageReader mockPictureImageReader = mock(ImageReader.class);
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    CameraDeviceWrapper fakeCamera = spy(new FakeCameraDeviceWrapper(mockRequestBuilders));
+    when(mockPictureImageReader.getSurface()).thenReturn(mockPictureSurface);
+    when(mockCameraProperties.getHardwareLevel())
+        .thenReturn(CameraMetadata.INFO_SUPPORTED_HARDWARE_LEVEL_LEGACY);
+    when(mockCameraFeatureFactory.mockResolutionFeature.getPreviewSize())
+        .thenReturn(mock(Size.class));
+    camera.cameraDevice = fakeCamera;
+    camera.pictureImageReader = mockPictureImageReader;
+    camera.imageStreamReader = mockImageStreamReader;
+    camera.hasStartedImageStream = true;
+
+    camera.createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, mockPictureSurface);
+    camera.captureSession = mockCaptureSession;
+    camera.createCaptureSession(CameraDevice.TEMPLATE_PREVIEW, mockPictureSurface);
+
+    verify(mockImageStreamReader, never()).getSurface();
+    verify(fakeCamera, times(2)).createCaptureSession(any(SessionConfiguration.class));
+  }
+
   @Test
   public void createCaptureSession_shouldNotAddPictureImageSurfaceToPreviewRequest()
       throws CameraAccessException {
@@ -1196,6 +1483,26 @@ public class CameraTest {
     verify(mockCaptureSession).close();
   }
 
+  @Test
+  public void close_closesIdleVideoRenderer() {
+    VideoRenderer mockIdleVideoRenderer = mock(VideoRenderer.class);
+    camera.idleVideoRenderer = mockIdleVideoRenderer;
+
+    camera.close();
+
+    verify(mockIdleVideoRenderer).close();
+    assertNull(camera.idleVideoRenderer);
+  }
+
+  @Test
+  public void close_stopsCaptureMetadataStream() {
+    camera.startCaptureMetadataStream(100);
+
+    camera.close();
+
+    assertNull(camera.captureMetadataStream);
+  }
+
   @Test
   public void close_doesNotCloseCaptureSessionWhenCameraDeviceNonNull() {
     ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
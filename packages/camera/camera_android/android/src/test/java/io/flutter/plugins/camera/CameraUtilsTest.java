@@ -5,6 +5,9 @@
 package io.flutter.plugins.camera;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
@@ -22,11 +25,19 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamCrop;
+import java.util.Arrays;
 import java.util.List;
+import org.junit.After;
 import org.junit.Test;
 
 public class CameraUtilsTest {
 
+  @After
+  public void after() {
+    CameraCharacteristicsCache.resetInstance();
+  }
+
   @Test
   public void getAvailableCameras_retrievesValidCameras()
       throws CameraAccessException, NumberFormatException {
@@ -39,6 +50,7 @@ public class CameraUtilsTest {
     final int mockLensFacing0 = CameraMetadata.LENS_FACING_FRONT;
     final int mockLensFacing2 = CameraMetadata.LENS_FACING_EXTERNAL;
 
+    when(mockActivity.getApplicationContext()).thenReturn(mockActivity);
     when(mockActivity.getSystemService(Context.CAMERA_SERVICE)).thenReturn(mockCameraManager);
     when(mockCameraManager.getCameraIdList()).thenReturn(mockCameraIds);
     when(mockCameraManager.getCameraCharacteristics(anyString()))
@@ -171,4 +183,60 @@ public class CameraUtilsTest {
     assertEquals(
         CameraUtils.flashModeFromPigeon(Messages.PlatformFlashMode.TORCH), FlashMode.torch);
   }
+
+  @Test
+  public void imageStreamCropFromPigeonTest() {
+    ImageStreamCrop crop =
+        CameraUtils.imageStreamCropFromPigeon(
+            new Messages.PlatformImageStreamCrop.Builder()
+                .setLeft(10L)
+                .setTop(20L)
+                .setWidth(0x7fffffffL + 1)
+                .setHeight(200L)
+                .setSubsampleFactor(2L)
+                .build());
+
+    assertEquals(10, crop.getLeft());
+    assertEquals(20, crop.getTop());
+    assertEquals(Integer.MAX_VALUE, crop.getWidth());
+    assertEquals(200, crop.getHeight());
+    assertEquals(2, crop.getSubsampleFactor());
+  }
+
+  @Test
+  public void burstCaptureResultToPigeonTest() {
+    BurstCapture.Result result =
+        new BurstCapture.Result(
+            Arrays.asList("/a.jpg", "/b.jpg"),
+            new long[] {1_000_000_000L, 1_100_000_000L},
+            new long[] {150_000_000L, 250_000_000L},
+            new long[] {180_000_000L, 290_000_000L});
+
+    Messages.PlatformBurstCaptureResult pigeonResult =
+        CameraUtils.burstCaptureResultToPigeon(result);
+
+    assertEquals(Arrays.asList("/a.jpg", "/b.jpg"), pigeonResult.getPaths());
+    assertEquals(
+        Arrays.asList(1_000_000_000L, 1_100_000_000L), pigeonResult.getSensorTimestampsNanos());
+    assertEquals(Arrays.asList(150_000L, 250_000L), pigeonResult.getArrivalMicros());
+    assertEquals(Arrays.asList(180_000L, 290_000L), pigeonResult.getSavedMicros());
+  }
+
+  @Test
+  public void cameraTimingsToPigeonTest() {
+    CameraTimings timings = new CameraTimings();
+    timings.onOpenRequested(true);
+    timings.onSessionSwitched(System.nanoTime(), true);
+
+    Messages.PlatformCameraTimings pigeonTimings = CameraUtils.cameraTimingsToPigeon(timings);
+
+    assertNull(pigeonTimings.getDeviceOpenMicros());
+    assertNull(pigeonTimings.getSurfacesReadyMicros());
+    assertNull(pigeonTimings.getOpenToPreviewMicros());
+    assertTrue(pigeonTimings.getWasPrewarmed());
+    assertNotNull(pigeonTimings.getLastSessionSwitchMicros());
+    assertTrue(pigeonTimings.getLastSessionSwitchReused());
+    assertEquals(0L, (long) pigeonTimings.getSessionCreationCount());
+    assertEquals(1L, (long) pigeonTimings.getSessionReuseCount());
+  }
 }
@@ -0,0 +1,57 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import org.junit.Test;
+
+public class CaptureMetadataBufferTest {
+  @Test
+  public void ctor_throwsForEmptyCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new CaptureMetadataBuffer(0));
+  }
+
+  @Test
+  public void drain_returnsResultsInRecordingOrder() {
+    CaptureMetadataBuffer buffer = new CaptureMetadataBuffer(4);
+    buffer.record(1, 100, 10, 200, 0.5, 0, 1.8);
+    buffer.record(2, 200, 20, 400, Double.NaN, 1, 1.8);
+
+    Messages.PlatformCaptureMetadataBatch batch = buffer.drain();
+
+    assertArrayEquals(new long[] {1, 2}, batch.getFrameNumbers());
+    assertArrayEquals(new long[] {100, 200}, batch.getSensorTimestampsNanos());
+    assertArrayEquals(new long[] {10, 20}, batch.getExposureTimesNanos());
+    assertArrayEquals(new long[] {200, 400}, batch.getSensitivities());
+    assertArrayEquals(new double[] {0.5, Double.NaN}, batch.getFocusDistances(), 0);
+    assertArrayEquals(new long[] {0, 1}, batch.getLensStates());
+    assertArrayEquals(new double[] {1.8, 1.8}, batch.getApertures(), 0);
+    assertEquals(0L, (long) batch.getDroppedCount());
+    assertEquals(0, buffer.size());
+  }
+
+  @Test
+  public void record_overwritesOldestResultsWhenFull() {
+    CaptureMetadataBuffer buffer = new CaptureMetadataBuffer(3);
+    for (int frame = 1; frame <= 5; frame++) {
+      buffer.record(frame, frame, -1, frame, Double.NaN, -1, Double.NaN);
+    }
+
+    Messages.PlatformCaptureMetadataBatch batch = buffer.drain();
+
+    assertArrayEquals(new long[] {3, 4, 5}, batch.getFrameNumbers());
+    assertArrayEquals(new long[] {3, 4, 5}, batch.getSensitivities());
+    assertEquals(2L, (long) batch.getDroppedCount());
+
+    buffer.record(6, 6, 6, 6, Double.NaN, -1, Double.NaN);
+    batch = buffer.drain();
+    assertArrayEquals(new long[] {6}, batch.getFrameNumbers());
+    assertArrayEquals(new long[] {6}, batch.getSensitivities());
+    assertEquals(0L, (long) batch.getDroppedCount());
+  }
+}
@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CaptureResult;
+import android.hardware.camera2.TotalCaptureResult;
+import android.os.Handler;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CaptureMetadataStreamTest {
+  private Handler mockHandler;
+  private DartMessenger mockDartMessenger;
+  private CaptureMetadataStream stream;
+
+  @Before
+  public void setUp() {
+    mockHandler = mock(Handler.class);
+    mockDartMessenger = mock(DartMessenger.class);
+    stream = new CaptureMetadataStream(mockHandler, 50, 8);
+  }
+
+  @Test
+  public void start_schedulesFlushAtInterval() {
+    stream.start(mockDartMessenger);
+
+    verify(mockHandler).postDelayed(any(Runnable.class), eq(50L));
+  }
+
+  @Test
+  public void flush_sendsAllRecordedResultsInOneMessage() {
+    stream.start(mockDartMessenger);
+    stream.record(createResult(1, 1000L, 500));
+    stream.record(createResult(2, 2000L, 800));
+
+    stream.flush();
+
+    ArgumentCaptor<Messages.PlatformCaptureMetadataBatch> batchCaptor =
+        ArgumentCaptor.forClass(Messages.PlatformCaptureMetadataBatch.class);
+    verify(mockDartMessenger, times(1)).sendCaptureMetadataEvent(batchCaptor.capture());
+    Messages.PlatformCaptureMetadataBatch batch = batchCaptor.getValue();
+    assertArrayEquals(new long[] {1, 2}, batch.getFrameNumbers());
+    assertArrayEquals(new long[] {1000L, 2000L}, batch.getExposureTimesNanos());
+    assertArrayEquals(new long[] {500, 800}, batch.getSensitivities());
+    // Missing values are sent as -1.
+    assertArrayEquals(new long[] {-1, -1}, batch.getLensStates());
+  }
+
+  @Test
+  public void flush_doesNotSendEmptyBatches() {
+    stream.start(mockDartMessenger);
+
+    stream.flush();
+
+    verify(mockDartMessenger, never()).sendCaptureMetadataEvent(any());
+  }
+
+  @Test
+  public void stop_cancelsScheduledFlushes() {
+    stream.start(mockDartMessenger);
+    stream.record(createResult(1, 1000L, 500));
+
+    stream.stop();
+    stream.flush();
+
+    verify(mockHandler).removeCallbacks(any(Runnable.class));
+    verify(mockHandler, times(1)).postDelayed(any(Runnable.class), anyLong());
+    verify(mockDartMessenger, never()).sendCaptureMetadataEvent(any());
+  }
+
+  @Test
+  public void capacityFor_keepsEveryResultOfTheHighestFrameRate() {
+    assertEquals(61, CaptureMetadataStream.capacityFor(500, 120));
+    assertEquals(16, CaptureMetadataStream.capacityFor(100, 60));
+  }
+
+  @Test
+  public void capacityFor_assumesDefaultFrameRateWhenUnknown() {
+    assertEquals(31, CaptureMetadataStream.capacityFor(1000, 0));
+  }
+
+  private TotalCaptureResult createResult(long frameNumber, long exposureTime, int sensitivity) {
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+    when(mockResult.getFrameNumber()).thenReturn(frameNumber);
+    when(mockResult.get(CaptureResult.SENSOR_EXPOSURE_TIME)).thenReturn(exposureTime);
+    when(mockResult.get(CaptureResult.SENSOR_SENSITIVITY)).thenReturn(sensitivity);
+    return mockResult;
+  }
+}
@@ -6,8 +6,10 @@ package io.flutter.plugins.camera;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import android.os.Handler;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
@@ -100,6 +102,15 @@ public class DartMessengerTest {
     assertEquals(1, calls.get(0).intValue());
   }
 
+  @Test
+  public void sendCaptureMetadataEvent() {
+    Messages.PlatformCaptureMetadataBatch batch = new CaptureMetadataBuffer(1).drain();
+
+    dartMessenger.sendCaptureMetadataEvent(batch);
+
+    verify(mockEventApi).captureMetadata(eq(batch), any());
+  }
+
   @Test
   public void sendDeviceOrientationChangedEvent() {
     final List<Messages.PlatformDeviceOrientation> eventsList = new ArrayList<>();
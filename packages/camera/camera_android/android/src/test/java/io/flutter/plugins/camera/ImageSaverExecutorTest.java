@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.media.Image;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class ImageSaverExecutorTest {
+  private MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
+  private final List<Runnable> queuedSaves = new ArrayList<>();
+  private ImageSaverExecutor imageSaverExecutor;
+
+  @Before
+  public void setUp() throws Exception {
+    FileOutputStream mockFileOutputStream = mock(FileOutputStream.class);
+    when(mockFileOutputStream.getChannel()).thenReturn(mock(FileChannel.class));
+    mockFileOutputStreamFactory = mockStatic(ImageSaver.FileOutputStreamFactory.class);
+    mockFileOutputStreamFactory
+        .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
+        .thenReturn(mockFileOutputStream);
+
+    // Queue saves instead of running them, to simulate slow storage.
+    ExecutorService mockExecutor = mock(ExecutorService.class);
+    doAnswer(
+            invocation -> {
+              queuedSaves.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(mockExecutor)
+        .execute(any(Runnable.class));
+    imageSaverExecutor = new ImageSaverExecutor(mockExecutor, 2);
+  }
+
+  @After
+  public void tearDown() {
+    mockFileOutputStreamFactory.close();
+  }
+
+  private static Image createImage() {
+    Image mockImage = mock(Image.class);
+    Image.Plane mockPlane = mock(Image.Plane.class);
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.allocate(0));
+    when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
+    return mockImage;
+  }
+
+  private long getQueueDepth() {
+    return imageSaverExecutor.getStatistics().getQueueDepth();
+  }
+
+  @Test
+  public void submit_tracksQueueDepthAndLatency() {
+    File mockFile = mock(File.class);
+    when(mockFile.getAbsolutePath()).thenReturn("absolute/path");
+    ImageSaver.Callback mockCallback = mock(ImageSaver.Callback.class);
+
+    long startTime = System.nanoTime();
+    imageSaverExecutor.submit(createImage(), mockFile, mockCallback);
+    imageSaverExecutor.submit(createImage(), mockFile, mockCallback);
+    assertEquals(2, getQueueDepth());
+
+    for (Runnable save : queuedSaves) {
+      save.run();
+    }
+
+    long elapsedMicros = (System.nanoTime() - startTime) / 1000;
+
+    verify(mockCallback, times(2)).onComplete("absolute/path");
+    Messages.PlatformPictureSaveStatistics statistics = imageSaverExecutor.getStatistics();
+    assertEquals(0L, (long) statistics.getQueueDepth());
+    assertEquals(2L, (long) statistics.getMaxObservedQueueDepth());
+    assertEquals(2L, (long) statistics.getCompletedSaveCount());
+    assertTrue(statistics.getLastSaveLatencyMicros() <= elapsedMicros);
+    assertTrue(statistics.getAverageSaveLatencyMicros() <= elapsedMicros);
+  }
+
+  @Test
+  public void submit_rejectsSavesWhenQueueIsFull() {
+    ImageSaver.Callback mockCallback = mock(ImageSaver.Callback.class);
+    imageSaverExecutor.submit(createImage(), mock(File.class), mockCallback);
+    imageSaverExecutor.submit(createImage(), mock(File.class), mockCallback);
+
+    Image rejectedImage = createImage();
+    imageSaverExecutor.submit(rejectedImage, mock(File.class), mockCallback);
+
+    verify(rejectedImage).close();
+    verify(mockCallback).onError(anyString(), anyString());
+    verify(mockCallback, never()).onComplete(anyString());
+    assertEquals(2, queuedSaves.size());
+    assertEquals(2, getQueueDepth());
+  }
+
+  @Test
+  public void reserve_keepsRoomForReservedSaves() {
+    ImageSaver.Callback mockCallback = mock(ImageSaver.Callback.class);
+    assertTrue(imageSaverExecutor.reserve(2));
+    assertFalse(imageSaverExecutor.reserve(1));
+
+    imageSaverExecutor.submitReserved(createImage(), mock(File.class), mockCallback);
+    Image rejectedImage = createImage();
+    imageSaverExecutor.submit(rejectedImage, mock(File.class), mockCallback);
+    verify(rejectedImage).close();
+    assertEquals(1, queuedSaves.size());
+
+    imageSaverExecutor.release(1);
+    assertEquals(1, getQueueDepth());
+    queuedSaves.get(0).run();
+    assertEquals(0, getQueueDepth());
+  }
+}
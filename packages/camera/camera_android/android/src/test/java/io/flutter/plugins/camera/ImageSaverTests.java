@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -14,10 +15,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.media.Image;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,9 +35,10 @@ public class ImageSaverTests {
   ImageSaver.Callback mockCallback;
   ImageSaver imageSaver;
   Image.Plane mockPlane;
-  ByteBuffer mockBuffer;
+  ByteBuffer imageBuffer;
   MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
   FileOutputStream mockFileOutputStream;
+  FileChannel mockFileChannel;
 
   @Before
   public void setup() {
@@ -42,29 +46,30 @@ public class ImageSaverTests {
     mockFile = mock(File.class);
     when(mockFile.getAbsolutePath()).thenReturn("absolute/path");
     mockPlane = mock(Image.Plane.class);
-    mockBuffer = mock(ByteBuffer.class);
-    when(mockBuffer.remaining()).thenReturn(3);
-    when(mockBuffer.get(any()))
-        .thenAnswer(
-            new Answer<Object>() {
-              @Override
-              public Object answer(InvocationOnMock invocation) throws Throwable {
-                byte[] bytes = invocation.getArgument(0);
-                bytes[0] = 0x42;
-                bytes[1] = 0x00;
-                bytes[2] = 0x13;
-                return mockBuffer;
-              }
-            });
+    imageBuffer = ByteBuffer.wrap(new byte[] {0x42, 0x00, 0x13});
 
     // Set up mocked image dependency
     mockImage = mock(Image.class);
-    when(mockPlane.getBuffer()).thenReturn(mockBuffer);
+    when(mockPlane.getBuffer()).thenReturn(imageBuffer);
     when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
 
     // Set up mocked FileOutputStream
     mockFileOutputStreamFactory = mockStatic(ImageSaver.FileOutputStreamFactory.class);
     mockFileOutputStream = mock(FileOutputStream.class);
+    mockFileChannel = mock(FileChannel.class);
+    when(mockFileOutputStream.getChannel()).thenReturn(mockFileChannel);
+    try {
+      when(mockFileChannel.write(any(ByteBuffer.class)))
+          .thenAnswer(
+              invocation -> {
+                ByteBuffer buffer = invocation.getArgument(0);
+                int remaining = buffer.remaining();
+                buffer.position(buffer.limit());
+                return remaining;
+              });
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
     mockFileOutputStreamFactory
         .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
         .thenReturn(mockFileOutputStream);
@@ -80,17 +85,31 @@ public class ImageSaverTests {
   }
 
   @Test
-  public void runWritesBytesToFileAndFinishesWithPath() throws IOException {
+  public void runWritesBufferToFileChannelAndFinishesWithPath() throws IOException {
+    final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    when(mockFileChannel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            new Answer<Object>() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                // Simulate a channel that writes one byte at a time.
+                ByteBuffer buffer = invocation.getArgument(0);
+                written.write(buffer.get());
+                return 1;
+              }
+            });
+
     imageSaver.run();
 
-    verify(mockFileOutputStream, times(1)).write(new byte[] {0x42, 0x00, 0x13});
+    verify(mockFileChannel, times(3)).write(imageBuffer);
+    assertArrayEquals(new byte[] {0x42, 0x00, 0x13}, written.toByteArray());
     verify(mockCallback, times(1)).onComplete("absolute/path");
     verify(mockCallback, never()).onError(any(), any());
   }
 
   @Test
   public void runCallsErrorOnWriteIoexception() throws IOException {
-    doThrow(new IOException()).when(mockFileOutputStream).write(any());
+    doThrow(new IOException()).when(mockFileChannel).write(any(ByteBuffer.class));
     imageSaver.run();
     verify(mockCallback, times(1)).onError("IOError", "Failed saving image");
     verify(mockCallback, never()).onComplete(any());
@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ImageStreamCropTest {
+  @Test
+  public void forTargetSize_picksLargestFactorNotBelowTarget() {
+    ImageStreamCrop crop = ImageStreamCrop.forTargetSize(0, 0, 1920, 1080, 640, 320);
+
+    assertEquals(3, crop.getSubsampleFactor());
+    assertEquals(640, crop.getOutputWidth());
+    assertEquals(360, crop.getOutputHeight());
+  }
+
+  @Test
+  public void centered_centersRegionInImage() {
+    ImageStreamCrop crop = ImageStreamCrop.centered(1280, 720, 320, 320, 1);
+
+    assertEquals(480, crop.getLeft());
+    assertEquals(200, crop.getTop());
+  }
+
+  @Test
+  public void resolve_returnsSameCropWhenAligned() {
+    ImageStreamCrop crop = new ImageStreamCrop(480, 200, 320, 320, 2);
+
+    assertSame(crop, crop.resolve(1280, 720));
+  }
+
+  @Test
+  public void resolve_alignsRegionForChromaPlanes() {
+    ImageStreamCrop crop = new ImageStreamCrop(481, 201, 323, 322, 2).resolve(1280, 720);
+
+    assertEquals(480, crop.getLeft());
+    assertEquals(200, crop.getTop());
+    assertEquals(320, crop.getWidth());
+    assertEquals(320, crop.getHeight());
+    assertEquals(0, crop.getOutputWidth() % 2);
+  }
+
+  @Test
+  public void resolve_clampsRegionToImage() {
+    ImageStreamCrop crop = new ImageStreamCrop(1200, 600, 320, 320, 1).resolve(1280, 720);
+
+    assertEquals(80, crop.getWidth());
+    assertEquals(120, crop.getHeight());
+  }
+
+  @Test
+  public void resolve_reducesSubsampleFactorLargerThanImage() {
+    ImageStreamCrop crop =
+        new ImageStreamCrop(0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE, 1000).resolve(640, 480);
+
+    assertEquals(240, crop.getSubsampleFactor());
+    assertRegionInImage(crop, 640, 480);
+    assertEquals(2, crop.getOutputWidth());
+    assertEquals(2, crop.getOutputHeight());
+  }
+
+  @Test
+  public void resolve_keepsSubsampledCropAtRightAndBottomEdgesInImage() {
+    ImageStreamCrop crop = new ImageStreamCrop(1270, 710, 100, 100, 4).resolve(1280, 720);
+
+    assertEquals(4, crop.getSubsampleFactor());
+    assertRegionInImage(crop, 1280, 720);
+    assertEquals(0, crop.getOutputWidth() % 2);
+    assertEquals(0, crop.getOutputHeight() % 2);
+  }
+
+  @Test
+  public void resolve_movesCropTooCloseToEdgesForOneSubsampledPixel() {
+    ImageStreamCrop crop = new ImageStreamCrop(1279, 719, 100, 100, 8).resolve(1280, 720);
+
+    assertEquals(1264, crop.getLeft());
+    assertEquals(704, crop.getTop());
+    assertRegionInImage(crop, 1280, 720);
+    assertEquals(2, crop.getOutputWidth());
+    assertEquals(2, crop.getOutputHeight());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_rejectsInvalidSubsampleFactor() {
+    new ImageStreamCrop(0, 0, 10, 10, 0);
+  }
+
+  private static void assertRegionInImage(ImageStreamCrop crop, int imageWidth, int imageHeight) {
+    assertTrue(crop.getLeft() >= 0);
+    assertTrue(crop.getTop() >= 0);
+    assertTrue(crop.getLeft() + crop.getWidth() <= imageWidth);
+    assertTrue(crop.getTop() + crop.getHeight() <= imageHeight);
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ImageStreamFramePoolTest {
+  @Test
+  public void acquire_reusesReleasedFrames() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(1);
+
+    ImageStreamFramePool.Frame frame = pool.acquire();
+    pool.release(frame);
+
+    assertSame(frame, pool.acquire());
+    assertEquals(1, pool.getAllocationCount());
+    assertEquals(2, pool.getAcquiredFrameCount());
+  }
+
+  @Test
+  public void release_dropsFramesWhenPoolIsFull() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(1);
+
+    ImageStreamFramePool.Frame first = pool.acquire();
+    ImageStreamFramePool.Frame second = pool.acquire();
+    pool.release(first);
+    pool.release(second);
+
+    assertSame(first, pool.acquire());
+    assertNotSame(second, pool.acquire());
+    assertEquals(3, pool.getAllocationCount());
+  }
+
+  @Test
+  public void getPlaneBytes_reusesBuffersOfMatchingSize() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(1);
+    ImageStreamFramePool.Frame frame = pool.acquire();
+    pool.setPlaneCount(frame, 1);
+
+    byte[] bytes = pool.getPlaneBytes(frame, 0, 16);
+    assertSame(bytes, pool.getPlaneBytes(frame, 0, 16));
+    assertEquals(32, pool.getPlaneBytes(frame, 0, 32).length);
+
+    // One frame, one plane map and two plane buffers.
+    assertEquals(4, pool.getAllocationCount());
+  }
+
+  @Test
+  public void setPlaneCount_resizesPlaneList() {
+    ImageStreamFramePool pool = new ImageStreamFramePool(1);
+    ImageStreamFramePool.Frame frame = pool.acquire();
+
+    pool.setPlaneCount(frame, 3);
+    assertEquals(3, ((List<?>) frame.getMessage().get("planes")).size());
+
+    pool.setPlaneCount(frame, 1);
+    assertEquals(1, ((List<?>) frame.getMessage().get("planes")).size());
+  }
+}
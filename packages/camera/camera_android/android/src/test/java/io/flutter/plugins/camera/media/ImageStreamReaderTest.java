@@ -7,6 +7,7 @@ package io.flutter.plugins.camera.media;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.robolectric.RobolectricTestRunner;
 
 @RunWith(RobolectricTestRunner.class)
@@ -176,4 +178,231 @@ public class ImageStreamReaderTest {
       verify(mockEventSink, invalidateWeakReference ? never() : times(1)).success(any(Map.class));
     }
   }
+
+  @Test
+  public void onImageAvailable_reusesPooledFramesOnceSteadyStateIsReached() {
+    int dartImageFormat = ImageFormat.YUV_420_888;
+
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(mockImageReader, dartImageFormat, new ImageStreamReaderUtils());
+    imageStreamReader.setFramePoolingEnabled(true);
+
+    // Simulate a main looper that runs posted frames immediately.
+    Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any(Runnable.class)))
+        .thenAnswer(
+            inputs -> {
+              inputs.getArgument(0, Runnable.class).run();
+              return true;
+            });
+    imageStreamReader.handler = mockHandler;
+
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    ImageStreamFramePool framePool = imageStreamReader.getFramePool();
+
+    imageStreamReader.onImageAvailable(
+        ImageStreamReaderTestUtils.getImage(160, 120, 16, ImageFormat.YUV_420_888),
+        mockCaptureProps,
+        mockEventSink);
+    long allocationsAfterFirstFrame = framePool.getAllocationCount();
+
+    for (int i = 0; i < 10; i++) {
+      imageStreamReader.onImageAvailable(
+          ImageStreamReaderTestUtils.getImage(160, 120, 16, ImageFormat.YUV_420_888),
+          mockCaptureProps,
+          mockEventSink);
+    }
+
+    verify(mockEventSink, times(11)).success(any(Map.class));
+    assertEquals(allocationsAfterFirstFrame, framePool.getAllocationCount());
+    assertEquals(11, framePool.getAcquiredFrameCount());
+  }
+
+  @Test
+  public void onImageAvailable_convertsNv21IntoPooledBuffer() {
+    int dartImageFormat = ImageFormat.NV21;
+
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReaderUtils mockImageStreamReaderUtils = mock(ImageStreamReaderUtils.class);
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
+    imageStreamReader.setFramePoolingEnabled(true);
+    imageStreamReader.handler = mock(Handler.class);
+
+    Image mockImage = ImageStreamReaderTestUtils.getImage(1280, 720, 256, ImageFormat.YUV_420_888);
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    imageStreamReader.onImageAvailable(mockImage, mockCaptureProps, mockEventSink);
+
+    verify(mockImageStreamReaderUtils)
+        .yuv420ThreePlanesToNV21(
+            eq(mockImage.getPlanes()), eq(1280), eq(720), any(byte[].class));
+    verify(mockImageStreamReaderUtils, never()).yuv420ThreePlanesToNV21(any(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void onImageAvailable_latestFrameWinsDropsFramesWhileOneIsInFlight() {
+    int dartImageFormat = ImageFormat.NV21;
+
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReaderUtils mockImageStreamReaderUtils = mock(ImageStreamReaderUtils.class);
+    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
+        .thenReturn(ByteBuffer.allocate(0));
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
+    imageStreamReader.setDeliveryPolicy(ImageStreamDeliveryPolicy.latestFrameWins());
+
+    final List<Runnable> runnables = new ArrayList<>();
+    Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any(Runnable.class)))
+        .thenAnswer(
+            inputs -> {
+              runnables.add(inputs.getArgument(0, Runnable.class));
+              return true;
+            });
+    imageStreamReader.handler = mockHandler;
+
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    for (int i = 0; i < 3; i++) {
+      Image mockImage =
+          ImageStreamReaderTestUtils.getImage(1280, 720, 256, ImageFormat.YUV_420_888);
+      imageStreamReader.onImageAvailable(mockImage, mockCaptureProps, mockEventSink);
+      // Every image is closed, whether it is converted or dropped.
+      verify(mockImage).close();
+    }
+
+    // Only the first frame was converted while the main thread was halted.
+    verify(mockImageStreamReaderUtils, times(1)).yuv420ThreePlanesToNV21(any(), anyInt(), anyInt());
+    assertEquals(1, runnables.size());
+    assertEquals(2, imageStreamReader.getDroppedFrameCount());
+
+    runnables.get(0).run();
+    assertEquals(1, imageStreamReader.getDeliveredFrameCount());
+
+    // Once the frame has been delivered, the next one is converted again.
+    imageStreamReader.onImageAvailable(
+        ImageStreamReaderTestUtils.getImage(1280, 720, 256, ImageFormat.YUV_420_888),
+        mockCaptureProps,
+        mockEventSink);
+    verify(mockImageStreamReaderUtils, times(2)).yuv420ThreePlanesToNV21(any(), anyInt(), anyInt());
+    assertEquals(2, runnables.size());
+  }
+
+  @Test
+  public void onImageAvailable_boundedQueueLimitsFramesInFlight() {
+    int dartImageFormat = ImageFormat.YUV_420_888;
+
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mockImageReader, dartImageFormat, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setDeliveryPolicy(ImageStreamDeliveryPolicy.boundedQueue(2));
+
+    final List<Runnable> runnables = new ArrayList<>();
+    Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any(Runnable.class)))
+        .thenAnswer(
+            inputs -> {
+              runnables.add(inputs.getArgument(0, Runnable.class));
+              return true;
+            });
+    imageStreamReader.handler = mockHandler;
+
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    for (int i = 0; i < 5; i++) {
+      imageStreamReader.onImageAvailable(
+          ImageStreamReaderTestUtils.getImage(1280, 720, 256, ImageFormat.YUV_420_888),
+          mockCaptureProps,
+          mockEventSink);
+    }
+
+    assertEquals(2, runnables.size());
+    assertEquals(3, imageStreamReader.getDroppedFrameCount());
+
+    for (Runnable r : runnables) {
+      r.run();
+    }
+    verify(mockEventSink, times(2)).success(any(Map.class));
+    assertEquals(2, imageStreamReader.getDeliveredFrameCount());
+    assertEquals(0, imageStreamReader.getDiscardedFrameCount());
+  }
+
+  @Test
+  public void onImageAvailable_countsFramesDiscardedWhenPostFails() {
+    int dartImageFormat = ImageFormat.YUV_420_888;
+
+    ImageReader mockImageReader = mock(ImageReader.class);
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mockImageReader, dartImageFormat, mock(ImageStreamReaderUtils.class));
+    imageStreamReader.setDeliveryPolicy(ImageStreamDeliveryPolicy.latestFrameWins());
+
+    // A handler whose looper has quit rejects every post.
+    Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any(Runnable.class))).thenReturn(false);
+    imageStreamReader.handler = mockHandler;
+
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    for (int i = 0; i < 2; i++) {
+      imageStreamReader.onImageAvailable(
+          ImageStreamReaderTestUtils.getImage(1280, 720, 256, ImageFormat.YUV_420_888),
+          mockCaptureProps,
+          mockEventSink);
+    }
+
+    // The rejected frame must not keep occupying the in-flight slot.
+    assertEquals(2, imageStreamReader.getDiscardedFrameCount());
+    assertEquals(0, imageStreamReader.getDroppedFrameCount());
+  }
+
+  @Test
+  public void onImageAvailable_sendsCroppedFrames() {
+    for (int dartImageFormat : new int[] {ImageFormat.YUV_420_888, ImageFormat.NV21}) {
+      for (boolean pooled : new boolean[] {false, true}) {
+        ImageReader mockImageReader = mock(ImageReader.class);
+        ImageStreamReader imageStreamReader =
+            new ImageStreamReader(mockImageReader, dartImageFormat, new ImageStreamReaderUtils());
+        imageStreamReader.setFramePoolingEnabled(pooled);
+        imageStreamReader.setCrop(ImageStreamCrop.centered(160, 120, 80, 80, 2));
+
+        Handler mockHandler = mock(Handler.class);
+        when(mockHandler.post(any(Runnable.class)))
+            .thenAnswer(
+                inputs -> {
+                  inputs.getArgument(0, Runnable.class).run();
+                  return true;
+                });
+        imageStreamReader.handler = mockHandler;
+
+        EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+        imageStreamReader.onImageAvailable(
+            ImageStreamReaderTestUtils.getImage(160, 120, 16, ImageFormat.YUV_420_888),
+            mock(CameraCaptureProperties.class),
+            mockEventSink);
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mockEventSink).success(captor.capture());
+        Map<String, Object> imageBuffer = captor.getValue();
+        assertEquals(40, imageBuffer.get("width"));
+        assertEquals(40, imageBuffer.get("height"));
+
+        List<?> planes = (List<?>) imageBuffer.get("planes");
+        if (dartImageFormat == ImageFormat.NV21) {
+          assertEquals(1, planes.size());
+          assertEquals(40 * 40 * 3 / 2, ((byte[]) ((Map<?, ?>) planes.get(0)).get("bytes")).length);
+        } else {
+          assertEquals(3, planes.size());
+          assertEquals(40 * 40, ((byte[]) ((Map<?, ?>) planes.get(0)).get("bytes")).length);
+          assertEquals(20 * 20, ((byte[]) ((Map<?, ?>) planes.get(1)).get("bytes")).length);
+          assertEquals(20, ((Map<?, ?>) planes.get(2)).get("bytesPerRow"));
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/** Builds YUV_420_888 planes in the memory layouts produced by different devices. */
+public class YuvLayoutTestUtils {
+  /** The memory layouts of the U and V planes of a YUV_420_888 image. */
+  public enum Layout {
+    /** U and V share one buffer with a pixel stride of 2, as in NV21. */
+    INTERLEAVED,
+    /** U and V are separate buffers with a pixel stride of 1, as in I420. */
+    PLANAR,
+    /** Like {@link #INTERLEAVED}, but every row is padded to a larger row stride. */
+    PADDED_ROWS,
+  }
+
+  /** A plane buffer along with its strides. */
+  public static class Plane {
+    public final ByteBuffer buffer;
+    public final int rowStride;
+    public final int pixelStride;
+
+    Plane(ByteBuffer buffer, int rowStride, int pixelStride) {
+      this.buffer = buffer;
+      this.rowStride = rowStride;
+      this.pixelStride = pixelStride;
+    }
+  }
+
+  private static final int ROW_PADDING = 64;
+
+  /** Returns the Y, U and V planes of a random image of the given size in the given layout. */
+  public static Plane[] createPlanes(int width, int height, Layout layout) {
+    Random random = new Random(width * 31L + height);
+    int padding = layout == Layout.PADDED_ROWS ? ROW_PADDING : 0;
+    int yRowStride = width + padding;
+    // Like camera buffers, the last row of a plane is not padded.
+    Plane y = new Plane(randomBuffer(random, yRowStride * (height - 1) + width), yRowStride, 1);
+
+    int chromaWidth = width / 2;
+    int chromaHeight = height / 2;
+    if (layout == Layout.PLANAR) {
+      int size = chromaWidth * chromaHeight;
+      return new Plane[] {
+        y,
+        new Plane(randomBuffer(random, size), chromaWidth, 1),
+        new Plane(randomBuffer(random, size), chromaWidth, 1)
+      };
+    }
+
+    int chromaRowStride = width + padding;
+    int chromaSize = chromaRowStride * (chromaHeight - 1) + 2 * chromaWidth - 1;
+    ByteBuffer vu = randomBuffer(random, chromaSize + 1);
+    vu.position(1);
+    ByteBuffer u = vu.slice();
+    vu.position(0);
+    vu.limit(chromaSize);
+    ByteBuffer v = vu.slice();
+    return new Plane[] {y, new Plane(u, chromaRowStride, 2), new Plane(v, chromaRowStride, 2)};
+  }
+
+  /** Converts the planes to NV21 with the given unpacker. */
+  public static void toNv21(
+      YuvPlaneUnpacker unpacker, Plane[] planes, int width, int height, byte[] out) {
+    int imageSize = width * height;
+    unpacker.unpackPlane(
+        planes[0].buffer, planes[0].rowStride, planes[0].pixelStride, width, height, out, 0, 1);
+    unpacker.unpackPlane(
+        planes[1].buffer,
+        planes[1].rowStride,
+        planes[1].pixelStride,
+        width,
+        height,
+        out,
+        imageSize + 1,
+        2);
+    unpacker.unpackPlane(
+        planes[2].buffer,
+        planes[2].rowStride,
+        planes[2].pixelStride,
+        width,
+        height,
+        out,
+        imageSize,
+        2);
+  }
+
+  /** Converts the planes to NV21 by copying every byte individually. */
+  public static void toNv21ByteByByte(Plane[] planes, int width, int height, byte[] out) {
+    int imageSize = width * height;
+    unpackPlaneByteByByte(planes[0], width, height, out, 0, 1);
+    unpackPlaneByteByByte(planes[1], width, height, out, imageSize + 1, 2);
+    unpackPlaneByteByByte(planes[2], width, height, out, imageSize, 2);
+  }
+
+  private static void unpackPlaneByteByByte(
+      Plane plane, int width, int height, byte[] out, int offset, int outPixelStride) {
+    ByteBuffer buffer = plane.buffer;
+    int numRow = (buffer.limit() + plane.rowStride - 1) / plane.rowStride;
+    if (numRow == 0) {
+      return;
+    }
+    int scaleFactor = height / numRow;
+    int numCol = width / scaleFactor;
+
+    int outputPos = offset;
+    int rowStart = 0;
+    for (int row = 0; row < numRow; row++) {
+      int inputPos = rowStart;
+      for (int col = 0; col < numCol; col++) {
+        out[outputPos] = buffer.get(inputPos);
+        outputPos += outPixelStride;
+        inputPos += plane.pixelStride;
+      }
+      rowStart += plane.rowStride;
+    }
+  }
+
+  private static ByteBuffer randomBuffer(Random random, int size) {
+    byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+    buffer.put(bytes);
+    buffer.rewind();
+    return buffer;
+  }
+}
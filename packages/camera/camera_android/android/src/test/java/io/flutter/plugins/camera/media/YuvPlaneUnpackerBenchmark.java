@@ -0,0 +1,112 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+/**
+ * Measures the throughput of the NV21 conversion for each plane layout and common resolutions.
+ *
+ * <p>This benchmark runs on the JVM without Robolectric, and is skipped unless the {@code
+ * cameraBenchmark} Gradle property is set:
+ *
+ * <pre>
+ * ./gradlew :camera_android:testDebugUnitTest -PcameraBenchmark=true \
+ *     --tests io.flutter.plugins.camera.media.YuvPlaneUnpackerBenchmark
+ * </pre>
+ */
+public class YuvPlaneUnpackerBenchmark {
+  private static final int[][] RESOLUTIONS = {{1280, 720}, {1920, 1080}, {3840, 2160}};
+  private static final int WARMUP_ITERATIONS = 20;
+  private static final int MEASURED_ITERATIONS = 50;
+
+  private interface Conversion {
+    void run(YuvLayoutTestUtils.Plane[] planes, int width, int height, byte[] out);
+  }
+
+  @Test
+  public void benchmarkNv21Conversion() {
+    assumeTrue(Boolean.getBoolean("cameraBenchmark"));
+
+    int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    YuvPlaneUnpacker serialUnpacker = new YuvPlaneUnpacker();
+    YuvPlaneUnpacker parallelUnpacker = new YuvPlaneUnpacker();
+    parallelUnpacker.setParallelism(executor, parallelism, 0);
+
+    try {
+      for (int[] resolution : RESOLUTIONS) {
+        int width = resolution[0];
+        int height = resolution[1];
+        for (YuvLayoutTestUtils.Layout layout : YuvLayoutTestUtils.Layout.values()) {
+          YuvLayoutTestUtils.Plane[] planes =
+              YuvLayoutTestUtils.createPlanes(width, height, layout);
+          byte[] out = new byte[ImageStreamReaderUtils.getNV21Size(width, height)];
+
+          report(
+              "byte-by-byte",
+              layout,
+              width,
+              height,
+              measure(YuvLayoutTestUtils::toNv21ByteByByte, planes, width, height, out));
+          report(
+              "bulk",
+              layout,
+              width,
+              height,
+              measure(
+                  (p, w, h, o) -> YuvLayoutTestUtils.toNv21(serialUnpacker, p, w, h, o),
+                  planes,
+                  width,
+                  height,
+                  out));
+          report(
+              "bulk-parallel",
+              layout,
+              width,
+              height,
+              measure(
+                  (p, w, h, o) -> YuvLayoutTestUtils.toNv21(parallelUnpacker, p, w, h, o),
+                  planes,
+                  width,
+                  height,
+                  out));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /** Returns the number of frames converted per second. */
+  private static double measure(
+      Conversion conversion,
+      YuvLayoutTestUtils.Plane[] planes,
+      int width,
+      int height,
+      byte[] out) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      conversion.run(planes, width, height, out);
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      conversion.run(planes, width, height, out);
+    }
+    long elapsed = System.nanoTime() - start;
+    return MEASURED_ITERATIONS * 1e9 / elapsed;
+  }
+
+  private static void report(
+      String name, YuvLayoutTestUtils.Layout layout, int width, int height, double fps) {
+    System.out.println(
+        String.format(
+            Locale.ENGLISH, "%-14s %-12s %4dx%-4d %8.1f fps", name, layout, width, height, fps));
+  }
+}
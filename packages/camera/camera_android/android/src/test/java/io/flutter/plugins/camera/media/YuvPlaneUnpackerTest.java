@@ -0,0 +1,146 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+public class YuvPlaneUnpackerTest {
+  private static final int WIDTH = 160;
+  private static final int HEIGHT = 120;
+
+  private static void assertMatchesByteByByteConversion(
+      YuvPlaneUnpacker unpacker, YuvLayoutTestUtils.Layout layout) {
+    YuvLayoutTestUtils.Plane[] planes = YuvLayoutTestUtils.createPlanes(WIDTH, HEIGHT, layout);
+    int size = ImageStreamReaderUtils.getNV21Size(WIDTH, HEIGHT);
+    byte[] expected = new byte[size];
+    byte[] actual = new byte[size];
+
+    YuvLayoutTestUtils.toNv21ByteByByte(planes, WIDTH, HEIGHT, expected);
+    YuvLayoutTestUtils.toNv21(unpacker, planes, WIDTH, HEIGHT, actual);
+
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void unpackPlane_matchesByteByByteConversionForEveryLayout() {
+    YuvPlaneUnpacker unpacker = new YuvPlaneUnpacker();
+    for (YuvLayoutTestUtils.Layout layout : YuvLayoutTestUtils.Layout.values()) {
+      assertMatchesByteByByteConversion(unpacker, layout);
+    }
+  }
+
+  @Test
+  public void unpackPlane_matchesByteByByteConversionWhenSplitInBands() {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      YuvPlaneUnpacker unpacker = new YuvPlaneUnpacker();
+      unpacker.setParallelism(executor, 3, 0);
+      for (YuvLayoutTestUtils.Layout layout : YuvLayoutTestUtils.Layout.values()) {
+        assertMatchesByteByByteConversion(unpacker, layout);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void unpackPlane_matchesByteByByteConversionAtStreamResolutions() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      YuvPlaneUnpacker serialUnpacker = new YuvPlaneUnpacker();
+      YuvPlaneUnpacker parallelUnpacker = new YuvPlaneUnpacker();
+      parallelUnpacker.setParallelism(executor, 4, 0);
+      for (int[] resolution : new int[][] {{1280, 720}, {1920, 1080}, {3840, 2160}}) {
+        int width = resolution[0];
+        int height = resolution[1];
+        for (YuvLayoutTestUtils.Layout layout : YuvLayoutTestUtils.Layout.values()) {
+          YuvLayoutTestUtils.Plane[] planes =
+              YuvLayoutTestUtils.createPlanes(width, height, layout);
+          int size = ImageStreamReaderUtils.getNV21Size(width, height);
+          byte[] expected = new byte[size];
+          byte[] serial = new byte[size];
+          byte[] parallel = new byte[size];
+
+          YuvLayoutTestUtils.toNv21ByteByByte(planes, width, height, expected);
+          YuvLayoutTestUtils.toNv21(serialUnpacker, planes, width, height, serial);
+          YuvLayoutTestUtils.toNv21(parallelUnpacker, planes, width, height, parallel);
+
+          String message = layout + " at " + width + "x" + height;
+          assertArrayEquals(message, expected, serial);
+          assertArrayEquals(message, expected, parallel);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void unpackPlane_leavesBufferPositionUnchanged() {
+    YuvLayoutTestUtils.Plane[] planes =
+        YuvLayoutTestUtils.createPlanes(WIDTH, HEIGHT, YuvLayoutTestUtils.Layout.PLANAR);
+    byte[] out = new byte[ImageStreamReaderUtils.getNV21Size(WIDTH, HEIGHT)];
+
+    new YuvPlaneUnpacker()
+        .unpackPlane(
+            planes[1].buffer,
+            planes[1].rowStride,
+            planes[1].pixelStride,
+            WIDTH,
+            HEIGHT,
+            out,
+            WIDTH * HEIGHT + 1,
+            2);
+
+    assertEquals(0, planes[1].buffer.position());
+  }
+
+  @Test
+  public void cropPlane_copiesSubsampledRegionForEveryLayout() {
+    YuvPlaneUnpacker unpacker = new YuvPlaneUnpacker();
+    for (YuvLayoutTestUtils.Layout layout : YuvLayoutTestUtils.Layout.values()) {
+      YuvLayoutTestUtils.Plane[] planes = YuvLayoutTestUtils.createPlanes(WIDTH, HEIGHT, layout);
+      for (int planeIndex = 0; planeIndex < 3; planeIndex++) {
+        YuvLayoutTestUtils.Plane plane = planes[planeIndex];
+        int scale = planeIndex == 0 ? 1 : 2;
+        // Crop every other odd row, which includes the unpadded last row.
+        int left = 40 / scale;
+        int top = 1;
+        int step = 2;
+        int outWidth = (WIDTH / scale - left) / step;
+        int outHeight = HEIGHT / scale / step;
+        byte[] actual = new byte[outWidth * outHeight];
+
+        unpacker.cropPlane(
+            plane.buffer,
+            plane.rowStride,
+            plane.pixelStride,
+            left,
+            top,
+            outWidth,
+            outHeight,
+            step,
+            actual,
+            0,
+            1);
+
+        byte[] expected = new byte[outWidth * outHeight];
+        for (int row = 0; row < outHeight; row++) {
+          for (int col = 0; col < outWidth; col++) {
+            expected[row * outWidth + col] =
+                plane.buffer.get(
+                    (top + row * step) * plane.rowStride + (left + col * step) * plane.pixelStride);
+          }
+        }
+        assertArrayEquals(layout + " plane " + planeIndex, expected, actual);
+      }
+    }
+  }
+}
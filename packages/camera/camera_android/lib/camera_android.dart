@@ -3,3 +3,9 @@
 // found in the LICENSE file.
 
 export 'src/android_camera.dart';
+export 'src/android_camera_burst_result.dart';
+export 'src/android_camera_capture_metadata_event.dart';
+export 'src/android_camera_image_data.dart';
+export 'src/android_camera_image_stream_options.dart';
+export 'src/android_camera_picture_save_statistics.dart';
+export 'src/android_camera_timings.dart';
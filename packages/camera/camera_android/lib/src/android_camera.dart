@@ -10,6 +10,11 @@ import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'android_camera_burst_result.dart';
+import 'android_camera_capture_metadata_event.dart';
+import 'android_camera_image_stream_options.dart';
+import 'android_camera_picture_save_statistics.dart';
+import 'android_camera_timings.dart';
 import 'messages.g.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
@@ -172,6 +177,34 @@ class AndroidCamera extends CameraPlatform {
     return _cameraEvents(cameraId).whereType<VideoRecordedEvent>();
   }
 
+  /// Returns a stream of the capture metadata of every frame of the camera with
+  /// the given ID.
+  ///
+  /// The metadata is only collected while the stream is listened to, and is
+  /// delivered in batches, one every [flushInterval].
+  Stream<AndroidCameraCaptureMetadataEvent> onCaptureMetadata(
+    int cameraId, {
+    Duration flushInterval = const Duration(milliseconds: 100),
+  }) {
+    StreamSubscription<AndroidCameraCaptureMetadataEvent>? subscription;
+    late final StreamController<AndroidCameraCaptureMetadataEvent> controller;
+    controller = StreamController<AndroidCameraCaptureMetadataEvent>(
+      onListen: () {
+        subscription = _cameraEvents(
+          cameraId,
+        ).whereType<AndroidCameraCaptureMetadataEvent>().listen(controller.add);
+        unawaited(
+          _hostApi.startCaptureMetadataStream(flushInterval.inMilliseconds),
+        );
+      },
+      onCancel: () async {
+        await subscription?.cancel();
+        await _hostApi.stopCaptureMetadataStream();
+      },
+    );
+    return controller.stream;
+  }
+
   @override
   Stream<DeviceOrientationChangedEvent> onDeviceOrientationChanged() {
     return hostHandler.deviceEventStreamController.stream
@@ -199,6 +232,18 @@ class AndroidCamera extends CameraPlatform {
     return XFile(path);
   }
 
+  /// Takes a burst of [count] pictures on the camera with the given ID.
+  ///
+  /// The pictures are requested at once after a single precapture sequence,
+  /// and each one is saved while the remaining ones are still being captured.
+  /// [count] must be between 1 and 8.
+  Future<AndroidCameraBurstResult> takePictureBurst(
+    int cameraId,
+    int count,
+  ) async {
+    return burstResultFromPlatform(await _hostApi.takePictureBurst(count));
+  }
+
   // This optimization is unnecessary on Android.
   @override
   Future<void> prepareForVideoRecording() async {}
@@ -214,6 +259,13 @@ class AndroidCamera extends CameraPlatform {
 
   @override
   Future<void> startVideoCapturing(VideoCaptureOptions options) async {
+    final CameraImageStreamOptions? streamOptions = options.streamOptions;
+    if (options.streamCallback != null &&
+        streamOptions is AndroidCameraImageStreamOptions) {
+      await _hostApi.setImageStreamOptions(
+        imageStreamOptionsToPlatform(streamOptions),
+      );
+    }
     await _hostApi.startVideoRecording(options.streamCallback != null);
 
     if (options.streamCallback != null) {
@@ -228,6 +280,15 @@ class AndroidCamera extends CameraPlatform {
     return XFile(path);
   }
 
+  /// Returns the time it took the current or last recording of the camera with
+  /// the given ID to encode its first frame through the video renderer.
+  ///
+  /// Returns null when no recording has been routed through the renderer yet.
+  Future<Duration?> getTimeToFirstEncodedFrame(int cameraId) async {
+    final int? micros = await _hostApi.getTimeToFirstEncodedFrameMicros();
+    return micros == null ? null : Duration(microseconds: micros);
+  }
+
   @override
   Future<void> pauseVideoRecording(int cameraId) =>
       _hostApi.pauseVideoRecording();
@@ -244,7 +305,7 @@ class AndroidCamera extends CameraPlatform {
     int cameraId, {
     CameraImageStreamOptions? options,
   }) {
-    _installStreamController(onListen: _onFrameStreamListen);
+    _installStreamController(onListen: () => _onFrameStreamListen(options));
     return _frameStreamController!.stream;
   }
 
@@ -260,11 +321,16 @@ class AndroidCamera extends CameraPlatform {
     return _frameStreamController!;
   }
 
-  void _onFrameStreamListen() {
-    _startPlatformStream();
+  void _onFrameStreamListen(CameraImageStreamOptions? options) {
+    _startPlatformStream(options);
   }
 
-  Future<void> _startPlatformStream() async {
+  Future<void> _startPlatformStream(CameraImageStreamOptions? options) async {
+    if (options is AndroidCameraImageStreamOptions) {
+      await _hostApi.setImageStreamOptions(
+        imageStreamOptionsToPlatform(options),
+      );
+    }
     await _hostApi.startImageStream();
     _startStreamListener();
   }
@@ -380,6 +446,21 @@ class AndroidCamera extends CameraPlatform {
     await _hostApi.setDescriptionWhileRecording(description.name);
   }
 
+  /// Returns statistics of the pictures saved by the camera with the given ID.
+  Future<AndroidCameraPictureSaveStatistics> getPictureSaveStatistics(
+    int cameraId,
+  ) async {
+    return pictureSaveStatisticsFromPlatform(
+      await _hostApi.getPictureSaveStatistics(),
+    );
+  }
+
+  /// Returns the latencies of opening the camera with the given ID and of
+  /// switching its capture session.
+  Future<AndroidCameraTimings> getCameraTimings(int cameraId) async {
+    return cameraTimingsFromPlatform(await _hostApi.getCameraTimings());
+  }
+
   @override
   Widget buildPreview(int cameraId) {
     return Texture(textureId: cameraId);
@@ -447,4 +528,11 @@ class HostCameraMessageHandler implements CameraEventApi {
   void closed() {
     cameraEventStreamController.add(CameraClosingEvent(cameraId));
   }
+
+  @override
+  void captureMetadata(PlatformCaptureMetadataBatch batch) {
+    cameraEventStreamController.add(
+      captureMetadataEventFromPlatform(cameraId, batch),
+    );
+  }
 }
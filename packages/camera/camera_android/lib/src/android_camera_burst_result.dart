@@ -0,0 +1,56 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// The pictures of a burst taken by an Android camera, with the timing of
+/// each frame.
+class AndroidCameraBurstResult {
+  /// Creates a new burst result with the given frames.
+  const AndroidCameraBurstResult({required this.frames});
+
+  /// The frames of the burst, in capture order.
+  final List<AndroidCameraBurstFrame> frames;
+
+  /// The rate at which the sensor captured the frames of the burst, or 0 if
+  /// the burst has fewer than two frames.
+  double get shotsPerSecond {
+    if (frames.length < 2) {
+      return 0;
+    }
+    final Duration duration =
+        frames.last.sensorTimestamp - frames.first.sensorTimestamp;
+    if (duration <= Duration.zero) {
+      return 0;
+    }
+    return (frames.length - 1) *
+        Duration.microsecondsPerSecond /
+        duration.inMicroseconds;
+  }
+}
+
+/// A picture of a burst taken by an Android camera, with its timing.
+class AndroidCameraBurstFrame {
+  /// Creates a new burst frame with the given picture and timing.
+  const AndroidCameraBurstFrame({
+    required this.picture,
+    required this.sensorTimestamp,
+    required this.arrivalTime,
+    required this.saveTime,
+  });
+
+  /// The saved picture.
+  final XFile picture;
+
+  /// The time at which the sensor started exposing the frame, in the time
+  /// base of the camera sensor.
+  final Duration sensorTimestamp;
+
+  /// The time between submitting the burst and the image of the frame
+  /// becoming available.
+  final Duration arrivalTime;
+
+  /// The time between submitting the burst and the picture being saved.
+  final Duration saveTime;
+}
@@ -0,0 +1,52 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// The capture metadata of the frames an Android camera completed since the
+/// previous event, with one entry per frame in each list.
+///
+/// Values missing from a capture result are -1, or NaN for floating point
+/// values.
+class AndroidCameraCaptureMetadataEvent extends CameraEvent {
+  /// Creates a new batch of capture metadata of the camera with the given ID.
+  const AndroidCameraCaptureMetadataEvent(
+    super.cameraId, {
+    required this.frameNumbers,
+    required this.sensorTimestampsNanos,
+    required this.exposureTimesNanos,
+    required this.sensitivities,
+    required this.focusDistances,
+    required this.lensStates,
+    required this.apertures,
+    required this.droppedCount,
+  });
+
+  /// The frame numbers of the capture results.
+  final Int64List frameNumbers;
+
+  /// The start of exposure of the frames, in nanoseconds.
+  final Int64List sensorTimestampsNanos;
+
+  /// The exposure times of the frames, in nanoseconds.
+  final Int64List exposureTimesNanos;
+
+  /// The sensitivities of the sensor, in ISO arithmetic units.
+  final Int64List sensitivities;
+
+  /// The distances to the plane of sharpest focus, in diopters.
+  final Float64List focusDistances;
+
+  /// Whether the lens was stationary (0) or moving (1).
+  final Int64List lensStates;
+
+  /// The lens apertures, as f-numbers.
+  final Float64List apertures;
+
+  /// The number of frames dropped since the previous event because the native
+  /// batch was full.
+  final int droppedCount;
+}
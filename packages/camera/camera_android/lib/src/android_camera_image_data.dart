@@ -0,0 +1,41 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+import 'android_camera_image_stream_options.dart';
+
+/// A frame of an Android image stream, along with the frame counters of the
+/// stream at the time it was sent.
+///
+/// Frames passed to the callbacks of [CameraPlatform.onStreamedFrameAvailable]
+/// and [VideoCaptureOptions.streamCallback] are of this type.
+class AndroidCameraImageData extends CameraImageData {
+  /// Creates a new frame with the given format, planes, metadata and counters.
+  const AndroidCameraImageData({
+    required super.format,
+    required super.planes,
+    required super.height,
+    required super.width,
+    super.lensAperture,
+    super.sensorExposureTime,
+    super.sensorSensitivity,
+    this.deliveredFrameCount = 0,
+    this.droppedFrameCount = 0,
+    this.discardedFrameCount = 0,
+  });
+
+  /// The number of frames sent to Dart since the stream started, including
+  /// this one.
+  final int deliveredFrameCount;
+
+  /// The number of frames skipped without being converted because
+  /// [AndroidCameraImageStreamOptions.maxFramesInFlight] frames were waiting
+  /// to be sent.
+  final int droppedFrameCount;
+
+  /// The number of frames that were converted but never reached Dart, such as
+  /// frames dropped under memory pressure.
+  final int discardedFrameCount;
+}
@@ -0,0 +1,71 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:math';
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// Android-specific options of an image stream, which can be passed to
+/// [CameraPlatform.onStreamedFrameAvailable] and to
+/// [VideoCaptureOptions.streamOptions].
+class AndroidCameraImageStreamOptions extends CameraImageStreamOptions {
+  /// Creates a new set of image stream options.
+  AndroidCameraImageStreamOptions({
+    this.enableFramePooling = false,
+    this.maxFramesInFlight,
+    this.cropRect,
+    this.subsampleFactor = 1,
+    this.conversionThreadCount = 1,
+  }) : assert(maxFramesInFlight == null || maxFramesInFlight > 0),
+       assert(cropRect == null || cropRect.left >= 0 && cropRect.top >= 0),
+       assert(cropRect == null || cropRect.width > 0 && cropRect.height > 0),
+       assert(subsampleFactor > 0),
+       assert(conversionThreadCount > 0);
+
+  /// Whether the native buffers of frames are recycled across frames instead
+  /// of being allocated for each frame.
+  ///
+  /// Pooled frames are held until they have been sent to Dart, instead of
+  /// being dropped under memory pressure when Dart falls behind the camera.
+  final bool enableFramePooling;
+
+  /// The maximum number of frames waiting to be sent to Dart, or null to not
+  /// limit them.
+  ///
+  /// A frame waits from the moment the camera produces it until it is sent on
+  /// the platform channel, not until Dart has processed it. Frames the camera
+  /// produces while this many frames are waiting are dropped before they are
+  /// converted. With a value of 1, a frame is only converted once the previous
+  /// frame has been sent, so it may be older than the most recent frame the
+  /// camera produced by the time it reaches Dart.
+  ///
+  /// Without a limit, frames that were not sent in time may be dropped under
+  /// memory pressure.
+  final int? maxFramesInFlight;
+
+  /// The region of YUV and NV21 frames that is sent to Dart, in pixels of the
+  /// full frame, or null to send the full frame.
+  ///
+  /// The region is cropped natively, so only its pixels are copied and sent
+  /// over the platform channel. It is clamped to the frame and aligned to even
+  /// coordinates, so the chroma planes stay consistent. JPEG frames are always
+  /// sent in full.
+  final Rectangle<int>? cropRect;
+
+  /// The distance between two pixels of the region that are sent to Dart.
+  ///
+  /// Every [subsampleFactor]th pixel of every [subsampleFactor]th row is sent,
+  /// so the frame sent to Dart is [subsampleFactor] times smaller in each
+  /// dimension. A factor too large for the region or the frame is reduced so
+  /// that at least one pixel of each chroma plane is sent.
+  final int subsampleFactor;
+
+  /// The number of threads converting NV21 frames whose color planes are not
+  /// already interleaved by the camera.
+  ///
+  /// With more than one thread, the planes of large frames, from 1080p on, are
+  /// split into bands of rows that are converted in parallel. Other formats
+  /// and cropped frames are always converted on a single thread.
+  final int conversionThreadCount;
+}
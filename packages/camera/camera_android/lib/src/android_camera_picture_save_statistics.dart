@@ -0,0 +1,36 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// Statistics of the pictures saved by an Android camera.
+///
+/// Pictures are saved on a dedicated queue, so that slow storage does not
+/// delay the capture of the following pictures.
+class AndroidCameraPictureSaveStatistics {
+  /// Creates a new set of picture save statistics.
+  const AndroidCameraPictureSaveStatistics({
+    required this.queueDepth,
+    required this.maxObservedQueueDepth,
+    required this.completedSaveCount,
+    required this.lastSaveLatency,
+    required this.averageSaveLatency,
+  });
+
+  /// The number of pictures waiting to be saved or being saved.
+  final int queueDepth;
+
+  /// The largest number of pictures that have been waiting to be saved or
+  /// being saved at once.
+  final int maxObservedQueueDepth;
+
+  /// The number of pictures whose save has completed, successfully or not.
+  final int completedSaveCount;
+
+  /// The time between capturing and saving the last saved picture, including
+  /// the time it waited in the queue.
+  final Duration lastSaveLatency;
+
+  /// The average time between capturing and saving a picture, including the
+  /// time it waited in the queue.
+  final Duration averageSaveLatency;
+}
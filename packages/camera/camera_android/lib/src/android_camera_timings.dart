@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// Latencies of opening an Android camera and of switching its capture
+/// session between preview, image stream and recording.
+class AndroidCameraTimings {
+  /// Creates a new set of camera timings.
+  const AndroidCameraTimings({
+    required this.deviceOpenTime,
+    required this.surfacesReadyTime,
+    required this.openToPreviewTime,
+    required this.wasPrewarmed,
+    required this.lastSessionSwitchTime,
+    required this.lastSessionSwitchReused,
+    required this.sessionCreationCount,
+    required this.sessionReuseCount,
+  });
+
+  /// The time it took for the camera device to open, or null if it has not
+  /// opened yet.
+  final Duration? deviceOpenTime;
+
+  /// The time between requesting the camera device and its image readers being
+  /// ready, or null if they are not ready yet.
+  final Duration? surfacesReadyTime;
+
+  /// The time between requesting the camera device and the preview being
+  /// started, or null if the preview has not started yet.
+  final Duration? openToPreviewTime;
+
+  /// Whether the camera device was opened ahead of initialization, when the
+  /// camera was created.
+  final bool wasPrewarmed;
+
+  /// The duration of the last switch of the capture session, or null if the
+  /// session has not been switched yet.
+  final Duration? lastSessionSwitchTime;
+
+  /// Whether the last switch of the capture session reused the existing
+  /// session instead of creating a new one.
+  final bool lastSessionSwitchReused;
+
+  /// The number of capture sessions that were created.
+  final int sessionCreationCount;
+
+  /// The number of session switches that reused the existing capture session.
+  final int sessionReuseCount;
+}
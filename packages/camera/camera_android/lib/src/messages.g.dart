@@ -214,6 +214,271 @@ class PlatformMediaSettings {
   }
 }
 
+/// Pigeon equivalent of [AndroidCameraImageStreamOptions].
+class PlatformImageStreamOptions {
+  PlatformImageStreamOptions({
+    required this.enableFramePooling,
+    this.maxFramesInFlight,
+    this.crop,
+    required this.conversionThreadCount,
+  });
+
+  bool enableFramePooling;
+
+  int? maxFramesInFlight;
+
+  PlatformImageStreamCrop? crop;
+
+  int conversionThreadCount;
+
+  Object encode() {
+    return <Object?>[
+      enableFramePooling,
+      maxFramesInFlight,
+      crop,
+      conversionThreadCount,
+    ];
+  }
+
+  static PlatformImageStreamOptions decode(Object result) {
+    result as List<Object?>;
+    return PlatformImageStreamOptions(
+      enableFramePooling: result[0]! as bool,
+      maxFramesInFlight: result[1] as int?,
+      crop: result[2] as PlatformImageStreamCrop?,
+      conversionThreadCount: result[3]! as int,
+    );
+  }
+}
+
+/// Pigeon equivalent of the crop of [AndroidCameraImageStreamOptions].
+class PlatformImageStreamCrop {
+  PlatformImageStreamCrop({
+    required this.left,
+    required this.top,
+    required this.width,
+    required this.height,
+    required this.subsampleFactor,
+  });
+
+  int left;
+
+  int top;
+
+  int width;
+
+  int height;
+
+  int subsampleFactor;
+
+  Object encode() {
+    return <Object?>[left, top, width, height, subsampleFactor];
+  }
+
+  static PlatformImageStreamCrop decode(Object result) {
+    result as List<Object?>;
+    return PlatformImageStreamCrop(
+      left: result[0]! as int,
+      top: result[1]! as int,
+      width: result[2]! as int,
+      height: result[3]! as int,
+      subsampleFactor: result[4]! as int,
+    );
+  }
+}
+
+/// Statistics of the pictures saved by a camera.
+class PlatformPictureSaveStatistics {
+  PlatformPictureSaveStatistics({
+    required this.queueDepth,
+    required this.maxObservedQueueDepth,
+    required this.completedSaveCount,
+    required this.lastSaveLatencyMicros,
+    required this.averageSaveLatencyMicros,
+  });
+
+  int queueDepth;
+
+  int maxObservedQueueDepth;
+
+  int completedSaveCount;
+
+  int lastSaveLatencyMicros;
+
+  int averageSaveLatencyMicros;
+
+  Object encode() {
+    return <Object?>[
+      queueDepth,
+      maxObservedQueueDepth,
+      completedSaveCount,
+      lastSaveLatencyMicros,
+      averageSaveLatencyMicros,
+    ];
+  }
+
+  static PlatformPictureSaveStatistics decode(Object result) {
+    result as List<Object?>;
+    return PlatformPictureSaveStatistics(
+      queueDepth: result[0]! as int,
+      maxObservedQueueDepth: result[1]! as int,
+      completedSaveCount: result[2]! as int,
+      lastSaveLatencyMicros: result[3]! as int,
+      averageSaveLatencyMicros: result[4]! as int,
+    );
+  }
+}
+
+/// The pictures of a burst, with the timing of each frame.
+class PlatformBurstCaptureResult {
+  PlatformBurstCaptureResult({
+    required this.paths,
+    required this.sensorTimestampsNanos,
+    required this.arrivalMicros,
+    required this.savedMicros,
+  });
+
+  List<String> paths;
+
+  List<int> sensorTimestampsNanos;
+
+  List<int> arrivalMicros;
+
+  List<int> savedMicros;
+
+  Object encode() {
+    return <Object?>[paths, sensorTimestampsNanos, arrivalMicros, savedMicros];
+  }
+
+  static PlatformBurstCaptureResult decode(Object result) {
+    result as List<Object?>;
+    return PlatformBurstCaptureResult(
+      paths: (result[0] as List<Object?>?)!.cast<String>(),
+      sensorTimestampsNanos: (result[1] as List<Object?>?)!.cast<int>(),
+      arrivalMicros: (result[2] as List<Object?>?)!.cast<int>(),
+      savedMicros: (result[3] as List<Object?>?)!.cast<int>(),
+    );
+  }
+}
+
+/// Latencies of opening a camera and of switching its capture session, or null
+/// until the events they span have happened.
+class PlatformCameraTimings {
+  PlatformCameraTimings({
+    this.deviceOpenMicros,
+    this.surfacesReadyMicros,
+    this.openToPreviewMicros,
+    required this.wasPrewarmed,
+    this.lastSessionSwitchMicros,
+    required this.lastSessionSwitchReused,
+    required this.sessionCreationCount,
+    required this.sessionReuseCount,
+  });
+
+  int? deviceOpenMicros;
+
+  int? surfacesReadyMicros;
+
+  int? openToPreviewMicros;
+
+  bool wasPrewarmed;
+
+  int? lastSessionSwitchMicros;
+
+  bool lastSessionSwitchReused;
+
+  int sessionCreationCount;
+
+  int sessionReuseCount;
+
+  Object encode() {
+    return <Object?>[
+      deviceOpenMicros,
+      surfacesReadyMicros,
+      openToPreviewMicros,
+      wasPrewarmed,
+      lastSessionSwitchMicros,
+      lastSessionSwitchReused,
+      sessionCreationCount,
+      sessionReuseCount,
+    ];
+  }
+
+  static PlatformCameraTimings decode(Object result) {
+    result as List<Object?>;
+    return PlatformCameraTimings(
+      deviceOpenMicros: result[0] as int?,
+      surfacesReadyMicros: result[1] as int?,
+      openToPreviewMicros: result[2] as int?,
+      wasPrewarmed: result[3]! as bool,
+      lastSessionSwitchMicros: result[4] as int?,
+      lastSessionSwitchReused: result[5]! as bool,
+      sessionCreationCount: result[6]! as int,
+      sessionReuseCount: result[7]! as int,
+    );
+  }
+}
+
+/// The capture metadata of the frames completed since the previous batch, with
+/// one entry per frame in each list.
+class PlatformCaptureMetadataBatch {
+  PlatformCaptureMetadataBatch({
+    required this.frameNumbers,
+    required this.sensorTimestampsNanos,
+    required this.exposureTimesNanos,
+    required this.sensitivities,
+    required this.focusDistances,
+    required this.lensStates,
+    required this.apertures,
+    required this.droppedCount,
+  });
+
+  Int64List frameNumbers;
+
+  Int64List sensorTimestampsNanos;
+
+  Int64List exposureTimesNanos;
+
+  Int64List sensitivities;
+
+  Float64List focusDistances;
+
+  Int64List lensStates;
+
+  Float64List apertures;
+
+  /// The number of frames dropped since the previous batch because the batch
+  /// was full.
+  int droppedCount;
+
+  Object encode() {
+    return <Object?>[
+      frameNumbers,
+      sensorTimestampsNanos,
+      exposureTimesNanos,
+      sensitivities,
+      focusDistances,
+      lensStates,
+      apertures,
+      droppedCount,
+    ];
+  }
+
+  static PlatformCaptureMetadataBatch decode(Object result) {
+    result as List<Object?>;
+    return PlatformCaptureMetadataBatch(
+      frameNumbers: result[0]! as Int64List,
+      sensorTimestampsNanos: result[1]! as Int64List,
+      exposureTimesNanos: result[2]! as Int64List,
+      sensitivities: result[3]! as Int64List,
+      focusDistances: result[4]! as Float64List,
+      lensStates: result[5]! as Int64List,
+      apertures: result[6]! as Float64List,
+      droppedCount: result[7]! as int,
+    );
+  }
+}
+
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
   @override
@@ -257,6 +522,24 @@ class _PigeonCodec extends StandardMessageCodec {
     } else if (value is PlatformMediaSettings) {
       buffer.putUint8(140);
       writeValue(buffer, value.encode());
+    } else if (value is PlatformImageStreamOptions) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformImageStreamCrop) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformPictureSaveStatistics) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformBurstCaptureResult) {
+      buffer.putUint8(144);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformCameraTimings) {
+      buffer.putUint8(145);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformCaptureMetadataBatch) {
+      buffer.putUint8(146);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -296,6 +579,18 @@ class _PigeonCodec extends StandardMessageCodec {
         return PlatformPoint.decode(readValue(buffer)!);
       case 140:
         return PlatformMediaSettings.decode(readValue(buffer)!);
+      case 141:
+        return PlatformImageStreamOptions.decode(readValue(buffer)!);
+      case 142:
+        return PlatformImageStreamCrop.decode(readValue(buffer)!);
+      case 143:
+        return PlatformPictureSaveStatistics.decode(readValue(buffer)!);
+      case 144:
+        return PlatformBurstCaptureResult.decode(readValue(buffer)!);
+      case 145:
+        return PlatformCameraTimings.decode(readValue(buffer)!);
+      case 146:
+        return PlatformCaptureMetadataBatch.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -518,6 +813,37 @@ class CameraApi {
     }
   }
 
+  /// Takes a burst of pictures on the camera with the given ID and returns the
+  /// paths to the resulting files, along with the timing of each frame.
+  Future<PlatformBurstCaptureResult> takePictureBurst(int count) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.takePictureBurst$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[count]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformBurstCaptureResult?)!;
+    }
+  }
+
   /// Starts recording a video on the camera with the given ID.
   Future<void> startVideoRecording(bool enableStream) async {
     final String pigeonVar_channelName =
@@ -574,6 +900,33 @@ class CameraApi {
     }
   }
 
+  /// Returns the time between attaching the encoder surface of the current or
+  /// last recording routed through the video renderer and the first frame being
+  /// rendered onto it, or null if unknown.
+  Future<int?> getTimeToFirstEncodedFrameMicros() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.getTimeToFirstEncodedFrameMicros$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?);
+    }
+  }
+
   /// Pauses video recording on the camera with the given ID.
   Future<void> pauseVideoRecording() async {
     final String pigeonVar_channelName =
@@ -674,6 +1027,31 @@ class CameraApi {
     }
   }
 
+  /// Sets how frames are streamed from the camera by subsequent image streams.
+  Future<void> setImageStreamOptions(PlatformImageStreamOptions options) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.setImageStreamOptions$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[options]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   /// Sets the flash mode of the camera with the given ID.
   Future<void> setFlashMode(PlatformFlashMode flashMode) async {
     final String pigeonVar_channelName =
@@ -1085,6 +1463,119 @@ class CameraApi {
       return;
     }
   }
+
+  /// Returns statistics of the pictures saved by the camera.
+  Future<PlatformPictureSaveStatistics> getPictureSaveStatistics() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.getPictureSaveStatistics$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformPictureSaveStatistics?)!;
+    }
+  }
+
+  /// Returns the latencies of opening the camera and of switching its capture
+  /// session.
+  Future<PlatformCameraTimings> getCameraTimings() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.getCameraTimings$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformCameraTimings?)!;
+    }
+  }
+
+  /// Starts sending the capture metadata of every frame to Dart, in batches
+  /// sent at the given interval.
+  Future<void> startCaptureMetadataStream(int flushIntervalMillis) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.startCaptureMetadataStream$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[flushIntervalMillis])
+            as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Stops sending capture metadata to Dart.
+  Future<void> stopCaptureMetadataStream() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.stopCaptureMetadataStream$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 /// Handles calls from native side to Dart that are not camera-specific.
@@ -1153,6 +1644,10 @@ abstract class CameraEventApi {
   /// Called when the camera closes.
   void closed();
 
+  /// Called with the capture metadata of the frames completed since the
+  /// previous batch.
+  void captureMetadata(PlatformCaptureMetadataBatch batch);
+
   static void setUp(
     CameraEventApi? api, {
     BinaryMessenger? binaryMessenger,
@@ -1254,5 +1749,40 @@ abstract class CameraEventApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?>
+      pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.camera_android.CameraEventApi.captureMetadata$messageChannelSuffix',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android.CameraEventApi.captureMetadata was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PlatformCaptureMetadataBatch? arg_batch =
+              (args[0] as PlatformCaptureMetadataBatch?);
+          assert(
+            arg_batch != null,
+            'Argument for dev.flutter.pigeon.camera_android.CameraEventApi.captureMetadata was null, expected non-null PlatformCaptureMetadataBatch.',
+          );
+          try {
+            api.captureMetadata(arg_batch!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
   }
 }
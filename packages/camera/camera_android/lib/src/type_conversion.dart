@@ -6,10 +6,14 @@ import 'dart:typed_data';
 
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 
-/// Converts method channel call [data] for `receivedImageStreamData` to a
-/// [CameraImageData].
-CameraImageData cameraImageFromPlatformData(Map<dynamic, dynamic> data) {
-  return CameraImageData(
+import 'android_camera_image_data.dart';
+
+/// Converts method channel call [data] for `receivedImageStreamData` to an
+/// [AndroidCameraImageData].
+AndroidCameraImageData cameraImageFromPlatformData(
+  Map<dynamic, dynamic> data,
+) {
+  return AndroidCameraImageData(
     format: _cameraImageFormatFromPlatformData(data['format']),
     height: data['height'] as int,
     width: data['width'] as int,
@@ -23,6 +27,9 @@ CameraImageData cameraImageFromPlatformData(Map<dynamic, dynamic> data) {
         ),
       ),
     ),
+    deliveredFrameCount: data['deliveredFrameCount'] as int? ?? 0,
+    droppedFrameCount: data['droppedFrameCount'] as int? ?? 0,
+    discardedFrameCount: data['discardedFrameCount'] as int? ?? 0,
   );
 }
 
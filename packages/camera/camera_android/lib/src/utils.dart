@@ -7,6 +7,11 @@ import 'dart:math';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
 
+import 'android_camera_burst_result.dart';
+import 'android_camera_capture_metadata_event.dart';
+import 'android_camera_image_stream_options.dart';
+import 'android_camera_picture_save_statistics.dart';
+import 'android_camera_timings.dart';
 import 'messages.g.dart';
 
 /// Converts a [PlatformCameraLensDirection] to [CameraLensDirection].
@@ -158,3 +163,116 @@ PlatformFlashMode flashModeToPlatform(FlashMode mode) {
 /// Null becomes null.
 PlatformPoint? pointToPlatform(Point<double>? point) =>
     (point != null) ? PlatformPoint(x: point.x, y: point.y) : null;
+
+/// Converts [AndroidCameraImageStreamOptions] to [PlatformImageStreamOptions].
+PlatformImageStreamOptions imageStreamOptionsToPlatform(
+  AndroidCameraImageStreamOptions options,
+) => PlatformImageStreamOptions(
+  enableFramePooling: options.enableFramePooling,
+  maxFramesInFlight: options.maxFramesInFlight,
+  crop: _imageStreamCropToPlatform(options.cropRect, options.subsampleFactor),
+  conversionThreadCount: options.conversionThreadCount,
+);
+
+PlatformImageStreamCrop? _imageStreamCropToPlatform(
+  Rectangle<int>? cropRect,
+  int subsampleFactor,
+) {
+  if (cropRect == null && subsampleFactor == 1) {
+    return null;
+  }
+  if (subsampleFactor < 1) {
+    throw ArgumentError.value(
+      subsampleFactor,
+      'subsampleFactor',
+      'must be at least 1',
+    );
+  }
+  if (cropRect != null &&
+      (cropRect.left < 0 ||
+          cropRect.top < 0 ||
+          cropRect.width <= 0 ||
+          cropRect.height <= 0)) {
+    throw ArgumentError.value(
+      cropRect,
+      'cropRect',
+      'must have a non-negative origin and a positive size',
+    );
+  }
+  // Without a region, the full frame is subsampled. The region is clamped to
+  // the frame natively, so it only needs to be at least as large.
+  const int fullFrameSize = 0x7fffffff;
+  return PlatformImageStreamCrop(
+    left: cropRect?.left ?? 0,
+    top: cropRect?.top ?? 0,
+    width: cropRect?.width ?? fullFrameSize,
+    height: cropRect?.height ?? fullFrameSize,
+    subsampleFactor: subsampleFactor,
+  );
+}
+
+/// Converts a [PlatformPictureSaveStatistics] to
+/// [AndroidCameraPictureSaveStatistics].
+AndroidCameraPictureSaveStatistics pictureSaveStatisticsFromPlatform(
+  PlatformPictureSaveStatistics statistics,
+) => AndroidCameraPictureSaveStatistics(
+  queueDepth: statistics.queueDepth,
+  maxObservedQueueDepth: statistics.maxObservedQueueDepth,
+  completedSaveCount: statistics.completedSaveCount,
+  lastSaveLatency: Duration(microseconds: statistics.lastSaveLatencyMicros),
+  averageSaveLatency: Duration(
+    microseconds: statistics.averageSaveLatencyMicros,
+  ),
+);
+
+/// Converts a [PlatformBurstCaptureResult] to [AndroidCameraBurstResult].
+AndroidCameraBurstResult burstResultFromPlatform(
+  PlatformBurstCaptureResult result,
+) => AndroidCameraBurstResult(
+  frames: <AndroidCameraBurstFrame>[
+    for (int i = 0; i < result.paths.length; i++)
+      AndroidCameraBurstFrame(
+        picture: XFile(result.paths[i]),
+        sensorTimestamp: Duration(
+          microseconds: result.sensorTimestampsNanos[i] ~/ 1000,
+        ),
+        arrivalTime: Duration(microseconds: result.arrivalMicros[i]),
+        saveTime: Duration(microseconds: result.savedMicros[i]),
+      ),
+  ],
+);
+
+/// Converts a [PlatformCameraTimings] to [AndroidCameraTimings].
+AndroidCameraTimings cameraTimingsFromPlatform(PlatformCameraTimings timings) =>
+    AndroidCameraTimings(
+      deviceOpenTime: _durationFromMicros(timings.deviceOpenMicros),
+      surfacesReadyTime: _durationFromMicros(timings.surfacesReadyMicros),
+      openToPreviewTime: _durationFromMicros(timings.openToPreviewMicros),
+      wasPrewarmed: timings.wasPrewarmed,
+      lastSessionSwitchTime: _durationFromMicros(
+        timings.lastSessionSwitchMicros,
+      ),
+      lastSessionSwitchReused: timings.lastSessionSwitchReused,
+      sessionCreationCount: timings.sessionCreationCount,
+      sessionReuseCount: timings.sessionReuseCount,
+    );
+
+Duration? _durationFromMicros(int? micros) =>
+    micros == null ? null : Duration(microseconds: micros);
+
+/// Converts a [PlatformCaptureMetadataBatch] of the camera with the given ID to
+/// an [AndroidCameraCaptureMetadataEvent].
+AndroidCameraCaptureMetadataEvent captureMetadataEventFromPlatform(
+  int cameraId,
+  PlatformCaptureMetadataBatch batch,
+) => AndroidCameraCaptureMetadataEvent(
+  cameraId,
+  frameNumbers: batch.frameNumbers,
+  sensorTimestampsNanos: batch.sensorTimestampsNanos,
+  exposureTimesNanos: batch.exposureTimesNanos,
+  sensitivities: batch.sensitivities,
+  focusDistances: batch.focusDistances,
+  lensStates: batch.lensStates,
+  apertures: batch.apertures,
+  droppedCount: batch.droppedCount,
+);
@@ -104,6 +104,121 @@ enum PlatformImageFormatGroup {
 /// Pigeon equivalent of [FlashMode].
 enum PlatformFlashMode { off, auto, always, torch }
 
+/// Pigeon equivalent of [AndroidCameraImageStreamOptions].
+class PlatformImageStreamOptions {
+  PlatformImageStreamOptions({
+    required this.enableFramePooling,
+    this.maxFramesInFlight,
+    this.crop,
+    required this.conversionThreadCount,
+  });
+
+  final bool enableFramePooling;
+  final int? maxFramesInFlight;
+  final PlatformImageStreamCrop? crop;
+  final int conversionThreadCount;
+}
+
+/// Pigeon equivalent of the crop of [AndroidCameraImageStreamOptions].
+class PlatformImageStreamCrop {
+  PlatformImageStreamCrop({
+    required this.left,
+    required this.top,
+    required this.width,
+    required this.height,
+    required this.subsampleFactor,
+  });
+
+  final int left;
+  final int top;
+  final int width;
+  final int height;
+  final int subsampleFactor;
+}
+
+/// The pictures of a burst, with the timing of each frame.
+class PlatformBurstCaptureResult {
+  PlatformBurstCaptureResult({
+    required this.paths,
+    required this.sensorTimestampsNanos,
+    required this.arrivalMicros,
+    required this.savedMicros,
+  });
+
+  final List<String> paths;
+  final List<int> sensorTimestampsNanos;
+  final List<int> arrivalMicros;
+  final List<int> savedMicros;
+}
+
+/// Statistics of the pictures saved by a camera.
+class PlatformPictureSaveStatistics {
+  PlatformPictureSaveStatistics({
+    required this.queueDepth,
+    required this.maxObservedQueueDepth,
+    required this.completedSaveCount,
+    required this.lastSaveLatencyMicros,
+    required this.averageSaveLatencyMicros,
+  });
+
+  final int queueDepth;
+  final int maxObservedQueueDepth;
+  final int completedSaveCount;
+  final int lastSaveLatencyMicros;
+  final int averageSaveLatencyMicros;
+}
+
+/// Latencies of opening a camera and of switching its capture session, or null
+/// until the events they span have happened.
+class PlatformCameraTimings {
+  PlatformCameraTimings({
+    required this.deviceOpenMicros,
+    required this.surfacesReadyMicros,
+    required this.openToPreviewMicros,
+    required this.wasPrewarmed,
+    required this.lastSessionSwitchMicros,
+    required this.lastSessionSwitchReused,
+    required this.sessionCreationCount,
+    required this.sessionReuseCount,
+  });
+
+  final int? deviceOpenMicros;
+  final int? surfacesReadyMicros;
+  final int? openToPreviewMicros;
+  final bool wasPrewarmed;
+  final int? lastSessionSwitchMicros;
+  final bool lastSessionSwitchReused;
+  final int sessionCreationCount;
+  final int sessionReuseCount;
+}
+
+/// The capture metadata of the frames completed since the previous batch, with
+/// one entry per frame in each list.
+class PlatformCaptureMetadataBatch {
+  PlatformCaptureMetadataBatch({
+    required this.frameNumbers,
+    required this.sensorTimestampsNanos,
+    required this.exposureTimesNanos,
+    required this.sensitivities,
+    required this.focusDistances,
+    required this.lensStates,
+    required this.apertures,
+    required this.droppedCount,
+  });
+
+  final Int64List frameNumbers;
+  final Int64List sensorTimestampsNanos;
+  final Int64List exposureTimesNanos;
+  final Int64List sensitivities;
+  final Float64List focusDistances;
+  final Int64List lensStates;
+  final Float64List apertures;
+
+  /// The number of frames dropped since the previous batch because the batch
+  /// was full.
+  final int droppedCount;
+}
+
 /// Handles calls from Dart to the native side.
 @HostApi()
 abstract class CameraApi {
@@ -131,6 +246,11 @@ abstract class CameraApi {
   @async
   String takePicture();
 
+  /// Takes a burst of pictures on the camera with the given ID and returns the
+  /// paths to the resulting files, along with the timing of each frame.
+  @async
+  PlatformBurstCaptureResult takePictureBurst(int count);
+
   /// Starts recording a video on the camera with the given ID.
   void startVideoRecording(bool enableStream);
 
@@ -138,6 +258,11 @@ abstract class CameraApi {
   /// to the resulting file.
   String stopVideoRecording();
 
+  /// Returns the time between attaching the encoder surface of the current or
+  /// last recording routed through the video renderer and the first frame being
+  /// rendered onto it, or null if unknown.
+  int? getTimeToFirstEncodedFrameMicros();
+
   /// Pauses video recording on the camera with the given ID.
   void pauseVideoRecording();
 
@@ -150,6 +275,9 @@ abstract class CameraApi {
   /// Stops streaming frames from the camera.
   void stopImageStream();
 
+  /// Sets how frames are streamed from the camera by subsequent image streams.
+  void setImageStreamOptions(PlatformImageStreamOptions options);
+
   /// Sets the flash mode of the camera with the given ID.
   @async
   void setFlashMode(PlatformFlashMode flashMode);
@@ -207,6 +335,20 @@ abstract class CameraApi {
   ///
   /// This should be called only while video recording is active.
   void setDescriptionWhileRecording(String description);
+
+  /// Returns statistics of the pictures saved by the camera.
+  PlatformPictureSaveStatistics getPictureSaveStatistics();
+
+  /// Returns the latencies of opening the camera and of switching its capture
+  /// session.
+  PlatformCameraTimings getCameraTimings();
+
+  /// Starts sending the capture metadata of every frame to Dart, in batches
+  /// sent at the given interval.
+  void startCaptureMetadataStream(int flushIntervalMillis);
+
+  /// Stops sending capture metadata to Dart.
+  void stopCaptureMetadataStream();
 }
 
 /// Handles calls from native side to Dart that are not camera-specific.
@@ -227,4 +369,8 @@ abstract class CameraEventApi {
 
   /// Called when the camera closes.
   void closed();
+
+  /// Called with the capture metadata of the frames completed since the
+  /// previous batch.
+  void captureMetadata(PlatformCaptureMetadataBatch batch);
 }
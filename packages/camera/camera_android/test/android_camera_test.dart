@@ -4,9 +4,15 @@
 
 import 'dart:async';
 import 'dart:math';
+import 'dart:typed_data';
 
 import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
+import 'package:camera_android/src/android_camera_burst_result.dart';
+import 'package:camera_android/src/android_camera_capture_metadata_event.dart';
+import 'package:camera_android/src/android_camera_image_stream_options.dart';
+import 'package:camera_android/src/android_camera_picture_save_statistics.dart';
+import 'package:camera_android/src/android_camera_timings.dart';
 import 'package:camera_android/src/messages.g.dart';
 import 'package:camera_android/src/utils.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
@@ -418,6 +424,44 @@ void main() {
       await streamQueue.cancel();
     });
 
+    test('Should receive capture metadata while listened to', () async {
+      // Act
+      final StreamQueue<AndroidCameraCaptureMetadataEvent> streamQueue =
+          StreamQueue<AndroidCameraCaptureMetadataEvent>(
+            camera.onCaptureMetadata(
+              cameraId,
+              flushInterval: const Duration(milliseconds: 50),
+            ),
+          );
+      final Future<AndroidCameraCaptureMetadataEvent> nextEvent =
+          streamQueue.next;
+      camera.hostCameraHandlers[cameraId]!.captureMetadata(
+        PlatformCaptureMetadataBatch(
+          frameNumbers: Int64List.fromList(<int>[1, 2]),
+          sensorTimestampsNanos: Int64List.fromList(<int>[100, 200]),
+          exposureTimesNanos: Int64List.fromList(<int>[10, 20]),
+          sensitivities: Int64List.fromList(<int>[100, 200]),
+          focusDistances: Float64List.fromList(<double>[0.5, 0.5]),
+          lensStates: Int64List.fromList(<int>[0, 1]),
+          apertures: Float64List.fromList(<double>[1.8, 1.8]),
+          droppedCount: 3,
+        ),
+      );
+
+      // Assert
+      final AndroidCameraCaptureMetadataEvent event = await nextEvent;
+      expect(event.cameraId, cameraId);
+      expect(event.frameNumbers, <int>[1, 2]);
+      expect(event.exposureTimesNanos, <int>[10, 20]);
+      expect(event.lensStates, <int>[0, 1]);
+      expect(event.droppedCount, 3);
+      verify(mockCameraApi.startCaptureMetadataStream(50)).called(1);
+
+      // Clean up
+      await streamQueue.cancel();
+      verify(mockCameraApi.stopCaptureMetadataStream()).called(1);
+    });
+
     test('Should receive device orientation change events', () async {
       // Act
       final Stream<DeviceOrientationChangedEvent> eventStream = camera
@@ -561,6 +605,35 @@ void main() {
       expect(file.path, '/test/path.jpg');
     });
 
+    test('Should take a burst of pictures with their timings', () async {
+      // Arrange
+      when(mockCameraApi.takePictureBurst(2)).thenAnswer(
+        (_) async => PlatformBurstCaptureResult(
+          paths: <String>['/test/a.jpg', '/test/b.jpg'],
+          sensorTimestampsNanos: <int>[1000000000, 1100000000],
+          arrivalMicros: <int>[150000, 250000],
+          savedMicros: <int>[180000, 290000],
+        ),
+      );
+
+      // Act
+      final AndroidCameraBurstResult result = await camera.takePictureBurst(
+        cameraId,
+        2,
+      );
+
+      // Assert
+      expect(result.frames.length, 2);
+      expect(result.frames[1].picture.path, '/test/b.jpg');
+      expect(
+        result.frames[1].sensorTimestamp,
+        const Duration(seconds: 1, milliseconds: 100),
+      );
+      expect(result.frames[1].arrivalTime, const Duration(milliseconds: 250));
+      expect(result.frames[1].saveTime, const Duration(milliseconds: 290));
+      expect(result.shotsPerSecond, closeTo(10, 1e-9));
+    });
+
     test('Should start recording a video', () async {
       // Arrange
       // Act
@@ -600,6 +673,37 @@ void main() {
       expect(file.path, '/test/path.mp4');
     });
 
+    test('Should return the time to the first encoded frame', () async {
+      // Arrange
+      when(
+        mockCameraApi.getTimeToFirstEncodedFrameMicros(),
+      ).thenAnswer((_) async => 42000);
+
+      // Act
+      final Duration? time = await camera.getTimeToFirstEncodedFrame(cameraId);
+
+      // Assert
+      expect(time, const Duration(milliseconds: 42));
+    });
+
+    test(
+      'Should return null when no frame has been encoded by the renderer',
+      () async {
+        // Arrange
+        when(
+          mockCameraApi.getTimeToFirstEncodedFrameMicros(),
+        ).thenAnswer((_) async => null);
+
+        // Act
+        final Duration? time = await camera.getTimeToFirstEncodedFrame(
+          cameraId,
+        );
+
+        // Assert
+        expect(time, isNull);
+      },
+    );
+
     test('Should pause a video recording', () async {
       // Arrange
       // Act
@@ -765,6 +869,63 @@ void main() {
       expect(maxZoomLevel, 10.0);
     });
 
+    test('Should get the picture save statistics', () async {
+      // Arrange
+      when(mockCameraApi.getPictureSaveStatistics()).thenAnswer(
+        (_) async => PlatformPictureSaveStatistics(
+          queueDepth: 1,
+          maxObservedQueueDepth: 3,
+          completedSaveCount: 5,
+          lastSaveLatencyMicros: 1200,
+          averageSaveLatencyMicros: 1500,
+        ),
+      );
+
+      // Act
+      final AndroidCameraPictureSaveStatistics statistics = await camera
+          .getPictureSaveStatistics(cameraId);
+
+      // Assert
+      expect(statistics.queueDepth, 1);
+      expect(statistics.maxObservedQueueDepth, 3);
+      expect(statistics.completedSaveCount, 5);
+      expect(statistics.lastSaveLatency, const Duration(microseconds: 1200));
+      expect(
+        statistics.averageSaveLatency,
+        const Duration(microseconds: 1500),
+      );
+    });
+
+    test('Should get the camera timings', () async {
+      // Arrange
+      when(mockCameraApi.getCameraTimings()).thenAnswer(
+        (_) async => PlatformCameraTimings(
+          deviceOpenMicros: 80000,
+          surfacesReadyMicros: 30000,
+          wasPrewarmed: true,
+          lastSessionSwitchMicros: 2000,
+          lastSessionSwitchReused: true,
+          sessionCreationCount: 1,
+          sessionReuseCount: 2,
+        ),
+      );
+
+      // Act
+      final AndroidCameraTimings timings = await camera.getCameraTimings(
+        cameraId,
+      );
+
+      // Assert
+      expect(timings.deviceOpenTime, const Duration(milliseconds: 80));
+      expect(timings.surfacesReadyTime, const Duration(milliseconds: 30));
+      expect(timings.openToPreviewTime, isNull);
+      expect(timings.wasPrewarmed, isTrue);
+      expect(timings.lastSessionSwitchTime, const Duration(milliseconds: 2));
+      expect(timings.lastSessionSwitchReused, isTrue);
+      expect(timings.sessionCreationCount, 1);
+      expect(timings.sessionReuseCount, 2);
+    });
+
     test('Should get the min zoom level', () async {
       // Arrange
       when(mockCameraApi.getMinZoomLevel()).thenAnswer((_) async => 1.0);
@@ -869,6 +1030,43 @@ void main() {
       await subscription.cancel();
     });
 
+    test('Should set Android image stream options before streaming', () async {
+      // Arrange
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(
+            cameraId,
+            options: AndroidCameraImageStreamOptions(
+              enableFramePooling: true,
+              maxFramesInFlight: 2,
+              cropRect: const Rectangle<int>(10, 20, 320, 240),
+              subsampleFactor: 2,
+              conversionThreadCount: 3,
+            ),
+          )
+          .listen((CameraImageData imageData) {});
+      await Future<void>.delayed(Duration.zero);
+
+      // Assert
+      final VerificationResult verification = verify(
+        mockCameraApi.setImageStreamOptions(captureAny),
+      );
+      verification.called(1);
+      final PlatformImageStreamOptions options =
+          verification.captured.single as PlatformImageStreamOptions;
+      expect(options.enableFramePooling, true);
+      expect(options.maxFramesInFlight, 2);
+      expect(options.crop!.left, 10);
+      expect(options.crop!.top, 20);
+      expect(options.crop!.width, 320);
+      expect(options.crop!.height, 240);
+      expect(options.crop!.subsampleFactor, 2);
+      expect(options.conversionThreadCount, 3);
+      verify(mockCameraApi.startImageStream()).called(1);
+
+      await subscription.cancel();
+    });
+
     test('Should stop streaming', () async {
       // Arrange
       // Act
@@ -22,6 +22,28 @@ import 'package:mockito/src/dummies.dart' as _i3;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakePlatformBurstCaptureResult_0 extends _i1.SmartFake
+    implements _i2.PlatformBurstCaptureResult {
+  _FakePlatformBurstCaptureResult_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(parent, parentInvocation);
+}
+
+class _FakePlatformPictureSaveStatistics_1 extends _i1.SmartFake
+    implements _i2.PlatformPictureSaveStatistics {
+  _FakePlatformPictureSaveStatistics_1(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(parent, parentInvocation);
+}
+
+class _FakePlatformCameraTimings_2 extends _i1.SmartFake
+    implements _i2.PlatformCameraTimings {
+  _FakePlatformCameraTimings_2(Object parent, Invocation parentInvocation)
+    : super(parent, parentInvocation);
+}
+
 /// A class which mocks [CameraApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -118,6 +140,26 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
           )
           as _i4.Future<String>);
 
+  @override
+  _i4.Future<_i2.PlatformBurstCaptureResult> takePictureBurst(int? count) =>
+      (super.noSuchMethod(
+            Invocation.method(#takePictureBurst, [count]),
+            returnValue: _i4.Future<_i2.PlatformBurstCaptureResult>.value(
+              _FakePlatformBurstCaptureResult_0(
+                this,
+                Invocation.method(#takePictureBurst, [count]),
+              ),
+            ),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformBurstCaptureResult>.value(
+                  _FakePlatformBurstCaptureResult_0(
+                    this,
+                    Invocation.method(#takePictureBurst, [count]),
+                  ),
+                ),
+          )
+          as _i4.Future<_i2.PlatformBurstCaptureResult>);
+
   @override
   _i4.Future<void> startVideoRecording(bool? enableStream) =>
       (super.noSuchMethod(
@@ -146,6 +188,15 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
           )
           as _i4.Future<String>);
 
+  @override
+  _i4.Future<int?> getTimeToFirstEncodedFrameMicros() =>
+      (super.noSuchMethod(
+            Invocation.method(#getTimeToFirstEncodedFrameMicros, []),
+            returnValue: _i4.Future<int?>.value(),
+            returnValueForMissingStub: _i4.Future<int?>.value(),
+          )
+          as _i4.Future<int?>);
+
   @override
   _i4.Future<void> pauseVideoRecording() =>
       (super.noSuchMethod(
@@ -182,6 +233,17 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
           )
           as _i4.Future<void>);
 
+  @override
+  _i4.Future<void> setImageStreamOptions(
+    _i2.PlatformImageStreamOptions? options,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#setImageStreamOptions, [options]),
+            returnValue: _i4.Future<void>.value(),
+            returnValueForMissingStub: _i4.Future<void>.value(),
+          )
+          as _i4.Future<void>);
+
   @override
   _i4.Future<void> setFlashMode(_i2.PlatformFlashMode? flashMode) =>
       (super.noSuchMethod(
@@ -316,4 +378,64 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
             returnValueForMissingStub: _i4.Future<void>.value(),
           )
           as _i4.Future<void>);
+
+  @override
+  _i4.Future<_i2.PlatformPictureSaveStatistics> getPictureSaveStatistics() =>
+      (super.noSuchMethod(
+            Invocation.method(#getPictureSaveStatistics, []),
+            returnValue: _i4.Future<_i2.PlatformPictureSaveStatistics>.value(
+              _FakePlatformPictureSaveStatistics_1(
+                this,
+                Invocation.method(#getPictureSaveStatistics, []),
+              ),
+            ),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformPictureSaveStatistics>.value(
+                  _FakePlatformPictureSaveStatistics_1(
+                    this,
+                    Invocation.method(#getPictureSaveStatistics, []),
+                  ),
+                ),
+          )
+          as _i4.Future<_i2.PlatformPictureSaveStatistics>);
+
+  @override
+  _i4.Future<_i2.PlatformCameraTimings> getCameraTimings() =>
+      (super.noSuchMethod(
+            Invocation.method(#getCameraTimings, []),
+            returnValue: _i4.Future<_i2.PlatformCameraTimings>.value(
+              _FakePlatformCameraTimings_2(
+                this,
+                Invocation.method(#getCameraTimings, []),
+              ),
+            ),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformCameraTimings>.value(
+                  _FakePlatformCameraTimings_2(
+                    this,
+                    Invocation.method(#getCameraTimings, []),
+                  ),
+                ),
+          )
+          as _i4.Future<_i2.PlatformCameraTimings>);
+
+  @override
+  _i4.Future<void> startCaptureMetadataStream(int? flushIntervalMillis) =>
+      (super.noSuchMethod(
+            Invocation.method(#startCaptureMetadataStream, [
+              flushIntervalMillis,
+            ]),
+            returnValue: _i4.Future<void>.value(),
+            returnValueForMissingStub: _i4.Future<void>.value(),
+          )
+          as _i4.Future<void>);
+
+  @override
+  _i4.Future<void> stopCaptureMetadataStream() =>
+      (super.noSuchMethod(
+            Invocation.method(#stopCaptureMetadataStream, []),
+            returnValue: _i4.Future<void>.value(),
+            returnValueForMissingStub: _i4.Future<void>.value(),
+          )
+          as _i4.Future<void>);
 }
@@ -4,6 +4,7 @@
 
 import 'dart:typed_data';
 
+import 'package:camera_android/src/android_camera_image_data.dart';
 import 'package:camera_android/src/type_conversion.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter_test/flutter_test.dart';
@@ -80,4 +81,29 @@ void main() {
     );
     expect(cameraImage.format.group, ImageFormatGroup.nv21);
   });
+
+  test('AndroidCameraImageData has the stream frame counters', () {
+    final AndroidCameraImageData cameraImage = cameraImageFromPlatformData(
+      <dynamic, dynamic>{
+        'format': 35,
+        'height': 1,
+        'width': 4,
+        'planes': <dynamic>[
+          <dynamic, dynamic>{
+            'bytes': Uint8List.fromList(<int>[1, 2, 3, 4]),
+            'bytesPerPixel': 1,
+            'bytesPerRow': 4,
+            'height': 1,
+            'width': 4,
+          },
+        ],
+        'deliveredFrameCount': 12,
+        'droppedFrameCount': 3,
+        'discardedFrameCount': 1,
+      },
+    );
+    expect(cameraImage.deliveredFrameCount, 12);
+    expect(cameraImage.droppedFrameCount, 3);
+    expect(cameraImage.discardedFrameCount, 1);
+  });
 }
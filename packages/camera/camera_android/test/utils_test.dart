@@ -2,6 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:math';
+
+import 'package:camera_android/camera_android.dart';
 import 'package:camera_android/src/messages.g.dart';
 import 'package:camera_android/src/utils.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
@@ -62,5 +65,30 @@ void main() {
       expect(focusModeFromPlatform(PlatformFocusMode.auto), FocusMode.auto);
       expect(focusModeFromPlatform(PlatformFocusMode.locked), FocusMode.locked);
     });
+
+    test('imageStreamOptionsToPlatform() rejects invalid crops', () {
+      expect(
+        () => imageStreamOptionsToPlatform(
+          AndroidCameraImageStreamOptions(
+            cropRect: const Rectangle<int>(-2, 0, 320, 240),
+          ),
+        ),
+        throwsAssertionError,
+      );
+      expect(
+        () => imageStreamOptionsToPlatform(
+          AndroidCameraImageStreamOptions(
+            cropRect: const Rectangle<int>(0, 0, 0, 240),
+          ),
+        ),
+        throwsAssertionError,
+      );
+      expect(
+        () => imageStreamOptionsToPlatform(
+          AndroidCameraImageStreamOptions(subsampleFactor: 0),
+        ),
+        throwsAssertionError,
+      );
+    });
   });
 }
@@ -35,6 +35,7 @@ class AnalyzerProxyApi extends PigeonApiAnalyzer {
 
     @Override
     public void analyze(@NonNull ImageProxy image) {
+      api.getPigeonRegistrar().getInstanceReleaseMonitor().track(image, "ImageProxy");
       api.getPigeonRegistrar()
           .runOnMainThread(
               new ProxyApiRegistrar.FlutterMethodRunnable() {
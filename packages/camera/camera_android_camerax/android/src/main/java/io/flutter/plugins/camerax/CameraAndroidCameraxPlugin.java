@@ -41,6 +41,7 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
       proxyApiRegistrar.setIgnoreCallsToDart(true);
       proxyApiRegistrar.tearDown();
       proxyApiRegistrar.getInstanceManager().stopFinalizationListener();
+      proxyApiRegistrar.getInstanceReleaseMonitor().stop();
       proxyApiRegistrar = null;
     }
   }
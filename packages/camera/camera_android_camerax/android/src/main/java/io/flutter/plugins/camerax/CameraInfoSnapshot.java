@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.util.Range;
+import android.util.Rational;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.OptIn;
+import androidx.camera.camera2.interop.Camera2CameraInfo;
+import androidx.camera.camera2.interop.ExperimentalCamera2Interop;
+import androidx.camera.core.CameraInfo;
+import androidx.camera.core.DynamicRange;
+import androidx.camera.core.ExposureState;
+import androidx.camera.core.ZoomState;
+import androidx.camera.video.Quality;
+import androidx.camera.video.Recorder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The static info of a camera, read once from its {@link CameraInfo} so that it can be served to
+ * Dart without a round trip per value.
+ */
+public final class CameraInfoSnapshot {
+  @NonNull final String cameraId;
+  final int lensFacing;
+  final int sensorRotationDegrees;
+  @NonNull final List<VideoQuality> supportedVideoQualities;
+  final int minExposureCompensationIndex;
+  final int maxExposureCompensationIndex;
+  final double exposureCompensationStep;
+  final double minZoomRatio;
+  final double maxZoomRatio;
+
+  private CameraInfoSnapshot(
+      @NonNull String cameraId,
+      int lensFacing,
+      int sensorRotationDegrees,
+      @NonNull List<VideoQuality> supportedVideoQualities,
+      int minExposureCompensationIndex,
+      int maxExposureCompensationIndex,
+      double exposureCompensationStep,
+      double minZoomRatio,
+      double maxZoomRatio) {
+    this.cameraId = cameraId;
+    this.lensFacing = lensFacing;
+    this.sensorRotationDegrees = sensorRotationDegrees;
+    this.supportedVideoQualities = supportedVideoQualities;
+    this.minExposureCompensationIndex = minExposureCompensationIndex;
+    this.maxExposureCompensationIndex = maxExposureCompensationIndex;
+    this.exposureCompensationStep = exposureCompensationStep;
+    this.minZoomRatio = minZoomRatio;
+    this.maxZoomRatio = maxZoomRatio;
+  }
+
+  /** Reads the static info of a camera. Must be called on the main thread. */
+  @OptIn(markerClass = ExperimentalCamera2Interop.class)
+  @NonNull
+  static CameraInfoSnapshot from(@NonNull CameraInfo cameraInfo) {
+    final ExposureState exposureState = cameraInfo.getExposureState();
+    final Range<Integer> exposureRange = exposureState.getExposureCompensationRange();
+    final Rational exposureStep = exposureState.getExposureCompensationStep();
+    final ZoomState zoomState = cameraInfo.getZoomState().getValue();
+
+    return new CameraInfoSnapshot(
+        Camera2CameraInfo.from(cameraInfo).getCameraId(),
+        cameraInfo.getLensFacing(),
+        cameraInfo.getSensorRotationDegrees(),
+        getSupportedVideoQualities(cameraInfo),
+        exposureRange.getLower(),
+        exposureRange.getUpper(),
+        exposureStep.doubleValue(),
+        zoomState == null ? 1 : zoomState.getMinZoomRatio(),
+        zoomState == null ? 1 : zoomState.getMaxZoomRatio());
+  }
+
+  @NonNull
+  private static List<VideoQuality> getSupportedVideoQualities(@NonNull CameraInfo cameraInfo) {
+    final List<VideoQuality> qualities = new ArrayList<>();
+    for (Quality quality :
+        Recorder.getVideoCapabilities(cameraInfo).getSupportedQualities(DynamicRange.SDR)) {
+      final VideoQuality videoQuality = toVideoQuality(quality);
+      if (videoQuality != null) {
+        qualities.add(videoQuality);
+      }
+    }
+    return qualities;
+  }
+
+  @Nullable
+  private static VideoQuality toVideoQuality(@NonNull Quality quality) {
+    if (quality == Quality.SD) {
+      return VideoQuality.SD;
+    } else if (quality == Quality.HD) {
+      return VideoQuality.HD;
+    } else if (quality == Quality.FHD) {
+      return VideoQuality.FHD;
+    } else if (quality == Quality.UHD) {
+      return VideoQuality.UHD;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.camera.core.CameraSelector;
+import androidx.camera.core.ExperimentalLensFacing;
+import java.util.List;
+
+/**
+ * ProxyApi implementation for {@link CameraInfoSnapshot}.
+ *
+ * <p>This class may handle instantiating native object instances that are attached to a Dart
+ * instance or handle method calls on the associated native class or an instance of that class.
+ */
+class CameraInfoSnapshotProxyApi extends PigeonApiCameraInfoSnapshot {
+  CameraInfoSnapshotProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    super(pigeonRegistrar);
+  }
+
+  @NonNull
+  @Override
+  public String cameraId(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.cameraId;
+  }
+
+  @ExperimentalLensFacing
+  @NonNull
+  @Override
+  public LensFacing lensFacing(@NonNull CameraInfoSnapshot pigeonInstance) {
+    switch (pigeonInstance.lensFacing) {
+      case CameraSelector.LENS_FACING_FRONT:
+        return LensFacing.FRONT;
+      case CameraSelector.LENS_FACING_BACK:
+        return LensFacing.BACK;
+      case CameraSelector.LENS_FACING_EXTERNAL:
+        return LensFacing.EXTERNAL;
+      default:
+        return LensFacing.UNKNOWN;
+    }
+  }
+
+  @Override
+  public long sensorRotationDegrees(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.sensorRotationDegrees;
+  }
+
+  @NonNull
+  @Override
+  public List<VideoQuality> supportedVideoQualities(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.supportedVideoQualities;
+  }
+
+  @Override
+  public long minExposureCompensationIndex(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.minExposureCompensationIndex;
+  }
+
+  @Override
+  public long maxExposureCompensationIndex(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.maxExposureCompensationIndex;
+  }
+
+  @Override
+  public double exposureCompensationStep(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.exposureCompensationStep;
+  }
+
+  @Override
+  public double minZoomRatio(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.minZoomRatio;
+  }
+
+  @Override
+  public double maxZoomRatio(@NonNull CameraInfoSnapshot pigeonInstance) {
+    return pigeonInstance.maxZoomRatio;
+  }
+}
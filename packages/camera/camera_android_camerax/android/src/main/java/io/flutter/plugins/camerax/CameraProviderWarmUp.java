@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.core.CameraInfo;
+import androidx.camera.lifecycle.ProcessCameraProvider;
+import androidx.core.content.ContextCompat;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import kotlin.Result;
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
+
+/**
+ * Initializes the {@link ProcessCameraProvider} ahead of Dart and caches a {@link
+ * CameraInfoSnapshot} of each of its cameras.
+ *
+ * <p>{@link ProcessCameraProvider#getInstance} returns the same initialization on every call, so
+ * starting it with {@link ProcessCameraProviderProxyApi#warmUp} lets {@link
+ * ProcessCameraProviderProxyApi#getInstance} complete without waiting for the camera service on
+ * cold start. Snapshots requested before the provider is ready are sent once it is. All methods
+ * must be called on the main thread.
+ */
+class CameraProviderWarmUp {
+  private static final String TAG = "CameraProviderWarmUp";
+
+  @NonNull private final ProxyApiRegistrar pigeonRegistrar;
+
+  @NonNull
+  private final List<Function1<? super Result<List<CameraInfoSnapshot>>, Unit>>
+      pendingSnapshotCallbacks = new ArrayList<>();
+
+  @Nullable private List<CameraInfoSnapshot> cameraInfoSnapshots;
+  private boolean isStarted;
+
+  CameraProviderWarmUp(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    this.pigeonRegistrar = pigeonRegistrar;
+  }
+
+  /** Starts initializing the provider, unless it was already started. */
+  void start() {
+    if (isStarted) {
+      return;
+    }
+    isStarted = true;
+    pigeonRegistrar.getStartupTimings().onWarmUpStarted();
+
+    final ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
+        ProcessCameraProvider.getInstance(pigeonRegistrar.getContext());
+    processCameraProviderFuture.addListener(
+        () -> {
+          try {
+            onProviderReady(processCameraProviderFuture.get());
+          } catch (InterruptedException | ExecutionException e) {
+            Log.w(TAG, "ProcessCameraProvider failed to initialize.", e);
+            failPendingSnapshotCallbacks(e);
+          }
+        },
+        ContextCompat.getMainExecutor(pigeonRegistrar.getContext()));
+  }
+
+  /**
+   * Sends the cached snapshots to the callback, once the provider is ready. Starts initializing the
+   * provider if it was not started yet.
+   */
+  void getCameraInfoSnapshots(
+      @NonNull Function1<? super Result<List<CameraInfoSnapshot>>, Unit> callback) {
+    if (cameraInfoSnapshots != null) {
+      ResultCompat.success(cameraInfoSnapshots, callback);
+      return;
+    }
+    pendingSnapshotCallbacks.add(callback);
+    start();
+  }
+
+  /** Returns the cached snapshots, or null if the provider is not ready yet. */
+  @Nullable
+  List<CameraInfoSnapshot> getCameraInfoSnapshots() {
+    return cameraInfoSnapshots;
+  }
+
+  private void onProviderReady(@NonNull ProcessCameraProvider processCameraProvider) {
+    final CameraStartupTimings timings = pigeonRegistrar.getStartupTimings();
+    timings.onProviderReady();
+
+    final List<CameraInfoSnapshot> snapshots = new ArrayList<>();
+    for (CameraInfo cameraInfo : processCameraProvider.getAvailableCameraInfos()) {
+      snapshots.add(CameraInfoSnapshot.from(cameraInfo));
+    }
+    cameraInfoSnapshots = snapshots;
+    timings.onCameraInfosCached();
+
+    for (Function1<? super Result<List<CameraInfoSnapshot>>, Unit> callback :
+        pendingSnapshotCallbacks) {
+      ResultCompat.success(snapshots, callback);
+    }
+    pendingSnapshotCallbacks.clear();
+  }
+
+  private void failPendingSnapshotCallbacks(@NonNull Exception exception) {
+    for (Function1<? super Result<List<CameraInfoSnapshot>>, Unit> callback :
+        pendingSnapshotCallbacks) {
+      ResultCompat.failure(exception, callback);
+    }
+    pendingSnapshotCallbacks.clear();
+    isStarted = false;
+  }
+}
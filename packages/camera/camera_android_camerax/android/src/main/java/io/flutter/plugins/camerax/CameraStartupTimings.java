@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+/**
+ * Durations of the phases of starting CameraX: initializing the {@code ProcessCameraProvider},
+ * caching the info of its cameras, and delivering the provider to Dart.
+ *
+ * <p>Durations are in nanoseconds, or -1 until the events they span have happened. All methods are
+ * synchronized, as initialization completes on a different thread than the one it starts on.
+ */
+public class CameraStartupTimings {
+  private long warmUpStartedNanos = -1;
+  private long providerReadyNanos = -1;
+  private long cameraInfosCachedNanos = -1;
+  private long providerRequestedNanos = -1;
+  private long providerDeliveredNanos = -1;
+
+  /** Marks the moment the provider was requested ahead of Dart by a warm-up. */
+  synchronized void onWarmUpStarted() {
+    warmUpStartedNanos = System.nanoTime();
+  }
+
+  /** Marks the moment the provider finished initializing. */
+  synchronized void onProviderReady() {
+    providerReadyNanos = System.nanoTime();
+  }
+
+  /** Marks the moment the info of all cameras was cached. */
+  synchronized void onCameraInfosCached() {
+    cameraInfosCachedNanos = System.nanoTime();
+  }
+
+  /** Marks the moment Dart requested the provider. */
+  synchronized void onProviderRequested() {
+    if (providerRequestedNanos < 0) {
+      providerRequestedNanos = System.nanoTime();
+    }
+  }
+
+  /** Marks the moment the provider was delivered to Dart. */
+  synchronized void onProviderDelivered() {
+    if (providerDeliveredNanos < 0) {
+      providerDeliveredNanos = System.nanoTime();
+    }
+  }
+
+  /** Returns whether the provider was warmed up before Dart requested it. */
+  public synchronized boolean wasWarmedUp() {
+    return warmUpStartedNanos >= 0;
+  }
+
+  /** Returns the time it took the provider to initialize during a warm-up. */
+  public synchronized long getProviderInitializationNanos() {
+    return span(warmUpStartedNanos, providerReadyNanos);
+  }
+
+  /** Returns the time it took to cache the info of all cameras once the provider was ready. */
+  public synchronized long getCameraInfoCachingNanos() {
+    return span(providerReadyNanos, cameraInfosCachedNanos);
+  }
+
+  /** Returns the time Dart waited for the provider. */
+  public synchronized long getProviderWaitNanos() {
+    return span(providerRequestedNanos, providerDeliveredNanos);
+  }
+
+  private static long span(long startNanos, long endNanos) {
+    return startNanos < 0 || endNanos < 0 ? -1 : endNanos - startNanos;
+  }
+}
@@ -449,6 +449,12 @@ abstract class CameraXLibraryPigeonProxyApiRegistrar(val binaryMessenger: Binary
    */
   abstract fun getPigeonApiProcessCameraProvider(): PigeonApiProcessCameraProvider
 
+  /**
+   * An implementation of [PigeonApiCameraInfoSnapshot] used to add a new Dart instance of
+   * `CameraInfoSnapshot` to the Dart `InstanceManager`.
+   */
+  abstract fun getPigeonApiCameraInfoSnapshot(): PigeonApiCameraInfoSnapshot
+
   /**
    * An implementation of [PigeonApiUseCase] used to add a new Dart instance of `UseCase` to the
    * Dart `InstanceManager`.
@@ -525,12 +531,30 @@ abstract class CameraXLibraryPigeonProxyApiRegistrar(val binaryMessenger: Binary
    */
   abstract fun getPigeonApiRecording(): PigeonApiRecording
 
+  /**
+   * An implementation of [PigeonApiSegmentedRecorder] used to add a new Dart instance of
+   * `SegmentedRecorder` to the Dart `InstanceManager`.
+   */
+  abstract fun getPigeonApiSegmentedRecorder(): PigeonApiSegmentedRecorder
+
+  /**
+   * An implementation of [PigeonApiRecordedSegment] used to add a new Dart instance of
+   * `RecordedSegment` to the Dart `InstanceManager`.
+   */
+  abstract fun getPigeonApiRecordedSegment(): PigeonApiRecordedSegment
+
   /**
    * An implementation of [PigeonApiImageCapture] used to add a new Dart instance of `ImageCapture`
    * to the Dart `InstanceManager`.
    */
   abstract fun getPigeonApiImageCapture(): PigeonApiImageCapture
 
+  /**
+   * An implementation of [PigeonApiInMemoryPicture] used to add a new Dart instance of
+   * `InMemoryPicture` to the Dart `InstanceManager`.
+   */
+  abstract fun getPigeonApiInMemoryPicture(): PigeonApiInMemoryPicture
+
   /**
    * An implementation of [PigeonApiResolutionStrategy] used to add a new Dart instance of
    * `ResolutionStrategy` to the Dart `InstanceManager`.
@@ -579,6 +603,12 @@ abstract class CameraXLibraryPigeonProxyApiRegistrar(val binaryMessenger: Binary
    */
   abstract fun getPigeonApiAnalyzer(): PigeonApiAnalyzer
 
+  /**
+   * An implementation of [PigeonApiImageFrameAnalyzer] used to add a new Dart instance of
+   * `ImageFrameAnalyzer` to the Dart `InstanceManager`.
+   */
+  abstract fun getPigeonApiImageFrameAnalyzer(): PigeonApiImageFrameAnalyzer
+
   /**
    * An implementation of [PigeonApiCameraStateStateError] used to add a new Dart instance of
    * `CameraStateStateError` to the Dart `InstanceManager`.
@@ -733,6 +763,8 @@ abstract class CameraXLibraryPigeonProxyApiRegistrar(val binaryMessenger: Binary
         binaryMessenger, getPigeonApiVideoRecordEventListener())
     PigeonApiPendingRecording.setUpMessageHandlers(binaryMessenger, getPigeonApiPendingRecording())
     PigeonApiRecording.setUpMessageHandlers(binaryMessenger, getPigeonApiRecording())
+    PigeonApiSegmentedRecorder.setUpMessageHandlers(
+        binaryMessenger, getPigeonApiSegmentedRecorder())
     PigeonApiImageCapture.setUpMessageHandlers(binaryMessenger, getPigeonApiImageCapture())
     PigeonApiResolutionStrategy.setUpMessageHandlers(
         binaryMessenger, getPigeonApiResolutionStrategy())
@@ -742,6 +774,8 @@ abstract class CameraXLibraryPigeonProxyApiRegistrar(val binaryMessenger: Binary
         binaryMessenger, getPigeonApiAspectRatioStrategy())
     PigeonApiImageAnalysis.setUpMessageHandlers(binaryMessenger, getPigeonApiImageAnalysis())
     PigeonApiAnalyzer.setUpMessageHandlers(binaryMessenger, getPigeonApiAnalyzer())
+    PigeonApiImageFrameAnalyzer.setUpMessageHandlers(
+        binaryMessenger, getPigeonApiImageFrameAnalyzer())
     PigeonApiLiveData.setUpMessageHandlers(binaryMessenger, getPigeonApiLiveData())
     PigeonApiImageProxy.setUpMessageHandlers(binaryMessenger, getPigeonApiImageProxy())
     PigeonApiImageProxyUtils.setUpMessageHandlers(binaryMessenger, getPigeonApiImageProxyUtils())
@@ -784,12 +818,14 @@ abstract class CameraXLibraryPigeonProxyApiRegistrar(val binaryMessenger: Binary
     PigeonApiVideoRecordEventListener.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiPendingRecording.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiRecording.setUpMessageHandlers(binaryMessenger, null)
+    PigeonApiSegmentedRecorder.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiImageCapture.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiResolutionStrategy.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiResolutionSelector.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiAspectRatioStrategy.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiImageAnalysis.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiAnalyzer.setUpMessageHandlers(binaryMessenger, null)
+    PigeonApiImageFrameAnalyzer.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiLiveData.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiImageProxy.setUpMessageHandlers(binaryMessenger, null)
     PigeonApiImageProxyUtils.setUpMessageHandlers(binaryMessenger, null)
@@ -876,6 +912,8 @@ private class CameraXLibraryPigeonProxyApiBaseCodec(
       registrar.getPigeonApiCameraSelector().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.lifecycle.ProcessCameraProvider) {
       registrar.getPigeonApiProcessCameraProvider().pigeon_newInstance(value) {}
+    } else if (value is CameraInfoSnapshot) {
+      registrar.getPigeonApiCameraInfoSnapshot().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.Camera) {
       registrar.getPigeonApiCamera().pigeon_newInstance(value) {}
     } else if (value is SystemServicesManager) {
@@ -898,8 +936,14 @@ private class CameraXLibraryPigeonProxyApiBaseCodec(
       registrar.getPigeonApiPendingRecording().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.video.Recording) {
       registrar.getPigeonApiRecording().pigeon_newInstance(value) {}
+    } else if (value is SegmentedRecorder) {
+      registrar.getPigeonApiSegmentedRecorder().pigeon_newInstance(value) {}
+    } else if (value is io.flutter.plugins.camerax.SegmentedRecorder.Segment) {
+      registrar.getPigeonApiRecordedSegment().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.ImageCapture) {
       registrar.getPigeonApiImageCapture().pigeon_newInstance(value) {}
+    } else if (value is InMemoryPicture) {
+      registrar.getPigeonApiInMemoryPicture().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.resolutionselector.ResolutionStrategy) {
       registrar.getPigeonApiResolutionStrategy().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.resolutionselector.ResolutionSelector) {
@@ -916,6 +960,8 @@ private class CameraXLibraryPigeonProxyApiBaseCodec(
       registrar.getPigeonApiImageAnalysis().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.UseCase) {
       registrar.getPigeonApiUseCase().pigeon_newInstance(value) {}
+    } else if (value is ImageFrameAnalyzer) {
+      registrar.getPigeonApiImageFrameAnalyzer().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.ImageAnalysis.Analyzer) {
       registrar.getPigeonApiAnalyzer().pigeon_newInstance(value) {}
     } else if (value is androidx.camera.core.CameraState.StateError) {
@@ -1828,6 +1874,17 @@ abstract class PigeonApiMeteringPoint(
 abstract class PigeonApiObserver(open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar) {
   abstract fun pigeon_defaultConstructor(): androidx.lifecycle.Observer<*>
 
+  /**
+   * Sets the minimum interval between two values sent by the same observer.
+   *
+   * Values emitted within the interval are coalesced into the latest one. An interval of 0, the
+   * default, sends every value.
+   */
+  abstract fun setDeliveryInterval(intervalMillis: Long)
+
+  /** The number of values replaced by a later value before being sent. */
+  abstract fun getCoalescedEventCount(): Long
+
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiObserver?) {
@@ -1856,6 +1913,49 @@ abstract class PigeonApiObserver(open val pigeonRegistrar: CameraXLibraryPigeonP
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.Observer.setDeliveryInterval",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val intervalMillisArg = args[0] as Long
+            val wrapped: List<Any?> =
+                try {
+                  api.setDeliveryInterval(intervalMillisArg)
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.Observer.getCoalescedEventCount",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            val wrapped: List<Any?> =
+                try {
+                  listOf(api.getCoalescedEventCount())
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 
@@ -2208,11 +2308,23 @@ abstract class PigeonApiProcessCameraProvider(
       callback: (Result<androidx.camera.lifecycle.ProcessCameraProvider>) -> Unit
   )
 
+  /**
+   * Starts initializing the ProcessCameraProvider ahead of [getInstance] and caching a
+   * [CameraInfoSnapshot] of each of its cameras.
+   */
+  abstract fun warmUp()
+
   /** The `CameraInfo` instances of the available cameras. */
   abstract fun getAvailableCameraInfos(
       pigeon_instance: androidx.camera.lifecycle.ProcessCameraProvider
   ): List<androidx.camera.core.CameraInfo>
 
+  /** The static info of each available camera, read once when the provider is ready. */
+  abstract fun getCameraInfoSnapshots(
+      pigeon_instance: androidx.camera.lifecycle.ProcessCameraProvider,
+      callback: (Result<List<CameraInfoSnapshot>>) -> Unit
+  )
+
   /** Binds the collection of `UseCase` to a `LifecycleOwner`. */
   abstract fun bindToLifecycle(
       pigeon_instance: androidx.camera.lifecycle.ProcessCameraProvider,
@@ -2264,6 +2376,27 @@ abstract class PigeonApiProcessCameraProvider(
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ProcessCameraProvider.warmUp",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            val wrapped: List<Any?> =
+                try {
+                  api.warmUp()
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
       run {
         val channel =
             BasicMessageChannel<Any?>(
@@ -2286,6 +2419,31 @@ abstract class PigeonApiProcessCameraProvider(
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ProcessCameraProvider.getCameraInfoSnapshots",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.lifecycle.ProcessCameraProvider
+            api.getCameraInfoSnapshots(pigeon_instanceArg) {
+                result: Result<List<CameraInfoSnapshot>> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(CameraXLibraryPigeonUtils.wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(CameraXLibraryPigeonUtils.wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
       run {
         val channel =
             BasicMessageChannel<Any?>(
@@ -2418,6 +2576,94 @@ abstract class PigeonApiProcessCameraProvider(
     }
   }
 }
+/**
+ * The static info of a camera, read once from its `CameraInfo` so that it can be read without a
+ * call per value.
+ */
+@Suppress("UNCHECKED_CAST")
+abstract class PigeonApiCameraInfoSnapshot(
+    open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar
+) {
+  /** The Camera2 ID of the camera. */
+  abstract fun cameraId(pigeon_instance: CameraInfoSnapshot): String
+
+  /** The direction the lens of the camera faces. */
+  abstract fun lensFacing(pigeon_instance: CameraInfoSnapshot): LensFacing
+
+  /** The rotation of the sensor relative to the natural orientation of the device, in degrees. */
+  abstract fun sensorRotationDegrees(pigeon_instance: CameraInfoSnapshot): Long
+
+  /** The SDR video qualities the camera supports. */
+  abstract fun supportedVideoQualities(pigeon_instance: CameraInfoSnapshot): List<VideoQuality>
+
+  /** The minimum exposure compensation index. */
+  abstract fun minExposureCompensationIndex(pigeon_instance: CameraInfoSnapshot): Long
+
+  /** The maximum exposure compensation index. */
+  abstract fun maxExposureCompensationIndex(pigeon_instance: CameraInfoSnapshot): Long
+
+  /** The smallest step by which the exposure compensation can be changed. */
+  abstract fun exposureCompensationStep(pigeon_instance: CameraInfoSnapshot): Double
+
+  /** The minimum zoom ratio. */
+  abstract fun minZoomRatio(pigeon_instance: CameraInfoSnapshot): Double
+
+  /** The maximum zoom ratio. */
+  abstract fun maxZoomRatio(pigeon_instance: CameraInfoSnapshot): Double
+
+  @Suppress("LocalVariableName", "FunctionName")
+  /** Creates a Dart instance of CameraInfoSnapshot and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(pigeon_instanceArg: CameraInfoSnapshot, callback: (Result<Unit>) -> Unit) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+    } else if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
+      callback(Result.success(Unit))
+    } else {
+      val pigeon_identifierArg =
+          pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
+      val cameraIdArg = cameraId(pigeon_instanceArg)
+      val lensFacingArg = lensFacing(pigeon_instanceArg)
+      val sensorRotationDegreesArg = sensorRotationDegrees(pigeon_instanceArg)
+      val supportedVideoQualitiesArg = supportedVideoQualities(pigeon_instanceArg)
+      val minExposureCompensationIndexArg = minExposureCompensationIndex(pigeon_instanceArg)
+      val maxExposureCompensationIndexArg = maxExposureCompensationIndex(pigeon_instanceArg)
+      val exposureCompensationStepArg = exposureCompensationStep(pigeon_instanceArg)
+      val minZoomRatioArg = minZoomRatio(pigeon_instanceArg)
+      val maxZoomRatioArg = maxZoomRatio(pigeon_instanceArg)
+      val binaryMessenger = pigeonRegistrar.binaryMessenger
+      val codec = pigeonRegistrar.codec
+      val channelName =
+          "dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance"
+      val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+      channel.send(
+          listOf(
+              pigeon_identifierArg,
+              cameraIdArg,
+              lensFacingArg,
+              sensorRotationDegreesArg,
+              supportedVideoQualitiesArg,
+              minExposureCompensationIndexArg,
+              maxExposureCompensationIndexArg,
+              exposureCompensationStepArg,
+              minZoomRatioArg,
+              maxZoomRatioArg)) {
+            if (it is List<*>) {
+              if (it.size > 1) {
+                callback(
+                    Result.failure(
+                        CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+              } else {
+                callback(Result.success(Unit))
+              }
+            } else {
+              callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+            }
+          }
+    }
+  }
+}
 /**
  * The use case which all other use cases are built on top of.
  *
@@ -3945,62 +4191,61 @@ abstract class PigeonApiRecording(open val pigeonRegistrar: CameraXLibraryPigeon
   }
 }
 /**
- * A use case for taking a picture.
+ * Records a video as a sequence of segment files, rotating to a new file once the current one
+ * reaches a maximum duration or size.
  *
- * See https://developer.android.com/reference/kotlin/androidx/camera/core/ImageCapture.
+ * Each segment is its own recording of the `Recorder`, started as soon as the previous one is
+ * stopped.
  */
 @Suppress("UNCHECKED_CAST")
-abstract class PigeonApiImageCapture(
+abstract class PigeonApiSegmentedRecorder(
     open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar
 ) {
   abstract fun pigeon_defaultConstructor(
-      resolutionSelector: androidx.camera.core.resolutionselector.ResolutionSelector?,
-      targetRotation: Long?,
-      flashMode: CameraXFlashMode?
-  ): androidx.camera.core.ImageCapture
-
-  abstract fun resolutionSelector(
-      pigeon_instance: androidx.camera.core.ImageCapture
-  ): androidx.camera.core.resolutionselector.ResolutionSelector?
+      recorder: androidx.camera.video.Recorder,
+      directory: String,
+      fileNamePrefix: String,
+      maxSegmentDurationMillis: Long,
+      maxSegmentBytes: Long,
+      audioEnabled: Boolean
+  ): SegmentedRecorder
 
-  /** Set the flash mode. */
-  abstract fun setFlashMode(
-      pigeon_instance: androidx.camera.core.ImageCapture,
-      flashMode: CameraXFlashMode
-  )
-
-  /** Captures a new still image for in memory access. */
-  abstract fun takePicture(
-      pigeon_instance: androidx.camera.core.ImageCapture,
-      callback: (Result<String>) -> Unit
-  )
+  /** Starts recording the first segment. */
+  abstract fun start(pigeon_instance: SegmentedRecorder)
 
-  /** Sets the desired rotation of the output image. */
-  abstract fun setTargetRotation(pigeon_instance: androidx.camera.core.ImageCapture, rotation: Long)
+  /** Stops the recording. The current segment is the last one. */
+  abstract fun stop(pigeon_instance: SegmentedRecorder)
 
   companion object {
     @Suppress("LocalVariableName")
-    fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiImageCapture?) {
+    fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiSegmentedRecorder?) {
       val codec = api?.pigeonRegistrar?.codec ?: CameraXLibraryPigeonCodec()
       run {
         val channel =
             BasicMessageChannel<Any?>(
                 binaryMessenger,
-                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_defaultConstructor",
+                "dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.pigeon_defaultConstructor",
                 codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
             val pigeon_identifierArg = args[0] as Long
-            val resolutionSelectorArg =
-                args[1] as androidx.camera.core.resolutionselector.ResolutionSelector?
-            val targetRotationArg = args[2] as Long?
-            val flashModeArg = args[3] as CameraXFlashMode?
+            val recorderArg = args[1] as androidx.camera.video.Recorder
+            val directoryArg = args[2] as String
+            val fileNamePrefixArg = args[3] as String
+            val maxSegmentDurationMillisArg = args[4] as Long
+            val maxSegmentBytesArg = args[5] as Long
+            val audioEnabledArg = args[6] as Boolean
             val wrapped: List<Any?> =
                 try {
                   api.pigeonRegistrar.instanceManager.addDartCreatedInstance(
                       api.pigeon_defaultConstructor(
-                          resolutionSelectorArg, targetRotationArg, flashModeArg),
+                          recorderArg,
+                          directoryArg,
+                          fileNamePrefixArg,
+                          maxSegmentDurationMillisArg,
+                          maxSegmentBytesArg,
+                          audioEnabledArg),
                       pigeon_identifierArg)
                   listOf(null)
                 } catch (exception: Throwable) {
@@ -4016,16 +4261,15 @@ abstract class PigeonApiImageCapture(
         val channel =
             BasicMessageChannel<Any?>(
                 binaryMessenger,
-                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.setFlashMode",
+                "dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.start",
                 codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
-            val flashModeArg = args[1] as CameraXFlashMode
+            val pigeon_instanceArg = args[0] as SegmentedRecorder
             val wrapped: List<Any?> =
                 try {
-                  api.setFlashMode(pigeon_instanceArg, flashModeArg)
+                  api.start(pigeon_instanceArg)
                   listOf(null)
                 } catch (exception: Throwable) {
                   CameraXLibraryPigeonUtils.wrapError(exception)
@@ -4040,40 +4284,15 @@ abstract class PigeonApiImageCapture(
         val channel =
             BasicMessageChannel<Any?>(
                 binaryMessenger,
-                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.takePicture",
-                codec)
-        if (api != null) {
-          channel.setMessageHandler { message, reply ->
-            val args = message as List<Any?>
-            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
-            api.takePicture(pigeon_instanceArg) { result: Result<String> ->
-              val error = result.exceptionOrNull()
-              if (error != null) {
-                reply.reply(CameraXLibraryPigeonUtils.wrapError(error))
-              } else {
-                val data = result.getOrNull()
-                reply.reply(CameraXLibraryPigeonUtils.wrapResult(data))
-              }
-            }
-          }
-        } else {
-          channel.setMessageHandler(null)
-        }
-      }
-      run {
-        val channel =
-            BasicMessageChannel<Any?>(
-                binaryMessenger,
-                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.setTargetRotation",
+                "dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.stop",
                 codec)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
-            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
-            val rotationArg = args[1] as Long
+            val pigeon_instanceArg = args[0] as SegmentedRecorder
             val wrapped: List<Any?> =
                 try {
-                  api.setTargetRotation(pigeon_instanceArg, rotationArg)
+                  api.stop(pigeon_instanceArg)
                   listOf(null)
                 } catch (exception: Throwable) {
                   CameraXLibraryPigeonUtils.wrapError(exception)
@@ -4088,11 +4307,8 @@ abstract class PigeonApiImageCapture(
   }
 
   @Suppress("LocalVariableName", "FunctionName")
-  /** Creates a Dart instance of ImageCapture and attaches it to [pigeon_instanceArg]. */
-  fun pigeon_newInstance(
-      pigeon_instanceArg: androidx.camera.core.ImageCapture,
-      callback: (Result<Unit>) -> Unit
-  ) {
+  /** Creates a Dart instance of SegmentedRecorder and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(pigeon_instanceArg: SegmentedRecorder, callback: (Result<Unit>) -> Unit) {
     if (pigeonRegistrar.ignoreCallsToDart) {
       callback(
           Result.failure(
@@ -4100,34 +4316,469 @@ abstract class PigeonApiImageCapture(
     } else if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
       callback(Result.success(Unit))
     } else {
-      val pigeon_identifierArg =
-          pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
-      val resolutionSelectorArg = resolutionSelector(pigeon_instanceArg)
-      val binaryMessenger = pigeonRegistrar.binaryMessenger
-      val codec = pigeonRegistrar.codec
-      val channelName = "dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance"
-      val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
-      channel.send(listOf(pigeon_identifierArg, resolutionSelectorArg)) {
-        if (it is List<*>) {
-          if (it.size > 1) {
-            callback(
-                Result.failure(CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
-          } else {
-            callback(Result.success(Unit))
-          }
-        } else {
-          callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
-        }
-      }
+      callback(
+          Result.failure(
+              CameraXError(
+                  "new-instance-error",
+                  "Attempting to create a new Dart instance of SegmentedRecorder, but the class has a nonnull callback method.",
+                  "")))
     }
   }
 
-  @Suppress("FunctionName")
-  /** An implementation of [PigeonApiUseCase] used to access callback methods */
-  fun pigeon_getPigeonApiUseCase(): PigeonApiUseCase {
-    return pigeonRegistrar.getPigeonApiUseCase()
-  }
-}
+  /**
+   * Called when a segment is finalized, so it can be used while the following segments are
+   * recorded.
+   */
+  fun onSegmentFinalized(
+      pigeon_instanceArg: SegmentedRecorder,
+      segmentArg: io.flutter.plugins.camerax.SegmentedRecorder.Segment,
+      callback: (Result<Unit>) -> Unit
+  ) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName =
+        "dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onSegmentFinalized"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_instanceArg, segmentArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+      }
+    }
+  }
+
+  /**
+   * Called when the next segment could not be started.
+   *
+   * The recording ends, and the segment that was being rotated is the last one.
+   */
+  fun onRotationFailed(
+      pigeon_instanceArg: SegmentedRecorder,
+      messageArg: String,
+      callback: (Result<Unit>) -> Unit
+  ) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName = "dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onRotationFailed"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_instanceArg, messageArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+      }
+    }
+  }
+}
+/** A finalized segment of a [SegmentedRecorder] recording. */
+@Suppress("UNCHECKED_CAST")
+abstract class PigeonApiRecordedSegment(
+    open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar
+) {
+  /** The position of the segment in the recording, starting at 0. */
+  abstract fun index(pigeon_instance: io.flutter.plugins.camerax.SegmentedRecorder.Segment): Long
+
+  /** The path of the segment file. */
+  abstract fun path(pigeon_instance: io.flutter.plugins.camerax.SegmentedRecorder.Segment): String
+
+  /** The recorded duration of the segment, in nanoseconds. */
+  abstract fun durationNanos(
+      pigeon_instance: io.flutter.plugins.camerax.SegmentedRecorder.Segment
+  ): Long
+
+  /** The size of the segment file, in bytes. */
+  abstract fun sizeBytes(
+      pigeon_instance: io.flutter.plugins.camerax.SegmentedRecorder.Segment
+  ): Long
+
+  /** The `VideoRecordEvent.Finalize` error code of the segment, 0 if none. */
+  abstract fun error(pigeon_instance: io.flutter.plugins.camerax.SegmentedRecorder.Segment): Long
+
+  /** Whether this is the last segment of the recording. */
+  abstract fun isLast(
+      pigeon_instance: io.flutter.plugins.camerax.SegmentedRecorder.Segment
+  ): Boolean
+
+  @Suppress("LocalVariableName", "FunctionName")
+  /** Creates a Dart instance of RecordedSegment and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(
+      pigeon_instanceArg: io.flutter.plugins.camerax.SegmentedRecorder.Segment,
+      callback: (Result<Unit>) -> Unit
+  ) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+    } else if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
+      callback(Result.success(Unit))
+    } else {
+      val pigeon_identifierArg =
+          pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
+      val indexArg = index(pigeon_instanceArg)
+      val pathArg = path(pigeon_instanceArg)
+      val durationNanosArg = durationNanos(pigeon_instanceArg)
+      val sizeBytesArg = sizeBytes(pigeon_instanceArg)
+      val errorArg = error(pigeon_instanceArg)
+      val isLastArg = isLast(pigeon_instanceArg)
+      val binaryMessenger = pigeonRegistrar.binaryMessenger
+      val codec = pigeonRegistrar.codec
+      val channelName =
+          "dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance"
+      val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+      channel.send(
+          listOf(
+              pigeon_identifierArg,
+              indexArg,
+              pathArg,
+              durationNanosArg,
+              sizeBytesArg,
+              errorArg,
+              isLastArg)) {
+            if (it is List<*>) {
+              if (it.size > 1) {
+                callback(
+                    Result.failure(
+                        CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+              } else {
+                callback(Result.success(Unit))
+              }
+            } else {
+              callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+            }
+          }
+    }
+  }
+}
+/**
+ * A use case for taking a picture.
+ *
+ * See https://developer.android.com/reference/kotlin/androidx/camera/core/ImageCapture.
+ */
+@Suppress("UNCHECKED_CAST")
+abstract class PigeonApiImageCapture(
+    open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar
+) {
+  abstract fun pigeon_defaultConstructor(
+      resolutionSelector: androidx.camera.core.resolutionselector.ResolutionSelector?,
+      targetRotation: Long?,
+      flashMode: CameraXFlashMode?
+  ): androidx.camera.core.ImageCapture
+
+  abstract fun resolutionSelector(
+      pigeon_instance: androidx.camera.core.ImageCapture
+  ): androidx.camera.core.resolutionselector.ResolutionSelector?
+
+  /** Set the flash mode. */
+  abstract fun setFlashMode(
+      pigeon_instance: androidx.camera.core.ImageCapture,
+      flashMode: CameraXFlashMode
+  )
+
+  /** Captures a new still image for in memory access. */
+  abstract fun takePicture(
+      pigeon_instance: androidx.camera.core.ImageCapture,
+      callback: (Result<String>) -> Unit
+  )
+
+  /** Captures a new still image into memory, without saving it to a file. */
+  abstract fun takePictureToMemory(
+      pigeon_instance: androidx.camera.core.ImageCapture,
+      callback: (Result<InMemoryPicture>) -> Unit
+  )
+
+  /**
+   * Returns the count and the last, min, max and average latencies in nanoseconds of the pictures
+   * captured into memory, or -1 until a picture was captured.
+   */
+  abstract fun getCaptureMetrics(
+      pigeon_instance: androidx.camera.core.ImageCapture
+  ): Map<String, Long>
+
+  /** Sets the desired rotation of the output image. */
+  abstract fun setTargetRotation(pigeon_instance: androidx.camera.core.ImageCapture, rotation: Long)
+
+  companion object {
+    @Suppress("LocalVariableName")
+    fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiImageCapture?) {
+      val codec = api?.pigeonRegistrar?.codec ?: CameraXLibraryPigeonCodec()
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_defaultConstructor",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_identifierArg = args[0] as Long
+            val resolutionSelectorArg =
+                args[1] as androidx.camera.core.resolutionselector.ResolutionSelector?
+            val targetRotationArg = args[2] as Long?
+            val flashModeArg = args[3] as CameraXFlashMode?
+            val wrapped: List<Any?> =
+                try {
+                  api.pigeonRegistrar.instanceManager.addDartCreatedInstance(
+                      api.pigeon_defaultConstructor(
+                          resolutionSelectorArg, targetRotationArg, flashModeArg),
+                      pigeon_identifierArg)
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.setFlashMode",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
+            val flashModeArg = args[1] as CameraXFlashMode
+            val wrapped: List<Any?> =
+                try {
+                  api.setFlashMode(pigeon_instanceArg, flashModeArg)
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.takePicture",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
+            api.takePicture(pigeon_instanceArg) { result: Result<String> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(CameraXLibraryPigeonUtils.wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(CameraXLibraryPigeonUtils.wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.takePictureToMemory",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
+            api.takePictureToMemory(pigeon_instanceArg) { result: Result<InMemoryPicture> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(CameraXLibraryPigeonUtils.wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(CameraXLibraryPigeonUtils.wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.getCaptureMetrics",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
+            val wrapped: List<Any?> =
+                try {
+                  listOf(api.getCaptureMetrics(pigeon_instanceArg))
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageCapture.setTargetRotation",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageCapture
+            val rotationArg = args[1] as Long
+            val wrapped: List<Any?> =
+                try {
+                  api.setTargetRotation(pigeon_instanceArg, rotationArg)
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+    }
+  }
+
+  @Suppress("LocalVariableName", "FunctionName")
+  /** Creates a Dart instance of ImageCapture and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(
+      pigeon_instanceArg: androidx.camera.core.ImageCapture,
+      callback: (Result<Unit>) -> Unit
+  ) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+    } else if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
+      callback(Result.success(Unit))
+    } else {
+      val pigeon_identifierArg =
+          pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
+      val resolutionSelectorArg = resolutionSelector(pigeon_instanceArg)
+      val binaryMessenger = pigeonRegistrar.binaryMessenger
+      val codec = pigeonRegistrar.codec
+      val channelName = "dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance"
+      val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+      channel.send(listOf(pigeon_identifierArg, resolutionSelectorArg)) {
+        if (it is List<*>) {
+          if (it.size > 1) {
+            callback(
+                Result.failure(CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+          } else {
+            callback(Result.success(Unit))
+          }
+        } else {
+          callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+        }
+      }
+    }
+  }
+
+  @Suppress("FunctionName")
+  /** An implementation of [PigeonApiUseCase] used to access callback methods */
+  fun pigeon_getPigeonApiUseCase(): PigeonApiUseCase {
+    return pigeonRegistrar.getPigeonApiUseCase()
+  }
+}
+/** A still image captured into memory by [ImageCapture.takePictureToMemory]. */
+@Suppress("UNCHECKED_CAST")
+abstract class PigeonApiInMemoryPicture(
+    open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar
+) {
+  /** The encoded JPEG bytes of the picture. */
+  abstract fun bytes(pigeon_instance: InMemoryPicture): ByteArray
+
+  /** The width of the picture. */
+  abstract fun width(pigeon_instance: InMemoryPicture): Long
+
+  /** The height of the picture. */
+  abstract fun height(pigeon_instance: InMemoryPicture): Long
+
+  /** The rotation that makes the picture upright, in degrees. */
+  abstract fun rotationDegrees(pigeon_instance: InMemoryPicture): Long
+
+  /** The time between requesting the picture and receiving it, in nanoseconds. */
+  abstract fun captureLatencyNanos(pigeon_instance: InMemoryPicture): Long
+
+  @Suppress("LocalVariableName", "FunctionName")
+  /** Creates a Dart instance of InMemoryPicture and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(pigeon_instanceArg: InMemoryPicture, callback: (Result<Unit>) -> Unit) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+    } else if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
+      callback(Result.success(Unit))
+    } else {
+      val pigeon_identifierArg =
+          pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
+      val bytesArg = bytes(pigeon_instanceArg)
+      val widthArg = width(pigeon_instanceArg)
+      val heightArg = height(pigeon_instanceArg)
+      val rotationDegreesArg = rotationDegrees(pigeon_instanceArg)
+      val captureLatencyNanosArg = captureLatencyNanos(pigeon_instanceArg)
+      val binaryMessenger = pigeonRegistrar.binaryMessenger
+      val codec = pigeonRegistrar.codec
+      val channelName =
+          "dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance"
+      val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+      channel.send(
+          listOf(
+              pigeon_identifierArg,
+              bytesArg,
+              widthArg,
+              heightArg,
+              rotationDegreesArg,
+              captureLatencyNanosArg)) {
+            if (it is List<*>) {
+              if (it.size > 1) {
+                callback(
+                    Result.failure(
+                        CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+              } else {
+                callback(Result.success(Unit))
+              }
+            } else {
+              callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+            }
+          }
+    }
+  }
+}
 /**
  * The resolution strategy defines the resolution selection sequence to select the best size.
  *
@@ -4823,6 +5474,15 @@ abstract class PigeonApiImageAnalysis(
       analyzer: androidx.camera.core.ImageAnalysis.Analyzer
   )
 
+  /**
+   * Sets an analyzer that sends each image to Dart as a single frame, analyzed on a background
+   * thread.
+   */
+  abstract fun setFrameAnalyzer(
+      pigeon_instance: androidx.camera.core.ImageAnalysis,
+      analyzer: ImageFrameAnalyzer
+  )
+
   /** Removes a previously set analyzer. */
   abstract fun clearAnalyzer(pigeon_instance: androidx.camera.core.ImageAnalysis)
 
@@ -4890,6 +5550,30 @@ abstract class PigeonApiImageAnalysis(
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageAnalysis.setFrameAnalyzer",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as androidx.camera.core.ImageAnalysis
+            val analyzerArg = args[1] as ImageFrameAnalyzer
+            val wrapped: List<Any?> =
+                try {
+                  api.setFrameAnalyzer(pigeon_instanceArg, analyzerArg)
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
       run {
         val channel =
             BasicMessageChannel<Any?>(
@@ -5072,6 +5756,122 @@ abstract class PigeonApiAnalyzer(open val pigeonRegistrar: CameraXLibraryPigeonP
     }
   }
 }
+/**
+ * Analyzer that copies each image into a single frame and sends it to Dart.
+ *
+ * Images are analyzed on a background thread, and images analyzed while the previous frame is
+ * still being sent are dropped.
+ */
+@Suppress("UNCHECKED_CAST")
+abstract class PigeonApiImageFrameAnalyzer(
+    open val pigeonRegistrar: CameraXLibraryPigeonProxyApiRegistrar
+) {
+  abstract fun pigeon_defaultConstructor(): ImageFrameAnalyzer
+
+  /** The number of images dropped because the previous frame was still being sent. */
+  abstract fun getDroppedFrameCount(pigeon_instance: ImageFrameAnalyzer): Long
+
+  companion object {
+    @Suppress("LocalVariableName")
+    fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiImageFrameAnalyzer?) {
+      val codec = api?.pigeonRegistrar?.codec ?: CameraXLibraryPigeonCodec()
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.pigeon_defaultConstructor",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_identifierArg = args[0] as Long
+            val wrapped: List<Any?> =
+                try {
+                  api.pigeonRegistrar.instanceManager.addDartCreatedInstance(
+                      api.pigeon_defaultConstructor(), pigeon_identifierArg)
+                  listOf(null)
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel =
+            BasicMessageChannel<Any?>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.getDroppedFrameCount",
+                codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as ImageFrameAnalyzer
+            val wrapped: List<Any?> =
+                try {
+                  listOf(api.getDroppedFrameCount(pigeon_instanceArg))
+                } catch (exception: Throwable) {
+                  CameraXLibraryPigeonUtils.wrapError(exception)
+                }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+    }
+  }
+
+  @Suppress("LocalVariableName", "FunctionName")
+  /** Creates a Dart instance of ImageFrameAnalyzer and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(pigeon_instanceArg: ImageFrameAnalyzer, callback: (Result<Unit>) -> Unit) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+    } else if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
+      callback(Result.success(Unit))
+    } else {
+      callback(
+          Result.failure(
+              CameraXError(
+                  "new-instance-error",
+                  "Attempting to create a new Dart instance of ImageFrameAnalyzer, but the class has a nonnull callback method.",
+                  "")))
+    }
+  }
+
+  /** Receives the planes and metadata of an image, copied into a single frame. */
+  fun onFrame(
+      pigeon_instanceArg: ImageFrameAnalyzer,
+      frameArg: ByteArray,
+      callback: (Result<Unit>) -> Unit
+  ) {
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              CameraXError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName = "dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.onFrame"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_instanceArg, frameArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(CameraXError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(CameraXLibraryPigeonUtils.createConnectionError(channelName)))
+      }
+    }
+  }
+}
 /**
  * Error that the camera has encountered.
  *
@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Latencies between requesting a still capture and receiving its callback.
+ *
+ * <p>Captures complete on the capture executor and are read on the platform thread, so all methods
+ * are synchronized. Durations are in nanoseconds, or -1 until a capture has completed.
+ */
+class CaptureLatencyTracker {
+  private long captureCount;
+  private long lastLatencyNanos = -1;
+  private long minLatencyNanos = -1;
+  private long maxLatencyNanos = -1;
+  private long totalLatencyNanos;
+
+  /**
+   * Records a completed capture.
+   *
+   * @param requestedNanos is the {@link System#nanoTime} at which the capture was requested.
+   * @return the latency of the capture.
+   */
+  synchronized long onCaptureCompleted(long requestedNanos) {
+    final long latencyNanos = System.nanoTime() - requestedNanos;
+    captureCount++;
+    lastLatencyNanos = latencyNanos;
+    minLatencyNanos = minLatencyNanos < 0 ? latencyNanos : Math.min(minLatencyNanos, latencyNanos);
+    maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+    totalLatencyNanos += latencyNanos;
+    return latencyNanos;
+  }
+
+  /** Returns the number of completed captures. */
+  synchronized long getCaptureCount() {
+    return captureCount;
+  }
+
+  /** Returns the latency of the last completed capture. */
+  synchronized long getLastLatencyNanos() {
+    return lastLatencyNanos;
+  }
+
+  /** Returns the average latency of all completed captures. */
+  synchronized long getAverageLatencyNanos() {
+    return captureCount == 0 ? -1 : totalLatencyNanos / captureCount;
+  }
+
+  /** Returns the latencies as a message for Dart. */
+  @NonNull
+  synchronized Map<String, Long> toMap() {
+    final Map<String, Long> metrics = new HashMap<>();
+    metrics.put("captureCount", captureCount);
+    metrics.put("lastLatencyNanos", lastLatencyNanos);
+    metrics.put("minLatencyNanos", minLatencyNanos);
+    metrics.put("maxLatencyNanos", maxLatencyNanos);
+    metrics.put("averageLatencyNanos", getAverageLatencyNanos());
+    return metrics;
+  }
+}
@@ -16,8 +16,6 @@ import androidx.core.content.ContextCompat;
  * native class or an instance of that class.
  */
 class ImageAnalysisProxyApi extends PigeonApiImageAnalysis {
-  static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL_FOR_IMAGE_ANALYSIS = 1000;
-
   @NonNull
   @Override
   public ImageAnalysis pigeon_defaultConstructor(
@@ -51,21 +49,23 @@ class ImageAnalysisProxyApi extends PigeonApiImageAnalysis {
 
   @Override
   public void setAnalyzer(ImageAnalysis pigeonInstance, @NonNull ImageAnalysis.Analyzer analyzer) {
-    getPigeonRegistrar()
-        .getInstanceManager()
-        .setClearFinalizedWeakReferencesInterval(
-            CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL_FOR_IMAGE_ANALYSIS);
+    // Instances created for each frame are released as soon as they are garbage collected by the
+    // InstanceReleaseMonitor of the registrar, so the clean up interval is left unchanged.
     pigeonInstance.setAnalyzer(
         ContextCompat.getMainExecutor(getPigeonRegistrar().getContext()), analyzer);
   }
 
+  @Override
+  public void setFrameAnalyzer(
+      @NonNull ImageAnalysis pigeonInstance, @NonNull ImageFrameAnalyzer analyzer) {
+    analyzer.setConvertsToNv21(
+        pigeonInstance.getOutputImageFormat() == ImageAnalysis.OUTPUT_IMAGE_FORMAT_NV21);
+    pigeonInstance.setAnalyzer(ImageFrameAnalyzer.getAnalysisExecutor(), analyzer);
+  }
+
   @Override
   public void clearAnalyzer(ImageAnalysis pigeonInstance) {
     pigeonInstance.clearAnalyzer();
-    getPigeonRegistrar()
-        .getInstanceManager()
-        .setClearFinalizedWeakReferencesInterval(
-            getPigeonRegistrar().getDefaultClearFinalizedWeakReferencesInterval());
   }
 
   @Override
@@ -0,0 +1,46 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executor shared by all still captures to run their callbacks.
+ *
+ * <p>The executor has a single thread that is stopped after a few seconds without captures, so
+ * rapid shooting reuses one thread and an idle plugin holds none. At most {@link #MAX_QUEUED_TASKS}
+ * callbacks wait for the thread; further callbacks run on the thread that submits them.
+ */
+final class ImageCaptureExecutor {
+  static final int MAX_QUEUED_TASKS = 16;
+  private static final long KEEP_ALIVE_SECONDS = 5;
+
+  @Nullable private static ThreadPoolExecutor executor;
+
+  private ImageCaptureExecutor() {}
+
+  /** Gets the shared capture executor. */
+  @NonNull
+  static synchronized Executor get() {
+    if (executor == null) {
+      executor =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(MAX_QUEUED_TASKS),
+              runnable -> new Thread(runnable, "CameraXImageCapture"),
+              new ThreadPoolExecutor.CallerRunsPolicy());
+      executor.allowCoreThreadTimeOut(true);
+    }
+    return executor;
+  }
+}
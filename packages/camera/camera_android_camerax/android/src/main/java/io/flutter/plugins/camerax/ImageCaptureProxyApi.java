@@ -4,14 +4,17 @@
 
 package io.flutter.plugins.camerax;
 
+import android.graphics.ImageFormat;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.camera.core.ImageCapture;
 import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageProxy;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import java.io.File;
 import java.io.IOException;
-import java.util.concurrent.Executors;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import kotlin.Result;
 import kotlin.Unit;
 import kotlin.jvm.functions.Function1;
@@ -100,8 +103,21 @@ class ImageCaptureProxyApi extends PigeonApiImageCapture {
     final ImageCapture.OnImageSavedCallback onImageSavedCallback =
         createOnImageSavedCallback(temporaryCaptureFile, callback);
 
+    pigeonInstance.takePicture(outputFileOptions, ImageCaptureExecutor.get(), onImageSavedCallback);
+  }
+
+  @Override
+  public void takePictureToMemory(
+      @NonNull ImageCapture pigeonInstance,
+      @NonNull Function1<? super Result<InMemoryPicture>, Unit> callback) {
     pigeonInstance.takePicture(
-        outputFileOptions, Executors.newSingleThreadExecutor(), onImageSavedCallback);
+        ImageCaptureExecutor.get(), createOnImageCapturedCallback(System.nanoTime(), callback));
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getCaptureMetrics(@NonNull ImageCapture pigeonInstance) {
+    return getPigeonRegistrar().getCaptureLatencyTracker().toMap();
   }
 
   @Override
@@ -134,4 +150,49 @@ class ImageCaptureProxyApi extends PigeonApiImageCapture {
       }
     };
   }
+
+  @NonNull
+  ImageCapture.OnImageCapturedCallback createOnImageCapturedCallback(
+      long requestedNanos, @NonNull Function1<? super Result<InMemoryPicture>, Unit> callback) {
+    return new ImageCapture.OnImageCapturedCallback() {
+      @Override
+      public void onCaptureSuccess(@NonNull ImageProxy image) {
+        final long latencyNanos =
+            getPigeonRegistrar().getCaptureLatencyTracker().onCaptureCompleted(requestedNanos);
+        final InMemoryPicture picture;
+        try {
+          if (image.getFormat() != ImageFormat.JPEG) {
+            ResultCompat.failure(
+                new IllegalStateException(
+                    "Expected a JPEG image, got format " + image.getFormat()),
+                callback);
+            return;
+          }
+          picture = toInMemoryPicture(image, latencyNanos);
+        } finally {
+          image.close();
+        }
+        ResultCompat.success(picture, callback);
+      }
+
+      @Override
+      public void onError(@NonNull ImageCaptureException exception) {
+        ResultCompat.failure(exception, callback);
+      }
+    };
+  }
+
+  @NonNull
+  private static InMemoryPicture toInMemoryPicture(@NonNull ImageProxy image, long latencyNanos) {
+    // The single plane of a JPEG image holds the encoded bytes.
+    final ByteBuffer buffer = image.getPlanes()[0].getBuffer().duplicate();
+    final byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return new InMemoryPicture(
+        bytes,
+        image.getWidth(),
+        image.getHeight(),
+        image.getImageInfo().getRotationDegrees(),
+        latencyNanos);
+  }
 }
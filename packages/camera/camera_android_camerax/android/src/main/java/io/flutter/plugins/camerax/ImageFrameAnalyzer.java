@@ -0,0 +1,221 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.camera.core.ImageAnalysis.Analyzer;
+import androidx.camera.core.ImageProxy;
+import androidx.camera.core.ImageProxy.PlaneProxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Implementation of {@link Analyzer} that sends every analyzed image to Dart as a single message.
+ *
+ * <p>Unlike {@link AnalyzerProxyApi.AnalyzerImpl}, this analyzer runs on {@link
+ * #getAnalysisExecutor()}, a background thread. The planes and metadata of each image are copied
+ * into one little-endian byte array and the {@link ImageProxy} is closed immediately, so CameraX
+ * can produce the next image while the frame is delivered on the main thread. The frame is laid
+ * out as follows:
+ *
+ * <pre>
+ *   int32 width, int32 height, int32 format, int32 rotationDegrees, int64 timestampNanos,
+ *   int32 planeCount,
+ *   planeCount * (int32 bytesPerRow, int32 bytesPerPixel, int32 length),
+ *   the bytes of each plane, in order.
+ * </pre>
+ *
+ * <p>When converting to NV21, the YUV_420_888 planes are sent as a single NV21 plane instead.
+ *
+ * <p>At most one frame is in flight to the main thread at a time. Images analyzed while a frame is
+ * still pending are closed without being sent and counted as dropped.
+ */
+public abstract class ImageFrameAnalyzer implements Analyzer {
+  private static final int HEADER_SIZE = 5 * Integer.BYTES + Long.BYTES;
+  private static final int PLANE_HEADER_SIZE = 3 * Integer.BYTES;
+
+  @Nullable private static Executor sharedAnalysisExecutor;
+
+  @NonNull private final ProxyApiRegistrar pigeonRegistrar;
+  private volatile boolean convertsToNv21;
+  // Only used on the analysis thread.
+  @Nullable private byte[] nv21Buffer;
+
+  // Guarded by this. The frame waiting to be sent on the main thread, and the array of the last
+  // sent frame that can be reused for the next one.
+  @Nullable private byte[] pendingFrame;
+  @Nullable private byte[] recycledFrame;
+  private long droppedFrameCount;
+
+  protected ImageFrameAnalyzer(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    this.pigeonRegistrar = pigeonRegistrar;
+  }
+
+  /**
+   * Receives a frame on the main thread.
+   *
+   * <p>The array is reused for a later frame once this returns, so it must be copied or encoded
+   * synchronously.
+   */
+  abstract void onFrame(@NonNull byte[] frame);
+
+  /** Sets whether YUV_420_888 images are converted to NV21 before being sent. */
+  void setConvertsToNv21(boolean convertsToNv21) {
+    this.convertsToNv21 = convertsToNv21;
+  }
+
+  @Override
+  public void analyze(@NonNull ImageProxy image) {
+    final byte[] reusableFrame;
+    synchronized (this) {
+      if (pendingFrame != null) {
+        droppedFrameCount++;
+        image.close();
+        return;
+      }
+      reusableFrame = recycledFrame;
+      recycledFrame = null;
+    }
+
+    final byte[] frame;
+    try {
+      final PlaneProxy[] planes = image.getPlanes();
+      if (convertsToNv21 && planes.length == 3) {
+        nv21Buffer =
+            ImageProxyUtils.planesToNV21(
+                Arrays.asList(planes), image.getWidth(), image.getHeight(), nv21Buffer);
+        frame = serialize(image, nv21Buffer, reusableFrame);
+      } else {
+        frame = serialize(image, reusableFrame);
+      }
+    } finally {
+      image.close();
+    }
+
+    synchronized (this) {
+      pendingFrame = frame;
+    }
+    pigeonRegistrar.runOnMainThread(
+        new ProxyApiRegistrar.FlutterMethodRunnable() {
+          @Override
+          public void run() {
+            sendPendingFrame();
+          }
+        });
+  }
+
+  /** Returns the number of images discarded because the previous frame was still pending. */
+  synchronized long getDroppedFrameCount() {
+    return droppedFrameCount;
+  }
+
+  private void sendPendingFrame() {
+    final byte[] frame;
+    synchronized (this) {
+      frame = pendingFrame;
+      if (frame == null) {
+        return;
+      }
+    }
+
+    onFrame(frame);
+
+    synchronized (this) {
+      pendingFrame = null;
+      recycledFrame = frame;
+    }
+  }
+
+  /**
+   * Returns the executor that frame analyzers are run on, a single background thread shared by all
+   * of them.
+   */
+  @NonNull
+  static synchronized Executor getAnalysisExecutor() {
+    if (sharedAnalysisExecutor == null) {
+      sharedAnalysisExecutor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                final Thread thread = new Thread(runnable, "ImageFrameAnalysis");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return sharedAnalysisExecutor;
+  }
+
+  /**
+   * Copies the planes and metadata of an image into a frame message.
+   *
+   * @param image is the image to copy. It is not closed.
+   * @param reusableFrame is the array of a previously sent frame, used if it has the right size.
+   */
+  @VisibleForTesting
+  @NonNull
+  static byte[] serialize(@NonNull ImageProxy image, @Nullable byte[] reusableFrame) {
+    final PlaneProxy[] planes = image.getPlanes();
+
+    int size = HEADER_SIZE + planes.length * PLANE_HEADER_SIZE;
+    for (PlaneProxy plane : planes) {
+      size += plane.getBuffer().remaining();
+    }
+
+    final byte[] frame =
+        reusableFrame != null && reusableFrame.length == size ? reusableFrame : new byte[size];
+    final ByteBuffer output = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    writeHeader(output, image, planes.length);
+    for (PlaneProxy plane : planes) {
+      output.putInt(plane.getRowStride());
+      output.putInt(plane.getPixelStride());
+      output.putInt(plane.getBuffer().remaining());
+    }
+    for (PlaneProxy plane : planes) {
+      // Duplicate the buffer so that its position is left untouched.
+      output.put(plane.getBuffer().duplicate());
+    }
+
+    return frame;
+  }
+
+  /**
+   * Copies an image converted to NV21 and the metadata of the image into a frame message, as a
+   * single plane.
+   *
+   * @param image is the image that was converted. It is not closed.
+   * @param nv21 is the NV21 data of the image.
+   * @param reusableFrame is the array of a previously sent frame, used if it has the right size.
+   */
+  @VisibleForTesting
+  @NonNull
+  static byte[] serialize(
+      @NonNull ImageProxy image, @NonNull byte[] nv21, @Nullable byte[] reusableFrame) {
+    final int size = HEADER_SIZE + PLANE_HEADER_SIZE + nv21.length;
+    final byte[] frame =
+        reusableFrame != null && reusableFrame.length == size ? reusableFrame : new byte[size];
+    final ByteBuffer output = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    writeHeader(output, image, 1);
+    output.putInt(image.getWidth());
+    output.putInt(1);
+    output.putInt(nv21.length);
+    output.put(nv21);
+
+    return frame;
+  }
+
+  private static void writeHeader(
+      @NonNull ByteBuffer output, @NonNull ImageProxy image, int planeCount) {
+    output.putInt(image.getWidth());
+    output.putInt(image.getHeight());
+    output.putInt(image.getFormat());
+    output.putInt(image.getImageInfo().getRotationDegrees());
+    output.putLong(image.getImageInfo().getTimestamp());
+    output.putInt(planeCount);
+  }
+}
@@ -0,0 +1,70 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import java.util.Objects;
+
+/**
+ * ProxyApi implementation for {@link ImageFrameAnalyzer}. This class may handle instantiating
+ * native object instances that are attached to a Dart instance or handle method calls on the
+ * associated native class or an instance of that class.
+ */
+class ImageFrameAnalyzerProxyApi extends PigeonApiImageFrameAnalyzer {
+  ImageFrameAnalyzerProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    super(pigeonRegistrar);
+  }
+
+  @NonNull
+  @Override
+  public ProxyApiRegistrar getPigeonRegistrar() {
+    return (ProxyApiRegistrar) super.getPigeonRegistrar();
+  }
+
+  /**
+   * Implementation of {@link ImageFrameAnalyzer} that passes arguments of callback methods to Dart.
+   */
+  static class ImageFrameAnalyzerImpl extends ImageFrameAnalyzer {
+    final ImageFrameAnalyzerProxyApi api;
+
+    ImageFrameAnalyzerImpl(@NonNull ImageFrameAnalyzerProxyApi api) {
+      super(api.getPigeonRegistrar());
+      this.api = api;
+    }
+
+    @Override
+    void onFrame(@NonNull byte[] frame) {
+      // Already on the main thread, and the frame is encoded before the call to Dart returns.
+      new ProxyApiRegistrar.FlutterMethodRunnable() {
+        @Override
+        public void run() {
+          api.onFrame(
+              ImageFrameAnalyzerImpl.this,
+              frame,
+              ResultCompat.asCompatCallback(
+                  result -> {
+                    if (result.isFailure()) {
+                      onFailure(
+                          "ImageFrameAnalyzer.onFrame",
+                          Objects.requireNonNull(result.exceptionOrNull()));
+                    }
+                    return null;
+                  }));
+        }
+      }.run();
+    }
+  }
+
+  @NonNull
+  @Override
+  public ImageFrameAnalyzer pigeon_defaultConstructor() {
+    return new ImageFrameAnalyzerImpl(this);
+  }
+
+  @Override
+  public long getDroppedFrameCount(@NonNull ImageFrameAnalyzer pigeonInstance) {
+    return pigeonInstance.getDroppedFrameCount();
+  }
+}
@@ -20,6 +20,12 @@ class ImageProxyProxyApi extends PigeonApiImageProxy {
     super(pigeonRegistrar);
   }
 
+  @NonNull
+  @Override
+  public ProxyApiRegistrar getPigeonRegistrar() {
+    return (ProxyApiRegistrar) super.getPigeonRegistrar();
+  }
+
   @Override
   public long format(ImageProxy pigeonInstance) {
     return pigeonInstance.getFormat();
@@ -38,7 +44,11 @@ class ImageProxyProxyApi extends PigeonApiImageProxy {
   @NonNull
   @Override
   public List<PlaneProxy> getPlanes(ImageProxy pigeonInstance) {
-    return Arrays.asList(pigeonInstance.getPlanes());
+    final PlaneProxy[] planes = pigeonInstance.getPlanes();
+    for (PlaneProxy plane : planes) {
+      getPigeonRegistrar().getInstanceReleaseMonitor().track(plane, "PlaneProxy");
+    }
+    return Arrays.asList(planes);
   }
 
   @Override
@@ -5,6 +5,7 @@
 package io.flutter.plugins.camerax;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.camera.core.ImageProxy.PlaneProxy;
 import java.nio.ByteBuffer;
 import java.util.List;
@@ -13,35 +14,37 @@ import java.util.List;
 public class ImageProxyUtils {
 
   /**
-   * Converts list of {@link PlaneProxy}s in YUV_420_888 format (with VU planes in NV21 layout) to a
-   * single NV21 {@code ByteBuffer}.
+   * Converts list of {@link PlaneProxy}s in YUV_420_888 format to a single NV21 {@code ByteBuffer}.
+   *
+   * <p>The U and V planes may be interleaved, planar or row-padded. See {@link Nv21Converter}.
    */
   @NonNull
   public static ByteBuffer planesToNV21(@NonNull List<PlaneProxy> planes, int width, int height) {
-    if (!areUVPlanesNV21(planes, width, height)) {
-      throw new IllegalArgumentException(
-          "Provided UV planes are not in NV21 layout and thus cannot be converted.");
-    }
-
-    int imageSize = width * height;
-    int nv21Size = imageSize + 2 * (imageSize / 4);
-    byte[] nv21Bytes = new byte[nv21Size];
-
-    // Copy Y plane.
-    ByteBuffer yBuffer = planes.get(0).getBuffer();
-    yBuffer.rewind();
-    yBuffer.get(nv21Bytes, 0, imageSize);
-
-    // Copy interleaved VU plane (NV21 layout).
-    ByteBuffer vBuffer = planes.get(2).getBuffer();
-    ByteBuffer uBuffer = planes.get(1).getBuffer();
-
-    vBuffer.rewind();
-    uBuffer.rewind();
-    vBuffer.get(nv21Bytes, imageSize, 1);
-    uBuffer.get(nv21Bytes, imageSize + 1, 2 * imageSize / 4 - 1);
+    return ByteBuffer.wrap(planesToNV21(planes, width, height, null));
+  }
 
-    return ByteBuffer.wrap(nv21Bytes);
+  /**
+   * Converts list of {@link PlaneProxy}s in YUV_420_888 format to NV21, writing into {@code
+   * output} when it has the size of the converted image.
+   *
+   * @return the array the image was written to.
+   */
+  @NonNull
+  public static byte[] planesToNV21(
+      @NonNull List<PlaneProxy> planes, int width, int height, @Nullable byte[] output) {
+    final PlaneProxy yPlane = planes.get(0);
+    final PlaneProxy uPlane = planes.get(1);
+    final PlaneProxy vPlane = planes.get(2);
+    return Nv21Converter.convert(
+        yPlane.getBuffer(),
+        yPlane.getRowStride(),
+        uPlane.getBuffer(),
+        vPlane.getBuffer(),
+        uPlane.getRowStride(),
+        uPlane.getPixelStride(),
+        width,
+        height,
+        output);
   }
 
   public static boolean areUVPlanesNV21(@NonNull List<PlaneProxy> planes, int width, int height) {
@@ -5,8 +5,8 @@
 package io.flutter.plugins.camerax;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.camera.core.ImageProxy.PlaneProxy;
-import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -15,6 +15,10 @@ import java.util.List;
  * native class or an instance of that class.
  */
 public class ImageProxyUtilsProxyApi extends PigeonApiImageProxyUtils {
+  // The array of the last converted image. The reply to Dart is encoded as soon as getNv21Buffer
+  // returns, so the array can be reused for the next image of the same size.
+  @Nullable private byte[] nv21Bytes;
+
   ImageProxyUtilsProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
     super(pigeonRegistrar);
   }
@@ -25,13 +29,9 @@ public class ImageProxyUtilsProxyApi extends PigeonApiImageProxyUtils {
   @Override
   public byte[] getNv21Buffer(
       long imageWidth, long imageHeight, @NonNull List<? extends PlaneProxy> planes) {
-    final ByteBuffer nv21Buffer =
+    nv21Bytes =
         ImageProxyUtils.planesToNV21(
-            (List<PlaneProxy>) planes, (int) imageWidth, (int) imageHeight);
-
-    byte[] bytes = new byte[nv21Buffer.remaining()];
-    nv21Buffer.get(bytes, 0, bytes.length);
-
-    return bytes;
+            (List<PlaneProxy>) planes, (int) imageWidth, (int) imageHeight, nv21Bytes);
+    return nv21Bytes;
   }
 }
@@ -0,0 +1,52 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A still image captured into memory with {@link ImageCaptureProxyApi#takePictureToMemory}, instead
+ * of being saved to a temporary file like {@link ImageCaptureProxyApi#takePicture}.
+ */
+public final class InMemoryPicture {
+  @NonNull private final byte[] bytes;
+  private final int width;
+  private final int height;
+  private final int rotationDegrees;
+  private final long captureLatencyNanos;
+
+  InMemoryPicture(
+      @NonNull byte[] bytes, int width, int height, int rotationDegrees, long captureLatencyNanos) {
+    this.bytes = bytes;
+    this.width = width;
+    this.height = height;
+    this.rotationDegrees = rotationDegrees;
+    this.captureLatencyNanos = captureLatencyNanos;
+  }
+
+  /** Returns the encoded JPEG bytes of the picture. */
+  @NonNull
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  /** Returns the rotation that makes the picture upright, in degrees. */
+  public int getRotationDegrees() {
+    return rotationDegrees;
+  }
+
+  /** Returns the time between requesting the picture and receiving it, in nanoseconds. */
+  public long getCaptureLatencyNanos() {
+    return captureLatencyNanos;
+  }
+}
@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+
+/**
+ * ProxyApi implementation for {@link InMemoryPicture}.
+ *
+ * <p>This class may handle instantiating native object instances that are attached to a Dart
+ * instance or handle method calls on the associated native class or an instance of that class.
+ */
+class InMemoryPictureProxyApi extends PigeonApiInMemoryPicture {
+  InMemoryPictureProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    super(pigeonRegistrar);
+  }
+
+  @NonNull
+  @Override
+  public byte[] bytes(@NonNull InMemoryPicture pigeonInstance) {
+    return pigeonInstance.getBytes();
+  }
+
+  @Override
+  public long width(@NonNull InMemoryPicture pigeonInstance) {
+    return pigeonInstance.getWidth();
+  }
+
+  @Override
+  public long height(@NonNull InMemoryPicture pigeonInstance) {
+    return pigeonInstance.getHeight();
+  }
+
+  @Override
+  public long rotationDegrees(@NonNull InMemoryPicture pigeonInstance) {
+    return pigeonInstance.getRotationDegrees();
+  }
+
+  @Override
+  public long captureLatencyNanos(@NonNull InMemoryPicture pigeonInstance) {
+    return pigeonInstance.getCaptureLatencyNanos();
+  }
+}
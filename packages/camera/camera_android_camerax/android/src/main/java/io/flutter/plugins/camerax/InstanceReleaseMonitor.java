@@ -0,0 +1,169 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Releases garbage collected per-frame instances from the instance manager as soon as the garbage
+ * collector finds them, instead of waiting for the next periodic clean up.
+ *
+ * <p>Instances created for every analyzed frame, such as {@code ImageProxy} and {@code PlaneProxy},
+ * are tracked with weak references registered to a reference queue. A background thread blocks on
+ * the queue, and once a batch of tracked instances is collected, requests the instance manager to
+ * release all of its finalized instances with a single task on the main thread. The weak
+ * references of the instance manager to the same instances are cleared at the same time as the
+ * tracked ones, so they are released in that batch.
+ *
+ * <p>The number of live tracked instances is kept per type, so the memory held by per-frame
+ * instances can be observed.
+ */
+class InstanceReleaseMonitor {
+  /**
+   * Requests the instance manager to release its finalized instances.
+   *
+   * <p>The release must call {@link #onReleased} before releasing instances.
+   */
+  interface ReleaseRequester {
+    void requestRelease();
+  }
+
+  private static class TrackedReference extends WeakReference<Object> {
+    @NonNull final String typeName;
+
+    TrackedReference(
+        @NonNull Object instance,
+        @NonNull String typeName,
+        @NonNull ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.typeName = typeName;
+    }
+  }
+
+  @NonNull private final ReleaseRequester releaseRequester;
+  @NonNull private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+
+  // Guarded by this. The references must stay reachable to be enqueued.
+  @NonNull private final Set<TrackedReference> trackedReferences = new HashSet<>();
+  @NonNull private final Map<String, Long> liveInstanceCounts = new HashMap<>();
+  private long releaseRequestCount;
+  private boolean isReleasePending;
+  @Nullable private Thread releaseThread;
+  private boolean isStopped;
+
+  InstanceReleaseMonitor(@NonNull ReleaseRequester releaseRequester) {
+    this.releaseRequester = releaseRequester;
+  }
+
+  /**
+   * Tracks an instance until it is garbage collected.
+   *
+   * @param typeName is the name its live instances are counted under.
+   */
+  synchronized void track(@NonNull Object instance, @NonNull String typeName) {
+    if (isStopped) {
+      return;
+    }
+    trackedReferences.add(new TrackedReference(instance, typeName, referenceQueue));
+    final Long count = liveInstanceCounts.get(typeName);
+    liveInstanceCounts.put(typeName, count == null ? 1 : count + 1);
+
+    if (releaseThread == null) {
+      releaseThread = startReleaseThread();
+    }
+  }
+
+  /** Returns the number of tracked instances that were not garbage collected yet, per type. */
+  @NonNull
+  synchronized Map<String, Long> getLiveInstanceCounts() {
+    return new HashMap<>(liveInstanceCounts);
+  }
+
+  /** Returns how many releases were requested for batches of collected instances. */
+  synchronized long getReleaseRequestCount() {
+    return releaseRequestCount;
+  }
+
+  /** Marks the requested release as started, so collections from now on request a new one. */
+  synchronized void onReleased() {
+    isReleasePending = false;
+  }
+
+  /** Stops tracking instances. */
+  synchronized void stop() {
+    isStopped = true;
+    if (releaseThread != null) {
+      releaseThread.interrupt();
+      releaseThread = null;
+    }
+    trackedReferences.clear();
+    liveInstanceCounts.clear();
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Thread startReleaseThread() {
+    final Thread thread = new Thread(this::awaitCollectedInstances, "CameraXInstanceRelease");
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  @VisibleForTesting
+  @NonNull
+  synchronized List<Reference<?>> getTrackedReferences() {
+    return new ArrayList<>(trackedReferences);
+  }
+
+  private void awaitCollectedInstances() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        onCollected(referenceQueue.remove());
+      }
+    } catch (InterruptedException e) {
+      // The monitor was stopped.
+    }
+  }
+
+  /**
+   * Removes a collected reference, and any other already enqueued, then requests a release unless
+   * one is already pending.
+   */
+  @VisibleForTesting
+  void onCollected(@NonNull Reference<?> firstReference) {
+    synchronized (this) {
+      Reference<?> reference = firstReference;
+      while (reference != null) {
+        if (reference instanceof TrackedReference && trackedReferences.remove(reference)) {
+          final String typeName = ((TrackedReference) reference).typeName;
+          final Long count = liveInstanceCounts.get(typeName);
+          if (count != null && count > 1) {
+            liveInstanceCounts.put(typeName, count - 1);
+          } else {
+            liveInstanceCounts.remove(typeName);
+          }
+        }
+        reference = referenceQueue.poll();
+      }
+      if (isStopped || isReleasePending) {
+        return;
+      }
+      isReleasePending = true;
+      releaseRequestCount++;
+    }
+    releaseRequester.requestRelease();
+  }
+}
@@ -0,0 +1,172 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the planes of a YUV_420_888 image to NV21, whatever the layout of its chroma planes.
+ *
+ * <p>YUV_420_888 allows the U and V planes to be interleaved (pixel stride 2), planar (pixel
+ * stride 1), and to have rows padded beyond the width of the image. Interleaved planes that already
+ * alias each other in VU order are copied row by row; the samples of any other layout are
+ * interleaved row by row. Either way, the image is written straight into the output array, which
+ * can be reused from one image to the next.
+ *
+ * <p>A row or pixel stride of 0 or less is treated as unknown, and the plane as tightly packed.
+ */
+final class Nv21Converter {
+  private Nv21Converter() {}
+
+  /** Returns the size of an NV21 image of the given dimensions. */
+  static int getNv21Size(int width, int height) {
+    return width * height + 2 * chromaSize(width) * chromaSize(height);
+  }
+
+  /**
+   * Converts planes to NV21.
+   *
+   * <p>The positions of the buffers are left untouched.
+   *
+   * @param output is the array to write to. A new array is allocated if it is null or its length is
+   *     not {@link #getNv21Size}.
+   * @return the array the image was written to.
+   */
+  @NonNull
+  static byte[] convert(
+      @NonNull ByteBuffer yBuffer,
+      int yRowStride,
+      @NonNull ByteBuffer uBuffer,
+      @NonNull ByteBuffer vBuffer,
+      int uvRowStride,
+      int uvPixelStride,
+      int width,
+      int height,
+      @Nullable byte[] output) {
+    final int nv21Size = getNv21Size(width, height);
+    final byte[] nv21 = output != null && output.length == nv21Size ? output : new byte[nv21Size];
+
+    copyLuma(yBuffer, yRowStride > 0 ? yRowStride : width, width, height, nv21);
+
+    final int chromaWidth = chromaSize(width);
+    final int chromaHeight = chromaSize(height);
+    final int interleavedRowStride = uvRowStride > 0 ? uvRowStride : 2 * chromaWidth;
+    final int interleavedLength = (chromaHeight - 1) * interleavedRowStride + 2 * chromaWidth - 1;
+    if (uvPixelStride != 1
+        && vBuffer.remaining() >= interleavedLength
+        && isInterleavedVu(uBuffer, vBuffer)) {
+      copyInterleavedVu(
+          uBuffer, vBuffer, interleavedRowStride, chromaWidth, chromaHeight, width * height, nv21);
+    } else {
+      final int pixelStride = uvPixelStride > 0 ? uvPixelStride : 1;
+      copyChromaPixels(
+          uBuffer,
+          vBuffer,
+          uvRowStride > 0 ? uvRowStride : pixelStride * chromaWidth,
+          pixelStride,
+          chromaWidth,
+          chromaHeight,
+          width * height,
+          nv21);
+    }
+    return nv21;
+  }
+
+  /**
+   * Returns whether the V buffer starts one byte before the U buffer in the same interleaved
+   * memory, which is the NV21 layout.
+   */
+  static boolean isInterleavedVu(@NonNull ByteBuffer uBuffer, @NonNull ByteBuffer vBuffer) {
+    final int length = uBuffer.remaining();
+    if (length < 2 || vBuffer.remaining() != length) {
+      return false;
+    }
+    final ByteBuffer u = uBuffer.duplicate();
+    final ByteBuffer v = vBuffer.duplicate();
+    u.limit(u.position() + length - 1);
+    v.position(v.position() + 1);
+    return u.compareTo(v) == 0;
+  }
+
+  private static void copyLuma(
+      @NonNull ByteBuffer yBuffer, int rowStride, int width, int height, @NonNull byte[] nv21) {
+    final ByteBuffer y = yBuffer.duplicate();
+    final int start = y.position();
+    if (rowStride == width) {
+      y.get(nv21, 0, width * height);
+      return;
+    }
+    for (int row = 0; row < height; row++) {
+      y.position(start + row * rowStride);
+      y.get(nv21, row * width, width);
+    }
+  }
+
+  private static void copyInterleavedVu(
+      @NonNull ByteBuffer uBuffer,
+      @NonNull ByteBuffer vBuffer,
+      int rowStride,
+      int chromaWidth,
+      int chromaHeight,
+      int offset,
+      @NonNull byte[] nv21) {
+    final ByteBuffer u = uBuffer.duplicate();
+    final ByteBuffer v = vBuffer.duplicate();
+    final int uStart = u.position();
+    final int vStart = v.position();
+    final int rowLength = 2 * chromaWidth;
+
+    if (rowStride == rowLength) {
+      // Rows are contiguous, the V buffer holds all but the last U value.
+      v.get(nv21, offset, rowLength * chromaHeight - 1);
+      nv21[offset + rowLength * chromaHeight - 1] = u.get(uStart + rowLength * chromaHeight - 2);
+      return;
+    }
+    for (int row = 0; row < chromaHeight; row++) {
+      final int rowOffset = offset + row * rowLength;
+      v.position(vStart + row * rowStride);
+      v.get(nv21, rowOffset, rowLength - 1);
+      nv21[rowOffset + rowLength - 1] = u.get(uStart + row * rowStride + rowLength - 2);
+    }
+  }
+
+  private static void copyChromaPixels(
+      @NonNull ByteBuffer uBuffer,
+      @NonNull ByteBuffer vBuffer,
+      int rowStride,
+      int pixelStride,
+      int chromaWidth,
+      int chromaHeight,
+      int offset,
+      @NonNull byte[] nv21) {
+    final ByteBuffer u = uBuffer.duplicate();
+    final ByteBuffer v = vBuffer.duplicate();
+    final int uStart = u.position();
+    final int vStart = v.position();
+
+    // Reading a row in bulk is much faster than reading its samples one by one from a direct
+    // buffer. The rows are small enough to stay in cache while they are interleaved.
+    final int rowLength = (chromaWidth - 1) * pixelStride + 1;
+    final byte[] uRow = new byte[rowLength];
+    final byte[] vRow = new byte[rowLength];
+    int index = offset;
+    for (int row = 0; row < chromaHeight; row++) {
+      u.position(uStart + row * rowStride);
+      u.get(uRow, 0, rowLength);
+      v.position(vStart + row * rowStride);
+      v.get(vRow, 0, rowLength);
+      for (int sample = 0; sample < rowLength; sample += pixelStride) {
+        nv21[index++] = vRow[sample];
+        nv21[index++] = uRow[sample];
+      }
+    }
+  }
+
+  private static int chromaSize(int lumaSize) {
+    return (lumaSize + 1) / 2;
+  }
+}
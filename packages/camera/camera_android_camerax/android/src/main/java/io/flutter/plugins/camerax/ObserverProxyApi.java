@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.camerax;
 
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
 import androidx.lifecycle.Observer;
 import java.util.Objects;
@@ -14,16 +15,75 @@ import java.util.Objects;
  * class or an instance of that class.
  */
 class ObserverProxyApi extends PigeonApiObserver {
-  /** Implementation of {@link Observer} that passes arguments of callback methods to Dart. */
+  /**
+   * Implementation of {@link Observer} that passes arguments of callback methods to Dart.
+   *
+   * <p>When the registrar has an observer delivery interval, values emitted within the interval of
+   * the last delivery are coalesced: only the latest one is sent to Dart, once the interval has
+   * elapsed. This keeps fast emitting {@code LiveData}, such as the zoom state during a pinch, from
+   * sending a message per emission.
+   */
   static class ObserverImpl<T> implements Observer<T> {
     final ObserverProxyApi api;
 
+    // Guarded by this.
+    private T latestValue;
+    private boolean isDeliveryScheduled;
+    private long lastDeliveryUptimeMillis = -1;
+    private long coalescedEventCount;
+
     ObserverImpl(@NonNull ObserverProxyApi api) {
       this.api = api;
     }
 
     @Override
     public void onChanged(T t) {
+      final ProxyApiRegistrar registrar = api.getPigeonRegistrar();
+      final long deliveryIntervalMillis = registrar.getObserverDeliveryIntervalMillis();
+      if (deliveryIntervalMillis <= 0) {
+        deliver(t);
+        return;
+      }
+
+      final long delayMillis;
+      synchronized (this) {
+        latestValue = t;
+        if (isDeliveryScheduled) {
+          coalescedEventCount++;
+          registrar.onObserverEventCoalesced();
+          return;
+        }
+        isDeliveryScheduled = true;
+        delayMillis =
+            lastDeliveryUptimeMillis < 0
+                ? 0
+                : Math.max(
+                    0,
+                    lastDeliveryUptimeMillis + deliveryIntervalMillis - SystemClock.uptimeMillis());
+      }
+      registrar.runOnMainThreadDelayed(
+          new ProxyApiRegistrar.FlutterMethodRunnable() {
+            @Override
+            public void run() {
+              final T value;
+              synchronized (ObserverImpl.this) {
+                value = latestValue;
+                latestValue = null;
+                isDeliveryScheduled = false;
+                lastDeliveryUptimeMillis = SystemClock.uptimeMillis();
+              }
+              deliver(value);
+            }
+          },
+          delayMillis);
+    }
+
+    /** Returns the number of values that were replaced by a later value before being sent. */
+    synchronized long getCoalescedEventCount() {
+      return coalescedEventCount;
+    }
+
+    private void deliver(T t) {
       api.getPigeonRegistrar()
           .runOnMainThread(
               new ProxyApiRegistrar.FlutterMethodRunnable() {
@@ -61,4 +121,14 @@ class ObserverProxyApi extends PigeonApiObserver {
   public Observer<?> pigeon_defaultConstructor() {
     return new ObserverImpl<>(this);
   }
+
+  @Override
+  public void setDeliveryInterval(long intervalMillis) {
+    getPigeonRegistrar().setObserverDeliveryIntervalMillis(intervalMillis);
+  }
+
+  @Override
+  public long getCoalescedEventCount() {
+    return getPigeonRegistrar().getCoalescedObserverEventCount();
+  }
 }
@@ -38,6 +38,8 @@ class ProcessCameraProviderProxyApi extends PigeonApiProcessCameraProvider {
   @Override
   public void getInstance(
       @NonNull Function1<? super Result<ProcessCameraProvider>, Unit> callback) {
+    getPigeonRegistrar().getStartupTimings().onProviderRequested();
+    // This returns the initialization started by warmUp, if the provider was warmed up.
     final ListenableFuture<ProcessCameraProvider> processCameraProviderFuture =
         ProcessCameraProvider.getInstance(getPigeonRegistrar().getContext());
 
@@ -45,7 +47,9 @@ class ProcessCameraProviderProxyApi extends PigeonApiProcessCameraProvider {
         () -> {
           try {
             // Camera provider is now guaranteed to be available.
-            ResultCompat.success(processCameraProviderFuture.get(), callback);
+            final ProcessCameraProvider processCameraProvider = processCameraProviderFuture.get();
+            getPigeonRegistrar().getStartupTimings().onProviderDelivered();
+            ResultCompat.success(processCameraProvider, callback);
           } catch (InterruptedException | ExecutionException e) {
             ResultCompat.failure(e, callback);
           }
@@ -53,12 +57,24 @@ class ProcessCameraProviderProxyApi extends PigeonApiProcessCameraProvider {
         ContextCompat.getMainExecutor(getPigeonRegistrar().getContext()));
   }
 
+  @Override
+  public void warmUp() {
+    getPigeonRegistrar().getCameraProviderWarmUp().start();
+  }
+
   @NonNull
   @Override
   public List<CameraInfo> getAvailableCameraInfos(ProcessCameraProvider pigeonInstance) {
     return pigeonInstance.getAvailableCameraInfos();
   }
 
+  @Override
+  public void getCameraInfoSnapshots(
+      @NonNull ProcessCameraProvider pigeonInstance,
+      @NonNull Function1<? super Result<List<CameraInfoSnapshot>>, Unit> callback) {
+    getPigeonRegistrar().getCameraProviderWarmUp().getCameraInfoSnapshots(callback);
+  }
+
   @NonNull
   @Override
   public Camera bindToLifecycle(
@@ -18,6 +18,8 @@ import androidx.annotation.Nullable;
 import androidx.lifecycle.LifecycleOwner;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.view.TextureRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
   @NonNull
@@ -29,6 +31,19 @@ public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
 
   @Nullable private CameraPermissionsManager.PermissionsRegistry permissionsRegistry;
 
+  @NonNull private final CameraStartupTimings startupTimings = new CameraStartupTimings();
+
+  @NonNull private final CameraProviderWarmUp cameraProviderWarmUp = new CameraProviderWarmUp(this);
+
+  @NonNull private final CaptureLatencyTracker captureLatencyTracker = new CaptureLatencyTracker();
+
+  private long observerDeliveryIntervalMillis;
+  private final AtomicLong coalescedObserverEventCount = new AtomicLong();
+
+  @NonNull
+  private final InstanceReleaseMonitor instanceReleaseMonitor =
+      new InstanceReleaseMonitor(this::releaseFinalizedInstances);
+
   /**
    * Handles errors received from calling a method from host->Dart.
    *
@@ -87,6 +102,11 @@ public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
     }
   }
 
+  // Added to be overridden for tests, like `runOnMainThread`.
+  void runOnMainThreadDelayed(@NonNull FlutterMethodRunnable runnable, long delayMillis) {
+    new Handler(Looper.getMainLooper()).postDelayed(runnable, delayMillis);
+  }
+
   @NonNull
   public Context getContext() {
     return context;
@@ -136,8 +156,75 @@ public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
     return textureRegistry;
   }
 
-  long getDefaultClearFinalizedWeakReferencesInterval() {
-    return 3000;
+  /**
+   * Sets the minimum interval between two values sent to Dart by the same {@code Observer}.
+   *
+   * <p>Values emitted within the interval are coalesced, and only the latest one is sent. A value
+   * of 0, the default, sends every value as soon as it is emitted.
+   */
+  public void setObserverDeliveryIntervalMillis(long intervalMillis) {
+    observerDeliveryIntervalMillis = Math.max(0, intervalMillis);
+  }
+
+  long getObserverDeliveryIntervalMillis() {
+    return observerDeliveryIntervalMillis;
+  }
+
+  /** Returns the number of observed values replaced by a later value before being sent to Dart. */
+  public long getCoalescedObserverEventCount() {
+    return coalescedObserverEventCount.get();
+  }
+
+  void onObserverEventCoalesced() {
+    coalescedObserverEventCount.incrementAndGet();
+  }
+
+  /** Returns the durations of the phases of starting CameraX. */
+  @NonNull
+  public CameraStartupTimings getStartupTimings() {
+    return startupTimings;
+  }
+
+  @NonNull
+  CameraProviderWarmUp getCameraProviderWarmUp() {
+    return cameraProviderWarmUp;
+  }
+
+  /** Returns the latencies of the pictures captured into memory. */
+  @NonNull
+  CaptureLatencyTracker getCaptureLatencyTracker() {
+    return captureLatencyTracker;
+  }
+
+  @NonNull
+  InstanceReleaseMonitor getInstanceReleaseMonitor() {
+    return instanceReleaseMonitor;
+  }
+
+  /**
+   * Returns the number of per-frame instances, such as {@code ImageProxy} and {@code PlaneProxy},
+   * that were not garbage collected yet, per type.
+   */
+  @NonNull
+  public Map<String, Long> getLiveInstanceCounts() {
+    return instanceReleaseMonitor.getLiveInstanceCounts();
+  }
+
+  // Setting the interval makes the instance manager release all of its finalized instances right
+  // away, then reschedule its periodic clean up.
+  private void releaseFinalizedInstances() {
+    runOnMainThread(
+        new FlutterMethodRunnable() {
+          @Override
+          public void run() {
+            instanceReleaseMonitor.onReleased();
+            final CameraXLibraryPigeonInstanceManager instanceManager = getInstanceManager();
+            if (!instanceManager.hasFinalizationListenerStopped()) {
+              instanceManager.setClearFinalizedWeakReferencesInterval(
+                  instanceManager.getClearFinalizedWeakReferencesInterval());
+            }
+          }
+        });
   }
 
   @SuppressWarnings(
@@ -200,6 +287,12 @@ public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
     return new ProcessCameraProviderProxyApi(this);
   }
 
+  @NonNull
+  @Override
+  public PigeonApiCameraInfoSnapshot getPigeonApiCameraInfoSnapshot() {
+    return new CameraInfoSnapshotProxyApi(this);
+  }
+
   @NonNull
   @Override
   public PigeonApiCamera getPigeonApiCamera() {
@@ -257,12 +350,30 @@ public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
     return new RecordingProxyApi(this);
   }
 
+  @NonNull
+  @Override
+  public PigeonApiSegmentedRecorder getPigeonApiSegmentedRecorder() {
+    return new SegmentedRecorderProxyApi(this);
+  }
+
+  @NonNull
+  @Override
+  public PigeonApiRecordedSegment getPigeonApiRecordedSegment() {
+    return new RecordedSegmentProxyApi(this);
+  }
+
   @NonNull
   @Override
   public PigeonApiImageCapture getPigeonApiImageCapture() {
     return new ImageCaptureProxyApi(this);
   }
 
+  @NonNull
+  @Override
+  public PigeonApiInMemoryPicture getPigeonApiInMemoryPicture() {
+    return new InMemoryPictureProxyApi(this);
+  }
+
   @NonNull
   @Override
   public PigeonApiResolutionStrategy getPigeonApiResolutionStrategy() {
@@ -311,6 +422,12 @@ public class ProxyApiRegistrar extends CameraXLibraryPigeonProxyApiRegistrar {
     return new AnalyzerProxyApi(this);
   }
 
+  @NonNull
+  @Override
+  public PigeonApiImageFrameAnalyzer getPigeonApiImageFrameAnalyzer() {
+    return new ImageFrameAnalyzerProxyApi(this);
+  }
+
   @NonNull
   @Override
   public PigeonApiCameraStateStateError getPigeonApiCameraStateStateError() {
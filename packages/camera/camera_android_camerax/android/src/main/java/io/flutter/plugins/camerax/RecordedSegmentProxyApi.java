@@ -0,0 +1,50 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+
+/**
+ * ProxyApi implementation for {@link SegmentedRecorder.Segment}.
+ *
+ * <p>This class may handle instantiating native object instances that are attached to a Dart
+ * instance or handle method calls on the associated native class or an instance of that class.
+ */
+class RecordedSegmentProxyApi extends PigeonApiRecordedSegment {
+  RecordedSegmentProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    super(pigeonRegistrar);
+  }
+
+  @Override
+  public long index(@NonNull SegmentedRecorder.Segment pigeonInstance) {
+    return pigeonInstance.index;
+  }
+
+  @NonNull
+  @Override
+  public String path(@NonNull SegmentedRecorder.Segment pigeonInstance) {
+    return pigeonInstance.file.getAbsolutePath();
+  }
+
+  @Override
+  public long durationNanos(@NonNull SegmentedRecorder.Segment pigeonInstance) {
+    return pigeonInstance.durationNanos;
+  }
+
+  @Override
+  public long sizeBytes(@NonNull SegmentedRecorder.Segment pigeonInstance) {
+    return pigeonInstance.sizeBytes;
+  }
+
+  @Override
+  public long error(@NonNull SegmentedRecorder.Segment pigeonInstance) {
+    return pigeonInstance.error;
+  }
+
+  @Override
+  public boolean isLast(@NonNull SegmentedRecorder.Segment pigeonInstance) {
+    return pigeonInstance.isLast;
+  }
+}
@@ -0,0 +1,204 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import android.Manifest;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.video.FileOutputOptions;
+import androidx.camera.video.PendingRecording;
+import androidx.camera.video.Recorder;
+import androidx.camera.video.Recording;
+import androidx.camera.video.RecordingStats;
+import androidx.camera.video.VideoRecordEvent;
+import androidx.core.content.ContextCompat;
+import java.io.File;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+/**
+ * Records a video as a sequence of files, rotating to a new file once the current one reaches a
+ * maximum duration or size.
+ *
+ * <p>A {@link Recorder} writes a single file per {@link Recording}, so each segment is its own
+ * recording. When a segment reaches a limit, it is stopped and the next one is started right away.
+ * The recorder keeps the next recording pending while the previous one finalizes and starts it as
+ * soon as the encoders are released, which keeps the gap between segments to a few frames.
+ *
+ * <p>Every finalized segment is reported to the {@link SegmentListener}, so it can be uploaded
+ * while the following segments are recorded.
+ */
+class SegmentedRecorder {
+  /** Receives the segments of a recording as they are finalized. */
+  interface SegmentListener {
+    void onSegmentFinalized(@NonNull Segment segment);
+
+    /**
+     * Called when the next segment could not be started. The recording ends, and the segment that
+     * was being rotated is reported as the last one once finalized.
+     */
+    void onRotationFailed(@NonNull IllegalStateException exception);
+  }
+
+  /** A finalized segment of a recording. */
+  static final class Segment {
+    final int index;
+    @NonNull final File file;
+    final long durationNanos;
+    final long sizeBytes;
+    final int error;
+    final boolean isLast;
+
+    Segment(
+        int index,
+        @NonNull File file,
+        long durationNanos,
+        long sizeBytes,
+        int error,
+        boolean isLast) {
+      this.index = index;
+      this.file = file;
+      this.durationNanos = durationNanos;
+      this.sizeBytes = sizeBytes;
+      this.error = error;
+      this.isLast = isLast;
+    }
+  }
+
+  @NonNull private final Recorder recorder;
+  @NonNull private final Context context;
+  @NonNull private final File directory;
+  @NonNull private final String fileNamePrefix;
+  private final long maxSegmentDurationNanos;
+  private final long maxSegmentBytes;
+  private final boolean audioEnabled;
+  @NonNull private final Executor executor;
+  @NonNull private final SegmentListener listener;
+
+  @Nullable private Recording activeRecording;
+  private int nextSegmentIndex;
+  private boolean isStopped;
+
+  /**
+   * @param maxSegmentDurationNanos is the duration after which a segment is rotated, or 0 or less
+   *     for no limit.
+   * @param maxSegmentBytes is the size after which a segment is rotated, or 0 or less for no limit.
+   * @param executor is the executor events of the recordings are handled on. It must run tasks one
+   *     at a time, in order, e.g. the main thread executor.
+   */
+  SegmentedRecorder(
+      @NonNull Recorder recorder,
+      @NonNull Context context,
+      @NonNull File directory,
+      @NonNull String fileNamePrefix,
+      long maxSegmentDurationNanos,
+      long maxSegmentBytes,
+      boolean audioEnabled,
+      @NonNull Executor executor,
+      @NonNull SegmentListener listener) {
+    this.recorder = recorder;
+    this.context = context;
+    this.directory = directory;
+    this.fileNamePrefix = fileNamePrefix;
+    this.maxSegmentDurationNanos = maxSegmentDurationNanos;
+    this.maxSegmentBytes = maxSegmentBytes;
+    this.audioEnabled = audioEnabled;
+    this.executor = executor;
+    this.listener = listener;
+  }
+
+  /** Starts recording the first segment. */
+  void start() {
+    if (activeRecording == null && !isStopped) {
+      startSegment();
+    }
+  }
+
+  /** Stops the recording. The current segment is reported as the last one once finalized. */
+  void stop() {
+    if (isStopped) {
+      return;
+    }
+    isStopped = true;
+    if (activeRecording != null) {
+      activeRecording.stop();
+      activeRecording = null;
+    }
+  }
+
+  boolean isStopped() {
+    return isStopped;
+  }
+
+  /** Returns the number of segments started so far. */
+  int getSegmentCount() {
+    return nextSegmentIndex;
+  }
+
+  @NonNull
+  File getSegmentFile(int index) {
+    return new File(directory, String.format(Locale.US, "%s_%05d.mp4", fileNamePrefix, index));
+  }
+
+  private void startSegment() {
+    final int index = nextSegmentIndex;
+    final File file = getSegmentFile(index);
+    PendingRecording pendingRecording =
+        recorder.prepareRecording(context, new FileOutputOptions.Builder(file).build());
+    if (audioEnabled
+        && ContextCompat.checkSelfPermission(context, Manifest.permission.RECORD_AUDIO)
+            == PackageManager.PERMISSION_GRANTED) {
+      pendingRecording = pendingRecording.withAudioEnabled(false);
+    }
+    activeRecording = pendingRecording.start(executor, event -> onEvent(index, file, event));
+    nextSegmentIndex++;
+  }
+
+  private boolean isActiveSegment(int index) {
+    return activeRecording != null && index == nextSegmentIndex - 1;
+  }
+
+  private void onEvent(int index, @NonNull File file, @NonNull VideoRecordEvent event) {
+    if (event instanceof VideoRecordEvent.Status) {
+      if (isActiveSegment(index) && isSegmentFull(event.getRecordingStats())) {
+        // Start the next segment before the current one is finalized, so the recorder can switch
+        // to it as soon as the current one is.
+        activeRecording.stop();
+        activeRecording = null;
+        try {
+          startSegment();
+        } catch (IllegalStateException e) {
+          isStopped = true;
+          listener.onRotationFailed(e);
+        }
+      }
+    } else if (event instanceof VideoRecordEvent.Finalize) {
+      final VideoRecordEvent.Finalize finalizeEvent = (VideoRecordEvent.Finalize) event;
+      if (isActiveSegment(index)) {
+        // The segment ended on its own, e.g. because the camera was closed, so no more segments
+        // follow it.
+        isStopped = true;
+        activeRecording = null;
+      }
+      final RecordingStats stats = event.getRecordingStats();
+      listener.onSegmentFinalized(
+          new Segment(
+              index,
+              file,
+              stats.getRecordedDurationNanos(),
+              stats.getNumBytesRecorded(),
+              finalizeEvent.getError(),
+              isStopped && index == nextSegmentIndex - 1));
+    }
+  }
+
+  private boolean isSegmentFull(@NonNull RecordingStats stats) {
+    return (maxSegmentDurationNanos > 0
+            && stats.getRecordedDurationNanos() >= maxSegmentDurationNanos)
+        || (maxSegmentBytes > 0 && stats.getNumBytesRecorded() >= maxSegmentBytes);
+  }
+}
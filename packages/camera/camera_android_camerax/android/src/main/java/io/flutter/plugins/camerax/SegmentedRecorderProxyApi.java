@@ -0,0 +1,128 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.video.Recorder;
+import androidx.core.content.ContextCompat;
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProxyApi implementation for {@link SegmentedRecorder}. This class may handle instantiating native
+ * object instances that are attached to a Dart instance or handle method calls on the associated
+ * native class or an instance of that class.
+ */
+class SegmentedRecorderProxyApi extends PigeonApiSegmentedRecorder {
+  SegmentedRecorderProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+    super(pigeonRegistrar);
+  }
+
+  @NonNull
+  @Override
+  public ProxyApiRegistrar getPigeonRegistrar() {
+    return (ProxyApiRegistrar) super.getPigeonRegistrar();
+  }
+
+  /**
+   * Implementation of {@link SegmentedRecorder.SegmentListener} that passes the segments of a
+   * {@link SegmentedRecorder} to Dart.
+   */
+  static class SegmentListenerImpl implements SegmentedRecorder.SegmentListener {
+    final SegmentedRecorderProxyApi api;
+    @Nullable SegmentedRecorder segmentedRecorder;
+
+    SegmentListenerImpl(@NonNull SegmentedRecorderProxyApi api) {
+      this.api = api;
+    }
+
+    @Override
+    public void onSegmentFinalized(@NonNull SegmentedRecorder.Segment segment) {
+      final SegmentedRecorder instance = Objects.requireNonNull(segmentedRecorder);
+      api.getPigeonRegistrar()
+          .runOnMainThread(
+              new ProxyApiRegistrar.FlutterMethodRunnable() {
+                @Override
+                public void run() {
+                  api.onSegmentFinalized(
+                      instance,
+                      segment,
+                      ResultCompat.asCompatCallback(
+                          result -> {
+                            if (result.isFailure()) {
+                              onFailure(
+                                  "SegmentedRecorder.onSegmentFinalized",
+                                  Objects.requireNonNull(result.exceptionOrNull()));
+                            }
+                            return null;
+                          }));
+                }
+              });
+    }
+
+    @Override
+    public void onRotationFailed(@NonNull IllegalStateException exception) {
+      final SegmentedRecorder instance = Objects.requireNonNull(segmentedRecorder);
+      final String message =
+          exception.getMessage() != null ? exception.getMessage() : exception.toString();
+      api.getPigeonRegistrar()
+          .runOnMainThread(
+              new ProxyApiRegistrar.FlutterMethodRunnable() {
+                @Override
+                public void run() {
+                  api.onRotationFailed(
+                      instance,
+                      message,
+                      ResultCompat.asCompatCallback(
+                          result -> {
+                            if (result.isFailure()) {
+                              onFailure(
+                                  "SegmentedRecorder.onRotationFailed",
+                                  Objects.requireNonNull(result.exceptionOrNull()));
+                            }
+                            return null;
+                          }));
+                }
+              });
+    }
+  }
+
+  @NonNull
+  @Override
+  public SegmentedRecorder pigeon_defaultConstructor(
+      @NonNull Recorder recorder,
+      @NonNull String directory,
+      @NonNull String fileNamePrefix,
+      long maxSegmentDurationMillis,
+      long maxSegmentBytes,
+      boolean audioEnabled) {
+    final SegmentListenerImpl listener = new SegmentListenerImpl(this);
+    final SegmentedRecorder segmentedRecorder =
+        new SegmentedRecorder(
+            recorder,
+            getPigeonRegistrar().getContext(),
+            new File(directory),
+            fileNamePrefix,
+            TimeUnit.MILLISECONDS.toNanos(maxSegmentDurationMillis),
+            maxSegmentBytes,
+            audioEnabled,
+            ContextCompat.getMainExecutor(getPigeonRegistrar().getContext()),
+            listener);
+    listener.segmentedRecorder = segmentedRecorder;
+    return segmentedRecorder;
+  }
+
+  @Override
+  public void start(@NonNull SegmentedRecorder pigeonInstance) {
+    pigeonInstance.start();
+  }
+
+  @Override
+  public void stop(@NonNull SegmentedRecorder pigeonInstance) {
+    pigeonInstance.stop();
+  }
+}
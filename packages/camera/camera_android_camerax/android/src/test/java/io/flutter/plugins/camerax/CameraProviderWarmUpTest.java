@@ -0,0 +1,201 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.util.Range;
+import android.util.Rational;
+import androidx.camera.camera2.interop.Camera2CameraInfo;
+import androidx.camera.core.CameraInfo;
+import androidx.camera.core.CameraSelector;
+import androidx.camera.core.DynamicRange;
+import androidx.camera.core.ExposureState;
+import androidx.camera.core.ZoomState;
+import androidx.camera.lifecycle.ProcessCameraProvider;
+import androidx.camera.video.Quality;
+import androidx.camera.video.Recorder;
+import androidx.camera.video.VideoCapabilities;
+import androidx.core.content.ContextCompat;
+import androidx.lifecycle.LiveData;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CameraProviderWarmUpTest {
+  private final ProcessCameraProvider mockProvider = mock(ProcessCameraProvider.class);
+  private final CameraInfo mockCameraInfo = mock(CameraInfo.class);
+  private MockedStatic<ProcessCameraProvider> mockedProcessCameraProvider;
+  private MockedStatic<ContextCompat> mockedContextCompat;
+  private MockedStatic<Camera2CameraInfo> mockedCamera2CameraInfo;
+  private MockedStatic<Recorder> mockedRecorder;
+
+  @SuppressWarnings("unchecked")
+  @Before
+  public void setUp() {
+    mockedProcessCameraProvider = Mockito.mockStatic(ProcessCameraProvider.class);
+    mockedContextCompat = Mockito.mockStatic(ContextCompat.class);
+    mockedCamera2CameraInfo = Mockito.mockStatic(Camera2CameraInfo.class);
+    mockedRecorder = Mockito.mockStatic(Recorder.class);
+    mockedContextCompat
+        .when(() -> ContextCompat.getMainExecutor(any()))
+        .thenReturn((Executor) Runnable::run);
+
+    final Camera2CameraInfo mockCamera2CameraInfo = mock(Camera2CameraInfo.class);
+    when(mockCamera2CameraInfo.getCameraId()).thenReturn("0");
+    mockedCamera2CameraInfo
+        .when(() -> Camera2CameraInfo.from(mockCameraInfo))
+        .thenReturn(mockCamera2CameraInfo);
+
+    final VideoCapabilities mockVideoCapabilities = mock(VideoCapabilities.class);
+    when(mockVideoCapabilities.getSupportedQualities(DynamicRange.SDR))
+        .thenReturn(Arrays.asList(Quality.HD, Quality.FHD));
+    mockedRecorder
+        .when(() -> Recorder.getVideoCapabilities(mockCameraInfo))
+        .thenReturn(mockVideoCapabilities);
+
+    final ExposureState mockExposureState = mock(ExposureState.class);
+    when(mockExposureState.getExposureCompensationRange()).thenReturn(new Range<>(-4, 4));
+    when(mockExposureState.getExposureCompensationStep()).thenReturn(new Rational(1, 2));
+    final ZoomState mockZoomState = mock(ZoomState.class);
+    when(mockZoomState.getMinZoomRatio()).thenReturn(1f);
+    when(mockZoomState.getMaxZoomRatio()).thenReturn(8f);
+    final LiveData<ZoomState> mockZoomStateLiveData = mock(LiveData.class);
+    when(mockZoomStateLiveData.getValue()).thenReturn(mockZoomState);
+
+    when(mockCameraInfo.getLensFacing()).thenReturn(CameraSelector.LENS_FACING_BACK);
+    when(mockCameraInfo.getSensorRotationDegrees()).thenReturn(90);
+    when(mockCameraInfo.getExposureState()).thenReturn(mockExposureState);
+    when(mockCameraInfo.getZoomState()).thenReturn(mockZoomStateLiveData);
+    when(mockProvider.getAvailableCameraInfos())
+        .thenReturn(Collections.singletonList(mockCameraInfo));
+  }
+
+  @After
+  public void tearDown() {
+    mockedProcessCameraProvider.close();
+    mockedContextCompat.close();
+    mockedCamera2CameraInfo.close();
+    mockedRecorder.close();
+  }
+
+  @Test
+  public void warmUp_cachesCameraInfoSnapshotsOnceProviderIsReady() {
+    mockedProcessCameraProvider
+        .when(() -> ProcessCameraProvider.getInstance(any()))
+        .thenReturn(Futures.immediateFuture(mockProvider));
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final PigeonApiProcessCameraProvider api = registrar.getPigeonApiProcessCameraProvider();
+
+    api.warmUp();
+    final List<List<CameraInfoSnapshot>> results = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      api.getCameraInfoSnapshots(
+          mockProvider,
+          ResultCompat.asCompatCallback(
+              reply -> {
+                results.add(reply.getOrNull());
+                return null;
+              }));
+    }
+
+    assertEquals(2, results.size());
+    final CameraInfoSnapshot snapshot = results.get(0).get(0);
+    final PigeonApiCameraInfoSnapshot snapshotApi = registrar.getPigeonApiCameraInfoSnapshot();
+    assertEquals("0", snapshotApi.cameraId(snapshot));
+    assertEquals(LensFacing.BACK, snapshotApi.lensFacing(snapshot));
+    assertEquals(90, snapshotApi.sensorRotationDegrees(snapshot));
+    assertEquals(
+        Arrays.asList(VideoQuality.HD, VideoQuality.FHD),
+        snapshotApi.supportedVideoQualities(snapshot));
+    assertEquals(-4, snapshotApi.minExposureCompensationIndex(snapshot));
+    assertEquals(4, snapshotApi.maxExposureCompensationIndex(snapshot));
+    assertEquals(0.5, snapshotApi.exposureCompensationStep(snapshot), 0);
+    assertEquals(1.0, snapshotApi.minZoomRatio(snapshot), 0);
+    assertEquals(8.0, snapshotApi.maxZoomRatio(snapshot), 0);
+
+    // The info was read once, when the provider became ready.
+    verify(mockProvider, times(1)).getAvailableCameraInfos();
+    verify(mockCameraInfo, times(1)).getSensorRotationDegrees();
+    assertTrue(registrar.getStartupTimings().wasWarmedUp());
+    assertTrue(registrar.getStartupTimings().getCameraInfoCachingNanos() >= 0);
+  }
+
+  @Test
+  public void getCameraInfoSnapshots_answersOnceProviderIsReady() {
+    final SettableFuture<ProcessCameraProvider> providerFuture = SettableFuture.create();
+    mockedProcessCameraProvider
+        .when(() -> ProcessCameraProvider.getInstance(any()))
+        .thenReturn(providerFuture);
+    final CameraProviderWarmUp warmUp = new CameraProviderWarmUp(new TestProxyApiRegistrar());
+    final List<List<CameraInfoSnapshot>> results = new ArrayList<>();
+
+    warmUp.getCameraInfoSnapshots(
+        ResultCompat.asCompatCallback(
+            reply -> {
+              results.add(reply.getOrNull());
+              return null;
+            }));
+    assertTrue(results.isEmpty());
+    assertNull(warmUp.getCameraInfoSnapshots());
+
+    providerFuture.set(mockProvider);
+
+    assertEquals(1, results.size());
+    assertEquals(1, warmUp.getCameraInfoSnapshots().size());
+  }
+
+  @Test
+  public void getCameraInfoSnapshots_sendsErrorWhenProviderFailsToInitialize() {
+    final Exception initializationException = new IllegalStateException("failed");
+    mockedProcessCameraProvider
+        .when(() -> ProcessCameraProvider.getInstance(any()))
+        .thenReturn(Futures.immediateFailedFuture(initializationException));
+    final CameraProviderWarmUp warmUp = new CameraProviderWarmUp(new TestProxyApiRegistrar());
+    final Throwable[] result = {null};
+
+    warmUp.getCameraInfoSnapshots(
+        ResultCompat.asCompatCallback(
+            reply -> {
+              result[0] = reply.exceptionOrNull();
+              return null;
+            }));
+
+    assertEquals(initializationException, result[0].getCause());
+  }
+
+  @Test
+  public void getInstance_reportsProviderWaitTime() {
+    mockedProcessCameraProvider
+        .when(() -> ProcessCameraProvider.getInstance(any()))
+        .thenReturn(Futures.immediateFuture(mockProvider));
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+
+    registrar
+        .getPigeonApiProcessCameraProvider()
+        .getInstance(ResultCompat.asCompatCallback(reply -> null));
+
+    assertTrue(registrar.getStartupTimings().getProviderWaitNanos() >= 0);
+  }
+}
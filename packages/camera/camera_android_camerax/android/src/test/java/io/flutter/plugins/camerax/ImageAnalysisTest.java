@@ -72,6 +72,20 @@ public class ImageAnalysisTest {
     }
   }
 
+  @Test
+  public void setFrameAnalyzer_setsAnalyzerConvertingToNv21ForNv21Output() {
+    final PigeonApiImageAnalysis api = new TestProxyApiRegistrar().getPigeonApiImageAnalysis();
+
+    final ImageAnalysis instance = mock(ImageAnalysis.class);
+    final ImageFrameAnalyzer analyzer = mock(ImageFrameAnalyzer.class);
+    when(instance.getOutputImageFormat()).thenReturn(ImageAnalysis.OUTPUT_IMAGE_FORMAT_NV21);
+
+    api.setFrameAnalyzer(instance, analyzer);
+
+    verify(analyzer).setConvertsToNv21(true);
+    verify(instance).setAnalyzer(eq(ImageFrameAnalyzer.getAnalysisExecutor()), eq(analyzer));
+  }
+
   @Test
   public void clearAnalyzer_makesCallToClearAnalyzerOnExpectedImageAnalysisInstance() {
     final PigeonApiImageAnalysis api = new TestProxyApiRegistrar().getPigeonApiImageAnalysis();
@@ -4,8 +4,10 @@
 
 package io.flutter.plugins.camerax;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
@@ -13,13 +15,19 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import android.content.Context;
+import android.graphics.ImageFormat;
 import android.view.Surface;
 import androidx.annotation.NonNull;
 import androidx.camera.core.ImageCapture;
 import androidx.camera.core.ImageCaptureException;
+import androidx.camera.core.ImageInfo;
+import androidx.camera.core.ImageProxy;
+import androidx.camera.core.ImageProxy.PlaneProxy;
 import androidx.camera.core.resolutionselector.ResolutionSelector;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.concurrent.Executor;
 import kotlin.Result;
 import kotlin.Unit;
@@ -234,4 +242,101 @@ public class ImageCaptureTest {
 
     verify(instance).setTargetRotation((int) rotation);
   }
+
+  @Test
+  public void takePictureToMemory_takesPictureOnSharedCaptureExecutor() {
+    final PigeonApiImageCapture api = new TestProxyApiRegistrar().getPigeonApiImageCapture();
+
+    final ImageCapture instance = mock(ImageCapture.class);
+    api.takePictureToMemory(instance, ResultCompat.asCompatCallback(reply -> null));
+
+    verify(instance)
+        .takePicture(
+            eq(ImageCaptureExecutor.get()), any(ImageCapture.OnImageCapturedCallback.class));
+  }
+
+  @Test
+  public void takePictureToMemory_onCaptureSuccessSendsEncodedBytesAndClosesImage() {
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final ImageCaptureProxyApi api = new ImageCaptureProxyApi(registrar);
+
+    final byte[] jpegBytes = new byte[] {1, 2, 3};
+    final ImageProxy mockImage = mock(ImageProxy.class);
+    final PlaneProxy mockPlane = mock(PlaneProxy.class);
+    final ImageInfo mockImageInfo = mock(ImageInfo.class);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.JPEG);
+    when(mockImage.getWidth()).thenReturn(40);
+    when(mockImage.getHeight()).thenReturn(30);
+    when(mockImage.getPlanes()).thenReturn(new PlaneProxy[] {mockPlane});
+    when(mockImage.getImageInfo()).thenReturn(mockImageInfo);
+    when(mockImageInfo.getRotationDegrees()).thenReturn(90);
+    when(mockPlane.getBuffer()).thenReturn(ByteBuffer.wrap(jpegBytes));
+
+    final InMemoryPicture[] result = {null};
+    api.createOnImageCapturedCallback(
+            System.nanoTime(),
+            ResultCompat.asCompatCallback(
+                reply -> {
+                  result[0] = reply.getOrNull();
+                  return null;
+                }))
+        .onCaptureSuccess(mockImage);
+
+    assertArrayEquals(jpegBytes, result[0].getBytes());
+    assertEquals(40, result[0].getWidth());
+    assertEquals(30, result[0].getHeight());
+    assertEquals(90, result[0].getRotationDegrees());
+    verify(mockImage).close();
+    assertEquals(1, registrar.getCaptureLatencyTracker().getCaptureCount());
+  }
+
+  @Test
+  public void takePictureToMemory_onCaptureSuccessSendsErrorForNonJpegImage() {
+    final ImageCaptureProxyApi api = new ImageCaptureProxyApi(new TestProxyApiRegistrar());
+
+    final ImageProxy mockImage = mock(ImageProxy.class);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+
+    final Throwable[] result = {null};
+    api.createOnImageCapturedCallback(
+            System.nanoTime(),
+            ResultCompat.asCompatCallback(
+                reply -> {
+                  result[0] = reply.exceptionOrNull();
+                  return null;
+                }))
+        .onCaptureSuccess(mockImage);
+
+    assertEquals(IllegalStateException.class, result[0].getClass());
+    verify(mockImage).close();
+  }
+
+  @Test
+  public void takePictureToMemory_onErrorSendsCaptureError() {
+    final ImageCaptureProxyApi api = new ImageCaptureProxyApi(new TestProxyApiRegistrar());
+
+    final ImageCaptureException captureException = mock(ImageCaptureException.class);
+    final Throwable[] result = {null};
+    api.createOnImageCapturedCallback(
+            System.nanoTime(),
+            ResultCompat.asCompatCallback(
+                reply -> {
+                  result[0] = reply.exceptionOrNull();
+                  return null;
+                }))
+        .onError(captureException);
+
+    assertEquals(captureException, result[0]);
+  }
+
+  @Test
+  public void getCaptureMetrics_returnsLatenciesOfPicturesCapturedIntoMemory() {
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final PigeonApiImageCapture api = registrar.getPigeonApiImageCapture();
+    registrar.getCaptureLatencyTracker().onCaptureCompleted(System.nanoTime());
+
+    final Map<String, Long> metrics = api.getCaptureMetrics(mock(ImageCapture.class));
+
+    assertEquals(Long.valueOf(1), metrics.get("captureCount"));
+  }
 }
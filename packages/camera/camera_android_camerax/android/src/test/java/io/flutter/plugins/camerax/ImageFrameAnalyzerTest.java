@@ -0,0 +1,221 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import androidx.annotation.NonNull;
+import androidx.camera.core.ImageInfo;
+import androidx.camera.core.ImageProxy;
+import androidx.camera.core.ImageProxy.PlaneProxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ImageFrameAnalyzerTest {
+  @Test
+  public void pigeon_defaultConstructor_makesCallToCreateImageFrameAnalyzerInstance() {
+    final PigeonApiImageFrameAnalyzer api =
+        new TestProxyApiRegistrar().getPigeonApiImageFrameAnalyzer();
+
+    assertTrue(
+        api.pigeon_defaultConstructor()
+            instanceof ImageFrameAnalyzerProxyApi.ImageFrameAnalyzerImpl);
+  }
+
+  @Test
+  public void onFrame_makesCallToDartOnFrame() {
+    final ImageFrameAnalyzerProxyApi mockApi = mock(ImageFrameAnalyzerProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(new TestProxyApiRegistrar());
+
+    final ImageFrameAnalyzerProxyApi.ImageFrameAnalyzerImpl instance =
+        new ImageFrameAnalyzerProxyApi.ImageFrameAnalyzerImpl(mockApi);
+    final ImageProxy image = createImage(new byte[] {1, 2, 3, 4});
+    instance.analyze(image);
+
+    verify(mockApi)
+        .onFrame(eq(instance), eq(ImageFrameAnalyzer.serialize(image, null)), any());
+  }
+
+  @Test
+  public void getDroppedFrameCount_returnsDroppedFrameCountOfInstance() {
+    final PigeonApiImageFrameAnalyzer api =
+        new TestProxyApiRegistrar().getPigeonApiImageFrameAnalyzer();
+    final ImageFrameAnalyzer instance = mock(ImageFrameAnalyzer.class);
+    when(instance.getDroppedFrameCount()).thenReturn(3L);
+
+    assertEquals(3L, api.getDroppedFrameCount(instance));
+  }
+
+  @Test
+  public void serialize_writesHeaderFollowedByPlanes() {
+    final ImageProxy image =
+        createImage(new byte[] {1, 2, 3, 4}, new byte[] {5, 6}, new byte[] {7, 8});
+
+    final ByteBuffer frame =
+        ByteBuffer.wrap(ImageFrameAnalyzer.serialize(image, null)).order(ByteOrder.LITTLE_ENDIAN);
+
+    assertEquals(2, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(35, frame.getInt());
+    assertEquals(90, frame.getInt());
+    assertEquals(123L, frame.getLong());
+    assertEquals(3, frame.getInt());
+    final int[] lengths = {4, 2, 2};
+    for (int length : lengths) {
+      assertEquals(2, frame.getInt());
+      assertEquals(1, frame.getInt());
+      assertEquals(length, frame.getInt());
+    }
+    final byte[] planeBytes = new byte[frame.remaining()];
+    frame.get(planeBytes);
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}, planeBytes);
+  }
+
+  @Test
+  public void serialize_reusesFrameOfSameSize() {
+    final ImageProxy image = createImage(new byte[] {1, 2, 3, 4});
+    final byte[] previousFrame = ImageFrameAnalyzer.serialize(image, null);
+
+    assertSame(previousFrame, ImageFrameAnalyzer.serialize(image, previousFrame));
+  }
+
+  @Test
+  public void serialize_writesNv21AsSinglePlane() {
+    final ImageProxy image = createImage(new byte[] {1, 2, 3, 4});
+
+    final ByteBuffer frame =
+        ByteBuffer.wrap(ImageFrameAnalyzer.serialize(image, new byte[] {1, 2, 3, 4, 5, 6}, null))
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+    assertEquals(2, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(35, frame.getInt());
+    assertEquals(90, frame.getInt());
+    assertEquals(123L, frame.getLong());
+    assertEquals(1, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(1, frame.getInt());
+    assertEquals(6, frame.getInt());
+    final byte[] planeBytes = new byte[frame.remaining()];
+    frame.get(planeBytes);
+    assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6}, planeBytes);
+  }
+
+  @Test
+  public void analyze_closesImageAndSendsSingleFrame() {
+    final RecordingImageFrameAnalyzer analyzer =
+        new RecordingImageFrameAnalyzer(new TestProxyApiRegistrar());
+    final ImageProxy image = createImage(new byte[] {1, 2, 3, 4});
+
+    analyzer.analyze(image);
+
+    verify(image).close();
+    assertEquals(1, analyzer.frames.size());
+    assertArrayEquals(ImageFrameAnalyzer.serialize(image, null), analyzer.frames.get(0));
+  }
+
+  @Test
+  public void analyze_convertsToNv21WhenEnabled() {
+    final RecordingImageFrameAnalyzer analyzer =
+        new RecordingImageFrameAnalyzer(new TestProxyApiRegistrar());
+    final ImageProxy image =
+        createImage(new byte[] {1, 2, 3, 4}, new byte[] {5}, new byte[] {6});
+
+    analyzer.setConvertsToNv21(true);
+    analyzer.analyze(image);
+
+    final ByteBuffer frame =
+        ByteBuffer.wrap(analyzer.frames.get(0)).order(ByteOrder.LITTLE_ENDIAN);
+    frame.position(5 * Integer.BYTES + Long.BYTES);
+    assertEquals(1, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(1, frame.getInt());
+    assertEquals(6, frame.getInt());
+  }
+
+  @Test
+  public void analyze_dropsImagesWhileFrameIsPending() {
+    final List<ProxyApiRegistrar.FlutterMethodRunnable> mainThreadRunnables = new ArrayList<>();
+    final ProxyApiRegistrar registrar =
+        new TestProxyApiRegistrar() {
+          @Override
+          void runOnMainThread(@NonNull FlutterMethodRunnable runnable) {
+            mainThreadRunnables.add(runnable);
+          }
+        };
+    final RecordingImageFrameAnalyzer analyzer = new RecordingImageFrameAnalyzer(registrar);
+    final ImageProxy droppedImage = createImage(new byte[] {1});
+
+    analyzer.analyze(createImage(new byte[] {1}));
+    analyzer.analyze(droppedImage);
+
+    verify(droppedImage).close();
+    verify(droppedImage, never()).getPlanes();
+    assertEquals(1, analyzer.getDroppedFrameCount());
+
+    mainThreadRunnables.get(0).run();
+    assertEquals(1, analyzer.frames.size());
+  }
+
+  @Test
+  public void analyze_reusesArrayOfSentFrame() {
+    final RecordingImageFrameAnalyzer analyzer =
+        new RecordingImageFrameAnalyzer(new TestProxyApiRegistrar());
+
+    analyzer.analyze(createImage(new byte[] {1}));
+    analyzer.analyze(createImage(new byte[] {2}));
+
+    assertSame(analyzer.sentArrays.get(0), analyzer.sentArrays.get(1));
+  }
+
+  private static ImageProxy createImage(byte[]... planeBytes) {
+    final ImageProxy image = mock(ImageProxy.class);
+    final ImageInfo imageInfo = mock(ImageInfo.class);
+    when(image.getWidth()).thenReturn(2);
+    when(image.getHeight()).thenReturn(2);
+    when(image.getFormat()).thenReturn(35);
+    when(image.getImageInfo()).thenReturn(imageInfo);
+    when(imageInfo.getRotationDegrees()).thenReturn(90);
+    when(imageInfo.getTimestamp()).thenReturn(123L);
+
+    final PlaneProxy[] planes = new PlaneProxy[planeBytes.length];
+    for (int i = 0; i < planeBytes.length; i++) {
+      planes[i] = mock(PlaneProxy.class);
+      when(planes[i].getBuffer()).thenReturn(ByteBuffer.wrap(planeBytes[i]));
+      when(planes[i].getRowStride()).thenReturn(2);
+      when(planes[i].getPixelStride()).thenReturn(1);
+    }
+    when(image.getPlanes()).thenReturn(planes);
+    return image;
+  }
+
+  private static class RecordingImageFrameAnalyzer extends ImageFrameAnalyzer {
+    final List<byte[]> frames = new ArrayList<>();
+    final List<byte[]> sentArrays = new ArrayList<>();
+
+    RecordingImageFrameAnalyzer(@NonNull ProxyApiRegistrar pigeonRegistrar) {
+      super(pigeonRegistrar);
+    }
+
+    @Override
+    void onFrame(@NonNull byte[] frame) {
+      // Copy the frame, as the analyzer reuses its array for the next frame.
+      frames.add(frame.clone());
+      sentArrays.add(frame);
+    }
+  }
+}
@@ -8,7 +8,6 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.mockito.Mockito.mockStatic;
 
 import androidx.camera.core.ImageProxy.PlaneProxy;
-import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
@@ -29,20 +28,46 @@ public class ImageProxyUtilsApiTest {
     long width = 4;
     long height = 2;
     byte[] expectedBytes = new byte[] {1, 2, 3, 4, 5};
-    ByteBuffer mockBuffer = ByteBuffer.wrap(expectedBytes);
 
     try (MockedStatic<ImageProxyUtils> mockedStatic = mockStatic(ImageProxyUtils.class)) {
       mockedStatic
           .when(
               () ->
                   ImageProxyUtils.planesToNV21(
-                      Mockito.anyList(), Mockito.anyInt(), Mockito.anyInt()))
-          .thenReturn(mockBuffer);
+                      Mockito.anyList(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any()))
+          .thenReturn(expectedBytes);
 
       byte[] result = api.getNv21Buffer(width, height, planes);
 
       assertArrayEquals(expectedBytes, result);
-      mockedStatic.verify(() -> ImageProxyUtils.planesToNV21(planes, (int) width, (int) height));
+      mockedStatic.verify(
+          () -> ImageProxyUtils.planesToNV21(planes, (int) width, (int) height, null));
+    }
+  }
+
+  @Test
+  public void getNv21Buffer_reusesArrayOfPreviousImage() {
+    final PigeonApiImageProxyUtils api = new TestProxyApiRegistrar().getPigeonApiImageProxyUtils();
+
+    List<PlaneProxy> planes =
+        Arrays.asList(
+            Mockito.mock(PlaneProxy.class),
+            Mockito.mock(PlaneProxy.class),
+            Mockito.mock(PlaneProxy.class));
+    byte[] previousBytes = new byte[] {1, 2, 3, 4, 5};
+
+    try (MockedStatic<ImageProxyUtils> mockedStatic = mockStatic(ImageProxyUtils.class)) {
+      mockedStatic
+          .when(
+              () ->
+                  ImageProxyUtils.planesToNV21(
+                      Mockito.anyList(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any()))
+          .thenReturn(previousBytes);
+
+      api.getNv21Buffer(4, 2, planes);
+      api.getNv21Buffer(4, 2, planes);
+
+      mockedStatic.verify(() -> ImageProxyUtils.planesToNV21(planes, 4, 2, previousBytes));
     }
   }
 }
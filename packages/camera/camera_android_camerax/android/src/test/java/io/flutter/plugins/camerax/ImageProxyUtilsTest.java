@@ -5,7 +5,7 @@
 package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertArrayEquals;
-import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertSame;
 
 import androidx.camera.core.ImageProxy.PlaneProxy;
 import java.nio.ByteBuffer;
@@ -17,25 +17,42 @@ import org.mockito.Mockito;
 public class ImageProxyUtilsTest {
 
   @Test
-  public void planesToNV21_throwsExceptionForNonNV21Layout() {
+  public void planesToNV21_convertsPlanarLayout() {
     int width = 4;
     int height = 2;
     byte[] y = new byte[] {0, 1, 2, 3, 4, 5, 6, 7};
 
-    // U and V planes are not in NV21 layout because the 2 ending
-    // bytes of the U plane does not overlap with the two
-    // starting bytes of the V plane.
-    byte[] u = new byte[] {20, 20, 20, 20};
-    byte[] v = new byte[] {30, 30, 30, 30};
+    // U and V planes are planar, with rows of 2 bytes.
+    byte[] u = new byte[] {20, 21, 22, 23};
+    byte[] v = new byte[] {30, 31, 32, 33};
 
     PlaneProxy yPlane = mockPlaneProxyWithData(y);
     PlaneProxy uPlane = mockPlaneProxyWithData(u);
     PlaneProxy vPlane = mockPlaneProxyWithData(v);
+    Mockito.when(uPlane.getPixelStride()).thenReturn(1);
+    Mockito.when(uPlane.getRowStride()).thenReturn(2);
 
     List<PlaneProxy> planes = Arrays.asList(yPlane, uPlane, vPlane);
 
-    assertThrows(
-        IllegalArgumentException.class, () -> ImageProxyUtils.planesToNV21(planes, width, height));
+    ByteBuffer nv21Buffer = ImageProxyUtils.planesToNV21(planes, width, height);
+    byte[] nv21 = new byte[nv21Buffer.remaining()];
+    nv21Buffer.get(nv21);
+
+    assertArrayEquals(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 30, 20, 31, 21}, nv21);
+  }
+
+  @Test
+  public void planesToNV21_writesIntoOutputOfExpectedSize() {
+    byte[] y = new byte[] {0, 1, 2, 3, 4, 5, 6, 7};
+    PlaneProxy yPlane = mockPlaneProxyWithData(y);
+    PlaneProxy uPlane = mockPlaneProxyWithData(new byte[] {5, 7, 33});
+    PlaneProxy vPlane = mockPlaneProxyWithData(new byte[] {9, 5, 7});
+    List<PlaneProxy> planes = Arrays.asList(yPlane, uPlane, vPlane);
+
+    byte[] output = new byte[12];
+
+    assertSame(output, ImageProxyUtils.planesToNV21(planes, 4, 2, output));
+    assertArrayEquals(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 9, 5, 7, 33}, output);
   }
 
   @Test
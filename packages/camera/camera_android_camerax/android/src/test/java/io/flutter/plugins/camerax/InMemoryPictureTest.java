@@ -0,0 +1,26 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class InMemoryPictureTest {
+  @Test
+  public void fields_returnValuesOfPicture() {
+    final PigeonApiInMemoryPicture api = new TestProxyApiRegistrar().getPigeonApiInMemoryPicture();
+
+    final byte[] bytes = new byte[] {1, 2, 3};
+    final InMemoryPicture instance = new InMemoryPicture(bytes, 40, 30, 90, 1000L);
+
+    assertArrayEquals(bytes, api.bytes(instance));
+    assertEquals(40, api.width(instance));
+    assertEquals(30, api.height(instance));
+    assertEquals(90, api.rotationDegrees(instance));
+    assertEquals(1000L, api.captureLatencyNanos(instance));
+  }
+}
@@ -0,0 +1,84 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class InstanceReleaseMonitorTest {
+  private int releaseRequestCount;
+
+  // A monitor whose collected references are handed over by the test instead of a thread.
+  private final InstanceReleaseMonitor monitor =
+      new InstanceReleaseMonitor(() -> releaseRequestCount++) {
+        @Nullable
+        @Override
+        Thread startReleaseThread() {
+          return null;
+        }
+      };
+
+  @Test
+  public void track_countsLiveInstancesPerType() {
+    monitor.track(new Object(), "ImageProxy");
+    monitor.track(new Object(), "PlaneProxy");
+    monitor.track(new Object(), "PlaneProxy");
+
+    final Map<String, Long> counts = monitor.getLiveInstanceCounts();
+    assertEquals(Long.valueOf(1), counts.get("ImageProxy"));
+    assertEquals(Long.valueOf(2), counts.get("PlaneProxy"));
+  }
+
+  @Test
+  public void onCollected_releasesEnqueuedReferencesInOneBatch() {
+    monitor.track(new Object(), "ImageProxy");
+    monitor.track(new Object(), "PlaneProxy");
+    monitor.track(new Object(), "PlaneProxy");
+    final List<Reference<?>> references = monitor.getTrackedReferences();
+    references.get(1).enqueue();
+    references.get(2).enqueue();
+
+    monitor.onCollected(references.get(0));
+
+    assertTrue(monitor.getLiveInstanceCounts().isEmpty());
+    assertEquals(1, releaseRequestCount);
+    assertEquals(1, monitor.getReleaseRequestCount());
+  }
+
+  @Test
+  public void onCollected_doesNotRequestReleaseWhileOneIsPending() {
+    monitor.track(new Object(), "ImageProxy");
+    monitor.track(new Object(), "ImageProxy");
+    monitor.track(new Object(), "ImageProxy");
+    final List<Reference<?>> references = monitor.getTrackedReferences();
+
+    monitor.onCollected(references.get(0));
+    monitor.onCollected(references.get(1));
+    assertEquals(1, releaseRequestCount);
+
+    monitor.onReleased();
+    monitor.onCollected(references.get(2));
+    assertEquals(2, releaseRequestCount);
+  }
+
+  @Test
+  public void stop_stopsTrackingInstances() {
+    monitor.track(new Object(), "ImageProxy");
+    final Reference<?> reference = monitor.getTrackedReferences().get(0);
+
+    monitor.stop();
+    monitor.track(new Object(), "ImageProxy");
+    monitor.onCollected(reference);
+
+    assertTrue(monitor.getLiveInstanceCounts().isEmpty());
+    assertEquals(0, releaseRequestCount);
+  }
+}
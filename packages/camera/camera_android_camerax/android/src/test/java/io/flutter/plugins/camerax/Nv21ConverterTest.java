@@ -0,0 +1,142 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class Nv21ConverterTest {
+  // A 4x4 image has 2x2 chroma samples.
+  private static final int WIDTH = 4;
+  private static final int HEIGHT = 4;
+  private static final byte[] EXPECTED_NV21 =
+      new byte[] {
+        0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, // Y
+        30, 20, 31, 21, 32, 22, 33, 23 // V0, U0, V1, U1, ...
+      };
+
+  @Test
+  public void getNv21Size_roundsChromaUp() {
+    assertEquals(24, Nv21Converter.getNv21Size(4, 4));
+    assertEquals(15 + 2 * 3 * 2, Nv21Converter.getNv21Size(5, 3));
+  }
+
+  @Test
+  public void convert_copiesInterleavedVuPlanes() {
+    // The V plane starts one byte before the U plane in the same memory.
+    final ByteBuffer vu = ByteBuffer.wrap(new byte[] {30, 20, 31, 21, 32, 22, 33, 23});
+    final ByteBuffer v = slice(vu, 0, 7);
+    final ByteBuffer u = slice(vu, 1, 7);
+
+    final byte[] nv21 = Nv21Converter.convert(luma(4), 4, u, v, 4, 2, WIDTH, HEIGHT, null);
+
+    assertArrayEquals(EXPECTED_NV21, nv21);
+  }
+
+  @Test
+  public void convert_copiesRowPaddedInterleavedVuPlanes() {
+    // Rows of 6 bytes, of which 4 are samples.
+    final ByteBuffer vu =
+        ByteBuffer.wrap(new byte[] {30, 20, 31, 21, -1, -1, 32, 22, 33, 23, -1, -1});
+    final ByteBuffer v = slice(vu, 0, 9);
+    final ByteBuffer u = slice(vu, 1, 9);
+
+    final byte[] nv21 = Nv21Converter.convert(luma(6), 6, u, v, 6, 2, WIDTH, HEIGHT, null);
+
+    assertArrayEquals(EXPECTED_NV21, nv21);
+  }
+
+  @Test
+  public void convert_copiesPlanarPlanes() {
+    final ByteBuffer u = ByteBuffer.wrap(new byte[] {20, 21, 22, 23});
+    final ByteBuffer v = ByteBuffer.wrap(new byte[] {30, 31, 32, 33});
+
+    final byte[] nv21 = Nv21Converter.convert(luma(4), 4, u, v, 2, 1, WIDTH, HEIGHT, null);
+
+    assertArrayEquals(EXPECTED_NV21, nv21);
+  }
+
+  @Test
+  public void convert_copiesRowPaddedPlanarPlanes() {
+    final ByteBuffer u = ByteBuffer.wrap(new byte[] {20, 21, -1, -1, 22, 23});
+    final ByteBuffer v = ByteBuffer.wrap(new byte[] {30, 31, -1, -1, 32, 33});
+
+    final byte[] nv21 = Nv21Converter.convert(luma(8), 8, u, v, 4, 1, WIDTH, HEIGHT, null);
+
+    assertArrayEquals(EXPECTED_NV21, nv21);
+  }
+
+  @Test
+  public void convert_copiesInterleavedUvPlanes() {
+    // NV12 layout, the U plane starts one byte before the V plane.
+    final ByteBuffer uv = ByteBuffer.wrap(new byte[] {20, 30, 21, 31, 22, 32, 23, 33});
+    final ByteBuffer u = slice(uv, 0, 7);
+    final ByteBuffer v = slice(uv, 1, 7);
+
+    final byte[] nv21 = Nv21Converter.convert(luma(4), 4, u, v, 4, 2, WIDTH, HEIGHT, null);
+
+    assertArrayEquals(EXPECTED_NV21, nv21);
+  }
+
+  @Test
+  public void convert_reusesOutputOfExpectedSizeOnly() {
+    final ByteBuffer u = ByteBuffer.wrap(new byte[] {20, 21, 22, 23});
+    final ByteBuffer v = ByteBuffer.wrap(new byte[] {30, 31, 32, 33});
+    final byte[] output = new byte[24];
+    final byte[] tooSmall = new byte[23];
+
+    assertSame(output, Nv21Converter.convert(luma(4), 4, u, v, 2, 1, WIDTH, HEIGHT, output));
+    assertNotSame(
+        tooSmall, Nv21Converter.convert(luma(4), 4, u, v, 2, 1, WIDTH, HEIGHT, tooSmall));
+  }
+
+  @Test
+  public void convert_leavesBufferPositionsUntouched() {
+    final ByteBuffer y = luma(4);
+    final ByteBuffer u = ByteBuffer.wrap(new byte[] {20, 21, 22, 23});
+    final ByteBuffer v = ByteBuffer.wrap(new byte[] {30, 31, 32, 33});
+
+    Nv21Converter.convert(y, 4, u, v, 2, 1, WIDTH, HEIGHT, null);
+
+    assertEquals(0, y.position());
+    assertEquals(0, u.position());
+    assertEquals(0, v.position());
+  }
+
+  @Test
+  public void isInterleavedVu_detectsAliasedPlanes() {
+    final ByteBuffer vu = ByteBuffer.wrap(new byte[] {30, 20, 31, 21});
+
+    assertTrue(Nv21Converter.isInterleavedVu(slice(vu, 1, 3), slice(vu, 0, 3)));
+    assertFalse(Nv21Converter.isInterleavedVu(slice(vu, 0, 3), slice(vu, 1, 3)));
+  }
+
+  // Creates a Y plane of the test image with rows of the given stride, padded with -1.
+  private static ByteBuffer luma(int rowStride) {
+    final byte[] bytes = new byte[rowStride * (HEIGHT - 1) + WIDTH];
+    Arrays.fill(bytes, (byte) -1);
+    for (int row = 0; row < HEIGHT; row++) {
+      for (int column = 0; column < WIDTH; column++) {
+        bytes[row * rowStride + column] = (byte) (row * WIDTH + column);
+      }
+    }
+    return ByteBuffer.wrap(bytes);
+  }
+
+  private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+    final ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(offset);
+    duplicate.limit(offset + length);
+    return duplicate.slice();
+  }
+}
@@ -0,0 +1,147 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+/**
+ * Checks that {@link Nv21Converter} produces the same output as reading every sample individually,
+ * for each chroma layout of a 720p image.
+ *
+ * <p>The comparison runs over full frames, with the buffer layouts used by camera devices, rather
+ * than over the small hand-written images of {@link Nv21ConverterTest}. It does not measure time,
+ * so that it does not depend on the speed or load of the machine.
+ */
+public class Nv21ConverterThroughputTest {
+  private static final int WIDTH = 1280;
+  private static final int HEIGHT = 720;
+  private static final int ROW_PADDING = 64;
+
+  private enum Layout {
+    INTERLEAVED_VU,
+    INTERLEAVED_VU_PADDED,
+    INTERLEAVED_UV,
+    PLANAR,
+    PLANAR_PADDED
+  }
+
+  /** The planes of an image, with the strides passed to {@link Nv21Converter#convert}. */
+  private static final class Planes {
+    final ByteBuffer y;
+    final ByteBuffer u;
+    final ByteBuffer v;
+    final int yRowStride;
+    final int uvRowStride;
+    final int uvPixelStride;
+
+    Planes(
+        ByteBuffer y,
+        ByteBuffer u,
+        ByteBuffer v,
+        int yRowStride,
+        int uvRowStride,
+        int uvPixelStride) {
+      this.y = y;
+      this.u = u;
+      this.v = v;
+      this.yRowStride = yRowStride;
+      this.uvRowStride = uvRowStride;
+      this.uvPixelStride = uvPixelStride;
+    }
+  }
+
+  @Test
+  public void convert_matchesSampleBySampleConversion() {
+    final byte[] output = new byte[Nv21Converter.getNv21Size(WIDTH, HEIGHT)];
+    final byte[] expectedOutput = new byte[output.length];
+    for (Layout layout : Layout.values()) {
+      final Planes planes = createPlanes(layout);
+
+      convertSampleBySample(planes, expectedOutput);
+      convert(planes, output);
+      assertArrayEquals(layout.toString(), expectedOutput, output);
+    }
+  }
+
+  private static void convert(Planes planes, byte[] output) {
+    Nv21Converter.convert(
+        planes.y,
+        planes.yRowStride,
+        planes.u,
+        planes.v,
+        planes.uvRowStride,
+        planes.uvPixelStride,
+        WIDTH,
+        HEIGHT,
+        output);
+  }
+
+  // Reads every sample with an absolute get, as the conversion did before Nv21Converter.
+  private static void convertSampleBySample(Planes planes, byte[] output) {
+    int index = 0;
+    for (int row = 0; row < HEIGHT; row++) {
+      for (int column = 0; column < WIDTH; column++) {
+        output[index++] = planes.y.get(row * planes.yRowStride + column);
+      }
+    }
+    for (int row = 0; row < (HEIGHT + 1) / 2; row++) {
+      for (int column = 0; column < (WIDTH + 1) / 2; column++) {
+        final int offset = row * planes.uvRowStride + column * planes.uvPixelStride;
+        output[index++] = planes.v.get(offset);
+        output[index++] = planes.u.get(offset);
+      }
+    }
+  }
+
+  private static Planes createPlanes(Layout layout) {
+    final boolean isPadded =
+        layout == Layout.INTERLEAVED_VU_PADDED || layout == Layout.PLANAR_PADDED;
+    final boolean isPlanar = layout == Layout.PLANAR || layout == Layout.PLANAR_PADDED;
+    final int chromaWidth = (WIDTH + 1) / 2;
+    final int chromaHeight = (HEIGHT + 1) / 2;
+    final int padding = isPadded ? ROW_PADDING : 0;
+    final int yRowStride = WIDTH + padding;
+    final int pixelStride = isPlanar ? 1 : 2;
+    final int uvRowStride = pixelStride * chromaWidth + padding;
+
+    // Camera buffers are direct, so the test uses direct buffers too.
+    final ByteBuffer y = ByteBuffer.allocateDirect(yRowStride * (HEIGHT - 1) + WIDTH);
+    fill(y, 10);
+    final ByteBuffer u;
+    final ByteBuffer v;
+    if (isPlanar) {
+      final int planeSize = uvRowStride * (chromaHeight - 1) + chromaWidth;
+      u = ByteBuffer.allocateDirect(planeSize);
+      v = ByteBuffer.allocateDirect(planeSize);
+      fill(u, 20);
+      fill(v, 30);
+    } else {
+      final int planeSize = uvRowStride * (chromaHeight - 1) + 2 * chromaWidth - 1;
+      final ByteBuffer chroma = ByteBuffer.allocateDirect(planeSize + 1);
+      fill(chroma, 20);
+      final boolean isVuOrder = layout != Layout.INTERLEAVED_UV;
+      v = slice(chroma, isVuOrder ? 0 : 1, planeSize);
+      u = slice(chroma, isVuOrder ? 1 : 0, planeSize);
+    }
+    return new Planes(y, u, v, yRowStride, uvRowStride, pixelStride);
+  }
+
+  // Fills a buffer with varying values, so that differently ordered planes never compare equal.
+  private static void fill(ByteBuffer buffer, int seed) {
+    for (int i = 0; i < buffer.capacity(); i++) {
+      buffer.put(i, (byte) (seed + i * 7 + i / 5));
+    }
+  }
+
+  private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+    final ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(offset);
+    duplicate.limit(offset + length);
+    return duplicate.slice();
+  }
+}
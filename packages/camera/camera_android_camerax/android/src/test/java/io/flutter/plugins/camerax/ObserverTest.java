@@ -4,12 +4,17 @@
 
 package io.flutter.plugins.camerax;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Test;
 
 public class ObserverTest {
@@ -25,4 +30,60 @@ public class ObserverTest {
 
     verify(mockApi).onChanged(eq(instance), eq(value), any());
   }
+
+  @Test
+  public void onChanged_coalescesValuesEmittedWithinDeliveryInterval() {
+    final List<ProxyApiRegistrar.FlutterMethodRunnable> delayedRunnables = new ArrayList<>();
+    final TestProxyApiRegistrar registrar =
+        new TestProxyApiRegistrar() {
+          @Override
+          void runOnMainThreadDelayed(@NonNull FlutterMethodRunnable runnable, long delayMillis) {
+            delayedRunnables.add(runnable);
+          }
+        };
+    registrar.setObserverDeliveryIntervalMillis(16);
+    final ObserverProxyApi mockApi = mock(ObserverProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(registrar);
+
+    final ObserverProxyApi.ObserverImpl<String> instance =
+        new ObserverProxyApi.ObserverImpl<>(mockApi);
+    instance.onChanged("first");
+    instance.onChanged("second");
+    instance.onChanged("third");
+
+    assertEquals(1, delayedRunnables.size());
+    verify(mockApi, never()).onChanged(eq(instance), any(), any());
+
+    delayedRunnables.get(0).run();
+
+    verify(mockApi).onChanged(eq(instance), eq("third"), any());
+    verify(mockApi, never()).onChanged(eq(instance), eq("first"), any());
+    assertEquals(2, instance.getCoalescedEventCount());
+    assertEquals(2, registrar.getCoalescedObserverEventCount());
+
+    instance.onChanged("fourth");
+
+    assertEquals(2, delayedRunnables.size());
+  }
+
+  @Test
+  public void setDeliveryInterval_setsObserverDeliveryIntervalOfRegistrar() {
+    final TestProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final PigeonApiObserver api = registrar.getPigeonApiObserver();
+
+    api.setDeliveryInterval(16);
+
+    assertEquals(16, registrar.getObserverDeliveryIntervalMillis());
+  }
+
+  @Test
+  public void getCoalescedEventCount_returnsCoalescedObserverEventCountOfRegistrar() {
+    final TestProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final PigeonApiObserver api = registrar.getPigeonApiObserver();
+
+    registrar.onObserverEventCoalesced();
+    registrar.onObserverEventCoalesced();
+
+    assertEquals(2, api.getCoalescedEventCount());
+  }
 }
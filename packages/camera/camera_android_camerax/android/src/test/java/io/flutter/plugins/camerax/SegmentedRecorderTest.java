@@ -0,0 +1,277 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.camera.video.FileOutputOptions;
+import androidx.camera.video.PendingRecording;
+import androidx.camera.video.Recorder;
+import androidx.camera.video.Recording;
+import androidx.camera.video.RecordingStats;
+import androidx.camera.video.VideoRecordEvent;
+import androidx.core.util.Consumer;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class SegmentedRecorderTest {
+  private final Recorder mockRecorder = mock(Recorder.class);
+  private final PendingRecording mockPendingRecording = mock(PendingRecording.class);
+  private final List<Recording> recordings = new ArrayList<>();
+  private final List<Consumer<VideoRecordEvent>> eventListeners = new ArrayList<>();
+  private final List<SegmentedRecorder.Segment> segments = new ArrayList<>();
+  private final List<IllegalStateException> rotationFailures = new ArrayList<>();
+
+  @SuppressWarnings("unchecked")
+  @Before
+  public void setUp() {
+    when(mockRecorder.prepareRecording(any(Context.class), any(FileOutputOptions.class)))
+        .thenReturn(mockPendingRecording);
+    when(mockPendingRecording.start(any(Executor.class), any(Consumer.class)))
+        .thenAnswer(
+            invocation -> {
+              final Recording recording = mock(Recording.class);
+              recordings.add(recording);
+              eventListeners.add(invocation.getArgument(1));
+              return recording;
+            });
+  }
+
+  @Test
+  public void start_recordsFirstSegmentToNumberedFile() {
+    final SegmentedRecorder segmentedRecorder = createSegmentedRecorder(1000, 0);
+
+    segmentedRecorder.start();
+
+    final ArgumentCaptor<FileOutputOptions> optionsCaptor =
+        ArgumentCaptor.forClass(FileOutputOptions.class);
+    verify(mockRecorder).prepareRecording(any(Context.class), optionsCaptor.capture());
+    assertEquals(new File("segments", "REC_00000.mp4"), optionsCaptor.getValue().getFile());
+    assertEquals(1, segmentedRecorder.getSegmentCount());
+  }
+
+  @Test
+  public void statusEvent_rotatesSegmentOnceDurationIsReached() {
+    final SegmentedRecorder segmentedRecorder = createSegmentedRecorder(1000, 0);
+    segmentedRecorder.start();
+
+    eventListeners.get(0).accept(createStatusEvent(999, 10));
+    assertEquals(1, recordings.size());
+
+    eventListeners.get(0).accept(createStatusEvent(1000, 10));
+    verify(recordings.get(0)).stop();
+    assertEquals(2, recordings.size());
+
+    // Status events of the stopped segment do not rotate again.
+    eventListeners.get(0).accept(createStatusEvent(1001, 10));
+    assertEquals(2, recordings.size());
+  }
+
+  @Test
+  public void statusEvent_rotatesSegmentOnceSizeIsReached() {
+    final SegmentedRecorder segmentedRecorder = createSegmentedRecorder(0, 4096);
+    segmentedRecorder.start();
+
+    eventListeners.get(0).accept(createStatusEvent(5000, 4096));
+
+    verify(recordings.get(0)).stop();
+    assertEquals(2, segmentedRecorder.getSegmentCount());
+  }
+
+  @Test
+  public void finalizeEvent_reportsSegmentsAndMarksLastOne() {
+    final SegmentedRecorder segmentedRecorder = createSegmentedRecorder(1000, 0);
+    segmentedRecorder.start();
+    eventListeners.get(0).accept(createStatusEvent(1000, 10));
+
+    eventListeners
+        .get(0)
+        .accept(createFinalizeEvent(1000, 10, VideoRecordEvent.Finalize.ERROR_NONE));
+    segmentedRecorder.stop();
+    eventListeners.get(1).accept(createFinalizeEvent(300, 3, VideoRecordEvent.Finalize.ERROR_NONE));
+
+    verify(recordings.get(1)).stop();
+    assertEquals(2, segments.size());
+    assertEquals(0, segments.get(0).index);
+    assertEquals(new File("segments", "REC_00000.mp4"), segments.get(0).file);
+    assertEquals(1000, segments.get(0).durationNanos);
+    assertFalse(segments.get(0).isLast);
+    assertEquals(1, segments.get(1).index);
+    assertEquals(3, segments.get(1).sizeBytes);
+    assertTrue(segments.get(1).isLast);
+  }
+
+  @Test
+  public void finalizeEvent_endsRecordingWhenActiveSegmentFails() {
+    final SegmentedRecorder segmentedRecorder = createSegmentedRecorder(1000, 0);
+    segmentedRecorder.start();
+
+    eventListeners
+        .get(0)
+        .accept(createFinalizeEvent(10, 1, VideoRecordEvent.Finalize.ERROR_SOURCE_INACTIVE));
+
+    assertTrue(segmentedRecorder.isStopped());
+    assertTrue(segments.get(0).isLast);
+    assertEquals(VideoRecordEvent.Finalize.ERROR_SOURCE_INACTIVE, segments.get(0).error);
+    verify(mockPendingRecording, times(1)).start(any(Executor.class), any());
+    verify(recordings.get(0), never()).stop();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void statusEvent_endsRecordingWhenNextSegmentFailsToStart() {
+    final SegmentedRecorder segmentedRecorder = createSegmentedRecorder(1000, 0);
+    segmentedRecorder.start();
+    final IllegalStateException exception = new IllegalStateException("Recorder is busy");
+    doThrow(exception).when(mockPendingRecording).start(any(Executor.class), any(Consumer.class));
+
+    eventListeners.get(0).accept(createStatusEvent(1000, 10));
+    eventListeners
+        .get(0)
+        .accept(createFinalizeEvent(1000, 10, VideoRecordEvent.Finalize.ERROR_NONE));
+
+    verify(recordings.get(0)).stop();
+    assertTrue(segmentedRecorder.isStopped());
+    assertEquals(1, segmentedRecorder.getSegmentCount());
+    assertEquals(1, rotationFailures.size());
+    assertEquals(exception, rotationFailures.get(0));
+    assertEquals(1, segments.size());
+    assertTrue(segments.get(0).isLast);
+  }
+
+  @Test
+  public void start_callsStartOnInstance() {
+    final PigeonApiSegmentedRecorder api =
+        new TestProxyApiRegistrar().getPigeonApiSegmentedRecorder();
+
+    final SegmentedRecorder instance = mock(SegmentedRecorder.class);
+    api.start(instance);
+
+    verify(instance).start();
+  }
+
+  @Test
+  public void stop_callsStopOnInstance() {
+    final PigeonApiSegmentedRecorder api =
+        new TestProxyApiRegistrar().getPigeonApiSegmentedRecorder();
+
+    final SegmentedRecorder instance = mock(SegmentedRecorder.class);
+    api.stop(instance);
+
+    verify(instance).stop();
+  }
+
+  @Test
+  public void onSegmentFinalized_makesCallToDartOnSegmentFinalized() {
+    final SegmentedRecorderProxyApi mockApi = mock(SegmentedRecorderProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(new TestProxyApiRegistrar());
+
+    final SegmentedRecorderProxyApi.SegmentListenerImpl listener =
+        new SegmentedRecorderProxyApi.SegmentListenerImpl(mockApi);
+    final SegmentedRecorder instance = mock(SegmentedRecorder.class);
+    listener.segmentedRecorder = instance;
+    final SegmentedRecorder.Segment segment =
+        new SegmentedRecorder.Segment(0, new File("segments", "REC_00000.mp4"), 10, 1, 0, false);
+    listener.onSegmentFinalized(segment);
+
+    verify(mockApi).onSegmentFinalized(eq(instance), eq(segment), any());
+  }
+
+  @Test
+  public void onRotationFailed_makesCallToDartOnRotationFailed() {
+    final SegmentedRecorderProxyApi mockApi = mock(SegmentedRecorderProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(new TestProxyApiRegistrar());
+
+    final SegmentedRecorderProxyApi.SegmentListenerImpl listener =
+        new SegmentedRecorderProxyApi.SegmentListenerImpl(mockApi);
+    final SegmentedRecorder instance = mock(SegmentedRecorder.class);
+    listener.segmentedRecorder = instance;
+    listener.onRotationFailed(new IllegalStateException("Recorder is busy"));
+
+    verify(mockApi).onRotationFailed(eq(instance), eq("Recorder is busy"), any());
+  }
+
+  @Test
+  public void recordedSegmentFields_returnValuesOfSegment() {
+    final PigeonApiRecordedSegment api = new TestProxyApiRegistrar().getPigeonApiRecordedSegment();
+
+    final File file = new File("segments", "REC_00002.mp4");
+    final SegmentedRecorder.Segment segment =
+        new SegmentedRecorder.Segment(
+            2, file, 1000, 4096, VideoRecordEvent.Finalize.ERROR_SOURCE_INACTIVE, true);
+
+    assertEquals(2, api.index(segment));
+    assertEquals(file.getAbsolutePath(), api.path(segment));
+    assertEquals(1000, api.durationNanos(segment));
+    assertEquals(4096, api.sizeBytes(segment));
+    assertEquals(VideoRecordEvent.Finalize.ERROR_SOURCE_INACTIVE, api.error(segment));
+    assertTrue(api.isLast(segment));
+  }
+
+  private SegmentedRecorder createSegmentedRecorder(
+      long maxSegmentDurationNanos, long maxSegmentBytes) {
+    return new SegmentedRecorder(
+        mockRecorder,
+        mock(Context.class),
+        new File("segments"),
+        "REC",
+        maxSegmentDurationNanos,
+        maxSegmentBytes,
+        false,
+        Runnable::run,
+        new SegmentedRecorder.SegmentListener() {
+          @Override
+          public void onSegmentFinalized(@NonNull SegmentedRecorder.Segment segment) {
+            segments.add(segment);
+          }
+
+          @Override
+          public void onRotationFailed(@NonNull IllegalStateException exception) {
+            rotationFailures.add(exception);
+          }
+        });
+  }
+
+  private static RecordingStats createStats(long durationNanos, long sizeBytes) {
+    final RecordingStats mockStats = mock(RecordingStats.class);
+    when(mockStats.getRecordedDurationNanos()).thenReturn(durationNanos);
+    when(mockStats.getNumBytesRecorded()).thenReturn(sizeBytes);
+    return mockStats;
+  }
+
+  private static VideoRecordEvent.Status createStatusEvent(long durationNanos, long sizeBytes) {
+    final VideoRecordEvent.Status mockEvent = mock(VideoRecordEvent.Status.class);
+    final RecordingStats stats = createStats(durationNanos, sizeBytes);
+    when(mockEvent.getRecordingStats()).thenReturn(stats);
+    return mockEvent;
+  }
+
+  private static VideoRecordEvent.Finalize createFinalizeEvent(
+      long durationNanos, long sizeBytes, int error) {
+    final VideoRecordEvent.Finalize mockEvent = mock(VideoRecordEvent.Finalize.class);
+    final RecordingStats stats = createStats(durationNanos, sizeBytes);
+    when(mockEvent.getRecordingStats()).thenReturn(stats);
+    when(mockEvent.getError()).thenReturn(error);
+    when(mockEvent.hasError()).thenReturn(error != VideoRecordEvent.Finalize.ERROR_NONE);
+    return mockEvent;
+  }
+}
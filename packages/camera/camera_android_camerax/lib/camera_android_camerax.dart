@@ -3,3 +3,6 @@
 // found in the LICENSE file.
 
 export 'src/android_camera_camerax.dart';
+export 'src/camerax_image_stream_options.dart';
+export 'src/camerax_library.g.dart'
+    show CameraInfoSnapshot, LensFacing, RecordedSegment, VideoQuality;
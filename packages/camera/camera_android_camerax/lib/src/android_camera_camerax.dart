@@ -7,11 +7,12 @@ import 'dart:math' show Point;
 
 import 'package:async/async.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
-import 'package:flutter/foundation.dart' show Uint8List;
+import 'package:flutter/foundation.dart' show ByteData, Endian, Uint8List;
 import 'package:flutter/services.dart'
     show DeviceOrientation, PlatformException;
 import 'package:flutter/widgets.dart' show Texture, Widget, visibleForTesting;
 import 'package:stream_transform/stream_transform.dart';
+import 'camerax_image_stream_options.dart';
 import 'camerax_library.dart';
 import 'camerax_proxy.dart';
 import 'rotated_preview_delegate.dart';
@@ -72,6 +73,11 @@ class AndroidCameraCameraX extends CameraPlatform {
   @visibleForTesting
   Recording? recording;
 
+  /// The [SegmentedRecorder] instance representing the current segmented
+  /// recording.
+  @visibleForTesting
+  SegmentedRecorder? segmentedRecorder;
+
   /// The path at which the video file will be saved for the current [Recording].
   @visibleForTesting
   String? videoOutputPath;
@@ -348,6 +354,41 @@ class AndroidCameraCameraX extends CameraPlatform {
     return cameraDescriptions;
   }
 
+  /// Starts initializing the camera provider and caching the static info of
+  /// its cameras, so that [availableCameras] does not wait for the camera
+  /// service on cold start.
+  ///
+  /// Call this as early as possible, e.g. before `runApp`.
+  Future<void> warmUpCameraProvider() {
+    return proxy.warmUpProcessCameraProvider();
+  }
+
+  /// Returns the static info of each available camera, such as its supported
+  /// video qualities and its zoom and exposure compensation ranges.
+  ///
+  /// The info is read once, when the camera provider is ready.
+  Future<List<CameraInfoSnapshot>> getCameraInfoSnapshots() async {
+    processCameraProvider ??= await proxy.getInstanceProcessCameraProvider();
+    return processCameraProvider!.getCameraInfoSnapshots();
+  }
+
+  /// Sets the minimum interval between two values sent by the same camera
+  /// state observer, such as the zoom, exposure and camera state observers.
+  ///
+  /// Values emitted within the interval are coalesced into the latest one,
+  /// which keeps fast changing values, such as the zoom state during a pinch,
+  /// from sending a message per value. [Duration.zero], the default, sends
+  /// every value.
+  Future<void> setObserverDeliveryInterval(Duration interval) {
+    return proxy.setDeliveryIntervalObserver(interval.inMilliseconds);
+  }
+
+  /// Returns the number of observed values that were replaced by a later value
+  /// before being sent, because of the [setObserverDeliveryInterval].
+  Future<int> getCoalescedObserverEventCount() {
+    return proxy.getCoalescedEventCountObserver();
+  }
+
   /// Creates an uninitialized camera instance with default settings and returns the camera ID.
   ///
   /// See [createCameraWithSettings]
@@ -1026,28 +1067,36 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// [cameraId] is not used.
   @override
   Future<XFile> takePicture(int cameraId) async {
-    await _bindUseCaseToLifecycle(imageCapture!, cameraId);
-    // Set flash mode.
-    if (_currentFlashMode != null) {
-      await imageCapture!.setFlashMode(_currentFlashMode!);
-    } else if (torchEnabled) {
-      // Ensure any previously set flash modes are unset when torch mode has
-      // been enabled.
-      await imageCapture!.setFlashMode(CameraXFlashMode.off);
-    }
-
-    // Set target rotation to the current default CameraX rotation if
-    // the capture orientation is not locked.
-    if (!captureOrientationLocked) {
-      await imageCapture!.setTargetRotation(
-        await deviceOrientationManager.getDefaultDisplayRotation(),
-      );
-    }
+    await _prepareImageCapture(cameraId);
 
     final String picturePath = await imageCapture!.takePicture();
     return XFile(picturePath);
   }
 
+  /// Captures an image into memory and returns its encoded JPEG bytes, without
+  /// saving it to a file like [takePicture] does.
+  ///
+  /// The rotation that makes the picture upright is in its EXIF orientation.
+  ///
+  /// [cameraId] is not used.
+  Future<XFile> takePictureToMemory(int cameraId) async {
+    await _prepareImageCapture(cameraId);
+
+    final InMemoryPicture picture = await imageCapture!.takePictureToMemory();
+    return XFile.fromData(
+      picture.bytes,
+      mimeType: 'image/jpeg',
+      length: picture.bytes.length,
+    );
+  }
+
+  /// Returns the count and the last, min, max and average latencies in
+  /// nanoseconds of the pictures captured with [takePictureToMemory], or -1
+  /// until a picture was captured.
+  Future<Map<String, int>> getCaptureMetrics() {
+    return imageCapture!.getCaptureMetrics();
+  }
+
   /// Sets the flash mode for the selected camera.
   ///
   /// When the [FlashMode.torch] is enabled, any previously set [FlashMode] with
@@ -1252,6 +1301,84 @@ class AndroidCameraCameraX extends CameraPlatform {
     return videoFile;
   }
 
+  /// Starts a video recording split into segment files, and returns a stream
+  /// of the segments as they are finalized.
+  ///
+  /// A new segment file is started in [directory] once the current one reaches
+  /// [maxSegmentDuration] or [maxSegmentBytes], whichever comes first. Null
+  /// means no limit. Each finalized segment can be used while the following
+  /// ones are recorded.
+  ///
+  /// The stream closes after the last segment, once
+  /// [stopSegmentedRecording] is called. If the next segment could not be
+  /// started, the stream reports a [CameraException] and the segment that was
+  /// being rotated is the last one.
+  Future<Stream<RecordedSegment>> startSegmentedRecording(
+    int cameraId, {
+    required String directory,
+    String fileNamePrefix = 'REC',
+    Duration? maxSegmentDuration,
+    int? maxSegmentBytes,
+  }) async {
+    if (recording != null || segmentedRecorder != null) {
+      throw CameraException(
+        'videoRecordingFailed',
+        'Attempting to start a segmented recording while a recording is in '
+            'progress.',
+      );
+    }
+
+    await _bindUseCaseToLifecycle(videoCapture!, cameraId);
+
+    // Set target rotation to default CameraX rotation only if capture
+    // orientation not locked.
+    if (!captureOrientationLocked && shouldSetDefaultRotation) {
+      await videoCapture!.setTargetRotation(
+        await deviceOrientationManager.getDefaultDisplayRotation(),
+      );
+    }
+
+    final StreamController<RecordedSegment> segmentStreamController =
+        StreamController<RecordedSegment>();
+    segmentedRecorder = proxy.newSegmentedRecorder(
+      onSegmentFinalized: (_, RecordedSegment segment) {
+        segmentStreamController.add(segment);
+        if (segment.isLast) {
+          segmentStreamController.close();
+        }
+      },
+      onRotationFailed: (_, String message) {
+        segmentStreamController.addError(
+          CameraException('rotationFailed', message),
+        );
+      },
+      recorder: recorder!,
+      directory: directory,
+      fileNamePrefix: fileNamePrefix,
+      maxSegmentDurationMillis: maxSegmentDuration?.inMilliseconds ?? 0,
+      maxSegmentBytes: maxSegmentBytes ?? 0,
+      audioEnabled: enableRecordingAudio,
+    );
+    await segmentedRecorder!.start();
+    return segmentStreamController.stream;
+  }
+
+  /// Stops the segmented recording started by [startSegmentedRecording].
+  ///
+  /// The current segment is the last one, and is reported once finalized.
+  Future<void> stopSegmentedRecording(int cameraId) async {
+    if (segmentedRecorder == null) {
+      throw CameraException(
+        'videoRecordingFailed',
+        'Attempting to stop a segmented recording while no segmented '
+            'recording is in progress.',
+      );
+    }
+
+    await segmentedRecorder!.stop();
+    segmentedRecorder = null;
+  }
+
   /// Pause the current video recording if it is not null.
   @override
   Future<void> pauseVideoRecording(int cameraId) async {
@@ -1284,14 +1411,23 @@ class AndroidCameraCameraX extends CameraPlatform {
   /// streamed images will still have format [ImageFormatGroup.yuv420], but
   /// their image data will be formatted in NV21.
   ///
-  /// [cameraId] and [options] are not used.
+  /// Pass [CameraXImageStreamOptions] as [options] to copy and convert images
+  /// on a native background thread instead. Other [options] are not used.
+  ///
+  /// [cameraId] is not used.
   @override
   Stream<CameraImageData> onStreamedFrameAvailable(
     int cameraId, {
     CameraImageStreamOptions? options,
   }) {
+    final bool useBackgroundFrameAnalyzer =
+        options is CameraXImageStreamOptions &&
+        options.useBackgroundFrameAnalyzer;
     cameraImageDataStreamController = StreamController<CameraImageData>(
-      onListen: () async => _configureImageAnalysis(cameraId),
+      onListen: () async => _configureImageAnalysis(
+        cameraId,
+        useBackgroundFrameAnalyzer: useBackgroundFrameAnalyzer,
+      ),
       onCancel: _onFrameStreamCancel,
     );
     return cameraImageDataStreamController!.stream;
@@ -1324,8 +1460,36 @@ class AndroidCameraCameraX extends CameraPlatform {
     await _updateCameraInfoAndLiveCameraState(cameraId);
   }
 
+  /// Binds [imageCapture] and updates its flash mode and target rotation before
+  /// taking a picture.
+  Future<void> _prepareImageCapture(int cameraId) async {
+    await _bindUseCaseToLifecycle(imageCapture!, cameraId);
+    // Set flash mode.
+    if (_currentFlashMode != null) {
+      await imageCapture!.setFlashMode(_currentFlashMode!);
+    } else if (torchEnabled) {
+      // Ensure any previously set flash modes are unset when torch mode has
+      // been enabled.
+      await imageCapture!.setFlashMode(CameraXFlashMode.off);
+    }
+
+    // Set target rotation to the current default CameraX rotation if
+    // the capture orientation is not locked.
+    if (!captureOrientationLocked) {
+      await imageCapture!.setTargetRotation(
+        await deviceOrientationManager.getDefaultDisplayRotation(),
+      );
+    }
+  }
+
   /// Configures the [imageAnalysis] instance for image streaming.
-  Future<void> _configureImageAnalysis(int cameraId) async {
+  ///
+  /// If [useBackgroundFrameAnalyzer] is true, images are sent by an
+  /// [ImageFrameAnalyzer] instead of being read by an [Analyzer].
+  Future<void> _configureImageAnalysis(
+    int cameraId, {
+    bool useBackgroundFrameAnalyzer = false,
+  }) async {
     await _bindUseCaseToLifecycle(imageAnalysis!, cameraId);
 
     // Set target rotation to default CameraX rotation only if capture
@@ -1336,9 +1500,27 @@ class AndroidCameraCameraX extends CameraPlatform {
       );
     }
 
-    // Create and set Analyzer that can read image data for image streaming.
     final WeakReference<AndroidCameraCameraX> weakThis =
         WeakReference<AndroidCameraCameraX>(this);
+    if (useBackgroundFrameAnalyzer) {
+      // Create and set an analyzer that sends each image as a single frame,
+      // copied and converted on a background thread.
+      final bool isNv21 =
+          _imageAnalysisOutputImageFormat == imageAnalysisOutputImageFormatNv21;
+      await imageAnalysis!.setFrameAnalyzer(
+        proxy.newImageFrameAnalyzer(
+          onFrame: (_, Uint8List frame) {
+            final AndroidCameraCameraX camera = weakThis.target!;
+            camera.cameraImageDataStreamController!.add(
+              camera._cameraImageDataFromFrame(frame, isNv21: isNv21),
+            );
+          },
+        ),
+      );
+      return;
+    }
+
+    // Create and set Analyzer that can read image data for image streaming.
     Future<void> analyze(ImageProxy imageProxy) async {
       final List<PlaneProxy> planes = await imageProxy.getPlanes();
       final List<CameraImagePlane> cameraImagePlanes = <CameraImagePlane>[];
@@ -1412,6 +1594,66 @@ class AndroidCameraCameraX extends CameraPlatform {
     );
   }
 
+  /// Parses a frame sent by an [ImageFrameAnalyzer].
+  ///
+  /// The frame is a little-endian header of the width, height, format,
+  /// rotation, timestamp and plane count of the image, followed by the row
+  /// stride, pixel stride and length of each plane, then the bytes of each
+  /// plane.
+  CameraImageData _cameraImageDataFromFrame(
+    Uint8List frame, {
+    required bool isNv21,
+  }) {
+    final ByteData data = ByteData.sublistView(frame);
+    final int width = data.getInt32(0, Endian.little);
+    final int height = data.getInt32(4, Endian.little);
+    final int imageRawFormat = data.getInt32(8, Endian.little);
+    final int planeCount = data.getInt32(24, Endian.little);
+
+    final List<CameraImagePlane> cameraImagePlanes = <CameraImagePlane>[];
+    int planeHeaderOffset = 28;
+    int planeOffset = planeHeaderOffset + planeCount * 12;
+    for (int i = 0; i < planeCount; i++) {
+      final int length = data.getInt32(planeHeaderOffset + 8, Endian.little);
+      cameraImagePlanes.add(
+        CameraImagePlane(
+          bytes: Uint8List.sublistView(
+            frame,
+            planeOffset,
+            planeOffset + length,
+          ),
+          bytesPerRow: data.getInt32(planeHeaderOffset, Endian.little),
+          // For NV21, the single plane has 1.5 bytes per pixel (Y plane has
+          // width * height; VU plane has width * height / 2), but this is
+          // rounded down to 1 because an int is expected. camera_android
+          // reports the same.
+          bytesPerPixel: data.getInt32(planeHeaderOffset + 4, Endian.little),
+        ),
+      );
+      planeHeaderOffset += 12;
+      planeOffset += length;
+    }
+
+    // Manually override ImageFormat to NV21 if set for image streaming as
+    // CameraX still reports YUV_420_888 if the underlying format is NV21.
+    final CameraImageFormat cameraImageFormat = isNv21
+        ? const CameraImageFormat(
+            ImageFormatGroup.nv21,
+            raw: imageProxyFormatNv21,
+          )
+        : CameraImageFormat(
+            _imageFormatGroupFromPlatformData(imageRawFormat),
+            raw: imageRawFormat,
+          );
+
+    return CameraImageData(
+      format: cameraImageFormat,
+      planes: cameraImagePlanes,
+      height: height,
+      width: width,
+    );
+  }
+
   /// Unbinds [useCase] from camera lifecycle controlled by the
   /// [processCameraProvider] if not already unbound.
   Future<void> _unbindUseCaseFromLifecycle(UseCase useCase) async {
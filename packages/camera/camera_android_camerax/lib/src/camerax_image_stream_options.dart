@@ -0,0 +1,19 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// CameraX-specific options of an image stream, which can be passed to
+/// [CameraPlatform.onStreamedFrameAvailable].
+class CameraXImageStreamOptions extends CameraImageStreamOptions {
+  /// Creates a new set of image stream options.
+  CameraXImageStreamOptions({this.useBackgroundFrameAnalyzer = false});
+
+  /// Whether each image is copied, and converted to NV21 if requested, on a
+  /// native background thread and sent to Dart as a single message.
+  ///
+  /// By default, the planes of each image are queried from Dart, which takes
+  /// one platform message per plane but does not copy the image natively.
+  final bool useBackgroundFrameAnalyzer;
+}
@@ -178,6 +178,9 @@ class PigeonInstanceManager {
     ProcessCameraProvider.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
+    CameraInfoSnapshot.pigeon_setUpMessageHandlers(
+      pigeon_instanceManager: instanceManager,
+    );
     UseCase.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
@@ -212,9 +215,18 @@ class PigeonInstanceManager {
     Recording.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
+    SegmentedRecorder.pigeon_setUpMessageHandlers(
+      pigeon_instanceManager: instanceManager,
+    );
+    RecordedSegment.pigeon_setUpMessageHandlers(
+      pigeon_instanceManager: instanceManager,
+    );
     ImageCapture.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
+    InMemoryPicture.pigeon_setUpMessageHandlers(
+      pigeon_instanceManager: instanceManager,
+    );
     ResolutionStrategy.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
@@ -239,6 +251,9 @@ class PigeonInstanceManager {
     Analyzer.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
+    ImageFrameAnalyzer.pigeon_setUpMessageHandlers(
+      pigeon_instanceManager: instanceManager,
+    );
     CameraStateStateError.pigeon_setUpMessageHandlers(
       pigeon_instanceManager: instanceManager,
     );
@@ -1772,6 +1787,85 @@ class Observer extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// Sets the minimum interval between two values sent by the same observer.
+  ///
+  /// Values emitted within the interval are coalesced into the latest one. An
+  /// interval of 0, the default, sends every value.
+  static Future<void> setDeliveryInterval(
+    int intervalMillis, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.Observer.setDeliveryInterval';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[intervalMillis],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// The number of values replaced by a later value before being sent.
+  static Future<int> getCoalescedEventCount({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.Observer.getCoalescedEventCount';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
   @override
   Observer pigeon_copy() {
     return Observer.pigeon_detached(
@@ -2319,6 +2413,41 @@ class ProcessCameraProvider extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// Starts initializing the ProcessCameraProvider ahead of [getInstance] and
+  /// caching a [CameraInfoSnapshot] of each of its cameras.
+  static Future<void> warmUp({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ProcessCameraProvider.warmUp';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(null);
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   /// The `CameraInfo` instances of the available cameras.
   Future<List<CameraInfo>> getAvailableCameraInfos() async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
@@ -2355,6 +2484,44 @@ class ProcessCameraProvider extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// The static info of each available camera, read once when the provider is
+  /// ready.
+  Future<List<CameraInfoSnapshot>> getCameraInfoSnapshots() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecProcessCameraProvider;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ProcessCameraProvider.getCameraInfoSnapshots';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as List<Object?>?)!
+          .cast<CameraInfoSnapshot>();
+    }
+  }
+
   /// Binds the collection of `UseCase` to a `LifecycleOwner`.
   Future<Camera> bindToLifecycle(
     CameraSelector cameraSelector,
@@ -2502,25 +2669,72 @@ class ProcessCameraProvider extends PigeonInternalProxyApiBaseClass {
   }
 }
 
-/// The use case which all other use cases are built on top of.
-///
-/// See https://developer.android.com/reference/kotlin/androidx/camera/core/UseCase.
-class UseCase extends PigeonInternalProxyApiBaseClass {
-  /// Constructs [UseCase] without creating the associated native object.
+/// The static info of a camera, read once from its `CameraInfo` so that it can
+/// be read without a call per value.
+class CameraInfoSnapshot extends PigeonInternalProxyApiBaseClass {
+  /// Constructs [CameraInfoSnapshot] without creating the associated native object.
   ///
   /// This should only be used by subclasses created by this library or to
   /// create copies for an [PigeonInstanceManager].
   @protected
-  UseCase.pigeon_detached({
+  CameraInfoSnapshot.pigeon_detached({
     super.pigeon_binaryMessenger,
     super.pigeon_instanceManager,
+    required this.cameraId,
+    required this.lensFacing,
+    required this.sensorRotationDegrees,
+    required this.supportedVideoQualities,
+    required this.minExposureCompensationIndex,
+    required this.maxExposureCompensationIndex,
+    required this.exposureCompensationStep,
+    required this.minZoomRatio,
+    required this.maxZoomRatio,
   });
 
+  /// The Camera2 ID of the camera.
+  final String cameraId;
+
+  /// The direction the lens of the camera faces.
+  final LensFacing lensFacing;
+
+  /// The rotation of the sensor relative to the natural orientation of the
+  /// device, in degrees.
+  final int sensorRotationDegrees;
+
+  /// The SDR video qualities the camera supports.
+  final List<VideoQuality> supportedVideoQualities;
+
+  /// The minimum exposure compensation index.
+  final int minExposureCompensationIndex;
+
+  /// The maximum exposure compensation index.
+  final int maxExposureCompensationIndex;
+
+  /// The smallest step by which the exposure compensation can be changed.
+  final double exposureCompensationStep;
+
+  /// The minimum zoom ratio.
+  final double minZoomRatio;
+
+  /// The maximum zoom ratio.
+  final double maxZoomRatio;
+
   static void pigeon_setUpMessageHandlers({
     bool pigeon_clearHandlers = false,
     BinaryMessenger? pigeon_binaryMessenger,
     PigeonInstanceManager? pigeon_instanceManager,
-    UseCase Function()? pigeon_newInstance,
+    CameraInfoSnapshot Function(
+      String cameraId,
+      LensFacing lensFacing,
+      int sensorRotationDegrees,
+      List<VideoQuality> supportedVideoQualities,
+      int minExposureCompensationIndex,
+      int maxExposureCompensationIndex,
+      double exposureCompensationStep,
+      double minZoomRatio,
+      double maxZoomRatio,
+    )?
+    pigeon_newInstance,
   }) {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
         _PigeonInternalProxyApiBaseCodec(
@@ -2530,7 +2744,7 @@ class UseCase extends PigeonInternalProxyApiBaseClass {
     {
       final BasicMessageChannel<Object?>
       pigeonVar_channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.camera_android_camerax.UseCase.pigeon_newInstance',
+        'dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance',
         pigeonChannelCodec,
         binaryMessenger: binaryMessenger,
       );
@@ -2540,21 +2754,88 @@ class UseCase extends PigeonInternalProxyApiBaseClass {
         pigeonVar_channel.setMessageHandler((Object? message) async {
           assert(
             message != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.UseCase.pigeon_newInstance was null.',
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null.',
           );
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
           assert(
             arg_pigeon_instanceIdentifier != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.UseCase.pigeon_newInstance was null, expected non-null int.',
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null int.',
+          );
+          final String? arg_cameraId = (args[1] as String?);
+          assert(
+            arg_cameraId != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null String.',
+          );
+          final LensFacing? arg_lensFacing = (args[2] as LensFacing?);
+          assert(
+            arg_lensFacing != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null LensFacing.',
+          );
+          final int? arg_sensorRotationDegrees = (args[3] as int?);
+          assert(
+            arg_sensorRotationDegrees != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null int.',
+          );
+          final List<VideoQuality>? arg_supportedVideoQualities =
+              (args[4] as List<Object?>?)?.cast<VideoQuality>();
+          assert(
+            arg_supportedVideoQualities != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null List<VideoQuality>.',
+          );
+          final int? arg_minExposureCompensationIndex = (args[5] as int?);
+          assert(
+            arg_minExposureCompensationIndex != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_maxExposureCompensationIndex = (args[6] as int?);
+          assert(
+            arg_maxExposureCompensationIndex != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null int.',
+          );
+          final double? arg_exposureCompensationStep = (args[7] as double?);
+          assert(
+            arg_exposureCompensationStep != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null double.',
+          );
+          final double? arg_minZoomRatio = (args[8] as double?);
+          assert(
+            arg_minZoomRatio != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null double.',
+          );
+          final double? arg_maxZoomRatio = (args[9] as double?);
+          assert(
+            arg_maxZoomRatio != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.CameraInfoSnapshot.pigeon_newInstance was null, expected non-null double.',
           );
           try {
             (pigeon_instanceManager ?? PigeonInstanceManager.instance)
                 .addHostCreatedInstance(
-                  pigeon_newInstance?.call() ??
-                      UseCase.pigeon_detached(
+                  pigeon_newInstance?.call(
+                        arg_cameraId!,
+                        arg_lensFacing!,
+                        arg_sensorRotationDegrees!,
+                        arg_supportedVideoQualities!,
+                        arg_minExposureCompensationIndex!,
+                        arg_maxExposureCompensationIndex!,
+                        arg_exposureCompensationStep!,
+                        arg_minZoomRatio!,
+                        arg_maxZoomRatio!,
+                      ) ??
+                      CameraInfoSnapshot.pigeon_detached(
                         pigeon_binaryMessenger: pigeon_binaryMessenger,
                         pigeon_instanceManager: pigeon_instanceManager,
+                        cameraId: arg_cameraId!,
+                        lensFacing: arg_lensFacing!,
+                        sensorRotationDegrees: arg_sensorRotationDegrees!,
+                        supportedVideoQualities: arg_supportedVideoQualities!,
+                        minExposureCompensationIndex:
+                            arg_minExposureCompensationIndex!,
+                        maxExposureCompensationIndex:
+                            arg_maxExposureCompensationIndex!,
+                        exposureCompensationStep: arg_exposureCompensationStep!,
+                        minZoomRatio: arg_minZoomRatio!,
+                        maxZoomRatio: arg_maxZoomRatio!,
                       ),
                   arg_pigeon_instanceIdentifier!,
                 );
@@ -2572,42 +2853,42 @@ class UseCase extends PigeonInternalProxyApiBaseClass {
   }
 
   @override
-  UseCase pigeon_copy() {
-    return UseCase.pigeon_detached(
+  CameraInfoSnapshot pigeon_copy() {
+    return CameraInfoSnapshot.pigeon_detached(
       pigeon_binaryMessenger: pigeon_binaryMessenger,
       pigeon_instanceManager: pigeon_instanceManager,
+      cameraId: cameraId,
+      lensFacing: lensFacing,
+      sensorRotationDegrees: sensorRotationDegrees,
+      supportedVideoQualities: supportedVideoQualities,
+      minExposureCompensationIndex: minExposureCompensationIndex,
+      maxExposureCompensationIndex: maxExposureCompensationIndex,
+      exposureCompensationStep: exposureCompensationStep,
+      minZoomRatio: minZoomRatio,
+      maxZoomRatio: maxZoomRatio,
     );
   }
 }
 
-/// The camera interface is used to control the flow of data to use cases,
-/// control the camera via the `CameraControl`, and publish the state of the
-/// camera via CameraInfo.
+/// The use case which all other use cases are built on top of.
 ///
-/// See https://developer.android.com/reference/kotlin/androidx/camera/core/Camera.
-class Camera extends PigeonInternalProxyApiBaseClass {
-  /// Constructs [Camera] without creating the associated native object.
+/// See https://developer.android.com/reference/kotlin/androidx/camera/core/UseCase.
+class UseCase extends PigeonInternalProxyApiBaseClass {
+  /// Constructs [UseCase] without creating the associated native object.
   ///
   /// This should only be used by subclasses created by this library or to
   /// create copies for an [PigeonInstanceManager].
   @protected
-  Camera.pigeon_detached({
+  UseCase.pigeon_detached({
     super.pigeon_binaryMessenger,
     super.pigeon_instanceManager,
-    required this.cameraControl,
   });
 
-  late final _PigeonInternalProxyApiBaseCodec _pigeonVar_codecCamera =
-      _PigeonInternalProxyApiBaseCodec(pigeon_instanceManager);
-
-  /// The `CameraControl` for the Camera.
-  final CameraControl cameraControl;
-
   static void pigeon_setUpMessageHandlers({
     bool pigeon_clearHandlers = false,
     BinaryMessenger? pigeon_binaryMessenger,
     PigeonInstanceManager? pigeon_instanceManager,
-    Camera Function(CameraControl cameraControl)? pigeon_newInstance,
+    UseCase Function()? pigeon_newInstance,
   }) {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
         _PigeonInternalProxyApiBaseCodec(
@@ -2617,7 +2898,7 @@ class Camera extends PigeonInternalProxyApiBaseClass {
     {
       final BasicMessageChannel<Object?>
       pigeonVar_channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance',
+        'dev.flutter.pigeon.camera_android_camerax.UseCase.pigeon_newInstance',
         pigeonChannelCodec,
         binaryMessenger: binaryMessenger,
       );
@@ -2627,27 +2908,21 @@ class Camera extends PigeonInternalProxyApiBaseClass {
         pigeonVar_channel.setMessageHandler((Object? message) async {
           assert(
             message != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance was null.',
+            'Argument for dev.flutter.pigeon.camera_android_camerax.UseCase.pigeon_newInstance was null.',
           );
           final List<Object?> args = (message as List<Object?>?)!;
           final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
           assert(
             arg_pigeon_instanceIdentifier != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance was null, expected non-null int.',
-          );
-          final CameraControl? arg_cameraControl = (args[1] as CameraControl?);
-          assert(
-            arg_cameraControl != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance was null, expected non-null CameraControl.',
+            'Argument for dev.flutter.pigeon.camera_android_camerax.UseCase.pigeon_newInstance was null, expected non-null int.',
           );
           try {
             (pigeon_instanceManager ?? PigeonInstanceManager.instance)
                 .addHostCreatedInstance(
-                  pigeon_newInstance?.call(arg_cameraControl!) ??
-                      Camera.pigeon_detached(
+                  pigeon_newInstance?.call() ??
+                      UseCase.pigeon_detached(
                         pigeon_binaryMessenger: pigeon_binaryMessenger,
                         pigeon_instanceManager: pigeon_instanceManager,
-                        cameraControl: arg_cameraControl!,
                       ),
                   arg_pigeon_instanceIdentifier!,
                 );
@@ -2664,11 +2939,104 @@ class Camera extends PigeonInternalProxyApiBaseClass {
     }
   }
 
-  /// Returns information about this camera.
-  Future<CameraInfo> getCameraInfo() async {
-    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecCamera;
-    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+  @override
+  UseCase pigeon_copy() {
+    return UseCase.pigeon_detached(
+      pigeon_binaryMessenger: pigeon_binaryMessenger,
+      pigeon_instanceManager: pigeon_instanceManager,
+    );
+  }
+}
+
+/// The camera interface is used to control the flow of data to use cases,
+/// control the camera via the `CameraControl`, and publish the state of the
+/// camera via CameraInfo.
+///
+/// See https://developer.android.com/reference/kotlin/androidx/camera/core/Camera.
+class Camera extends PigeonInternalProxyApiBaseClass {
+  /// Constructs [Camera] without creating the associated native object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies for an [PigeonInstanceManager].
+  @protected
+  Camera.pigeon_detached({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    required this.cameraControl,
+  });
+
+  late final _PigeonInternalProxyApiBaseCodec _pigeonVar_codecCamera =
+      _PigeonInternalProxyApiBaseCodec(pigeon_instanceManager);
+
+  /// The `CameraControl` for the Camera.
+  final CameraControl cameraControl;
+
+  static void pigeon_setUpMessageHandlers({
+    bool pigeon_clearHandlers = false,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+    Camera Function(CameraControl cameraControl)? pigeon_newInstance,
+  }) {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
+    {
+      final BasicMessageChannel<Object?>
+      pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
+          assert(
+            arg_pigeon_instanceIdentifier != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance was null, expected non-null int.',
+          );
+          final CameraControl? arg_cameraControl = (args[1] as CameraControl?);
+          assert(
+            arg_cameraControl != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.Camera.pigeon_newInstance was null, expected non-null CameraControl.',
+          );
+          try {
+            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
+                .addHostCreatedInstance(
+                  pigeon_newInstance?.call(arg_cameraControl!) ??
+                      Camera.pigeon_detached(
+                        pigeon_binaryMessenger: pigeon_binaryMessenger,
+                        pigeon_instanceManager: pigeon_instanceManager,
+                        cameraControl: arg_cameraControl!,
+                      ),
+                  arg_pigeon_instanceIdentifier!,
+                );
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
+  }
+
+  /// Returns information about this camera.
+  Future<CameraInfo> getCameraInfo() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecCamera;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
         'dev.flutter.pigeon.camera_android_camerax.Camera.getCameraInfo';
     final BasicMessageChannel<Object?> pigeonVar_channel =
@@ -4703,38 +5071,47 @@ class Recording extends PigeonInternalProxyApiBaseClass {
   }
 }
 
-/// A use case for taking a picture.
+/// Records a video as a sequence of segment files, rotating to a new file once
+/// the current one reaches a maximum duration or size.
 ///
-/// See https://developer.android.com/reference/kotlin/androidx/camera/core/ImageCapture.
-class ImageCapture extends UseCase {
-  ImageCapture({
+/// Each segment is its own recording of the `Recorder`, started as soon as the
+/// previous one is stopped.
+class SegmentedRecorder extends PigeonInternalProxyApiBaseClass {
+  SegmentedRecorder({
     super.pigeon_binaryMessenger,
     super.pigeon_instanceManager,
-    this.resolutionSelector,
-    int? targetRotation,
-    CameraXFlashMode? flashMode,
-  }) : super.pigeon_detached() {
+    required this.onSegmentFinalized,
+    required this.onRotationFailed,
+    required Recorder recorder,
+    required String directory,
+    required String fileNamePrefix,
+    required int maxSegmentDurationMillis,
+    required int maxSegmentBytes,
+    required bool audioEnabled,
+  }) {
     final int pigeonVar_instanceIdentifier = pigeon_instanceManager
         .addDartCreatedInstance(this);
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecImageCapture;
+        _pigeonVar_codecSegmentedRecorder;
     final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
-        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_defaultConstructor';
+        'dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.pigeon_defaultConstructor';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
           pigeonChannelCodec,
           binaryMessenger: pigeonVar_binaryMessenger,
         );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[
-        pigeonVar_instanceIdentifier,
-        resolutionSelector,
-        targetRotation,
-        flashMode,
-      ],
-    );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel
+        .send(<Object?>[
+          pigeonVar_instanceIdentifier,
+          recorder,
+          directory,
+          fileNamePrefix,
+          maxSegmentDurationMillis,
+          maxSegmentBytes,
+          audioEnabled,
+        ]);
     () async {
       final List<Object?>? pigeonVar_replyList =
           await pigeonVar_sendFuture as List<Object?>?;
@@ -4752,28 +5129,82 @@ class ImageCapture extends UseCase {
     }();
   }
 
-  /// Constructs [ImageCapture] without creating the associated native object.
+  /// Constructs [SegmentedRecorder] without creating the associated native object.
   ///
   /// This should only be used by subclasses created by this library or to
   /// create copies for an [PigeonInstanceManager].
   @protected
-  ImageCapture.pigeon_detached({
+  SegmentedRecorder.pigeon_detached({
     super.pigeon_binaryMessenger,
     super.pigeon_instanceManager,
-    this.resolutionSelector,
-  }) : super.pigeon_detached();
+    required this.onSegmentFinalized,
+    required this.onRotationFailed,
+  });
 
-  late final _PigeonInternalProxyApiBaseCodec _pigeonVar_codecImageCapture =
-      _PigeonInternalProxyApiBaseCodec(pigeon_instanceManager);
+  late final _PigeonInternalProxyApiBaseCodec
+  _pigeonVar_codecSegmentedRecorder = _PigeonInternalProxyApiBaseCodec(
+    pigeon_instanceManager,
+  );
 
-  final ResolutionSelector? resolutionSelector;
+  /// Called when a segment is finalized, so it can be used while the following
+  /// segments are recorded.
+  ///
+  /// For the associated Native object to be automatically garbage collected,
+  /// it is required that the implementation of this `Function` doesn't have a
+  /// strong reference to the encapsulating class instance. When this `Function`
+  /// references a non-local variable, it is strongly recommended to access it
+  /// with a `WeakReference`:
+  ///
+  /// ```dart
+  /// final WeakReference weakMyVariable = WeakReference(myVariable);
+  /// final SegmentedRecorder instance = SegmentedRecorder(
+  ///  onSegmentFinalized: (SegmentedRecorder pigeon_instance, ...) {
+  ///    print(weakMyVariable?.target);
+  ///  },
+  /// );
+  /// ```
+  ///
+  /// Alternatively, [PigeonInstanceManager.removeWeakReference] can be used to
+  /// release the associated Native object manually.
+  final void Function(
+    SegmentedRecorder pigeon_instance,
+    RecordedSegment segment,
+  )
+  onSegmentFinalized;
+
+  /// Called when the next segment could not be started.
+  ///
+  /// The recording ends, and the segment that was being rotated is the last
+  /// one.
+  ///
+  /// For the associated Native object to be automatically garbage collected,
+  /// it is required that the implementation of this `Function` doesn't have a
+  /// strong reference to the encapsulating class instance. When this `Function`
+  /// references a non-local variable, it is strongly recommended to access it
+  /// with a `WeakReference`:
+  ///
+  /// ```dart
+  /// final WeakReference weakMyVariable = WeakReference(myVariable);
+  /// final SegmentedRecorder instance = SegmentedRecorder(
+  ///  onRotationFailed: (SegmentedRecorder pigeon_instance, ...) {
+  ///    print(weakMyVariable?.target);
+  ///  },
+  /// );
+  /// ```
+  ///
+  /// Alternatively, [PigeonInstanceManager.removeWeakReference] can be used to
+  /// release the associated Native object manually.
+  final void Function(SegmentedRecorder pigeon_instance, String message)
+  onRotationFailed;
 
   static void pigeon_setUpMessageHandlers({
     bool pigeon_clearHandlers = false,
     BinaryMessenger? pigeon_binaryMessenger,
     PigeonInstanceManager? pigeon_instanceManager,
-    ImageCapture Function(ResolutionSelector? resolutionSelector)?
-    pigeon_newInstance,
+    void Function(SegmentedRecorder pigeon_instance, RecordedSegment segment)?
+    onSegmentFinalized,
+    void Function(SegmentedRecorder pigeon_instance, String message)?
+    onRotationFailed,
   }) {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
         _PigeonInternalProxyApiBaseCodec(
@@ -4781,39 +5212,78 @@ class ImageCapture extends UseCase {
         );
     final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
     {
-      final BasicMessageChannel<Object?>
-      pigeonVar_channel = BasicMessageChannel<Object?>(
-        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance',
-        pigeonChannelCodec,
-        binaryMessenger: binaryMessenger,
-      );
+      final BasicMessageChannel<Object?> pigeonVar_channel =
+          BasicMessageChannel<Object?>(
+            'dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onSegmentFinalized',
+            pigeonChannelCodec,
+            binaryMessenger: binaryMessenger,
+          );
       if (pigeon_clearHandlers) {
         pigeonVar_channel.setMessageHandler(null);
       } else {
         pigeonVar_channel.setMessageHandler((Object? message) async {
           assert(
             message != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance was null.',
+            'Argument for dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onSegmentFinalized was null.',
           );
           final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
+          final SegmentedRecorder? arg_pigeon_instance =
+              (args[0] as SegmentedRecorder?);
           assert(
-            arg_pigeon_instanceIdentifier != null,
-            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance was null, expected non-null int.',
+            arg_pigeon_instance != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onSegmentFinalized was null, expected non-null SegmentedRecorder.',
+          );
+          final RecordedSegment? arg_segment = (args[1] as RecordedSegment?);
+          assert(
+            arg_segment != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onSegmentFinalized was null, expected non-null RecordedSegment.',
           );
-          final ResolutionSelector? arg_resolutionSelector =
-              (args[1] as ResolutionSelector?);
           try {
-            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
-                .addHostCreatedInstance(
-                  pigeon_newInstance?.call(arg_resolutionSelector) ??
-                      ImageCapture.pigeon_detached(
-                        pigeon_binaryMessenger: pigeon_binaryMessenger,
-                        pigeon_instanceManager: pigeon_instanceManager,
-                        resolutionSelector: arg_resolutionSelector,
-                      ),
-                  arg_pigeon_instanceIdentifier!,
-                );
+            (onSegmentFinalized ?? arg_pigeon_instance!.onSegmentFinalized)
+                .call(arg_pigeon_instance!, arg_segment!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> pigeonVar_channel =
+          BasicMessageChannel<Object?>(
+            'dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onRotationFailed',
+            pigeonChannelCodec,
+            binaryMessenger: binaryMessenger,
+          );
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onRotationFailed was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final SegmentedRecorder? arg_pigeon_instance =
+              (args[0] as SegmentedRecorder?);
+          assert(
+            arg_pigeon_instance != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onRotationFailed was null, expected non-null SegmentedRecorder.',
+          );
+          final String? arg_message = (args[1] as String?);
+          assert(
+            arg_message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.onRotationFailed was null, expected non-null String.',
+          );
+          try {
+            (onRotationFailed ?? arg_pigeon_instance!.onRotationFailed).call(
+              arg_pigeon_instance!,
+              arg_message!,
+            );
             return wrapResponse(empty: true);
           } on PlatformException catch (e) {
             return wrapResponse(error: e);
@@ -4827,13 +5297,13 @@ class ImageCapture extends UseCase {
     }
   }
 
-  /// Set the flash mode.
-  Future<void> setFlashMode(CameraXFlashMode flashMode) async {
+  /// Starts recording the first segment.
+  Future<void> start() async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecImageCapture;
+        _pigeonVar_codecSegmentedRecorder;
     final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
-        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.setFlashMode';
+        'dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.start';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -4841,7 +5311,7 @@ class ImageCapture extends UseCase {
           binaryMessenger: pigeonVar_binaryMessenger,
         );
     final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[this, flashMode],
+      <Object?>[this],
     );
     final List<Object?>? pigeonVar_replyList =
         await pigeonVar_sendFuture as List<Object?>?;
@@ -4858,13 +5328,13 @@ class ImageCapture extends UseCase {
     }
   }
 
-  /// Captures a new still image for in memory access.
-  Future<String> takePicture() async {
+  /// Stops the recording. The current segment is the last one.
+  Future<void> stop() async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecImageCapture;
+        _pigeonVar_codecSegmentedRecorder;
     final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
-        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.takePicture';
+        'dev.flutter.pigeon.camera_android_camerax.SegmentedRecorder.stop';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
           pigeonVar_channelName,
@@ -4884,21 +5354,450 @@ class ImageCapture extends UseCase {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
-    } else if (pigeonVar_replyList[0] == null) {
-      throw PlatformException(
-        code: 'null-error',
-        message: 'Host platform returned null value for non-null return value.',
-      );
     } else {
-      return (pigeonVar_replyList[0] as String?)!;
+      return;
     }
   }
 
-  /// Sets the desired rotation of the output image.
-  Future<void> setTargetRotation(int rotation) async {
-    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecImageCapture;
-    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+  @override
+  SegmentedRecorder pigeon_copy() {
+    return SegmentedRecorder.pigeon_detached(
+      pigeon_binaryMessenger: pigeon_binaryMessenger,
+      pigeon_instanceManager: pigeon_instanceManager,
+      onSegmentFinalized: onSegmentFinalized,
+      onRotationFailed: onRotationFailed,
+    );
+  }
+}
+
+/// A finalized segment of a [SegmentedRecorder] recording.
+class RecordedSegment extends PigeonInternalProxyApiBaseClass {
+  /// Constructs [RecordedSegment] without creating the associated native object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies for an [PigeonInstanceManager].
+  @protected
+  RecordedSegment.pigeon_detached({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    required this.index,
+    required this.path,
+    required this.durationNanos,
+    required this.sizeBytes,
+    required this.error,
+    required this.isLast,
+  });
+
+  /// The position of the segment in the recording, starting at 0.
+  final int index;
+
+  /// The path of the segment file.
+  final String path;
+
+  /// The recorded duration of the segment, in nanoseconds.
+  final int durationNanos;
+
+  /// The size of the segment file, in bytes.
+  final int sizeBytes;
+
+  /// The `VideoRecordEvent.Finalize` error code of the segment, 0 if none.
+  final int error;
+
+  /// Whether this is the last segment of the recording.
+  final bool isLast;
+
+  static void pigeon_setUpMessageHandlers({
+    bool pigeon_clearHandlers = false,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+    RecordedSegment Function(
+      int index,
+      String path,
+      int durationNanos,
+      int sizeBytes,
+      int error,
+      bool isLast,
+    )?
+    pigeon_newInstance,
+  }) {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
+    {
+      final BasicMessageChannel<Object?>
+      pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
+          assert(
+            arg_pigeon_instanceIdentifier != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_index = (args[1] as int?);
+          assert(
+            arg_index != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null int.',
+          );
+          final String? arg_path = (args[2] as String?);
+          assert(
+            arg_path != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null String.',
+          );
+          final int? arg_durationNanos = (args[3] as int?);
+          assert(
+            arg_durationNanos != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_sizeBytes = (args[4] as int?);
+          assert(
+            arg_sizeBytes != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_error = (args[5] as int?);
+          assert(
+            arg_error != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null int.',
+          );
+          final bool? arg_isLast = (args[6] as bool?);
+          assert(
+            arg_isLast != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.RecordedSegment.pigeon_newInstance was null, expected non-null bool.',
+          );
+          try {
+            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
+                .addHostCreatedInstance(
+                  pigeon_newInstance?.call(
+                        arg_index!,
+                        arg_path!,
+                        arg_durationNanos!,
+                        arg_sizeBytes!,
+                        arg_error!,
+                        arg_isLast!,
+                      ) ??
+                      RecordedSegment.pigeon_detached(
+                        pigeon_binaryMessenger: pigeon_binaryMessenger,
+                        pigeon_instanceManager: pigeon_instanceManager,
+                        index: arg_index!,
+                        path: arg_path!,
+                        durationNanos: arg_durationNanos!,
+                        sizeBytes: arg_sizeBytes!,
+                        error: arg_error!,
+                        isLast: arg_isLast!,
+                      ),
+                  arg_pigeon_instanceIdentifier!,
+                );
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
+  }
+
+  @override
+  RecordedSegment pigeon_copy() {
+    return RecordedSegment.pigeon_detached(
+      pigeon_binaryMessenger: pigeon_binaryMessenger,
+      pigeon_instanceManager: pigeon_instanceManager,
+      index: index,
+      path: path,
+      durationNanos: durationNanos,
+      sizeBytes: sizeBytes,
+      error: error,
+      isLast: isLast,
+    );
+  }
+}
+
+/// A use case for taking a picture.
+///
+/// See https://developer.android.com/reference/kotlin/androidx/camera/core/ImageCapture.
+class ImageCapture extends UseCase {
+  ImageCapture({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    this.resolutionSelector,
+    int? targetRotation,
+    CameraXFlashMode? flashMode,
+  }) : super.pigeon_detached() {
+    final int pigeonVar_instanceIdentifier = pigeon_instanceManager
+        .addDartCreatedInstance(this);
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageCapture;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_defaultConstructor';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[
+        pigeonVar_instanceIdentifier,
+        resolutionSelector,
+        targetRotation,
+        flashMode,
+      ],
+    );
+    () async {
+      final List<Object?>? pigeonVar_replyList =
+          await pigeonVar_sendFuture as List<Object?>?;
+      if (pigeonVar_replyList == null) {
+        throw _createConnectionError(pigeonVar_channelName);
+      } else if (pigeonVar_replyList.length > 1) {
+        throw PlatformException(
+          code: pigeonVar_replyList[0]! as String,
+          message: pigeonVar_replyList[1] as String?,
+          details: pigeonVar_replyList[2],
+        );
+      } else {
+        return;
+      }
+    }();
+  }
+
+  /// Constructs [ImageCapture] without creating the associated native object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies for an [PigeonInstanceManager].
+  @protected
+  ImageCapture.pigeon_detached({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    this.resolutionSelector,
+  }) : super.pigeon_detached();
+
+  late final _PigeonInternalProxyApiBaseCodec _pigeonVar_codecImageCapture =
+      _PigeonInternalProxyApiBaseCodec(pigeon_instanceManager);
+
+  final ResolutionSelector? resolutionSelector;
+
+  static void pigeon_setUpMessageHandlers({
+    bool pigeon_clearHandlers = false,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+    ImageCapture Function(ResolutionSelector? resolutionSelector)?
+    pigeon_newInstance,
+  }) {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
+    {
+      final BasicMessageChannel<Object?>
+      pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
+          assert(
+            arg_pigeon_instanceIdentifier != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageCapture.pigeon_newInstance was null, expected non-null int.',
+          );
+          final ResolutionSelector? arg_resolutionSelector =
+              (args[1] as ResolutionSelector?);
+          try {
+            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
+                .addHostCreatedInstance(
+                  pigeon_newInstance?.call(arg_resolutionSelector) ??
+                      ImageCapture.pigeon_detached(
+                        pigeon_binaryMessenger: pigeon_binaryMessenger,
+                        pigeon_instanceManager: pigeon_instanceManager,
+                        resolutionSelector: arg_resolutionSelector,
+                      ),
+                  arg_pigeon_instanceIdentifier!,
+                );
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
+  }
+
+  /// Set the flash mode.
+  Future<void> setFlashMode(CameraXFlashMode flashMode) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageCapture;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.setFlashMode';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this, flashMode],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Captures a new still image for in memory access.
+  Future<String> takePicture() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageCapture;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.takePicture';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as String?)!;
+    }
+  }
+
+  /// Captures a new still image into memory, without saving it to a file.
+  Future<InMemoryPicture> takePictureToMemory() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageCapture;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.takePictureToMemory';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as InMemoryPicture?)!;
+    }
+  }
+
+  /// Returns the count and the last, min, max and average latencies in
+  /// nanoseconds of the pictures captured into memory, or -1 until a picture
+  /// was captured.
+  Future<Map<String, int>> getCaptureMetrics() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageCapture;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageCapture.getCaptureMetrics';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<String, int>();
+    }
+  }
+
+  /// Sets the desired rotation of the output image.
+  Future<void> setTargetRotation(int rotation) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageCapture;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
         'dev.flutter.pigeon.camera_android_camerax.ImageCapture.setTargetRotation';
     final BasicMessageChannel<Object?> pigeonVar_channel =
@@ -4907,30 +5806,174 @@ class ImageCapture extends UseCase {
           pigeonChannelCodec,
           binaryMessenger: pigeonVar_binaryMessenger,
         );
-    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
-      <Object?>[this, rotation],
-    );
-    final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_sendFuture as List<Object?>?;
-    if (pigeonVar_replyList == null) {
-      throw _createConnectionError(pigeonVar_channelName);
-    } else if (pigeonVar_replyList.length > 1) {
-      throw PlatformException(
-        code: pigeonVar_replyList[0]! as String,
-        message: pigeonVar_replyList[1] as String?,
-        details: pigeonVar_replyList[2],
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this, rotation],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  @override
+  ImageCapture pigeon_copy() {
+    return ImageCapture.pigeon_detached(
+      pigeon_binaryMessenger: pigeon_binaryMessenger,
+      pigeon_instanceManager: pigeon_instanceManager,
+      resolutionSelector: resolutionSelector,
+    );
+  }
+}
+
+/// A still image captured into memory by [ImageCapture.takePictureToMemory].
+class InMemoryPicture extends PigeonInternalProxyApiBaseClass {
+  /// Constructs [InMemoryPicture] without creating the associated native object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies for an [PigeonInstanceManager].
+  @protected
+  InMemoryPicture.pigeon_detached({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    required this.bytes,
+    required this.width,
+    required this.height,
+    required this.rotationDegrees,
+    required this.captureLatencyNanos,
+  });
+
+  /// The encoded JPEG bytes of the picture.
+  final Uint8List bytes;
+
+  /// The width of the picture.
+  final int width;
+
+  /// The height of the picture.
+  final int height;
+
+  /// The rotation that makes the picture upright, in degrees.
+  final int rotationDegrees;
+
+  /// The time between requesting the picture and receiving it, in nanoseconds.
+  final int captureLatencyNanos;
+
+  static void pigeon_setUpMessageHandlers({
+    bool pigeon_clearHandlers = false,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+    InMemoryPicture Function(
+      Uint8List bytes,
+      int width,
+      int height,
+      int rotationDegrees,
+      int captureLatencyNanos,
+    )?
+    pigeon_newInstance,
+  }) {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
+    {
+      final BasicMessageChannel<Object?>
+      pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
       );
-    } else {
-      return;
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
+          assert(
+            arg_pigeon_instanceIdentifier != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null, expected non-null int.',
+          );
+          final Uint8List? arg_bytes = (args[1] as Uint8List?);
+          assert(
+            arg_bytes != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null, expected non-null Uint8List.',
+          );
+          final int? arg_width = (args[2] as int?);
+          assert(
+            arg_width != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_height = (args[3] as int?);
+          assert(
+            arg_height != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_rotationDegrees = (args[4] as int?);
+          assert(
+            arg_rotationDegrees != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null, expected non-null int.',
+          );
+          final int? arg_captureLatencyNanos = (args[5] as int?);
+          assert(
+            arg_captureLatencyNanos != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.InMemoryPicture.pigeon_newInstance was null, expected non-null int.',
+          );
+          try {
+            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
+                .addHostCreatedInstance(
+                  pigeon_newInstance?.call(
+                        arg_bytes!,
+                        arg_width!,
+                        arg_height!,
+                        arg_rotationDegrees!,
+                        arg_captureLatencyNanos!,
+                      ) ??
+                      InMemoryPicture.pigeon_detached(
+                        pigeon_binaryMessenger: pigeon_binaryMessenger,
+                        pigeon_instanceManager: pigeon_instanceManager,
+                        bytes: arg_bytes!,
+                        width: arg_width!,
+                        height: arg_height!,
+                        rotationDegrees: arg_rotationDegrees!,
+                        captureLatencyNanos: arg_captureLatencyNanos!,
+                      ),
+                  arg_pigeon_instanceIdentifier!,
+                );
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
     }
   }
 
   @override
-  ImageCapture pigeon_copy() {
-    return ImageCapture.pigeon_detached(
+  InMemoryPicture pigeon_copy() {
+    return InMemoryPicture.pigeon_detached(
       pigeon_binaryMessenger: pigeon_binaryMessenger,
       pigeon_instanceManager: pigeon_instanceManager,
-      resolutionSelector: resolutionSelector,
+      bytes: bytes,
+      width: width,
+      height: height,
+      rotationDegrees: rotationDegrees,
+      captureLatencyNanos: captureLatencyNanos,
     );
   }
 }
@@ -6112,6 +7155,38 @@ class ImageAnalysis extends UseCase {
     }
   }
 
+  /// Sets an analyzer that sends each image to Dart as a single frame,
+  /// analyzed on a background thread.
+  Future<void> setFrameAnalyzer(ImageFrameAnalyzer analyzer) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageAnalysis;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageAnalysis.setFrameAnalyzer';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this, analyzer],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   /// Removes a previously set analyzer.
   Future<void> clearAnalyzer() async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
@@ -6326,6 +7401,191 @@ class Analyzer extends PigeonInternalProxyApiBaseClass {
   }
 }
 
+/// Analyzer that copies each image into a single frame and sends it to Dart.
+///
+/// Images are analyzed on a background thread, and images analyzed while the
+/// previous frame is still being sent are dropped.
+class ImageFrameAnalyzer extends PigeonInternalProxyApiBaseClass {
+  ImageFrameAnalyzer({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    required this.onFrame,
+  }) {
+    final int pigeonVar_instanceIdentifier = pigeon_instanceManager
+        .addDartCreatedInstance(this);
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageFrameAnalyzer;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.pigeon_defaultConstructor';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[pigeonVar_instanceIdentifier],
+    );
+    () async {
+      final List<Object?>? pigeonVar_replyList =
+          await pigeonVar_sendFuture as List<Object?>?;
+      if (pigeonVar_replyList == null) {
+        throw _createConnectionError(pigeonVar_channelName);
+      } else if (pigeonVar_replyList.length > 1) {
+        throw PlatformException(
+          code: pigeonVar_replyList[0]! as String,
+          message: pigeonVar_replyList[1] as String?,
+          details: pigeonVar_replyList[2],
+        );
+      } else {
+        return;
+      }
+    }();
+  }
+
+  /// Constructs [ImageFrameAnalyzer] without creating the associated native object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies for an [PigeonInstanceManager].
+  @protected
+  ImageFrameAnalyzer.pigeon_detached({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+    required this.onFrame,
+  });
+
+  late final _PigeonInternalProxyApiBaseCodec
+  _pigeonVar_codecImageFrameAnalyzer = _PigeonInternalProxyApiBaseCodec(
+    pigeon_instanceManager,
+  );
+
+  /// Receives the planes and metadata of an image, copied into a single frame.
+  ///
+  /// For the associated Native object to be automatically garbage collected,
+  /// it is required that the implementation of this `Function` doesn't have a
+  /// strong reference to the encapsulating class instance. When this `Function`
+  /// references a non-local variable, it is strongly recommended to access it
+  /// with a `WeakReference`:
+  ///
+  /// ```dart
+  /// final WeakReference weakMyVariable = WeakReference(myVariable);
+  /// final ImageFrameAnalyzer instance = ImageFrameAnalyzer(
+  ///  onFrame: (ImageFrameAnalyzer pigeon_instance, ...) {
+  ///    print(weakMyVariable?.target);
+  ///  },
+  /// );
+  /// ```
+  ///
+  /// Alternatively, [PigeonInstanceManager.removeWeakReference] can be used to
+  /// release the associated Native object manually.
+  final void Function(ImageFrameAnalyzer pigeon_instance, Uint8List frame)
+  onFrame;
+
+  static void pigeon_setUpMessageHandlers({
+    bool pigeon_clearHandlers = false,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+    void Function(ImageFrameAnalyzer pigeon_instance, Uint8List frame)?
+    onFrame,
+  }) {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+          pigeon_instanceManager ?? PigeonInstanceManager.instance,
+        );
+    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
+    {
+      final BasicMessageChannel<Object?> pigeonVar_channel =
+          BasicMessageChannel<Object?>(
+            'dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.onFrame',
+            pigeonChannelCodec,
+            binaryMessenger: binaryMessenger,
+          );
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.onFrame was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final ImageFrameAnalyzer? arg_pigeon_instance =
+              (args[0] as ImageFrameAnalyzer?);
+          assert(
+            arg_pigeon_instance != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.onFrame was null, expected non-null ImageFrameAnalyzer.',
+          );
+          final Uint8List? arg_frame = (args[1] as Uint8List?);
+          assert(
+            arg_frame != null,
+            'Argument for dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.onFrame was null, expected non-null Uint8List.',
+          );
+          try {
+            (onFrame ?? arg_pigeon_instance!.onFrame).call(
+              arg_pigeon_instance!,
+              arg_frame!,
+            );
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
+  }
+
+  /// The number of images dropped because the previous frame was still being
+  /// sent.
+  Future<int> getDroppedFrameCount() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecImageFrameAnalyzer;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android_camerax.ImageFrameAnalyzer.getDroppedFrameCount';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final Future<Object?> pigeonVar_sendFuture = pigeonVar_channel.send(
+      <Object?>[this],
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_sendFuture as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  @override
+  ImageFrameAnalyzer pigeon_copy() {
+    return ImageFrameAnalyzer.pigeon_detached(
+      pigeon_binaryMessenger: pigeon_binaryMessenger,
+      pigeon_instanceManager: pigeon_instanceManager,
+      onFrame: onFrame,
+    );
+  }
+}
+
 /// Error that the camera has encountered.
 ///
 /// See https://developer.android.com/reference/androidx/camera/core/CameraState.StateError.
@@ -7,6 +7,7 @@ import 'package:flutter/services.dart';
 // ignore_for_file: non_constant_identifier_names
 
 import 'camerax_library.dart';
+import 'camerax_library.g.dart' as camerax show Observer;
 
 /// Handles constructing objects and calling static methods for the Android
 /// Interactive Media Ads native library.
@@ -37,6 +38,8 @@ class CameraXProxy {
     this.newAspectRatioStrategy = AspectRatioStrategy.new,
     this.newImageAnalysis = ImageAnalysis.new,
     this.newAnalyzer = Analyzer.new,
+    this.newImageFrameAnalyzer = ImageFrameAnalyzer.new,
+    this.newSegmentedRecorder = SegmentedRecorder.new,
     this.fromQualitySelector = QualitySelector.from,
     this.fromOrderedListQualitySelector = QualitySelector.fromOrderedList,
     this.higherQualityOrLowerThanFallbackStrategy =
@@ -56,6 +59,10 @@ class CameraXProxy {
     this.newDisplayOrientedMeteringPointFactory =
         DisplayOrientedMeteringPointFactory.new,
     this.getInstanceProcessCameraProvider = ProcessCameraProvider.getInstance,
+    this.warmUpProcessCameraProvider = ProcessCameraProvider.warmUp,
+    this.setDeliveryIntervalObserver = camerax.Observer.setDeliveryInterval,
+    this.getCoalescedEventCountObserver =
+        camerax.Observer.getCoalescedEventCount,
     this.getResolutionQualitySelector = QualitySelector.getResolution,
     this.defaultBackCameraCameraSelector = _defaultBackCameraCameraSelector,
     this.defaultFrontCameraCameraSelector = _defaultFrontCameraCameraSelector,
@@ -223,6 +230,30 @@ class CameraXProxy {
   })
   newAnalyzer;
 
+  /// Constructs [ImageFrameAnalyzer].
+  final ImageFrameAnalyzer Function({
+    required void Function(ImageFrameAnalyzer, Uint8List) onFrame,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  })
+  newImageFrameAnalyzer;
+
+  /// Constructs [SegmentedRecorder].
+  final SegmentedRecorder Function({
+    required void Function(SegmentedRecorder, RecordedSegment)
+    onSegmentFinalized,
+    required void Function(SegmentedRecorder, String) onRotationFailed,
+    required Recorder recorder,
+    required String directory,
+    required String fileNamePrefix,
+    required int maxSegmentDurationMillis,
+    required int maxSegmentBytes,
+    required bool audioEnabled,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  })
+  newSegmentedRecorder;
+
   /// Constructs [QualitySelector].
   final QualitySelector Function({
     required VideoQuality quality,
@@ -339,6 +370,28 @@ class CameraXProxy {
   })
   getInstanceProcessCameraProvider;
 
+  /// Calls to [ProcessCameraProvider.warmUp].
+  final Future<void> Function({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  })
+  warmUpProcessCameraProvider;
+
+  /// Calls to [camerax.Observer.setDeliveryInterval].
+  final Future<void> Function(
+    int intervalMillis, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  })
+  setDeliveryIntervalObserver;
+
+  /// Calls to [camerax.Observer.getCoalescedEventCount].
+  final Future<int> Function({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  })
+  getCoalescedEventCountObserver;
+
   /// Calls to [QualitySelector.getResolution].
   final Future<CameraSize?> Function(
     CameraInfo,
@@ -236,6 +236,17 @@ abstract class Observer {
 
   /// Called when the data is changed to value.
   late void Function(Object value) onChanged;
+
+  /// Sets the minimum interval between two values sent by the same observer.
+  ///
+  /// Values emitted within the interval are coalesced into the latest one. An
+  /// interval of 0, the default, sends every value.
+  @static
+  void setDeliveryInterval(int intervalMillis);
+
+  /// The number of values replaced by a later value before being sent.
+  @static
+  int getCoalescedEventCount();
 }
 
 /// An interface for retrieving camera information.
@@ -323,9 +334,19 @@ abstract class ProcessCameraProvider {
   @static
   ProcessCameraProvider getInstance();
 
+  /// Starts initializing the ProcessCameraProvider ahead of [getInstance] and
+  /// caching a [CameraInfoSnapshot] of each of its cameras.
+  @static
+  void warmUp();
+
   /// The `CameraInfo` instances of the available cameras.
   List<CameraInfo> getAvailableCameraInfos();
 
+  /// The static info of each available camera, read once when the provider is
+  /// ready.
+  @async
+  List<CameraInfoSnapshot> getCameraInfoSnapshots();
+
   /// Binds the collection of `UseCase` to a `LifecycleOwner`.
   Camera bindToLifecycle(CameraSelector cameraSelector, List<UseCase> useCases);
 
@@ -340,6 +361,39 @@ abstract class ProcessCameraProvider {
   void unbindAll();
 }
 
+/// The static info of a camera, read once from its `CameraInfo` so that it can
+/// be read without a call per value.
+@ProxyApi()
+abstract class CameraInfoSnapshot {
+  /// The Camera2 ID of the camera.
+  late final String cameraId;
+
+  /// The direction the lens of the camera faces.
+  late final LensFacing lensFacing;
+
+  /// The rotation of the sensor relative to the natural orientation of the
+  /// device, in degrees.
+  late final int sensorRotationDegrees;
+
+  /// The SDR video qualities the camera supports.
+  late final List<VideoQuality> supportedVideoQualities;
+
+  /// The minimum exposure compensation index.
+  late final int minExposureCompensationIndex;
+
+  /// The maximum exposure compensation index.
+  late final int maxExposureCompensationIndex;
+
+  /// The smallest step by which the exposure compensation can be changed.
+  late final double exposureCompensationStep;
+
+  /// The minimum zoom ratio.
+  late final double minZoomRatio;
+
+  /// The maximum zoom ratio.
+  late final double maxZoomRatio;
+}
+
 /// The use case which all other use cases are built on top of.
 ///
 /// See https://developer.android.com/reference/kotlin/androidx/camera/core/UseCase.
@@ -562,6 +616,65 @@ abstract class Recording {
   void stop();
 }
 
+/// Records a video as a sequence of segment files, rotating to a new file once
+/// the current one reaches a maximum duration or size.
+///
+/// Each segment is its own recording of the `Recorder`, started as soon as the
+/// previous one is stopped.
+@ProxyApi()
+abstract class SegmentedRecorder {
+  SegmentedRecorder(
+    Recorder recorder,
+    String directory,
+    String fileNamePrefix,
+    int maxSegmentDurationMillis,
+    int maxSegmentBytes,
+    bool audioEnabled,
+  );
+
+  /// Called when a segment is finalized, so it can be used while the following
+  /// segments are recorded.
+  late void Function(RecordedSegment segment) onSegmentFinalized;
+
+  /// Called when the next segment could not be started.
+  ///
+  /// The recording ends, and the segment that was being rotated is the last
+  /// one.
+  late void Function(String message) onRotationFailed;
+
+  /// Starts recording the first segment.
+  void start();
+
+  /// Stops the recording. The current segment is the last one.
+  void stop();
+}
+
+/// A finalized segment of a [SegmentedRecorder] recording.
+@ProxyApi(
+  kotlinOptions: KotlinProxyApiOptions(
+    fullClassName: 'io.flutter.plugins.camerax.SegmentedRecorder.Segment',
+  ),
+)
+abstract class RecordedSegment {
+  /// The position of the segment in the recording, starting at 0.
+  late final int index;
+
+  /// The path of the segment file.
+  late final String path;
+
+  /// The recorded duration of the segment, in nanoseconds.
+  late final int durationNanos;
+
+  /// The size of the segment file, in bytes.
+  late final int sizeBytes;
+
+  /// The `VideoRecordEvent.Finalize` error code of the segment, 0 if none.
+  late final int error;
+
+  /// Whether this is the last segment of the recording.
+  late final bool isLast;
+}
+
 /// FlashModes for image capture.
 ///
 /// See https://developer.android.com/reference/kotlin/androidx/camera/core/ImageCapture#FLASH_MODE_AUTO().
@@ -603,10 +716,38 @@ abstract class ImageCapture extends UseCase {
   @async
   String takePicture();
 
+  /// Captures a new still image into memory, without saving it to a file.
+  @async
+  InMemoryPicture takePictureToMemory();
+
+  /// Returns the count and the last, min, max and average latencies in
+  /// nanoseconds of the pictures captured into memory, or -1 until a picture
+  /// was captured.
+  Map<String, int> getCaptureMetrics();
+
   /// Sets the desired rotation of the output image.
   void setTargetRotation(int rotation);
 }
 
+/// A still image captured into memory by [ImageCapture.takePictureToMemory].
+@ProxyApi()
+abstract class InMemoryPicture {
+  /// The encoded JPEG bytes of the picture.
+  late final Uint8List bytes;
+
+  /// The width of the picture.
+  late final int width;
+
+  /// The height of the picture.
+  late final int height;
+
+  /// The rotation that makes the picture upright, in degrees.
+  late final int rotationDegrees;
+
+  /// The time between requesting the picture and receiving it, in nanoseconds.
+  late final int captureLatencyNanos;
+}
+
 /// Fallback rule for choosing an alternate size when the specified bound size
 /// is unavailable.
 ///
@@ -810,6 +951,10 @@ abstract class ImageAnalysis extends UseCase {
   /// Sets an analyzer to receive and analyze images.
   void setAnalyzer(Analyzer analyzer);
 
+  /// Sets an analyzer that sends each image to Dart as a single frame,
+  /// analyzed on a background thread.
+  void setFrameAnalyzer(ImageFrameAnalyzer analyzer);
+
   /// Removes a previously set analyzer.
   void clearAnalyzer();
 
@@ -832,6 +977,22 @@ abstract class Analyzer {
   late void Function(ImageProxy image) analyze;
 }
 
+/// Analyzer that copies each image into a single frame and sends it to Dart.
+///
+/// Images are analyzed on a background thread, and images analyzed while the
+/// previous frame is still being sent are dropped.
+@ProxyApi()
+abstract class ImageFrameAnalyzer {
+  ImageFrameAnalyzer();
+
+  /// Receives the planes and metadata of an image, copied into a single frame.
+  late void Function(Uint8List frame) onFrame;
+
+  /// The number of images dropped because the previous frame was still being
+  /// sent.
+  int getDroppedFrameCount();
+}
+
 /// Code for a `CameraState` error.
 ///
 /// https://developer.android.com/reference/androidx/camera/core/CameraState#ERROR_CAMERA_DISABLED()
@@ -4,6 +4,7 @@
 
 import 'dart:async';
 import 'dart:math' show Point;
+import 'dart:typed_data' show ByteData, BytesBuilder, Endian, Uint8List;
 
 import 'package:async/async.dart';
 import 'package:camera_android_camerax/camera_android_camerax.dart';
@@ -40,6 +41,7 @@ import 'android_camera_camerax_test.mocks.dart';
   MockSpec<FocusMeteringResult>(),
   MockSpec<ImageAnalysis>(),
   MockSpec<ImageCapture>(),
+  MockSpec<ImageFrameAnalyzer>(),
   MockSpec<ImageProxy>(),
   MockSpec<Observer<CameraState>>(),
   MockSpec<PendingRecording>(),
@@ -52,6 +54,7 @@ import 'android_camera_camerax_test.mocks.dart';
   MockSpec<ResolutionSelector>(),
   MockSpec<ResolutionStrategy>(),
   MockSpec<Recording>(),
+  MockSpec<SegmentedRecorder>(),
   MockSpec<SystemServicesManager>(),
   MockSpec<VideoCapture>(),
   MockSpec<ZoomState>(),
@@ -66,6 +69,36 @@ import 'android_camera_camerax_test.mocks.dart';
 void main() {
   TestWidgetsFlutterBinding.ensureInitialized();
 
+  /// Helper method for creating a frame sent by an [ImageFrameAnalyzer], with
+  /// the row stride, pixel stride and bytes of each plane.
+  Uint8List createFrame({
+    required int width,
+    required int height,
+    required int format,
+    required List<(int, int, Uint8List)> planes,
+  }) {
+    final BytesBuilder builder = BytesBuilder();
+    final ByteData header = ByteData(28 + planes.length * 12)
+      ..setInt32(0, width, Endian.little)
+      ..setInt32(4, height, Endian.little)
+      ..setInt32(8, format, Endian.little)
+      ..setInt32(12, 0, Endian.little)
+      ..setInt64(16, 0, Endian.little)
+      ..setInt32(24, planes.length, Endian.little);
+    for (int i = 0; i < planes.length; i++) {
+      final (int rowStride, int pixelStride, Uint8List bytes) = planes[i];
+      header
+        ..setInt32(28 + i * 12, rowStride, Endian.little)
+        ..setInt32(32 + i * 12, pixelStride, Endian.little)
+        ..setInt32(36 + i * 12, bytes.length, Endian.little);
+    }
+    builder.add(header.buffer.asUint8List());
+    for (final (_, _, Uint8List bytes) in planes) {
+      builder.add(bytes);
+    }
+    return builder.takeBytes();
+  }
+
   /// Helper method for testing sending/receiving CameraErrorEvents.
   Future<bool> testCameraClosingObserver(
     AndroidCameraCameraX camera,
@@ -180,6 +213,14 @@ void main() {
       PigeonInstanceManager? pigeon_instanceManager,
     })?
     getNv21BufferImageProxyUtils,
+    ImageFrameAnalyzer Function({
+      required void Function(ImageFrameAnalyzer, Uint8List) onFrame,
+      // ignore: non_constant_identifier_names
+      BinaryMessenger? pigeon_binaryMessenger,
+      // ignore: non_constant_identifier_names
+      PigeonInstanceManager? pigeon_instanceManager,
+    })?
+    newImageFrameAnalyzer,
   }) {
     late final CameraXProxy proxy;
     final AspectRatioStrategy ratio_4_3FallbackAutoStrategyAspectRatioStrategy =
@@ -509,6 +550,17 @@ void main() {
           }) {
             return Future<Uint8List>.value(Uint8List(0));
           },
+      newImageFrameAnalyzer:
+          newImageFrameAnalyzer ??
+          ({
+            required void Function(ImageFrameAnalyzer, Uint8List) onFrame,
+            // ignore: non_constant_identifier_names
+            BinaryMessenger? pigeon_binaryMessenger,
+            // ignore: non_constant_identifier_names
+            PigeonInstanceManager? pigeon_instanceManager,
+          }) {
+            return MockImageFrameAnalyzer();
+          },
     );
 
     return proxy;
@@ -4865,6 +4917,360 @@ void main() {
     },
   );
 
+  test(
+    'takePictureToMemory binds ImageCapture to lifecycle and returns the bytes of the picture',
+    () async {
+      final AndroidCameraCameraX camera = AndroidCameraCameraX();
+      final MockProcessCameraProvider mockProcessCameraProvider =
+          MockProcessCameraProvider();
+      final MockCamera mockCamera = MockCamera();
+      final MockCameraInfo mockCameraInfo = MockCameraInfo();
+      final Uint8List testBytes = Uint8List.fromList(<int>[1, 2, 3]);
+
+      // Set directly for test versus calling createCamera.
+      camera.imageCapture = MockImageCapture();
+      camera.processCameraProvider = mockProcessCameraProvider;
+      camera.cameraSelector = MockCameraSelector();
+
+      // Ignore setting target rotation for this test; tested seprately.
+      camera.captureOrientationLocked = true;
+
+      // Tell plugin to create detached camera state observers.
+      camera.proxy = CameraXProxy(
+        newObserver:
+            <T>({
+              required void Function(Observer<T>, T) onChanged,
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) {
+              return Observer<T>.detached(
+                onChanged: onChanged,
+                pigeon_instanceManager: PigeonInstanceManager(
+                  onWeakReferenceRemoved: (_) {},
+                ),
+              );
+            },
+      );
+
+      when(
+        mockProcessCameraProvider.isBound(camera.imageCapture),
+      ).thenAnswer((_) async => false);
+      when(
+        mockProcessCameraProvider.bindToLifecycle(
+          camera.cameraSelector,
+          <UseCase>[camera.imageCapture!],
+        ),
+      ).thenAnswer((_) async => mockCamera);
+      when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
+      when(
+        mockCameraInfo.getCameraState(),
+      ).thenAnswer((_) async => MockLiveCameraState());
+      when(camera.imageCapture!.takePictureToMemory()).thenAnswer(
+        (_) async => InMemoryPicture.pigeon_detached(
+          bytes: testBytes,
+          width: 40,
+          height: 30,
+          rotationDegrees: 90,
+          captureLatencyNanos: 1000,
+          pigeon_instanceManager: PigeonInstanceManager(
+            onWeakReferenceRemoved: (_) {},
+          ),
+        ),
+      );
+
+      final XFile imageFile = await camera.takePictureToMemory(3);
+
+      verify(
+        mockProcessCameraProvider.bindToLifecycle(
+          camera.cameraSelector,
+          <UseCase>[camera.imageCapture!],
+        ),
+      );
+      expect(await imageFile.readAsBytes(), equals(testBytes));
+      expect(imageFile.mimeType, equals('image/jpeg'));
+      verifyNever(camera.imageCapture!.takePicture());
+    },
+  );
+
+  test('getCaptureMetrics returns metrics of ImageCapture', () async {
+    final AndroidCameraCameraX camera = AndroidCameraCameraX();
+    const Map<String, int> testMetrics = <String, int>{
+      'captureCount': 1,
+      'lastLatencyNanos': 1000,
+    };
+
+    // Set directly for test versus calling createCamera.
+    camera.imageCapture = MockImageCapture();
+
+    when(
+      camera.imageCapture!.getCaptureMetrics(),
+    ).thenAnswer((_) async => testMetrics);
+
+    expect(await camera.getCaptureMetrics(), equals(testMetrics));
+  });
+
+  test('warmUpCameraProvider warms up ProcessCameraProvider', () async {
+    final AndroidCameraCameraX camera = AndroidCameraCameraX();
+    bool warmedUp = false;
+
+    camera.proxy = CameraXProxy(
+      warmUpProcessCameraProvider:
+          ({
+            // ignore: non_constant_identifier_names
+            BinaryMessenger? pigeon_binaryMessenger,
+            // ignore: non_constant_identifier_names
+            PigeonInstanceManager? pigeon_instanceManager,
+          }) async {
+            warmedUp = true;
+          },
+    );
+
+    await camera.warmUpCameraProvider();
+
+    expect(warmedUp, isTrue);
+  });
+
+  test(
+    'getCameraInfoSnapshots returns snapshots of ProcessCameraProvider',
+    () async {
+      final AndroidCameraCameraX camera = AndroidCameraCameraX();
+      final MockProcessCameraProvider mockProcessCameraProvider =
+          MockProcessCameraProvider();
+      final CameraInfoSnapshot snapshot = CameraInfoSnapshot.pigeon_detached(
+        cameraId: '0',
+        lensFacing: LensFacing.back,
+        sensorRotationDegrees: 90,
+        supportedVideoQualities: <VideoQuality>[VideoQuality.FHD],
+        minExposureCompensationIndex: -12,
+        maxExposureCompensationIndex: 12,
+        exposureCompensationStep: 1 / 6,
+        minZoomRatio: 1,
+        maxZoomRatio: 8,
+        pigeon_instanceManager: PigeonInstanceManager(
+          onWeakReferenceRemoved: (_) {},
+        ),
+      );
+
+      camera.proxy = CameraXProxy(
+        getInstanceProcessCameraProvider:
+            ({
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) =>
+                Future<ProcessCameraProvider>.value(mockProcessCameraProvider),
+      );
+      when(
+        mockProcessCameraProvider.getCameraInfoSnapshots(),
+      ).thenAnswer((_) async => <CameraInfoSnapshot>[snapshot]);
+
+      expect(
+        await camera.getCameraInfoSnapshots(),
+        equals(<CameraInfoSnapshot>[snapshot]),
+      );
+    },
+  );
+
+  test(
+    'setObserverDeliveryInterval sets the observer delivery interval in milliseconds',
+    () async {
+      final AndroidCameraCameraX camera = AndroidCameraCameraX();
+      int? deliveryIntervalMillis;
+
+      camera.proxy = CameraXProxy(
+        setDeliveryIntervalObserver:
+            (
+              int intervalMillis, {
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) async {
+              deliveryIntervalMillis = intervalMillis;
+            },
+      );
+
+      await camera.setObserverDeliveryInterval(
+        const Duration(milliseconds: 16),
+      );
+
+      expect(deliveryIntervalMillis, 16);
+    },
+  );
+
+  test(
+    'getCoalescedObserverEventCount returns the coalesced observer event count',
+    () async {
+      final AndroidCameraCameraX camera = AndroidCameraCameraX();
+
+      camera.proxy = CameraXProxy(
+        getCoalescedEventCountObserver:
+            ({
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) async => 7,
+      );
+
+      expect(await camera.getCoalescedObserverEventCount(), 7);
+    },
+  );
+
+  group('segmented recording', () {
+    late AndroidCameraCameraX camera;
+    late MockSegmentedRecorder mockSegmentedRecorder;
+    late MockRecorder mockRecorder;
+    late void Function(SegmentedRecorder, RecordedSegment) finalizeSegment;
+    late void Function(SegmentedRecorder, String) failRotation;
+    late Map<String, Object> constructorArguments;
+
+    RecordedSegment segment(int index, {bool isLast = false}) {
+      return RecordedSegment.pigeon_detached(
+        index: index,
+        path: '/segments/REC_$index.mp4',
+        durationNanos: 1000,
+        sizeBytes: 2000,
+        error: 0,
+        isLast: isLast,
+        pigeon_instanceManager: PigeonInstanceManager(
+          onWeakReferenceRemoved: (_) {},
+        ),
+      );
+    }
+
+    setUp(() {
+      camera = AndroidCameraCameraX();
+      mockSegmentedRecorder = MockSegmentedRecorder();
+      mockRecorder = MockRecorder();
+      final MockProcessCameraProvider mockProcessCameraProvider =
+          MockProcessCameraProvider();
+      final MockVideoCapture mockVideoCapture = MockVideoCapture();
+
+      // Set directly for test versus calling createCamera.
+      camera.processCameraProvider = mockProcessCameraProvider;
+      camera.videoCapture = mockVideoCapture;
+      camera.recorder = mockRecorder;
+      camera.enableRecordingAudio = true;
+
+      // Tell plugin that videoCapture use case is already bound.
+      when(
+        mockProcessCameraProvider.isBound(mockVideoCapture),
+      ).thenAnswer((_) async => true);
+
+      camera.proxy = CameraXProxy(
+        newSegmentedRecorder:
+            ({
+              required void Function(SegmentedRecorder, RecordedSegment)
+              onSegmentFinalized,
+              required void Function(SegmentedRecorder, String)
+              onRotationFailed,
+              required Recorder recorder,
+              required String directory,
+              required String fileNamePrefix,
+              required int maxSegmentDurationMillis,
+              required int maxSegmentBytes,
+              required bool audioEnabled,
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) {
+              finalizeSegment = onSegmentFinalized;
+              failRotation = onRotationFailed;
+              constructorArguments = <String, Object>{
+                'recorder': recorder,
+                'directory': directory,
+                'fileNamePrefix': fileNamePrefix,
+                'maxSegmentDurationMillis': maxSegmentDurationMillis,
+                'maxSegmentBytes': maxSegmentBytes,
+                'audioEnabled': audioEnabled,
+              };
+              return mockSegmentedRecorder;
+            },
+      );
+    });
+
+    test(
+      'startSegmentedRecording creates and starts a SegmentedRecorder',
+      () async {
+        await camera.startSegmentedRecording(
+          0,
+          directory: '/segments',
+          maxSegmentDuration: const Duration(seconds: 2),
+          maxSegmentBytes: 1024,
+        );
+
+        expect(camera.segmentedRecorder, mockSegmentedRecorder);
+        expect(constructorArguments, <String, Object>{
+          'recorder': mockRecorder,
+          'directory': '/segments',
+          'fileNamePrefix': 'REC',
+          'maxSegmentDurationMillis': 2000,
+          'maxSegmentBytes': 1024,
+          'audioEnabled': true,
+        });
+        verify(mockSegmentedRecorder.start());
+      },
+    );
+
+    test(
+      'startSegmentedRecording streams segments and closes after the last one',
+      () async {
+        final Stream<RecordedSegment> segments = await camera
+            .startSegmentedRecording(0, directory: '/segments');
+        final Future<List<int>> indices = segments
+            .map((RecordedSegment segment) => segment.index)
+            .toList();
+
+        finalizeSegment(mockSegmentedRecorder, segment(0));
+        finalizeSegment(mockSegmentedRecorder, segment(1, isLast: true));
+
+        expect(await indices, <int>[0, 1]);
+      },
+    );
+
+    test('startSegmentedRecording reports rotation failures', () async {
+      final Stream<RecordedSegment> segments = await camera
+          .startSegmentedRecording(0, directory: '/segments');
+
+      failRotation(mockSegmentedRecorder, 'No space left');
+
+      await expectLater(
+        segments.first,
+        throwsA(
+          isA<CameraException>().having(
+            (CameraException e) => e.description,
+            'description',
+            'No space left',
+          ),
+        ),
+      );
+    });
+
+    test('stopSegmentedRecording stops the SegmentedRecorder', () async {
+      await camera.startSegmentedRecording(0, directory: '/segments');
+
+      await camera.stopSegmentedRecording(0);
+
+      verify(mockSegmentedRecorder.stop());
+      expect(camera.segmentedRecorder, isNull);
+    });
+
+    test(
+      'stopSegmentedRecording throws a camera exception if no segmented recording is in progress',
+      () async {
+        await expectLater(
+          camera.stopSegmentedRecording(0),
+          throwsA(isA<CameraException>()),
+        );
+      },
+    );
+  });
+
   test(
     'takePicture sets ImageCapture target rotation as expected when orientation locked or unlocked',
     () async {
@@ -5573,6 +5979,234 @@ void main() {
     },
   );
 
+  test(
+    'onStreamedFrameAvailable sends frames of the background frame analyzer when requested',
+    () async {
+      final AndroidCameraCameraX camera = AndroidCameraCameraX();
+      const int cameraId = 33;
+      final ProcessCameraProvider mockProcessCameraProvider =
+          MockProcessCameraProvider();
+      final CameraSelector mockCameraSelector = MockCameraSelector();
+      final MockImageAnalysis mockImageAnalysis = MockImageAnalysis();
+      final Camera mockCamera = MockCamera();
+      final CameraInfo mockCameraInfo = MockCameraInfo();
+      final Uint8List buffer = Uint8List.fromList(<int>[1, 2, 3]);
+      const int pixelStride = 27;
+      const int rowStride = 58;
+      const int imageFormat = 582;
+      const int imageHeight = 100;
+      const int imageWidth = 200;
+
+      // Tell plugin to create detached ImageFrameAnalyzer for testing.
+      camera.proxy = CameraXProxy(
+        newImageFrameAnalyzer:
+            ({
+              required void Function(ImageFrameAnalyzer, Uint8List) onFrame,
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) {
+              return ImageFrameAnalyzer.pigeon_detached(
+                onFrame: onFrame,
+                pigeon_instanceManager: PigeonInstanceManager(
+                  onWeakReferenceRemoved: (_) {},
+                ),
+              );
+            },
+        newObserver:
+            <T>({
+              required void Function(Observer<T>, T) onChanged,
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) {
+              return Observer<T>.detached(
+                onChanged: onChanged,
+                pigeon_instanceManager: PigeonInstanceManager(
+                  onWeakReferenceRemoved: (_) {},
+                ),
+              );
+            },
+      );
+
+      // Set directly for test versus calling createCamera.
+      camera.processCameraProvider = mockProcessCameraProvider;
+      camera.cameraSelector = mockCameraSelector;
+      camera.imageAnalysis = mockImageAnalysis;
+
+      // Ignore setting target rotation for this test; tested seprately.
+      camera.captureOrientationLocked = true;
+
+      when(
+        mockProcessCameraProvider.isBound(mockImageAnalysis),
+      ).thenAnswer((_) async => false);
+      when(
+        mockProcessCameraProvider.bindToLifecycle(mockCameraSelector, <UseCase>[
+          mockImageAnalysis,
+        ]),
+      ).thenAnswer((_) async => mockCamera);
+      when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
+      when(
+        mockCameraInfo.getCameraState(),
+      ).thenAnswer((_) async => MockLiveCameraState());
+
+      final Completer<CameraImageData> imageDataCompleter =
+          Completer<CameraImageData>();
+      final StreamSubscription<CameraImageData>
+      onStreamedFrameAvailableSubscription = camera
+          .onStreamedFrameAvailable(
+            cameraId,
+            options: CameraXImageStreamOptions(
+              useBackgroundFrameAnalyzer: true,
+            ),
+          )
+          .listen((CameraImageData imageData) {
+            imageDataCompleter.complete(imageData);
+          });
+
+      // Test ImageAnalysis use case is bound to ProcessCameraProvider.
+      await untilCalled(mockImageAnalysis.setFrameAnalyzer(any));
+      final ImageFrameAnalyzer capturedAnalyzer =
+          verify(
+                mockImageAnalysis.setFrameAnalyzer(captureAny),
+              ).captured.single
+              as ImageFrameAnalyzer;
+
+      capturedAnalyzer.onFrame(
+        MockImageFrameAnalyzer(),
+        createFrame(
+          width: imageWidth,
+          height: imageHeight,
+          format: imageFormat,
+          planes: <(int, int, Uint8List)>[(rowStride, pixelStride, buffer)],
+        ),
+      );
+
+      final CameraImageData imageData = await imageDataCompleter.future;
+
+      // Test frames are parsed correctly.
+      expect(imageData.planes.length, equals(1));
+      expect(imageData.planes[0].bytes, equals(buffer));
+      expect(imageData.planes[0].bytesPerRow, equals(rowStride));
+      expect(imageData.planes[0].bytesPerPixel, equals(pixelStride));
+      expect(imageData.format.raw, equals(imageFormat));
+      expect(imageData.height, equals(imageHeight));
+      expect(imageData.width, equals(imageWidth));
+
+      await onStreamedFrameAvailableSubscription.cancel();
+    },
+  );
+  test(
+    'onStreamedFrameAvailable emits NV21 frames of the background frame analyzer when initialized with NV21',
+    () async {
+      final AndroidCameraCameraX camera = AndroidCameraCameraX();
+      const int cameraId = 42;
+      final MockProcessCameraProvider mockProcessCameraProvider =
+          MockProcessCameraProvider();
+      final MockImageAnalysis mockImageAnalysis = MockImageAnalysis();
+      final MockCamera mockCamera = MockCamera();
+      final MockCameraInfo mockCameraInfo = MockCameraInfo();
+      final Uint8List testNv21Buffer = Uint8List(6);
+
+      // Mock use case bindings and related Camera objects.
+      when(
+        mockProcessCameraProvider.bindToLifecycle(any, any),
+      ).thenAnswer((_) async => mockCamera);
+      when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
+      when(
+        mockCameraInfo.getCameraState(),
+      ).thenAnswer((_) async => MockLiveCameraState());
+
+      // Set up CameraXProxy with ImageAnalysis specifics needed for testing its Analyzer.
+      camera.proxy = getProxyForTestingUseCaseConfiguration(
+        mockProcessCameraProvider,
+        newImageFrameAnalyzer:
+            ({
+              required void Function(ImageFrameAnalyzer, Uint8List) onFrame,
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+            }) {
+              return ImageFrameAnalyzer.pigeon_detached(
+                onFrame: onFrame,
+                pigeon_instanceManager: PigeonInstanceManager(
+                  onWeakReferenceRemoved: (_) {},
+                ),
+              );
+            },
+        newImageAnalysis:
+            ({
+              int? outputImageFormat,
+              // ignore: non_constant_identifier_names
+              BinaryMessenger? pigeon_binaryMessenger,
+              // ignore: non_constant_identifier_names
+              PigeonInstanceManager? pigeon_instanceManager,
+              ResolutionSelector? resolutionSelector,
+              int? targetRotation,
+            }) => mockImageAnalysis,
+      );
+
+      // Create and initialize camera with NV21.
+      await camera.createCamera(
+        const CameraDescription(
+          name: 'test',
+          lensDirection: CameraLensDirection.back,
+          sensorOrientation: 0,
+        ),
+        ResolutionPreset.low,
+      );
+      await camera.initializeCamera(
+        cameraId,
+        imageFormatGroup: ImageFormatGroup.nv21,
+      );
+
+      // Set up listener to receive the frame.
+      final Completer<CameraImageData> imageDataCompleter =
+          Completer<CameraImageData>();
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(
+            cameraId,
+            options: CameraXImageStreamOptions(
+              useBackgroundFrameAnalyzer: true,
+            ),
+          )
+          .listen((CameraImageData imageData) {
+            imageDataCompleter.complete(imageData);
+          });
+
+      await untilCalled(mockImageAnalysis.setFrameAnalyzer(any));
+      final ImageFrameAnalyzer capturedAnalyzer =
+          verify(
+                mockImageAnalysis.setFrameAnalyzer(captureAny),
+              ).captured.single
+              as ImageFrameAnalyzer;
+
+      // The native analyzer converts the planes of a YUV_420_888 image into a
+      // single NV21 plane, while CameraX still reports YUV_420_888.
+      capturedAnalyzer.onFrame(
+        MockImageFrameAnalyzer(),
+        createFrame(
+          width: 2,
+          height: 2,
+          format: 35,
+          planes: <(int, int, Uint8List)>[(2, 1, testNv21Buffer)],
+        ),
+      );
+
+      final CameraImageData imageData = await imageDataCompleter.future;
+
+      expect(imageData.format.raw, AndroidCameraCameraX.imageProxyFormatNv21);
+      expect(imageData.format.group, ImageFormatGroup.nv21);
+      expect(imageData.planes.length, 1);
+      expect(imageData.planes[0].bytes, testNv21Buffer);
+
+      await subscription.cancel();
+    },
+  );
+
   test(
     'onStreamedFrameAvailable returns stream that responds expectedly to being canceled',
     () async {
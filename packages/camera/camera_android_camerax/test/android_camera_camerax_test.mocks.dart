@@ -275,6 +275,24 @@ class _FakeZoomState_43 extends _i1.SmartFake implements _i2.ZoomState {
     : super(parent, parentInvocation);
 }
 
+class _FakeImageFrameAnalyzer_44 extends _i1.SmartFake
+    implements _i2.ImageFrameAnalyzer {
+  _FakeImageFrameAnalyzer_44(Object parent, Invocation parentInvocation)
+    : super(parent, parentInvocation);
+}
+
+class _FakeInMemoryPicture_45 extends _i1.SmartFake
+    implements _i2.InMemoryPicture {
+  _FakeInMemoryPicture_45(Object parent, Invocation parentInvocation)
+    : super(parent, parentInvocation);
+}
+
+class _FakeSegmentedRecorder_46 extends _i1.SmartFake
+    implements _i2.SegmentedRecorder {
+  _FakeSegmentedRecorder_46(Object parent, Invocation parentInvocation)
+    : super(parent, parentInvocation);
+}
+
 /// A class which mocks [Analyzer].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -1542,6 +1560,43 @@ class MockCameraXProxy extends _i1.Mock implements _i7.CameraXProxy {
             _i2.PigeonInstanceManager? pigeon_instanceManager,
           }));
 
+  @override
+  _i2.ImageFrameAnalyzer Function({
+    required void Function(_i2.ImageFrameAnalyzer, _i9.Uint8List) onFrame,
+    _i8.BinaryMessenger? pigeon_binaryMessenger,
+    _i2.PigeonInstanceManager? pigeon_instanceManager,
+  })
+  get newImageFrameAnalyzer =>
+      (super.noSuchMethod(
+            Invocation.getter(#newImageFrameAnalyzer),
+            returnValue:
+                ({
+                  required void Function(_i2.ImageFrameAnalyzer, _i9.Uint8List)
+                  onFrame,
+                  _i8.BinaryMessenger? pigeon_binaryMessenger,
+                  _i2.PigeonInstanceManager? pigeon_instanceManager,
+                }) => _FakeImageFrameAnalyzer_44(
+                  this,
+                  Invocation.getter(#newImageFrameAnalyzer),
+                ),
+            returnValueForMissingStub:
+                ({
+                  required void Function(_i2.ImageFrameAnalyzer, _i9.Uint8List)
+                  onFrame,
+                  _i8.BinaryMessenger? pigeon_binaryMessenger,
+                  _i2.PigeonInstanceManager? pigeon_instanceManager,
+                }) => _FakeImageFrameAnalyzer_44(
+                  this,
+                  Invocation.getter(#newImageFrameAnalyzer),
+                ),
+          )
+          as _i2.ImageFrameAnalyzer Function({
+            required void Function(_i2.ImageFrameAnalyzer, _i9.Uint8List)
+            onFrame,
+            _i8.BinaryMessenger? pigeon_binaryMessenger,
+            _i2.PigeonInstanceManager? pigeon_instanceManager,
+          }));
+
   @override
   _i2.QualitySelector Function({
     required _i2.VideoQuality quality,
@@ -2042,6 +2097,30 @@ class MockCameraXProxy extends _i1.Mock implements _i7.CameraXProxy {
             _i2.PigeonInstanceManager? pigeon_instanceManager,
           }));
 
+  @override
+  _i5.Future<void> Function({
+    _i8.BinaryMessenger? pigeon_binaryMessenger,
+    _i2.PigeonInstanceManager? pigeon_instanceManager,
+  })
+  get warmUpProcessCameraProvider =>
+      (super.noSuchMethod(
+            Invocation.getter(#warmUpProcessCameraProvider),
+            returnValue:
+                ({
+                  _i8.BinaryMessenger? pigeon_binaryMessenger,
+                  _i2.PigeonInstanceManager? pigeon_instanceManager,
+                }) => _i5.Future<void>.value(),
+            returnValueForMissingStub:
+                ({
+                  _i8.BinaryMessenger? pigeon_binaryMessenger,
+                  _i2.PigeonInstanceManager? pigeon_instanceManager,
+                }) => _i5.Future<void>.value(),
+          )
+          as _i5.Future<void> Function({
+            _i8.BinaryMessenger? pigeon_binaryMessenger,
+            _i2.PigeonInstanceManager? pigeon_instanceManager,
+          }));
+
   @override
   _i5.Future<_i2.CameraSize?> Function(
     _i3.CameraInfo,
@@ -2762,6 +2841,15 @@ class MockImageAnalysis extends _i1.Mock implements _i2.ImageAnalysis {
           )
           as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> setFrameAnalyzer(_i2.ImageFrameAnalyzer? analyzer) =>
+      (super.noSuchMethod(
+            Invocation.method(#setFrameAnalyzer, [analyzer]),
+            returnValue: _i5.Future<void>.value(),
+            returnValueForMissingStub: _i5.Future<void>.value(),
+          )
+          as _i5.Future<void>);
+
   @override
   _i5.Future<void> clearAnalyzer() =>
       (super.noSuchMethod(
@@ -2837,6 +2925,36 @@ class MockImageCapture extends _i1.Mock implements _i2.ImageCapture {
           )
           as _i5.Future<String>);
 
+  @override
+  _i5.Future<_i2.InMemoryPicture> takePictureToMemory() =>
+      (super.noSuchMethod(
+            Invocation.method(#takePictureToMemory, []),
+            returnValue: _i5.Future<_i2.InMemoryPicture>.value(
+              _FakeInMemoryPicture_45(
+                this,
+                Invocation.method(#takePictureToMemory, []),
+              ),
+            ),
+            returnValueForMissingStub: _i5.Future<_i2.InMemoryPicture>.value(
+              _FakeInMemoryPicture_45(
+                this,
+                Invocation.method(#takePictureToMemory, []),
+              ),
+            ),
+          )
+          as _i5.Future<_i2.InMemoryPicture>);
+
+  @override
+  _i5.Future<Map<String, int>> getCaptureMetrics() =>
+      (super.noSuchMethod(
+            Invocation.method(#getCaptureMetrics, []),
+            returnValue: _i5.Future<Map<String, int>>.value(<String, int>{}),
+            returnValueForMissingStub: _i5.Future<Map<String, int>>.value(
+              <String, int>{},
+            ),
+          )
+          as _i5.Future<Map<String, int>>);
+
   @override
   _i5.Future<void> setTargetRotation(int? rotation) =>
       (super.noSuchMethod(
@@ -2862,6 +2980,68 @@ class MockImageCapture extends _i1.Mock implements _i2.ImageCapture {
           as _i2.ImageCapture);
 }
 
+/// A class which mocks [ImageFrameAnalyzer].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockImageFrameAnalyzer extends _i1.Mock
+    implements _i2.ImageFrameAnalyzer {
+  @override
+  void Function(_i2.ImageFrameAnalyzer, _i9.Uint8List) get onFrame =>
+      (super.noSuchMethod(
+            Invocation.getter(#onFrame),
+            returnValue:
+                (
+                  _i2.ImageFrameAnalyzer pigeon_instance,
+                  _i9.Uint8List frame,
+                ) {},
+            returnValueForMissingStub:
+                (
+                  _i2.ImageFrameAnalyzer pigeon_instance,
+                  _i9.Uint8List frame,
+                ) {},
+          )
+          as void Function(_i2.ImageFrameAnalyzer, _i9.Uint8List));
+
+  @override
+  _i2.PigeonInstanceManager get pigeon_instanceManager =>
+      (super.noSuchMethod(
+            Invocation.getter(#pigeon_instanceManager),
+            returnValue: _FakePigeonInstanceManager_0(
+              this,
+              Invocation.getter(#pigeon_instanceManager),
+            ),
+            returnValueForMissingStub: _FakePigeonInstanceManager_0(
+              this,
+              Invocation.getter(#pigeon_instanceManager),
+            ),
+          )
+          as _i2.PigeonInstanceManager);
+
+  @override
+  _i5.Future<int> getDroppedFrameCount() =>
+      (super.noSuchMethod(
+            Invocation.method(#getDroppedFrameCount, []),
+            returnValue: _i5.Future<int>.value(0),
+            returnValueForMissingStub: _i5.Future<int>.value(0),
+          )
+          as _i5.Future<int>);
+
+  @override
+  _i2.ImageFrameAnalyzer pigeon_copy() =>
+      (super.noSuchMethod(
+            Invocation.method(#pigeon_copy, []),
+            returnValue: _FakeImageFrameAnalyzer_44(
+              this,
+              Invocation.method(#pigeon_copy, []),
+            ),
+            returnValueForMissingStub: _FakeImageFrameAnalyzer_44(
+              this,
+              Invocation.method(#pigeon_copy, []),
+            ),
+          )
+          as _i2.ImageFrameAnalyzer);
+}
+
 /// A class which mocks [ImageProxy].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -3254,6 +3434,20 @@ class MockProcessCameraProvider extends _i1.Mock
           )
           as _i5.Future<List<_i2.CameraInfo>>);
 
+  @override
+  _i5.Future<List<_i2.CameraInfoSnapshot>> getCameraInfoSnapshots() =>
+      (super.noSuchMethod(
+            Invocation.method(#getCameraInfoSnapshots, []),
+            returnValue: _i5.Future<List<_i2.CameraInfoSnapshot>>.value(
+              <_i2.CameraInfoSnapshot>[],
+            ),
+            returnValueForMissingStub:
+                _i5.Future<List<_i2.CameraInfoSnapshot>>.value(
+                  <_i2.CameraInfoSnapshot>[],
+                ),
+          )
+          as _i5.Future<List<_i2.CameraInfoSnapshot>>);
+
   @override
   _i5.Future<_i2.Camera> bindToLifecycle(
     _i2.CameraSelector? cameraSelector,
@@ -3666,6 +3860,89 @@ class MockRecording extends _i1.Mock implements _i2.Recording {
           as _i2.Recording);
 }
 
+/// A class which mocks [SegmentedRecorder].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockSegmentedRecorder extends _i1.Mock
+    implements _i2.SegmentedRecorder {
+  @override
+  void Function(_i2.SegmentedRecorder, _i2.RecordedSegment)
+  get onSegmentFinalized =>
+      (super.noSuchMethod(
+            Invocation.getter(#onSegmentFinalized),
+            returnValue:
+                (
+                  _i2.SegmentedRecorder pigeon_instance,
+                  _i2.RecordedSegment segment,
+                ) {},
+            returnValueForMissingStub:
+                (
+                  _i2.SegmentedRecorder pigeon_instance,
+                  _i2.RecordedSegment segment,
+                ) {},
+          )
+          as void Function(_i2.SegmentedRecorder, _i2.RecordedSegment));
+
+  @override
+  void Function(_i2.SegmentedRecorder, String) get onRotationFailed =>
+      (super.noSuchMethod(
+            Invocation.getter(#onRotationFailed),
+            returnValue:
+                (_i2.SegmentedRecorder pigeon_instance, String message) {},
+            returnValueForMissingStub:
+                (_i2.SegmentedRecorder pigeon_instance, String message) {},
+          )
+          as void Function(_i2.SegmentedRecorder, String));
+
+  @override
+  _i2.PigeonInstanceManager get pigeon_instanceManager =>
+      (super.noSuchMethod(
+            Invocation.getter(#pigeon_instanceManager),
+            returnValue: _FakePigeonInstanceManager_0(
+              this,
+              Invocation.getter(#pigeon_instanceManager),
+            ),
+            returnValueForMissingStub: _FakePigeonInstanceManager_0(
+              this,
+              Invocation.getter(#pigeon_instanceManager),
+            ),
+          )
+          as _i2.PigeonInstanceManager);
+
+  @override
+  _i5.Future<void> start() =>
+      (super.noSuchMethod(
+            Invocation.method(#start, []),
+            returnValue: _i5.Future<void>.value(),
+            returnValueForMissingStub: _i5.Future<void>.value(),
+          )
+          as _i5.Future<void>);
+
+  @override
+  _i5.Future<void> stop() =>
+      (super.noSuchMethod(
+            Invocation.method(#stop, []),
+            returnValue: _i5.Future<void>.value(),
+            returnValueForMissingStub: _i5.Future<void>.value(),
+          )
+          as _i5.Future<void>);
+
+  @override
+  _i2.SegmentedRecorder pigeon_copy() =>
+      (super.noSuchMethod(
+            Invocation.method(#pigeon_copy, []),
+            returnValue: _FakeSegmentedRecorder_46(
+              this,
+              Invocation.method(#pigeon_copy, []),
+            ),
+            returnValueForMissingStub: _FakeSegmentedRecorder_46(
+              this,
+              Invocation.method(#pigeon_copy, []),
+            ),
+          )
+          as _i2.SegmentedRecorder);
+}
+
 /// A class which mocks [SystemServicesManager].
 ///
 /// See the documentation for Mockito's code generation for more information.
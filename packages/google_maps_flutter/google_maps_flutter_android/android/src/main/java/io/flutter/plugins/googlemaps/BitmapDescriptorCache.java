@@ -0,0 +1,164 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Caches the {@link BitmapDescriptor}s of decoded marker and ground overlay images, so that
+ * markers sharing an image only decode and scale it once.
+ *
+ * <p>Images are keyed by their asset name or a digest of their bytes, along with everything that
+ * affects their scaling. The cache is bounded by the size of the bitmaps it holds and evicts the
+ * least recently used ones first.
+ */
+class BitmapDescriptorCache {
+  // The default share of the heap the cached bitmaps can use.
+  private static final int DEFAULT_HEAP_FRACTION = 16;
+
+  private static class Entry {
+    @NonNull final BitmapDescriptor descriptor;
+    final int byteCount;
+
+    Entry(@NonNull BitmapDescriptor descriptor, int byteCount) {
+      this.descriptor = descriptor;
+      this.byteCount = byteCount;
+    }
+  }
+
+  private final LruCache<String, Entry> entries;
+
+  BitmapDescriptorCache() {
+    this(
+        (int)
+            Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_FRACTION));
+  }
+
+  /** @param maxBytes the maximum total size of the cached bitmaps. */
+  BitmapDescriptorCache(int maxBytes) {
+    entries =
+        new LruCache<String, Entry>(maxBytes) {
+          @Override
+          protected int sizeOf(@NonNull String key, @NonNull Entry entry) {
+            return entry.byteCount;
+          }
+        };
+  }
+
+  /** Returns the descriptor cached for the key, or null. */
+  @Nullable
+  BitmapDescriptor get(@NonNull String key) {
+    final Entry entry = entries.get(key);
+    return entry == null ? null : entry.descriptor;
+  }
+
+  /** Caches the descriptor created from the given bitmap. */
+  void put(@NonNull String key, @NonNull BitmapDescriptor descriptor, @NonNull Bitmap bitmap) {
+    entries.put(key, new Entry(descriptor, bitmap.getAllocationByteCount()));
+  }
+
+  /** Removes all cached descriptors. */
+  void clear() {
+    entries.evictAll();
+  }
+
+  int getHitCount() {
+    return entries.hitCount();
+  }
+
+  int getMissCount() {
+    return entries.missCount();
+  }
+
+  int getEvictionCount() {
+    return entries.evictionCount();
+  }
+
+  /** Returns the total size of the cached bitmaps. */
+  int getSizeBytes() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the key of the image of a bitmap, or null if its image is not decoded by the plugin.
+   */
+  @Nullable
+  static String keyFor(@NonNull Messages.PlatformBitmap platformBitmap, float density) {
+    final Object bitmap = platformBitmap.getBitmap();
+    if (bitmap instanceof Messages.PlatformBitmapBytes) {
+      return keyForBytes(((Messages.PlatformBitmapBytes) bitmap).getByteData());
+    }
+    if (bitmap instanceof Messages.PlatformBitmapBytesMap) {
+      return keyForBytes((Messages.PlatformBitmapBytesMap) bitmap, density);
+    }
+    if (bitmap instanceof Messages.PlatformBitmapAssetMap) {
+      return keyForAsset((Messages.PlatformBitmapAssetMap) bitmap, density);
+    }
+    return null;
+  }
+
+  /** Returns the key of an image loaded from an asset. */
+  @NonNull
+  static String keyForAsset(@NonNull Messages.PlatformBitmapAssetMap assetMap, float density) {
+    return "asset:"
+        + assetMap.getAssetName()
+        + scalingKey(
+            assetMap.getBitmapScaling(),
+            assetMap.getImagePixelRatio(),
+            assetMap.getWidth(),
+            assetMap.getHeight(),
+            density);
+  }
+
+  /** Returns the key of an image decoded from bytes. */
+  @NonNull
+  static String keyForBytes(@NonNull Messages.PlatformBitmapBytesMap bytesMap, float density) {
+    return "bytes:"
+        + digest(bytesMap.getByteData())
+        + scalingKey(
+            bytesMap.getBitmapScaling(),
+            bytesMap.getImagePixelRatio(),
+            bytesMap.getWidth(),
+            bytesMap.getHeight(),
+            density);
+  }
+
+  /** Returns the key of an image decoded from bytes without scaling. */
+  @NonNull
+  static String keyForBytes(@NonNull byte[] bytes) {
+    return "bytes:" + digest(bytes);
+  }
+
+  private static String scalingKey(
+      @NonNull Messages.PlatformMapBitmapScaling scaling,
+      @NonNull Double imagePixelRatio,
+      @Nullable Double width,
+      @Nullable Double height,
+      float density) {
+    return "|" + scaling + "|" + imagePixelRatio + "|" + width + "|" + height + "|" + density;
+  }
+
+  private static String digest(@NonNull byte[] bytes) {
+    final byte[] hash;
+    try {
+      hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+    final StringBuilder builder = new StringBuilder(hash.length * 2);
+    for (byte b : hash) {
+      builder.append(Character.forDigit((b >> 4) & 0xf, 16));
+      builder.append(Character.forDigit(b & 0xf, 16));
+    }
+    return builder.toString();
+  }
+}
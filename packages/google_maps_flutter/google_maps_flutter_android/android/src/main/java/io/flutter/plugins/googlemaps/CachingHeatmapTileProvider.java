@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import com.google.maps.android.geometry.Point;
+import com.google.maps.android.heatmaps.HeatmapTileProvider;
+import com.google.maps.android.heatmaps.WeightedLatLng;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the tiles rendered by a {@link HeatmapTileProvider}, so that after a change to some points
+ * of a heatmap only the tiles around those points are rendered again.
+ *
+ * <p>The map can only drop all tiles of a tile overlay, so after a change it requests every visible
+ * tile again, and the tiles that were not invalidated are served from the cache.
+ */
+class CachingHeatmapTileProvider implements TileProvider {
+  // The size in pixels of the tiles HeatmapTileProvider renders, which its radius is relative to.
+  private static final int HEATMAP_TILE_SIZE = 512;
+
+  private final @NonNull String heatmapId;
+  private final @NonNull HeatmapTileProvider heatmap;
+  private final @NonNull TileCache tileCache;
+  private final Set<Integer> cachedZooms =
+      Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+  // Incremented by each invalidation, so that tiles rendered meanwhile are not cached.
+  private final AtomicInteger generation = new AtomicInteger();
+
+  CachingHeatmapTileProvider(
+      @NonNull String heatmapId,
+      @NonNull HeatmapTileProvider heatmap,
+      @NonNull TileCache tileCache) {
+    this.heatmapId = heatmapId;
+    this.heatmap = heatmap;
+    this.tileCache = tileCache;
+  }
+
+  @Override
+  @Nullable
+  public Tile getTile(int x, int y, int zoom) {
+    final String key = TileCache.keyFor(heatmapId, x, y, zoom);
+    final Tile cachedTile = tileCache.get(key);
+    if (cachedTile != null) {
+      return cachedTile;
+    }
+    final int renderedGeneration = generation.get();
+    final Tile tile = heatmap.getTile(x, y, zoom);
+    if (tile != null && renderedGeneration == generation.get()) {
+      cachedZooms.add(zoom);
+      tileCache.put(key, tile);
+    }
+    return tile;
+  }
+
+  /**
+   * Removes the cached tiles that the given points are drawn on, with the given heatmap radius.
+   *
+   * @return the number of removed tiles.
+   */
+  int invalidate(@NonNull Collection<WeightedLatLng> points, int radius) {
+    generation.incrementAndGet();
+    final double padding = (double) radius / HEATMAP_TILE_SIZE;
+    final Set<String> keys = new HashSet<>();
+    int removedCount = 0;
+    for (int zoom : cachedZooms) {
+      final int tileCount = 1 << zoom;
+      keys.clear();
+      for (WeightedLatLng point : points) {
+        // Points are projected to a world of width 1, so that scaling gives tile coordinates.
+        final Point worldPoint = point.getPoint();
+        final double x = worldPoint.x * tileCount;
+        final double y = worldPoint.y * tileCount;
+        final int firstRow = Math.max(0, (int) Math.floor(y - padding));
+        final int lastRow = Math.min(tileCount - 1, (int) Math.floor(y + padding));
+        final int firstColumn = (int) Math.floor(x - padding);
+        final int lastColumn = (int) Math.floor(x + padding);
+        for (int row = firstRow; row <= lastRow; row++) {
+          for (int column = firstColumn; column <= lastColumn; column++) {
+            // Tiles wrap around the antimeridian.
+            keys.add(TileCache.keyFor(heatmapId, Math.floorMod(column, tileCount), row, zoom));
+          }
+        }
+      }
+      for (String key : keys) {
+        if (tileCache.remove(key)) {
+          removedCount++;
+        }
+      }
+    }
+    return removedCount;
+  }
+
+  /** Removes all cached tiles of the heatmap. */
+  void invalidateAll() {
+    generation.incrementAndGet();
+    tileCache.clear(heatmapId);
+    cachedZooms.clear();
+  }
+}
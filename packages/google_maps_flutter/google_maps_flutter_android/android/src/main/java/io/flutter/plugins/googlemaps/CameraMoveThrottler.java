@@ -0,0 +1,186 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Point;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.Projection;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.VisibleRegion;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import io.flutter.plugins.googlemaps.Messages.PlatformCameraMoveOptions;
+import java.util.Objects;
+
+/**
+ * Sends camera moves of a map to {@link MapsCallbackApi#onCameraMoveEvent} at a bounded rate, as
+ * an alternative to {@link MapsCallbackApi#onCameraMove}, which is called on every frame while the
+ * camera moves.
+ *
+ * <p>Moves are sent once Dart sets options with {@link Messages.MapsApi#setCameraMoveEventOptions},
+ * until it sets null options. A move is sent once any part of the camera changed by at least its
+ * minimum since the last event. Moves exceeding the rate are held back, and the latest one is sent
+ * when the rate allows, so the last position of a move is never dropped. An event with {@code
+ * isIdle} set is sent when the camera stops, if it changed since the last event.
+ */
+class CameraMoveThrottler {
+  private final @NonNull MapsCallbackApi flutterApi;
+  private final float density;
+  private final Handler handler;
+  private final Runnable sendHeldBackMove = this::sendHeldBackMove;
+  private @Nullable GoogleMap googleMap;
+  // Null while Dart does not listen to camera moves.
+  private @Nullable PlatformCameraMoveOptions options;
+  private long minIntervalMillis;
+  private @Nullable CameraPosition lastSentPosition;
+  private long lastSentMillis;
+  private boolean moveHeldBack;
+
+  CameraMoveThrottler(@NonNull MapsCallbackApi flutterApi, float density) {
+    this(flutterApi, density, new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  CameraMoveThrottler(
+      @NonNull MapsCallbackApi flutterApi, float density, @NonNull Handler handler) {
+    this.flutterApi = flutterApi;
+    this.density = density;
+    this.handler = handler;
+  }
+
+  void setGoogleMap(@Nullable GoogleMap googleMap) {
+    this.googleMap = googleMap;
+  }
+
+  /** Starts sending camera moves with the given options, or stops sending them if null. */
+  void setOptions(@Nullable PlatformCameraMoveOptions options) {
+    cancelHeldBackMove();
+    this.options = options;
+    lastSentPosition = null;
+    if (options != null) {
+      final double maxEventsPerSecond = options.getMaxEventsPerSecond();
+      minIntervalMillis = maxEventsPerSecond > 0 ? (long) (1000 / maxEventsPerSecond) : 0;
+    }
+  }
+
+  /** Sends the camera position, unless it changed too little or the rate is exceeded. */
+  void onCameraMove() {
+    if (options == null || googleMap == null || moveHeldBack) {
+      return;
+    }
+    final CameraPosition position = googleMap.getCameraPosition();
+    if (!hasMovedEnough(position)) {
+      return;
+    }
+    final long elapsedMillis = SystemClock.uptimeMillis() - lastSentMillis;
+    if (lastSentPosition == null || elapsedMillis >= minIntervalMillis) {
+      send(position, false);
+    } else {
+      moveHeldBack = true;
+      handler.postDelayed(sendHeldBackMove, minIntervalMillis - elapsedMillis);
+    }
+  }
+
+  /** Sends the final camera position of a move. */
+  void onCameraIdle() {
+    cancelHeldBackMove();
+    if (options == null || googleMap == null) {
+      return;
+    }
+    final CameraPosition position = googleMap.getCameraPosition();
+    if (!position.equals(lastSentPosition)) {
+      send(position, true);
+    }
+  }
+
+  void dispose() {
+    options = null;
+    googleMap = null;
+    cancelHeldBackMove();
+  }
+
+  private void sendHeldBackMove() {
+    moveHeldBack = false;
+    if (options == null || googleMap == null) {
+      return;
+    }
+    final CameraPosition position = googleMap.getCameraPosition();
+    if (hasMovedEnough(position)) {
+      send(position, false);
+    }
+  }
+
+  private void cancelHeldBackMove() {
+    handler.removeCallbacks(sendHeldBackMove);
+    moveHeldBack = false;
+  }
+
+  private boolean hasMovedEnough(@NonNull CameraPosition position) {
+    final CameraPosition last = lastSentPosition;
+    final PlatformCameraMoveOptions options = Objects.requireNonNull(this.options);
+    if (last == null) {
+      return true;
+    }
+    if (exceeds(Math.abs(position.zoom - last.zoom), options.getMinZoomDelta())
+        || exceeds(Math.abs(position.tilt - last.tilt), options.getMinTiltDelta())) {
+      return true;
+    }
+    double bearingDelta = Math.abs(position.bearing - last.bearing) % 360;
+    if (bearingDelta > 180) {
+      bearingDelta = 360 - bearingDelta;
+    }
+    if (exceeds(bearingDelta, options.getMinBearingDelta())) {
+      return true;
+    }
+    if (position.target.equals(last.target)) {
+      return false;
+    }
+    final double minTargetDeltaPixels = options.getMinTargetDeltaPixels() * density;
+    if (minTargetDeltaPixels <= 0) {
+      return true;
+    }
+    final Projection projection = Objects.requireNonNull(googleMap).getProjection();
+    final Point lastPoint = projection.toScreenLocation(last.target);
+    final Point point = projection.toScreenLocation(position.target);
+    return Math.hypot(point.x - lastPoint.x, point.y - lastPoint.y) >= minTargetDeltaPixels;
+  }
+
+  // Whether a change counts as a move, with a minimum of 0 counting any change.
+  private static boolean exceeds(double delta, double minDelta) {
+    return delta > 0 && delta >= minDelta;
+  }
+
+  private void send(@NonNull CameraPosition position, boolean isIdle) {
+    final PlatformCameraMoveOptions options = Objects.requireNonNull(this.options);
+    lastSentPosition = position;
+    lastSentMillis = SystemClock.uptimeMillis();
+    final Messages.PlatformCameraMoveEvent.Builder event =
+        new Messages.PlatformCameraMoveEvent.Builder()
+            .setPosition(Convert.cameraPositionToPigeon(position))
+            .setIsIdle(isIdle);
+    if (options.getIncludeVisibleRegion() || options.getIncludeCorners()) {
+      final VisibleRegion visibleRegion =
+          Objects.requireNonNull(googleMap).getProjection().getVisibleRegion();
+      if (options.getIncludeVisibleRegion()) {
+        event.setVisibleRegion(Convert.latLngBoundsToPigeon(visibleRegion.latLngBounds));
+      }
+      if (options.getIncludeCorners()) {
+        event.setCorners(
+            new Messages.PlatformVisibleRegionCorners.Builder()
+                .setNearLeft(Convert.latLngToPigeon(visibleRegion.nearLeft))
+                .setNearRight(Convert.latLngToPigeon(visibleRegion.nearRight))
+                .setFarLeft(Convert.latLngToPigeon(visibleRegion.farLeft))
+                .setFarRight(Convert.latLngToPigeon(visibleRegion.farRight))
+                .build());
+      }
+    }
+    flutterApi.onCameraMoveEvent(event.build(), new NoOpVoidResult());
+  }
+}
@@ -37,6 +37,7 @@ import com.google.android.gms.maps.model.PatternItem;
 import com.google.android.gms.maps.model.RoundCap;
 import com.google.android.gms.maps.model.SquareCap;
 import com.google.android.gms.maps.model.Tile;
+import com.google.maps.android.PolyUtil;
 import com.google.maps.android.clustering.Cluster;
 import com.google.maps.android.heatmaps.Gradient;
 import com.google.maps.android.heatmaps.WeightedLatLng;
@@ -65,14 +66,15 @@ class Convert {
   private static BitmapDescriptor toBitmapDescriptor(
       Messages.PlatformBitmap platformBitmap, AssetManager assetManager, float density) {
     return toBitmapDescriptor(
-        platformBitmap, assetManager, density, new BitmapDescriptorFactoryWrapper());
+        platformBitmap, assetManager, density, new BitmapDescriptorFactoryWrapper(), null);
   }
 
   private static BitmapDescriptor toBitmapDescriptor(
       Messages.PlatformBitmap platformBitmap,
       AssetManager assetManager,
       float density,
-      BitmapDescriptorFactoryWrapper wrapper) {
+      BitmapDescriptorFactoryWrapper wrapper,
+      @Nullable BitmapDescriptorCache cache) {
     Object bitmap = platformBitmap.getBitmap();
     if (bitmap instanceof Messages.PlatformBitmapDefaultMarker) {
       Messages.PlatformBitmapDefaultMarker typedBitmap =
@@ -106,28 +108,107 @@ class Convert {
     }
     if (bitmap instanceof Messages.PlatformBitmapBytes) {
       Messages.PlatformBitmapBytes typedBitmap = (Messages.PlatformBitmapBytes) bitmap;
-      return getBitmapFromBytesLegacy(typedBitmap);
+      return getCachedBitmapDescriptor(
+          cache,
+          cache != null ? BitmapDescriptorCache.keyForBytes(typedBitmap.getByteData()) : null,
+          wrapper,
+          loadingWrapper -> getBitmapFromBytesLegacy(typedBitmap, loadingWrapper));
     }
     if (bitmap instanceof Messages.PlatformBitmapAssetMap) {
       Messages.PlatformBitmapAssetMap typedBitmap = (Messages.PlatformBitmapAssetMap) bitmap;
-      return getBitmapFromAsset(
-          typedBitmap, assetManager, density, wrapper, new FlutterInjectorWrapper());
+      return getCachedBitmapDescriptor(
+          cache,
+          cache != null ? BitmapDescriptorCache.keyForAsset(typedBitmap, density) : null,
+          wrapper,
+          loadingWrapper ->
+              getBitmapFromAsset(
+                  typedBitmap,
+                  assetManager,
+                  density,
+                  loadingWrapper,
+                  new FlutterInjectorWrapper()));
     }
     if (bitmap instanceof Messages.PlatformBitmapBytesMap) {
       Messages.PlatformBitmapBytesMap typedBitmap = (Messages.PlatformBitmapBytesMap) bitmap;
-      return getBitmapFromBytes(typedBitmap, density, wrapper);
+      return getCachedBitmapDescriptor(
+          cache,
+          cache != null ? BitmapDescriptorCache.keyForBytes(typedBitmap, density) : null,
+          wrapper,
+          loadingWrapper -> getBitmapFromBytes(typedBitmap, density, loadingWrapper));
     }
     throw new IllegalArgumentException("PlatformBitmap did not contain a supported subtype.");
   }
 
+  /**
+   * Returns whether the image of the bitmap is decoded and scaled by the plugin, rather than loaded
+   * by the Maps SDK.
+   */
+  static boolean isDecodedBitmap(@NonNull Messages.PlatformBitmap platformBitmap) {
+    final Object bitmap = platformBitmap.getBitmap();
+    return bitmap instanceof Messages.PlatformBitmapBytes
+        || bitmap instanceof Messages.PlatformBitmapBytesMap
+        || (bitmap instanceof Messages.PlatformBitmapAssetMap
+            && ((Messages.PlatformBitmapAssetMap) bitmap).getBitmapScaling()
+                == Messages.PlatformMapBitmapScaling.AUTO);
+  }
+
+  /**
+   * Decodes and scales the image of a bitmap for which {@link #isDecodedBitmap} is true, without
+   * creating its {@link BitmapDescriptor}. This can be called from any thread.
+   *
+   * @throws IllegalArgumentException if the image cannot be decoded.
+   */
+  static @NonNull Bitmap decodeBitmap(
+      @NonNull Messages.PlatformBitmap platformBitmap,
+      @NonNull AssetManager assetManager,
+      float density) {
+    final BitmapRecordingFactoryWrapper recordingWrapper = new BitmapRecordingFactoryWrapper(null);
+    toBitmapDescriptor(platformBitmap, assetManager, density, recordingWrapper, null);
+    if (recordingWrapper.bitmap == null) {
+      throw new IllegalArgumentException("PlatformBitmap is not decoded by the plugin.");
+    }
+    return recordingWrapper.bitmap;
+  }
+
+  private interface BitmapDescriptorLoader {
+    BitmapDescriptor load(BitmapDescriptorFactoryWrapper wrapper);
+  }
+
+  /**
+   * Returns the descriptor cached for the key, or loads it and caches it if it was created from a
+   * decoded bitmap. Descriptors of assets that are not decoded are cheap to create, so they are
+   * not cached.
+   */
+  private static BitmapDescriptor getCachedBitmapDescriptor(
+      @Nullable BitmapDescriptorCache cache,
+      @Nullable String cacheKey,
+      BitmapDescriptorFactoryWrapper wrapper,
+      BitmapDescriptorLoader loader) {
+    if (cache == null || cacheKey == null) {
+      return loader.load(wrapper);
+    }
+    final BitmapDescriptor cachedDescriptor = cache.get(cacheKey);
+    if (cachedDescriptor != null) {
+      return cachedDescriptor;
+    }
+    final BitmapRecordingFactoryWrapper recordingWrapper =
+        new BitmapRecordingFactoryWrapper(wrapper);
+    final BitmapDescriptor descriptor = loader.load(recordingWrapper);
+    if (descriptor != null && recordingWrapper.bitmap != null) {
+      cache.put(cacheKey, descriptor, recordingWrapper.bitmap);
+    }
+    return descriptor;
+  }
+
   // Used for deprecated fromBytes bitmap descriptor.
   // Can be removed after support for "fromBytes" bitmap descriptor type is
   // removed.
   private static BitmapDescriptor getBitmapFromBytesLegacy(
-      Messages.PlatformBitmapBytes bitmapBytes) {
+      Messages.PlatformBitmapBytes bitmapBytes,
+      BitmapDescriptorFactoryWrapper bitmapDescriptorFactory) {
     try {
       Bitmap bitmap = toBitmap(bitmapBytes.getByteData());
-      return BitmapDescriptorFactory.fromBitmap(bitmap);
+      return bitmapDescriptorFactory.fromBitmap(bitmap);
     } catch (Exception e) {
       throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
     }
@@ -599,12 +680,32 @@ class Convert {
       AssetManager assetManager,
       float density,
       BitmapDescriptorFactoryWrapper wrapper) {
+    interpretMarkerOptions(marker, sink, assetManager, density, wrapper, null);
+  }
+
+  /**
+   * Set the options in the given object to marker options sink, reusing the icon from the cache
+   * when it was already decoded.
+   */
+  static void interpretMarkerOptions(
+      Messages.PlatformMarker marker,
+      MarkerOptionsSink sink,
+      AssetManager assetManager,
+      float density,
+      BitmapDescriptorFactoryWrapper wrapper,
+      @Nullable BitmapDescriptorCache cache) {
+    sink.setIcon(toBitmapDescriptor(marker.getIcon(), assetManager, density, wrapper, cache));
+    interpretMarkerOptionsExceptIcon(marker, sink);
+  }
+
+  /** Set the options in the given object to marker options sink, except for its icon. */
+  static void interpretMarkerOptionsExceptIcon(
+      Messages.PlatformMarker marker, MarkerOptionsSink sink) {
     sink.setAlpha(marker.getAlpha().floatValue());
     sink.setAnchor(marker.getAnchor().getX().floatValue(), marker.getAnchor().getY().floatValue());
     sink.setConsumeTapEvents(marker.getConsumeTapEvents());
     sink.setDraggable(marker.getDraggable());
     sink.setFlat(marker.getFlat());
-    sink.setIcon(toBitmapDescriptor(marker.getIcon(), assetManager, density, wrapper));
     interpretInfoWindowOptions(sink, marker.getInfoWindow());
     sink.setPosition(toLatLng(marker.getPosition().toList()));
     sink.setRotation(marker.getRotation().floatValue());
@@ -737,6 +838,48 @@ class Convert {
     return points;
   }
 
+  /**
+   * Converts packed points to a list of LatLng objects.
+   *
+   * @param packedPoints the latitude and longitude of each point, one point after another.
+   * @return a list of LatLng objects.
+   * @throws IllegalArgumentException if the length of packedPoints is not even.
+   */
+  static List<LatLng> pointsFromPacked(@NonNull double[] packedPoints) {
+    if (packedPoints.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          "Packed points length " + packedPoints.length + " is not a multiple of 2");
+    }
+    final List<LatLng> points = new ArrayList<>(packedPoints.length / 2);
+    for (int i = 0; i < packedPoints.length; i += 2) {
+      points.add(new LatLng(packedPoints[i], packedPoints[i + 1]));
+    }
+    return points;
+  }
+
+  /**
+   * Converts the points of a shape, either packed or encoded, to a list of LatLng objects.
+   *
+   * @param points the points of a polyline, polygon or hole.
+   * @return a list of LatLng objects.
+   * @throws IllegalArgumentException if the points are malformed or neither packed nor encoded.
+   */
+  static List<LatLng> shapePointsFromPigeon(@NonNull Messages.PlatformShapePoints points) {
+    final double[] packed = points.getPacked();
+    if (packed != null) {
+      return pointsFromPacked(packed);
+    }
+    final String encoded = points.getEncoded();
+    if (encoded == null) {
+      throw new IllegalArgumentException("Shape points are neither packed nor encoded");
+    }
+    try {
+      return PolyUtil.decode(encoded);
+    } catch (IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Shape points are not a valid encoded polyline");
+    }
+  }
+
   /**
    * Converts the given object to a list of WeightedLatLng objects.
    *
@@ -755,6 +898,26 @@ class Convert {
     return weightedData;
   }
 
+  /**
+   * Converts packed weighted points to a list of WeightedLatLng objects.
+   *
+   * @param packedData the latitude, longitude and weight of each point, one point after another.
+   * @return a list of WeightedLatLng objects.
+   * @throws IllegalArgumentException if the length of packedData is not a multiple of 3.
+   */
+  static List<WeightedLatLng> weightedDataFromPacked(@NonNull double[] packedData) {
+    if (packedData.length % 3 != 0) {
+      throw new IllegalArgumentException(
+          "Packed weighted data length " + packedData.length + " is not a multiple of 3");
+    }
+    final List<WeightedLatLng> weightedData = new ArrayList<>(packedData.length / 3);
+    for (int i = 0; i < packedData.length; i += 3) {
+      weightedData.add(
+          new WeightedLatLng(new LatLng(packedData[i], packedData[i + 1]), packedData[i + 2]));
+    }
+    return weightedData;
+  }
+
   /**
    * Converts the given object to a Gradient object.
    *
@@ -879,6 +1042,24 @@ class Convert {
       @NonNull AssetManager assetManager,
       float density,
       @NonNull BitmapDescriptorFactoryWrapper wrapper) {
+    return interpretGroundOverlayOptions(groundOverlay, sink, assetManager, density, wrapper, null);
+  }
+
+  /**
+   * Set the options in the given ground overlay object to the given sink, reusing the image from
+   * the cache when it was already decoded.
+   *
+   * @param cache the cache of decoded images, or null to decode the image.
+   * @see #interpretGroundOverlayOptions(Messages.PlatformGroundOverlay, GroundOverlaySink,
+   *     AssetManager, float, BitmapDescriptorFactoryWrapper)
+   */
+  static @NonNull String interpretGroundOverlayOptions(
+      @NonNull Messages.PlatformGroundOverlay groundOverlay,
+      @NonNull GroundOverlaySink sink,
+      @NonNull AssetManager assetManager,
+      float density,
+      @NonNull BitmapDescriptorFactoryWrapper wrapper,
+      @Nullable BitmapDescriptorCache cache) {
     sink.setTransparency(groundOverlay.getTransparency().floatValue());
     sink.setZIndex(groundOverlay.getZIndex().floatValue());
     sink.setVisible(groundOverlay.getVisible());
@@ -889,7 +1070,8 @@ class Convert {
     }
     sink.setBearing(groundOverlay.getBearing().floatValue());
     sink.setClickable(groundOverlay.getClickable());
-    sink.setImage(toBitmapDescriptor(groundOverlay.getImage(), assetManager, density, wrapper));
+    sink.setImage(
+        toBitmapDescriptor(groundOverlay.getImage(), assetManager, density, wrapper, cache));
     if (groundOverlay.getPosition() != null) {
       if (groundOverlay.getWidth() == null) {
         throw new FlutterError(
@@ -1031,6 +1213,30 @@ class Convert {
     }
   }
 
+  /**
+   * Records the bitmap a descriptor is created from, so its size can be accounted for. Without a
+   * wrapper to delegate to, no descriptor is created.
+   */
+  private static class BitmapRecordingFactoryWrapper extends BitmapDescriptorFactoryWrapper {
+    private final @Nullable BitmapDescriptorFactoryWrapper wrapper;
+    @Nullable Bitmap bitmap;
+
+    BitmapRecordingFactoryWrapper(@Nullable BitmapDescriptorFactoryWrapper wrapper) {
+      this.wrapper = wrapper;
+    }
+
+    @Override
+    public BitmapDescriptor fromAsset(String assetKey) {
+      return wrapper != null ? wrapper.fromAsset(assetKey) : null;
+    }
+
+    @Override
+    public BitmapDescriptor fromBitmap(Bitmap bitmap) {
+      this.bitmap = bitmap;
+      return wrapper != null ? wrapper.fromBitmap(bitmap) : null;
+    }
+  }
+
   @VisibleForTesting
   static class FlutterInjectorWrapper {
     /**
@@ -32,6 +32,14 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
   private List<Messages.PlatformGroundOverlay> initialGroundOverlays;
   private Rect padding = new Rect(0, 0, 0, 0);
   private @Nullable String style;
+  private Messages.PlatformMapOptions mapOptions =
+      new Messages.PlatformMapOptions.Builder()
+          .setAsyncMarkerIconDecodingEnabled(false)
+          .setTileMemoryCacheMaxBytes(0L)
+          .setMaxConcurrentTileRequests(
+              (long) TileOverlaysController.DEFAULT_MAX_CONCURRENT_TILE_REQUESTS)
+          .setMarkerVirtualizationEnabled(false)
+          .build();
 
   GoogleMapController build(
       int id,
@@ -39,7 +47,8 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider) {
     final GoogleMapController controller =
-        new GoogleMapController(id, context, binaryMessenger, lifecycleProvider, options);
+        new GoogleMapController(
+            id, context, binaryMessenger, lifecycleProvider, options, mapOptions);
     controller.init();
     controller.setMyLocationEnabled(myLocationEnabled);
     controller.setMyLocationButtonEnabled(myLocationButtonEnabled);
@@ -68,6 +77,10 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     options.mapId(mapId);
   }
 
+  void setMapOptions(@NonNull Messages.PlatformMapOptions mapOptions) {
+    this.mapOptions = mapOptions;
+  }
+
   @Override
   public void setCompassEnabled(boolean compassEnabled) {
     options.compassEnabled(compassEnabled);
@@ -51,6 +51,7 @@ import io.flutter.plugins.googlemaps.Messages.MapsApi;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
 import io.flutter.plugins.googlemaps.Messages.MapsInspectorApi;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -70,6 +71,7 @@ class GoogleMapController
         PlatformView {
 
   private static final String TAG = "GoogleMapController";
+  private static final String TILE_CACHE_DIRECTORY_NAME = "google_maps_flutter_tiles";
   private final int id;
   private final MapsCallbackApi flutterApi;
   private final BinaryMessenger binaryMessenger;
@@ -96,6 +98,9 @@ class GoogleMapController
   private final HeatmapsController heatmapsController;
   private final TileOverlaysController tileOverlaysController;
   private final GroundOverlaysController groundOverlaysController;
+  // Shared by markers, cluster items and ground overlays, which often reuse the same images.
+  private final BitmapDescriptorCache bitmapDescriptorCache = new BitmapDescriptorCache();
+  private final CameraMoveThrottler cameraMoveThrottler;
   private MarkerManager markerManager;
   private MarkerManager.Collection markerCollection;
   private @Nullable List<Messages.PlatformMarker> initialMarkers;
@@ -116,7 +121,8 @@ class GoogleMapController
       Context context,
       BinaryMessenger binaryMessenger,
       LifecycleProvider lifecycleProvider,
-      GoogleMapOptions options) {
+      GoogleMapOptions options,
+      @NonNull Messages.PlatformMapOptions mapOptions) {
     this.id = id;
     this.context = context;
     this.options = options;
@@ -126,6 +132,7 @@ class GoogleMapController
     flutterApi = new MapsCallbackApi(binaryMessenger, Integer.toString(id));
     MapsApi.setUp(binaryMessenger, Integer.toString(id), this);
     MapsInspectorApi.setUp(binaryMessenger, Integer.toString(id), this);
+    this.cameraMoveThrottler = new CameraMoveThrottler(flutterApi, density);
     AssetManager assetManager = context.getAssets();
     this.lifecycleProvider = lifecycleProvider;
     this.clusterManagersController = new ClusterManagersController(flutterApi, context);
@@ -135,13 +142,32 @@ class GoogleMapController
             clusterManagersController,
             assetManager,
             density,
-            new Convert.BitmapDescriptorFactoryWrapper());
+            new Convert.BitmapDescriptorFactoryWrapper(),
+            bitmapDescriptorCache);
+    markersController.setVirtualizationEnabled(mapOptions.getMarkerVirtualizationEnabled());
+    if (mapOptions.getAsyncMarkerIconDecodingEnabled()) {
+      markersController.setMarkerIconLoader(
+          new MarkerIconLoader(
+              assetManager,
+              density,
+              new Convert.BitmapDescriptorFactoryWrapper(),
+              bitmapDescriptorCache));
+    }
     this.polygonsController = new PolygonsController(flutterApi, density);
     this.polylinesController = new PolylinesController(flutterApi, assetManager, density);
     this.circlesController = new CirclesController(flutterApi, density);
     this.heatmapsController = new HeatmapsController();
-    this.tileOverlaysController = new TileOverlaysController(flutterApi);
-    this.groundOverlaysController = new GroundOverlaysController(flutterApi, assetManager, density);
+    if (GoogleMapsPlugin.isHeatmapTileCachingEnabled()) {
+      heatmapsController.setTileCache(new TileCache());
+    }
+    this.tileOverlaysController =
+        new TileOverlaysController(
+            flutterApi,
+            new File(context.getCacheDir(), TILE_CACHE_DIRECTORY_NAME),
+            createTileCache(mapOptions),
+            mapOptions.getMaxConcurrentTileRequests().intValue());
+    this.groundOverlaysController =
+        new GroundOverlaysController(flutterApi, assetManager, density, bitmapDescriptorCache);
   }
 
   // Constructor for testing purposes only
@@ -177,6 +203,7 @@ class GoogleMapController
     this.heatmapsController = heatmapController;
     this.tileOverlaysController = tileOverlaysController;
     this.groundOverlaysController = groundOverlaysController;
+    this.cameraMoveThrottler = new CameraMoveThrottler(flutterApi, density);
   }
 
   @Override
@@ -206,6 +233,7 @@ class GoogleMapController
       mapReadyResult = null;
     }
     setGoogleMapListener(this);
+    cameraMoveThrottler.setGoogleMap(googleMap);
     markerManager = new MarkerManager(googleMap);
     markerCollection = markerManager.newCollection();
     updateMyLocationSettings();
@@ -239,6 +267,16 @@ class GoogleMapController
       updateMapStyle(initialMapStyle);
       initialMapStyle = null;
     }
+    if (markersController.isVirtualizationEnabled()) {
+      markersController.onCameraIdle(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    }
+  }
+
+  // Returns the tile cache set in the map options, or null if tiles are not cached in memory.
+  @Nullable
+  private static TileCache createTileCache(@NonNull Messages.PlatformMapOptions mapOptions) {
+    final long maxBytes = mapOptions.getTileMemoryCacheMaxBytes();
+    return maxBytes > 0 ? new TileCache((int) Math.min(maxBytes, Integer.MAX_VALUE)) : null;
   }
 
   // Returns the first TextureView found in the view hierarchy.
@@ -330,6 +368,10 @@ class GoogleMapController
 
   @Override
   public void onCameraMove() {
+    if (markersController.isVirtualizationEnabled()) {
+      markersController.onCameraMove(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    }
+    cameraMoveThrottler.onCameraMove();
     if (!trackCameraPosition) {
       return;
     }
@@ -340,6 +382,13 @@ class GoogleMapController
   @Override
   public void onCameraIdle() {
     clusterManagersController.onCameraIdle();
+    if (markersController.isVirtualizationEnabled()) {
+      markersController.onCameraIdle(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    }
+    final float zoom = googleMap.getCameraPosition().zoom;
+    polylinesController.onCameraIdle(zoom);
+    polygonsController.onCameraIdle(zoom);
+    cameraMoveThrottler.onCameraIdle();
     flutterApi.onCameraIdle(new NoOpVoidResult());
   }
 
@@ -391,10 +440,13 @@ class GoogleMapController
     disposed = true;
     MapsApi.setUp(binaryMessenger, Integer.toString(id), null);
     MapsInspectorApi.setUp(binaryMessenger, Integer.toString(id), null);
+    cameraMoveThrottler.dispose();
     setGoogleMapListener(null);
     setMarkerCollectionListener(null);
     setClusterItemClickListener(null);
     setClusterItemRenderedListener(null);
+    markersController.setMarkerIconLoader(null);
+    bitmapDescriptorCache.clear();
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
     if (lifecycle != null) {
@@ -1031,6 +1083,109 @@ class GoogleMapController
     tileOverlaysController.clearTileCache(tileOverlayId);
   }
 
+  @Override
+  public void setCameraMoveEventOptions(@Nullable Messages.PlatformCameraMoveOptions options) {
+    cameraMoveThrottler.setOptions(options);
+  }
+
+  @Override
+  public @NonNull Messages.PlatformHeatmapPointsTiming setHeatmapPoints(
+      @NonNull String heatmapId, @NonNull double[] points) {
+    try {
+      return heatmapPointsTimingToPigeon(
+          heatmapId, heatmapsController.setHeatmapPoints(heatmapId, points));
+    } catch (IllegalArgumentException e) {
+      throw new FlutterError("invalid-arguments", e.getMessage(), null);
+    }
+  }
+
+  @Override
+  public @NonNull Messages.PlatformHeatmapPointsTiming addHeatmapPoints(
+      @NonNull String heatmapId, @NonNull double[] points) {
+    try {
+      return heatmapPointsTimingToPigeon(
+          heatmapId, heatmapsController.addHeatmapPoints(heatmapId, points));
+    } catch (IllegalArgumentException e) {
+      throw new FlutterError("invalid-arguments", e.getMessage(), null);
+    }
+  }
+
+  @Override
+  public @NonNull Messages.PlatformHeatmapPointsTiming removeHeatmapPoints(
+      @NonNull String heatmapId, @NonNull Long start, @NonNull Long count) {
+    try {
+      return heatmapPointsTimingToPigeon(
+          heatmapId,
+          heatmapsController.removeHeatmapPoints(heatmapId, start.intValue(), count.intValue()));
+    } catch (IllegalArgumentException e) {
+      throw new FlutterError("invalid-arguments", e.getMessage(), null);
+    }
+  }
+
+  @Override
+  public @Nullable Messages.PlatformMarkerBatchTiming getLastMarkerBatchTiming() {
+    final MarkersController.BatchTiming batchTiming = markersController.getLastBatchTiming();
+    return batchTiming != null ? batchTiming.toPigeon() : null;
+  }
+
+  @Override
+  public @Nullable Messages.PlatformTileCacheStats getTileCacheStats() {
+    final TileCache tileCache = tileOverlaysController.getTileCache();
+    return tileCache != null ? tileCache.toPigeon() : null;
+  }
+
+  private static @NonNull Messages.PlatformHeatmapPointsTiming heatmapPointsTimingToPigeon(
+      @NonNull String heatmapId, @Nullable HeatmapsController.PointsUpdateTiming timing) {
+    if (timing == null) {
+      throw new FlutterError("unknown-heatmap", "Unknown heatmap ID: " + heatmapId, null);
+    }
+    return timing.toPigeon();
+  }
+
+  @Override
+  public void setPolylinePoints(
+      @NonNull String polylineId,
+      @NonNull Messages.PlatformShapePoints points,
+      @NonNull Double simplificationTolerance) {
+    final boolean found;
+    try {
+      found =
+          polylinesController.setPolylinePoints(
+              polylineId, Convert.shapePointsFromPigeon(points), simplificationTolerance);
+    } catch (IllegalArgumentException e) {
+      throw new FlutterError("invalid-arguments", e.getMessage(), null);
+    }
+    if (!found) {
+      throw new FlutterError("unknown-shape", "Unknown polyline ID: " + polylineId, null);
+    }
+  }
+
+  @Override
+  public void setPolygonPoints(
+      @NonNull String polygonId,
+      @NonNull Messages.PlatformShapePoints points,
+      @NonNull List<Messages.PlatformShapePoints> holes,
+      @NonNull Double simplificationTolerance) {
+    final boolean found;
+    try {
+      final List<List<LatLng>> convertedHoles = new ArrayList<>(holes.size());
+      for (Messages.PlatformShapePoints hole : holes) {
+        convertedHoles.add(Convert.shapePointsFromPigeon(hole));
+      }
+      found =
+          polygonsController.setPolygonPoints(
+              polygonId,
+              Convert.shapePointsFromPigeon(points),
+              convertedHoles,
+              simplificationTolerance);
+    } catch (IllegalArgumentException e) {
+      throw new FlutterError("invalid-arguments", e.getMessage(), null);
+    }
+    if (!found) {
+      throw new FlutterError("unknown-shape", "Unknown polygon ID: " + polygonId, null);
+    }
+  }
+
   @Override
   public void takeSnapshot(@NonNull Messages.Result<byte[]> result) {
     if (googleMap == null) {
@@ -30,8 +30,25 @@ public class GoogleMapsPlugin implements FlutterPlugin, ActivityAware {
 
   private static final String VIEW_TYPE = "plugins.flutter.dev/google_maps_android";
 
+  private static boolean heatmapTileCachingEnabled = false;
+
   public GoogleMapsPlugin() {}
 
+  /**
+   * Sets whether the tiles of heatmaps are cached in memory, for maps created afterwards.
+   *
+   * <p>When enabled, changing the points of a heatmap with a maximum intensity in batches only
+   * renders again the tiles around the changed points, instead of every visible tile. Disabled by
+   * default.
+   */
+  public static void setHeatmapTileCachingEnabled(boolean enabled) {
+    heatmapTileCachingEnabled = enabled;
+  }
+
+  static boolean isHeatmapTileCachingEnabled() {
+    return heatmapTileCachingEnabled;
+  }
+
   // FlutterPlugin
 
   @Override
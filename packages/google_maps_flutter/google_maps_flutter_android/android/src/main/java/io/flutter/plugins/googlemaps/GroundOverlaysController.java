@@ -24,10 +24,19 @@ class GroundOverlaysController {
   private final AssetManager assetManager;
   private final float density;
   private final Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper;
+  private final @Nullable BitmapDescriptorCache bitmapDescriptorCache;
 
   GroundOverlaysController(
-      @NonNull MapsCallbackApi flutterApi, @NonNull AssetManager assetManager, float density) {
-    this(flutterApi, assetManager, density, new Convert.BitmapDescriptorFactoryWrapper());
+      @NonNull MapsCallbackApi flutterApi,
+      @NonNull AssetManager assetManager,
+      float density,
+      @Nullable BitmapDescriptorCache bitmapDescriptorCache) {
+    this(
+        flutterApi,
+        assetManager,
+        density,
+        new Convert.BitmapDescriptorFactoryWrapper(),
+        bitmapDescriptorCache);
   }
 
   @VisibleForTesting
@@ -36,12 +45,23 @@ class GroundOverlaysController {
       @NonNull AssetManager assetManager,
       float density,
       @NonNull Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper) {
+    this(flutterApi, assetManager, density, bitmapDescriptorFactoryWrapper, null);
+  }
+
+  @VisibleForTesting
+  GroundOverlaysController(
+      @NonNull MapsCallbackApi flutterApi,
+      @NonNull AssetManager assetManager,
+      float density,
+      @NonNull Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper,
+      @Nullable BitmapDescriptorCache bitmapDescriptorCache) {
     this.groundOverlayIdToController = new HashMap<>();
     this.googleMapsGroundOverlayIdToDartGroundOverlayId = new HashMap<>();
     this.flutterApi = flutterApi;
     this.assetManager = assetManager;
     this.density = density;
     this.bitmapDescriptorFactoryWrapper = bitmapDescriptorFactoryWrapper;
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -84,7 +104,8 @@ class GroundOverlaysController {
             groundOverlayOptionsBuilder,
             assetManager,
             density,
-            bitmapDescriptorFactoryWrapper);
+            bitmapDescriptorFactoryWrapper,
+            bitmapDescriptorCache);
     GroundOverlayOptions options = groundOverlayOptionsBuilder.build();
     final GroundOverlay groundOverlay = googleMap.addGroundOverlay(options);
     if (groundOverlay != null) {
@@ -105,7 +126,8 @@ class GroundOverlaysController {
           groundOverlayController,
           assetManager,
           density,
-          bitmapDescriptorFactoryWrapper);
+          bitmapDescriptorFactoryWrapper,
+          bitmapDescriptorCache);
     }
   }
 
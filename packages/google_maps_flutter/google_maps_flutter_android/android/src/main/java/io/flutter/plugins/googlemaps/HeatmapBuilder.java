@@ -5,6 +5,7 @@
 package io.flutter.plugins.googlemaps;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.maps.android.heatmaps.Gradient;
 import com.google.maps.android.heatmaps.HeatmapTileProvider;
 import com.google.maps.android.heatmaps.WeightedLatLng;
@@ -13,6 +14,9 @@ import java.util.List;
 /** Builder of a single Heatmap on the map. */
 public class HeatmapBuilder implements HeatmapOptionsSink {
   private final HeatmapTileProvider.Builder heatmapOptions;
+  private @Nullable List<WeightedLatLng> weightedData;
+  private int radius = HeatmapTileProvider.DEFAULT_RADIUS;
+  private double maxIntensity;
 
   /** Construct a HeatmapBuilder. */
   HeatmapBuilder() {
@@ -24,8 +28,24 @@ public class HeatmapBuilder implements HeatmapOptionsSink {
     return heatmapOptions.build();
   }
 
+  /** Returns the weighted data set, or null. */
+  @Nullable
+  List<WeightedLatLng> getWeightedData() {
+    return weightedData;
+  }
+
+  int getRadius() {
+    return radius;
+  }
+
+  /** Returns the maximum intensity set, or 0 if it is computed from the weighted data. */
+  double getMaxIntensity() {
+    return maxIntensity;
+  }
+
   @Override
   public void setWeightedData(@NonNull List<WeightedLatLng> weightedData) {
+    this.weightedData = weightedData;
     heatmapOptions.weightedData(weightedData);
   }
 
@@ -36,6 +56,7 @@ public class HeatmapBuilder implements HeatmapOptionsSink {
 
   @Override
   public void setMaxIntensity(double maxIntensity) {
+    this.maxIntensity = maxIntensity;
     heatmapOptions.maxIntensity(maxIntensity);
   }
 
@@ -46,6 +67,7 @@ public class HeatmapBuilder implements HeatmapOptionsSink {
 
   @Override
   public void setRadius(int radius) {
+    this.radius = radius;
     heatmapOptions.radius(radius);
   }
 }
@@ -4,37 +4,148 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.maps.android.heatmaps.Gradient;
 import com.google.maps.android.heatmaps.HeatmapTileProvider;
 import com.google.maps.android.heatmaps.WeightedLatLng;
+import java.util.ArrayList;
 import java.util.List;
 
 /** Controller of a single Heatmap on the map. */
 public class HeatmapController implements HeatmapOptionsSink {
   private final @NonNull HeatmapTileProvider heatmap;
   private final @NonNull TileOverlay heatmapTileOverlay;
+  private final @Nullable CachingHeatmapTileProvider cachingTileProvider;
+  // The points of the heatmap, kept to change them in batches.
+  private final List<WeightedLatLng> weightedData = new ArrayList<>();
+  private int radius = HeatmapTileProvider.DEFAULT_RADIUS;
+  private double maxIntensity;
+  private boolean hidden;
 
   /** Construct a HeatmapController with the given heatmap and heatmapTileOverlay. */
   HeatmapController(@NonNull HeatmapTileProvider heatmap, @NonNull TileOverlay heatmapTileOverlay) {
+    this(heatmap, heatmapTileOverlay, null);
+  }
+
+  /**
+   * Construct a HeatmapController with the given heatmap and heatmapTileOverlay, whose tiles are
+   * provided by the given cachingTileProvider if it is not null.
+   */
+  HeatmapController(
+      @NonNull HeatmapTileProvider heatmap,
+      @NonNull TileOverlay heatmapTileOverlay,
+      @Nullable CachingHeatmapTileProvider cachingTileProvider) {
     this.heatmap = heatmap;
     this.heatmapTileOverlay = heatmapTileOverlay;
+    this.cachingTileProvider = cachingTileProvider;
+  }
+
+  /** Records the options the heatmap was built with, which batches of points are applied to. */
+  void initializeFrom(@NonNull HeatmapBuilder builder) {
+    final List<WeightedLatLng> builtWeightedData = builder.getWeightedData();
+    if (builtWeightedData != null) {
+      weightedData.addAll(builtWeightedData);
+    }
+    radius = builder.getRadius();
+    maxIntensity = builder.getMaxIntensity();
   }
 
   /** Remove the heatmap from the map. */
   void remove() {
     heatmapTileOverlay.remove();
+    if (cachingTileProvider != null) {
+      cachingTileProvider.invalidateAll();
+    }
   }
 
   /** Clear the tile cache of the heatmap in order to update the heatmap. */
   void clearTileCache() {
+    if (cachingTileProvider != null) {
+      cachingTileProvider.invalidateAll();
+    }
+    heatmapTileOverlay.clearTileCache();
+  }
+
+  /** Replaces the points of the heatmap. */
+  void setPoints(
+      @NonNull List<WeightedLatLng> points, @NonNull HeatmapsController.PointsUpdateTiming timing) {
+    final List<WeightedLatLng> changedPoints = new ArrayList<>(weightedData);
+    changedPoints.addAll(points);
+    weightedData.clear();
+    weightedData.addAll(points);
+    update(changedPoints, timing);
+  }
+
+  /** Adds points to the end of the points of the heatmap. */
+  void addPoints(
+      @NonNull List<WeightedLatLng> points, @NonNull HeatmapsController.PointsUpdateTiming timing) {
+    weightedData.addAll(points);
+    update(points, timing);
+  }
+
+  /**
+   * Removes the given number of points of the heatmap from the given index on.
+   *
+   * @throws IllegalArgumentException if the points are not within the points of the heatmap.
+   */
+  void removePoints(int start, int count, @NonNull HeatmapsController.PointsUpdateTiming timing) {
+    if (start < 0 || count < 0 || start + count > weightedData.size()) {
+      throw new IllegalArgumentException(
+          "Can't remove " + count + " points at " + start + " of " + weightedData.size());
+    }
+    final List<WeightedLatLng> removedPoints = weightedData.subList(start, start + count);
+    final List<WeightedLatLng> changedPoints = new ArrayList<>(removedPoints);
+    removedPoints.clear();
+    update(changedPoints, timing);
+  }
+
+  int getPointCount() {
+    return weightedData.size();
+  }
+
+  // Rebuilds the heatmap from its points, and invalidates the tiles the changed points are drawn
+  // on.
+  private void update(
+      @NonNull List<WeightedLatLng> changedPoints,
+      @NonNull HeatmapsController.PointsUpdateTiming timing) {
+    final long rebuildStartNanos = SystemClock.elapsedRealtimeNanos();
+    // HeatmapTileProvider requires at least one point, so an empty heatmap is hidden instead.
+    if (weightedData.isEmpty()) {
+      heatmapTileOverlay.setVisible(false);
+      hidden = true;
+    } else {
+      // A copy, as the heatmap keeps the list it is given.
+      heatmap.setWeightedData(new ArrayList<>(weightedData));
+      if (hidden) {
+        heatmapTileOverlay.setVisible(true);
+        hidden = false;
+      }
+    }
+    final long invalidateStartNanos = SystemClock.elapsedRealtimeNanos();
+    timing.rebuildNanos = invalidateStartNanos - rebuildStartNanos;
+    // Without a maximum intensity, intensities are relative to the densest area of the heatmap, so
+    // a change of any point can change every tile.
+    if (cachingTileProvider != null && maxIntensity > 0) {
+      timing.invalidatedTileCount = cachingTileProvider.invalidate(changedPoints, radius);
+    } else if (cachingTileProvider != null) {
+      cachingTileProvider.invalidateAll();
+    }
     heatmapTileOverlay.clearTileCache();
+    timing.invalidateNanos = SystemClock.elapsedRealtimeNanos() - invalidateStartNanos;
   }
 
   @Override
   public void setWeightedData(@NonNull List<WeightedLatLng> weightedData) {
+    this.weightedData.clear();
+    this.weightedData.addAll(weightedData);
     heatmap.setWeightedData(weightedData);
+    if (hidden) {
+      heatmapTileOverlay.setVisible(true);
+      hidden = false;
+    }
   }
 
   @Override
@@ -44,6 +155,7 @@ public class HeatmapController implements HeatmapOptionsSink {
 
   @Override
   public void setMaxIntensity(double maxIntensity) {
+    this.maxIntensity = maxIntensity;
     heatmap.setMaxIntensity(maxIntensity);
   }
 
@@ -54,6 +166,7 @@ public class HeatmapController implements HeatmapOptionsSink {
 
   @Override
   public void setRadius(int radius) {
+    this.radius = radius;
     heatmap.setRadius(radius);
   }
 }
@@ -6,22 +6,69 @@ package io.flutter.plugins.googlemaps;
 
 import static io.flutter.plugins.googlemaps.Convert.HEATMAP_ID_KEY;
 
+import android.os.SystemClock;
+import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import com.google.maps.android.heatmaps.HeatmapTileProvider;
+import com.google.maps.android.heatmaps.WeightedLatLng;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /** Controller of multiple Heatmaps on the map. */
 public class HeatmapsController {
+  private static final String TAG = "HeatmapsController";
+
+  /** Durations of a change to the points of a heatmap, reported to Dart and logged. */
+  static class PointsUpdateTiming {
+    final int pointCount;
+    long parseNanos;
+    long rebuildNanos;
+    long invalidateNanos;
+    // -1 if all tiles were invalidated.
+    int invalidatedTileCount = -1;
+
+    PointsUpdateTiming(int pointCount) {
+      this.pointCount = pointCount;
+    }
+
+    @NonNull
+    Messages.PlatformHeatmapPointsTiming toPigeon() {
+      return new Messages.PlatformHeatmapPointsTiming.Builder()
+          .setPointCount((long) pointCount)
+          .setParseMicros(parseNanos / 1000)
+          .setRebuildMicros(rebuildNanos / 1000)
+          .setInvalidateMicros(invalidateNanos / 1000)
+          .setInvalidatedTileCount((long) invalidatedTileCount)
+          .build();
+    }
+
+    @Override
+    public @NonNull String toString() {
+      return "points: "
+          + pointCount
+          + ", parse: "
+          + parseNanos / 1000
+          + "us, rebuild: "
+          + rebuildNanos / 1000
+          + "us, invalidate: "
+          + invalidateNanos / 1000
+          + "us, invalidated tiles: "
+          + (invalidatedTileCount >= 0 ? invalidatedTileCount : "all");
+    }
+  }
+
   /** Mapping from Heatmap ID to HeatmapController. */
   private final Map<String, HeatmapController> heatmapIdToController;
   /** The GoogleMap to which the heatmaps are added. */
   private GoogleMap googleMap;
+  // Caches the tiles of heatmaps added afterwards if not null.
+  private @Nullable TileCache tileCache;
 
   /** Constructs a HeatmapsController. */
   HeatmapsController() {
@@ -33,6 +80,16 @@ public class HeatmapsController {
     this.googleMap = googleMap;
   }
 
+  /**
+   * Sets the cache of the tiles of heatmaps added afterwards, or null to not cache them.
+   *
+   * <p>With a cache, changing the points of a heatmap with a maximum intensity only renders again
+   * the tiles around the changed points.
+   */
+  void setTileCache(@Nullable TileCache tileCache) {
+    this.tileCache = tileCache;
+  }
+
   /** Adds heatmaps to the map. */
   void addHeatmaps(@NonNull List<Messages.PlatformHeatmap> heatmapsToAdd) {
     for (Messages.PlatformHeatmap heatmapToAdd : heatmapsToAdd) {
@@ -58,6 +115,66 @@ public class HeatmapsController {
     }
   }
 
+  /**
+   * Replaces the points of a heatmap with packed points.
+   *
+   * @return the timing of the change, or null if there is no heatmap with the given ID.
+   * @throws IllegalArgumentException if the packed points are malformed.
+   */
+  @Nullable
+  PointsUpdateTiming setHeatmapPoints(@NonNull String heatmapId, @NonNull double[] packedPoints) {
+    final HeatmapController heatmapController = heatmapIdToController.get(heatmapId);
+    if (heatmapController == null) {
+      return null;
+    }
+    final long parseStartNanos = SystemClock.elapsedRealtimeNanos();
+    final List<WeightedLatLng> points = Convert.weightedDataFromPacked(packedPoints);
+    final PointsUpdateTiming timing = new PointsUpdateTiming(points.size());
+    timing.parseNanos = SystemClock.elapsedRealtimeNanos() - parseStartNanos;
+    heatmapController.setPoints(points, timing);
+    Log.d(TAG, "Heatmap points set: " + timing);
+    return timing;
+  }
+
+  /**
+   * Adds packed points to the end of the points of a heatmap.
+   *
+   * @return the timing of the change, or null if there is no heatmap with the given ID.
+   * @throws IllegalArgumentException if the packed points are malformed.
+   */
+  @Nullable
+  PointsUpdateTiming addHeatmapPoints(@NonNull String heatmapId, @NonNull double[] packedPoints) {
+    final HeatmapController heatmapController = heatmapIdToController.get(heatmapId);
+    if (heatmapController == null) {
+      return null;
+    }
+    final long parseStartNanos = SystemClock.elapsedRealtimeNanos();
+    final List<WeightedLatLng> points = Convert.weightedDataFromPacked(packedPoints);
+    final PointsUpdateTiming timing = new PointsUpdateTiming(points.size());
+    timing.parseNanos = SystemClock.elapsedRealtimeNanos() - parseStartNanos;
+    heatmapController.addPoints(points, timing);
+    Log.d(TAG, "Heatmap points added: " + timing);
+    return timing;
+  }
+
+  /**
+   * Removes the given number of points of a heatmap from the given index on.
+   *
+   * @return the timing of the change, or null if there is no heatmap with the given ID.
+   * @throws IllegalArgumentException if the points are not within the points of the heatmap.
+   */
+  @Nullable
+  PointsUpdateTiming removeHeatmapPoints(@NonNull String heatmapId, int start, int count) {
+    final HeatmapController heatmapController = heatmapIdToController.get(heatmapId);
+    if (heatmapController == null) {
+      return null;
+    }
+    final PointsUpdateTiming timing = new PointsUpdateTiming(count);
+    heatmapController.removePoints(start, count, timing);
+    Log.d(TAG, "Heatmap points removed: " + timing);
+    return timing;
+  }
+
   /** Builds the heatmap. This method exists to allow mocking the HeatmapTileProvider in tests. */
   @VisibleForTesting
   public @NonNull HeatmapTileProvider buildHeatmap(@NonNull HeatmapBuilder builder) {
@@ -72,15 +189,22 @@ public class HeatmapsController {
     HeatmapBuilder heatmapBuilder = new HeatmapBuilder();
     String heatmapId = Convert.interpretHeatmapOptions(heatmap, heatmapBuilder);
     HeatmapTileProvider options = buildHeatmap(heatmapBuilder);
-    addHeatmap(heatmapId, options);
+    HeatmapController heatmapController = addHeatmap(heatmapId, options);
+    heatmapController.initializeFrom(heatmapBuilder);
   }
 
   /** Adds a heatmap to the map. */
-  private void addHeatmap(String heatmapId, HeatmapTileProvider options) {
+  private HeatmapController addHeatmap(String heatmapId, HeatmapTileProvider options) {
+    final CachingHeatmapTileProvider cachingTileProvider =
+        tileCache == null ? null : new CachingHeatmapTileProvider(heatmapId, options, tileCache);
     TileOverlay heatmapTileOverlay =
-        googleMap.addTileOverlay(new TileOverlayOptions().tileProvider(options));
-    HeatmapController heatmapController = new HeatmapController(options, heatmapTileOverlay);
+        googleMap.addTileOverlay(
+            new TileOverlayOptions()
+                .tileProvider(cachingTileProvider == null ? options : cachingTileProvider));
+    HeatmapController heatmapController =
+        new HeatmapController(options, heatmapTileOverlay, cachingTileProvider);
     heatmapIdToController.put(heatmapId, heatmapController);
+    return heatmapController;
   }
 
   /** Updates the given heatmap on the map. */
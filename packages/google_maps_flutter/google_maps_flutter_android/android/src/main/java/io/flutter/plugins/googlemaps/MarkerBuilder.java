@@ -42,6 +42,23 @@ class MarkerBuilder implements MarkerOptionsSink, ClusterItem {
     markerOptionsToUpdate.zIndex(markerOptions.getZIndex());
   }
 
+  /** Sets the builder values to a sink, such as the controller of a recycled marker. */
+  void applyTo(MarkerOptionsSink sink) {
+    sink.setAlpha(markerOptions.getAlpha());
+    sink.setAnchor(markerOptions.getAnchorU(), markerOptions.getAnchorV());
+    sink.setConsumeTapEvents(consumeTapEvents);
+    sink.setDraggable(markerOptions.isDraggable());
+    sink.setFlat(markerOptions.isFlat());
+    sink.setIcon(markerOptions.getIcon());
+    sink.setInfoWindowAnchor(
+        markerOptions.getInfoWindowAnchorU(), markerOptions.getInfoWindowAnchorV());
+    sink.setInfoWindowText(markerOptions.getTitle(), markerOptions.getSnippet());
+    sink.setPosition(markerOptions.getPosition());
+    sink.setRotation(markerOptions.getRotation());
+    sink.setVisible(markerOptions.isVisible());
+    sink.setZIndex(markerOptions.getZIndex());
+  }
+
   boolean consumeTapEvents() {
     return consumeTapEvents;
   }
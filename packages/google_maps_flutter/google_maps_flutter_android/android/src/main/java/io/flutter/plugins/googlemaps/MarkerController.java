@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
@@ -143,6 +144,11 @@ class MarkerController implements MarkerOptionsSink {
     marker.setZIndex(zIndex);
   }
 
+  @Nullable
+  Marker getMarker() {
+    return weakMarker.get();
+  }
+
   String getGoogleMapsMarkerId() {
     return googleMapsMarkerId;
   }
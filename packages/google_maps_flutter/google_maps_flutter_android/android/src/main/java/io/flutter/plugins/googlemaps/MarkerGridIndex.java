@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexes the positions of markers in a grid of fixed size cells, so that the markers in a region
+ * are found without checking every marker.
+ */
+class MarkerGridIndex {
+  static final double DEFAULT_CELL_SIZE_DEGREES = 0.25;
+
+  private final double cellSizeDegrees;
+  private final int columnCount;
+  private final Map<Long, Set<String>> cellToMarkerIds = new HashMap<>();
+  private final Map<String, Long> markerIdToCell = new HashMap<>();
+  private final Map<String, LatLng> markerIdToPosition = new HashMap<>();
+
+  MarkerGridIndex() {
+    this(DEFAULT_CELL_SIZE_DEGREES);
+  }
+
+  MarkerGridIndex(double cellSizeDegrees) {
+    this.cellSizeDegrees = cellSizeDegrees;
+    this.columnCount = (int) Math.ceil(360 / cellSizeDegrees);
+  }
+
+  /** Adds a marker, or moves it if it was already added. */
+  void put(@NonNull String markerId, @NonNull LatLng position) {
+    final long cell = cellOf(row(position.latitude), column(position.longitude));
+    final Long previousCell = markerIdToCell.put(markerId, cell);
+    markerIdToPosition.put(markerId, position);
+    if (previousCell != null) {
+      if (previousCell == cell) {
+        return;
+      }
+      removeFromCell(markerId, previousCell);
+    }
+    Set<String> markerIds = cellToMarkerIds.get(cell);
+    if (markerIds == null) {
+      markerIds = new HashSet<>();
+      cellToMarkerIds.put(cell, markerIds);
+    }
+    markerIds.add(markerId);
+  }
+
+  void remove(@NonNull String markerId) {
+    final Long cell = markerIdToCell.remove(markerId);
+    markerIdToPosition.remove(markerId);
+    if (cell != null) {
+      removeFromCell(markerId, cell);
+    }
+  }
+
+  int size() {
+    return markerIdToCell.size();
+  }
+
+  /** Adds the IDs of the markers within the bounds to the result. */
+  void query(@NonNull LatLngBounds bounds, @NonNull Collection<String> result) {
+    final int firstRow = row(bounds.southwest.latitude);
+    final int lastRow = row(bounds.northeast.latitude);
+    final int firstColumn = column(bounds.southwest.longitude);
+    final int lastColumn = column(bounds.northeast.longitude);
+    // Bounds crossing the antimeridian wrap around the last column.
+    final int spannedColumns =
+        lastColumn >= firstColumn
+            ? lastColumn - firstColumn + 1
+            : columnCount - firstColumn + lastColumn + 1;
+    final long spannedCells = (long) (lastRow - firstRow + 1) * spannedColumns;
+
+    if (spannedCells > cellToMarkerIds.size()) {
+      // Fewer occupied cells than cells in the bounds, so check the occupied ones.
+      for (Set<String> markerIds : cellToMarkerIds.values()) {
+        addMarkersWithin(bounds, markerIds, result);
+      }
+      return;
+    }
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int i = 0; i < spannedColumns; i++) {
+        final Set<String> markerIds =
+            cellToMarkerIds.get(cellOf(row, (firstColumn + i) % columnCount));
+        if (markerIds != null) {
+          addMarkersWithin(bounds, markerIds, result);
+        }
+      }
+    }
+  }
+
+  private void addMarkersWithin(
+      @NonNull LatLngBounds bounds,
+      @NonNull Set<String> markerIds,
+      @NonNull Collection<String> result) {
+    for (String markerId : markerIds) {
+      final LatLng position = markerIdToPosition.get(markerId);
+      if (position != null && bounds.contains(position)) {
+        result.add(markerId);
+      }
+    }
+  }
+
+  private void removeFromCell(@NonNull String markerId, long cell) {
+    final Set<String> markerIds = cellToMarkerIds.get(cell);
+    if (markerIds != null) {
+      markerIds.remove(markerId);
+      if (markerIds.isEmpty()) {
+        cellToMarkerIds.remove(cell);
+      }
+    }
+  }
+
+  private int row(double latitude) {
+    return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellSizeDegrees);
+  }
+
+  private int column(double longitude) {
+    final int column = (int) Math.floor((longitude + 180) / cellSizeDegrees);
+    return Math.floorMod(column, columnCount);
+  }
+
+  private long cellOf(int row, int column) {
+    return (long) row * columnCount + column;
+  }
+}
@@ -0,0 +1,220 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes and scales marker icons on a bounded pool of background threads, instead of on the
+ * platform thread that handles marker updates.
+ *
+ * <p>Requests for an image that is already being decoded wait for the same decoding. Each marker
+ * waits for at most one icon, and only a few images are handed to the pool at a time, so the icons
+ * of markers that are changed or removed before their turn are never decoded. Decoded icons are
+ * added to the {@link BitmapDescriptorCache} of the map, and the {@link BitmapDescriptor} is
+ * created and delivered on the main thread. All methods must be called on the main thread.
+ */
+class MarkerIconLoader {
+  private static final String TAG = "MarkerIconLoader";
+  private static final int MAX_DECODING_THREADS = 4;
+  private static final long DECODING_THREAD_KEEP_ALIVE_SECONDS = 10;
+  // The images of a loader handed to the decoding pool at a time.
+  private static final int MAX_DECODES_IN_FLIGHT = MAX_DECODING_THREADS;
+
+  /** Receives a loaded icon on the main thread. */
+  interface Callback {
+    /** @param icon the loaded icon, or null if the image could not be decoded. */
+    void onIconLoaded(@Nullable BitmapDescriptor icon);
+  }
+
+  /** An image to decode, and the markers waiting for it. */
+  private static final class Request {
+    final @NonNull Messages.PlatformBitmap icon;
+    final Map<String, Callback> markerIdToCallback = new LinkedHashMap<>();
+
+    Request(@NonNull Messages.PlatformBitmap icon) {
+      this.icon = icon;
+    }
+  }
+
+  @Nullable private static ThreadPoolExecutor sharedDecodingExecutor;
+
+  private final AssetManager assetManager;
+  private final float density;
+  private final Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper;
+  private final BitmapDescriptorCache bitmapDescriptorCache;
+  private final Executor decodingExecutor;
+  private final Executor mainExecutor;
+  private final Map<String, Request> keyToRequest = new HashMap<>();
+  private final Map<String, String> markerIdToKey = new HashMap<>();
+  // The keys of the requests that are not handed to the decoding pool yet, in request order.
+  private final Set<String> waitingKeys = new LinkedHashSet<>();
+  private int decodesInFlight;
+
+  MarkerIconLoader(
+      @NonNull AssetManager assetManager,
+      float density,
+      @NonNull Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper,
+      @NonNull BitmapDescriptorCache bitmapDescriptorCache) {
+    this(
+        assetManager,
+        density,
+        bitmapDescriptorFactoryWrapper,
+        bitmapDescriptorCache,
+        getSharedDecodingExecutor(),
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  @VisibleForTesting
+  MarkerIconLoader(
+      @NonNull AssetManager assetManager,
+      float density,
+      @NonNull Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper,
+      @NonNull BitmapDescriptorCache bitmapDescriptorCache,
+      @NonNull Executor decodingExecutor,
+      @NonNull Executor mainExecutor) {
+    this.assetManager = assetManager;
+    this.density = density;
+    this.bitmapDescriptorFactoryWrapper = bitmapDescriptorFactoryWrapper;
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
+    this.decodingExecutor = decodingExecutor;
+    this.mainExecutor = mainExecutor;
+  }
+
+  /** Returns whether the icon is decoded by the plugin, and so is loaded in the background. */
+  boolean isLoadedAsynchronously(@NonNull Messages.PlatformBitmap icon) {
+    return Convert.isDecodedBitmap(icon);
+  }
+
+  /** Returns the icon if it was already decoded, or null. */
+  @Nullable
+  BitmapDescriptor getCachedIcon(@NonNull Messages.PlatformBitmap icon) {
+    final String key = BitmapDescriptorCache.keyFor(icon, density);
+    return key != null ? bitmapDescriptorCache.get(key) : null;
+  }
+
+  /**
+   * Decodes the icon of the marker in the background and calls the callback with it on the main
+   * thread. Replaces the icon the marker was waiting for, if any.
+   */
+  void load(
+      @NonNull String markerId, @NonNull Messages.PlatformBitmap icon, @NonNull Callback callback) {
+    cancel(markerId);
+    final String key = Objects.requireNonNull(BitmapDescriptorCache.keyFor(icon, density));
+    Request request = keyToRequest.get(key);
+    if (request == null) {
+      request = new Request(icon);
+      keyToRequest.put(key, request);
+      waitingKeys.add(key);
+    }
+    request.markerIdToCallback.put(markerId, callback);
+    markerIdToKey.put(markerId, key);
+    decodeWaitingIcons();
+  }
+
+  /**
+   * Drops the icon the marker is waiting for. Its callback is not called, and the icon is not
+   * decoded if no other marker waits for it and its decoding has not started.
+   */
+  void cancel(@NonNull String markerId) {
+    final String key = markerIdToKey.remove(markerId);
+    if (key == null) {
+      return;
+    }
+    final Request request = Objects.requireNonNull(keyToRequest.get(key));
+    request.markerIdToCallback.remove(markerId);
+    if (request.markerIdToCallback.isEmpty() && waitingKeys.remove(key)) {
+      keyToRequest.remove(key);
+    }
+  }
+
+  /** Drops the icons that are still being decoded. Their callbacks are not called. */
+  void cancelAll() {
+    keyToRequest.clear();
+    markerIdToKey.clear();
+    waitingKeys.clear();
+  }
+
+  private void decodeWaitingIcons() {
+    final Iterator<String> iterator = waitingKeys.iterator();
+    while (decodesInFlight < MAX_DECODES_IN_FLIGHT && iterator.hasNext()) {
+      final String key = iterator.next();
+      iterator.remove();
+      final Messages.PlatformBitmap icon = Objects.requireNonNull(keyToRequest.get(key)).icon;
+      decodesInFlight++;
+      decodingExecutor.execute(
+          () -> {
+            Bitmap bitmap = null;
+            try {
+              bitmap = Convert.decodeBitmap(icon, assetManager, density);
+            } catch (IllegalArgumentException e) {
+              Log.e(TAG, "Unable to decode marker icon.", e);
+            }
+            final Bitmap decodedBitmap = bitmap;
+            mainExecutor.execute(() -> onDecoded(key, decodedBitmap));
+          });
+    }
+  }
+
+  private void onDecoded(@NonNull String key, @Nullable Bitmap bitmap) {
+    decodesInFlight--;
+    final Request request = keyToRequest.remove(key);
+    if (request != null) {
+      BitmapDescriptor icon = null;
+      if (bitmap != null) {
+        icon = bitmapDescriptorFactoryWrapper.fromBitmap(bitmap);
+        if (icon != null) {
+          bitmapDescriptorCache.put(key, icon, bitmap);
+        }
+      }
+      for (Map.Entry<String, Callback> entry : request.markerIdToCallback.entrySet()) {
+        markerIdToKey.remove(entry.getKey());
+        entry.getValue().onIconLoaded(icon);
+      }
+    }
+    decodeWaitingIcons();
+  }
+
+  private static synchronized Executor getSharedDecodingExecutor() {
+    if (sharedDecodingExecutor == null) {
+      final int threadCount =
+          Math.max(
+              1, Math.min(MAX_DECODING_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+      sharedDecodingExecutor =
+          new ThreadPoolExecutor(
+              threadCount,
+              threadCount,
+              DECODING_THREAD_KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                final Thread thread = new Thread(runnable, "MarkerIconDecoding");
+                thread.setDaemon(true);
+                return thread;
+              });
+      sharedDecodingExecutor.allowCoreThreadTimeOut(true);
+    }
+    return sharedDecodingExecutor;
+  }
+}
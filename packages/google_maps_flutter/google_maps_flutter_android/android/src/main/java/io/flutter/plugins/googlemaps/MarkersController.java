@@ -5,17 +5,85 @@
 package io.flutter.plugins.googlemaps;
 
 import android.content.res.AssetManager;
+import android.os.SystemClock;
+import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.maps.android.collections.MarkerManager;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 class MarkersController {
+  private static final String TAG = "MarkersController";
+  // The share of the visible region added on each side of it when markers are virtualized, so that
+  // markers are on the map before they are panned into view.
+  private static final double VIRTUALIZATION_MARGIN = 0.5;
+  private static final int MAX_RECYCLED_MARKERS = 128;
+
+  /**
+   * Timing of a batch of marker updates when icons are loaded asynchronously.
+   *
+   * <p>The main thread time covers the update call itself, which no longer includes decoding icons.
+   * The icons of the batch are set once all of its deferred icons are loaded.
+   */
+  static class BatchTiming {
+    final int markerCount;
+    final long startNanos;
+    long mainThreadNanos;
+    int deferredIconCount;
+    private int pendingIconCount;
+    long iconsSetNanos = -1;
+
+    BatchTiming(int markerCount, long startNanos) {
+      this.markerCount = markerCount;
+      this.startNanos = startNanos;
+    }
+
+    @NonNull
+    Messages.PlatformMarkerBatchTiming toPigeon() {
+      return new Messages.PlatformMarkerBatchTiming.Builder()
+          .setMarkerCount((long) markerCount)
+          .setMainThreadMicros(mainThreadNanos / 1000)
+          .setDeferredIconCount((long) deferredIconCount)
+          .setIconsSetMicros(iconsSetNanos >= 0 ? iconsSetNanos / 1000 : -1)
+          .build();
+    }
+
+    @Override
+    public @NonNull String toString() {
+      return "markers: "
+          + markerCount
+          + ", main thread: "
+          + mainThreadNanos / 1000
+          + "us, deferred icons: "
+          + deferredIconCount
+          + (iconsSetNanos >= 0 ? ", icons set after: " + iconsSetNanos / 1000 + "us" : "");
+    }
+  }
+
+  /** The icon that a marker waits for while it is loaded asynchronously. */
+  private static final class IconRequest {
+    final boolean visible;
+    final @Nullable BatchTiming batchTiming;
+
+    IconRequest(boolean visible, @Nullable BatchTiming batchTiming) {
+      this.visible = visible;
+      this.batchTiming = batchTiming;
+    }
+  }
+
   private final HashMap<String, MarkerBuilder> markerIdToMarkerBuilder;
   private final HashMap<String, MarkerController> markerIdToController;
   private final HashMap<String, String> googleMapsMarkerIdToDartMarkerId;
@@ -25,6 +93,19 @@ class MarkersController {
   private final AssetManager assetManager;
   private final float density;
   private final Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper;
+  private final @Nullable BitmapDescriptorCache bitmapDescriptorCache;
+  private @Nullable MarkerIconLoader markerIconLoader;
+  // The icon request of each marker whose icon is being loaded asynchronously.
+  private final HashMap<String, IconRequest> markerIdToIconRequest = new HashMap<>();
+  private @Nullable BatchTiming currentBatchTiming;
+  private @Nullable BatchTiming lastBatchTiming;
+  // The positions of markers not in a cluster, when markers are virtualized.
+  private @Nullable MarkerGridIndex markerIndex;
+  // The region in which virtualized markers are on the map, null until it is known.
+  private @Nullable LatLngBounds materializedBounds;
+  // Hidden markers that were moved out of the region, reused for the markers moving in.
+  private final ArrayDeque<Marker> recycledMarkers = new ArrayDeque<>();
+  private @Nullable String draggedMarkerId;
 
   MarkersController(
       @NonNull MapsCallbackApi flutterApi,
@@ -32,6 +113,22 @@ class MarkersController {
       AssetManager assetManager,
       float density,
       Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper) {
+    this(
+        flutterApi,
+        clusterManagersController,
+        assetManager,
+        density,
+        bitmapDescriptorFactoryWrapper,
+        null);
+  }
+
+  MarkersController(
+      @NonNull MapsCallbackApi flutterApi,
+      ClusterManagersController clusterManagersController,
+      AssetManager assetManager,
+      float density,
+      Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper,
+      @Nullable BitmapDescriptorCache bitmapDescriptorCache) {
     this.markerIdToMarkerBuilder = new HashMap<>();
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
@@ -40,22 +137,102 @@ class MarkersController {
     this.assetManager = assetManager;
     this.density = density;
     this.bitmapDescriptorFactoryWrapper = bitmapDescriptorFactoryWrapper;
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
   }
 
   void setCollection(MarkerManager.Collection markerCollection) {
     this.markerCollection = markerCollection;
   }
 
+  /**
+   * Sets the loader that decodes marker icons in the background, or null to decode them while
+   * markers are updated.
+   *
+   * <p>While its icon is loaded, a marker is added to the map hidden, and shown once the icon is
+   * set.
+   */
+  void setMarkerIconLoader(@Nullable MarkerIconLoader markerIconLoader) {
+    if (this.markerIconLoader != null) {
+      this.markerIconLoader.cancelAll();
+    }
+    this.markerIconLoader = markerIconLoader;
+    markerIdToIconRequest.clear();
+  }
+
+  /**
+   * Sets whether markers not in a cluster are virtualized, which is off by default. Must be set
+   * before markers are added.
+   *
+   * <p>Virtualized markers are only added to the map while they are within the visible region, plus
+   * a margin, as updated by {@link #onCameraMove} and {@link #onCameraIdle}. Markers moving out of
+   * the region are hidden and reused for the markers moving in, so that large marker sets do not
+   * create a native marker each.
+   */
+  void setVirtualizationEnabled(boolean enabled) {
+    markerIndex = enabled ? new MarkerGridIndex() : null;
+    materializedBounds = null;
+  }
+
+  boolean isVirtualizationEnabled() {
+    return markerIndex != null;
+  }
+
+  /**
+   * Updates virtualized markers if the camera moved out of the region in which they are on the map.
+   */
+  void onCameraMove(@NonNull LatLngBounds visibleBounds) {
+    if (markerIndex == null) {
+      return;
+    }
+    if (materializedBounds != null
+        && materializedBounds.contains(visibleBounds.southwest)
+        && materializedBounds.contains(visibleBounds.northeast)) {
+      return;
+    }
+    updateMaterializedMarkers(visibleBounds);
+  }
+
+  /** Updates virtualized markers around the region visible once the camera stopped. */
+  void onCameraIdle(@NonNull LatLngBounds visibleBounds) {
+    if (markerIndex == null) {
+      return;
+    }
+    updateMaterializedMarkers(visibleBounds);
+  }
+
+  /** Returns the number of markers not in a cluster that are on the map. */
+  @VisibleForTesting
+  int getMaterializedMarkerCount() {
+    int count = 0;
+    for (String markerId : markerIdToController.keySet()) {
+      final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+      if (markerBuilder != null && markerBuilder.clusterManagerId() == null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** Returns the timing of the last batch of updates, if icons are loaded asynchronously. */
+  @Nullable
+  BatchTiming getLastBatchTiming() {
+    return lastBatchTiming;
+  }
+
   void addMarkers(@NonNull List<Messages.PlatformMarker> markersToAdd) {
+    startBatch(markersToAdd.size());
     for (Messages.PlatformMarker markerToAdd : markersToAdd) {
       addMarker(markerToAdd);
     }
+    finishBatch();
   }
 
   void changeMarkers(@NonNull List<Messages.PlatformMarker> markersToChange) {
+    startBatch(markersToChange.size());
     for (Messages.PlatformMarker markerToChange : markersToChange) {
       changeMarker(markerToChange);
     }
+    finishBatch();
   }
 
   void removeMarkers(@NonNull List<String> markerIdsToRemove) {
@@ -65,12 +242,23 @@ class MarkersController {
   }
 
   private void removeMarker(String markerId) {
+    cancelIconRequest(markerId);
     final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.remove(markerId);
     if (markerBuilder == null) {
       return;
     }
-    final MarkerController markerController = markerIdToController.remove(markerId);
     final String clusterManagerId = markerBuilder.clusterManagerId();
+    if (clusterManagerId == null && markerIndex != null) {
+      markerIndex.remove(markerId);
+      if (markerId.equals(draggedMarkerId)) {
+        draggedMarkerId = null;
+      }
+      // Removed markers are not recycled, so that the hidden markers kept in the collection never
+      // outnumber the markers that can reuse them.
+      dematerializeMarker(markerId, false);
+      return;
+    }
+    final MarkerController markerController = markerIdToController.remove(markerId);
     if (clusterManagerId != null) {
       // Remove marker from clusterManager.
       clusterManagersController.removeItem(markerBuilder);
@@ -86,6 +274,14 @@ class MarkersController {
 
   void showMarkerInfoWindow(String markerId) {
     MarkerController markerController = markerIdToController.get(markerId);
+    if (markerController == null && markerIndex != null) {
+      // Virtualized markers outside the region are added to the map to show their info window.
+      final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+      if (markerBuilder != null && markerBuilder.clusterManagerId() == null) {
+        materializeMarker(markerId, markerBuilder);
+        markerController = markerIdToController.get(markerId);
+      }
+    }
     if (markerController == null) {
       throw new Messages.FlutterError(
           "Invalid markerId", "showInfoWindow called with invalid markerId", null);
@@ -95,6 +291,9 @@ class MarkersController {
 
   void hideMarkerInfoWindow(String markerId) {
     MarkerController markerController = markerIdToController.get(markerId);
+    if (markerController == null && isVirtualizedMarker(markerId)) {
+      return;
+    }
     if (markerController == null) {
       throw new Messages.FlutterError(
           "Invalid markerId", "hideInfoWindow called with invalid markerId", null);
@@ -104,6 +303,9 @@ class MarkersController {
 
   boolean isInfoWindowShown(String markerId) {
     MarkerController markerController = markerIdToController.get(markerId);
+    if (markerController == null && isVirtualizedMarker(markerId)) {
+      return false;
+    }
     if (markerController == null) {
       throw new Messages.FlutterError(
           "Invalid markerId", "isInfoWindowShown called with invalid markerId", null);
@@ -133,6 +335,7 @@ class MarkersController {
     if (markerId == null) {
       return;
     }
+    draggedMarkerId = markerId;
     flutterApi.onMarkerDragStart(markerId, Convert.latLngToPigeon(latLng), new NoOpVoidResult());
   }
 
@@ -149,6 +352,14 @@ class MarkersController {
     if (markerId == null) {
       return;
     }
+    if (markerId.equals(draggedMarkerId)) {
+      draggedMarkerId = null;
+    }
+    final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+    if (markerIndex != null && markerBuilder != null && markerBuilder.clusterManagerId() == null) {
+      markerBuilder.setPosition(latLng);
+      markerIndex.put(markerId, latLng);
+    }
     flutterApi.onMarkerDragEnd(markerId, Convert.latLngToPigeon(latLng), new NoOpVoidResult());
   }
 
@@ -175,8 +386,7 @@ class MarkersController {
     String markerId = marker.getMarkerId();
     String clusterManagerId = marker.getClusterManagerId();
     MarkerBuilder markerBuilder = new MarkerBuilder(markerId, clusterManagerId);
-    Convert.interpretMarkerOptions(
-        marker, markerBuilder, assetManager, density, bitmapDescriptorFactoryWrapper);
+    interpretMarkerOptions(marker, markerBuilder, null);
     addMarker(markerBuilder);
   }
 
@@ -190,7 +400,14 @@ class MarkersController {
     markerIdToMarkerBuilder.put(markerId, markerBuilder);
 
     if (markerBuilder.clusterManagerId() == null) {
-      addMarkerToCollection(markerId, markerBuilder);
+      if (markerIndex != null) {
+        markerIndex.put(markerId, markerBuilder.getPosition());
+        if (isInMaterializedBounds(markerBuilder.getPosition())) {
+          materializeMarker(markerId, markerBuilder);
+        }
+      } else {
+        addMarkerToCollection(markerId, markerBuilder);
+      }
     } else {
       addMarkerBuilderForCluster(markerBuilder);
     }
@@ -231,15 +448,263 @@ class MarkersController {
       return;
     }
 
-    // Update marker builder.
-    Convert.interpretMarkerOptions(
-        marker, markerBuilder, assetManager, density, bitmapDescriptorFactoryWrapper);
+    // Update marker builder and existing marker on map.
+    interpretMarkerOptions(marker, markerBuilder, markerIdToController.get(markerId));
+
+    if (markerIndex != null && clusterManagerId == null) {
+      markerIndex.put(markerId, markerBuilder.getPosition());
+      final boolean materialized = markerIdToController.containsKey(markerId);
+      if (!materialized && isInMaterializedBounds(markerBuilder.getPosition())) {
+        materializeMarker(markerId, markerBuilder);
+      } else if (materialized
+          && !isInMaterializedBounds(markerBuilder.getPosition())
+          && !isPinned(markerId)) {
+        dematerializeMarker(markerId, true);
+      }
+    }
+  }
 
-    // Update existing marker on map.
-    MarkerController markerController = markerIdToController.get(markerId);
-    if (markerController != null) {
+  private boolean isVirtualizedMarker(String markerId) {
+    if (markerIndex == null) {
+      return false;
+    }
+    final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+    return markerBuilder != null && markerBuilder.clusterManagerId() == null;
+  }
+
+  private boolean isInMaterializedBounds(@NonNull LatLng position) {
+    return materializedBounds != null && materializedBounds.contains(position);
+  }
+
+  // Whether a virtualized marker stays on the map while it is out of the region.
+  private boolean isPinned(@NonNull String markerId) {
+    if (markerId.equals(draggedMarkerId)) {
+      return true;
+    }
+    final MarkerController markerController = markerIdToController.get(markerId);
+    return markerController != null && markerController.isInfoWindowShown();
+  }
+
+  private void updateMaterializedMarkers(@NonNull LatLngBounds visibleBounds) {
+    if (markerIndex == null || markerCollection == null) {
+      return;
+    }
+    final long startNanos = SystemClock.elapsedRealtimeNanos();
+    materializedBounds = expandBounds(visibleBounds, VIRTUALIZATION_MARGIN);
+    final Set<String> markerIdsInBounds = new HashSet<>();
+    markerIndex.query(materializedBounds, markerIdsInBounds);
+
+    int removedCount = 0;
+    for (String markerId : new ArrayList<>(markerIdToController.keySet())) {
+      if (isVirtualizedMarker(markerId)
+          && !markerIdsInBounds.contains(markerId)
+          && !isPinned(markerId)) {
+        dematerializeMarker(markerId, true);
+        removedCount++;
+      }
+    }
+    int addedCount = 0;
+    for (String markerId : markerIdsInBounds) {
+      if (!markerIdToController.containsKey(markerId)) {
+        final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+        if (markerBuilder != null) {
+          materializeMarker(markerId, markerBuilder);
+          addedCount++;
+        }
+      }
+    }
+    if (addedCount > 0 || removedCount > 0) {
+      Log.d(
+          TAG,
+          "Virtualized markers: "
+              + markerIndex.size()
+              + ", added: "
+              + addedCount
+              + ", removed: "
+              + removedCount
+              + ", took: "
+              + (SystemClock.elapsedRealtimeNanos() - startNanos) / 1000
+              + "us");
+    }
+  }
+
+  // Adds a virtualized marker to the map, reusing a recycled marker if there is one.
+  private void materializeMarker(@NonNull String markerId, @NonNull MarkerBuilder markerBuilder) {
+    final Marker recycledMarker = recycledMarkers.poll();
+    if (recycledMarker == null) {
+      addMarkerToCollection(markerId, markerBuilder);
+      return;
+    }
+    createControllerForMarker(markerId, recycledMarker, markerBuilder.consumeTapEvents());
+    markerBuilder.applyTo(Objects.requireNonNull(markerIdToController.get(markerId)));
+  }
+
+  // Removes a virtualized marker from the map, keeping its marker hidden for reuse if recycle is
+  // true and there is room.
+  private void dematerializeMarker(@NonNull String markerId, boolean recycle) {
+    final MarkerController markerController = markerIdToController.remove(markerId);
+    if (markerController == null) {
+      return;
+    }
+    googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+    final Marker marker = markerController.getMarker();
+    if (marker == null) {
+      return;
+    }
+    if (recycle && recycledMarkers.size() < MAX_RECYCLED_MARKERS) {
+      marker.hideInfoWindow();
+      marker.setVisible(false);
+      recycledMarkers.add(marker);
+    } else if (markerCollection != null) {
+      markerController.removeFromCollection(markerCollection);
+    }
+  }
+
+  /** Returns the bounds grown by the given share of their size on each side. */
+  @NonNull
+  static LatLngBounds expandBounds(@NonNull LatLngBounds bounds, double margin) {
+    final double south = bounds.southwest.latitude;
+    final double north = bounds.northeast.latitude;
+    final double west = bounds.southwest.longitude;
+    double longitudeSpan = bounds.northeast.longitude - west;
+    if (longitudeSpan < 0) {
+      // The bounds cross the antimeridian.
+      longitudeSpan += 360;
+    }
+    final double latitudeMargin = (north - south) * margin;
+    final double longitudeMargin = longitudeSpan * margin;
+    final double expandedSouth = Math.max(-90, south - latitudeMargin);
+    final double expandedNorth = Math.min(90, north + latitudeMargin);
+    if (longitudeSpan + 2 * longitudeMargin >= 360) {
+      // Just short of the whole world, as LatLng wraps a longitude of 180 to -180.
+      return new LatLngBounds(
+          new LatLng(expandedSouth, -180), new LatLng(expandedNorth, 179.999999));
+    }
+    // LatLng wraps longitudes past the antimeridian.
+    return new LatLngBounds(
+        new LatLng(expandedSouth, west - longitudeMargin),
+        new LatLng(expandedNorth, west + longitudeSpan + longitudeMargin));
+  }
+
+  /**
+   * Sets the options of a marker to its builder and, if it is on the map, to its controller.
+   *
+   * <p>If icons are loaded asynchronously and the icon is not decoded yet, the marker is hidden
+   * until it is.
+   */
+  private void interpretMarkerOptions(
+      @NonNull Messages.PlatformMarker marker,
+      @NonNull MarkerBuilder markerBuilder,
+      @Nullable MarkerController markerController) {
+    final String markerId = marker.getMarkerId();
+    final Messages.PlatformBitmap icon = marker.getIcon();
+    if (markerIconLoader == null || !markerIconLoader.isLoadedAsynchronously(icon)) {
+      cancelIconRequest(markerId);
       Convert.interpretMarkerOptions(
-          marker, markerController, assetManager, density, bitmapDescriptorFactoryWrapper);
+          marker,
+          markerBuilder,
+          assetManager,
+          density,
+          bitmapDescriptorFactoryWrapper,
+          bitmapDescriptorCache);
+      if (markerController != null) {
+        Convert.interpretMarkerOptions(
+            marker,
+            markerController,
+            assetManager,
+            density,
+            bitmapDescriptorFactoryWrapper,
+            bitmapDescriptorCache);
+      }
+      return;
+    }
+
+    Convert.interpretMarkerOptionsExceptIcon(marker, markerBuilder);
+    if (markerController != null) {
+      Convert.interpretMarkerOptionsExceptIcon(marker, markerController);
+    }
+    final BitmapDescriptor cachedIcon = markerIconLoader.getCachedIcon(icon);
+    if (cachedIcon != null) {
+      cancelIconRequest(markerId);
+      markerBuilder.setIcon(cachedIcon);
+      if (markerController != null) {
+        markerController.setIcon(cachedIcon);
+      }
+      return;
+    }
+
+    markerBuilder.setVisible(false);
+    if (markerController != null) {
+      markerController.setVisible(false);
+    }
+    cancelIconRequest(markerId);
+    final BatchTiming batchTiming = currentBatchTiming;
+    final IconRequest iconRequest = new IconRequest(marker.getVisible(), batchTiming);
+    markerIdToIconRequest.put(markerId, iconRequest);
+    if (batchTiming != null) {
+      batchTiming.deferredIconCount++;
+      batchTiming.pendingIconCount++;
+    }
+    markerIconLoader.load(
+        markerId, icon, loadedIcon -> onIconLoaded(markerId, iconRequest, loadedIcon));
+  }
+
+  private void onIconLoaded(
+      @NonNull String markerId, @NonNull IconRequest iconRequest, @Nullable BitmapDescriptor icon) {
+    if (markerIdToIconRequest.get(markerId) != iconRequest) {
+      return;
+    }
+    markerIdToIconRequest.remove(markerId);
+    final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+    if (markerBuilder != null) {
+      if (icon == null) {
+        Log.e(TAG, "Unable to load the icon of marker " + markerId + ", using the default icon.");
+      }
+      // A null icon is drawn as the default marker, so the marker is not left hidden.
+      markerBuilder.setIcon(icon);
+      markerBuilder.setVisible(iconRequest.visible);
+      final MarkerController markerController = markerIdToController.get(markerId);
+      if (markerController != null) {
+        markerController.setIcon(icon);
+        markerController.setVisible(iconRequest.visible);
+      }
+    }
+    onIconRequestDone(iconRequest.batchTiming);
+  }
+
+  // Drops the icon the marker waits for, if any, e.g. because the marker changed or was removed.
+  private void cancelIconRequest(@NonNull String markerId) {
+    final IconRequest iconRequest = markerIdToIconRequest.remove(markerId);
+    if (iconRequest == null) {
+      return;
+    }
+    if (markerIconLoader != null) {
+      markerIconLoader.cancel(markerId);
+    }
+    onIconRequestDone(iconRequest.batchTiming);
+  }
+
+  private void onIconRequestDone(@Nullable BatchTiming batchTiming) {
+    if (batchTiming != null && --batchTiming.pendingIconCount == 0) {
+      batchTiming.iconsSetNanos = SystemClock.elapsedRealtimeNanos() - batchTiming.startNanos;
+      Log.d(TAG, "Marker icons set: " + batchTiming);
+    }
+  }
+
+  private void startBatch(int markerCount) {
+    if (markerIconLoader != null) {
+      currentBatchTiming = new BatchTiming(markerCount, SystemClock.elapsedRealtimeNanos());
+    }
+  }
+
+  private void finishBatch() {
+    final BatchTiming batchTiming = currentBatchTiming;
+    if (batchTiming == null) {
+      return;
     }
+    currentBatchTiming = null;
+    batchTiming.mainThreadNanos = SystemClock.elapsedRealtimeNanos() - batchTiming.startNanos;
+    lastBatchTiming = batchTiming;
+    Log.d(TAG, "Markers updated: " + batchTiming);
   }
 }
@@ -3202,6 +3202,39 @@ public class Messages {
       this.tileSize = setterArg;
     }
 
+    /** How long tiles are stored on disk, 0 to not store them, or null for the default. */
+    private @Nullable Long diskCacheTtlMillis;
+
+    public @Nullable Long getDiskCacheTtlMillis() {
+      return diskCacheTtlMillis;
+    }
+
+    public void setDiskCacheTtlMillis(@Nullable Long setterArg) {
+      this.diskCacheTtlMillis = setterArg;
+    }
+
+    /** The URL tiles are fetched from natively instead of from Dart, if any. */
+    private @Nullable String urlTemplate;
+
+    public @Nullable String getUrlTemplate() {
+      return urlTemplate;
+    }
+
+    public void setUrlTemplate(@Nullable String setterArg) {
+      this.urlTemplate = setterArg;
+    }
+
+    /** The HTTP headers sent with each request to [urlTemplate], if any. */
+    private @Nullable Map<String, String> urlTemplateHeaders;
+
+    public @Nullable Map<String, String> getUrlTemplateHeaders() {
+      return urlTemplateHeaders;
+    }
+
+    public void setUrlTemplateHeaders(@Nullable Map<String, String> setterArg) {
+      this.urlTemplateHeaders = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     PlatformTileOverlay() {}
 
@@ -3219,12 +3252,24 @@ public class Messages {
           && transparency.equals(that.transparency)
           && zIndex.equals(that.zIndex)
           && visible.equals(that.visible)
-          && tileSize.equals(that.tileSize);
+          && tileSize.equals(that.tileSize)
+          && Objects.equals(diskCacheTtlMillis, that.diskCacheTtlMillis)
+          && Objects.equals(urlTemplate, that.urlTemplate)
+          && Objects.equals(urlTemplateHeaders, that.urlTemplateHeaders);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(tileOverlayId, fadeIn, transparency, zIndex, visible, tileSize);
+      return Objects.hash(
+          tileOverlayId,
+          fadeIn,
+          transparency,
+          zIndex,
+          visible,
+          tileSize,
+          diskCacheTtlMillis,
+          urlTemplate,
+          urlTemplateHeaders);
     }
 
     public static final class Builder {
@@ -3277,6 +3322,30 @@ public class Messages {
         return this;
       }
 
+      private @Nullable Long diskCacheTtlMillis;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDiskCacheTtlMillis(@Nullable Long setterArg) {
+        this.diskCacheTtlMillis = setterArg;
+        return this;
+      }
+
+      private @Nullable String urlTemplate;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUrlTemplate(@Nullable String setterArg) {
+        this.urlTemplate = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> urlTemplateHeaders;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUrlTemplateHeaders(@Nullable Map<String, String> setterArg) {
+        this.urlTemplateHeaders = setterArg;
+        return this;
+      }
+
       public @NonNull PlatformTileOverlay build() {
         PlatformTileOverlay pigeonReturn = new PlatformTileOverlay();
         pigeonReturn.setTileOverlayId(tileOverlayId);
@@ -3285,19 +3354,25 @@ public class Messages {
         pigeonReturn.setZIndex(zIndex);
         pigeonReturn.setVisible(visible);
         pigeonReturn.setTileSize(tileSize);
+        pigeonReturn.setDiskCacheTtlMillis(diskCacheTtlMillis);
+        pigeonReturn.setUrlTemplate(urlTemplate);
+        pigeonReturn.setUrlTemplateHeaders(urlTemplateHeaders);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(6);
+      ArrayList<Object> toListResult = new ArrayList<>(9);
       toListResult.add(tileOverlayId);
       toListResult.add(fadeIn);
       toListResult.add(transparency);
       toListResult.add(zIndex);
       toListResult.add(visible);
       toListResult.add(tileSize);
+      toListResult.add(diskCacheTtlMillis);
+      toListResult.add(urlTemplate);
+      toListResult.add(urlTemplateHeaders);
       return toListResult;
     }
 
@@ -3315,6 +3390,12 @@ public class Messages {
       pigeonResult.setVisible((Boolean) visible);
       Object tileSize = pigeonVar_list.get(5);
       pigeonResult.setTileSize((Long) tileSize);
+      Object diskCacheTtlMillis = pigeonVar_list.get(6);
+      pigeonResult.setDiskCacheTtlMillis((Long) diskCacheTtlMillis);
+      Object urlTemplate = pigeonVar_list.get(7);
+      pigeonResult.setUrlTemplate((String) urlTemplate);
+      Object urlTemplateHeaders = pigeonVar_list.get(8);
+      pigeonResult.setUrlTemplateHeaders((Map<String, String>) urlTemplateHeaders);
       return pigeonResult;
     }
   }
@@ -4367,6 +4448,19 @@ public class Messages {
       this.initialGroundOverlays = setterArg;
     }
 
+    private @NonNull PlatformMapOptions mapOptions;
+
+    public @NonNull PlatformMapOptions getMapOptions() {
+      return mapOptions;
+    }
+
+    public void setMapOptions(@NonNull PlatformMapOptions setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"mapOptions\" is null.");
+      }
+      this.mapOptions = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     PlatformMapViewCreationParams() {}
 
@@ -4388,7 +4482,8 @@ public class Messages {
           && initialHeatmaps.equals(that.initialHeatmaps)
           && initialTileOverlays.equals(that.initialTileOverlays)
           && initialClusterManagers.equals(that.initialClusterManagers)
-          && initialGroundOverlays.equals(that.initialGroundOverlays);
+          && initialGroundOverlays.equals(that.initialGroundOverlays)
+          && mapOptions.equals(that.mapOptions);
     }
 
     @Override
@@ -4403,7 +4498,8 @@ public class Messages {
           initialHeatmaps,
           initialTileOverlays,
           initialClusterManagers,
-          initialGroundOverlays);
+          initialGroundOverlays,
+          mapOptions);
     }
 
     public static final class Builder {
@@ -4490,6 +4586,14 @@ public class Messages {
         return this;
       }
 
+      private @Nullable PlatformMapOptions mapOptions;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMapOptions(@NonNull PlatformMapOptions setterArg) {
+        this.mapOptions = setterArg;
+        return this;
+      }
+
       public @NonNull PlatformMapViewCreationParams build() {
         PlatformMapViewCreationParams pigeonReturn = new PlatformMapViewCreationParams();
         pigeonReturn.setInitialCameraPosition(initialCameraPosition);
@@ -4502,13 +4606,14 @@ public class Messages {
         pigeonReturn.setInitialTileOverlays(initialTileOverlays);
         pigeonReturn.setInitialClusterManagers(initialClusterManagers);
         pigeonReturn.setInitialGroundOverlays(initialGroundOverlays);
+        pigeonReturn.setMapOptions(mapOptions);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(10);
+      ArrayList<Object> toListResult = new ArrayList<>(11);
       toListResult.add(initialCameraPosition);
       toListResult.add(mapConfiguration);
       toListResult.add(initialCircles);
@@ -4519,6 +4624,7 @@ public class Messages {
       toListResult.add(initialTileOverlays);
       toListResult.add(initialClusterManagers);
       toListResult.add(initialGroundOverlays);
+      toListResult.add(mapOptions);
       return toListResult;
     }
 
@@ -4545,6 +4651,8 @@ public class Messages {
       pigeonResult.setInitialClusterManagers((List<PlatformClusterManager>) initialClusterManagers);
       Object initialGroundOverlays = pigeonVar_list.get(9);
       pigeonResult.setInitialGroundOverlays((List<PlatformGroundOverlay>) initialGroundOverlays);
+      Object mapOptions = pigeonVar_list.get(10);
+      pigeonResult.setMapOptions((PlatformMapOptions) mapOptions);
       return pigeonResult;
     }
   }
@@ -6202,161 +6310,1507 @@ public class Messages {
     }
   }
 
-  private static class PigeonCodec extends StandardMessageCodec {
-    public static final PigeonCodec INSTANCE = new PigeonCodec();
+  /**
+   * Options of the throttled camera move events of a map.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformCameraMoveOptions {
+    /** The maximum rate of events, unbounded if 0. */
+    private @NonNull Double maxEventsPerSecond;
 
-    private PigeonCodec() {}
+    public @NonNull Double getMaxEventsPerSecond() {
+      return maxEventsPerSecond;
+    }
+
+    public void setMaxEventsPerSecond(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxEventsPerSecond\" is null.");
+      }
+      this.maxEventsPerSecond = setterArg;
+    }
+
+    /** The minimum on-screen distance the camera target moves, in logical pixels. */
+    private @NonNull Double minTargetDeltaPixels;
+
+    public @NonNull Double getMinTargetDeltaPixels() {
+      return minTargetDeltaPixels;
+    }
+
+    public void setMinTargetDeltaPixels(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minTargetDeltaPixels\" is null.");
+      }
+      this.minTargetDeltaPixels = setterArg;
+    }
+
+    /** The minimum change of the zoom level. */
+    private @NonNull Double minZoomDelta;
+
+    public @NonNull Double getMinZoomDelta() {
+      return minZoomDelta;
+    }
+
+    public void setMinZoomDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minZoomDelta\" is null.");
+      }
+      this.minZoomDelta = setterArg;
+    }
+
+    /** The minimum change of the bearing, in degrees. */
+    private @NonNull Double minBearingDelta;
+
+    public @NonNull Double getMinBearingDelta() {
+      return minBearingDelta;
+    }
+
+    public void setMinBearingDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minBearingDelta\" is null.");
+      }
+      this.minBearingDelta = setterArg;
+    }
+
+    /** The minimum change of the tilt, in degrees. */
+    private @NonNull Double minTiltDelta;
+
+    public @NonNull Double getMinTiltDelta() {
+      return minTiltDelta;
+    }
+
+    public void setMinTiltDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minTiltDelta\" is null.");
+      }
+      this.minTiltDelta = setterArg;
+    }
+
+    /** Whether events include the visible bounds. */
+    private @NonNull Boolean includeVisibleRegion;
+
+    public @NonNull Boolean getIncludeVisibleRegion() {
+      return includeVisibleRegion;
+    }
+
+    public void setIncludeVisibleRegion(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"includeVisibleRegion\" is null.");
+      }
+      this.includeVisibleRegion = setterArg;
+    }
+
+    /** Whether events include the corners of the visible region. */
+    private @NonNull Boolean includeCorners;
+
+    public @NonNull Boolean getIncludeCorners() {
+      return includeCorners;
+    }
+
+    public void setIncludeCorners(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"includeCorners\" is null.");
+      }
+      this.includeCorners = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformCameraMoveOptions() {}
 
     @Override
-    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 129:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformMapType.values()[((Long) value).intValue()];
-          }
-        case (byte) 130:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformRendererType.values()[((Long) value).intValue()];
-          }
-        case (byte) 131:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformJointType.values()[((Long) value).intValue()];
-          }
-        case (byte) 132:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformCapType.values()[((Long) value).intValue()];
-          }
-        case (byte) 133:
-          {
-            Object value = readValue(buffer);
-            return value == null
-                ? null
-                : PlatformPatternItemType.values()[((Long) value).intValue()];
-          }
-        case (byte) 134:
-          {
-            Object value = readValue(buffer);
-            return value == null
-                ? null
-                : PlatformMapBitmapScaling.values()[((Long) value).intValue()];
-          }
-        case (byte) 135:
-          return PlatformCameraPosition.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 136:
-          return PlatformCameraUpdate.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 137:
-          return PlatformCameraUpdateNewCameraPosition.fromList(
-              (ArrayList<Object>) readValue(buffer));
-        case (byte) 138:
-          return PlatformCameraUpdateNewLatLng.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 139:
-          return PlatformCameraUpdateNewLatLngBounds.fromList(
-              (ArrayList<Object>) readValue(buffer));
-        case (byte) 140:
-          return PlatformCameraUpdateNewLatLngZoom.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 141:
-          return PlatformCameraUpdateScrollBy.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 142:
-          return PlatformCameraUpdateZoomBy.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 143:
-          return PlatformCameraUpdateZoom.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 144:
-          return PlatformCameraUpdateZoomTo.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 145:
-          return PlatformCircle.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 146:
-          return PlatformHeatmap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 147:
-          return PlatformClusterManager.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 148:
-          return PlatformDoublePair.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 149:
-          return PlatformInfoWindow.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 150:
-          return PlatformMarker.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 151:
-          return PlatformPolygon.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 152:
-          return PlatformPolyline.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 153:
-          return PlatformCap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 154:
-          return PlatformPatternItem.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 155:
-          return PlatformTile.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 156:
-          return PlatformTileOverlay.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 157:
-          return PlatformEdgeInsets.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 158:
-          return PlatformLatLng.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 159:
-          return PlatformLatLngBounds.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 160:
-          return PlatformCluster.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 161:
-          return PlatformGroundOverlay.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 162:
-          return PlatformCameraTargetBounds.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 163:
-          return PlatformMapViewCreationParams.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 164:
-          return PlatformMapConfiguration.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 165:
-          return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 166:
-          return PlatformTileLayer.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 167:
-          return PlatformZoomRange.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 168:
-          return PlatformBitmap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 169:
-          return PlatformBitmapDefaultMarker.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 170:
-          return PlatformBitmapBytes.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 171:
-          return PlatformBitmapAsset.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 172:
-          return PlatformBitmapAssetImage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 173:
-          return PlatformBitmapAssetMap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 174:
-          return PlatformBitmapBytesMap.fromList((ArrayList<Object>) readValue(buffer));
-        default:
-          return super.readValueOfType(type, buffer);
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
       }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformCameraMoveOptions that = (PlatformCameraMoveOptions) o;
+      return maxEventsPerSecond.equals(that.maxEventsPerSecond)
+          && minTargetDeltaPixels.equals(that.minTargetDeltaPixels)
+          && minZoomDelta.equals(that.minZoomDelta)
+          && minBearingDelta.equals(that.minBearingDelta)
+          && minTiltDelta.equals(that.minTiltDelta)
+          && includeVisibleRegion.equals(that.includeVisibleRegion)
+          && includeCorners.equals(that.includeCorners);
     }
 
     @Override
-    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof PlatformMapType) {
-        stream.write(129);
-        writeValue(stream, value == null ? null : ((PlatformMapType) value).index);
-      } else if (value instanceof PlatformRendererType) {
-        stream.write(130);
-        writeValue(stream, value == null ? null : ((PlatformRendererType) value).index);
-      } else if (value instanceof PlatformJointType) {
-        stream.write(131);
-        writeValue(stream, value == null ? null : ((PlatformJointType) value).index);
-      } else if (value instanceof PlatformCapType) {
-        stream.write(132);
-        writeValue(stream, value == null ? null : ((PlatformCapType) value).index);
-      } else if (value instanceof PlatformPatternItemType) {
-        stream.write(133);
-        writeValue(stream, value == null ? null : ((PlatformPatternItemType) value).index);
-      } else if (value instanceof PlatformMapBitmapScaling) {
-        stream.write(134);
-        writeValue(stream, value == null ? null : ((PlatformMapBitmapScaling) value).index);
-      } else if (value instanceof PlatformCameraPosition) {
-        stream.write(135);
-        writeValue(stream, ((PlatformCameraPosition) value).toList());
-      } else if (value instanceof PlatformCameraUpdate) {
-        stream.write(136);
-        writeValue(stream, ((PlatformCameraUpdate) value).toList());
+    public int hashCode() {
+      return Objects.hash(
+          maxEventsPerSecond,
+          minTargetDeltaPixels,
+          minZoomDelta,
+          minBearingDelta,
+          minTiltDelta,
+          includeVisibleRegion,
+          includeCorners);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Double maxEventsPerSecond;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxEventsPerSecond(@NonNull Double setterArg) {
+        this.maxEventsPerSecond = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minTargetDeltaPixels;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinTargetDeltaPixels(@NonNull Double setterArg) {
+        this.minTargetDeltaPixels = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minZoomDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinZoomDelta(@NonNull Double setterArg) {
+        this.minZoomDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minBearingDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinBearingDelta(@NonNull Double setterArg) {
+        this.minBearingDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minTiltDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinTiltDelta(@NonNull Double setterArg) {
+        this.minTiltDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean includeVisibleRegion;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIncludeVisibleRegion(@NonNull Boolean setterArg) {
+        this.includeVisibleRegion = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean includeCorners;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIncludeCorners(@NonNull Boolean setterArg) {
+        this.includeCorners = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformCameraMoveOptions build() {
+        PlatformCameraMoveOptions pigeonReturn = new PlatformCameraMoveOptions();
+        pigeonReturn.setMaxEventsPerSecond(maxEventsPerSecond);
+        pigeonReturn.setMinTargetDeltaPixels(minTargetDeltaPixels);
+        pigeonReturn.setMinZoomDelta(minZoomDelta);
+        pigeonReturn.setMinBearingDelta(minBearingDelta);
+        pigeonReturn.setMinTiltDelta(minTiltDelta);
+        pigeonReturn.setIncludeVisibleRegion(includeVisibleRegion);
+        pigeonReturn.setIncludeCorners(includeCorners);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(maxEventsPerSecond);
+      toListResult.add(minTargetDeltaPixels);
+      toListResult.add(minZoomDelta);
+      toListResult.add(minBearingDelta);
+      toListResult.add(minTiltDelta);
+      toListResult.add(includeVisibleRegion);
+      toListResult.add(includeCorners);
+      return toListResult;
+    }
+
+    static @NonNull PlatformCameraMoveOptions fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformCameraMoveOptions pigeonResult = new PlatformCameraMoveOptions();
+      Object maxEventsPerSecond = pigeonVar_list.get(0);
+      pigeonResult.setMaxEventsPerSecond((Double) maxEventsPerSecond);
+      Object minTargetDeltaPixels = pigeonVar_list.get(1);
+      pigeonResult.setMinTargetDeltaPixels((Double) minTargetDeltaPixels);
+      Object minZoomDelta = pigeonVar_list.get(2);
+      pigeonResult.setMinZoomDelta((Double) minZoomDelta);
+      Object minBearingDelta = pigeonVar_list.get(3);
+      pigeonResult.setMinBearingDelta((Double) minBearingDelta);
+      Object minTiltDelta = pigeonVar_list.get(4);
+      pigeonResult.setMinTiltDelta((Double) minTiltDelta);
+      Object includeVisibleRegion = pigeonVar_list.get(5);
+      pigeonResult.setIncludeVisibleRegion((Boolean) includeVisibleRegion);
+      Object includeCorners = pigeonVar_list.get(6);
+      pigeonResult.setIncludeCorners((Boolean) includeCorners);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Pigeon equivalent of the corners of a VisibleRegion.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformVisibleRegionCorners {
+    private @NonNull PlatformLatLng nearLeft;
+
+    public @NonNull PlatformLatLng getNearLeft() {
+      return nearLeft;
+    }
+
+    public void setNearLeft(@NonNull PlatformLatLng setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"nearLeft\" is null.");
+      }
+      this.nearLeft = setterArg;
+    }
+
+    private @NonNull PlatformLatLng nearRight;
+
+    public @NonNull PlatformLatLng getNearRight() {
+      return nearRight;
+    }
+
+    public void setNearRight(@NonNull PlatformLatLng setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"nearRight\" is null.");
+      }
+      this.nearRight = setterArg;
+    }
+
+    private @NonNull PlatformLatLng farLeft;
+
+    public @NonNull PlatformLatLng getFarLeft() {
+      return farLeft;
+    }
+
+    public void setFarLeft(@NonNull PlatformLatLng setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"farLeft\" is null.");
+      }
+      this.farLeft = setterArg;
+    }
+
+    private @NonNull PlatformLatLng farRight;
+
+    public @NonNull PlatformLatLng getFarRight() {
+      return farRight;
+    }
+
+    public void setFarRight(@NonNull PlatformLatLng setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"farRight\" is null.");
+      }
+      this.farRight = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformVisibleRegionCorners() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformVisibleRegionCorners that = (PlatformVisibleRegionCorners) o;
+      return nearLeft.equals(that.nearLeft)
+          && nearRight.equals(that.nearRight)
+          && farLeft.equals(that.farLeft)
+          && farRight.equals(that.farRight);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(nearLeft, nearRight, farLeft, farRight);
+    }
+
+    public static final class Builder {
+
+      private @Nullable PlatformLatLng nearLeft;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setNearLeft(@NonNull PlatformLatLng setterArg) {
+        this.nearLeft = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformLatLng nearRight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setNearRight(@NonNull PlatformLatLng setterArg) {
+        this.nearRight = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformLatLng farLeft;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFarLeft(@NonNull PlatformLatLng setterArg) {
+        this.farLeft = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformLatLng farRight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFarRight(@NonNull PlatformLatLng setterArg) {
+        this.farRight = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformVisibleRegionCorners build() {
+        PlatformVisibleRegionCorners pigeonReturn = new PlatformVisibleRegionCorners();
+        pigeonReturn.setNearLeft(nearLeft);
+        pigeonReturn.setNearRight(nearRight);
+        pigeonReturn.setFarLeft(farLeft);
+        pigeonReturn.setFarRight(farRight);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(nearLeft);
+      toListResult.add(nearRight);
+      toListResult.add(farLeft);
+      toListResult.add(farRight);
+      return toListResult;
+    }
+
+    static @NonNull PlatformVisibleRegionCorners fromList(
+        @NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformVisibleRegionCorners pigeonResult = new PlatformVisibleRegionCorners();
+      Object nearLeft = pigeonVar_list.get(0);
+      pigeonResult.setNearLeft((PlatformLatLng) nearLeft);
+      Object nearRight = pigeonVar_list.get(1);
+      pigeonResult.setNearRight((PlatformLatLng) nearRight);
+      Object farLeft = pigeonVar_list.get(2);
+      pigeonResult.setFarLeft((PlatformLatLng) farLeft);
+      Object farRight = pigeonVar_list.get(3);
+      pigeonResult.setFarRight((PlatformLatLng) farRight);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A throttled camera move of a map.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformCameraMoveEvent {
+    private @NonNull PlatformCameraPosition position;
+
+    public @NonNull PlatformCameraPosition getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull PlatformCameraPosition setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
+      }
+      this.position = setterArg;
+    }
+
+    /** Whether the camera stopped moving. */
+    private @NonNull Boolean isIdle;
+
+    public @NonNull Boolean getIsIdle() {
+      return isIdle;
+    }
+
+    public void setIsIdle(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isIdle\" is null.");
+      }
+      this.isIdle = setterArg;
+    }
+
+    private @Nullable PlatformLatLngBounds visibleRegion;
+
+    public @Nullable PlatformLatLngBounds getVisibleRegion() {
+      return visibleRegion;
+    }
+
+    public void setVisibleRegion(@Nullable PlatformLatLngBounds setterArg) {
+      this.visibleRegion = setterArg;
+    }
+
+    private @Nullable PlatformVisibleRegionCorners corners;
+
+    public @Nullable PlatformVisibleRegionCorners getCorners() {
+      return corners;
+    }
+
+    public void setCorners(@Nullable PlatformVisibleRegionCorners setterArg) {
+      this.corners = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformCameraMoveEvent() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformCameraMoveEvent that = (PlatformCameraMoveEvent) o;
+      return position.equals(that.position)
+          && isIdle.equals(that.isIdle)
+          && Objects.equals(visibleRegion, that.visibleRegion)
+          && Objects.equals(corners, that.corners);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(position, isIdle, visibleRegion, corners);
+    }
+
+    public static final class Builder {
+
+      private @Nullable PlatformCameraPosition position;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPosition(@NonNull PlatformCameraPosition setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isIdle;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsIdle(@NonNull Boolean setterArg) {
+        this.isIdle = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformLatLngBounds visibleRegion;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVisibleRegion(@Nullable PlatformLatLngBounds setterArg) {
+        this.visibleRegion = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformVisibleRegionCorners corners;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCorners(@Nullable PlatformVisibleRegionCorners setterArg) {
+        this.corners = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformCameraMoveEvent build() {
+        PlatformCameraMoveEvent pigeonReturn = new PlatformCameraMoveEvent();
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setIsIdle(isIdle);
+        pigeonReturn.setVisibleRegion(visibleRegion);
+        pigeonReturn.setCorners(corners);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(position);
+      toListResult.add(isIdle);
+      toListResult.add(visibleRegion);
+      toListResult.add(corners);
+      return toListResult;
+    }
+
+    static @NonNull PlatformCameraMoveEvent fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformCameraMoveEvent pigeonResult = new PlatformCameraMoveEvent();
+      Object position = pigeonVar_list.get(0);
+      pigeonResult.setPosition((PlatformCameraPosition) position);
+      Object isIdle = pigeonVar_list.get(1);
+      pigeonResult.setIsIdle((Boolean) isIdle);
+      Object visibleRegion = pigeonVar_list.get(2);
+      pigeonResult.setVisibleRegion((PlatformLatLngBounds) visibleRegion);
+      Object corners = pigeonVar_list.get(3);
+      pigeonResult.setCorners((PlatformVisibleRegionCorners) corners);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The timing of a change to the points of a heatmap.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformHeatmapPointsTiming {
+    /** The number of added, removed or new points. */
+    private @NonNull Long pointCount;
+
+    public @NonNull Long getPointCount() {
+      return pointCount;
+    }
+
+    public void setPointCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"pointCount\" is null.");
+      }
+      this.pointCount = setterArg;
+    }
+
+    private @NonNull Long parseMicros;
+
+    public @NonNull Long getParseMicros() {
+      return parseMicros;
+    }
+
+    public void setParseMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"parseMicros\" is null.");
+      }
+      this.parseMicros = setterArg;
+    }
+
+    private @NonNull Long rebuildMicros;
+
+    public @NonNull Long getRebuildMicros() {
+      return rebuildMicros;
+    }
+
+    public void setRebuildMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rebuildMicros\" is null.");
+      }
+      this.rebuildMicros = setterArg;
+    }
+
+    private @NonNull Long invalidateMicros;
+
+    public @NonNull Long getInvalidateMicros() {
+      return invalidateMicros;
+    }
+
+    public void setInvalidateMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"invalidateMicros\" is null.");
+      }
+      this.invalidateMicros = setterArg;
+    }
+
+    /** The number of cached tiles to render again, or -1 if all tiles are. */
+    private @NonNull Long invalidatedTileCount;
+
+    public @NonNull Long getInvalidatedTileCount() {
+      return invalidatedTileCount;
+    }
+
+    public void setInvalidatedTileCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"invalidatedTileCount\" is null.");
+      }
+      this.invalidatedTileCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformHeatmapPointsTiming() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformHeatmapPointsTiming that = (PlatformHeatmapPointsTiming) o;
+      return pointCount.equals(that.pointCount)
+          && parseMicros.equals(that.parseMicros)
+          && rebuildMicros.equals(that.rebuildMicros)
+          && invalidateMicros.equals(that.invalidateMicros)
+          && invalidatedTileCount.equals(that.invalidatedTileCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          pointCount,
+          parseMicros,
+          rebuildMicros,
+          invalidateMicros,
+          invalidatedTileCount);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long pointCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPointCount(@NonNull Long setterArg) {
+        this.pointCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long parseMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setParseMicros(@NonNull Long setterArg) {
+        this.parseMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rebuildMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setRebuildMicros(@NonNull Long setterArg) {
+        this.rebuildMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long invalidateMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setInvalidateMicros(@NonNull Long setterArg) {
+        this.invalidateMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long invalidatedTileCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setInvalidatedTileCount(@NonNull Long setterArg) {
+        this.invalidatedTileCount = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformHeatmapPointsTiming build() {
+        PlatformHeatmapPointsTiming pigeonReturn = new PlatformHeatmapPointsTiming();
+        pigeonReturn.setPointCount(pointCount);
+        pigeonReturn.setParseMicros(parseMicros);
+        pigeonReturn.setRebuildMicros(rebuildMicros);
+        pigeonReturn.setInvalidateMicros(invalidateMicros);
+        pigeonReturn.setInvalidatedTileCount(invalidatedTileCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(pointCount);
+      toListResult.add(parseMicros);
+      toListResult.add(rebuildMicros);
+      toListResult.add(invalidateMicros);
+      toListResult.add(invalidatedTileCount);
+      return toListResult;
+    }
+
+    static @NonNull PlatformHeatmapPointsTiming fromList(
+        @NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformHeatmapPointsTiming pigeonResult = new PlatformHeatmapPointsTiming();
+      Object pointCount = pigeonVar_list.get(0);
+      pigeonResult.setPointCount((Long) pointCount);
+      Object parseMicros = pigeonVar_list.get(1);
+      pigeonResult.setParseMicros((Long) parseMicros);
+      Object rebuildMicros = pigeonVar_list.get(2);
+      pigeonResult.setRebuildMicros((Long) rebuildMicros);
+      Object invalidateMicros = pigeonVar_list.get(3);
+      pigeonResult.setInvalidateMicros((Long) invalidateMicros);
+      Object invalidatedTileCount = pigeonVar_list.get(4);
+      pigeonResult.setInvalidatedTileCount((Long) invalidatedTileCount);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The points of a polyline, polygon or hole, either packed or encoded.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformShapePoints {
+    /** The latitude and longitude of each point. */
+    private @Nullable double[] packed;
+
+    public @Nullable double[] getPacked() {
+      return packed;
+    }
+
+    public void setPacked(@Nullable double[] setterArg) {
+      this.packed = setterArg;
+    }
+
+    /** The points in the encoded polyline algorithm format. */
+    private @Nullable String encoded;
+
+    public @Nullable String getEncoded() {
+      return encoded;
+    }
+
+    public void setEncoded(@Nullable String setterArg) {
+      this.encoded = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformShapePoints() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformShapePoints that = (PlatformShapePoints) o;
+      return Arrays.equals(packed, that.packed) && Objects.equals(encoded, that.encoded);
+    }
+
+    @Override
+    public int hashCode() {
+      int pigeonVar_result = Objects.hash(encoded);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(packed);
+      return pigeonVar_result;
+    }
+
+    public static final class Builder {
+
+      private @Nullable double[] packed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPacked(@Nullable double[] setterArg) {
+        this.packed = setterArg;
+        return this;
+      }
+
+      private @Nullable String encoded;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setEncoded(@Nullable String setterArg) {
+        this.encoded = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformShapePoints build() {
+        PlatformShapePoints pigeonReturn = new PlatformShapePoints();
+        pigeonReturn.setPacked(packed);
+        pigeonReturn.setEncoded(encoded);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(packed);
+      toListResult.add(encoded);
+      return toListResult;
+    }
+
+    static @NonNull PlatformShapePoints fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformShapePoints pigeonResult = new PlatformShapePoints();
+      Object packed = pigeonVar_list.get(0);
+      pigeonResult.setPacked((double[]) packed);
+      Object encoded = pigeonVar_list.get(1);
+      pigeonResult.setEncoded((String) encoded);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Android specific options of a map, set when it is created.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformMapOptions {
+    /** Whether marker icons are decoded on background threads. */
+    private @NonNull Boolean asyncMarkerIconDecodingEnabled;
+
+    public @NonNull Boolean getAsyncMarkerIconDecodingEnabled() {
+      return asyncMarkerIconDecodingEnabled;
+    }
+
+    public void setAsyncMarkerIconDecodingEnabled(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"asyncMarkerIconDecodingEnabled\" is null.");
+      }
+      this.asyncMarkerIconDecodingEnabled = setterArg;
+    }
+
+    /** The maximum total size of the tiles cached in memory, or 0 to not cache them. */
+    private @NonNull Long tileMemoryCacheMaxBytes;
+
+    public @NonNull Long getTileMemoryCacheMaxBytes() {
+      return tileMemoryCacheMaxBytes;
+    }
+
+    public void setTileMemoryCacheMaxBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"tileMemoryCacheMaxBytes\" is null.");
+      }
+      this.tileMemoryCacheMaxBytes = setterArg;
+    }
+
+    /** The maximum number of tile requests to Dart in flight, or 0 to not bound them. */
+    private @NonNull Long maxConcurrentTileRequests;
+
+    public @NonNull Long getMaxConcurrentTileRequests() {
+      return maxConcurrentTileRequests;
+    }
+
+    public void setMaxConcurrentTileRequests(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxConcurrentTileRequests\" is null.");
+      }
+      this.maxConcurrentTileRequests = setterArg;
+    }
+
+    /** Whether markers not in a cluster are only added to the map near the visible region. */
+    private @NonNull Boolean markerVirtualizationEnabled;
+
+    public @NonNull Boolean getMarkerVirtualizationEnabled() {
+      return markerVirtualizationEnabled;
+    }
+
+    public void setMarkerVirtualizationEnabled(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"markerVirtualizationEnabled\" is null.");
+      }
+      this.markerVirtualizationEnabled = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformMapOptions() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformMapOptions that = (PlatformMapOptions) o;
+      return asyncMarkerIconDecodingEnabled.equals(that.asyncMarkerIconDecodingEnabled)
+          && tileMemoryCacheMaxBytes.equals(that.tileMemoryCacheMaxBytes)
+          && maxConcurrentTileRequests.equals(that.maxConcurrentTileRequests)
+          && markerVirtualizationEnabled.equals(that.markerVirtualizationEnabled);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          asyncMarkerIconDecodingEnabled,
+          tileMemoryCacheMaxBytes,
+          maxConcurrentTileRequests,
+          markerVirtualizationEnabled);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Boolean asyncMarkerIconDecodingEnabled;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAsyncMarkerIconDecodingEnabled(@NonNull Boolean setterArg) {
+        this.asyncMarkerIconDecodingEnabled = setterArg;
+        return this;
+      }
+
+      private @Nullable Long tileMemoryCacheMaxBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTileMemoryCacheMaxBytes(@NonNull Long setterArg) {
+        this.tileMemoryCacheMaxBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxConcurrentTileRequests;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxConcurrentTileRequests(@NonNull Long setterArg) {
+        this.maxConcurrentTileRequests = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean markerVirtualizationEnabled;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMarkerVirtualizationEnabled(@NonNull Boolean setterArg) {
+        this.markerVirtualizationEnabled = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformMapOptions build() {
+        PlatformMapOptions pigeonReturn = new PlatformMapOptions();
+        pigeonReturn.setAsyncMarkerIconDecodingEnabled(asyncMarkerIconDecodingEnabled);
+        pigeonReturn.setTileMemoryCacheMaxBytes(tileMemoryCacheMaxBytes);
+        pigeonReturn.setMaxConcurrentTileRequests(maxConcurrentTileRequests);
+        pigeonReturn.setMarkerVirtualizationEnabled(markerVirtualizationEnabled);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(asyncMarkerIconDecodingEnabled);
+      toListResult.add(tileMemoryCacheMaxBytes);
+      toListResult.add(maxConcurrentTileRequests);
+      toListResult.add(markerVirtualizationEnabled);
+      return toListResult;
+    }
+
+    static @NonNull PlatformMapOptions fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformMapOptions pigeonResult = new PlatformMapOptions();
+      Object asyncMarkerIconDecodingEnabled = pigeonVar_list.get(0);
+      pigeonResult.setAsyncMarkerIconDecodingEnabled((Boolean) asyncMarkerIconDecodingEnabled);
+      Object tileMemoryCacheMaxBytes = pigeonVar_list.get(1);
+      pigeonResult.setTileMemoryCacheMaxBytes((Long) tileMemoryCacheMaxBytes);
+      Object maxConcurrentTileRequests = pigeonVar_list.get(2);
+      pigeonResult.setMaxConcurrentTileRequests((Long) maxConcurrentTileRequests);
+      Object markerVirtualizationEnabled = pigeonVar_list.get(3);
+      pigeonResult.setMarkerVirtualizationEnabled((Boolean) markerVirtualizationEnabled);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The timing of a batch of marker updates.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformMarkerBatchTiming {
+    /** The number of added or changed markers. */
+    private @NonNull Long markerCount;
+
+    public @NonNull Long getMarkerCount() {
+      return markerCount;
+    }
+
+    public void setMarkerCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"markerCount\" is null.");
+      }
+      this.markerCount = setterArg;
+    }
+
+    private @NonNull Long mainThreadMicros;
+
+    public @NonNull Long getMainThreadMicros() {
+      return mainThreadMicros;
+    }
+
+    public void setMainThreadMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"mainThreadMicros\" is null.");
+      }
+      this.mainThreadMicros = setterArg;
+    }
+
+    /** The number of icons decoded on background threads. */
+    private @NonNull Long deferredIconCount;
+
+    public @NonNull Long getDeferredIconCount() {
+      return deferredIconCount;
+    }
+
+    public void setDeferredIconCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"deferredIconCount\" is null.");
+      }
+      this.deferredIconCount = setterArg;
+    }
+
+    /** The time after which the decoded icons were set, or -1 if they are not yet. */
+    private @NonNull Long iconsSetMicros;
+
+    public @NonNull Long getIconsSetMicros() {
+      return iconsSetMicros;
+    }
+
+    public void setIconsSetMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"iconsSetMicros\" is null.");
+      }
+      this.iconsSetMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformMarkerBatchTiming() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformMarkerBatchTiming that = (PlatformMarkerBatchTiming) o;
+      return markerCount.equals(that.markerCount)
+          && mainThreadMicros.equals(that.mainThreadMicros)
+          && deferredIconCount.equals(that.deferredIconCount)
+          && iconsSetMicros.equals(that.iconsSetMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(markerCount, mainThreadMicros, deferredIconCount, iconsSetMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long markerCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMarkerCount(@NonNull Long setterArg) {
+        this.markerCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long mainThreadMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMainThreadMicros(@NonNull Long setterArg) {
+        this.mainThreadMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long deferredIconCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDeferredIconCount(@NonNull Long setterArg) {
+        this.deferredIconCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long iconsSetMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIconsSetMicros(@NonNull Long setterArg) {
+        this.iconsSetMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformMarkerBatchTiming build() {
+        PlatformMarkerBatchTiming pigeonReturn = new PlatformMarkerBatchTiming();
+        pigeonReturn.setMarkerCount(markerCount);
+        pigeonReturn.setMainThreadMicros(mainThreadMicros);
+        pigeonReturn.setDeferredIconCount(deferredIconCount);
+        pigeonReturn.setIconsSetMicros(iconsSetMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(4);
+      toListResult.add(markerCount);
+      toListResult.add(mainThreadMicros);
+      toListResult.add(deferredIconCount);
+      toListResult.add(iconsSetMicros);
+      return toListResult;
+    }
+
+    static @NonNull PlatformMarkerBatchTiming fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformMarkerBatchTiming pigeonResult = new PlatformMarkerBatchTiming();
+      Object markerCount = pigeonVar_list.get(0);
+      pigeonResult.setMarkerCount((Long) markerCount);
+      Object mainThreadMicros = pigeonVar_list.get(1);
+      pigeonResult.setMainThreadMicros((Long) mainThreadMicros);
+      Object deferredIconCount = pigeonVar_list.get(2);
+      pigeonResult.setDeferredIconCount((Long) deferredIconCount);
+      Object iconsSetMicros = pigeonVar_list.get(3);
+      pigeonResult.setIconsSetMicros((Long) iconsSetMicros);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * The statistics of the memory cache of the tiles of a map.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformTileCacheStats {
+    private @NonNull Long hitCount;
+
+    public @NonNull Long getHitCount() {
+      return hitCount;
+    }
+
+    public void setHitCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitCount\" is null.");
+      }
+      this.hitCount = setterArg;
+    }
+
+    private @NonNull Long missCount;
+
+    public @NonNull Long getMissCount() {
+      return missCount;
+    }
+
+    public void setMissCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"missCount\" is null.");
+      }
+      this.missCount = setterArg;
+    }
+
+    /** The number of tiles missing in memory that were read from disk. */
+    private @NonNull Long diskHitCount;
+
+    public @NonNull Long getDiskHitCount() {
+      return diskHitCount;
+    }
+
+    public void setDiskHitCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"diskHitCount\" is null.");
+      }
+      this.diskHitCount = setterArg;
+    }
+
+    /** The number of tile requests that waited for a request of the same tile. */
+    private @NonNull Long coalescedCount;
+
+    public @NonNull Long getCoalescedCount() {
+      return coalescedCount;
+    }
+
+    public void setCoalescedCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"coalescedCount\" is null.");
+      }
+      this.coalescedCount = setterArg;
+    }
+
+    private @NonNull Long evictionCount;
+
+    public @NonNull Long getEvictionCount() {
+      return evictionCount;
+    }
+
+    public void setEvictionCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"evictionCount\" is null.");
+      }
+      this.evictionCount = setterArg;
+    }
+
+    private @NonNull Long sizeBytes;
+
+    public @NonNull Long getSizeBytes() {
+      return sizeBytes;
+    }
+
+    public void setSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"sizeBytes\" is null.");
+      }
+      this.sizeBytes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformTileCacheStats() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformTileCacheStats that = (PlatformTileCacheStats) o;
+      return hitCount.equals(that.hitCount)
+          && missCount.equals(that.missCount)
+          && diskHitCount.equals(that.diskHitCount)
+          && coalescedCount.equals(that.coalescedCount)
+          && evictionCount.equals(that.evictionCount)
+          && sizeBytes.equals(that.sizeBytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          hitCount,
+          missCount,
+          diskHitCount,
+          coalescedCount,
+          evictionCount,
+          sizeBytes);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long hitCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHitCount(@NonNull Long setterArg) {
+        this.hitCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long missCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMissCount(@NonNull Long setterArg) {
+        this.missCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long diskHitCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDiskHitCount(@NonNull Long setterArg) {
+        this.diskHitCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long coalescedCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCoalescedCount(@NonNull Long setterArg) {
+        this.coalescedCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long evictionCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setEvictionCount(@NonNull Long setterArg) {
+        this.evictionCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long sizeBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSizeBytes(@NonNull Long setterArg) {
+        this.sizeBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformTileCacheStats build() {
+        PlatformTileCacheStats pigeonReturn = new PlatformTileCacheStats();
+        pigeonReturn.setHitCount(hitCount);
+        pigeonReturn.setMissCount(missCount);
+        pigeonReturn.setDiskHitCount(diskHitCount);
+        pigeonReturn.setCoalescedCount(coalescedCount);
+        pigeonReturn.setEvictionCount(evictionCount);
+        pigeonReturn.setSizeBytes(sizeBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(6);
+      toListResult.add(hitCount);
+      toListResult.add(missCount);
+      toListResult.add(diskHitCount);
+      toListResult.add(coalescedCount);
+      toListResult.add(evictionCount);
+      toListResult.add(sizeBytes);
+      return toListResult;
+    }
+
+    static @NonNull PlatformTileCacheStats fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformTileCacheStats pigeonResult = new PlatformTileCacheStats();
+      Object hitCount = pigeonVar_list.get(0);
+      pigeonResult.setHitCount((Long) hitCount);
+      Object missCount = pigeonVar_list.get(1);
+      pigeonResult.setMissCount((Long) missCount);
+      Object diskHitCount = pigeonVar_list.get(2);
+      pigeonResult.setDiskHitCount((Long) diskHitCount);
+      Object coalescedCount = pigeonVar_list.get(3);
+      pigeonResult.setCoalescedCount((Long) coalescedCount);
+      Object evictionCount = pigeonVar_list.get(4);
+      pigeonResult.setEvictionCount((Long) evictionCount);
+      Object sizeBytes = pigeonVar_list.get(5);
+      pigeonResult.setSizeBytes((Long) sizeBytes);
+      return pigeonResult;
+    }
+  }
+
+  private static class PigeonCodec extends StandardMessageCodec {
+    public static final PigeonCodec INSTANCE = new PigeonCodec();
+
+    private PigeonCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 129:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformMapType.values()[((Long) value).intValue()];
+          }
+        case (byte) 130:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformRendererType.values()[((Long) value).intValue()];
+          }
+        case (byte) 131:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformJointType.values()[((Long) value).intValue()];
+          }
+        case (byte) 132:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformCapType.values()[((Long) value).intValue()];
+          }
+        case (byte) 133:
+          {
+            Object value = readValue(buffer);
+            return value == null
+                ? null
+                : PlatformPatternItemType.values()[((Long) value).intValue()];
+          }
+        case (byte) 134:
+          {
+            Object value = readValue(buffer);
+            return value == null
+                ? null
+                : PlatformMapBitmapScaling.values()[((Long) value).intValue()];
+          }
+        case (byte) 135:
+          return PlatformCameraPosition.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return PlatformCameraUpdate.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return PlatformCameraUpdateNewCameraPosition.fromList(
+              (ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return PlatformCameraUpdateNewLatLng.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return PlatformCameraUpdateNewLatLngBounds.fromList(
+              (ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return PlatformCameraUpdateNewLatLngZoom.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return PlatformCameraUpdateScrollBy.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return PlatformCameraUpdateZoomBy.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return PlatformCameraUpdateZoom.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return PlatformCameraUpdateZoomTo.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return PlatformCircle.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return PlatformHeatmap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 147:
+          return PlatformClusterManager.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 148:
+          return PlatformDoublePair.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 149:
+          return PlatformInfoWindow.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 150:
+          return PlatformMarker.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 151:
+          return PlatformPolygon.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 152:
+          return PlatformPolyline.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 153:
+          return PlatformCap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 154:
+          return PlatformPatternItem.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 155:
+          return PlatformTile.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 156:
+          return PlatformTileOverlay.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 157:
+          return PlatformEdgeInsets.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 158:
+          return PlatformLatLng.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 159:
+          return PlatformLatLngBounds.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 160:
+          return PlatformCluster.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 161:
+          return PlatformGroundOverlay.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 162:
+          return PlatformCameraTargetBounds.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 163:
+          return PlatformMapViewCreationParams.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 164:
+          return PlatformMapConfiguration.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 165:
+          return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 166:
+          return PlatformTileLayer.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 167:
+          return PlatformZoomRange.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 168:
+          return PlatformBitmap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 169:
+          return PlatformBitmapDefaultMarker.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 170:
+          return PlatformBitmapBytes.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 171:
+          return PlatformBitmapAsset.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 172:
+          return PlatformBitmapAssetImage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 173:
+          return PlatformBitmapAssetMap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 174:
+          return PlatformBitmapBytesMap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 175:
+          return PlatformCameraMoveOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 176:
+          return PlatformVisibleRegionCorners.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 177:
+          return PlatformCameraMoveEvent.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 178:
+          return PlatformHeatmapPointsTiming.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 179:
+          return PlatformShapePoints.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 180:
+          return PlatformMapOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 181:
+          return PlatformMarkerBatchTiming.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 182:
+          return PlatformTileCacheStats.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof PlatformMapType) {
+        stream.write(129);
+        writeValue(stream, value == null ? null : ((PlatformMapType) value).index);
+      } else if (value instanceof PlatformRendererType) {
+        stream.write(130);
+        writeValue(stream, value == null ? null : ((PlatformRendererType) value).index);
+      } else if (value instanceof PlatformJointType) {
+        stream.write(131);
+        writeValue(stream, value == null ? null : ((PlatformJointType) value).index);
+      } else if (value instanceof PlatformCapType) {
+        stream.write(132);
+        writeValue(stream, value == null ? null : ((PlatformCapType) value).index);
+      } else if (value instanceof PlatformPatternItemType) {
+        stream.write(133);
+        writeValue(stream, value == null ? null : ((PlatformPatternItemType) value).index);
+      } else if (value instanceof PlatformMapBitmapScaling) {
+        stream.write(134);
+        writeValue(stream, value == null ? null : ((PlatformMapBitmapScaling) value).index);
+      } else if (value instanceof PlatformCameraPosition) {
+        stream.write(135);
+        writeValue(stream, ((PlatformCameraPosition) value).toList());
+      } else if (value instanceof PlatformCameraUpdate) {
+        stream.write(136);
+        writeValue(stream, ((PlatformCameraUpdate) value).toList());
       } else if (value instanceof PlatformCameraUpdateNewCameraPosition) {
         stream.write(137);
         writeValue(stream, ((PlatformCameraUpdateNewCameraPosition) value).toList());
@@ -6471,6 +7925,30 @@ public class Messages {
       } else if (value instanceof PlatformBitmapBytesMap) {
         stream.write(174);
         writeValue(stream, ((PlatformBitmapBytesMap) value).toList());
+      } else if (value instanceof PlatformCameraMoveOptions) {
+        stream.write(175);
+        writeValue(stream, ((PlatformCameraMoveOptions) value).toList());
+      } else if (value instanceof PlatformVisibleRegionCorners) {
+        stream.write(176);
+        writeValue(stream, ((PlatformVisibleRegionCorners) value).toList());
+      } else if (value instanceof PlatformCameraMoveEvent) {
+        stream.write(177);
+        writeValue(stream, ((PlatformCameraMoveEvent) value).toList());
+      } else if (value instanceof PlatformHeatmapPointsTiming) {
+        stream.write(178);
+        writeValue(stream, ((PlatformHeatmapPointsTiming) value).toList());
+      } else if (value instanceof PlatformShapePoints) {
+        stream.write(179);
+        writeValue(stream, ((PlatformShapePoints) value).toList());
+      } else if (value instanceof PlatformMapOptions) {
+        stream.write(180);
+        writeValue(stream, ((PlatformMapOptions) value).toList());
+      } else if (value instanceof PlatformMarkerBatchTiming) {
+        stream.write(181);
+        writeValue(stream, ((PlatformMarkerBatchTiming) value).toList());
+      } else if (value instanceof PlatformTileCacheStats) {
+        stream.write(182);
+        writeValue(stream, ((PlatformTileCacheStats) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -6604,6 +8082,60 @@ public class Messages {
     void clearTileCache(@NonNull String tileOverlayId);
     /** Takes a snapshot of the map and returns its image data. */
     void takeSnapshot(@NonNull Result<byte[]> result);
+    /**
+     * Starts sending throttled camera moves to [MapsCallbackApi.onCameraMoveEvent] with the given
+     * options, or stops sending them if [options] is null.
+     */
+    void setCameraMoveEventOptions(@Nullable PlatformCameraMoveOptions options);
+    /**
+     * Replaces the points of the heatmap with the given ID with [points], the latitude, longitude
+     * and weight of each point.
+     */
+    @NonNull
+    PlatformHeatmapPointsTiming setHeatmapPoints(
+        @NonNull String heatmapId, @NonNull double[] points);
+    /**
+     * Adds [points], packed as for [setHeatmapPoints], after the points of the heatmap with the
+     * given ID.
+     */
+    @NonNull
+    PlatformHeatmapPointsTiming addHeatmapPoints(
+        @NonNull String heatmapId, @NonNull double[] points);
+    /**
+     * Removes [count] points of the heatmap with the given ID, from the point at index [start] on.
+     */
+    @NonNull
+    PlatformHeatmapPointsTiming removeHeatmapPoints(
+        @NonNull String heatmapId, @NonNull Long start, @NonNull Long count);
+    /**
+     * Replaces the points of the polyline with the given ID, simplified for the zoom level of the
+     * camera with [simplificationTolerance] in logical pixels if it is greater than 0.
+     */
+    void setPolylinePoints(
+        @NonNull String polylineId,
+        @NonNull PlatformShapePoints points,
+        @NonNull Double simplificationTolerance);
+    /**
+     * Replaces the points and holes of the polygon with the given ID, simplified as for
+     * [setPolylinePoints].
+     */
+    void setPolygonPoints(
+        @NonNull String polygonId,
+        @NonNull PlatformShapePoints points,
+        @NonNull List<PlatformShapePoints> holes,
+        @NonNull Double simplificationTolerance);
+    /**
+     * Returns the timing of the last batch of marker updates, or null if there was none or marker
+     * icons are decoded on the main thread.
+     */
+    @Nullable
+    PlatformMarkerBatchTiming getLastMarkerBatchTiming();
+    /**
+     * Returns the statistics of the memory cache of tiles, or null if tiles are not cached in
+     * memory.
+     */
+    @Nullable
+    PlatformTileCacheStats getTileCacheStats();
 
     /** The codec used by MapsApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -7214,6 +8746,215 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setCameraMoveEventOptions"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlatformCameraMoveOptions optionsArg = (PlatformCameraMoveOptions) args.get(0);
+                try {
+                  api.setCameraMoveEventOptions(optionsArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setHeatmapPoints"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String heatmapIdArg = (String) args.get(0);
+                double[] pointsArg = (double[]) args.get(1);
+                try {
+                  PlatformHeatmapPointsTiming output =
+                      api.setHeatmapPoints(heatmapIdArg, pointsArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.addHeatmapPoints"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String heatmapIdArg = (String) args.get(0);
+                double[] pointsArg = (double[]) args.get(1);
+                try {
+                  PlatformHeatmapPointsTiming output =
+                      api.addHeatmapPoints(heatmapIdArg, pointsArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.removeHeatmapPoints"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String heatmapIdArg = (String) args.get(0);
+                Long startArg = (Long) args.get(1);
+                Long countArg = (Long) args.get(2);
+                try {
+                  PlatformHeatmapPointsTiming output =
+                      api.removeHeatmapPoints(heatmapIdArg, startArg, countArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setPolylinePoints"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String polylineIdArg = (String) args.get(0);
+                PlatformShapePoints pointsArg = (PlatformShapePoints) args.get(1);
+                Double simplificationToleranceArg = (Double) args.get(2);
+                try {
+                  api.setPolylinePoints(polylineIdArg, pointsArg, simplificationToleranceArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setPolygonPoints"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String polygonIdArg = (String) args.get(0);
+                PlatformShapePoints pointsArg = (PlatformShapePoints) args.get(1);
+                List<PlatformShapePoints> holesArg = (List<PlatformShapePoints>) args.get(2);
+                Double simplificationToleranceArg = (Double) args.get(3);
+                try {
+                  api.setPolygonPoints(
+                      polygonIdArg, pointsArg, holesArg, simplificationToleranceArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.getLastMarkerBatchTiming"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  PlatformMarkerBatchTiming output = api.getLastMarkerBatchTiming();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.getTileCacheStats"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  PlatformTileCacheStats output = api.getTileCacheStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -7641,6 +9382,33 @@ public class Messages {
             }
           });
     }
+    /**
+     * Called with the throttled camera moves requested with [MapsApi.setCameraMoveEventOptions].
+     */
+    public void onCameraMoveEvent(
+        @NonNull PlatformCameraMoveEvent eventArg, @NonNull VoidResult result) {
+      final String channelName =
+          "dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onCameraMoveEvent"
+              + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Collections.singletonList(eventArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(
+                    new FlutterError(
+                        (String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            } else {
+              result.error(createConnectionError(channelName));
+            }
+          });
+    }
   }
   /**
    * Interface for global SDK initialization.
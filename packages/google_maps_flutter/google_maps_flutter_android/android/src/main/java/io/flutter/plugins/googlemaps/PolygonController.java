@@ -4,16 +4,20 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polygon;
 import java.util.List;
 
 /** Controller of a single Polygon on the map. */
-class PolygonController implements PolygonOptionsSink {
+class PolygonController implements PolygonOptionsSink, SimplifiedShape.Target {
   private final Polygon polygon;
   private final String googleMapsPolygonId;
   private final float density;
   private boolean consumeTapEvents;
+  // The points and holes set through Messages.MapsApi#setPolygonPoints, or null.
+  private @Nullable SimplifiedShape simplifiedShape;
 
   PolygonController(Polygon polygon, boolean consumeTapEvents, float density) {
     this.polygon = polygon;
@@ -24,6 +28,23 @@ class PolygonController implements PolygonOptionsSink {
 
   void remove() {
     polygon.remove();
+    setSimplifiedShape(null);
+  }
+
+  /**
+   * Replaces the points and holes of the polygon with the given shape, which is then drawn by the
+   * shape.
+   */
+  void setSimplifiedShape(@Nullable SimplifiedShape simplifiedShape) {
+    if (this.simplifiedShape != null) {
+      this.simplifiedShape.dispose();
+    }
+    this.simplifiedShape = simplifiedShape;
+  }
+
+  @Nullable
+  SimplifiedShape getSimplifiedShape() {
+    return simplifiedShape;
   }
 
   @Override
@@ -49,6 +70,8 @@ class PolygonController implements PolygonOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
+    // Replaces points set through Messages.MapsApi#setPolygonPoints, even with an empty list.
+    setSimplifiedShape(null);
     polygon.setPoints(points);
   }
 
@@ -56,6 +79,12 @@ class PolygonController implements PolygonOptionsSink {
     polygon.setHoles(holes);
   }
 
+  @Override
+  public void drawPoints(@NonNull List<LatLng> points, @NonNull List<List<LatLng>> holes) {
+    polygon.setPoints(points);
+    polygon.setHoles(holes);
+  }
+
   @Override
   public void setVisible(boolean visible) {
     polygon.setVisible(visible);
@@ -6,9 +6,11 @@ package io.flutter.plugins.googlemaps;
 
 import androidx.annotation.NonNull;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,39 @@ class PolygonsController {
     }
   }
 
+  /**
+   * Replaces the points and holes of a polygon, drawing them simplified for the zoom level of the
+   * camera with the given tolerance in logical pixels, or with all points if it is 0.
+   *
+   * @return whether there is a polygon with the given ID.
+   */
+  boolean setPolygonPoints(
+      @NonNull String polygonId,
+      @NonNull List<LatLng> points,
+      @NonNull List<List<LatLng>> holes,
+      double tolerancePixels) {
+    final PolygonController polygonController = polygonIdToController.get(polygonId);
+    if (polygonController == null) {
+      return false;
+    }
+    final SimplifiedShape simplifiedShape =
+        new SimplifiedShape(polygonController, points, holes, tolerancePixels);
+    polygonController.setSimplifiedShape(simplifiedShape);
+    simplifiedShape.draw(SimplifiedShape.zoomLevelFor(googleMap.getCameraPosition().zoom));
+    return true;
+  }
+
+  /** Draws the polygons with simplified points for the given camera zoom. */
+  void onCameraIdle(float zoom) {
+    final int zoomLevel = SimplifiedShape.zoomLevelFor(zoom);
+    for (PolygonController polygonController : polygonIdToController.values()) {
+      final SimplifiedShape simplifiedShape = polygonController.getSimplifiedShape();
+      if (simplifiedShape != null) {
+        simplifiedShape.draw(zoomLevel);
+      }
+    }
+  }
+
   boolean onPolygonTap(String googlePolygonId) {
     String polygonId = googleMapsPolygonIdToDartPolygonId.get(googlePolygonId);
     if (polygonId == null) {
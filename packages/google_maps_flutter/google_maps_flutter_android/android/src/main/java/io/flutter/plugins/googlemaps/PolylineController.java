@@ -4,6 +4,8 @@
 
 package io.flutter.plugins.googlemaps;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.maps.model.Cap;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.PatternItem;
@@ -11,11 +13,13 @@ import com.google.android.gms.maps.model.Polyline;
 import java.util.List;
 
 /** Controller of a single Polyline on the map. */
-class PolylineController implements PolylineOptionsSink {
+class PolylineController implements PolylineOptionsSink, SimplifiedShape.Target {
   private final Polyline polyline;
   private final String googleMapsPolylineId;
   private boolean consumeTapEvents;
   private final float density;
+  // The points set through Messages.MapsApi#setPolylinePoints, or null.
+  private @Nullable SimplifiedShape simplifiedShape;
 
   PolylineController(Polyline polyline, boolean consumeTapEvents, float density) {
     this.polyline = polyline;
@@ -26,6 +30,20 @@ class PolylineController implements PolylineOptionsSink {
 
   void remove() {
     polyline.remove();
+    setSimplifiedShape(null);
+  }
+
+  /** Replaces the points of the polyline with the given shape, which is then drawn by the shape. */
+  void setSimplifiedShape(@Nullable SimplifiedShape simplifiedShape) {
+    if (this.simplifiedShape != null) {
+      this.simplifiedShape.dispose();
+    }
+    this.simplifiedShape = simplifiedShape;
+  }
+
+  @Nullable
+  SimplifiedShape getSimplifiedShape() {
+    return simplifiedShape;
   }
 
   @Override
@@ -61,6 +79,13 @@ class PolylineController implements PolylineOptionsSink {
 
   @Override
   public void setPoints(List<LatLng> points) {
+    // Replaces points set through Messages.MapsApi#setPolylinePoints, even with an empty list.
+    setSimplifiedShape(null);
+    polyline.setPoints(points);
+  }
+
+  @Override
+  public void drawPoints(@NonNull List<LatLng> points, @NonNull List<List<LatLng>> holes) {
     polyline.setPoints(points);
   }
 
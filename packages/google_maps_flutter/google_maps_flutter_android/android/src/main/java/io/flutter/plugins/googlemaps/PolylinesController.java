@@ -7,9 +7,11 @@ package io.flutter.plugins.googlemaps;
 import android.content.res.AssetManager;
 import androidx.annotation.NonNull;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +60,36 @@ class PolylinesController {
     }
   }
 
+  /**
+   * Replaces the points of a polyline, drawing them simplified for the zoom level of the camera
+   * with the given tolerance in logical pixels, or with all points if it is 0.
+   *
+   * @return whether there is a polyline with the given ID.
+   */
+  boolean setPolylinePoints(
+      @NonNull String polylineId, @NonNull List<LatLng> points, double tolerancePixels) {
+    final PolylineController polylineController = polylineIdToController.get(polylineId);
+    if (polylineController == null) {
+      return false;
+    }
+    final SimplifiedShape simplifiedShape =
+        new SimplifiedShape(polylineController, points, Collections.emptyList(), tolerancePixels);
+    polylineController.setSimplifiedShape(simplifiedShape);
+    simplifiedShape.draw(SimplifiedShape.zoomLevelFor(googleMap.getCameraPosition().zoom));
+    return true;
+  }
+
+  /** Draws the polylines with simplified points for the given camera zoom. */
+  void onCameraIdle(float zoom) {
+    final int zoomLevel = SimplifiedShape.zoomLevelFor(zoom);
+    for (PolylineController polylineController : polylineIdToController.values()) {
+      final SimplifiedShape simplifiedShape = polylineController.getSimplifiedShape();
+      if (simplifiedShape != null) {
+        simplifiedShape.draw(zoomLevel);
+      }
+    }
+  }
+
   boolean onPolylineTap(String googlePolylineId) {
     String polylineId = googleMapsPolylineIdToDartPolylineId.get(googlePolylineId);
     if (polylineId == null) {
@@ -0,0 +1,209 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.maps.android.PolyUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * The points of a polyline or polygon, drawn with copies simplified for the zoom level of the
+ * camera, so that shapes with many points are drawn with only the points that make a visible
+ * difference.
+ *
+ * <p>The copies are simplified with the Douglas-Peucker algorithm of {@link PolyUtil#simplify}, so
+ * that no point is moved by more than the tolerance in logical pixels. They are simplified on a
+ * background thread the first time a zoom level is drawn, and kept for later. Shapes with a
+ * tolerance of 0 are always drawn with all of their points. All methods must be called on the main
+ * thread.
+ */
+class SimplifiedShape {
+  // The ground resolution at the equator at zoom level 0, in meters per logical pixel.
+  private static final double EQUATOR_METERS_PER_PIXEL = 156543.03392;
+  // Shapes are drawn with all of their points at higher zoom levels.
+  static final int MAX_SIMPLIFIED_ZOOM_LEVEL = 20;
+  // Shapes with fewer points are not simplified.
+  private static final int MIN_SIMPLIFIED_POINT_COUNT = 3;
+
+  /** Draws the points of a shape. */
+  interface Target {
+    void drawPoints(@NonNull List<LatLng> points, @NonNull List<List<LatLng>> holes);
+  }
+
+  /** The points of a shape at a zoom level. */
+  private static final class Level {
+    final @NonNull List<LatLng> points;
+    final @NonNull List<List<LatLng>> holes;
+
+    Level(@NonNull List<LatLng> points, @NonNull List<List<LatLng>> holes) {
+      this.points = points;
+      this.holes = holes;
+    }
+  }
+
+  @Nullable private static Executor sharedSimplifyingExecutor;
+
+  private final @NonNull Target target;
+  private final @NonNull Level fullLevel;
+  private final double tolerancePixels;
+  // The cosine of the latitude furthest from the equator, where the ground resolution is finest,
+  // so that no part of the shape is simplified by more than the tolerance.
+  private final double latitudeScale;
+  private final Executor simplifyingExecutor;
+  private final Executor mainExecutor;
+  private final Map<Integer, Level> zoomLevelToLevel = new HashMap<>();
+  private final Set<Integer> pendingZoomLevels = new HashSet<>();
+  private int requestedZoomLevel = -1;
+  private int drawnZoomLevel = -1;
+  private boolean disposed;
+
+  SimplifiedShape(
+      @NonNull Target target,
+      @NonNull List<LatLng> points,
+      @NonNull List<List<LatLng>> holes,
+      double tolerancePixels) {
+    this(
+        target,
+        points,
+        holes,
+        tolerancePixels,
+        getSharedSimplifyingExecutor(),
+        new Handler(Looper.getMainLooper())::post);
+  }
+
+  @VisibleForTesting
+  SimplifiedShape(
+      @NonNull Target target,
+      @NonNull List<LatLng> points,
+      @NonNull List<List<LatLng>> holes,
+      double tolerancePixels,
+      @NonNull Executor simplifyingExecutor,
+      @NonNull Executor mainExecutor) {
+    this.target = target;
+    this.fullLevel = new Level(points, holes);
+    this.tolerancePixels = tolerancePixels;
+    this.simplifyingExecutor = simplifyingExecutor;
+    this.mainExecutor = mainExecutor;
+    double maxAbsLatitude = 0;
+    for (LatLng point : points) {
+      maxAbsLatitude = Math.max(maxAbsLatitude, Math.abs(point.latitude));
+    }
+    this.latitudeScale = Math.cos(Math.toRadians(maxAbsLatitude));
+  }
+
+  /** Returns the zoom level whose simplified points are drawn at the given camera zoom. */
+  static int zoomLevelFor(float zoom) {
+    // Rounded up, so that shapes are never simplified by more than the tolerance.
+    return Math.max(0, (int) Math.ceil(zoom));
+  }
+
+  /**
+   * Draws the points for the zoom level, once they are simplified if they were not simplified yet.
+   */
+  void draw(int zoomLevel) {
+    if (disposed) {
+      return;
+    }
+    requestedZoomLevel = zoomLevel;
+    final Level level = getLevel(zoomLevel);
+    if (level != null) {
+      drawLevel(zoomLevel, level);
+      return;
+    }
+    if (!pendingZoomLevels.add(zoomLevel)) {
+      return;
+    }
+    simplifyingExecutor.execute(
+        () -> {
+          final Level simplifiedLevel = simplify(zoomLevel);
+          mainExecutor.execute(() -> onSimplified(zoomLevel, simplifiedLevel));
+        });
+  }
+
+  /** Stops drawing the shape. Points that are still being simplified are not drawn. */
+  void dispose() {
+    disposed = true;
+  }
+
+  @VisibleForTesting
+  int getDrawnZoomLevel() {
+    return drawnZoomLevel;
+  }
+
+  private void onSimplified(int zoomLevel, @NonNull Level level) {
+    pendingZoomLevels.remove(zoomLevel);
+    zoomLevelToLevel.put(zoomLevel, level);
+    if (!disposed && zoomLevel == requestedZoomLevel) {
+      drawLevel(zoomLevel, level);
+    }
+  }
+
+  private void drawLevel(int zoomLevel, @NonNull Level level) {
+    if (zoomLevel == drawnZoomLevel) {
+      return;
+    }
+    // Levels with all points are the same for every zoom level.
+    if (drawnZoomLevel < 0 || level != getLevel(drawnZoomLevel)) {
+      target.drawPoints(level.points, level.holes);
+    }
+    drawnZoomLevel = zoomLevel;
+  }
+
+  @Nullable
+  private Level getLevel(int zoomLevel) {
+    if (tolerancePixels <= 0 || zoomLevel > MAX_SIMPLIFIED_ZOOM_LEVEL) {
+      return fullLevel;
+    }
+    return zoomLevelToLevel.get(zoomLevel);
+  }
+
+  // Called on a background thread.
+  @NonNull
+  private Level simplify(int zoomLevel) {
+    final double toleranceMeters =
+        tolerancePixels * EQUATOR_METERS_PER_PIXEL * latitudeScale / (1 << zoomLevel);
+    if (toleranceMeters <= 0) {
+      return fullLevel;
+    }
+    final List<List<LatLng>> holes = new ArrayList<>(fullLevel.holes.size());
+    for (List<LatLng> hole : fullLevel.holes) {
+      holes.add(simplify(hole, toleranceMeters));
+    }
+    return new Level(simplify(fullLevel.points, toleranceMeters), holes);
+  }
+
+  @NonNull
+  private static List<LatLng> simplify(@NonNull List<LatLng> points, double toleranceMeters) {
+    if (points.size() < MIN_SIMPLIFIED_POINT_COUNT) {
+      return points;
+    }
+    return PolyUtil.simplify(points, toleranceMeters);
+  }
+
+  private static synchronized Executor getSharedSimplifyingExecutor() {
+    if (sharedSimplifyingExecutor == null) {
+      sharedSimplifyingExecutor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                final Thread thread = new Thread(runnable, "ShapeSimplifying");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    return sharedSimplifyingExecutor;
+  }
+}
@@ -0,0 +1,146 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches the tiles of tile overlays in memory, so that tiles the map requests again after panning
+ * or zooming back are not fetched again.
+ *
+ * <p>The cache is shared by the tile overlays of a map and bounded by the size of the tile data it
+ * holds, evicting the least recently used tiles first. It can be used from any thread.
+ */
+class TileCache {
+  // The default share of the heap the cached tiles can use.
+  private static final int DEFAULT_HEAP_FRACTION = 32;
+  // The size counted for tiles without data, so that they are bounded too.
+  private static final int EMPTY_TILE_SIZE = 64;
+
+  private final LruCache<String, Tile> tiles;
+  private final AtomicInteger coalescedCount = new AtomicInteger();
+  private final AtomicInteger diskHitCount = new AtomicInteger();
+
+  TileCache() {
+    this(
+        (int)
+            Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_FRACTION));
+  }
+
+  /** @param maxBytes the maximum total size of the cached tile data. */
+  TileCache(int maxBytes) {
+    tiles =
+        new LruCache<String, Tile>(maxBytes) {
+          @Override
+          protected int sizeOf(@NonNull String key, @NonNull Tile tile) {
+            return tile.data == null ? EMPTY_TILE_SIZE : tile.data.length;
+          }
+        };
+  }
+
+  /** Returns the key of a tile of a tile overlay. */
+  @NonNull
+  static String keyFor(@NonNull String tileOverlayId, int x, int y, int zoom) {
+    return tileOverlayId + "/" + zoom + "/" + x + "/" + y;
+  }
+
+  /** Returns the cached tile, or null. */
+  @Nullable
+  Tile get(@NonNull String key) {
+    return tiles.get(key);
+  }
+
+  void put(@NonNull String key, @NonNull Tile tile) {
+    tiles.put(key, tile);
+  }
+
+  /** Removes a cached tile, returning whether it was cached. */
+  boolean remove(@NonNull String key) {
+    return tiles.remove(key) != null;
+  }
+
+  /** Removes the cached tiles of a tile overlay. */
+  void clear(@NonNull String tileOverlayId) {
+    final String prefix = tileOverlayId + "/";
+    for (String key : tiles.snapshot().keySet()) {
+      if (key.startsWith(prefix)) {
+        tiles.remove(key);
+      }
+    }
+  }
+
+  /** Removes all cached tiles. */
+  void clear() {
+    tiles.evictAll();
+  }
+
+  /** Records a tile request that waited for a fetch of the same tile that was in flight. */
+  void onCoalesced() {
+    coalescedCount.incrementAndGet();
+  }
+
+  /** Records a tile that was missing in memory and read from a {@link TileDiskCache}. */
+  void onDiskHit() {
+    diskHitCount.incrementAndGet();
+  }
+
+  int getHitCount() {
+    return tiles.hitCount();
+  }
+
+  int getMissCount() {
+    return tiles.missCount();
+  }
+
+  int getEvictionCount() {
+    return tiles.evictionCount();
+  }
+
+  int getCoalescedCount() {
+    return coalescedCount.get();
+  }
+
+  int getDiskHitCount() {
+    return diskHitCount.get();
+  }
+
+  /** Returns the total size of the cached tile data. */
+  int getSizeBytes() {
+    return tiles.size();
+  }
+
+  /** Returns the statistics of the cache, to be sent to Dart. */
+  @NonNull
+  Messages.PlatformTileCacheStats toPigeon() {
+    return new Messages.PlatformTileCacheStats.Builder()
+        .setHitCount((long) getHitCount())
+        .setMissCount((long) getMissCount())
+        .setDiskHitCount((long) getDiskHitCount())
+        .setCoalescedCount((long) getCoalescedCount())
+        .setEvictionCount((long) getEvictionCount())
+        .setSizeBytes((long) getSizeBytes())
+        .build();
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return "hits: "
+        + getHitCount()
+        + ", misses: "
+        + getMissCount()
+        + ", disk hits: "
+        + getDiskHitCount()
+        + ", coalesced: "
+        + getCoalescedCount()
+        + ", evictions: "
+        + getEvictionCount()
+        + ", bytes: "
+        + getSizeBytes();
+  }
+}
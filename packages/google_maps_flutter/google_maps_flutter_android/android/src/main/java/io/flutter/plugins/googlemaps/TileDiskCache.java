@@ -0,0 +1,204 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Arrays;
+
+/**
+ * Stores the tiles of a tile overlay on disk, so that they outlive the map and the app process.
+ *
+ * <p>Tiles older than the time to live of the cache are treated as missing and deleted when read.
+ * Once the stored tiles exceed the maximum size, the least recently stored ones are deleted. Tiles
+ * are written to a temporary file first, so concurrent readers never see partial tiles. It can be
+ * used from any thread, and should not be used from the main thread.
+ */
+class TileDiskCache {
+  private static final String TAG = "TileDiskCache";
+  private static final String TILE_FILE_SUFFIX = ".tile";
+  static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+  private final File directory;
+  private final long ttlMillis;
+  private final long maxBytes;
+  // The total size of the stored tiles, or -1 until it is first needed.
+  private long storedBytes = -1;
+
+  TileDiskCache(@NonNull File cacheDirectory, @NonNull String tileOverlayId, long ttlMillis) {
+    this(cacheDirectory, tileOverlayId, ttlMillis, DEFAULT_MAX_BYTES);
+  }
+
+  /**
+   * @param cacheDirectory the directory of the tile caches of all tile overlays.
+   * @param tileOverlayId the tile overlay whose tiles are cached.
+   * @param ttlMillis how long tiles are used after they are stored.
+   * @param maxBytes the maximum total size of the stored tiles of the tile overlay.
+   */
+  TileDiskCache(
+      @NonNull File cacheDirectory, @NonNull String tileOverlayId, long ttlMillis, long maxBytes) {
+    this.directory = new File(cacheDirectory, directoryNameFor(tileOverlayId));
+    this.ttlMillis = ttlMillis;
+    this.maxBytes = maxBytes;
+  }
+
+  long getTtlMillis() {
+    return ttlMillis;
+  }
+
+  /** Returns the stored tile, or null if it is missing, expired or unreadable. */
+  @Nullable
+  Tile get(int x, int y, int zoom) {
+    final File file = fileFor(x, y, zoom);
+    if (!file.exists()) {
+      return null;
+    }
+    if (System.currentTimeMillis() - file.lastModified() > ttlMillis) {
+      file.delete();
+      return null;
+    }
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      final int width = input.readInt();
+      final int height = input.readInt();
+      final int length = input.readInt();
+      byte[] data = null;
+      if (length >= 0) {
+        data = new byte[length];
+        input.readFully(data);
+      }
+      if (data == null
+          && width == TileProvider.NO_TILE.width
+          && height == TileProvider.NO_TILE.height) {
+        // Returned as is, as the map compares tiles to it.
+        return TileProvider.NO_TILE;
+      }
+      return new Tile(width, height, data);
+    } catch (IOException e) {
+      Log.w(TAG, "Can't read cached tile " + file, e);
+      file.delete();
+      return null;
+    }
+  }
+
+  /** Stores a tile, replacing any stored version of it. */
+  void put(int x, int y, int zoom, @NonNull Tile tile) {
+    if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+      Log.w(TAG, "Can't create tile cache directory " + directory);
+      return;
+    }
+    final File file = fileFor(x, y, zoom);
+    final File temporaryFile =
+        new File(directory, file.getName() + "." + Thread.currentThread().getId());
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+      output.writeInt(tile.width);
+      output.writeInt(tile.height);
+      if (tile.data == null) {
+        output.writeInt(-1);
+      } else {
+        output.writeInt(tile.data.length);
+        output.write(tile.data);
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Can't write cached tile " + file, e);
+      temporaryFile.delete();
+      return;
+    }
+    final long replacedBytes = file.length();
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      return;
+    }
+    onStored(file.length() - replacedBytes);
+  }
+
+  /** Deletes all stored tiles of the tile overlay. */
+  void clear() {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      file.delete();
+    }
+    synchronized (this) {
+      storedBytes = 0;
+    }
+  }
+
+  private synchronized void onStored(long addedBytes) {
+    if (storedBytes < 0) {
+      storedBytes = 0;
+      for (File file : listTileFiles()) {
+        storedBytes += file.length();
+      }
+    } else {
+      storedBytes += addedBytes;
+    }
+    if (storedBytes > maxBytes) {
+      trim();
+    }
+  }
+
+  // Deletes the least recently stored tiles, which expire first, until the stored tiles take three
+  // quarters of the maximum size, so that not every tile stored afterwards trims the cache again.
+  private void trim() {
+    final File[] files = listTileFiles();
+    final long[] lastModifiedTimes = new long[files.length];
+    final Integer[] order = new Integer[files.length];
+    long bytes = 0;
+    for (int i = 0; i < files.length; i++) {
+      lastModifiedTimes[i] = files[i].lastModified();
+      order[i] = i;
+      bytes += files[i].length();
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(lastModifiedTimes[a], lastModifiedTimes[b]));
+    final long targetBytes = maxBytes / 4 * 3;
+    for (int i : order) {
+      if (bytes <= targetBytes) {
+        break;
+      }
+      final long length = files[i].length();
+      if (files[i].delete()) {
+        bytes -= length;
+      }
+    }
+    storedBytes = bytes;
+  }
+
+  @NonNull
+  private File[] listTileFiles() {
+    final File[] files = directory.listFiles((dir, name) -> name.endsWith(TILE_FILE_SUFFIX));
+    return files != null ? files : new File[0];
+  }
+
+  private File fileFor(int x, int y, int zoom) {
+    return new File(directory, zoom + "_" + x + "_" + y + TILE_FILE_SUFFIX);
+  }
+
+  private static String directoryNameFor(@NonNull String tileOverlayId) {
+    try {
+      // Prefixed so that IDs like "." or ".." are not special names.
+      return "overlay_" + URLEncoder.encode(tileOverlayId, "UTF-8");
+    } catch (UnsupportedEncodingException e) {
+      // Every Java platform is required to support UTF-8.
+      throw new IllegalStateException(e);
+    }
+  }
+}
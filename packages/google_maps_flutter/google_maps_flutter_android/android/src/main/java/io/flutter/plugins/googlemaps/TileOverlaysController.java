@@ -4,25 +4,61 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.io.File;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 class TileOverlaysController {
+  private static final String TAG = "TileOverlaysController";
+
+  /** The default maximum number of tile requests to Dart in flight. */
+  static final int DEFAULT_MAX_CONCURRENT_TILE_REQUESTS = 8;
+
+  /** The default time tiles of tile overlays with a URL template are stored on disk. */
+  static final long DEFAULT_URL_TILE_DISK_CACHE_TTL_MILLIS = 24 * 60 * 60 * 1000L;
 
   private final Map<String, TileOverlayController> tileOverlayIdToController;
+  private final Map<String, TileProviderController> tileOverlayIdToTileProvider;
   private final MapsCallbackApi flutterApi;
+  private final @Nullable File tileCacheDirectory;
+  private final @Nullable TileCache tileCache;
+  private final @Nullable Semaphore tileRequestPermits;
   private GoogleMap googleMap;
 
   TileOverlaysController(MapsCallbackApi flutterApi) {
+    this(flutterApi, null, null, 0);
+  }
+
+  /**
+   * @param tileCacheDirectory the directory tiles are stored in, for tile overlays with a disk
+   *     cache.
+   * @param tileCache the memory cache of the tiles of all tile overlays, if any.
+   * @param maxConcurrentTileRequests the maximum number of tile requests to Dart in flight, or 0
+   *     to not bound them.
+   */
+  TileOverlaysController(
+      MapsCallbackApi flutterApi,
+      @Nullable File tileCacheDirectory,
+      @Nullable TileCache tileCache,
+      int maxConcurrentTileRequests) {
     this.tileOverlayIdToController = new HashMap<>();
+    this.tileOverlayIdToTileProvider = new HashMap<>();
     this.flutterApi = flutterApi;
+    this.tileCacheDirectory = tileCacheDirectory;
+    this.tileCache = tileCache;
+    this.tileRequestPermits =
+        maxConcurrentTileRequests > 0 ? new Semaphore(maxConcurrentTileRequests, true) : null;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
@@ -57,12 +93,22 @@ class TileOverlaysController {
     if (tileOverlayId == null) {
       return;
     }
+    TileProviderController tileProviderController = tileOverlayIdToTileProvider.get(tileOverlayId);
+    if (tileProviderController != null) {
+      tileProviderController.clearCache();
+    }
     TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
     if (tileOverlayController != null) {
       tileOverlayController.clearTileCache();
     }
   }
 
+  /** Returns the memory cache of tiles, if any. */
+  @Nullable
+  TileCache getTileCache() {
+    return tileCache;
+  }
+
   @Nullable
   TileOverlay getTileOverlay(String tileOverlayId) {
     if (tileOverlayId == null) {
@@ -79,8 +125,19 @@ class TileOverlaysController {
     TileOverlayBuilder tileOverlayOptionsBuilder = new TileOverlayBuilder();
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(platformTileOverlay, tileOverlayOptionsBuilder);
+    UrlTileProviderController.UrlTemplate urlTemplate = urlTemplateFor(platformTileOverlay);
+    final long diskCacheTtlMillis = diskCacheTtlMillisFor(platformTileOverlay, urlTemplate);
+    TileDiskCache tileDiskCache =
+        tileCacheDirectory != null && diskCacheTtlMillis > 0
+            ? new TileDiskCache(tileCacheDirectory, tileOverlayId, diskCacheTtlMillis)
+            : null;
     TileProviderController tileProviderController =
-        new TileProviderController(flutterApi, tileOverlayId);
+        urlTemplate != null
+            ? new UrlTileProviderController(
+                flutterApi, tileOverlayId, urlTemplate, tileCache, tileDiskCache)
+            : new TileProviderController(
+                flutterApi, tileOverlayId, tileCache, tileDiskCache, tileRequestPermits);
+    tileOverlayIdToTileProvider.put(tileOverlayId, tileProviderController);
     tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
@@ -88,6 +145,40 @@ class TileOverlaysController {
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
+  /** Returns the URL template tiles of the tile overlay are fetched from, or null. */
+  @VisibleForTesting
+  @Nullable
+  static UrlTileProviderController.UrlTemplate urlTemplateFor(
+      @NonNull Messages.PlatformTileOverlay platformTileOverlay) {
+    final String template = platformTileOverlay.getUrlTemplate();
+    if (template == null) {
+      return null;
+    }
+    final Map<String, String> headers = platformTileOverlay.getUrlTemplateHeaders();
+    return new UrlTileProviderController.UrlTemplate(
+        template,
+        headers != null ? headers : Collections.emptyMap(),
+        platformTileOverlay.getTileSize().intValue(),
+        UrlTileProviderController.UrlTemplate.DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+
+  /**
+   * Returns the time tiles of the tile overlay are stored on disk, or 0 if they are not.
+   *
+   * <p>Unless the tile overlay sets otherwise, tiles of tile overlays with a URL template are stored
+   * for {@value #DEFAULT_URL_TILE_DISK_CACHE_TTL_MILLIS} milliseconds, and other tiles are not.
+   */
+  @VisibleForTesting
+  static long diskCacheTtlMillisFor(
+      @NonNull Messages.PlatformTileOverlay platformTileOverlay,
+      @Nullable UrlTileProviderController.UrlTemplate urlTemplate) {
+    final Long ttlMillis = platformTileOverlay.getDiskCacheTtlMillis();
+    if (ttlMillis != null) {
+      return Math.max(0, ttlMillis);
+    }
+    return urlTemplate != null ? DEFAULT_URL_TILE_DISK_CACHE_TTL_MILLIS : 0;
+  }
+
   private void changeTileOverlay(@NonNull Messages.PlatformTileOverlay platformTileOverlay) {
     String tileOverlayId = platformTileOverlay.getTileOverlayId();
     TileOverlayController tileOverlayController = tileOverlayIdToController.get(tileOverlayId);
@@ -102,6 +193,12 @@ class TileOverlaysController {
       tileOverlayController.remove();
       tileOverlayIdToController.remove(tileOverlayId);
     }
+    tileOverlayIdToTileProvider.remove(tileOverlayId);
+    if (tileCache != null) {
+      // Stored tiles are kept, but the tiles in memory are not used again.
+      tileCache.clear(tileOverlayId);
+      Log.d(TAG, "Tile cache: " + tileCache);
+    }
   }
 
   @SuppressWarnings("unchecked")
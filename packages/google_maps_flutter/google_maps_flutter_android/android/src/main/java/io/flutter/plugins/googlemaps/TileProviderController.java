@@ -13,8 +13,19 @@ import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugins.googlemaps.Messages.FlutterError;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Provides the tiles of a tile overlay by requesting them from Dart.
+ *
+ * <p>Tiles are looked up in the optional memory and disk caches first. Concurrent requests for the
+ * same tile wait for a single request to Dart, and the number of requests to Dart in flight can be
+ * bounded, so that the tile threads of the map do not flood the platform channel. Tiles that could
+ * not be fetched are returned as null, so that the map requests them again later.
+ */
 class TileProviderController implements TileProvider {
 
   private static final String TAG = "TileProviderController";
@@ -22,16 +33,153 @@ class TileProviderController implements TileProvider {
   protected final String tileOverlayId;
   protected final @NonNull MapsCallbackApi flutterApi;
   protected final Handler handler = new Handler(Looper.getMainLooper());
+  private final @Nullable TileCache tileCache;
+  private final @Nullable TileDiskCache tileDiskCache;
+  private final @Nullable Semaphore requestPermits;
+  private final ConcurrentHashMap<String, InFlightTile> keyToInFlightTile =
+      new ConcurrentHashMap<>();
+  // Incremented each time the caches are cleared, so that tiles fetched meanwhile are not cached.
+  private final AtomicInteger generation = new AtomicInteger();
 
   TileProviderController(@NonNull MapsCallbackApi flutterApi, String tileOverlayId) {
+    this(flutterApi, tileOverlayId, null, null, null);
+  }
+
+  /**
+   * @param tileCache the memory cache of the tiles of the map, if any.
+   * @param tileDiskCache the disk cache of the tiles of this tile overlay, if any.
+   * @param requestPermits bounds the requests to Dart in flight, if not null. It can be shared by
+   *     the tile overlays of a map.
+   */
+  TileProviderController(
+      @NonNull MapsCallbackApi flutterApi,
+      String tileOverlayId,
+      @Nullable TileCache tileCache,
+      @Nullable TileDiskCache tileDiskCache,
+      @Nullable Semaphore requestPermits) {
     this.tileOverlayId = tileOverlayId;
     this.flutterApi = flutterApi;
+    this.tileCache = tileCache;
+    this.tileDiskCache = tileDiskCache;
+    this.requestPermits = requestPermits;
+  }
+
+  /** Removes the tiles of this tile overlay from the memory and disk caches. */
+  void clearCache() {
+    generation.incrementAndGet();
+    if (tileCache != null) {
+      tileCache.clear(tileOverlayId);
+    }
+    if (tileDiskCache != null) {
+      tileDiskCache.clear();
+    }
   }
 
   @Override
+  @Nullable
   public Tile getTile(final int x, final int y, final int zoom) {
-    Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+    final String key = TileCache.keyFor(tileOverlayId, x, y, zoom);
+    final int fetchedGeneration = generation.get();
+    if (tileCache != null) {
+      final Tile cachedTile = tileCache.get(key);
+      if (cachedTile != null) {
+        return cachedTile;
+      }
+    }
+    if (tileDiskCache != null) {
+      final Tile storedTile = tileDiskCache.get(x, y, zoom);
+      if (storedTile != null) {
+        if (tileCache != null) {
+          tileCache.onDiskHit();
+          if (fetchedGeneration == generation.get()) {
+            tileCache.put(key, storedTile);
+          }
+        }
+        return storedTile;
+      }
+    }
+
+    final InFlightTile inFlightTile = new InFlightTile();
+    final InFlightTile coalescedTile = keyToInFlightTile.putIfAbsent(key, inFlightTile);
+    if (coalescedTile != null) {
+      if (tileCache != null) {
+        tileCache.onCoalesced();
+      }
+      return coalescedTile.await(x, y, zoom);
+    }
+    Tile tile = null;
+    try {
+      tile = fetchTileWithPermit(x, y, zoom);
+      if (tile != null && fetchedGeneration == generation.get()) {
+        if (tileCache != null) {
+          tileCache.put(key, tile);
+        }
+        if (tileDiskCache != null) {
+          tileDiskCache.put(x, y, zoom, tile);
+        }
+      }
+    } finally {
+      keyToInFlightTile.remove(key, inFlightTile);
+      inFlightTile.finish(tile);
+    }
+    return tile;
+  }
+
+  /**
+   * Fetches a tile that is not cached, blocking the calling tile thread.
+   *
+   * @return the tile, or null if it could not be fetched and should be requested again later, e.g.
+   *     because the request failed or timed out.
+   */
+  @Nullable
+  protected Tile fetchTile(int x, int y, int zoom) {
+    return new Worker(x, y, zoom).getTile();
+  }
+
+  @Nullable
+  private Tile fetchTileWithPermit(int x, int y, int zoom) {
+    if (requestPermits == null) {
+      return fetchTile(x, y, zoom);
+    }
+    try {
+      requestPermits.acquire();
+    } catch (InterruptedException e) {
+      Log.e(
+          TAG,
+          String.format("requestPermits: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
+          e);
+      return null;
+    }
+    try {
+      return fetchTile(x, y, zoom);
+    } finally {
+      requestPermits.release();
+    }
+  }
+
+  /** A tile being fetched, which concurrent requests for the same tile wait for. */
+  private static final class InFlightTile {
+    private final CountDownLatch countDownLatch = new CountDownLatch(1);
+    private volatile @Nullable Tile tile;
+
+    void finish(@Nullable Tile tile) {
+      this.tile = tile;
+      countDownLatch.countDown();
+    }
+
+    @Nullable
+    Tile await(int x, int y, int zoom) {
+      try {
+        countDownLatch.await();
+      } catch (InterruptedException e) {
+        Log.e(
+            TAG,
+            String.format("InFlightTile: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
+            e);
+        return null;
+      }
+      return tile;
+    }
   }
 
   private final class Worker implements Messages.Result<Messages.PlatformTile> {
@@ -48,7 +196,7 @@ class TileProviderController implements TileProvider {
       this.zoom = zoom;
     }
 
-    @NonNull
+    @Nullable
     Tile getTile() {
       final Messages.PlatformPoint location =
           new Messages.PlatformPoint.Builder().setX((long) x).setY((long) y).build();
@@ -61,7 +209,7 @@ class TileProviderController implements TileProvider {
             TAG,
             String.format("countDownLatch: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
             e);
-        return TileProvider.NO_TILE;
+        return null;
       }
       try {
         if (result == null) {
@@ -69,10 +217,11 @@ class TileProviderController implements TileProvider {
               TAG,
               String.format(
                   "Did not receive tile data for tile: x = %d, y= %d, zoom = %d", x, y, zoom));
-          return TileProvider.NO_TILE;
+          return null;
         }
         return Convert.tileFromPigeon(result);
       } catch (Exception e) {
+        // Requesting the tile again would return the same data.
         Log.e(TAG, "Can't parse tile data", e);
         return TileProvider.NO_TILE;
       }
@@ -0,0 +1,156 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Provides the tiles of a tile overlay by fetching them from a URL template, without requesting
+ * them from Dart.
+ *
+ * <p>Tiles are fetched on the tile threads of the map, and go through the same memory and disk
+ * caches as tiles provided by Dart. Connections are kept alive and reused between requests to the
+ * same server, and the number of requests in flight is bounded per tile overlay.
+ */
+class UrlTileProviderController extends TileProviderController {
+
+  private static final String TAG = "UrlTileProviderController";
+  private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+  private static final int READ_TIMEOUT_MILLIS = 15000;
+  private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+  /** The URL template and headers of the tiles of a tile overlay. */
+  static final class UrlTemplate {
+    static final int DEFAULT_TILE_SIZE = 256;
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+    final @NonNull String template;
+    final @NonNull Map<String, String> headers;
+    final int tileSize;
+    final int maxConcurrentRequests;
+
+    /**
+     * @param template the URL of the tiles, in which {@code {x}}, {@code {y}} and {@code {z}} are
+     *     replaced with the coordinates and zoom level of each tile.
+     * @param headers the HTTP headers sent with each request.
+     * @param tileSize the width and height of the tiles in pixels.
+     * @param maxConcurrentRequests the maximum number of requests in flight.
+     */
+    UrlTemplate(
+        @NonNull String template,
+        @NonNull Map<String, String> headers,
+        int tileSize,
+        int maxConcurrentRequests) {
+      this.template = template;
+      this.headers = Collections.unmodifiableMap(new HashMap<>(headers));
+      this.tileSize = tileSize;
+      this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @NonNull
+    String urlFor(int x, int y, int zoom) {
+      return template
+          .replace("{x}", Integer.toString(x))
+          .replace("{y}", Integer.toString(y))
+          .replace("{z}", Integer.toString(zoom));
+    }
+  }
+
+  private final @NonNull UrlTemplate urlTemplate;
+
+  UrlTileProviderController(
+      @NonNull MapsCallbackApi flutterApi,
+      String tileOverlayId,
+      @NonNull UrlTemplate urlTemplate,
+      @Nullable TileCache tileCache,
+      @Nullable TileDiskCache tileDiskCache) {
+    super(
+        flutterApi,
+        tileOverlayId,
+        tileCache,
+        tileDiskCache,
+        urlTemplate.maxConcurrentRequests > 0
+            ? new Semaphore(urlTemplate.maxConcurrentRequests, true)
+            : null);
+    this.urlTemplate = urlTemplate;
+  }
+
+  @Nullable
+  @Override
+  protected Tile fetchTile(int x, int y, int zoom) {
+    final String url = urlTemplate.urlFor(x, y, zoom);
+    // Only disconnected if a response could not be read, so that connections are kept alive and
+    // reused by the next requests.
+    HttpURLConnection connection = null;
+    try {
+      connection = (HttpURLConnection) new URL(url).openConnection();
+      connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+      connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+      for (Map.Entry<String, String> header : urlTemplate.headers.entrySet()) {
+        connection.setRequestProperty(header.getKey(), header.getValue());
+      }
+      final int responseCode = connection.getResponseCode();
+      if (responseCode == HttpURLConnection.HTTP_NOT_FOUND
+          || responseCode == HttpURLConnection.HTTP_NO_CONTENT) {
+        drain(connection.getErrorStream());
+        connection = null;
+        return TileProvider.NO_TILE;
+      }
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        Log.e(TAG, "Can't get tile: responseCode = " + responseCode + ", url = " + url);
+        drain(connection.getErrorStream());
+        connection = null;
+        return null;
+      }
+      final byte[] data;
+      try (InputStream input = connection.getInputStream()) {
+        data = readFully(input);
+      }
+      connection = null;
+      return new Tile(urlTemplate.tileSize, urlTemplate.tileSize, data);
+    } catch (IOException | RuntimeException e) {
+      Log.e(TAG, "Can't get tile: url = " + url, e);
+      return null;
+    } finally {
+      if (connection != null) {
+        connection.disconnect();
+      }
+    }
+  }
+
+  private static byte[] readFully(@NonNull InputStream input) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+    final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    int count;
+    while ((count = input.read(buffer)) != -1) {
+      output.write(buffer, 0, count);
+    }
+    return output.toByteArray();
+  }
+
+  // Reads the rest of a response, so that its connection can be reused.
+  private static void drain(@Nullable InputStream input) throws IOException {
+    if (input == null) {
+      return;
+    }
+    try (InputStream stream = input) {
+      readFully(stream);
+    }
+  }
+}
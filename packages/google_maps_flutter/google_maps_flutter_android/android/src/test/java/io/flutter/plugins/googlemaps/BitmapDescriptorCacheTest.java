@@ -0,0 +1,63 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import android.graphics.Bitmap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class BitmapDescriptorCacheTest {
+  private static Messages.PlatformBitmapBytesMap.Builder bytesMapBuilder(byte[] bytes) {
+    return new Messages.PlatformBitmapBytesMap.Builder()
+        .setByteData(bytes)
+        .setImagePixelRatio(1.0)
+        .setBitmapScaling(Messages.PlatformMapBitmapScaling.AUTO);
+  }
+
+  @Test
+  public void keyForBytes_dependsOnContentAndScaling() {
+    final byte[] bytes = new byte[] {1, 2, 3};
+    final String key = BitmapDescriptorCache.keyForBytes(bytesMapBuilder(bytes).build(), 2f);
+
+    assertEquals(
+        key, BitmapDescriptorCache.keyForBytes(bytesMapBuilder(bytes.clone()).build(), 2f));
+    assertNotEquals(
+        key, BitmapDescriptorCache.keyForBytes(bytesMapBuilder(new byte[] {1, 2, 4}).build(), 2f));
+    assertNotEquals(key, BitmapDescriptorCache.keyForBytes(bytesMapBuilder(bytes).build(), 3f));
+    assertNotEquals(
+        key, BitmapDescriptorCache.keyForBytes(bytesMapBuilder(bytes).setWidth(10.0).build(), 2f));
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedBitmapsOverMaxBytes() {
+    // Each 10x10 ARGB_8888 bitmap is 400 bytes.
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(1000);
+    final BitmapDescriptor first = mock(BitmapDescriptor.class);
+    final BitmapDescriptor second = mock(BitmapDescriptor.class);
+    cache.put("first", first, Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888));
+    cache.put("second", second, Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888));
+    assertEquals(first, cache.get("first"));
+
+    cache.put(
+        "third",
+        mock(BitmapDescriptor.class),
+        Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888));
+
+    assertNull(cache.get("second"));
+    assertEquals(first, cache.get("first"));
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(800, cache.getSizeBytes());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+}
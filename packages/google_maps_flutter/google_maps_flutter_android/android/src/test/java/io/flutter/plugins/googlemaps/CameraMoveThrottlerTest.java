@@ -0,0 +1,139 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.Projection;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.VisibleRegion;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import io.flutter.plugins.googlemaps.Messages.PlatformCameraMoveEvent;
+import io.flutter.plugins.googlemaps.Messages.PlatformCameraMoveOptions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class CameraMoveThrottlerTest {
+  private final GoogleMap googleMap = mock(GoogleMap.class);
+  private final MapsCallbackApi flutterApi = mock(MapsCallbackApi.class);
+  private final List<PlatformCameraMoveEvent> events = new ArrayList<>();
+  private final CameraMoveThrottler throttler = new CameraMoveThrottler(flutterApi, 1);
+
+  @Before
+  public void setUp() {
+    doAnswer(
+            invocation -> {
+              events.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(flutterApi)
+        .onCameraMoveEvent(any(), any());
+    throttler.setGoogleMap(googleMap);
+  }
+
+  private static PlatformCameraMoveOptions.Builder options() {
+    return new PlatformCameraMoveOptions.Builder()
+        .setMaxEventsPerSecond(0.0)
+        .setMinTargetDeltaPixels(0.0)
+        .setMinZoomDelta(0.0)
+        .setMinBearingDelta(0.0)
+        .setMinTiltDelta(0.0)
+        .setIncludeVisibleRegion(false)
+        .setIncludeCorners(false);
+  }
+
+  @Test
+  public void onCameraMove_sendsAtMostMaxRateAndKeepsLatestMove() {
+    throttler.setOptions(options().setMaxEventsPerSecond(10.0).build());
+
+    moveCameraTo(1, 10);
+    throttler.onCameraMove();
+    moveCameraTo(2, 10);
+    throttler.onCameraMove();
+    moveCameraTo(3, 10);
+    throttler.onCameraMove();
+    assertEquals(1, events.size());
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(100));
+
+    assertEquals(2, events.size());
+    assertEquals(3.0, events.get(1).getPosition().getTarget().getLatitude(), 0.001);
+    assertEquals(false, events.get(1).getIsIdle());
+  }
+
+  @Test
+  public void onCameraMove_sendsNothingOnceOptionsAreCleared() {
+    throttler.setOptions(options().build());
+    throttler.setOptions(null);
+
+    moveCameraTo(1, 10);
+    throttler.onCameraMove();
+    throttler.onCameraIdle();
+
+    assertEquals(0, events.size());
+  }
+
+  @Test
+  public void onCameraMove_skipsMovesBelowMinimumDelta() {
+    throttler.setOptions(options().setMinZoomDelta(0.5).build());
+
+    moveCameraTo(0, 10);
+    throttler.onCameraMove();
+    moveCameraTo(0, 10.2f);
+    throttler.onCameraMove();
+    moveCameraTo(0, 10.6f);
+    throttler.onCameraMove();
+
+    assertEquals(2, events.size());
+    assertEquals(10.6, events.get(1).getPosition().getZoom(), 0.001);
+  }
+
+  @Test
+  public void onCameraIdle_sendsFinalPositionWithVisibleRegion() {
+    throttler.setOptions(
+        options().setMaxEventsPerSecond(1.0).setIncludeVisibleRegion(true).build());
+    final Projection projection = mock(Projection.class);
+    when(googleMap.getProjection()).thenReturn(projection);
+    final LatLng southwest = new LatLng(-1, -1);
+    final LatLng northeast = new LatLng(1, 1);
+    final LatLngBounds bounds = new LatLngBounds(southwest, northeast);
+    when(projection.getVisibleRegion())
+        .thenReturn(new VisibleRegion(southwest, northeast, southwest, northeast, bounds));
+
+    moveCameraTo(0, 10);
+    throttler.onCameraMove();
+    moveCameraTo(0.5, 10);
+    throttler.onCameraMove();
+    throttler.onCameraIdle();
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(1));
+
+    assertEquals(2, events.size());
+    assertEquals(true, events.get(1).getIsIdle());
+    assertEquals(0.5, events.get(1).getPosition().getTarget().getLatitude(), 0.001);
+    final Messages.PlatformLatLngBounds visibleRegion = events.get(1).getVisibleRegion();
+    assertEquals(1.0, visibleRegion.getNortheast().getLatitude(), 0.001);
+    assertEquals(null, events.get(1).getCorners());
+  }
+
+  private void moveCameraTo(double latitude, float zoom) {
+    when(googleMap.getCameraPosition())
+        .thenReturn(new CameraPosition(new LatLng(latitude, 0), zoom, 0, 0));
+  }
+}
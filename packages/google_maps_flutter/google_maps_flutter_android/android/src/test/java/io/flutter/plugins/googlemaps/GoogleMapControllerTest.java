@@ -26,6 +26,7 @@ import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.Tile;
 import com.google.maps.android.clustering.ClusterManager;
 import io.flutter.plugin.common.BinaryMessenger;
 import java.util.ArrayList;
@@ -71,7 +72,19 @@ public class GoogleMapControllerTest {
   // See getGoogleMapControllerWithMockedDependencies for version with dependency injections.
   public GoogleMapController getGoogleMapController() {
     GoogleMapController googleMapController =
-        new GoogleMapController(0, context, mockMessenger, activity::getLifecycle, null);
+        new GoogleMapController(
+            0,
+            context,
+            mockMessenger,
+            activity::getLifecycle,
+            null,
+            new Messages.PlatformMapOptions.Builder()
+                .setAsyncMarkerIconDecodingEnabled(false)
+                .setTileMemoryCacheMaxBytes(0L)
+                .setMaxConcurrentTileRequests(
+                    (long) TileOverlaysController.DEFAULT_MAX_CONCURRENT_TILE_REQUESTS)
+                .setMarkerVirtualizationEnabled(false)
+                .build());
     googleMapController.init();
     return googleMapController;
   }
@@ -317,4 +330,32 @@ public class GoogleMapControllerTest {
     Assert.assertEquals(cameraPosition.tilt, result.getTilt(), 1e-15);
     Assert.assertEquals(cameraPosition.bearing, result.getBearing(), 1e-15);
   }
+
+  @Test
+  public void getTileCacheStatsReturnsNullWithoutTileCache() {
+    GoogleMapController googleMapController = getGoogleMapControllerWithMockedDependencies();
+    when(mockTileOverlaysController.getTileCache()).thenReturn(null);
+
+    assertNull(googleMapController.getTileCacheStats());
+  }
+
+  @Test
+  public void getTileCacheStatsReturnsStatsOfTileCache() {
+    GoogleMapController googleMapController = getGoogleMapControllerWithMockedDependencies();
+    TileCache tileCache = new TileCache(1024);
+    tileCache.put("a", new Tile(1, 1, new byte[] {1, 2, 3}));
+    tileCache.get("a");
+    tileCache.get("b");
+    tileCache.onDiskHit();
+    when(mockTileOverlaysController.getTileCache()).thenReturn(tileCache);
+
+    Messages.PlatformTileCacheStats stats = googleMapController.getTileCacheStats();
+
+    Assert.assertEquals(1L, (long) stats.getHitCount());
+    Assert.assertEquals(1L, (long) stats.getMissCount());
+    Assert.assertEquals(1L, (long) stats.getDiskHitCount());
+    Assert.assertEquals(0L, (long) stats.getCoalescedCount());
+    Assert.assertEquals(0L, (long) stats.getEvictionCount());
+    Assert.assertEquals(3L, (long) stats.getSizeBytes());
+  }
 }
@@ -6,9 +6,11 @@ package io.flutter.plugins.googlemaps;
 
 import static io.flutter.plugins.googlemaps.Convert.HEATMAP_DATA_KEY;
 import static io.flutter.plugins.googlemaps.Convert.HEATMAP_ID_KEY;
+import static io.flutter.plugins.googlemaps.Convert.HEATMAP_MAX_INTENSITY_KEY;
 import static io.flutter.plugins.googlemaps.Convert.HEATMAP_OPACITY_KEY;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -16,8 +18,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
+import com.google.android.gms.maps.model.TileProvider;
 import com.google.maps.android.heatmaps.HeatmapTileProvider;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,6 +31,7 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.robolectric.RobolectricTestRunner;
 
@@ -99,4 +104,70 @@ public class HeatmapsControllerTest {
 
     Mockito.verify(tileOverlay, times(1)).remove();
   }
+
+  @Test
+  public void controller_AddHeatmapPointsOnlyRendersTilesAroundNewPointsAgain() {
+    final TileOverlay tileOverlay = mock(TileOverlay.class);
+    final HeatmapTileProvider heatmap = mock(HeatmapTileProvider.class);
+    final String googleHeatmapId = "abc123";
+    when(googleMap.addTileOverlay(any(TileOverlayOptions.class))).thenReturn(tileOverlay);
+    doReturn(heatmap).when(controller).buildHeatmap(any(HeatmapBuilder.class));
+    when(heatmap.getTile(anyInt(), anyInt(), anyInt())).thenReturn(new Tile(1, 1, new byte[1]));
+    controller.setTileCache(new TileCache(1024));
+
+    final Object heatmapData =
+        Collections.singletonList(Arrays.asList(Arrays.asList(10.0, -90.0), 1.0));
+    final Map<String, Object> heatmapOptions = new HashMap<>();
+    heatmapOptions.put(HEATMAP_ID_KEY, googleHeatmapId);
+    heatmapOptions.put(HEATMAP_DATA_KEY, heatmapData);
+    heatmapOptions.put(HEATMAP_MAX_INTENSITY_KEY, 5.0);
+    controller.addHeatmaps(
+        Collections.singletonList(
+            new Messages.PlatformHeatmap.Builder().setJson(heatmapOptions).build()));
+    final ArgumentCaptor<TileOverlayOptions> options =
+        ArgumentCaptor.forClass(TileOverlayOptions.class);
+    Mockito.verify(googleMap).addTileOverlay(options.capture());
+    final TileProvider tileProvider = options.getValue().getTileProvider();
+    // The western and eastern tiles of the northern hemisphere.
+    tileProvider.getTile(0, 0, 1);
+    tileProvider.getTile(1, 0, 1);
+
+    final HeatmapsController.PointsUpdateTiming timing =
+        controller.addHeatmapPoints(googleHeatmapId, new double[] {10, 90, 2});
+    tileProvider.getTile(0, 0, 1);
+    tileProvider.getTile(1, 0, 1);
+
+    assertEquals(1, timing.pointCount);
+    assertEquals(1, timing.invalidatedTileCount);
+    assertEquals(1L, (long) timing.toPigeon().getInvalidatedTileCount());
+    Mockito.verify(heatmap, times(1)).getTile(0, 0, 1);
+    Mockito.verify(heatmap, times(2)).getTile(1, 0, 1);
+    Mockito.verify(heatmap, times(1)).setWeightedData(Mockito.argThat(data -> data.size() == 2));
+    Mockito.verify(tileOverlay, times(1)).clearTileCache();
+  }
+
+  @Test
+  public void controller_RemoveAllHeatmapPointsHidesHeatmap() {
+    final TileOverlay tileOverlay = mock(TileOverlay.class);
+    final HeatmapTileProvider heatmap = mock(HeatmapTileProvider.class);
+    final String googleHeatmapId = "abc123";
+    when(googleMap.addTileOverlay(any(TileOverlayOptions.class))).thenReturn(tileOverlay);
+    doReturn(heatmap).when(controller).buildHeatmap(any(HeatmapBuilder.class));
+
+    final Object heatmapData =
+        Collections.singletonList(Arrays.asList(Arrays.asList(1.1, 2.2), 3.3));
+    final Map<String, Object> heatmapOptions = new HashMap<>();
+    heatmapOptions.put(HEATMAP_ID_KEY, googleHeatmapId);
+    heatmapOptions.put(HEATMAP_DATA_KEY, heatmapData);
+    controller.addHeatmaps(
+        Collections.singletonList(
+            new Messages.PlatformHeatmap.Builder().setJson(heatmapOptions).build()));
+
+    controller.removeHeatmapPoints(googleHeatmapId, 0, 1);
+    Mockito.verify(tileOverlay, times(1)).setVisible(false);
+
+    controller.addHeatmapPoints(googleHeatmapId, new double[] {1, 2, 3, 4, 5, 6});
+    Mockito.verify(tileOverlay, times(1)).setVisible(true);
+    Mockito.verify(heatmap, times(1)).setWeightedData(Mockito.argThat(data -> data.size() == 2));
+  }
 }
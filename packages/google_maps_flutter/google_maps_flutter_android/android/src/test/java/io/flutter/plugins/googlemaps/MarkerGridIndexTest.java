@@ -0,0 +1,66 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class MarkerGridIndexTest {
+  private static Set<String> query(MarkerGridIndex index, LatLngBounds bounds) {
+    final Set<String> result = new HashSet<>();
+    index.query(bounds, result);
+    return result;
+  }
+
+  @Test
+  public void query_returnsMarkersWithinBounds() {
+    final MarkerGridIndex index = new MarkerGridIndex(1);
+    index.put("inside", new LatLng(10.5, 20.5));
+    index.put("sameCell", new LatLng(10.9, 20.9));
+    index.put("outside", new LatLng(-10, -20));
+
+    assertEquals(
+        Collections.singleton("inside"),
+        query(index, new LatLngBounds(new LatLng(10, 20), new LatLng(10.6, 20.6))));
+  }
+
+  @Test
+  public void query_returnsMarkersAcrossAntimeridian() {
+    final MarkerGridIndex index = new MarkerGridIndex(1);
+    index.put("east", new LatLng(0, 179.5));
+    index.put("west", new LatLng(0, -179.5));
+    index.put("far", new LatLng(0, 0));
+
+    assertEquals(
+        new HashSet<>(Arrays.asList("east", "west")),
+        query(index, new LatLngBounds(new LatLng(-1, 179), new LatLng(1, -179))));
+  }
+
+  @Test
+  public void put_movesMarkerAndRemoveDropsIt() {
+    final MarkerGridIndex index = new MarkerGridIndex(1);
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1));
+    index.put("marker", new LatLng(50, 50));
+    index.put("marker", new LatLng(0, 0));
+
+    assertEquals(Collections.singleton("marker"), query(index, bounds));
+    assertEquals(1, index.size());
+
+    index.remove("marker");
+
+    assertEquals(Collections.emptySet(), query(index, bounds));
+    assertEquals(0, index.size());
+  }
+}
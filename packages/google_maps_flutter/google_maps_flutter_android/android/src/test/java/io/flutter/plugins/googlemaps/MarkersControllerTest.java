@@ -5,6 +5,8 @@
 package io.flutter.plugins.googlemaps;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -17,13 +19,17 @@ import android.content.res.AssetManager;
 import android.graphics.Bitmap;
 import androidx.test.core.app.ApplicationProvider;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.maps.android.collections.MarkerManager;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.After;
@@ -51,20 +57,23 @@ public class MarkersControllerTest {
 
   @Mock private Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper;
 
-  private static Messages.PlatformMarker.Builder defaultMarkerBuilder() {
+  private static Messages.PlatformBitmap createIcon(double imagePixelRatio) {
     Bitmap fakeBitmap = Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
     ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
     fakeBitmap.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOutputStream);
     byte[] byteArray = byteArrayOutputStream.toByteArray();
-    Messages.PlatformBitmap icon =
-        new Messages.PlatformBitmap.Builder()
-            .setBitmap(
-                new Messages.PlatformBitmapBytesMap.Builder()
-                    .setByteData(byteArray)
-                    .setImagePixelRatio(1.0)
-                    .setBitmapScaling(Messages.PlatformMapBitmapScaling.NONE)
-                    .build())
-            .build();
+    return new Messages.PlatformBitmap.Builder()
+        .setBitmap(
+            new Messages.PlatformBitmapBytesMap.Builder()
+                .setByteData(byteArray)
+                .setImagePixelRatio(imagePixelRatio)
+                .setBitmapScaling(Messages.PlatformMapBitmapScaling.NONE)
+                .build())
+        .build();
+  }
+
+  private static Messages.PlatformMarker.Builder defaultMarkerBuilder() {
+    Messages.PlatformBitmap icon = createIcon(1.0);
     Messages.PlatformDoublePair anchor =
         new Messages.PlatformDoublePair.Builder().setX(0.5).setY(0.0).build();
     Messages.PlatformInfoWindow infoWindow =
@@ -266,4 +275,237 @@ public class MarkersControllerTest {
 
     Mockito.verify(spyMarkerCollection, times(1)).remove(marker);
   }
+
+  @Test
+  public void controller_AddMarkersSharingIconDecodesIconOnce() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(1024 * 1024);
+    final MarkersController cachingController =
+        new MarkersController(
+            flutterApi,
+            clusterManagersController,
+            assetManager,
+            density,
+            bitmapDescriptorFactoryWrapper,
+            cache);
+    cachingController.setCollection(markerCollection);
+    final BitmapDescriptor bitmapDescriptor = mock(BitmapDescriptor.class);
+    when(bitmapDescriptorFactoryWrapper.fromBitmap(any())).thenReturn(bitmapDescriptor);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(mock(Marker.class));
+
+    cachingController.addMarkers(
+        Arrays.asList(
+            defaultMarkerBuilder().setMarkerId("first").build(),
+            defaultMarkerBuilder().setMarkerId("second").build(),
+            defaultMarkerBuilder().setMarkerId("third").build()));
+
+    Mockito.verify(bitmapDescriptorFactoryWrapper, times(1)).fromBitmap(any());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(2, cache.getHitCount());
+  }
+
+  @Test
+  public void controller_AddMarkersWithAsyncIconsShowsMarkersOnceIconIsLoaded() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(1024 * 1024);
+    final List<Runnable> decodingTasks = new ArrayList<>();
+    final List<Runnable> mainThreadTasks = new ArrayList<>();
+    controller.setMarkerIconLoader(
+        new MarkerIconLoader(
+            assetManager,
+            density,
+            bitmapDescriptorFactoryWrapper,
+            cache,
+            decodingTasks::add,
+            mainThreadTasks::add));
+    final BitmapDescriptor bitmapDescriptor = mock(BitmapDescriptor.class);
+    when(bitmapDescriptorFactoryWrapper.fromBitmap(any())).thenReturn(bitmapDescriptor);
+    final Marker firstMarker = mock(Marker.class);
+    final Marker secondMarker = mock(Marker.class);
+    when(firstMarker.getId()).thenReturn("m1");
+    when(secondMarker.getId()).thenReturn("m2");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(firstMarker, secondMarker);
+
+    controller.addMarkers(
+        Arrays.asList(
+            defaultMarkerBuilder().setMarkerId("first").build(),
+            defaultMarkerBuilder().setMarkerId("second").build()));
+
+    // Markers are added hidden, and the shared icon is decoded once off the main thread.
+    final ArgumentCaptor<MarkerOptions> optionsCaptor =
+        ArgumentCaptor.forClass(MarkerOptions.class);
+    Mockito.verify(googleMap, times(2)).addMarker(optionsCaptor.capture());
+    assertFalse(optionsCaptor.getAllValues().get(0).isVisible());
+    assertFalse(optionsCaptor.getAllValues().get(1).isVisible());
+    assertEquals(1, decodingTasks.size());
+    Mockito.verify(bitmapDescriptorFactoryWrapper, times(0)).fromBitmap(any());
+    final MarkersController.BatchTiming batchTiming = controller.getLastBatchTiming();
+    assertEquals(2, batchTiming.markerCount);
+    assertEquals(2, batchTiming.deferredIconCount);
+    final Messages.PlatformMarkerBatchTiming pigeonTiming = batchTiming.toPigeon();
+    assertEquals(2L, (long) pigeonTiming.getMarkerCount());
+    assertEquals(2L, (long) pigeonTiming.getDeferredIconCount());
+    assertEquals(-1L, (long) pigeonTiming.getIconsSetMicros());
+
+    decodingTasks.get(0).run();
+    assertEquals(1, mainThreadTasks.size());
+    mainThreadTasks.get(0).run();
+
+    Mockito.verify(bitmapDescriptorFactoryWrapper, times(1)).fromBitmap(any());
+    Mockito.verify(firstMarker).setIcon(bitmapDescriptor);
+    Mockito.verify(firstMarker).setVisible(true);
+    Mockito.verify(secondMarker).setIcon(bitmapDescriptor);
+    Mockito.verify(secondMarker).setVisible(true);
+    assertTrue(batchTiming.iconsSetNanos >= 0);
+
+    // The icon is now cached, so changed markers keep it without being hidden.
+    controller.changeMarkers(
+        Collections.singletonList(
+            defaultMarkerBuilder().setMarkerId("first").setAlpha(0.5).build()));
+    assertEquals(1, decodingTasks.size());
+    Mockito.verify(firstMarker, times(0)).setVisible(false);
+    Mockito.verify(firstMarker, times(2)).setIcon(bitmapDescriptor);
+  }
+
+  @Test
+  public void controller_ShowsMarkerWithDefaultIconWhenAsyncIconFailsToLoad() {
+    final List<Runnable> decodingTasks = new ArrayList<>();
+    final List<Runnable> mainThreadTasks = new ArrayList<>();
+    controller.setMarkerIconLoader(
+        new MarkerIconLoader(
+            assetManager,
+            density,
+            bitmapDescriptorFactoryWrapper,
+            new BitmapDescriptorCache(1024 * 1024),
+            decodingTasks::add,
+            mainThreadTasks::add));
+    when(bitmapDescriptorFactoryWrapper.fromBitmap(any())).thenReturn(null);
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("m1");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    controller.addMarkers(
+        Collections.singletonList(defaultMarkerBuilder().setMarkerId("first").build()));
+    decodingTasks.get(0).run();
+    mainThreadTasks.get(0).run();
+
+    Mockito.verify(marker).setIcon(null);
+    Mockito.verify(marker).setVisible(true);
+    assertTrue(controller.getLastBatchTiming().iconsSetNanos >= 0);
+  }
+
+  @Test
+  public void controller_DoesNotDecodeIconsOfMarkersRemovedBeforeTheirTurn() {
+    final List<Runnable> decodingTasks = new ArrayList<>();
+    final List<Runnable> mainThreadTasks = new ArrayList<>();
+    controller.setMarkerIconLoader(
+        new MarkerIconLoader(
+            assetManager,
+            density,
+            bitmapDescriptorFactoryWrapper,
+            new BitmapDescriptorCache(1024 * 1024),
+            decodingTasks::add,
+            mainThreadTasks::add));
+    when(bitmapDescriptorFactoryWrapper.fromBitmap(any())).thenReturn(mock(BitmapDescriptor.class));
+    when(googleMap.addMarker(any(MarkerOptions.class)))
+        .thenAnswer(invocation -> mock(Marker.class));
+    final List<Messages.PlatformMarker> markers = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      markers.add(defaultMarkerBuilder().setMarkerId("m" + i).setIcon(createIcon(i + 1)).build());
+    }
+
+    controller.addMarkers(markers);
+    final int decodesInFlight = decodingTasks.size();
+    controller.removeMarkers(Arrays.asList("m6", "m7"));
+    for (int i = 0; i < decodingTasks.size(); i++) {
+      decodingTasks.get(i).run();
+      mainThreadTasks.get(i).run();
+    }
+
+    assertTrue(decodesInFlight < markers.size());
+    assertEquals(6, decodingTasks.size());
+    assertEquals(6, mainThreadTasks.size());
+    Mockito.verify(bitmapDescriptorFactoryWrapper, times(6)).fromBitmap(any());
+  }
+
+  @Test
+  public void controller_VirtualizedMarkersAreOnlyOnMapWithinVisibleRegion() {
+    controller.setVirtualizationEnabled(true);
+    final Marker marker = mock(Marker.class);
+    when(marker.getId()).thenReturn("m1");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+
+    controller.addMarkers(Arrays.asList(markerAt("near", 0, 0), markerAt("far", 10, 10)));
+    // Nothing is added until the visible region is known.
+    Mockito.verify(googleMap, times(0)).addMarker(any(MarkerOptions.class));
+
+    controller.onCameraIdle(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)));
+    Mockito.verify(googleMap, times(1)).addMarker(any(MarkerOptions.class));
+    assertEquals(1, controller.getMaterializedMarkerCount());
+
+    // Moving within the margin keeps the markers.
+    controller.onCameraMove(new LatLngBounds(new LatLng(-1.5, -1), new LatLng(0.5, 1)));
+    Mockito.verify(marker, times(0)).setVisible(false);
+
+    controller.onCameraIdle(new LatLngBounds(new LatLng(9, 9), new LatLng(11, 11)));
+
+    // The far marker reuses the marker moved out of the region.
+    Mockito.verify(googleMap, times(1)).addMarker(any(MarkerOptions.class));
+    Mockito.verify(marker).setVisible(false);
+    Mockito.verify(marker).setPosition(new LatLng(10, 10));
+    assertEquals(1, controller.getMaterializedMarkerCount());
+    controller.onMapsMarkerTap("m1");
+    Mockito.verify(flutterApi).onMarkerTap(eq("far"), any());
+  }
+
+  @Test
+  public void controller_RemovedVirtualizedMarkersAreRemovedFromCollection() {
+    controller.setVirtualizationEnabled(true);
+    final Marker marker = mock(Marker.class);
+    final Marker otherMarker = mock(Marker.class);
+    when(marker.getId()).thenReturn("m1");
+    when(otherMarker.getId()).thenReturn("m2");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker, otherMarker);
+    controller.addMarkers(Collections.singletonList(markerAt("removed", 0, 0)));
+    controller.onCameraIdle(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)));
+
+    controller.removeMarkers(Collections.singletonList("removed"));
+
+    Mockito.verify(marker).remove();
+    assertEquals(0, markerCollection.getMarkers().size());
+    assertEquals(0, controller.getMaterializedMarkerCount());
+    // The removed marker is not reused.
+    controller.addMarkers(Collections.singletonList(markerAt("added", 0, 0)));
+    controller.onCameraIdle(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)));
+    Mockito.verify(googleMap, times(2)).addMarker(any(MarkerOptions.class));
+    Mockito.verify(marker, times(0)).setPosition(any());
+  }
+
+  @Test
+  public void controller_RemovingDraggedVirtualizedMarkerEndsDrag() {
+    controller.setVirtualizationEnabled(true);
+    final Marker marker = mock(Marker.class);
+    final Marker otherMarker = mock(Marker.class);
+    when(marker.getId()).thenReturn("m1");
+    when(otherMarker.getId()).thenReturn("m2");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker, otherMarker);
+    controller.addMarkers(Collections.singletonList(markerAt("dragged", 0, 0)));
+    controller.onCameraIdle(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)));
+    controller.onMarkerDragStart("m1", new LatLng(0, 0));
+
+    controller.removeMarkers(Collections.singletonList("dragged"));
+    controller.addMarkers(Collections.singletonList(markerAt("dragged", 0, 0)));
+    controller.onCameraIdle(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1)));
+    assertEquals(1, controller.getMaterializedMarkerCount());
+
+    // The new marker with the same ID is not kept on the map as if it was dragged.
+    controller.onCameraIdle(new LatLngBounds(new LatLng(9, 9), new LatLng(11, 11)));
+    assertEquals(0, controller.getMaterializedMarkerCount());
+  }
+
+  private static Messages.PlatformMarker markerAt(String markerId, double lat, double lng) {
+    return defaultMarkerBuilder()
+        .setMarkerId(markerId)
+        .setPosition(
+            new Messages.PlatformLatLng.Builder().setLatitude(lat).setLongitude(lng).build())
+        .build();
+  }
 }
@@ -4,11 +4,15 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 import com.google.android.gms.internal.maps.zzao;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polygon;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -26,4 +30,27 @@ public class PolygonControllerTest {
 
     Mockito.verify(polygon).setStrokeWidth(density * strokeWidth);
   }
+
+  @Test
+  public void setPoints_emptyPointsReplaceSimplifiedShape() {
+    final zzao z = mock(zzao.class);
+    final Polygon polygon = spy(new Polygon(z));
+    final PolygonController controller = new PolygonController(polygon, false, 1);
+    controller.setSimplifiedShape(
+        new SimplifiedShape(
+            controller,
+            Collections.singletonList(new LatLng(1, 2)),
+            Collections.emptyList(),
+            1,
+            runnable -> {},
+            Runnable::run));
+
+    final List<LatLng> points = Collections.emptyList();
+    controller.setPoints(points);
+    controller.setHoles(Collections.emptyList());
+
+    assertNull(controller.getSimplifiedShape());
+    Mockito.verify(polygon).setPoints(points);
+    Mockito.verify(polygon).setHoles(Collections.emptyList());
+  }
 }
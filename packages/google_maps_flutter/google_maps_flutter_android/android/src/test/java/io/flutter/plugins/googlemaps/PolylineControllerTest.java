@@ -4,11 +4,15 @@
 
 package io.flutter.plugins.googlemaps;
 
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 import com.google.android.gms.internal.maps.zzar;
+import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Polyline;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Test;
 import org.mockito.Mockito;
 
@@ -26,4 +30,25 @@ public class PolylineControllerTest {
 
     Mockito.verify(polyline).setWidth(density * strokeWidth);
   }
+
+  @Test
+  public void setPoints_emptyPointsReplaceSimplifiedShape() {
+    final zzar z = mock(zzar.class);
+    final Polyline polyline = spy(new Polyline(z));
+    final PolylineController controller = new PolylineController(polyline, false, 1);
+    controller.setSimplifiedShape(
+        new SimplifiedShape(
+            controller,
+            Collections.singletonList(new LatLng(1, 2)),
+            Collections.emptyList(),
+            1,
+            runnable -> {},
+            Runnable::run));
+
+    final List<LatLng> points = Collections.emptyList();
+    controller.setPoints(points);
+
+    assertNull(controller.getSimplifiedShape());
+    Mockito.verify(polyline).setPoints(points);
+  }
 }
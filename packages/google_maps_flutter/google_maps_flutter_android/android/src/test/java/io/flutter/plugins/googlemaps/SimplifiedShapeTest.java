@@ -0,0 +1,102 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class SimplifiedShapeTest {
+  private final List<List<LatLng>> drawnPoints = new ArrayList<>();
+  private final List<Runnable> pendingSimplifications = new ArrayList<>();
+
+  // A line along the equator, with a point every 10 meters.
+  private static List<LatLng> straightLine() {
+    final List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      points.add(new LatLng(0, i * 0.0001));
+    }
+    return points;
+  }
+
+  private SimplifiedShape createShape(List<LatLng> points, double tolerancePixels) {
+    return new SimplifiedShape(
+        (drawn, holes) -> drawnPoints.add(drawn),
+        points,
+        Collections.emptyList(),
+        tolerancePixels,
+        pendingSimplifications::add,
+        Runnable::run);
+  }
+
+  private void runPendingSimplifications() {
+    final List<Runnable> simplifications = new ArrayList<>(pendingSimplifications);
+    pendingSimplifications.clear();
+    for (Runnable simplification : simplifications) {
+      simplification.run();
+    }
+  }
+
+  @Test
+  public void draw_drawsSimplifiedPointsOnceSimplified() {
+    final List<LatLng> points = straightLine();
+    final SimplifiedShape shape = createShape(points, 1);
+
+    shape.draw(10);
+    assertEquals(0, drawnPoints.size());
+    runPendingSimplifications();
+
+    assertEquals(1, drawnPoints.size());
+    assertEquals(2, drawnPoints.get(0).size());
+    assertEquals(points.get(0), drawnPoints.get(0).get(0));
+    assertEquals(points.get(points.size() - 1), drawnPoints.get(0).get(1));
+  }
+
+  @Test
+  public void draw_reusesSimplifiedPointsOfZoomLevel() {
+    final SimplifiedShape shape = createShape(straightLine(), 1);
+
+    shape.draw(10);
+    runPendingSimplifications();
+    shape.draw(SimplifiedShape.MAX_SIMPLIFIED_ZOOM_LEVEL + 1);
+    shape.draw(10);
+
+    assertEquals(0, pendingSimplifications.size());
+    assertEquals(3, drawnPoints.size());
+    assertEquals(1000, drawnPoints.get(1).size());
+    assertEquals(10, shape.getDrawnZoomLevel());
+  }
+
+  @Test
+  public void draw_skipsPointsSimplifiedForPreviousZoomLevel() {
+    final SimplifiedShape shape = createShape(straightLine(), 1);
+
+    shape.draw(10);
+    shape.draw(SimplifiedShape.MAX_SIMPLIFIED_ZOOM_LEVEL + 1);
+    runPendingSimplifications();
+
+    assertEquals(1, drawnPoints.size());
+    assertEquals(1000, drawnPoints.get(0).size());
+  }
+
+  @Test
+  public void draw_drawsAllPointsWithoutTolerance() {
+    final SimplifiedShape shape = createShape(straightLine(), 0);
+
+    shape.draw(3);
+    shape.draw(10);
+
+    assertEquals(0, pendingSimplifications.size());
+    assertEquals(1, drawnPoints.size());
+    assertEquals(1000, drawnPoints.get(0).size());
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import org.junit.Test;
+
+public class TileOverlaysControllerTest {
+  private static final UrlTileProviderController.UrlTemplate URL_TEMPLATE =
+      new UrlTileProviderController.UrlTemplate(
+          "https://tiles.example/{z}/{x}/{y}.png",
+          Collections.emptyMap(),
+          UrlTileProviderController.UrlTemplate.DEFAULT_TILE_SIZE,
+          UrlTileProviderController.UrlTemplate.DEFAULT_MAX_CONCURRENT_REQUESTS);
+
+  private static Messages.PlatformTileOverlay tileOverlay(Long diskCacheTtlMillis) {
+    return tileOverlayBuilder().setDiskCacheTtlMillis(diskCacheTtlMillis).build();
+  }
+
+  private static Messages.PlatformTileOverlay.Builder tileOverlayBuilder() {
+    return new Messages.PlatformTileOverlay.Builder()
+        .setTileOverlayId("overlay")
+        .setFadeIn(true)
+        .setTransparency(0.0)
+        .setZIndex(0L)
+        .setVisible(true)
+        .setTileSize(256L);
+  }
+
+  @Test
+  public void diskCacheTtlMillisFor_usesTtlOfTileOverlay() {
+    assertEquals(1000L, TileOverlaysController.diskCacheTtlMillisFor(tileOverlay(1000L), null));
+    assertEquals(
+        1000L, TileOverlaysController.diskCacheTtlMillisFor(tileOverlay(1000L), URL_TEMPLATE));
+    assertEquals(0L, TileOverlaysController.diskCacheTtlMillisFor(tileOverlay(0L), URL_TEMPLATE));
+  }
+
+  @Test
+  public void diskCacheTtlMillisFor_defaultsToDayForUrlTemplates() {
+    assertEquals(0L, TileOverlaysController.diskCacheTtlMillisFor(tileOverlay(null), null));
+    assertEquals(
+        TileOverlaysController.DEFAULT_URL_TILE_DISK_CACHE_TTL_MILLIS,
+        TileOverlaysController.diskCacheTtlMillisFor(tileOverlay(null), URL_TEMPLATE));
+  }
+
+  @Test
+  public void urlTemplateFor_returnsNullWithoutUrlTemplate() {
+    assertNull(TileOverlaysController.urlTemplateFor(tileOverlay(null)));
+  }
+
+  @Test
+  public void urlTemplateFor_usesUrlTemplateOfTileOverlay() {
+    UrlTileProviderController.UrlTemplate urlTemplate =
+        TileOverlaysController.urlTemplateFor(
+            tileOverlayBuilder()
+                .setTileSize(512L)
+                .setUrlTemplate("https://tiles.example/{z}/{x}/{y}.png")
+                .setUrlTemplateHeaders(Collections.singletonMap("X-Api-Key", "key"))
+                .build());
+
+    assertEquals("https://tiles.example/3/1/2.png", urlTemplate.urlFor(1, 2, 3));
+    assertEquals(Collections.singletonMap("X-Api-Key", "key"), urlTemplate.headers);
+    assertEquals(512, urlTemplate.tileSize);
+  }
+
+  @Test
+  public void urlTemplateFor_defaultsToNoHeaders() {
+    UrlTileProviderController.UrlTemplate urlTemplate =
+        TileOverlaysController.urlTemplateFor(
+            tileOverlayBuilder().setUrlTemplate("https://tiles.example/{z}/{x}/{y}.png").build());
+
+    assertEquals(Collections.emptyMap(), urlTemplate.headers);
+  }
+}
@@ -0,0 +1,167 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.android.gms.maps.model.Tile;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class TileProviderControllerTest {
+  private static final long TTL_MILLIS = 60 * 1000;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final MapsCallbackApi flutterApi = mock(MapsCallbackApi.class);
+
+  @Test
+  public void getTile_returnsTileCachedInMemoryWithoutRequestingIt() {
+    final TileCache tileCache = new TileCache(1024);
+    final Tile tile = new Tile(256, 256, new byte[] {1, 2, 3});
+    tileCache.put(TileCache.keyFor("overlay", 1, 2, 3), tile);
+    final TileProviderController controller =
+        new TileProviderController(flutterApi, "overlay", tileCache, null, null);
+
+    assertSame(tile, controller.getTile(1, 2, 3));
+
+    verify(flutterApi, never()).getTileOverlayTile(anyString(), any(), anyLong(), any());
+    assertEquals(1, tileCache.getHitCount());
+  }
+
+  @Test
+  public void getTile_returnsTileStoredOnDiskAndCachesItInMemory() throws IOException {
+    final TileCache tileCache = new TileCache(1024);
+    final TileDiskCache tileDiskCache =
+        new TileDiskCache(temporaryFolder.newFolder(), "overlay", TTL_MILLIS);
+    tileDiskCache.put(1, 2, 3, new Tile(256, 256, new byte[] {1, 2, 3}));
+    final TileProviderController controller =
+        new TileProviderController(flutterApi, "overlay", tileCache, tileDiskCache, null);
+
+    final Tile tile = controller.getTile(1, 2, 3);
+
+    verify(flutterApi, never()).getTileOverlayTile(anyString(), any(), anyLong(), any());
+    assertArrayEquals(new byte[] {1, 2, 3}, tile.data);
+    assertEquals(1, tileCache.getDiskHitCount());
+    assertSame(tile, tileCache.get(TileCache.keyFor("overlay", 1, 2, 3)));
+  }
+
+  @Test
+  public void clearCache_removesTilesOfTileOverlayOnly() throws IOException {
+    final TileCache tileCache = new TileCache(1024);
+    final TileDiskCache tileDiskCache =
+        new TileDiskCache(temporaryFolder.newFolder(), "overlay", TTL_MILLIS);
+    tileDiskCache.put(1, 2, 3, new Tile(256, 256, new byte[] {1}));
+    tileCache.put(TileCache.keyFor("overlay", 1, 2, 3), new Tile(256, 256, new byte[] {1}));
+    tileCache.put(TileCache.keyFor("other", 1, 2, 3), new Tile(256, 256, new byte[] {2}));
+    final TileProviderController controller =
+        new TileProviderController(flutterApi, "overlay", tileCache, tileDiskCache, null);
+
+    controller.clearCache();
+
+    assertNull(tileCache.get(TileCache.keyFor("overlay", 1, 2, 3)));
+    assertNotNull(tileCache.get(TileCache.keyFor("other", 1, 2, 3)));
+    assertNull(tileDiskCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void getTile_doesNotCacheTileFetchedWhileCacheIsCleared() throws IOException {
+    final TileCache tileCache = new TileCache(1024);
+    final TileDiskCache tileDiskCache =
+        new TileDiskCache(temporaryFolder.newFolder(), "overlay", TTL_MILLIS);
+    final Tile fetchedTile = new Tile(256, 256, new byte[] {1, 2, 3});
+    final TileProviderController controller =
+        new TileProviderController(flutterApi, "overlay", tileCache, tileDiskCache, null) {
+          @Override
+          protected Tile fetchTile(int x, int y, int zoom) {
+            clearCache();
+            return fetchedTile;
+          }
+        };
+
+    assertSame(fetchedTile, controller.getTile(1, 2, 3));
+
+    assertNull(tileCache.get(TileCache.keyFor("overlay", 1, 2, 3)));
+    assertNull(tileDiskCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void getTile_returnsNullForTileThatCouldNotBeFetched() {
+    final TileCache tileCache = new TileCache(1024);
+    final TileProviderController controller =
+        new TileProviderController(flutterApi, "overlay", tileCache, null, null) {
+          @Override
+          protected Tile fetchTile(int x, int y, int zoom) {
+            return null;
+          }
+        };
+
+    assertNull(controller.getTile(1, 2, 3));
+    assertEquals(0, tileCache.getSizeBytes());
+  }
+
+  @Test
+  public void tileDiskCache_dropsExpiredTiles() throws IOException {
+    final File directory = temporaryFolder.newFolder();
+    final TileDiskCache tileDiskCache = new TileDiskCache(directory, "overlay", TTL_MILLIS);
+    tileDiskCache.put(1, 2, 3, new Tile(256, 256, null));
+    assertNotNull(tileDiskCache.get(1, 2, 3));
+
+    final File[] files = new File(directory, "overlay_overlay").listFiles();
+    assertNotNull(files);
+    assertEquals(1, files.length);
+    files[0].setLastModified(System.currentTimeMillis() - TTL_MILLIS - 1000);
+
+    assertNull(tileDiskCache.get(1, 2, 3));
+  }
+
+  @Test
+  public void tileDiskCache_deletesLeastRecentlyStoredTilesOverMaxBytes() throws IOException {
+    final File directory = temporaryFolder.newFolder();
+    // Each stored tile takes 100 bytes, including its 12 byte header.
+    final TileDiskCache tileDiskCache = new TileDiskCache(directory, "overlay", TTL_MILLIS, 250);
+    final File overlayDirectory = new File(directory, "overlay_overlay");
+    final long now = System.currentTimeMillis();
+    tileDiskCache.put(0, 0, 1, new Tile(256, 256, new byte[88]));
+    new File(overlayDirectory, "1_0_0.tile").setLastModified(now - 2000);
+    tileDiskCache.put(1, 0, 1, new Tile(256, 256, new byte[88]));
+    new File(overlayDirectory, "1_1_0.tile").setLastModified(now - 1000);
+    assertNotNull(tileDiskCache.get(0, 0, 1));
+
+    tileDiskCache.put(0, 1, 1, new Tile(256, 256, new byte[88]));
+
+    assertNull(tileDiskCache.get(0, 0, 1));
+    assertNull(tileDiskCache.get(1, 0, 1));
+    assertNotNull(tileDiskCache.get(0, 1, 1));
+  }
+
+  @Test
+  public void tileCache_evictsLeastRecentlyUsedTilesOverMaxBytes() {
+    final TileCache tileCache = new TileCache(10);
+    tileCache.put("first", new Tile(1, 1, new byte[6]));
+    tileCache.put("second", new Tile(1, 1, new byte[6]));
+
+    assertNull(tileCache.get("first"));
+    assertNotNull(tileCache.get("second"));
+    assertEquals(1, tileCache.getEvictionCount());
+  }
+}
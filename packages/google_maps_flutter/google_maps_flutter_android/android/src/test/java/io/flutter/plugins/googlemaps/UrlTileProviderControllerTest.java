@@ -0,0 +1,137 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import com.sun.net.httpserver.HttpServer;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class UrlTileProviderControllerTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final List<String> requestedPaths = new CopyOnWriteArrayList<>();
+  private final List<String> receivedApiKeys = new CopyOnWriteArrayList<>();
+  private HttpServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    // A local stand-in for a tile server, which serves the path of each tile as its data.
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          final String path = exchange.getRequestURI().getPath();
+          requestedPaths.add(path);
+          receivedApiKeys.add(String.valueOf(exchange.getRequestHeaders().getFirst("X-Api-Key")));
+          final byte[] body = path.getBytes(StandardCharsets.UTF_8);
+          if (path.startsWith("/missing/")) {
+            exchange.sendResponseHeaders(404, -1);
+          } else if (path.startsWith("/error/")) {
+            exchange.sendResponseHeaders(500, -1);
+          } else {
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+              output.write(body);
+            }
+          }
+          exchange.close();
+        });
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void getTile_fetchesTileFromUrlTemplateWithHeaders() {
+    final UrlTileProviderController controller = createController("/tiles/{z}/{x}/{y}.png", null);
+
+    final Tile tile = controller.getTile(1, 2, 3);
+
+    assertArrayEquals("/tiles/3/1/2.png".getBytes(StandardCharsets.UTF_8), tile.data);
+    assertEquals(UrlTileProviderController.UrlTemplate.DEFAULT_TILE_SIZE, tile.width);
+    assertEquals(Collections.singletonList("key"), receivedApiKeys);
+  }
+
+  @Test
+  public void getTile_requestsCachedTileOnce() throws IOException {
+    final TileCache tileCache = new TileCache(1024);
+    final UrlTileProviderController controller =
+        createController(
+            "/tiles/{z}/{x}/{y}.png",
+            tileCache,
+            new TileDiskCache(temporaryFolder.newFolder(), "overlay", 60 * 1000));
+
+    controller.getTile(1, 2, 3);
+    final Tile tile = controller.getTile(1, 2, 3);
+
+    assertArrayEquals("/tiles/3/1/2.png".getBytes(StandardCharsets.UTF_8), tile.data);
+    assertEquals(1, requestedPaths.size());
+    assertEquals(1, tileCache.getHitCount());
+  }
+
+  @Test
+  public void getTile_returnsNoTileForMissingTiles() {
+    final UrlTileProviderController controller = createController("/missing/{z}/{x}/{y}", null);
+
+    assertSame(TileProvider.NO_TILE, controller.getTile(1, 2, 3));
+  }
+
+  @Test
+  public void getTile_returnsNullForFailedRequestsWithoutCachingThem() {
+    final TileCache tileCache = new TileCache(1024);
+    final UrlTileProviderController controller = createController("/error/{z}/{x}/{y}", tileCache);
+
+    assertNull(controller.getTile(1, 2, 3));
+    assertNull(controller.getTile(1, 2, 3));
+
+    assertEquals(2, requestedPaths.size());
+    assertEquals(0, tileCache.getSizeBytes());
+  }
+
+  private UrlTileProviderController createController(String path, TileCache tileCache) {
+    return createController(path, tileCache, null);
+  }
+
+  private UrlTileProviderController createController(
+      String path, TileCache tileCache, TileDiskCache tileDiskCache) {
+    final String template = "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    return new UrlTileProviderController(
+        mock(MapsCallbackApi.class),
+        "overlay",
+        new UrlTileProviderController.UrlTemplate(
+            template,
+            Collections.singletonMap("X-Api-Key", "key"),
+            UrlTileProviderController.UrlTemplate.DEFAULT_TILE_SIZE,
+            UrlTileProviderController.UrlTemplate.DEFAULT_MAX_CONCURRENT_REQUESTS),
+        tileCache,
+        tileDiskCache);
+  }
+}
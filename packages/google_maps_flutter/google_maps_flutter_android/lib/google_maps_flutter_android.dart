@@ -2,4 +2,9 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+export 'src/android_map_options.dart';
+export 'src/android_tile_overlay.dart';
+export 'src/camera_move_events.dart';
 export 'src/google_maps_flutter_android.dart';
+export 'src/heatmap_points.dart';
+export 'src/shape_points.dart';
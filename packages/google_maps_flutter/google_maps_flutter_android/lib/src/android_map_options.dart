@@ -0,0 +1,75 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// Android specific options of a map, set when the map is created.
+///
+/// See `GoogleMapsFlutterAndroid.mapOptions`.
+@immutable
+class AndroidMapOptions {
+  /// Creates Android specific options of a map.
+  const AndroidMapOptions({
+    this.asyncMarkerIconDecodingEnabled = false,
+    this.tileMemoryCacheMaxBytes = 0,
+    this.maxConcurrentTileRequests = 8,
+    this.markerVirtualizationEnabled = false,
+  });
+
+  /// Whether marker icons are decoded on background threads.
+  ///
+  /// When enabled, adding or changing many markers with bitmap icons no longer
+  /// blocks the main thread while the icons are decoded and scaled. Markers
+  /// whose icon is not decoded yet are added hidden, and shown once their icon
+  /// is set. Disabled by default.
+  final bool asyncMarkerIconDecodingEnabled;
+
+  /// The maximum total size of the tiles of tile overlays cached in memory, or
+  /// 0 to not cache them, which is the default.
+  ///
+  /// Cached tiles are not requested from the tile provider again until the
+  /// tile cache of their tile overlay is cleared, so tile providers whose tiles
+  /// change must clear it. See `GoogleMapsFlutterAndroid.getTileCacheStats`.
+  final int tileMemoryCacheMaxBytes;
+
+  /// The maximum number of tile requests to Dart in flight, or 0 to not bound
+  /// them. Defaults to 8.
+  final int maxConcurrentTileRequests;
+
+  /// Whether markers not in a cluster are virtualized.
+  ///
+  /// When enabled, only the markers within the visible region, plus a margin,
+  /// are added to the map, and their native markers are reused as the camera
+  /// moves. This keeps maps with tens of thousands of markers fast to load.
+  /// Markers outside the region cannot be found in the native view hierarchy,
+  /// and their info window is shown by adding them to the map. Disabled by
+  /// default.
+  final bool markerVirtualizationEnabled;
+}
+
+/// The timing of a batch of marker updates, reported by
+/// `GoogleMapsFlutterAndroid.getLastMarkerBatchTiming`.
+@immutable
+class AndroidMarkerBatchTiming {
+  /// Creates the timing of a batch of marker updates.
+  const AndroidMarkerBatchTiming({
+    required this.markerCount,
+    required this.mainThreadDuration,
+    required this.deferredIconCount,
+    this.iconsSetDuration,
+  });
+
+  /// The number of added or changed markers.
+  final int markerCount;
+
+  /// The time the main thread spent updating the markers.
+  final Duration mainThreadDuration;
+
+  /// The number of icons decoded on background threads.
+  final int deferredIconCount;
+
+  /// The time after which the decoded icons were set, or null if they are not
+  /// set yet.
+  final Duration? iconsSetDuration;
+}
@@ -0,0 +1,129 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// A [TileOverlay] with Android specific options.
+///
+/// It can be used wherever a [TileOverlay] is expected.
+@immutable
+class AndroidTileOverlay extends TileOverlay {
+  /// Creates a tile overlay with Android specific options.
+  const AndroidTileOverlay({
+    required super.tileOverlayId,
+    super.fadeIn,
+    super.tileProvider,
+    super.transparency,
+    super.zIndex,
+    super.visible,
+    super.tileSize,
+    this.diskCacheTtl,
+    this.urlTemplate,
+    this.urlTemplateHeaders,
+  });
+
+  /// How long the tiles of the tile overlay are stored on disk, across app
+  /// launches.
+  ///
+  /// [Duration.zero] does not store them, and null uses the default, which
+  /// stores them for a day if the tile overlay has a [urlTemplate] and does not
+  /// store them otherwise. Stored tiles are not requested again until they
+  /// expire or the tile cache of the tile overlay is cleared. Applies when the
+  /// tile overlay is added to the map.
+  final Duration? diskCacheTtl;
+
+  /// The URL the tiles are fetched from natively, instead of from the
+  /// [tileProvider] in Dart, if any.
+  ///
+  /// In the template, `{x}`, `{y}` and `{z}` are replaced with the coordinates
+  /// and zoom level of each tile, for example
+  /// `https://tiles.example/{z}/{x}/{y}.png`. Applies when the tile overlay is
+  /// added to the map.
+  final String? urlTemplate;
+
+  /// The HTTP headers sent with each request to [urlTemplate], if any.
+  final Map<String, String>? urlTemplateHeaders;
+
+  @override
+  AndroidTileOverlay copyWith({
+    bool? fadeInParam,
+    TileProvider? tileProviderParam,
+    double? transparencyParam,
+    int? zIndexParam,
+    bool? visibleParam,
+    int? tileSizeParam,
+    Duration? diskCacheTtlParam,
+    String? urlTemplateParam,
+    Map<String, String>? urlTemplateHeadersParam,
+  }) {
+    return AndroidTileOverlay(
+      tileOverlayId: tileOverlayId,
+      fadeIn: fadeInParam ?? fadeIn,
+      tileProvider: tileProviderParam ?? tileProvider,
+      transparency: transparencyParam ?? transparency,
+      zIndex: zIndexParam ?? zIndex,
+      visible: visibleParam ?? visible,
+      tileSize: tileSizeParam ?? tileSize,
+      diskCacheTtl: diskCacheTtlParam ?? diskCacheTtl,
+      urlTemplate: urlTemplateParam ?? urlTemplate,
+      urlTemplateHeaders: urlTemplateHeadersParam ?? urlTemplateHeaders,
+    );
+  }
+
+  @override
+  AndroidTileOverlay clone() => copyWith();
+
+  @override
+  bool operator ==(Object other) {
+    return super == other &&
+        other is AndroidTileOverlay &&
+        diskCacheTtl == other.diskCacheTtl &&
+        urlTemplate == other.urlTemplate &&
+        mapEquals(urlTemplateHeaders, other.urlTemplateHeaders);
+  }
+
+  @override
+  int get hashCode => Object.hash(super.hashCode, diskCacheTtl, urlTemplate);
+}
+
+/// The statistics of the memory cache of the tiles of a map, reported by
+/// `GoogleMapsFlutterAndroid.getTileCacheStats`.
+@immutable
+class AndroidTileCacheStats {
+  /// Creates the statistics of the memory cache of tiles.
+  const AndroidTileCacheStats({
+    required this.hitCount,
+    required this.missCount,
+    required this.diskHitCount,
+    required this.coalescedCount,
+    required this.evictionCount,
+    required this.sizeBytes,
+  });
+
+  /// The number of tiles found in memory.
+  final int hitCount;
+
+  /// The number of tiles missing in memory.
+  final int missCount;
+
+  /// The number of tiles missing in memory that were read from disk.
+  final int diskHitCount;
+
+  /// The number of tile requests that waited for a request of the same tile.
+  final int coalescedCount;
+
+  /// The number of tiles evicted to stay within the maximum size.
+  final int evictionCount;
+
+  /// The total size of the tiles in memory.
+  final int sizeBytes;
+
+  /// The share of tiles found in memory, from 0 to 1, or 0 if no tile was
+  /// requested yet.
+  double get hitRate {
+    final int requestCount = hitCount + missCount;
+    return requestCount == 0 ? 0 : hitCount / requestCount;
+  }
+}
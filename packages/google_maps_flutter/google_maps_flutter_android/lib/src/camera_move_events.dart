@@ -0,0 +1,97 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// The options of the camera moves sent by
+/// `GoogleMapsFlutterAndroid.onCameraMoveThrottled`.
+///
+/// A move is sent once any part of the camera changed by at least its minimum
+/// since the last event. A minimum of 0 counts any change.
+@immutable
+class AndroidCameraMoveOptions {
+  /// Creates camera move options, which send every move by default.
+  const AndroidCameraMoveOptions({
+    this.maxEventsPerSecond = 0,
+    this.minTargetDelta = 0,
+    this.minZoomDelta = 0,
+    this.minBearingDelta = 0,
+    this.minTiltDelta = 0,
+    this.includeVisibleRegion = false,
+    this.includeCorners = false,
+  });
+
+  /// The maximum rate of events, unbounded if 0.
+  ///
+  /// Moves exceeding the rate are held back, and the latest one is sent when
+  /// the rate allows, so the last position of a move is never dropped.
+  final double maxEventsPerSecond;
+
+  /// The minimum on-screen distance the camera target moves, in logical pixels.
+  final double minTargetDelta;
+
+  /// The minimum change of the zoom level.
+  final double minZoomDelta;
+
+  /// The minimum change of the bearing, in degrees.
+  final double minBearingDelta;
+
+  /// The minimum change of the tilt, in degrees.
+  final double minTiltDelta;
+
+  /// Whether events include [AndroidCameraMoveEvent.visibleRegion].
+  final bool includeVisibleRegion;
+
+  /// Whether events include [AndroidCameraMoveEvent.corners].
+  final bool includeCorners;
+}
+
+/// The corners of the visible region of a map, which is a trapezoid rather
+/// than a rectangle when the camera is tilted.
+@immutable
+class AndroidVisibleRegionCorners {
+  /// Creates the corners of a visible region.
+  const AndroidVisibleRegionCorners({
+    required this.nearLeft,
+    required this.nearRight,
+    required this.farLeft,
+    required this.farRight,
+  });
+
+  /// The bottom left corner of the map.
+  final LatLng nearLeft;
+
+  /// The bottom right corner of the map.
+  final LatLng nearRight;
+
+  /// The top left corner of the map.
+  final LatLng farLeft;
+
+  /// The top right corner of the map.
+  final LatLng farRight;
+}
+
+/// A camera move sent by `GoogleMapsFlutterAndroid.onCameraMoveThrottled`.
+class AndroidCameraMoveEvent extends MapEvent<CameraPosition> {
+  /// Creates a camera move event of map [mapId], with the camera [position].
+  AndroidCameraMoveEvent(
+    super.mapId,
+    super.position, {
+    required this.isIdle,
+    this.visibleRegion,
+    this.corners,
+  });
+
+  /// Whether the camera stopped moving.
+  final bool isIdle;
+
+  /// The bounds of the visible region, if
+  /// [AndroidCameraMoveOptions.includeVisibleRegion] is set.
+  final LatLngBounds? visibleRegion;
+
+  /// The corners of the visible region, if
+  /// [AndroidCameraMoveOptions.includeCorners] is set.
+  final AndroidVisibleRegionCorners? corners;
+}
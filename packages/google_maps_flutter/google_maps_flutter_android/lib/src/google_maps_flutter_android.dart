@@ -12,9 +12,14 @@ import 'package:flutter/services.dart';
 import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'android_map_options.dart';
+import 'android_tile_overlay.dart';
+import 'camera_move_events.dart';
 import 'google_map_inspector_android.dart';
+import 'heatmap_points.dart';
 import 'messages.g.dart';
 import 'serialization.dart';
+import 'shape_points.dart';
 
 // TODO(stuartmorgan): Remove the dependency on platform interface toJson
 // methods. Channel serialization details should all be package-internal.
@@ -232,6 +237,38 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<ClusterTapEvent>();
   }
 
+  /// Returns the camera moves of map [mapId], sent at the bounded rate and
+  /// with the minimum changes of [options].
+  ///
+  /// Unlike [onCameraMove], which reports every frame while the camera moves,
+  /// a final event with [AndroidCameraMoveEvent.isIdle] set is sent when the
+  /// camera stops. The map sends moves while the stream is listened to, and
+  /// only supports one such stream at a time.
+  Stream<AndroidCameraMoveEvent> onCameraMoveThrottled({
+    required int mapId,
+    AndroidCameraMoveOptions options = const AndroidCameraMoveOptions(),
+  }) {
+    late final StreamController<AndroidCameraMoveEvent> controller;
+    StreamSubscription<AndroidCameraMoveEvent>? subscription;
+    controller = StreamController<AndroidCameraMoveEvent>(
+      onListen: () {
+        subscription = _events(mapId)
+            .whereType<AndroidCameraMoveEvent>()
+            .listen(controller.add);
+        _hostApi(mapId)
+            .setCameraMoveEventOptions(
+              _platformCameraMoveOptionsFromOptions(options),
+            )
+            .catchError(controller.addError);
+      },
+      onCancel: () async {
+        await subscription?.cancel();
+        await _hostApi(mapId).setCameraMoveEventOptions(null);
+      },
+    );
+    return controller.stream;
+  }
+
   @override
   Future<void> updateMapConfiguration(
     MapConfiguration configuration, {
@@ -264,6 +301,20 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     );
   }
 
+  /// Returns the timing of the last batch of marker updates of map [mapId], or
+  /// null if there was none.
+  ///
+  /// Timings are only recorded by maps built with
+  /// [AndroidMapOptions.asyncMarkerIconDecodingEnabled].
+  Future<AndroidMarkerBatchTiming?> getLastMarkerBatchTiming({
+    required int mapId,
+  }) async {
+    final PlatformMarkerBatchTiming? timing = await _hostApi(
+      mapId,
+    ).getLastMarkerBatchTiming();
+    return timing == null ? null : _markerBatchTimingFromPlatformTiming(timing);
+  }
+
   @override
   Future<void> updatePolygons(
     PolygonUpdates polygonUpdates, {
@@ -399,6 +450,104 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _hostApi(mapId).clearTileCache(tileOverlayId.value);
   }
 
+  /// Returns the statistics of the memory cache of the tiles of map [mapId],
+  /// or null if the map does not cache tiles in memory.
+  ///
+  /// See [AndroidMapOptions.tileMemoryCacheMaxBytes].
+  Future<AndroidTileCacheStats?> getTileCacheStats({required int mapId}) async {
+    final PlatformTileCacheStats? stats = await _hostApi(
+      mapId,
+    ).getTileCacheStats();
+    return stats == null ? null : _tileCacheStatsFromPlatformStats(stats);
+  }
+
+  /// Replaces the points of heatmap [heatmapId] of map [mapId] with [points].
+  ///
+  /// Unlike [updateHeatmaps], which sends every point of a changed heatmap,
+  /// the points are sent packed in a single [Float64List]. They are kept until
+  /// the heatmap is changed through [updateHeatmaps] with other data.
+  Future<AndroidHeatmapPointsTiming> setHeatmapPoints(
+    HeatmapId heatmapId,
+    List<WeightedLatLng> points, {
+    required int mapId,
+  }) async {
+    final Float64List packedPoints = _packedWeightedLatLngs(points);
+    return _heatmapPointsTimingFromPlatformTiming(
+      await _hostApi(mapId).setHeatmapPoints(heatmapId.value, packedPoints),
+    );
+  }
+
+  /// Adds [points] after the points of heatmap [heatmapId] of map [mapId].
+  ///
+  /// See [setHeatmapPoints].
+  Future<AndroidHeatmapPointsTiming> addHeatmapPoints(
+    HeatmapId heatmapId,
+    List<WeightedLatLng> points, {
+    required int mapId,
+  }) async {
+    final Float64List packedPoints = _packedWeightedLatLngs(points);
+    return _heatmapPointsTimingFromPlatformTiming(
+      await _hostApi(mapId).addHeatmapPoints(heatmapId.value, packedPoints),
+    );
+  }
+
+  /// Removes [count] points of heatmap [heatmapId] of map [mapId], from the
+  /// point at index [start] on.
+  ///
+  /// See [setHeatmapPoints].
+  Future<AndroidHeatmapPointsTiming> removeHeatmapPoints(
+    HeatmapId heatmapId, {
+    required int start,
+    required int count,
+    required int mapId,
+  }) async {
+    return _heatmapPointsTimingFromPlatformTiming(
+      await _hostApi(mapId).removeHeatmapPoints(heatmapId.value, start, count),
+    );
+  }
+
+  /// Replaces the points of polyline [polylineId] of map [mapId] with
+  /// [points].
+  ///
+  /// Unlike [updatePolylines], which sends every point of a changed polyline
+  /// as a separate object, the points are sent packed or encoded. If
+  /// [simplificationTolerance] is greater than 0, the polyline is drawn with
+  /// its points simplified for the zoom level of the camera, dropping points
+  /// that are closer than that many logical pixels to the simplified line.
+  /// Changing the polyline through [updatePolylines] replaces the points, even
+  /// if the changed polyline has none, so set them again after such a change.
+  Future<void> setPolylinePoints(
+    PolylineId polylineId,
+    AndroidShapePoints points, {
+    double simplificationTolerance = 0,
+    required int mapId,
+  }) {
+    return _hostApi(mapId).setPolylinePoints(
+      polylineId.value,
+      _platformShapePointsFromPoints(points),
+      simplificationTolerance,
+    );
+  }
+
+  /// Replaces the points and [holes] of polygon [polygonId] of map [mapId]
+  /// with [points].
+  ///
+  /// See [setPolylinePoints].
+  Future<void> setPolygonPoints(
+    PolygonId polygonId,
+    AndroidShapePoints points, {
+    List<AndroidShapePoints> holes = const <AndroidShapePoints>[],
+    double simplificationTolerance = 0,
+    required int mapId,
+  }) {
+    return _hostApi(mapId).setPolygonPoints(
+      polygonId.value,
+      _platformShapePointsFromPoints(points),
+      holes.map(_platformShapePointsFromPoints).toList(),
+      simplificationTolerance,
+    );
+  }
+
   @override
   Future<void> animateCamera(CameraUpdate cameraUpdate, {required int mapId}) {
     return animateCameraWithConfiguration(
@@ -510,6 +659,11 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Currently defaults to false, but the default is subject to change.
   bool useAndroidViewSurface = false;
 
+  /// The Android specific options of the maps built afterwards.
+  ///
+  /// Each map keeps the options it was built with.
+  AndroidMapOptions mapOptions = const AndroidMapOptions();
+
   /// Requests Google Map Renderer with [AndroidMapRenderer] type.
   ///
   /// See https://pub.dev/packages/google_maps_flutter_android#map-renderer
@@ -595,6 +749,7 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
           initialGroundOverlays: mapObjects.groundOverlays
               .map(_platformGroundOverlayFromGroundOverlay)
               .toList(),
+          mapOptions: _platformMapOptionsFromMapOptions(mapOptions),
         );
 
     const String viewType = 'plugins.flutter.dev/google_maps_android';
@@ -907,6 +1062,15 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
       zIndex: tileOverlay.zIndex,
       visible: tileOverlay.visible,
       tileSize: tileOverlay.tileSize,
+      diskCacheTtlMillis: tileOverlay is AndroidTileOverlay
+          ? tileOverlay.diskCacheTtl?.inMilliseconds
+          : null,
+      urlTemplate: tileOverlay is AndroidTileOverlay
+          ? tileOverlay.urlTemplate
+          : null,
+      urlTemplateHeaders: tileOverlay is AndroidTileOverlay
+          ? tileOverlay.urlTemplateHeaders
+          : null,
     );
   }
 
@@ -1149,12 +1313,7 @@ class HostMapMessageHandler implements MapsCallbackApi {
     streamController.add(
       CameraMoveEvent(
         mapId,
-        CameraPosition(
-          target: _latLngFromPlatformLatLng(cameraPosition.target),
-          bearing: cameraPosition.bearing,
-          tilt: cameraPosition.tilt,
-          zoom: cameraPosition.zoom,
-        ),
+        _cameraPositionFromPlatformCameraPosition(cameraPosition),
       ),
     );
   }
@@ -1164,6 +1323,30 @@ class HostMapMessageHandler implements MapsCallbackApi {
     streamController.add(CameraMoveStartedEvent(mapId));
   }
 
+  @override
+  void onCameraMoveEvent(PlatformCameraMoveEvent event) {
+    final PlatformLatLngBounds? visibleRegion = event.visibleRegion;
+    final PlatformVisibleRegionCorners? corners = event.corners;
+    streamController.add(
+      AndroidCameraMoveEvent(
+        mapId,
+        _cameraPositionFromPlatformCameraPosition(event.position),
+        isIdle: event.isIdle,
+        visibleRegion: visibleRegion == null
+            ? null
+            : _latLngBoundsFromPlatformLatLngBounds(visibleRegion),
+        corners: corners == null
+            ? null
+            : AndroidVisibleRegionCorners(
+                nearLeft: _latLngFromPlatformLatLng(corners.nearLeft),
+                nearRight: _latLngFromPlatformLatLng(corners.nearRight),
+                farLeft: _latLngFromPlatformLatLng(corners.farLeft),
+                farRight: _latLngFromPlatformLatLng(corners.farRight),
+              ),
+      ),
+    );
+  }
+
   @override
   void onCircleTap(String circleId) {
     streamController.add(CircleTapEvent(mapId, CircleId(circleId)));
@@ -1264,6 +1447,94 @@ LatLng _latLngFromPlatformLatLng(PlatformLatLng latLng) {
   return LatLng(latLng.latitude, latLng.longitude);
 }
 
+CameraPosition _cameraPositionFromPlatformCameraPosition(
+  PlatformCameraPosition position,
+) {
+  return CameraPosition(
+    target: _latLngFromPlatformLatLng(position.target),
+    bearing: position.bearing,
+    tilt: position.tilt,
+    zoom: position.zoom,
+  );
+}
+
+Float64List _packedWeightedLatLngs(List<WeightedLatLng> points) {
+  final Float64List packed = Float64List(points.length * 3);
+  for (int i = 0; i < points.length; i++) {
+    packed[i * 3] = points[i].point.latitude;
+    packed[i * 3 + 1] = points[i].point.longitude;
+    packed[i * 3 + 2] = points[i].weight;
+  }
+  return packed;
+}
+
+PlatformShapePoints _platformShapePointsFromPoints(AndroidShapePoints points) {
+  return PlatformShapePoints(packed: points.packed, encoded: points.encoded);
+}
+
+PlatformMapOptions _platformMapOptionsFromMapOptions(AndroidMapOptions options) {
+  return PlatformMapOptions(
+    asyncMarkerIconDecodingEnabled: options.asyncMarkerIconDecodingEnabled,
+    tileMemoryCacheMaxBytes: options.tileMemoryCacheMaxBytes,
+    maxConcurrentTileRequests: options.maxConcurrentTileRequests,
+    markerVirtualizationEnabled: options.markerVirtualizationEnabled,
+  );
+}
+
+AndroidTileCacheStats _tileCacheStatsFromPlatformStats(
+  PlatformTileCacheStats stats,
+) {
+  return AndroidTileCacheStats(
+    hitCount: stats.hitCount,
+    missCount: stats.missCount,
+    diskHitCount: stats.diskHitCount,
+    coalescedCount: stats.coalescedCount,
+    evictionCount: stats.evictionCount,
+    sizeBytes: stats.sizeBytes,
+  );
+}
+
+AndroidMarkerBatchTiming _markerBatchTimingFromPlatformTiming(
+  PlatformMarkerBatchTiming timing,
+) {
+  return AndroidMarkerBatchTiming(
+    markerCount: timing.markerCount,
+    mainThreadDuration: Duration(microseconds: timing.mainThreadMicros),
+    deferredIconCount: timing.deferredIconCount,
+    iconsSetDuration: timing.iconsSetMicros >= 0
+        ? Duration(microseconds: timing.iconsSetMicros)
+        : null,
+  );
+}
+
+AndroidHeatmapPointsTiming _heatmapPointsTimingFromPlatformTiming(
+  PlatformHeatmapPointsTiming timing,
+) {
+  return AndroidHeatmapPointsTiming(
+    pointCount: timing.pointCount,
+    parseDuration: Duration(microseconds: timing.parseMicros),
+    rebuildDuration: Duration(microseconds: timing.rebuildMicros),
+    invalidateDuration: Duration(microseconds: timing.invalidateMicros),
+    invalidatedTileCount: timing.invalidatedTileCount >= 0
+        ? timing.invalidatedTileCount
+        : null,
+  );
+}
+
+PlatformCameraMoveOptions _platformCameraMoveOptionsFromOptions(
+  AndroidCameraMoveOptions options,
+) {
+  return PlatformCameraMoveOptions(
+    maxEventsPerSecond: options.maxEventsPerSecond,
+    minTargetDeltaPixels: options.minTargetDelta,
+    minZoomDelta: options.minZoomDelta,
+    minBearingDelta: options.minBearingDelta,
+    minTiltDelta: options.minTiltDelta,
+    includeVisibleRegion: options.includeVisibleRegion,
+    includeCorners: options.includeCorners,
+  );
+}
+
 LatLngBounds _latLngBoundsFromPlatformLatLngBounds(
   PlatformLatLngBounds bounds,
 ) {
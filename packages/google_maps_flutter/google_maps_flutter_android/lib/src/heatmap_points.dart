@@ -0,0 +1,35 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// The timing of a change to the points of a heatmap by
+/// `GoogleMapsFlutterAndroid.setHeatmapPoints`, `addHeatmapPoints` or
+/// `removeHeatmapPoints`.
+@immutable
+class AndroidHeatmapPointsTiming {
+  /// Creates the timing of a change to the points of a heatmap.
+  const AndroidHeatmapPointsTiming({
+    required this.pointCount,
+    required this.parseDuration,
+    required this.rebuildDuration,
+    required this.invalidateDuration,
+    this.invalidatedTileCount,
+  });
+
+  /// The number of added, removed or new points.
+  final int pointCount;
+
+  /// The time taken to read the points.
+  final Duration parseDuration;
+
+  /// The time taken to rebuild the heatmap with the changed points.
+  final Duration rebuildDuration;
+
+  /// The time taken to remove the tiles around the changed points.
+  final Duration invalidateDuration;
+
+  /// The number of cached tiles to render again, or null if all tiles are.
+  final int? invalidatedTileCount;
+}
@@ -708,6 +708,9 @@ class PlatformTileOverlay {
     required this.zIndex,
     required this.visible,
     required this.tileSize,
+    this.diskCacheTtlMillis,
+    this.urlTemplate,
+    this.urlTemplateHeaders,
   });
 
   String tileOverlayId;
@@ -722,6 +725,16 @@ class PlatformTileOverlay {
 
   int tileSize;
 
+  /// How long tiles are stored on disk, 0 to not store them, or null for the
+  /// default.
+  int? diskCacheTtlMillis;
+
+  /// The URL tiles are fetched from natively instead of from Dart, if any.
+  String? urlTemplate;
+
+  /// The HTTP headers sent with each request to [urlTemplate], if any.
+  Map<String, String>? urlTemplateHeaders;
+
   Object encode() {
     return <Object?>[
       tileOverlayId,
@@ -730,6 +743,9 @@ class PlatformTileOverlay {
       zIndex,
       visible,
       tileSize,
+      diskCacheTtlMillis,
+      urlTemplate,
+      urlTemplateHeaders,
     ];
   }
 
@@ -742,6 +758,10 @@ class PlatformTileOverlay {
       zIndex: result[3]! as int,
       visible: result[4]! as bool,
       tileSize: result[5]! as int,
+      diskCacheTtlMillis: result[6] as int?,
+      urlTemplate: result[7] as String?,
+      urlTemplateHeaders: (result[8] as Map<Object?, Object?>?)
+          ?.cast<String, String>(),
     );
   }
 }
@@ -963,6 +983,7 @@ class PlatformMapViewCreationParams {
     required this.initialTileOverlays,
     required this.initialClusterManagers,
     required this.initialGroundOverlays,
+    required this.mapOptions,
   });
 
   PlatformCameraPosition initialCameraPosition;
@@ -985,6 +1006,8 @@ class PlatformMapViewCreationParams {
 
   List<PlatformGroundOverlay> initialGroundOverlays;
 
+  PlatformMapOptions mapOptions;
+
   Object encode() {
     return <Object?>[
       initialCameraPosition,
@@ -997,6 +1020,7 @@ class PlatformMapViewCreationParams {
       initialTileOverlays,
       initialClusterManagers,
       initialGroundOverlays,
+      mapOptions,
     ];
   }
 
@@ -1016,6 +1040,7 @@ class PlatformMapViewCreationParams {
           .cast<PlatformClusterManager>(),
       initialGroundOverlays: (result[9] as List<Object?>?)!
           .cast<PlatformGroundOverlay>(),
+      mapOptions: result[10]! as PlatformMapOptions,
     );
   }
 }
@@ -1397,6 +1422,331 @@ class PlatformBitmapBytesMap {
   }
 }
 
+/// Options of the throttled camera move events of a map.
+class PlatformCameraMoveOptions {
+  PlatformCameraMoveOptions({
+    required this.maxEventsPerSecond,
+    required this.minTargetDeltaPixels,
+    required this.minZoomDelta,
+    required this.minBearingDelta,
+    required this.minTiltDelta,
+    required this.includeVisibleRegion,
+    required this.includeCorners,
+  });
+
+  /// The maximum rate of events, unbounded if 0.
+  double maxEventsPerSecond;
+
+  /// The minimum on-screen distance the camera target moves, in logical pixels.
+  double minTargetDeltaPixels;
+
+  /// The minimum change of the zoom level.
+  double minZoomDelta;
+
+  /// The minimum change of the bearing, in degrees.
+  double minBearingDelta;
+
+  /// The minimum change of the tilt, in degrees.
+  double minTiltDelta;
+
+  /// Whether events include the visible bounds.
+  bool includeVisibleRegion;
+
+  /// Whether events include the corners of the visible region.
+  bool includeCorners;
+
+  Object encode() {
+    return <Object?>[
+      maxEventsPerSecond,
+      minTargetDeltaPixels,
+      minZoomDelta,
+      minBearingDelta,
+      minTiltDelta,
+      includeVisibleRegion,
+      includeCorners,
+    ];
+  }
+
+  static PlatformCameraMoveOptions decode(Object result) {
+    result as List<Object?>;
+    return PlatformCameraMoveOptions(
+      maxEventsPerSecond: result[0]! as double,
+      minTargetDeltaPixels: result[1]! as double,
+      minZoomDelta: result[2]! as double,
+      minBearingDelta: result[3]! as double,
+      minTiltDelta: result[4]! as double,
+      includeVisibleRegion: result[5]! as bool,
+      includeCorners: result[6]! as bool,
+    );
+  }
+}
+
+/// Pigeon equivalent of the corners of a VisibleRegion.
+class PlatformVisibleRegionCorners {
+  PlatformVisibleRegionCorners({
+    required this.nearLeft,
+    required this.nearRight,
+    required this.farLeft,
+    required this.farRight,
+  });
+
+  PlatformLatLng nearLeft;
+
+  PlatformLatLng nearRight;
+
+  PlatformLatLng farLeft;
+
+  PlatformLatLng farRight;
+
+  Object encode() {
+    return <Object?>[nearLeft, nearRight, farLeft, farRight];
+  }
+
+  static PlatformVisibleRegionCorners decode(Object result) {
+    result as List<Object?>;
+    return PlatformVisibleRegionCorners(
+      nearLeft: result[0]! as PlatformLatLng,
+      nearRight: result[1]! as PlatformLatLng,
+      farLeft: result[2]! as PlatformLatLng,
+      farRight: result[3]! as PlatformLatLng,
+    );
+  }
+}
+
+/// A throttled camera move of a map.
+class PlatformCameraMoveEvent {
+  PlatformCameraMoveEvent({
+    required this.position,
+    required this.isIdle,
+    this.visibleRegion,
+    this.corners,
+  });
+
+  PlatformCameraPosition position;
+
+  /// Whether the camera stopped moving.
+  bool isIdle;
+
+  PlatformLatLngBounds? visibleRegion;
+
+  PlatformVisibleRegionCorners? corners;
+
+  Object encode() {
+    return <Object?>[position, isIdle, visibleRegion, corners];
+  }
+
+  static PlatformCameraMoveEvent decode(Object result) {
+    result as List<Object?>;
+    return PlatformCameraMoveEvent(
+      position: result[0]! as PlatformCameraPosition,
+      isIdle: result[1]! as bool,
+      visibleRegion: result[2] as PlatformLatLngBounds?,
+      corners: result[3] as PlatformVisibleRegionCorners?,
+    );
+  }
+}
+
+/// The timing of a change to the points of a heatmap.
+class PlatformHeatmapPointsTiming {
+  PlatformHeatmapPointsTiming({
+    required this.pointCount,
+    required this.parseMicros,
+    required this.rebuildMicros,
+    required this.invalidateMicros,
+    required this.invalidatedTileCount,
+  });
+
+  /// The number of added, removed or new points.
+  int pointCount;
+
+  int parseMicros;
+
+  int rebuildMicros;
+
+  int invalidateMicros;
+
+  /// The number of cached tiles to render again, or -1 if all tiles are.
+  int invalidatedTileCount;
+
+  Object encode() {
+    return <Object?>[
+      pointCount,
+      parseMicros,
+      rebuildMicros,
+      invalidateMicros,
+      invalidatedTileCount,
+    ];
+  }
+
+  static PlatformHeatmapPointsTiming decode(Object result) {
+    result as List<Object?>;
+    return PlatformHeatmapPointsTiming(
+      pointCount: result[0]! as int,
+      parseMicros: result[1]! as int,
+      rebuildMicros: result[2]! as int,
+      invalidateMicros: result[3]! as int,
+      invalidatedTileCount: result[4]! as int,
+    );
+  }
+}
+
+/// The points of a polyline, polygon or hole, either packed or encoded.
+class PlatformShapePoints {
+  PlatformShapePoints({this.packed, this.encoded});
+
+  /// The latitude and longitude of each point.
+  Float64List? packed;
+
+  /// The points in the encoded polyline algorithm format.
+  String? encoded;
+
+  Object encode() {
+    return <Object?>[packed, encoded];
+  }
+
+  static PlatformShapePoints decode(Object result) {
+    result as List<Object?>;
+    return PlatformShapePoints(
+      packed: result[0] as Float64List?,
+      encoded: result[1] as String?,
+    );
+  }
+}
+
+/// Android specific options of a map, set when it is created.
+class PlatformMapOptions {
+  PlatformMapOptions({
+    required this.asyncMarkerIconDecodingEnabled,
+    required this.tileMemoryCacheMaxBytes,
+    required this.maxConcurrentTileRequests,
+    required this.markerVirtualizationEnabled,
+  });
+
+  /// Whether marker icons are decoded on background threads.
+  bool asyncMarkerIconDecodingEnabled;
+
+  /// The maximum total size of the tiles cached in memory, or 0 to not cache
+  /// them.
+  int tileMemoryCacheMaxBytes;
+
+  /// The maximum number of tile requests to Dart in flight, or 0 to not bound
+  /// them.
+  int maxConcurrentTileRequests;
+
+  /// Whether markers not in a cluster are only added to the map near the
+  /// visible region.
+  bool markerVirtualizationEnabled;
+
+  Object encode() {
+    return <Object?>[
+      asyncMarkerIconDecodingEnabled,
+      tileMemoryCacheMaxBytes,
+      maxConcurrentTileRequests,
+      markerVirtualizationEnabled,
+    ];
+  }
+
+  static PlatformMapOptions decode(Object result) {
+    result as List<Object?>;
+    return PlatformMapOptions(
+      asyncMarkerIconDecodingEnabled: result[0]! as bool,
+      tileMemoryCacheMaxBytes: result[1]! as int,
+      maxConcurrentTileRequests: result[2]! as int,
+      markerVirtualizationEnabled: result[3]! as bool,
+    );
+  }
+}
+
+/// The timing of a batch of marker updates.
+class PlatformMarkerBatchTiming {
+  PlatformMarkerBatchTiming({
+    required this.markerCount,
+    required this.mainThreadMicros,
+    required this.deferredIconCount,
+    required this.iconsSetMicros,
+  });
+
+  /// The number of added or changed markers.
+  int markerCount;
+
+  int mainThreadMicros;
+
+  /// The number of icons decoded on background threads.
+  int deferredIconCount;
+
+  /// The time after which the decoded icons were set, or -1 if they are not
+  /// yet.
+  int iconsSetMicros;
+
+  Object encode() {
+    return <Object?>[
+      markerCount,
+      mainThreadMicros,
+      deferredIconCount,
+      iconsSetMicros,
+    ];
+  }
+
+  static PlatformMarkerBatchTiming decode(Object result) {
+    result as List<Object?>;
+    return PlatformMarkerBatchTiming(
+      markerCount: result[0]! as int,
+      mainThreadMicros: result[1]! as int,
+      deferredIconCount: result[2]! as int,
+      iconsSetMicros: result[3]! as int,
+    );
+  }
+}
+
+/// The statistics of the memory cache of the tiles of a map.
+class PlatformTileCacheStats {
+  PlatformTileCacheStats({
+    required this.hitCount,
+    required this.missCount,
+    required this.diskHitCount,
+    required this.coalescedCount,
+    required this.evictionCount,
+    required this.sizeBytes,
+  });
+
+  int hitCount;
+
+  int missCount;
+
+  /// The number of tiles missing in memory that were read from disk.
+  int diskHitCount;
+
+  /// The number of tile requests that waited for a request of the same tile.
+  int coalescedCount;
+
+  int evictionCount;
+
+  int sizeBytes;
+
+  Object encode() {
+    return <Object?>[
+      hitCount,
+      missCount,
+      diskHitCount,
+      coalescedCount,
+      evictionCount,
+      sizeBytes,
+    ];
+  }
+
+  static PlatformTileCacheStats decode(Object result) {
+    result as List<Object?>;
+    return PlatformTileCacheStats(
+      hitCount: result[0]! as int,
+      missCount: result[1]! as int,
+      diskHitCount: result[2]! as int,
+      coalescedCount: result[3]! as int,
+      evictionCount: result[4]! as int,
+      sizeBytes: result[5]! as int,
+    );
+  }
+}
+
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
   @override
@@ -1542,6 +1892,30 @@ class _PigeonCodec extends StandardMessageCodec {
     } else if (value is PlatformBitmapBytesMap) {
       buffer.putUint8(174);
       writeValue(buffer, value.encode());
+    } else if (value is PlatformCameraMoveOptions) {
+      buffer.putUint8(175);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformVisibleRegionCorners) {
+      buffer.putUint8(176);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformCameraMoveEvent) {
+      buffer.putUint8(177);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformHeatmapPointsTiming) {
+      buffer.putUint8(178);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformShapePoints) {
+      buffer.putUint8(179);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformMapOptions) {
+      buffer.putUint8(180);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformMarkerBatchTiming) {
+      buffer.putUint8(181);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformTileCacheStats) {
+      buffer.putUint8(182);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -1648,6 +2022,22 @@ class _PigeonCodec extends StandardMessageCodec {
         return PlatformBitmapAssetMap.decode(readValue(buffer)!);
       case 174:
         return PlatformBitmapBytesMap.decode(readValue(buffer)!);
+      case 175:
+        return PlatformCameraMoveOptions.decode(readValue(buffer)!);
+      case 176:
+        return PlatformVisibleRegionCorners.decode(readValue(buffer)!);
+      case 177:
+        return PlatformCameraMoveEvent.decode(readValue(buffer)!);
+      case 178:
+        return PlatformHeatmapPointsTiming.decode(readValue(buffer)!);
+      case 179:
+        return PlatformShapePoints.decode(readValue(buffer)!);
+      case 180:
+        return PlatformMapOptions.decode(readValue(buffer)!);
+      case 181:
+        return PlatformMarkerBatchTiming.decode(readValue(buffer)!);
+      case 182:
+        return PlatformTileCacheStats.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -2351,6 +2741,266 @@ class MapsApi {
       return (pigeonVar_replyList[0] as Uint8List?)!;
     }
   }
+
+  /// Starts sending throttled camera moves to
+  /// [MapsCallbackApi.onCameraMoveEvent] with the given options, or stops
+  /// sending them if [options] is null.
+  Future<void> setCameraMoveEventOptions(
+    PlatformCameraMoveOptions? options,
+  ) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setCameraMoveEventOptions$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[options]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Replaces the points of the heatmap with the given ID with [points], the
+  /// latitude, longitude and weight of each point.
+  Future<PlatformHeatmapPointsTiming> setHeatmapPoints(
+    String heatmapId,
+    Float64List points,
+  ) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setHeatmapPoints$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[heatmapId, points])
+            as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformHeatmapPointsTiming?)!;
+    }
+  }
+
+  /// Adds [points], packed as for [setHeatmapPoints], after the points of the
+  /// heatmap with the given ID.
+  Future<PlatformHeatmapPointsTiming> addHeatmapPoints(
+    String heatmapId,
+    Float64List points,
+  ) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.addHeatmapPoints$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[heatmapId, points])
+            as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformHeatmapPointsTiming?)!;
+    }
+  }
+
+  /// Removes [count] points of the heatmap with the given ID, from the point
+  /// at index [start] on.
+  Future<PlatformHeatmapPointsTiming> removeHeatmapPoints(
+    String heatmapId,
+    int start,
+    int count,
+  ) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.removeHeatmapPoints$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[heatmapId, start, count])
+            as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformHeatmapPointsTiming?)!;
+    }
+  }
+
+  /// Replaces the points of the polyline with the given ID, simplified for the
+  /// zoom level of the camera with [simplificationTolerance] in logical pixels
+  /// if it is greater than 0.
+  Future<void> setPolylinePoints(
+    String polylineId,
+    PlatformShapePoints points,
+    double simplificationTolerance,
+  ) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setPolylinePoints$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[
+              polylineId,
+              points,
+              simplificationTolerance,
+            ])
+            as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Replaces the points and holes of the polygon with the given ID, simplified
+  /// as for [setPolylinePoints].
+  Future<void> setPolygonPoints(
+    String polygonId,
+    PlatformShapePoints points,
+    List<PlatformShapePoints> holes,
+    double simplificationTolerance,
+  ) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.setPolygonPoints$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[
+              polygonId,
+              points,
+              holes,
+              simplificationTolerance,
+            ])
+            as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the timing of the last batch of marker updates, or null if there
+  /// was none or marker icons are decoded on the main thread.
+  Future<PlatformMarkerBatchTiming?> getLastMarkerBatchTiming() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.getLastMarkerBatchTiming$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformMarkerBatchTiming?);
+    }
+  }
+
+  /// Returns the statistics of the memory cache of tiles, or null if tiles
+  /// are not cached in memory.
+  Future<PlatformTileCacheStats?> getTileCacheStats() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.getTileCacheStats$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+          pigeonVar_channelName,
+          pigeonChannelCodec,
+          binaryMessenger: pigeonVar_binaryMessenger,
+        );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformTileCacheStats?);
+    }
+  }
 }
 
 abstract class MapsCallbackApi {
@@ -2408,6 +3058,10 @@ abstract class MapsCallbackApi {
     int zoom,
   );
 
+  /// Called with the throttled camera moves requested with
+  /// [MapsApi.setCameraMoveEventOptions].
+  void onCameraMoveEvent(PlatformCameraMoveEvent event);
+
   static void setUp(
     MapsCallbackApi? api, {
     BinaryMessenger? binaryMessenger,
@@ -2970,6 +3624,41 @@ abstract class MapsCallbackApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?>
+      pigeonVar_channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onCameraMoveEvent$messageChannelSuffix',
+        pigeonChannelCodec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onCameraMoveEvent was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final PlatformCameraMoveEvent? arg_event =
+              (args[0] as PlatformCameraMoveEvent?);
+          assert(
+            arg_event != null,
+            'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onCameraMoveEvent was null, expected non-null PlatformCameraMoveEvent.',
+          );
+          try {
+            api.onCameraMoveEvent(arg_event!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+              error: PlatformException(code: 'error', message: e.toString()),
+            );
+          }
+        });
+      }
+    }
   }
 }
 
@@ -0,0 +1,36 @@
+// Copyright 2013 The Flutter Authors
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platform_interface.dart';
+
+/// The points of a polyline, polygon or hole set by
+/// `GoogleMapsFlutterAndroid.setPolylinePoints` or `setPolygonPoints`.
+@immutable
+class AndroidShapePoints {
+  /// Creates shape points from [points], sent packed in a single
+  /// [Float64List].
+  AndroidShapePoints.latLngs(List<LatLng> points)
+    : packed = _packedLatLngs(points),
+      encoded = null;
+
+  /// Creates shape points from [encoded], a string in the encoded polyline
+  /// algorithm format.
+  const AndroidShapePoints.encoded(String this.encoded) : packed = null;
+
+  /// The latitude and longitude of each point, if created from a list.
+  final Float64List? packed;
+
+  /// The encoded points, if created from an encoded polyline.
+  final String? encoded;
+
+  static Float64List _packedLatLngs(List<LatLng> points) {
+    final Float64List packed = Float64List(points.length * 2);
+    for (int i = 0; i < points.length; i++) {
+      packed[i * 2] = points[i].latitude;
+      packed[i * 2 + 1] = points[i].longitude;
+    }
+    return packed;
+  }
+}
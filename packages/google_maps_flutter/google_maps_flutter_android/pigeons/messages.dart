@@ -308,6 +308,9 @@ class PlatformTileOverlay {
     required this.zIndex,
     required this.visible,
     required this.tileSize,
+    required this.diskCacheTtlMillis,
+    required this.urlTemplate,
+    required this.urlTemplateHeaders,
   });
 
   final String tileOverlayId;
@@ -316,6 +319,16 @@ class PlatformTileOverlay {
   final int zIndex;
   final bool visible;
   final int tileSize;
+
+  /// How long tiles are stored on disk, 0 to not store them, or null for the
+  /// default.
+  final int? diskCacheTtlMillis;
+
+  /// The URL tiles are fetched from natively instead of from Dart, if any.
+  final String? urlTemplate;
+
+  /// The HTTP headers sent with each request to [urlTemplate], if any.
+  final Map<String, String>? urlTemplateHeaders;
 }
 
 /// Pigeon equivalent of Flutter's EdgeInsets.
@@ -418,6 +431,7 @@ class PlatformMapViewCreationParams {
     required this.initialTileOverlays,
     required this.initialClusterManagers,
     required this.initialGroundOverlays,
+    required this.mapOptions,
   });
 
   final PlatformCameraPosition initialCameraPosition;
@@ -430,6 +444,7 @@ class PlatformMapViewCreationParams {
   final List<PlatformTileOverlay> initialTileOverlays;
   final List<PlatformClusterManager> initialClusterManagers;
   final List<PlatformGroundOverlay> initialGroundOverlays;
+  final PlatformMapOptions mapOptions;
 }
 
 /// Pigeon equivalent of MapConfiguration.
@@ -602,6 +617,172 @@ class PlatformBitmapBytesMap {
   final double? height;
 }
 
+/// Options of the throttled camera move events of a map.
+class PlatformCameraMoveOptions {
+  PlatformCameraMoveOptions({
+    required this.maxEventsPerSecond,
+    required this.minTargetDeltaPixels,
+    required this.minZoomDelta,
+    required this.minBearingDelta,
+    required this.minTiltDelta,
+    required this.includeVisibleRegion,
+    required this.includeCorners,
+  });
+
+  /// The maximum rate of events, unbounded if 0.
+  final double maxEventsPerSecond;
+
+  /// The minimum on-screen distance the camera target moves, in logical pixels.
+  final double minTargetDeltaPixels;
+
+  /// The minimum change of the zoom level.
+  final double minZoomDelta;
+
+  /// The minimum change of the bearing, in degrees.
+  final double minBearingDelta;
+
+  /// The minimum change of the tilt, in degrees.
+  final double minTiltDelta;
+
+  /// Whether events include the visible bounds.
+  final bool includeVisibleRegion;
+
+  /// Whether events include the corners of the visible region.
+  final bool includeCorners;
+}
+
+/// Pigeon equivalent of the corners of a VisibleRegion.
+class PlatformVisibleRegionCorners {
+  PlatformVisibleRegionCorners({
+    required this.nearLeft,
+    required this.nearRight,
+    required this.farLeft,
+    required this.farRight,
+  });
+
+  final PlatformLatLng nearLeft;
+  final PlatformLatLng nearRight;
+  final PlatformLatLng farLeft;
+  final PlatformLatLng farRight;
+}
+
+/// A throttled camera move of a map.
+class PlatformCameraMoveEvent {
+  PlatformCameraMoveEvent({
+    required this.position,
+    required this.isIdle,
+    this.visibleRegion,
+    this.corners,
+  });
+
+  final PlatformCameraPosition position;
+
+  /// Whether the camera stopped moving.
+  final bool isIdle;
+  final PlatformLatLngBounds? visibleRegion;
+  final PlatformVisibleRegionCorners? corners;
+}
+
+/// The timing of a change to the points of a heatmap.
+class PlatformHeatmapPointsTiming {
+  PlatformHeatmapPointsTiming({
+    required this.pointCount,
+    required this.parseMicros,
+    required this.rebuildMicros,
+    required this.invalidateMicros,
+    required this.invalidatedTileCount,
+  });
+
+  /// The number of added, removed or new points.
+  final int pointCount;
+  final int parseMicros;
+  final int rebuildMicros;
+  final int invalidateMicros;
+
+  /// The number of cached tiles to render again, or -1 if all tiles are.
+  final int invalidatedTileCount;
+}
+
+/// The points of a polyline, polygon or hole, either packed or encoded.
+class PlatformShapePoints {
+  PlatformShapePoints({this.packed, this.encoded});
+
+  /// The latitude and longitude of each point.
+  final Float64List? packed;
+
+  /// The points in the encoded polyline algorithm format.
+  final String? encoded;
+}
+
+/// Android specific options of a map, set when it is created.
+class PlatformMapOptions {
+  PlatformMapOptions({
+    required this.asyncMarkerIconDecodingEnabled,
+    required this.tileMemoryCacheMaxBytes,
+    required this.maxConcurrentTileRequests,
+    required this.markerVirtualizationEnabled,
+  });
+
+  /// Whether marker icons are decoded on background threads.
+  final bool asyncMarkerIconDecodingEnabled;
+
+  /// The maximum total size of the tiles cached in memory, or 0 to not cache
+  /// them.
+  final int tileMemoryCacheMaxBytes;
+
+  /// The maximum number of tile requests to Dart in flight, or 0 to not bound
+  /// them.
+  final int maxConcurrentTileRequests;
+
+  /// Whether markers not in a cluster are only added to the map near the
+  /// visible region.
+  final bool markerVirtualizationEnabled;
+}
+
+/// The timing of a batch of marker updates.
+class PlatformMarkerBatchTiming {
+  PlatformMarkerBatchTiming({
+    required this.markerCount,
+    required this.mainThreadMicros,
+    required this.deferredIconCount,
+    required this.iconsSetMicros,
+  });
+
+  /// The number of added or changed markers.
+  final int markerCount;
+  final int mainThreadMicros;
+
+  /// The number of icons decoded on background threads.
+  final int deferredIconCount;
+
+  /// The time after which the decoded icons were set, or -1 if they are not
+  /// yet.
+  final int iconsSetMicros;
+}
+
+/// The statistics of the memory cache of the tiles of a map.
+class PlatformTileCacheStats {
+  PlatformTileCacheStats({
+    required this.hitCount,
+    required this.missCount,
+    required this.diskHitCount,
+    required this.coalescedCount,
+    required this.evictionCount,
+    required this.sizeBytes,
+  });
+
+  final int hitCount;
+  final int missCount;
+
+  /// The number of tiles missing in memory that were read from disk.
+  final int diskHitCount;
+
+  /// The number of tile requests that waited for a request of the same tile.
+  final int coalescedCount;
+  final int evictionCount;
+  final int sizeBytes;
+}
+
 /// Interface for non-test interactions with the native SDK.
 ///
 /// For test-only state queries, see [MapsInspectorApi].
@@ -725,6 +906,59 @@ abstract class MapsApi {
   /// Takes a snapshot of the map and returns its image data.
   @async
   Uint8List takeSnapshot();
+
+  /// Starts sending throttled camera moves to
+  /// [MapsCallbackApi.onCameraMoveEvent] with the given options, or stops
+  /// sending them if [options] is null.
+  void setCameraMoveEventOptions(PlatformCameraMoveOptions? options);
+
+  /// Replaces the points of the heatmap with the given ID with [points], the
+  /// latitude, longitude and weight of each point.
+  PlatformHeatmapPointsTiming setHeatmapPoints(
+    String heatmapId,
+    Float64List points,
+  );
+
+  /// Adds [points], packed as for [setHeatmapPoints], after the points of the
+  /// heatmap with the given ID.
+  PlatformHeatmapPointsTiming addHeatmapPoints(
+    String heatmapId,
+    Float64List points,
+  );
+
+  /// Removes [count] points of the heatmap with the given ID, from the point
+  /// at index [start] on.
+  PlatformHeatmapPointsTiming removeHeatmapPoints(
+    String heatmapId,
+    int start,
+    int count,
+  );
+
+  /// Replaces the points of the polyline with the given ID, simplified for the
+  /// zoom level of the camera with [simplificationTolerance] in logical pixels
+  /// if it is greater than 0.
+  void setPolylinePoints(
+    String polylineId,
+    PlatformShapePoints points,
+    double simplificationTolerance,
+  );
+
+  /// Replaces the points and holes of the polygon with the given ID, simplified
+  /// as for [setPolylinePoints].
+  void setPolygonPoints(
+    String polygonId,
+    PlatformShapePoints points,
+    List<PlatformShapePoints> holes,
+    double simplificationTolerance,
+  );
+
+  /// Returns the timing of the last batch of marker updates, or null if there
+  /// was none or marker icons are decoded on the main thread.
+  PlatformMarkerBatchTiming? getLastMarkerBatchTiming();
+
+  /// Returns the statistics of the memory cache of tiles, or null if tiles
+  /// are not cached in memory.
+  PlatformTileCacheStats? getTileCacheStats();
 }
 
 @FlutterApi()
@@ -781,6 +1015,10 @@ abstract class MapsCallbackApi {
     PlatformPoint location,
     int zoom,
   );
+
+  /// Called with the throttled camera moves requested with
+  /// [MapsApi.setCameraMoveEventOptions].
+  void onCameraMoveEvent(PlatformCameraMoveEvent event);
 }
 
 /// Interface for global SDK initialization.
@@ -323,6 +323,221 @@ void main() {
     verify(api.clearTileCache(tileOverlayId));
   });
 
+  test('setHeatmapPoints packs points and converts timing', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+    when(api.setHeatmapPoints(any, any)).thenAnswer(
+      (_) async => PlatformHeatmapPointsTiming(
+        pointCount: 2,
+        parseMicros: 10,
+        rebuildMicros: 20,
+        invalidateMicros: 30,
+        invalidatedTileCount: -1,
+      ),
+    );
+
+    const String heatmapId = 'heatmap';
+    final AndroidHeatmapPointsTiming timing = await maps.setHeatmapPoints(
+      const HeatmapId(heatmapId),
+      const <WeightedLatLng>[
+        WeightedLatLng(LatLng(1, 2)),
+        WeightedLatLng(LatLng(3, 4), weight: 5),
+      ],
+      mapId: mapId,
+    );
+
+    final VerificationResult verification = verify(
+      api.setHeatmapPoints(heatmapId, captureAny),
+    );
+    expect(verification.captured[0], <double>[1, 2, 1, 3, 4, 5]);
+    expect(timing.pointCount, 2);
+    expect(timing.rebuildDuration, const Duration(microseconds: 20));
+    expect(timing.invalidatedTileCount, isNull);
+  });
+
+  test('getLastMarkerBatchTiming converts timing', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+    when(api.getLastMarkerBatchTiming()).thenAnswer(
+      (_) async => PlatformMarkerBatchTiming(
+        markerCount: 3,
+        mainThreadMicros: 10,
+        deferredIconCount: 2,
+        iconsSetMicros: -1,
+      ),
+    );
+
+    final AndroidMarkerBatchTiming? timing = await maps
+        .getLastMarkerBatchTiming(mapId: mapId);
+
+    expect(timing!.markerCount, 3);
+    expect(timing.mainThreadDuration, const Duration(microseconds: 10));
+    expect(timing.deferredIconCount, 2);
+    expect(timing.iconsSetDuration, isNull);
+  });
+
+  test('getLastMarkerBatchTiming returns null without timing', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+    when(api.getLastMarkerBatchTiming()).thenAnswer((_) async => null);
+
+    expect(await maps.getLastMarkerBatchTiming(mapId: mapId), isNull);
+  });
+
+  test('removeHeatmapPoints calls through', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+    when(api.removeHeatmapPoints(any, any, any)).thenAnswer(
+      (_) async => PlatformHeatmapPointsTiming(
+        pointCount: 3,
+        parseMicros: 0,
+        rebuildMicros: 20,
+        invalidateMicros: 30,
+        invalidatedTileCount: 4,
+      ),
+    );
+
+    const String heatmapId = 'heatmap';
+    final AndroidHeatmapPointsTiming timing = await maps.removeHeatmapPoints(
+      const HeatmapId(heatmapId),
+      start: 1,
+      count: 3,
+      mapId: mapId,
+    );
+
+    verify(api.removeHeatmapPoints(heatmapId, 1, 3));
+    expect(timing.pointCount, 3);
+    expect(timing.invalidatedTileCount, 4);
+  });
+
+  test('setPolylinePoints packs points', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+
+    const String polylineId = 'polyline';
+    await maps.setPolylinePoints(
+      const PolylineId(polylineId),
+      AndroidShapePoints.latLngs(const <LatLng>[LatLng(1, 2), LatLng(3, 4)]),
+      simplificationTolerance: 2,
+      mapId: mapId,
+    );
+
+    final VerificationResult verification = verify(
+      api.setPolylinePoints(polylineId, captureAny, 2),
+    );
+    final PlatformShapePoints points =
+        verification.captured[0] as PlatformShapePoints;
+    expect(points.packed, <double>[1, 2, 3, 4]);
+    expect(points.encoded, isNull);
+  });
+
+  test('setPolygonPoints sends encoded points and holes', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+
+    const String polygonId = 'polygon';
+    await maps.setPolygonPoints(
+      const PolygonId(polygonId),
+      const AndroidShapePoints.encoded('_p~iF~ps|U_ulLnnqC_mqNvxq`@'),
+      holes: <AndroidShapePoints>[
+        AndroidShapePoints.latLngs(const <LatLng>[LatLng(1, 2)]),
+      ],
+      mapId: mapId,
+    );
+
+    final VerificationResult verification = verify(
+      api.setPolygonPoints(polygonId, captureAny, captureAny, 0),
+    );
+    final PlatformShapePoints points =
+        verification.captured[0] as PlatformShapePoints;
+    final List<PlatformShapePoints> holes =
+        verification.captured[1] as List<PlatformShapePoints>;
+    expect(points.encoded, '_p~iF~ps|U_ulLnnqC_mqNvxq`@');
+    expect(points.packed, isNull);
+    expect(holes.single.packed, <double>[1, 2]);
+  });
+
+  test('onCameraMoveThrottled sets options while listened to', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+
+    final StreamSubscription<AndroidCameraMoveEvent> subscription = maps
+        .onCameraMoveThrottled(
+          mapId: mapId,
+          options: const AndroidCameraMoveOptions(
+            maxEventsPerSecond: 10,
+            minZoomDelta: 0.5,
+            includeCorners: true,
+          ),
+        )
+        .listen((_) {});
+
+    final VerificationResult verification = verify(
+      api.setCameraMoveEventOptions(captureAny),
+    );
+    final PlatformCameraMoveOptions? options =
+        verification.captured[0] as PlatformCameraMoveOptions?;
+    expect(options?.maxEventsPerSecond, 10);
+    expect(options?.minTargetDeltaPixels, 0);
+    expect(options?.minZoomDelta, 0.5);
+    expect(options?.includeVisibleRegion, false);
+    expect(options?.includeCorners, true);
+
+    await subscription.cancel();
+    verify(api.setCameraMoveEventOptions(null));
+  });
+
+  test('camera move events are sent to throttled stream', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, _) = setUpMockMap(mapId: mapId);
+    final HostMapMessageHandler callbackHandler = maps.ensureHandlerInitialized(
+      mapId,
+    );
+
+    final StreamQueue<AndroidCameraMoveEvent> stream =
+        StreamQueue<AndroidCameraMoveEvent>(
+          maps.onCameraMoveThrottled(mapId: mapId),
+        );
+
+    // Simulate message from the native side.
+    callbackHandler.onCameraMoveEvent(
+      PlatformCameraMoveEvent(
+        position: PlatformCameraPosition(
+          bearing: 10,
+          target: PlatformLatLng(latitude: 1, longitude: 2),
+          tilt: 20,
+          zoom: 5,
+        ),
+        isIdle: true,
+        visibleRegion: PlatformLatLngBounds(
+          northeast: PlatformLatLng(latitude: 3, longitude: 4),
+          southwest: PlatformLatLng(latitude: -3, longitude: -4),
+        ),
+      ),
+    );
+
+    final AndroidCameraMoveEvent event = await stream.next;
+    expect(event.value.target, const LatLng(1, 2));
+    expect(event.value.zoom, 5);
+    expect(event.isIdle, true);
+    expect(event.visibleRegion?.northeast, const LatLng(3, 4));
+    expect(event.corners, isNull);
+  });
+
   test('updateMapConfiguration passes expected arguments', () async {
     const int mapId = 1;
     final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
@@ -815,6 +1030,106 @@ void main() {
     expectTileOverlay(toAdd.first, object3);
   });
 
+  test('updateTileOverlays passes Android tile overlay options', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+
+    const AndroidTileOverlay object1 = AndroidTileOverlay(
+      tileOverlayId: TileOverlayId('1'),
+      diskCacheTtl: Duration(hours: 1),
+      urlTemplate: 'https://tiles.example/{z}/{x}/{y}.png',
+      urlTemplateHeaders: <String, String>{'X-Api-Key': 'key'},
+    );
+    const TileOverlay object2 = TileOverlay(tileOverlayId: TileOverlayId('2'));
+    await maps.updateTileOverlays(
+      newTileOverlays: <TileOverlay>{object1, object2},
+      mapId: mapId,
+    );
+
+    final VerificationResult verification = verify(
+      api.updateTileOverlays(captureAny, captureAny, captureAny),
+    );
+    final List<PlatformTileOverlay> toAdd =
+        verification.captured[0] as List<PlatformTileOverlay>;
+    expect(toAdd.length, 2);
+    expect(toAdd[0].diskCacheTtlMillis, 3600000);
+    expect(toAdd[0].urlTemplate, object1.urlTemplate);
+    expect(toAdd[0].urlTemplateHeaders, object1.urlTemplateHeaders);
+    expect(toAdd[1].diskCacheTtlMillis, isNull);
+    expect(toAdd[1].urlTemplate, isNull);
+    expect(toAdd[1].urlTemplateHeaders, isNull);
+  });
+
+  test('AndroidTileOverlay compares Android options', () {
+    const AndroidTileOverlay overlay = AndroidTileOverlay(
+      tileOverlayId: TileOverlayId('1'),
+      diskCacheTtl: Duration(hours: 1),
+    );
+
+    expect(overlay.copyWith(zIndexParam: 1).diskCacheTtl, overlay.diskCacheTtl);
+    expect(overlay.clone(), overlay);
+    expect(overlay.copyWith(diskCacheTtlParam: Duration.zero), isNot(overlay));
+    expect(
+      overlay.copyWith(
+        urlTemplateHeadersParam: <String, String>{'X-Api-Key': 'key'},
+      ),
+      isNot(overlay),
+    );
+    expect(
+      overlay.copyWith(
+        urlTemplateHeadersParam: <String, String>{'X-Api-Key': 'key'},
+      ),
+      overlay.copyWith(
+        urlTemplateHeadersParam: <String, String>{'X-Api-Key': 'key'},
+      ),
+    );
+    expect(
+      overlay,
+      isNot(const TileOverlay(tileOverlayId: TileOverlayId('1'))),
+    );
+  });
+
+  test('getTileCacheStats converts stats', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+    when(api.getTileCacheStats()).thenAnswer(
+      (_) async => PlatformTileCacheStats(
+        hitCount: 3,
+        missCount: 1,
+        diskHitCount: 1,
+        coalescedCount: 2,
+        evictionCount: 0,
+        sizeBytes: 1024,
+      ),
+    );
+
+    final AndroidTileCacheStats? stats = await maps.getTileCacheStats(
+      mapId: mapId,
+    );
+
+    expect(stats!.hitCount, 3);
+    expect(stats.missCount, 1);
+    expect(stats.diskHitCount, 1);
+    expect(stats.coalescedCount, 2);
+    expect(stats.evictionCount, 0);
+    expect(stats.sizeBytes, 1024);
+    expect(stats.hitRate, 0.75);
+  });
+
+  test('getTileCacheStats returns null without tile cache', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
+      mapId: mapId,
+    );
+    when(api.getTileCacheStats()).thenAnswer((_) async => null);
+
+    expect(await maps.getTileCacheStats(mapId: mapId), isNull);
+  });
+
   test('updateGroundOverlays passes expected arguments', () async {
     const int mapId = 1;
     final (GoogleMapsFlutterAndroid maps, MockMapsApi api) = setUpMockMap(
@@ -1497,6 +1812,59 @@ void main() {
     expect(widget, isA<AndroidView>());
   });
 
+  testWidgets('mapOptions are passed', (WidgetTester tester) async {
+    final Completer<PlatformMapOptions> passedMapOptionsCompleter =
+        Completer<PlatformMapOptions>();
+
+    TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
+        .setMockMethodCallHandler(SystemChannels.platform_views, (
+          MethodCall methodCall,
+        ) async {
+          if (methodCall.method == 'create') {
+            final Map<String, dynamic> args = Map<String, dynamic>.from(
+              methodCall.arguments as Map<dynamic, dynamic>,
+            );
+            if (args.containsKey('params')) {
+              final Uint8List paramsUint8List = args['params'] as Uint8List;
+              final ByteData byteData = ByteData.sublistView(paramsUint8List);
+              final PlatformMapViewCreationParams? creationParams =
+                  MapsApi.pigeonChannelCodec.decodeMessage(byteData)
+                      as PlatformMapViewCreationParams?;
+              if (creationParams != null) {
+                passedMapOptionsCompleter.complete(creationParams.mapOptions);
+              }
+            }
+          }
+          return 0;
+        });
+
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    maps.mapOptions = const AndroidMapOptions(
+      asyncMarkerIconDecodingEnabled: true,
+      tileMemoryCacheMaxBytes: 1 << 20,
+      maxConcurrentTileRequests: 4,
+      markerVirtualizationEnabled: true,
+    );
+
+    await tester.pumpWidget(
+      maps.buildViewWithConfiguration(
+        1,
+        (int id) {},
+        widgetConfiguration: const MapWidgetConfiguration(
+          initialCameraPosition: CameraPosition(target: LatLng(0, 0), zoom: 1),
+          textDirection: TextDirection.ltr,
+        ),
+      ),
+    );
+
+    final PlatformMapOptions passedMapOptions =
+        await passedMapOptionsCompleter.future;
+    expect(passedMapOptions.asyncMarkerIconDecodingEnabled, true);
+    expect(passedMapOptions.tileMemoryCacheMaxBytes, 1 << 20);
+    expect(passedMapOptions.maxConcurrentTileRequests, 4);
+    expect(passedMapOptions.markerVirtualizationEnabled, true);
+  });
+
   testWidgets('cloudMapId is passed', (WidgetTester tester) async {
     const String cloudMapId = '000000000000000'; // Dummy map ID.
     final Completer<String> passedCloudMapIdCompleter = Completer<String>();
@@ -41,6 +41,12 @@ class _FakePlatformLatLngBounds_2 extends _i1.SmartFake
     : super(parent, parentInvocation);
 }
 
+class _FakePlatformHeatmapPointsTiming_3 extends _i1.SmartFake
+    implements _i2.PlatformHeatmapPointsTiming {
+  _FakePlatformHeatmapPointsTiming_3(Object parent, Invocation parentInvocation)
+    : super(parent, parentInvocation);
+}
+
 /// A class which mocks [MapsApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -350,6 +356,151 @@ class MockMapsApi extends _i1.Mock implements _i2.MapsApi {
             ),
           )
           as _i4.Future<_i5.Uint8List>);
+
+  @override
+  _i4.Future<void> setCameraMoveEventOptions(
+    _i2.PlatformCameraMoveOptions? options,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#setCameraMoveEventOptions, [options]),
+            returnValue: _i4.Future<void>.value(),
+            returnValueForMissingStub: _i4.Future<void>.value(),
+          )
+          as _i4.Future<void>);
+
+  @override
+  _i4.Future<_i2.PlatformHeatmapPointsTiming> setHeatmapPoints(
+    String? heatmapId,
+    _i5.Float64List? points,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#setHeatmapPoints, [heatmapId, points]),
+            returnValue: _i4.Future<_i2.PlatformHeatmapPointsTiming>.value(
+              _FakePlatformHeatmapPointsTiming_3(
+                this,
+                Invocation.method(#setHeatmapPoints, [heatmapId, points]),
+              ),
+            ),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformHeatmapPointsTiming>.value(
+                  _FakePlatformHeatmapPointsTiming_3(
+                    this,
+                    Invocation.method(#setHeatmapPoints, [heatmapId, points]),
+                  ),
+                ),
+          )
+          as _i4.Future<_i2.PlatformHeatmapPointsTiming>);
+
+  @override
+  _i4.Future<_i2.PlatformHeatmapPointsTiming> addHeatmapPoints(
+    String? heatmapId,
+    _i5.Float64List? points,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#addHeatmapPoints, [heatmapId, points]),
+            returnValue: _i4.Future<_i2.PlatformHeatmapPointsTiming>.value(
+              _FakePlatformHeatmapPointsTiming_3(
+                this,
+                Invocation.method(#addHeatmapPoints, [heatmapId, points]),
+              ),
+            ),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformHeatmapPointsTiming>.value(
+                  _FakePlatformHeatmapPointsTiming_3(
+                    this,
+                    Invocation.method(#addHeatmapPoints, [heatmapId, points]),
+                  ),
+                ),
+          )
+          as _i4.Future<_i2.PlatformHeatmapPointsTiming>);
+
+  @override
+  _i4.Future<_i2.PlatformHeatmapPointsTiming> removeHeatmapPoints(
+    String? heatmapId,
+    int? start,
+    int? count,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#removeHeatmapPoints, [heatmapId, start, count]),
+            returnValue: _i4.Future<_i2.PlatformHeatmapPointsTiming>.value(
+              _FakePlatformHeatmapPointsTiming_3(
+                this,
+                Invocation.method(#removeHeatmapPoints, [
+                  heatmapId,
+                  start,
+                  count,
+                ]),
+              ),
+            ),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformHeatmapPointsTiming>.value(
+                  _FakePlatformHeatmapPointsTiming_3(
+                    this,
+                    Invocation.method(#removeHeatmapPoints, [
+                      heatmapId,
+                      start,
+                      count,
+                    ]),
+                  ),
+                ),
+          )
+          as _i4.Future<_i2.PlatformHeatmapPointsTiming>);
+
+  @override
+  _i4.Future<void> setPolylinePoints(
+    String? polylineId,
+    _i2.PlatformShapePoints? points,
+    double? simplificationTolerance,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#setPolylinePoints, [
+              polylineId,
+              points,
+              simplificationTolerance,
+            ]),
+            returnValue: _i4.Future<void>.value(),
+            returnValueForMissingStub: _i4.Future<void>.value(),
+          )
+          as _i4.Future<void>);
+
+  @override
+  _i4.Future<void> setPolygonPoints(
+    String? polygonId,
+    _i2.PlatformShapePoints? points,
+    List<_i2.PlatformShapePoints>? holes,
+    double? simplificationTolerance,
+  ) =>
+      (super.noSuchMethod(
+            Invocation.method(#setPolygonPoints, [
+              polygonId,
+              points,
+              holes,
+              simplificationTolerance,
+            ]),
+            returnValue: _i4.Future<void>.value(),
+            returnValueForMissingStub: _i4.Future<void>.value(),
+          )
+          as _i4.Future<void>);
+
+  @override
+  _i4.Future<_i2.PlatformMarkerBatchTiming?> getLastMarkerBatchTiming() =>
+      (super.noSuchMethod(
+            Invocation.method(#getLastMarkerBatchTiming, []),
+            returnValue: _i4.Future<_i2.PlatformMarkerBatchTiming?>.value(),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformMarkerBatchTiming?>.value(),
+          )
+          as _i4.Future<_i2.PlatformMarkerBatchTiming?>);
+
+  @override
+  _i4.Future<_i2.PlatformTileCacheStats?> getTileCacheStats() =>
+      (super.noSuchMethod(
+            Invocation.method(#getTileCacheStats, []),
+            returnValue: _i4.Future<_i2.PlatformTileCacheStats?>.value(),
+            returnValueForMissingStub:
+                _i4.Future<_i2.PlatformTileCacheStats?>.value(),
+          )
+          as _i4.Future<_i2.PlatformTileCacheStats?>);
 }
 
 /// A class which mocks [MapsInitializerApi].